@@ -19,19 +19,31 @@ package io.microsphere.spring.boot.actuate.autoconfigure;
 import io.microsphere.spring.boot.actuate.condition.ConditionalOnActuatorEndpointPresent;
 import io.microsphere.spring.boot.actuate.condition.ConditionalOnConfigurationProcessorPresent;
 import io.microsphere.spring.boot.actuate.endpoint.ArtifactsEndpoint;
+import io.microsphere.spring.boot.actuate.endpoint.AutoConfigurationProfilesEndpoint;
 import io.microsphere.spring.boot.actuate.endpoint.ConfigurationMetadataEndpoint;
 import io.microsphere.spring.boot.actuate.endpoint.ConfigurationPropertiesEndpoint;
 import io.microsphere.spring.boot.actuate.endpoint.WebEndpoints;
 import io.microsphere.spring.boot.context.properties.metadata.ConfigurationMetadataReader;
+import io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler;
 import io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository;
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.web.WebEndpointsSupplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+import static io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler.DEFAULT_TOP;
+import static io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler.TOP_PROPERTY_NAME;
+import static io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository.AWAIT_TIMEOUT_PROPERTY_NAME;
+import static io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository.DEFAULT_AWAIT_TIMEOUT;
 
 /**
  * Actuator {@link Endpoint @Endpoint} Auto-Configuration class
@@ -41,7 +53,9 @@ import org.springframework.context.annotation.Import;
  * @since 1.0.0
  */
 @ConditionalOnActuatorEndpointPresent
-@Import(value = {ActuatorEndpointsAutoConfiguration.ConfigurationProcessorConfiguration.class})
+@Import(value = {
+        ActuatorEndpointsAutoConfiguration.ConfigurationProcessorConfiguration.class
+})
 public class ActuatorEndpointsAutoConfiguration implements BeanClassLoaderAware {
 
     private ClassLoader classLoader;
@@ -82,6 +96,26 @@ public class ActuatorEndpointsAutoConfiguration implements BeanClassLoaderAware
         return new WebEndpoints(webEndpointsSupplier);
     }
 
+    /**
+     * Creates an {@link AutoConfigurationProfilesEndpoint} bean if the {@link AutoConfigurationProfiler} is enabled.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   // Auto-configured as a Spring bean; access via actuator endpoint "/actuator/autoConfigProfiles?top=10".
+     * }</pre>
+     *
+     * @param profiler    {@link AutoConfigurationProfiler}
+     * @param environment {@link Environment}
+     * @return a new {@link AutoConfigurationProfilesEndpoint} instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(AutoConfigurationProfiler.class)
+    @ConditionalOnAvailableEndpoint
+    public AutoConfigurationProfilesEndpoint autoConfigurationProfilesEndpoint(AutoConfigurationProfiler profiler, Environment environment) {
+        return new AutoConfigurationProfilesEndpoint(profiler, environment.getProperty(TOP_PROPERTY_NAME, Integer.class, DEFAULT_TOP));
+    }
+
     /**
      * Configuration class that registers configuration-processor-related beans when the
      * Spring Boot Configuration Processor is present on the classpath.
@@ -139,13 +173,15 @@ public class ActuatorEndpointsAutoConfiguration implements BeanClassLoaderAware
          * }</pre>
          *
          * @param configurationMetadataRepository the {@link ConfigurationMetadataRepository} to use
+         * @param environment                     the {@link Environment} to resolve the await timeout
          * @return a new {@link ConfigurationMetadataEndpoint} instance
          */
         @Bean
         @ConditionalOnMissingBean
         @ConditionalOnAvailableEndpoint
-        public ConfigurationMetadataEndpoint configurationMetadataEndpoint(ConfigurationMetadataRepository configurationMetadataRepository) {
-            return new ConfigurationMetadataEndpoint(configurationMetadataRepository);
+        public ConfigurationMetadataEndpoint configurationMetadataEndpoint(ConfigurationMetadataRepository configurationMetadataRepository,
+                                                                           Environment environment) {
+            return new ConfigurationMetadataEndpoint(configurationMetadataRepository, resolveAwaitTimeout(environment));
         }
 
         /**
@@ -158,13 +194,19 @@ public class ActuatorEndpointsAutoConfiguration implements BeanClassLoaderAware
          * }</pre>
          *
          * @param configurationMetadataRepository the {@link ConfigurationMetadataRepository} to use
+         * @param environment                     the {@link Environment} to resolve the await timeout
          * @return a new {@link ConfigurationPropertiesEndpoint} instance
          */
         @Bean
         @ConditionalOnMissingBean
         @ConditionalOnAvailableEndpoint
-        public ConfigurationPropertiesEndpoint configurationPropertiesEndpoint(ConfigurationMetadataRepository configurationMetadataRepository) {
-            return new ConfigurationPropertiesEndpoint(configurationMetadataRepository);
+        public ConfigurationPropertiesEndpoint configurationPropertiesEndpoint(ConfigurationMetadataRepository configurationMetadataRepository,
+                                                                               Environment environment) {
+            return new ConfigurationPropertiesEndpoint(configurationMetadataRepository, resolveAwaitTimeout(environment));
+        }
+
+        static Duration resolveAwaitTimeout(Environment environment) {
+            return Binder.get(environment).bind(AWAIT_TIMEOUT_PROPERTY_NAME, Duration.class).orElse(DEFAULT_AWAIT_TIMEOUT);
         }
     }
 
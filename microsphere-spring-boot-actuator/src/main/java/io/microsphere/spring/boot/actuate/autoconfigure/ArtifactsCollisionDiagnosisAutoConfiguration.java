@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.autoconfigure;
+
+import io.microsphere.spring.boot.actuate.health.ArtifactsCollisionHealthIndicator;
+import io.microsphere.spring.boot.actuate.metrics.ArtifactsCollisionMetrics;
+import io.microsphere.spring.boot.diagnostics.ArtifactsCollisionDiagnosis;
+import io.microsphere.spring.boot.diagnostics.ArtifactsCollisionDiagnosisListener;
+import io.microsphere.spring.boot.diagnostics.ClassCollisionDiagnosisListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * The Auto-Configuration class exposes the {@link ArtifactsCollisionDiagnosis} as a health indicator and the metrics,
+ * which is registered by {@link ArtifactsCollisionDiagnosisListener} or {@link ClassCollisionDiagnosisListener} once
+ * any collision diagnosis is enabled.
+ * <p>
+ * The health indicator is configured by {@link ArtifactsCollisionHealthConfiguration}, which is built against the
+ * health API of Spring Boot 3.x or 4.x, because the API moved to the other packages in Spring Boot 4.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ArtifactsCollisionDiagnosis
+ * @see ArtifactsCollisionHealthIndicator
+ * @see ArtifactsCollisionMetrics
+ * @since 1.0.0
+ */
+@ConditionalOnBean(ArtifactsCollisionDiagnosis.class)
+@Import(value = {
+        ArtifactsCollisionHealthConfiguration.class,
+        ArtifactsCollisionDiagnosisAutoConfiguration.MetricsConfiguration.class
+})
+public class ArtifactsCollisionDiagnosisAutoConfiguration {
+
+    /**
+     * The class name of {@link io.micrometer.core.instrument.binder.MeterBinder}
+     */
+    static final String METER_BINDER_CLASS_NAME = "io.micrometer.core.instrument.binder.MeterBinder";
+
+    /**
+     * Configuration class that registers the metrics of the collision diagnoses.
+     */
+    @ConditionalOnClass(name = METER_BINDER_CLASS_NAME)
+    static class MetricsConfiguration {
+
+        /**
+         * Creates an {@link ArtifactsCollisionMetrics} bean, which is bound to the meter registries by Spring Boot.
+         *
+         * <h3>Example Usage</h3>
+         * <pre>{@code
+         *   // Auto-configured; access via actuator endpoint "/actuator/metrics/microsphere.artifacts.collisions".
+         * }</pre>
+         *
+         * @param diagnosis the {@link ArtifactsCollisionDiagnosis}
+         * @return a new {@link ArtifactsCollisionMetrics} instance
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public ArtifactsCollisionMetrics artifactsCollisionMetrics(ArtifactsCollisionDiagnosis diagnosis) {
+            return new ArtifactsCollisionMetrics(diagnosis);
+        }
+    }
+}
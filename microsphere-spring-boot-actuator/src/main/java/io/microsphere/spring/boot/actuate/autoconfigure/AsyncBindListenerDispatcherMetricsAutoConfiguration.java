@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.autoconfigure;
+
+import io.microsphere.spring.boot.actuate.metrics.AsyncBindListenerDispatcherMetrics;
+import io.microsphere.spring.boot.context.autoconfigure.ConfigurationPropertiesAutoConfiguration;
+import io.microsphere.spring.boot.context.properties.ListenableConfigurationPropertiesBindHandlerAdvisor;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+import static io.microsphere.spring.boot.actuate.autoconfigure.ArtifactsCollisionDiagnosisAutoConfiguration.METER_BINDER_CLASS_NAME;
+
+/**
+ * The Auto-Configuration class exposes the metrics of the
+ * {@link io.microsphere.spring.boot.context.properties.bind.AsyncBindListenerDispatcher} once the
+ * {@link ListenableConfigurationPropertiesBindHandlerAdvisor} is registered, e.g, by
+ * {@link ConfigurationPropertiesAutoConfiguration}.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AsyncBindListenerDispatcherMetrics
+ * @see ListenableConfigurationPropertiesBindHandlerAdvisor
+ * @since 1.0.0
+ */
+@ConditionalOnClass(name = METER_BINDER_CLASS_NAME)
+@AutoConfigureAfter(ConfigurationPropertiesAutoConfiguration.class)
+@ConditionalOnBean(ListenableConfigurationPropertiesBindHandlerAdvisor.class)
+public class AsyncBindListenerDispatcherMetricsAutoConfiguration {
+
+    /**
+     * Creates an {@link AsyncBindListenerDispatcherMetrics} bean, which is bound to the meter registries by Spring Boot.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   // Auto-configured; access via actuator endpoint "/actuator/metrics/microsphere.async-bind-listener.lag".
+     * }</pre>
+     *
+     * @param advisor the {@link ListenableConfigurationPropertiesBindHandlerAdvisor}
+     * @return a new {@link AsyncBindListenerDispatcherMetrics} instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public AsyncBindListenerDispatcherMetrics asyncBindListenerDispatcherMetrics(ListenableConfigurationPropertiesBindHandlerAdvisor advisor) {
+        return new AsyncBindListenerDispatcherMetrics(advisor);
+    }
+}
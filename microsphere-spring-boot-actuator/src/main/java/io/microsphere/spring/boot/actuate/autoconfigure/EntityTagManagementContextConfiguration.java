@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.autoconfigure;
+
+import io.microsphere.spring.boot.actuate.condition.ConditionalOnActuatorEndpointPresent;
+import io.microsphere.spring.boot.actuate.endpoint.EntityTagProvider;
+import io.microsphere.spring.boot.actuate.endpoint.web.EntityTagEndpointFilter;
+import io.microsphere.spring.boot.actuate.endpoint.web.EntityTagProviders;
+import io.microsphere.spring.boot.actuate.endpoint.web.ReactiveEntityTagEndpointFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.web.ManagementContextConfiguration;
+import org.springframework.boot.actuate.endpoint.web.PathMappedEndpoints;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+/**
+ * {@link ManagementContextConfiguration @ManagementContextConfiguration} that registers the web filters answering the
+ * conditional requests of the {@link EntityTagProvider entity-tagged} endpoints, which are registered in the management
+ * context, thus they apply to the endpoints even if they are served on the separate "management.server.port".
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see EntityTagEndpointFilter
+ * @see ReactiveEntityTagEndpointFilter
+ * @see ManagementContextConfiguration
+ * @since 1.0.0
+ */
+@ManagementContextConfiguration(proxyBeanMethods = false)
+@ConditionalOnActuatorEndpointPresent
+@Import(value = {
+        EntityTagManagementContextConfiguration.ServletEntityTagConfiguration.class,
+        EntityTagManagementContextConfiguration.ReactiveEntityTagConfiguration.class
+})
+public class EntityTagManagementContextConfiguration {
+
+    /**
+     * Configuration class that registers the Servlet filter answering the conditional requests of the
+     * {@link EntityTagProvider entity-tagged} endpoints.
+     */
+    @ConditionalOnWebApplication(type = SERVLET)
+    static class ServletEntityTagConfiguration {
+
+        /**
+         * Creates an {@link EntityTagEndpointFilter} bean.
+         *
+         * @param pathMappedEndpointsProvider the provider of {@link PathMappedEndpoints}
+         * @param entityTagProviders          the provider of {@link EntityTagProvider} beans
+         * @return a new {@link EntityTagEndpointFilter} instance
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public EntityTagEndpointFilter entityTagEndpointFilter(ObjectProvider<PathMappedEndpoints> pathMappedEndpointsProvider,
+                                                               ObjectProvider<EntityTagProvider> entityTagProviders) {
+            return new EntityTagEndpointFilter(new EntityTagProviders(pathMappedEndpointsProvider, entityTagProviders));
+        }
+    }
+
+    /**
+     * Configuration class that registers the reactive web filter answering the conditional requests of the
+     * {@link EntityTagProvider entity-tagged} endpoints.
+     */
+    @ConditionalOnWebApplication(type = REACTIVE)
+    static class ReactiveEntityTagConfiguration {
+
+        /**
+         * Creates a {@link ReactiveEntityTagEndpointFilter} bean.
+         *
+         * @param pathMappedEndpointsProvider the provider of {@link PathMappedEndpoints}
+         * @param entityTagProviders          the provider of {@link EntityTagProvider} beans
+         * @return a new {@link ReactiveEntityTagEndpointFilter} instance
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public ReactiveEntityTagEndpointFilter reactiveEntityTagEndpointFilter(ObjectProvider<PathMappedEndpoints> pathMappedEndpointsProvider,
+                                                                               ObjectProvider<EntityTagProvider> entityTagProviders) {
+            return new ReactiveEntityTagEndpointFilter(new EntityTagProviders(pathMappedEndpointsProvider, entityTagProviders));
+        }
+    }
+}
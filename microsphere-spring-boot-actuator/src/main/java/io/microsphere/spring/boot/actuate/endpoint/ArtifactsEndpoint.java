@@ -1,24 +1,26 @@
 package io.microsphere.spring.boot.actuate.endpoint;
 
 import io.microsphere.classloading.Artifact;
-import io.microsphere.classloading.ArtifactDetector;
+import io.microsphere.spring.boot.classloading.ArtifactRegistry;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 
 import java.util.List;
 
 /**
- * {@link Artifact Artifacts} {@link Endpoint @Endpoint}
+ * {@link Artifact Artifacts} {@link Endpoint @Endpoint}, which reads the {@link Artifact artifacts} from the shared
+ * {@link ArtifactRegistry}.
  *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
  * @see Artifact
+ * @see ArtifactRegistry
  * @see Endpoint
  * @since 1.0.0
  */
 @Endpoint(id = "artifacts")
 public class ArtifactsEndpoint {
 
-    private final ArtifactDetector artifactDetector;
+    private final ArtifactRegistry artifactRegistry;
 
     /**
      * Constructs a new {@link ArtifactsEndpoint} with the given {@link ClassLoader}.
@@ -31,7 +33,7 @@ public class ArtifactsEndpoint {
      * @param classLoader the {@link ClassLoader} used to detect artifacts
      */
     public ArtifactsEndpoint(ClassLoader classLoader) {
-        this.artifactDetector = new ArtifactDetector(classLoader);
+        this.artifactRegistry = ArtifactRegistry.get(classLoader);
     }
 
     /**
@@ -47,6 +49,6 @@ public class ArtifactsEndpoint {
      */
     @ReadOperation
     public List<Artifact> getArtifactMetaInfoList() {
-        return artifactDetector.detect(false);
+        return artifactRegistry.getArtifacts();
     }
 }
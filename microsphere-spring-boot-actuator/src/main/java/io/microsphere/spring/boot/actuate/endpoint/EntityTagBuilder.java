@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.endpoint;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.util.ObjectUtils.nullSafeToString;
+
+/**
+ * The builder of the strong entity tag that digests the appended values by SHA-256.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   String entityTag = new EntityTagBuilder()
+ *       .append("server.port")
+ *       .append(8080)
+ *       .build(); // "\"2f1c...\""
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see EntityTagProvider
+ * @since 1.0.0
+ */
+final class EntityTagBuilder {
+
+    private final MessageDigest digest = newMessageDigest();
+
+    /**
+     * Appends the value, which is separated from the others
+     *
+     * @param value the value, the elements are appended if it's an array, <code>null</code> is different from "null"
+     * @return this builder
+     */
+    @Nonnull
+    EntityTagBuilder append(@Nullable Object value) {
+        if (value != null) {
+            this.digest.update((byte) 1);
+            this.digest.update(nullSafeToString(value).getBytes(UTF_8));
+        }
+        this.digest.update((byte) 0);
+        return this;
+    }
+
+    /**
+     * Builds the quoted entity tag
+     *
+     * @return the quoted hex of the first 16 bytes of digest
+     */
+    @Nonnull
+    String build() {
+        return "\"" + HexFormat.of().formatHex(this.digest.digest(), 0, 16) + "\"";
+    }
+
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required by every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+}
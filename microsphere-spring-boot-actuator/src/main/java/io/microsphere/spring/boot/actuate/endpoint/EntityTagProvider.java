@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.endpoint;
+
+import io.microsphere.annotation.Nullable;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+
+/**
+ * The provider of the strong entity tag for the content of {@link Endpoint @Endpoint}, which is used by the web
+ * filters to answer the conditional requests with "If-None-Match" header.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   String entityTag = endpoint.getEntityTag();
+ *   if (entityTag != null) {
+ *       response.setHeader("ETag", entityTag);
+ *   }
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationMetadataEndpoint
+ * @see ConfigurationPropertiesEndpoint
+ * @since 1.0.0
+ */
+public interface EntityTagProvider {
+
+    /**
+     * Returns the quoted strong entity tag of current content, which must be changed if the content is changed.
+     *
+     * @return <code>null</code> if the content is not stable yet, e.g. still loading
+     */
+    @Nullable
+    String getEntityTag();
+}
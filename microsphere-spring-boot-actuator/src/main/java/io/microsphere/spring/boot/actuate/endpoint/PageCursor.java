@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.endpoint;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The opaque cursor of page, which encodes the position of next page and the entity tag of the paginated content, so
+ * the cursor is rejected once the content is changed.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   String cursor = PageCursor.encode(entityTag, 100);
+ *   int position = PageCursor.decode(cursor, entityTag); // 100
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see EntityTagProvider
+ * @since 1.0.0
+ */
+final class PageCursor {
+
+    private static final char SEPARATOR = ':';
+
+    private PageCursor() {
+    }
+
+    /**
+     * Encodes the cursor
+     *
+     * @param entityTag the entity tag of content, may be <code>null</code>
+     * @param position  the position of next page
+     * @return the URL-safe Base64 string
+     */
+    @Nonnull
+    static String encode(@Nullable String entityTag, int position) {
+        String value = position + String.valueOf(SEPARATOR) + (entityTag == null ? "" : entityTag);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(UTF_8));
+    }
+
+    /**
+     * Decodes the position of next page from the cursor
+     *
+     * @param cursor    the cursor
+     * @param entityTag the entity tag of current content, may be <code>null</code>
+     * @return the position of next page
+     * @throws InvalidEndpointRequestException if the cursor is malformed or stale
+     */
+    static int decode(String cursor, @Nullable String entityTag) throws InvalidEndpointRequestException {
+        String value;
+        int position;
+        try {
+            value = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+            position = Integer.parseInt(value.substring(0, value.indexOf(SEPARATOR)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidEndpointRequestException("The cursor is malformed : " + cursor, "Malformed cursor");
+        }
+        String cursorEntityTag = value.substring(value.indexOf(SEPARATOR) + 1);
+        if (position < 0 || !cursorEntityTag.equals(entityTag == null ? "" : entityTag)) {
+            throw new InvalidEndpointRequestException("The cursor is stale : " + cursor, "Stale cursor");
+        }
+        return position;
+    }
+}
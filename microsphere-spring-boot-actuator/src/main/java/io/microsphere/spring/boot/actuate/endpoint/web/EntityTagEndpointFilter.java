@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.endpoint.web;
+
+import io.microsphere.spring.boot.actuate.endpoint.EntityTagProvider;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+
+import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.http.HttpMethod.HEAD;
+
+/**
+ * The Servlet {@link OncePerRequestFilter Filter} of the endpoints that are {@link EntityTagProvider entity-tagged},
+ * which sets the "ETag" header, and answers "304 Not Modified" without invoking the endpoint if the "If-None-Match"
+ * header matches. The endpoints are matched by the path within the servlet mapping as Spring MVC does, thus the
+ * prefix of "spring.mvc.servlet.path" is excluded, and only the "GET" and "HEAD" requests are filtered.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   curl -i http://localhost:8080/actuator/microsphere/config/properties
+ *   # ETag: "6f0d..."
+ *   curl -i -H 'If-None-Match: "6f0d..."' http://localhost:8080/actuator/microsphere/config/properties
+ *   # HTTP/1.1 304
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see EntityTagProvider
+ * @see ReactiveEntityTagEndpointFilter
+ * @since 1.0.0
+ */
+public class EntityTagEndpointFilter extends OncePerRequestFilter {
+
+    private static final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    private final EntityTagProviders entityTagProviders;
+
+    /**
+     * Constructs a new {@link EntityTagEndpointFilter}
+     *
+     * @param entityTagProviders {@link EntityTagProviders}
+     */
+    public EntityTagEndpointFilter(EntityTagProviders entityTagProviders) {
+        this.entityTagProviders = entityTagProviders;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !GET.matches(method) && !HEAD.matches(method);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        EntityTagProvider provider = this.entityTagProviders.getProvider(urlPathHelper.getLookupPathForRequest(request));
+        String entityTag = provider == null ? null : provider.getEntityTag();
+        if (entityTag != null && new ServletWebRequest(request, response).checkNotModified(entityTag)) {
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.endpoint.web;
+
+import io.microsphere.annotation.Nullable;
+import io.microsphere.spring.boot.actuate.endpoint.EntityTagProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.EndpointId;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.web.PathMappedEndpoints;
+
+import java.util.Map;
+
+import static io.microsphere.collection.MapUtils.newHashMap;
+import static java.util.Collections.emptyMap;
+import static org.springframework.core.annotation.AnnotatedElementUtils.findMergedAnnotation;
+import static org.springframework.util.ClassUtils.getUserClass;
+
+/**
+ * The registry of {@link EntityTagProvider} beans by the request paths of their {@link Endpoint endpoints}, which are
+ * resolved from {@link PathMappedEndpoints} on the first lookup. The paths out of the
+ * {@link PathMappedEndpoints#getBasePath() base path} of endpoints are rejected without the lookup.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   EntityTagProviders providers = new EntityTagProviders(pathMappedEndpointsProvider, entityTagProviders);
+ *   EntityTagProvider provider = providers.getProvider("/actuator/microsphere/config/metadata");
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see EntityTagProvider
+ * @see PathMappedEndpoints
+ * @since 1.0.0
+ */
+public class EntityTagProviders {
+
+    private final ObjectProvider<PathMappedEndpoints> pathMappedEndpointsProvider;
+
+    private final ObjectProvider<EntityTagProvider> entityTagProviders;
+
+    private volatile Mappings mappings;
+
+    /**
+     * Constructs a new {@link EntityTagProviders}
+     *
+     * @param pathMappedEndpointsProvider the provider of {@link PathMappedEndpoints}
+     * @param entityTagProviders          the provider of {@link EntityTagProvider} beans
+     */
+    public EntityTagProviders(ObjectProvider<PathMappedEndpoints> pathMappedEndpointsProvider,
+                              ObjectProvider<EntityTagProvider> entityTagProviders) {
+        this.pathMappedEndpointsProvider = pathMappedEndpointsProvider;
+        this.entityTagProviders = entityTagProviders;
+    }
+
+    /**
+     * Returns the {@link EntityTagProvider} of the endpoint that is mapped to the given path
+     *
+     * @param path the path within the servlet mapping or the reactive application, which is relative to the
+     *             {@link PathMappedEndpoints#getBasePath() base path} of endpoints
+     * @return <code>null</code> if not found
+     */
+    @Nullable
+    public EntityTagProvider getProvider(String path) {
+        Mappings mappings = this.mappings;
+        if (mappings == null) {
+            mappings = resolveMappings();
+            this.mappings = mappings;
+        }
+        if (mappings.pathedProviders.isEmpty() || !path.startsWith(mappings.basePath)) {
+            return null;
+        }
+        return mappings.pathedProviders.get(path);
+    }
+
+    private Mappings resolveMappings() {
+        PathMappedEndpoints pathMappedEndpoints = this.pathMappedEndpointsProvider.getIfAvailable();
+        if (pathMappedEndpoints == null) {
+            return new Mappings("", emptyMap());
+        }
+        Map<String, EntityTagProvider> pathedProviders = newHashMap();
+        this.entityTagProviders.orderedStream().forEach(provider -> {
+            Endpoint endpoint = findMergedAnnotation(getUserClass(provider), Endpoint.class);
+            if (endpoint != null) {
+                String path = pathMappedEndpoints.getPath(EndpointId.of(endpoint.id()));
+                if (path != null) {
+                    pathedProviders.put(path, provider);
+                }
+            }
+        });
+        String basePath = pathMappedEndpoints.getBasePath();
+        return new Mappings(basePath == null ? "" : basePath, pathedProviders);
+    }
+
+    private static class Mappings {
+
+        private final String basePath;
+
+        private final Map<String, EntityTagProvider> pathedProviders;
+
+        private Mappings(String basePath, Map<String, EntityTagProvider> pathedProviders) {
+            this.basePath = basePath;
+            this.pathedProviders = pathedProviders;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.endpoint.web;
+
+import io.microsphere.spring.boot.actuate.endpoint.EntityTagProvider;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * The reactive {@link WebFilter} of the endpoints that are {@link EntityTagProvider entity-tagged}, which sets the
+ * "ETag" header, and answers "304 Not Modified" without invoking the endpoint if the "If-None-Match" header matches.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   curl -i -H 'If-None-Match: "6f0d..."' http://localhost:8080/actuator/microsphere/config/metadata
+ *   # HTTP/1.1 304
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see EntityTagProvider
+ * @see EntityTagEndpointFilter
+ * @since 1.0.0
+ */
+public class ReactiveEntityTagEndpointFilter implements WebFilter {
+
+    private final EntityTagProviders entityTagProviders;
+
+    /**
+     * Constructs a new {@link ReactiveEntityTagEndpointFilter}
+     *
+     * @param entityTagProviders {@link EntityTagProviders}
+     */
+    public ReactiveEntityTagEndpointFilter(EntityTagProviders entityTagProviders) {
+        this.entityTagProviders = entityTagProviders;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getPath().pathWithinApplication().value();
+        EntityTagProvider provider = this.entityTagProviders.getProvider(path);
+        String entityTag = provider == null ? null : provider.getEntityTag();
+        if (entityTag != null && exchange.checkNotModified(entityTag)) {
+            return exchange.getResponse().setComplete();
+        }
+        return chain.filter(exchange);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.microsphere.spring.boot.diagnostics.ArtifactsCollisionDiagnosis;
+import io.microsphere.spring.boot.diagnostics.ClassCollisionReport;
+
+import java.util.Set;
+
+import static java.lang.Double.NaN;
+
+/**
+ * {@link MeterBinder} for the latest results of the {@link ArtifactsCollisionDiagnosis collision diagnoses}, the gauge
+ * {@link #METER_NAME} is tagged by the {@link #TYPE_TAG_NAME type} of the collisions :
+ * <ul>
+ *     <li>{@link #ARTIFACTS_TYPE} : the count of the colliding artifacts</li>
+ *     <li>{@link #DUPLICATE_CLASSES_TYPE} : the count of the duplicate classes</li>
+ *     <li>{@link #SPLIT_PACKAGES_TYPE} : the count of the split packages</li>
+ * </ul>
+ * The value of the gauge is {@link Double#NaN} until the corresponding diagnosis completes.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   // Auto-configured as a Spring bean; access via actuator endpoint
+ *   // "/actuator/metrics/microsphere.artifacts.collisions?tag=type:artifacts".
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ArtifactsCollisionDiagnosis
+ * @since 1.0.0
+ */
+public class ArtifactsCollisionMetrics implements MeterBinder {
+
+    /**
+     * The name of the gauge : "microsphere.artifacts.collisions"
+     */
+    public static final String METER_NAME = "microsphere.artifacts.collisions";
+
+    /**
+     * The tag name of the collision type : "type"
+     */
+    public static final String TYPE_TAG_NAME = "type";
+
+    /**
+     * The collision type of the artifacts : "artifacts"
+     */
+    public static final String ARTIFACTS_TYPE = "artifacts";
+
+    /**
+     * The collision type of the duplicate classes : "duplicate-classes"
+     */
+    public static final String DUPLICATE_CLASSES_TYPE = "duplicate-classes";
+
+    /**
+     * The collision type of the split packages : "split-packages"
+     */
+    public static final String SPLIT_PACKAGES_TYPE = "split-packages";
+
+    private final ArtifactsCollisionDiagnosis diagnosis;
+
+    public ArtifactsCollisionMetrics(ArtifactsCollisionDiagnosis diagnosis) {
+        this.diagnosis = diagnosis;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METER_NAME, this.diagnosis, ArtifactsCollisionMetrics::getArtifactsCount)
+                .tag(TYPE_TAG_NAME, ARTIFACTS_TYPE)
+                .description("The count of the colliding artifacts")
+                .register(registry);
+        Gauge.builder(METER_NAME, this.diagnosis, ArtifactsCollisionMetrics::getDuplicateClassesCount)
+                .tag(TYPE_TAG_NAME, DUPLICATE_CLASSES_TYPE)
+                .description("The count of the duplicate classes")
+                .register(registry);
+        Gauge.builder(METER_NAME, this.diagnosis, ArtifactsCollisionMetrics::getSplitPackagesCount)
+                .tag(TYPE_TAG_NAME, SPLIT_PACKAGES_TYPE)
+                .description("The count of the split packages")
+                .register(registry);
+    }
+
+    static double getArtifactsCount(ArtifactsCollisionDiagnosis diagnosis) {
+        Set<String> artifacts = diagnosis.getArtifacts();
+        return artifacts == null ? NaN : artifacts.size();
+    }
+
+    static double getDuplicateClassesCount(ArtifactsCollisionDiagnosis diagnosis) {
+        ClassCollisionReport report = diagnosis.getClassCollisionReport();
+        return report == null ? NaN : report.getDuplicateClasses().size();
+    }
+
+    static double getSplitPackagesCount(ArtifactsCollisionDiagnosis diagnosis) {
+        ClassCollisionReport report = diagnosis.getClassCollisionReport();
+        return report == null ? NaN : report.getSplitPackages().size();
+    }
+}
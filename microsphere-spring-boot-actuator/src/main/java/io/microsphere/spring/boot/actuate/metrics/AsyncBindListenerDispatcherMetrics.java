@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.microsphere.spring.boot.context.properties.ListenableConfigurationPropertiesBindHandlerAdvisor;
+import io.microsphere.spring.boot.context.properties.bind.AsyncBindListenerDispatcher;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * {@link MeterBinder} for the {@link AsyncBindListenerDispatcher} of
+ * {@link ListenableConfigurationPropertiesBindHandlerAdvisor}, which exposes :
+ * <ul>
+ *     <li>{@link #QUEUE_DEPTH_METER_NAME} : the gauge of the pending events</li>
+ *     <li>{@link #QUEUE_CAPACITY_METER_NAME} : the gauge of the capacity of the pending events</li>
+ *     <li>{@link #LAG_METER_NAME} : the time gauge of the age of the oldest pending event</li>
+ *     <li>{@link #DROPPED_METER_NAME} : the counter of the dropped events</li>
+ * </ul>
+ * The values are zero until the dispatcher is created by the first {@link io.microsphere.spring.boot.context.properties.bind.AsyncBindListener}.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   // Auto-configured as a Spring bean; access via actuator endpoint
+ *   // "/actuator/metrics/microsphere.async-bind-listener.queue.depth".
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AsyncBindListenerDispatcher
+ * @see ListenableConfigurationPropertiesBindHandlerAdvisor
+ * @since 1.0.0
+ */
+public class AsyncBindListenerDispatcherMetrics implements MeterBinder {
+
+    /**
+     * The name of the gauge of the queue depth : "microsphere.async-bind-listener.queue.depth"
+     */
+    public static final String QUEUE_DEPTH_METER_NAME = "microsphere.async-bind-listener.queue.depth";
+
+    /**
+     * The name of the gauge of the queue capacity : "microsphere.async-bind-listener.queue.capacity"
+     */
+    public static final String QUEUE_CAPACITY_METER_NAME = "microsphere.async-bind-listener.queue.capacity";
+
+    /**
+     * The name of the time gauge of the lag : "microsphere.async-bind-listener.lag"
+     */
+    public static final String LAG_METER_NAME = "microsphere.async-bind-listener.lag";
+
+    /**
+     * The name of the counter of the dropped events : "microsphere.async-bind-listener.dropped"
+     */
+    public static final String DROPPED_METER_NAME = "microsphere.async-bind-listener.dropped";
+
+    private final ListenableConfigurationPropertiesBindHandlerAdvisor advisor;
+
+    public AsyncBindListenerDispatcherMetrics(ListenableConfigurationPropertiesBindHandlerAdvisor advisor) {
+        this.advisor = advisor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(QUEUE_DEPTH_METER_NAME, this.advisor, AsyncBindListenerDispatcherMetrics::getQueueDepth)
+                .description("The count of the pending events of the AsyncBindListeners")
+                .register(registry);
+        Gauge.builder(QUEUE_CAPACITY_METER_NAME, this.advisor, AsyncBindListenerDispatcherMetrics::getQueueCapacity)
+                .description("The capacity of the pending events of the AsyncBindListeners")
+                .register(registry);
+        TimeGauge.builder(LAG_METER_NAME, this.advisor, NANOSECONDS, AsyncBindListenerDispatcherMetrics::getLag)
+                .description("The age of the oldest pending event of the AsyncBindListeners")
+                .register(registry);
+        FunctionCounter.builder(DROPPED_METER_NAME, this.advisor, AsyncBindListenerDispatcherMetrics::getDroppedCount)
+                .description("The count of the dropped events of the AsyncBindListeners")
+                .register(registry);
+    }
+
+    static double getQueueDepth(ListenableConfigurationPropertiesBindHandlerAdvisor advisor) {
+        AsyncBindListenerDispatcher dispatcher = advisor.findAsyncBindListenerDispatcher();
+        return dispatcher == null ? 0 : dispatcher.getQueueDepth();
+    }
+
+    static double getQueueCapacity(ListenableConfigurationPropertiesBindHandlerAdvisor advisor) {
+        AsyncBindListenerDispatcher dispatcher = advisor.findAsyncBindListenerDispatcher();
+        return dispatcher == null ? 0 : dispatcher.getQueueCapacity();
+    }
+
+    static double getLag(ListenableConfigurationPropertiesBindHandlerAdvisor advisor) {
+        AsyncBindListenerDispatcher dispatcher = advisor.findAsyncBindListenerDispatcher();
+        return dispatcher == null ? 0 : dispatcher.getLag(NANOSECONDS);
+    }
+
+    static double getDroppedCount(ListenableConfigurationPropertiesBindHandlerAdvisor advisor) {
+        AsyncBindListenerDispatcher dispatcher = advisor.findAsyncBindListenerDispatcher();
+        return dispatcher == null ? 0 : dispatcher.getDroppedCount();
+    }
+}
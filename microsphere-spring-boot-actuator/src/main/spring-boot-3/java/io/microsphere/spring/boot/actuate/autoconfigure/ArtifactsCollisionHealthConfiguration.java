@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.autoconfigure;
+
+import io.microsphere.spring.boot.actuate.health.ArtifactsCollisionHealthIndicator;
+import io.microsphere.spring.boot.diagnostics.ArtifactsCollisionDiagnosis;
+import org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Configuration class that registers the health indicator of the collision diagnoses on Spring Boot 3.x, the variant
+ * of Spring Boot 4.x is built from "src/main/spring-boot-4/java".
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ArtifactsCollisionDiagnosisAutoConfiguration
+ * @see ArtifactsCollisionHealthIndicator
+ * @since 1.0.0
+ */
+@ConditionalOnClass(name = ArtifactsCollisionHealthConfiguration.HEALTH_INDICATOR_CLASS_NAME)
+@ConditionalOnEnabledHealthIndicator(ArtifactsCollisionHealthConfiguration.HEALTH_INDICATOR_NAME)
+class ArtifactsCollisionHealthConfiguration {
+
+    /**
+     * The class name of {@link org.springframework.boot.actuate.health.HealthIndicator}
+     */
+    static final String HEALTH_INDICATOR_CLASS_NAME = "org.springframework.boot.actuate.health.HealthIndicator";
+
+    /**
+     * The name of the health indicator : "artifacts-collision"
+     */
+    static final String HEALTH_INDICATOR_NAME = "artifacts-collision";
+
+    /**
+     * The bean name of the health indicator : "artifacts-collisionHealthIndicator", which is exposed as
+     * {@link #HEALTH_INDICATOR_NAME} without the "HealthIndicator" suffix
+     */
+    static final String HEALTH_INDICATOR_BEAN_NAME = HEALTH_INDICATOR_NAME + "HealthIndicator";
+
+    /**
+     * Creates an {@link ArtifactsCollisionHealthIndicator} bean.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   // Auto-configured; access via actuator endpoint "/actuator/health/artifacts-collision".
+     * }</pre>
+     *
+     * @param diagnosis the {@link ArtifactsCollisionDiagnosis}
+     * @return a new {@link ArtifactsCollisionHealthIndicator} instance
+     */
+    @Bean(name = HEALTH_INDICATOR_BEAN_NAME)
+    @ConditionalOnMissingBean
+    public ArtifactsCollisionHealthIndicator artifactsCollisionHealthIndicator(ArtifactsCollisionDiagnosis diagnosis) {
+        return new ArtifactsCollisionHealthIndicator(diagnosis);
+    }
+}
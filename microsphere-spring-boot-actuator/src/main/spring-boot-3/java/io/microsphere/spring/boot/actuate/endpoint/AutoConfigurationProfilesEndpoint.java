@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.endpoint;
+
+import io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfile;
+import io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler;
+import org.springframework.boot.actuate.endpoint.OperationResponseBody;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * {@link Endpoint @Endpoint} to expose the top-N slowest auto-configuration classes during the startup, which are
+ * profiled by {@link AutoConfigurationProfiler}. The optional parameters are annotated by {@link Nullable @Nullable} on
+ * Spring Boot 3.x, the variant of Spring Boot 4.x is built from "src/main/spring-boot-4/java".
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   GET /actuator/autoConfigProfiles?top=20
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see AutoConfigurationProfiler
+ * @since 1.0.0
+ */
+@Endpoint(id = "autoConfigProfiles")
+public class AutoConfigurationProfilesEndpoint {
+
+    private final AutoConfigurationProfiler profiler;
+
+    private final int defaultTop;
+
+    /**
+     * Constructs a new {@link AutoConfigurationProfilesEndpoint}
+     *
+     * @param profiler   {@link AutoConfigurationProfiler}
+     * @param defaultTop the default size of the slowest entries
+     */
+    public AutoConfigurationProfilesEndpoint(AutoConfigurationProfiler profiler, int defaultTop) {
+        this.profiler = profiler;
+        this.defaultTop = defaultTop;
+    }
+
+    /**
+     * Returns the top-N slowest auto-configuration classes
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   AutoConfigurationProfilesDescriptor descriptor = endpoint.getProfiles(5);
+     * }</pre>
+     *
+     * @param top the size of the slowest entries, the default one is used if <code>null</code>
+     * @return {@link AutoConfigurationProfilesDescriptor}
+     */
+    @ReadOperation
+    public AutoConfigurationProfilesDescriptor getProfiles(@Nullable Integer top) {
+        AutoConfigurationProfilesDescriptor descriptor = new AutoConfigurationProfilesDescriptor();
+        descriptor.profiles = this.profiler.getTopProfiles(top == null ? this.defaultTop : top);
+        return descriptor;
+    }
+
+    /**
+     * The Descriptor class for the profiles of auto-configuration classes
+     */
+    public static class AutoConfigurationProfilesDescriptor implements OperationResponseBody {
+
+        private List<AutoConfigurationProfile> profiles;
+
+        /**
+         * Returns the profiles sorted by the total time descending
+         *
+         * @return the profiles
+         */
+        public List<AutoConfigurationProfile> getProfiles() {
+            return this.profiles;
+        }
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.endpoint;
+
+import io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.OperationResponseBody;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.configurationprocessor.metadata.ConfigurationMetadata;
+import org.springframework.boot.configurationprocessor.metadata.ItemMetadata;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository.DEFAULT_AWAIT_TIMEOUT;
+
+/**
+ * {@link Endpoint @Endpoint} to expose the {@link ConfigurationMetadata Configuration Metadata} that was generated by
+ * "org.springframework.boot:spring-boot-configuration-processor", which awaits the readiness of
+ * {@link ConfigurationMetadataRepository} with the timeout, and answers the empty metadata with
+ * {@link ConfigurationMetadataDescriptor#isReady() ready} being <code>false</code> if the repository is still loading.
+ * <p>
+ * The groups and properties could be filtered by the name prefix and the full-text query on the names, descriptions
+ * and source types, and be paginated by the offset and limit, or by the "nextCursor" of previous page:
+ * <pre>{@code
+ *   GET /actuator/microsphere/config/metadata?prefix=spring.data.redis.&q=timeout&offset=0&limit=50
+ *   GET /actuator/microsphere/config/metadata?prefix=spring.data.redis.&q=timeout&limit=50&cursor=NTA6Ij...
+ * }</pre>
+ * The content is identified by a strong {@link #getEntityTag() entity tag} once the repository is ready. The optional
+ * parameters are annotated by {@link Nullable @Nullable} on Spring Boot 3.x, the variant of Spring Boot 4.x is built
+ * from "src/main/spring-boot-4/java".
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigurationMetadata
+ * @see ConfigurationMetadataRepository
+ * @since 1.0.0
+ */
+@Endpoint(id = "configMetadata")
+public class ConfigurationMetadataEndpoint implements EntityTagProvider {
+
+    private final ConfigurationMetadataRepository configurationMetadataRepository;
+
+    private final Duration awaitTimeout;
+
+    private volatile String entityTag;
+
+    /**
+     * Constructs a new {@link ConfigurationMetadataEndpoint} with the given {@link ConfigurationMetadataRepository}.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   ConfigurationMetadataRepository repository = new ConfigurationMetadataRepository(reader);
+     *   ConfigurationMetadataEndpoint endpoint = new ConfigurationMetadataEndpoint(repository);
+     * }</pre>
+     *
+     * @param configurationMetadataRepository the {@link ConfigurationMetadataRepository} to use
+     */
+    public ConfigurationMetadataEndpoint(ConfigurationMetadataRepository configurationMetadataRepository) {
+        this(configurationMetadataRepository, DEFAULT_AWAIT_TIMEOUT);
+    }
+
+    /**
+     * Constructs a new {@link ConfigurationMetadataEndpoint} with the given {@link ConfigurationMetadataRepository}
+     * and the timeout to await its readiness.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   ConfigurationMetadataEndpoint endpoint = new ConfigurationMetadataEndpoint(repository, Duration.ofSeconds(1));
+     * }</pre>
+     *
+     * @param configurationMetadataRepository the {@link ConfigurationMetadataRepository} to use
+     * @param awaitTimeout                    the timeout to await the readiness of repository
+     */
+    public ConfigurationMetadataEndpoint(ConfigurationMetadataRepository configurationMetadataRepository, Duration awaitTimeout) {
+        this.configurationMetadataRepository = configurationMetadataRepository;
+        this.awaitTimeout = awaitTimeout;
+    }
+
+    /**
+     * Returns the {@link ConfigurationMetadataDescriptor} containing all configuration metadata
+     * groups and properties.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   ConfigurationMetadataEndpoint endpoint = new ConfigurationMetadataEndpoint(repository);
+     *   ConfigurationMetadataDescriptor descriptor = endpoint.getConfigurationMetadata();
+     * }</pre>
+     *
+     * @return a {@link ConfigurationMetadataDescriptor} with the aggregated metadata
+     */
+    public ConfigurationMetadataDescriptor getConfigurationMetadata() {
+        return getConfigurationMetadata(null, null, null, null, null);
+    }
+
+    /**
+     * Returns the {@link ConfigurationMetadataDescriptor} containing the configuration metadata groups and properties
+     * that start with the given prefix and match the given full-text query, which are sorted by their names and
+     * paginated by the offset or cursor and limit. All groups and properties are returned in their original order if
+     * none of parameters is present.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   ConfigurationMetadataEndpoint endpoint = new ConfigurationMetadataEndpoint(repository);
+     *   // the first 20 properties under "server." mentioning "ssl"
+     *   ConfigurationMetadataDescriptor descriptor = endpoint.getConfigurationMetadata("server.", "ssl", 0, 20, null);
+     *   int total = descriptor.getTotalProperties();
+     *   // the next 20 ones
+     *   descriptor = endpoint.getConfigurationMetadata("server.", "ssl", null, 20, descriptor.getNextCursor());
+     * }</pre>
+     *
+     * @param prefix the prefix of names, all names are matched if <code>null</code>
+     * @param q      the whitespace separated tokens to search, all names are matched if <code>null</code>
+     * @param offset the offset of page, <code>0</code> if <code>null</code>
+     * @param limit  the max size of page, unlimited if <code>null</code>
+     * @param cursor the "nextCursor" of previous page, which takes precedence over the offset
+     * @return a {@link ConfigurationMetadataDescriptor} with the matched metadata
+     * @throws InvalidEndpointRequestException if the offset is negative, the limit is not positive, or the cursor is
+     *                                         malformed or stale
+     */
+    @ReadOperation
+    public ConfigurationMetadataDescriptor getConfigurationMetadata(@Nullable String prefix, @Nullable String q,
+                                                                    @Nullable Integer offset, @Nullable Integer limit,
+                                                                    @Nullable String cursor) {
+        ConfigurationMetadataRepository repository = this.configurationMetadataRepository;
+        ConfigurationMetadataDescriptor configurationMetadata = new ConfigurationMetadataDescriptor();
+        configurationMetadata.ready = repository.awaitReady(this.awaitTimeout);
+        if (prefix == null && q == null && offset == null && limit == null && cursor == null) {
+            configurationMetadata.groups = repository.getGroups();
+            configurationMetadata.properties = repository.getProperties();
+            configurationMetadata.totalGroups = configurationMetadata.groups.size();
+            configurationMetadata.totalProperties = configurationMetadata.properties.size();
+        } else {
+            String entityTag = getEntityTag();
+            int from = cursor != null ? PageCursor.decode(cursor, entityTag) : offset == null ? 0 : offset;
+            int size = limit == null ? Integer.MAX_VALUE : limit;
+            if (from < 0) {
+                throw new InvalidEndpointRequestException("The offset must not be negative : " + from, "Bad offset");
+            }
+            if (size < 1) {
+                throw new InvalidEndpointRequestException("The limit must be positive : " + size, "Bad limit");
+            }
+            List<String> groupNames = repository.findGroupNames(prefix, q);
+            List<String> propertyNames = repository.findPropertyNames(prefix, q);
+            configurationMetadata.groups = getPage(groupNames, from, size, repository::getGroup);
+            configurationMetadata.properties = getPage(propertyNames, from, size, repository::getProperty);
+            configurationMetadata.totalGroups = groupNames.size();
+            configurationMetadata.totalProperties = propertyNames.size();
+            long to = (long) from + size;
+            if (to < Math.max(groupNames.size(), propertyNames.size())) {
+                configurationMetadata.nextCursor = PageCursor.encode(entityTag, (int) to);
+            }
+        }
+        return configurationMetadata;
+    }
+
+    /**
+     * Returns the strong entity tag of the configuration metadata once the {@link ConfigurationMetadataRepository}
+     * is ready, which is computed only once because the repository is immutable since then.
+     *
+     * @return <code>null</code> if the {@link ConfigurationMetadataRepository} is not ready
+     */
+    @Nullable
+    @Override
+    public String getEntityTag() {
+        ConfigurationMetadataRepository repository = this.configurationMetadataRepository;
+        if (!repository.isReady()) {
+            return null;
+        }
+        String entityTag = this.entityTag;
+        if (entityTag == null) {
+            EntityTagBuilder entityTagBuilder = new EntityTagBuilder();
+            appendItems(entityTagBuilder, repository.getGroups());
+            appendItems(entityTagBuilder, repository.getProperties());
+            entityTag = entityTagBuilder.build();
+            this.entityTag = entityTag;
+        }
+        return entityTag;
+    }
+
+    private static void appendItems(EntityTagBuilder entityTagBuilder, Collection<ItemMetadata> items) {
+        entityTagBuilder.append(items.size());
+        for (ItemMetadata item : items) {
+            entityTagBuilder.append(item.getName())
+                    .append(item.getType())
+                    .append(item.getSourceType())
+                    .append(item.getSourceMethod())
+                    .append(item.getDescription())
+                    .append(item.getDefaultValue())
+                    .append(item.getDeprecation());
+        }
+    }
+
+    private static List<ItemMetadata> getPage(List<String> names, int offset, int limit, Function<String, ItemMetadata> itemGetter) {
+        int size = names.size();
+        int from = Math.min(offset, size);
+        int to = (int) Math.min((long) from + limit, size);
+        List<ItemMetadata> items = newArrayList(to - from);
+        for (int i = from; i < to; i++) {
+            items.add(itemGetter.apply(names.get(i)));
+        }
+        return items;
+    }
+
+    /**
+     * The Descriptor class for {@link ConfigurationMetadata}
+     */
+    public static class ConfigurationMetadataDescriptor implements OperationResponseBody {
+
+        private boolean ready;
+
+        private Collection<ItemMetadata> groups;
+
+        private Collection<ItemMetadata> properties;
+
+        private int totalGroups;
+
+        private int totalProperties;
+
+        private String nextCursor;
+
+        /**
+         * Returns whether the {@link ConfigurationMetadataRepository} was ready, the groups and properties are empty
+         * if not.
+         *
+         * @return <code>true</code> if ready
+         */
+        public boolean isReady() {
+            return ready;
+        }
+
+        /**
+         * Returns the collection of group {@link ItemMetadata} entries.
+         *
+         * <h3>Example Usage</h3>
+         * <pre>{@code
+         *   ConfigurationMetadataDescriptor descriptor = endpoint.getConfigurationMetadata();
+         *   Collection<ItemMetadata> groups = descriptor.getGroups();
+         * }</pre>
+         *
+         * @return a {@link Collection} of group {@link ItemMetadata}
+         */
+        public Collection<ItemMetadata> getGroups() {
+            return groups;
+        }
+
+        /**
+         * Returns the collection of property {@link ItemMetadata} entries.
+         *
+         * <h3>Example Usage</h3>
+         * <pre>{@code
+         *   ConfigurationMetadataDescriptor descriptor = endpoint.getConfigurationMetadata();
+         *   Collection<ItemMetadata> properties = descriptor.getProperties();
+         * }</pre>
+         *
+         * @return a {@link Collection} of property {@link ItemMetadata}
+         */
+        public Collection<ItemMetadata> getProperties() {
+            return properties;
+        }
+
+        /**
+         * Returns the total count of matched groups before the pagination
+         *
+         * @return the total count of matched groups
+         */
+        public int getTotalGroups() {
+            return totalGroups;
+        }
+
+        /**
+         * Returns the total count of matched properties before the pagination
+         *
+         * @return the total count of matched properties
+         */
+        public int getTotalProperties() {
+            return totalProperties;
+        }
+
+        /**
+         * Returns the cursor of next page
+         *
+         * @return <code>null</code> if there is no more page
+         */
+        @Nullable
+        public String getNextCursor() {
+            return nextCursor;
+        }
+    }
+}
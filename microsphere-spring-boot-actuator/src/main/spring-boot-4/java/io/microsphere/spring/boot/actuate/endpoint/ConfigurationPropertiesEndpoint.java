@@ -0,0 +1,327 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.endpoint;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.beans.ConfigurationProperty;
+import io.microsphere.beans.ConfigurationProperty.Metadata;
+import io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.OperationResponseBody;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.configurationprocessor.metadata.ConfigurationMetadata;
+import org.springframework.boot.configurationprocessor.metadata.ItemMetadata;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static io.microsphere.annotation.ConfigurationProperty.APPLICATION_SOURCE;
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.metadata.ConfigurationPropertyLoader.loadAll;
+import static io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository.DEFAULT_AWAIT_TIMEOUT;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * {@link Endpoint @Endpoint} to expose the configuration properties, the ones from {@link ConfigurationMetadataRepository}
+ * are absent and {@link ConfigurationPropertiesDescriptor#isReady() ready} is <code>false</code> if the repository is
+ * still loading after the await timeout.
+ * <p>
+ * The merged properties are computed once the repository is ready, and are identified by a strong
+ * {@link #getEntityTag() entity tag}. The large content could be fetched page by page, the "nextCursor" of response
+ * is used as the "cursor" of next request:
+ * <pre>{@code
+ *   GET /actuator/microsphere/config/properties?limit=500
+ *   GET /actuator/microsphere/config/properties?limit=500&cursor=MTAwOiI...
+ * }</pre>
+ * <p>
+ * This is the variant of Spring Boot 4.x, whose optional parameters of operations are annotated by
+ * {@link OptionalParameter @OptionalParameter} rather than {@code @Nullable}.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigurationMetadata
+ * @see ConfigurationProperties
+ * @since 1.0.0
+ */
+@Endpoint(id = "configProperties")
+public class ConfigurationPropertiesEndpoint implements EntityTagProvider {
+
+    private final ConfigurationMetadataRepository configurationMetadataRepository;
+
+    private final Duration awaitTimeout;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Constructs a new {@link ConfigurationPropertiesEndpoint} with the given {@link ConfigurationMetadataRepository}.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   ConfigurationMetadataRepository repository = new ConfigurationMetadataRepository(reader);
+     *   ConfigurationPropertiesEndpoint endpoint = new ConfigurationPropertiesEndpoint(repository);
+     * }</pre>
+     *
+     * @param configurationMetadataRepository the {@link ConfigurationMetadataRepository} to use
+     */
+    public ConfigurationPropertiesEndpoint(ConfigurationMetadataRepository configurationMetadataRepository) {
+        this(configurationMetadataRepository, DEFAULT_AWAIT_TIMEOUT);
+    }
+
+    /**
+     * Constructs a new {@link ConfigurationPropertiesEndpoint} with the given {@link ConfigurationMetadataRepository}
+     * and the timeout to await its readiness.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   ConfigurationPropertiesEndpoint endpoint = new ConfigurationPropertiesEndpoint(repository, Duration.ofSeconds(1));
+     * }</pre>
+     *
+     * @param configurationMetadataRepository the {@link ConfigurationMetadataRepository} to use
+     * @param awaitTimeout                    the timeout to await the readiness of repository
+     */
+    public ConfigurationPropertiesEndpoint(ConfigurationMetadataRepository configurationMetadataRepository, Duration awaitTimeout) {
+        this.configurationMetadataRepository = configurationMetadataRepository;
+        this.awaitTimeout = awaitTimeout;
+    }
+
+    /**
+     * Returns a {@link ConfigurationPropertiesDescriptor} containing all resolved configuration properties,
+     * loaded from both service loaders and the {@link ConfigurationMetadataRepository}.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   ConfigurationPropertiesEndpoint endpoint = new ConfigurationPropertiesEndpoint(repository);
+     *   ConfigurationPropertiesDescriptor descriptor = endpoint.getConfigurationProperties();
+     * }</pre>
+     *
+     * @return a {@link ConfigurationPropertiesDescriptor} with all configuration properties
+     */
+    public ConfigurationPropertiesDescriptor getConfigurationProperties() {
+        return getConfigurationProperties(null, null);
+    }
+
+    /**
+     * Returns a {@link ConfigurationPropertiesDescriptor} containing a page of resolved configuration properties,
+     * loaded from both service loaders and the {@link ConfigurationMetadataRepository}, all properties are returned
+     * if none of parameters is present.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   ConfigurationPropertiesDescriptor page = endpoint.getConfigurationProperties(null, 100);
+     *   while (page.getNextCursor() != null) {
+     *       page = endpoint.getConfigurationProperties(page.getNextCursor(), 100);
+     *   }
+     * }</pre>
+     *
+     * @param cursor the "nextCursor" of previous page, the first page is returned if <code>null</code>
+     * @param limit  the max size of page, unlimited if <code>null</code>
+     * @return a {@link ConfigurationPropertiesDescriptor} with the page of configuration properties
+     * @throws InvalidEndpointRequestException if the cursor is malformed or stale, or the limit is not positive
+     */
+    @ReadOperation
+    public ConfigurationPropertiesDescriptor getConfigurationProperties(@OptionalParameter String cursor,
+                                                                        @OptionalParameter Integer limit) {
+        boolean ready = this.configurationMetadataRepository.awaitReady(this.awaitTimeout);
+        Snapshot snapshot = ready ? getSnapshot() : createSnapshot(false);
+        List<ConfigurationProperty> configurationProperties = snapshot.configurationProperties;
+        int total = configurationProperties.size();
+
+        ConfigurationPropertiesDescriptor descriptor = new ConfigurationPropertiesDescriptor();
+        descriptor.ready = ready;
+        descriptor.totalConfigurationProperties = total;
+        if (cursor == null && limit == null) {
+            descriptor.configurationProperties = configurationProperties;
+        } else {
+            int from = cursor == null ? 0 : PageCursor.decode(cursor, snapshot.entityTag);
+            int size = limit == null ? Integer.MAX_VALUE : limit;
+            if (size < 1) {
+                throw new InvalidEndpointRequestException("The limit must be positive : " + size, "Bad limit");
+            }
+            from = Math.min(from, total);
+            int to = (int) Math.min((long) from + size, total);
+            // the view of read-only snapshot is serialized directly without copying
+            descriptor.configurationProperties = configurationProperties.subList(from, to);
+            descriptor.nextCursor = to < total ? PageCursor.encode(snapshot.entityTag, to) : null;
+        }
+        return descriptor;
+    }
+
+    /**
+     * Returns the strong entity tag of the merged configuration properties once the
+     * {@link ConfigurationMetadataRepository} is ready.
+     *
+     * @return <code>null</code> if the {@link ConfigurationMetadataRepository} is not ready
+     */
+    @Nullable
+    @Override
+    public String getEntityTag() {
+        return this.configurationMetadataRepository.isReady() ? getSnapshot().entityTag : null;
+    }
+
+    private Snapshot getSnapshot() {
+        Snapshot snapshot = this.snapshot;
+        if (snapshot == null) {
+            synchronized (this) {
+                snapshot = this.snapshot;
+                if (snapshot == null) {
+                    snapshot = createSnapshot(true);
+                    this.snapshot = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private Snapshot createSnapshot(boolean ready) {
+        List<ConfigurationProperty> configurationProperties = loadFromServiceLoaders();
+        if (ready) {
+            configurationProperties.addAll(adaptFromConfigurationMetadataRepository());
+        }
+        return new Snapshot(configurationProperties, ready);
+    }
+
+    private List<ConfigurationProperty> loadFromServiceLoaders() {
+        return new ArrayList<>(loadAll());
+    }
+
+    private List<ConfigurationProperty> adaptFromConfigurationMetadataRepository() {
+        Collection<ItemMetadata> properties = configurationMetadataRepository.getProperties();
+        List<ConfigurationProperty> configurationProperties = newArrayList(properties.size());
+        for (ItemMetadata property : properties) {
+            ConfigurationProperty configurationProperty = adaptConfigurationProperty(property);
+            configurationProperties.add(configurationProperty);
+        }
+        return configurationProperties;
+    }
+
+    private ConfigurationProperty adaptConfigurationProperty(ItemMetadata property) {
+        String name = property.getName();
+        String type = property.getType();
+        String description = property.getDescription();
+        String sourceType = property.getSourceType();
+        String sourceMethod = property.getSourceMethod();
+        Object defaultValue = property.getDefaultValue();
+
+        ConfigurationProperty configurationProperty = new ConfigurationProperty(name);
+        configurationProperty.setType(type == null ? String.class.getName() : type);
+        configurationProperty.setDescription(description);
+        configurationProperty.setDefaultValue(defaultValue);
+
+        Metadata metadata = configurationProperty.getMetadata();
+        metadata.setDeclaredClass(sourceType);
+        metadata.setDeclaredField(sourceMethod);
+        metadata.getSources().add(APPLICATION_SOURCE);
+
+        return configurationProperty;
+    }
+
+    /**
+     * The read-only merged configuration properties with their entity tag
+     */
+    private static class Snapshot {
+
+        private final List<ConfigurationProperty> configurationProperties;
+
+        private final String entityTag;
+
+        Snapshot(List<ConfigurationProperty> configurationProperties, boolean ready) {
+            EntityTagBuilder entityTagBuilder = new EntityTagBuilder().append(ready);
+            for (ConfigurationProperty configurationProperty : configurationProperties) {
+                Metadata metadata = configurationProperty.getMetadata();
+                entityTagBuilder.append(configurationProperty.getName())
+                        .append(configurationProperty.getType())
+                        .append(configurationProperty.getDefaultValue())
+                        .append(configurationProperty.getDescription())
+                        .append(metadata.getDeclaredClass())
+                        .append(metadata.getDeclaredField());
+            }
+            this.configurationProperties = unmodifiableList(configurationProperties);
+            this.entityTag = entityTagBuilder.build();
+        }
+    }
+
+    /**
+     * Descriptor class that holds a collection of {@link ConfigurationProperty} instances,
+     * implementing {@link OperationResponseBody} for actuator endpoint serialization.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   ConfigurationPropertiesDescriptor descriptor = endpoint.getConfigurationProperties();
+     *   List<ConfigurationProperty> all = descriptor.getConfigurationProperties();
+     * }</pre>
+     */
+    public static class ConfigurationPropertiesDescriptor implements OperationResponseBody {
+
+        private List<ConfigurationProperty> configurationProperties;
+
+        private boolean ready;
+
+        private int totalConfigurationProperties;
+
+        private String nextCursor;
+
+        /**
+         * Returns whether the {@link ConfigurationMetadataRepository} was ready, the properties from it are absent if
+         * not.
+         *
+         * @return <code>true</code> if ready
+         */
+        public boolean isReady() {
+            return ready;
+        }
+
+        /**
+         * Returns the read-only list of {@link ConfigurationProperty} instances.
+         *
+         * <h3>Example Usage</h3>
+         * <pre>{@code
+         *   ConfigurationPropertiesDescriptor descriptor = endpoint.getConfigurationProperties();
+         *   List<ConfigurationProperty> properties = descriptor.getConfigurationProperties();
+         * }</pre>
+         *
+         * @return a non-null {@link List} of {@link ConfigurationProperty}
+         */
+        @Nonnull
+        public List<ConfigurationProperty> getConfigurationProperties() {
+            return configurationProperties;
+        }
+
+        /**
+         * Returns the total count of configuration properties before the pagination
+         *
+         * @return the total count of configuration properties
+         */
+        public int getTotalConfigurationProperties() {
+            return totalConfigurationProperties;
+        }
+
+        /**
+         * Returns the cursor of next page
+         *
+         * @return <code>null</code> if there is no more page
+         */
+        @Nullable
+        public String getNextCursor() {
+            return nextCursor;
+        }
+    }
+}
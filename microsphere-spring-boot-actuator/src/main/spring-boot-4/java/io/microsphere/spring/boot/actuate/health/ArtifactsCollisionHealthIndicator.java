@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.health;
+
+import io.microsphere.spring.boot.diagnostics.ArtifactsCollisionDiagnosis;
+import io.microsphere.spring.boot.diagnostics.ClassCollisionReport;
+import org.springframework.boot.health.contributor.AbstractHealthIndicator;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+
+import java.util.Set;
+
+/**
+ * {@link HealthIndicator} for the latest results of the {@link ArtifactsCollisionDiagnosis collision diagnoses} :
+ * <ul>
+ *     <li>{@code UNKNOWN} : the diagnoses are still running in the background, or failed</li>
+ *     <li>{@code UP} : the diagnoses are completed, the {@link #COLLISIONS_DETAIL_NAME "collisions"} detail tells
+ *     whether any collision has been detected</li>
+ * </ul>
+ * The collisions never turn the status {@code DOWN}, which would flip the aggregate health and the readiness of
+ * the application that is still running.
+ * <p>
+ * This is the variant of Spring Boot 4.x, whose health API is moved to "org.springframework.boot.health.contributor".
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   // Auto-configured as a Spring bean; access via actuator endpoint "/actuator/health/artifacts-collision".
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ArtifactsCollisionDiagnosis
+ * @since 1.0.0
+ */
+public class ArtifactsCollisionHealthIndicator extends AbstractHealthIndicator {
+
+    /**
+     * The name of the detail whether any collision has been detected : "collisions"
+     */
+    public static final String COLLISIONS_DETAIL_NAME = "collisions";
+
+    private final ArtifactsCollisionDiagnosis diagnosis;
+
+    public ArtifactsCollisionHealthIndicator(ArtifactsCollisionDiagnosis diagnosis) {
+        super("Artifacts collision health check failed");
+        this.diagnosis = diagnosis;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        ArtifactsCollisionDiagnosis diagnosis = this.diagnosis;
+        builder.withDetail("artifactsMode", diagnosis.getArtifactsMode())
+                .withDetail("classesMode", diagnosis.getClassesMode());
+
+        Throwable failure = diagnosis.getFailure();
+        if (failure != null) {
+            builder.unknown().withException(failure);
+            return;
+        }
+
+        if (!diagnosis.isCompleted()) {
+            builder.unknown();
+            return;
+        }
+
+        Set<String> artifacts = diagnosis.getArtifacts();
+        if (artifacts != null) {
+            builder.withDetail("artifacts", artifacts);
+        }
+
+        ClassCollisionReport report = diagnosis.getClassCollisionReport();
+        if (report != null) {
+            builder.withDetail("duplicateClasses", report.getDuplicateClasses().size())
+                    .withDetail("splitPackages", report.getSplitPackages().size())
+                    .withDetail("classesArtifacts", report.getArtifacts());
+        }
+
+        builder.withDetail(COLLISIONS_DETAIL_NAME, diagnosis.hasCollisions()).up();
+    }
+}
@@ -1,9 +1,12 @@
 package io.microsphere.spring.boot.actuate.autoconfigure;
 
 import io.microsphere.spring.boot.actuate.endpoint.ArtifactsEndpoint;
+import io.microsphere.spring.boot.actuate.endpoint.AutoConfigurationProfilesEndpoint;
 import io.microsphere.spring.boot.actuate.endpoint.ConfigurationMetadataEndpoint;
 import io.microsphere.spring.boot.actuate.endpoint.ConfigurationPropertiesEndpoint;
 import io.microsphere.spring.boot.actuate.endpoint.WebEndpoints;
+import io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfile;
+import io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository;
 import org.junit.jupiter.api.ClassOrderer.OrderAnnotation;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -11,14 +14,21 @@ import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestClassOrder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.List;
 import java.util.Map;
 
+import static io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository.InitializationMode.BACKGROUND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
 
 /**
@@ -72,15 +82,64 @@ class ActuatorEndpointsAutoConfigurationTest {
         @Test
         void testGetConfigurationMetadata() {
             ConfigurationMetadataEndpoint.ConfigurationMetadataDescriptor configurationMetadata = configurationMetadataEndpoint.getConfigurationMetadata();
+            assertTrue(configurationMetadata.isReady());
             assertFalse(configurationMetadata.getGroups().isEmpty());
             assertFalse(configurationMetadata.getProperties().isEmpty());
+            assertEquals(configurationMetadata.getProperties().size(), configurationMetadata.getTotalProperties());
+
+            ConfigurationMetadataEndpoint.ConfigurationMetadataDescriptor page = configurationMetadataEndpoint.getConfigurationMetadata("spring.", null, 1, 2, null);
+            assertTrue(page.getProperties().size() <= 2);
+            assertTrue(page.getTotalProperties() <= configurationMetadata.getTotalProperties());
+            page.getProperties().forEach(property -> assertTrue(property.getName().startsWith("spring.")));
+
+            page = configurationMetadataEndpoint.getConfigurationMetadata(null, "server port", null, null, null);
+            assertTrue(page.getProperties().stream().anyMatch(property -> "server.port".equals(property.getName())));
+            assertEquals(page.getProperties().size(), page.getTotalProperties());
+
+            assertThrows(InvalidEndpointRequestException.class, () -> configurationMetadataEndpoint.getConfigurationMetadata(null, null, -1, null, null));
+            assertThrows(InvalidEndpointRequestException.class, () -> configurationMetadataEndpoint.getConfigurationMetadata(null, null, null, 0, null));
+            assertThrows(InvalidEndpointRequestException.class, () -> configurationMetadataEndpoint.getConfigurationMetadata(null, null, null, null, "stale"));
+
+            String entityTag = configurationMetadataEndpoint.getEntityTag();
+            assertNotNull(entityTag);
+            assertEquals(entityTag, configurationMetadataEndpoint.getEntityTag());
+
+            // cursor-based pagination
+            page = configurationMetadataEndpoint.getConfigurationMetadata("spring.", null, null, 2, null);
+            assertNotNull(page.getNextCursor());
+            ConfigurationMetadataEndpoint.ConfigurationMetadataDescriptor nextPage = configurationMetadataEndpoint.getConfigurationMetadata("spring.", null, null, 2, page.getNextCursor());
+            assertFalse(nextPage.getProperties().isEmpty());
+            assertFalse(page.getProperties().contains(nextPage.getProperties().iterator().next()));
         }
 
         @Test
         void testGetConfigurationProperties() {
             ConfigurationPropertiesEndpoint.ConfigurationPropertiesDescriptor descriptor = configurationPropertiesEndpoint.getConfigurationProperties();
             assertNotNull(descriptor);
+            assertTrue(descriptor.isReady());
             assertFalse(descriptor.getConfigurationProperties().isEmpty());
+            assertEquals(descriptor.getConfigurationProperties().size(), descriptor.getTotalConfigurationProperties());
+            assertNull(descriptor.getNextCursor());
+            // the merged properties are computed once
+            assertSame(descriptor.getConfigurationProperties(), configurationPropertiesEndpoint.getConfigurationProperties().getConfigurationProperties());
+
+            String entityTag = configurationPropertiesEndpoint.getEntityTag();
+            assertNotNull(entityTag);
+            assertEquals(entityTag, configurationPropertiesEndpoint.getEntityTag());
+
+            int total = descriptor.getTotalConfigurationProperties();
+            int count = 0;
+            String cursor = null;
+            do {
+                ConfigurationPropertiesEndpoint.ConfigurationPropertiesDescriptor page = configurationPropertiesEndpoint.getConfigurationProperties(cursor, 100);
+                assertTrue(page.getConfigurationProperties().size() <= 100);
+                count += page.getConfigurationProperties().size();
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+            assertEquals(total, count);
+
+            assertThrows(InvalidEndpointRequestException.class, () -> configurationPropertiesEndpoint.getConfigurationProperties(null, 0));
+            assertThrows(InvalidEndpointRequestException.class, () -> configurationPropertiesEndpoint.getConfigurationProperties("stale", null));
         }
     }
 
@@ -123,4 +182,62 @@ class ActuatorEndpointsAutoConfigurationTest {
         }
     }
 
+    @Order(3)
+    @Nested
+    @DisplayName("test on profiler configuration")
+    @SpringBootTest(
+            webEnvironment = RANDOM_PORT,
+            classes = {
+                    ActuatorEndpointsAutoConfigurationTest.class,
+            },
+            properties = {
+                    "microsphere.autoconfigure.profiler.enabled=true",
+                    "microsphere.autoconfigure.profiler.report-file=target/autoconfigure-profile.json"
+            }
+    )
+    @EnableAutoConfiguration
+    class Profiler {
+
+        @Autowired
+        private AutoConfigurationProfilesEndpoint autoConfigurationProfilesEndpoint;
+
+        @Test
+        void testGetProfiles() {
+            List<AutoConfigurationProfile> profiles = autoConfigurationProfilesEndpoint.getProfiles(null).getProfiles();
+            assertFalse(profiles.isEmpty());
+            assertTrue(profiles.size() <= 10);
+            assertEquals(1, autoConfigurationProfilesEndpoint.getProfiles(1).getProfiles().size());
+        }
+    }
+
+    @Order(4)
+    @Nested
+    @DisplayName("test on background initialization configuration")
+    @SpringBootTest(
+            webEnvironment = RANDOM_PORT,
+            classes = {
+                    ActuatorEndpointsAutoConfigurationTest.class,
+            },
+            properties = {
+                    "microsphere.spring.boot.configuration-metadata.repository.initialization-mode=BACKGROUND",
+                    "microsphere.spring.boot.configuration-metadata.repository.await-timeout=30s"
+            }
+    )
+    @EnableAutoConfiguration
+    class BackgroundInitialization {
+
+        @Autowired
+        private ConfigurationMetadataRepository configurationMetadataRepository;
+
+        @Autowired
+        private ConfigurationMetadataEndpoint configurationMetadataEndpoint;
+
+        @Test
+        void testGetConfigurationMetadata() {
+            assertEquals(BACKGROUND, configurationMetadataRepository.getInitializationMode());
+            ConfigurationMetadataEndpoint.ConfigurationMetadataDescriptor configurationMetadata = configurationMetadataEndpoint.getConfigurationMetadata();
+            assertTrue(configurationMetadata.isReady());
+            assertFalse(configurationMetadata.getProperties().isEmpty());
+        }
+    }
 }
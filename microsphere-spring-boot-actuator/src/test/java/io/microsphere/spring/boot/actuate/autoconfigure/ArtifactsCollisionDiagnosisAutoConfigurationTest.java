@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.autoconfigure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.microsphere.spring.boot.actuate.health.ArtifactsCollisionHealthIndicator;
+import io.microsphere.spring.boot.actuate.metrics.ArtifactsCollisionMetrics;
+import io.microsphere.spring.boot.diagnostics.ArtifactsCollisionDiagnosis;
+import org.junit.jupiter.api.ClassOrderer.OrderAnnotation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestClassOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+import static io.microsphere.spring.boot.actuate.autoconfigure.ArtifactsCollisionDiagnosisAutoConfiguration.METER_BINDER_CLASS_NAME;
+import static io.microsphere.spring.boot.actuate.autoconfigure.ArtifactsCollisionHealthConfiguration.HEALTH_INDICATOR_BEAN_NAME;
+import static io.microsphere.spring.boot.actuate.autoconfigure.ArtifactsCollisionHealthConfiguration.HEALTH_INDICATOR_CLASS_NAME;
+import static io.microsphere.spring.boot.actuate.autoconfigure.ArtifactsCollisionHealthConfiguration.HEALTH_INDICATOR_NAME;
+import static io.microsphere.spring.boot.actuate.metrics.ArtifactsCollisionMetrics.ARTIFACTS_TYPE;
+import static io.microsphere.spring.boot.actuate.metrics.ArtifactsCollisionMetrics.METER_NAME;
+import static io.microsphere.spring.boot.actuate.metrics.ArtifactsCollisionMetrics.TYPE_TAG_NAME;
+import static io.microsphere.spring.boot.diagnostics.DiagnosisMode.BACKGROUND;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.NONE;
+import static org.springframework.util.ClassUtils.forName;
+import static org.springframework.util.ClassUtils.isAssignable;
+
+/**
+ * {@link ArtifactsCollisionDiagnosisAutoConfiguration} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ArtifactsCollisionDiagnosisAutoConfiguration
+ * @since 1.0.0
+ */
+@TestClassOrder(OrderAnnotation.class)
+class ArtifactsCollisionDiagnosisAutoConfigurationTest {
+
+    @Test
+    void testConstants() throws ClassNotFoundException {
+        assertTrue(isAssignable(forName(HEALTH_INDICATOR_CLASS_NAME, null), ArtifactsCollisionHealthIndicator.class));
+        assertEquals(HEALTH_INDICATOR_NAME + "HealthIndicator", HEALTH_INDICATOR_BEAN_NAME);
+        assertEquals(MeterBinder.class.getName(), METER_BINDER_CLASS_NAME);
+    }
+
+    @Order(1)
+    @Nested
+    @DisplayName("test when the collision diagnosis is enabled in the background")
+    @SpringBootTest(
+            webEnvironment = NONE,
+            classes = {
+                    ArtifactsCollisionDiagnosisAutoConfigurationTest.class
+            },
+            properties = {
+                    "microsphere.spring.boot.artifacts-collision.mode=BACKGROUND"
+            }
+    )
+    @EnableAutoConfiguration
+    class DiagnosisEnabled {
+
+        @Autowired
+        private ArtifactsCollisionDiagnosis diagnosis;
+
+        @Autowired
+        private ArtifactsCollisionHealthIndicator healthIndicator;
+
+        @Autowired
+        private ApplicationContext context;
+
+        @Autowired
+        private ArtifactsCollisionMetrics metrics;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @Test
+        void test() throws InterruptedException {
+            assertEquals(BACKGROUND, this.diagnosis.getArtifactsMode());
+            assertTrue(this.diagnosis.await(10, SECONDS));
+
+            assertSame(this.healthIndicator, this.context.getBean(HEALTH_INDICATOR_BEAN_NAME));
+            // The collisions never turn the status DOWN
+            assertEquals("UP", this.healthIndicator.health().getStatus().getCode());
+
+            double value = this.meterRegistry.get(METER_NAME).tag(TYPE_TAG_NAME, ARTIFACTS_TYPE).gauge().value();
+            assertEquals(this.diagnosis.getArtifactsCollisionCount(), value);
+        }
+    }
+
+    @Order(2)
+    @Nested
+    @DisplayName("test when the collision diagnosis is disabled")
+    @SpringBootTest(
+            webEnvironment = NONE,
+            classes = {
+                    ArtifactsCollisionDiagnosisAutoConfigurationTest.class
+            }
+    )
+    @EnableAutoConfiguration
+    class DiagnosisDisabled {
+
+        @Autowired(required = false)
+        private ArtifactsCollisionDiagnosis diagnosis;
+
+        @Autowired(required = false)
+        private ArtifactsCollisionHealthIndicator healthIndicator;
+
+        @Autowired(required = false)
+        private ArtifactsCollisionMetrics metrics;
+
+        @Test
+        void test() {
+            assertNull(this.diagnosis);
+            assertNull(this.healthIndicator);
+            assertNull(this.metrics);
+        }
+    }
+}
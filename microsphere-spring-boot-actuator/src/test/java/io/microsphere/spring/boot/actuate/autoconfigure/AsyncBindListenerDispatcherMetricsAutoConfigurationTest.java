@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.autoconfigure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.microsphere.spring.boot.actuate.metrics.AsyncBindListenerDispatcherMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static io.microsphere.spring.boot.actuate.metrics.AsyncBindListenerDispatcherMetrics.QUEUE_DEPTH_METER_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.NONE;
+
+/**
+ * {@link AsyncBindListenerDispatcherMetricsAutoConfiguration} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AsyncBindListenerDispatcherMetricsAutoConfiguration
+ * @since 1.0.0
+ */
+class AsyncBindListenerDispatcherMetricsAutoConfigurationTest {
+
+    @Nested
+    @DisplayName("test when the ListenableConfigurationPropertiesBindHandlerAdvisor is auto-configured")
+    @SpringBootTest(
+            webEnvironment = NONE,
+            classes = {
+                    AsyncBindListenerDispatcherMetricsAutoConfigurationTest.class
+            }
+    )
+    @EnableAutoConfiguration
+    class AdvisorPresent {
+
+        @Autowired
+        private AsyncBindListenerDispatcherMetrics metrics;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @Test
+        void test() {
+            assertNotNull(this.metrics);
+            assertEquals(0, this.meterRegistry.get(QUEUE_DEPTH_METER_NAME).gauge().value());
+        }
+    }
+
+    @Nested
+    @DisplayName("test when the ListenableConfigurationPropertiesBindHandlerAdvisor is absent")
+    @SpringBootTest(
+            webEnvironment = NONE,
+            classes = {
+                    AsyncBindListenerDispatcherMetricsAutoConfigurationTest.class
+            },
+            properties = {
+                    "spring.autoconfigure.exclude=io.microsphere.spring.boot.context.autoconfigure.ConfigurationPropertiesAutoConfiguration"
+            }
+    )
+    @EnableAutoConfiguration
+    class AdvisorAbsent {
+
+        @Autowired(required = false)
+        private AsyncBindListenerDispatcherMetrics metrics;
+
+        @Test
+        void test() {
+            assertNull(this.metrics);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.autoconfigure;
+
+import io.microsphere.spring.boot.actuate.endpoint.web.EntityTagEndpointFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static java.net.http.HttpResponse.BodyHandlers.discarding;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+/**
+ * {@link EntityTagManagementContextConfiguration} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see EntityTagManagementContextConfiguration
+ * @since 1.0.0
+ */
+class EntityTagManagementContextConfigurationTest {
+
+    static final String PATH = "/actuator/microsphere/config/properties";
+
+    static void assertConditionalRequest(int port) throws Exception {
+        HttpClient httpClient = HttpClient.newHttpClient();
+        URI uri = URI.create("http://localhost:" + port + PATH);
+        HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(uri).build(), discarding());
+        assertEquals(200, response.statusCode());
+        String entityTag = response.headers().firstValue("ETag").orElse(null);
+        assertNotNull(entityTag);
+
+        response = httpClient.send(HttpRequest.newBuilder(uri).header("If-None-Match", entityTag).build(), discarding());
+        assertEquals(304, response.statusCode());
+    }
+
+    @Nested
+    @DisplayName("test on the same port of management server")
+    @SpringBootTest(
+            webEnvironment = RANDOM_PORT,
+            classes = {
+                    EntityTagManagementContextConfigurationTest.class,
+            }
+    )
+    @EnableAutoConfiguration
+    class SamePort {
+
+        @Autowired
+        private ApplicationContext context;
+
+        @Value("${local.server.port}")
+        private int port;
+
+        @Test
+        void test() throws Exception {
+            assertNotNull(context.getBeanProvider(EntityTagEndpointFilter.class).getIfAvailable());
+            assertConditionalRequest(port);
+        }
+    }
+
+    @Nested
+    @DisplayName("test on the separate port of management server")
+    @SpringBootTest(
+            webEnvironment = RANDOM_PORT,
+            classes = {
+                    EntityTagManagementContextConfigurationTest.class,
+            },
+            properties = {
+                    "management.server.port=0"
+            }
+    )
+    @EnableAutoConfiguration
+    class SeparatePort {
+
+        @Autowired
+        private ApplicationContext context;
+
+        @Value("${local.management.port}")
+        private int managementPort;
+
+        @Test
+        void test() throws Exception {
+            // The filter is registered in the child context of management server
+            assertNull(context.getBeanProvider(EntityTagEndpointFilter.class).getIfAvailable());
+            assertConditionalRequest(managementPort);
+        }
+    }
+}
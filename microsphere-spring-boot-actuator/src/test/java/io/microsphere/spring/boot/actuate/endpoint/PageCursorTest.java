@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.endpoint;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import static io.microsphere.spring.boot.actuate.endpoint.PageCursor.decode;
+import static io.microsphere.spring.boot.actuate.endpoint.PageCursor.encode;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link PageCursor} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see PageCursor
+ * @since 1.0.0
+ */
+class PageCursorTest {
+
+    private static final String ENTITY_TAG = new EntityTagBuilder().append("test").build();
+
+    @Test
+    void testEncodeAndDecode() {
+        assertEquals(100, decode(encode(ENTITY_TAG, 100), ENTITY_TAG));
+        assertEquals(0, decode(encode(null, 0), null));
+    }
+
+    @Test
+    void testDecodeOnStaleCursor() {
+        String cursor = encode(ENTITY_TAG, 100);
+        assertThrows(InvalidEndpointRequestException.class, () -> decode(cursor, null));
+        assertThrows(InvalidEndpointRequestException.class, () -> decode(cursor, new EntityTagBuilder().build()));
+        assertThrows(InvalidEndpointRequestException.class, () -> decode(encode(ENTITY_TAG, -1), ENTITY_TAG));
+    }
+
+    @Test
+    void testDecodeOnMalformedCursor() {
+        assertThrows(InvalidEndpointRequestException.class, () -> decode("!", ENTITY_TAG));
+        assertThrows(InvalidEndpointRequestException.class, () -> decode("dGVzdA", ENTITY_TAG));
+        assertThrows(InvalidEndpointRequestException.class, () -> decode("eDoi", ENTITY_TAG));
+    }
+}
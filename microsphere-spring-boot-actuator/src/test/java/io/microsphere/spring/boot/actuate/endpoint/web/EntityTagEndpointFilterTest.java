@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.endpoint.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static io.microsphere.spring.boot.actuate.endpoint.web.TestEntityTagEndpoint.ENTITY_TAG;
+import static io.microsphere.spring.boot.actuate.endpoint.web.TestEntityTagEndpoint.PATH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * {@link EntityTagEndpointFilter} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see EntityTagEndpointFilter
+ * @since 1.0.0
+ */
+class EntityTagEndpointFilterTest {
+
+    private TestEntityTagEndpoint endpoint;
+
+    private EntityTagEndpointFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        this.endpoint = new TestEntityTagEndpoint();
+        this.filter = new EntityTagEndpointFilter(this.endpoint.createEntityTagProviders());
+    }
+
+    @Test
+    void testOnModified() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        this.filter.doFilter(new MockHttpServletRequest("GET", PATH), response, filterChain);
+        assertEquals(ENTITY_TAG, response.getHeader("ETag"));
+        assertEquals(200, response.getStatus());
+        assertNotNull(filterChain.getRequest());
+    }
+
+    @Test
+    void testOnNotModified() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.addHeader("If-None-Match", ENTITY_TAG);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        this.filter.doFilter(request, response, filterChain);
+        assertEquals(304, response.getStatus());
+        assertNull(filterChain.getRequest());
+    }
+
+    @Test
+    void testOnUnstableContent() throws Exception {
+        this.endpoint.setEntityTag(null);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.addHeader("If-None-Match", ENTITY_TAG);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        this.filter.doFilter(request, response, filterChain);
+        assertNull(response.getHeader("ETag"));
+        assertNotNull(filterChain.getRequest());
+    }
+
+    @Test
+    void testOnOtherPath() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        this.filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, filterChain);
+        assertNull(response.getHeader("ETag"));
+        assertNotNull(filterChain.getRequest());
+    }
+
+    @Test
+    void testOnOutOfBasePath() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        this.filter.doFilter(new MockHttpServletRequest("GET", "/test"), response, filterChain);
+        assertNull(response.getHeader("ETag"));
+        assertNotNull(filterChain.getRequest());
+    }
+
+    @Test
+    void testOnServletPath() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api" + PATH);
+        request.setServletPath("/api");
+        request.setPathInfo(PATH);
+        request.addHeader("If-None-Match", ENTITY_TAG);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        this.filter.doFilter(request, response, filterChain);
+        assertEquals(304, response.getStatus());
+        assertNull(filterChain.getRequest());
+    }
+
+    @Test
+    void testOnDefaultServletMapping() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.setServletPath(PATH);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        this.filter.doFilter(request, response, filterChain);
+        assertEquals(ENTITY_TAG, response.getHeader("ETag"));
+    }
+
+    @Test
+    void testOnNonReadMethod() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", PATH);
+        request.addHeader("If-None-Match", ENTITY_TAG);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        this.filter.doFilter(request, response, filterChain);
+        assertNull(response.getHeader("ETag"));
+        assertNotNull(filterChain.getRequest());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.endpoint.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.microsphere.spring.boot.actuate.endpoint.web.TestEntityTagEndpoint.ENTITY_TAG;
+import static io.microsphere.spring.boot.actuate.endpoint.web.TestEntityTagEndpoint.PATH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
+
+/**
+ * {@link ReactiveEntityTagEndpointFilter} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ReactiveEntityTagEndpointFilter
+ * @since 1.0.0
+ */
+class ReactiveEntityTagEndpointFilterTest {
+
+    private TestEntityTagEndpoint endpoint;
+
+    private ReactiveEntityTagEndpointFilter filter;
+
+    private AtomicBoolean invoked;
+
+    private WebFilterChain filterChain;
+
+    @BeforeEach
+    void setUp() {
+        this.endpoint = new TestEntityTagEndpoint();
+        this.filter = new ReactiveEntityTagEndpointFilter(this.endpoint.createEntityTagProviders());
+        this.invoked = new AtomicBoolean();
+        this.filterChain = exchange -> {
+            this.invoked.set(true);
+            return Mono.empty();
+        };
+    }
+
+    @Test
+    void testOnModified() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+        this.filter.filter(exchange, this.filterChain).block();
+        assertEquals(ENTITY_TAG, exchange.getResponse().getHeaders().getETag());
+        assertTrue(this.invoked.get());
+    }
+
+    @Test
+    void testOnNotModified() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH)
+                .header("If-None-Match", ENTITY_TAG));
+        this.filter.filter(exchange, this.filterChain).block();
+        assertEquals(NOT_MODIFIED, exchange.getResponse().getStatusCode());
+        assertFalse(this.invoked.get());
+    }
+
+    @Test
+    void testOnUnstableContent() {
+        this.endpoint.setEntityTag(null);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH)
+                .header("If-None-Match", ENTITY_TAG));
+        this.filter.filter(exchange, this.filterChain).block();
+        assertNull(exchange.getResponse().getHeaders().getETag());
+        assertTrue(this.invoked.get());
+    }
+
+    @Test
+    void testOnOtherPath() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/health"));
+        this.filter.filter(exchange, this.filterChain).block();
+        assertNull(exchange.getResponse().getHeaders().getETag());
+        assertTrue(this.invoked.get());
+    }
+}
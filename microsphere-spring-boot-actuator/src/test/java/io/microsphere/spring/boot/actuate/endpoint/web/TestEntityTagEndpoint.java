@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.endpoint.web;
+
+import io.microsphere.spring.boot.actuate.endpoint.EntityTagProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.actuate.endpoint.EndpointId;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.web.PathMappedEndpoints;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The {@link EntityTagProvider entity-tagged} {@link Endpoint @Endpoint} for testing
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see EntityTagProvider
+ * @since 1.0.0
+ */
+@Endpoint(id = "test")
+public class TestEntityTagEndpoint implements EntityTagProvider {
+
+    static final String BASE_PATH = "/actuator";
+
+    static final String PATH = BASE_PATH + "/test";
+
+    static final String ENTITY_TAG = "\"test\"";
+
+    private String entityTag = ENTITY_TAG;
+
+    @Override
+    public String getEntityTag() {
+        return entityTag;
+    }
+
+    void setEntityTag(String entityTag) {
+        this.entityTag = entityTag;
+    }
+
+    /**
+     * Creates {@link EntityTagProviders} with the mapped path of this endpoint
+     *
+     * @return {@link EntityTagProviders}
+     */
+    EntityTagProviders createEntityTagProviders() {
+        PathMappedEndpoints pathMappedEndpoints = mock(PathMappedEndpoints.class);
+        when(pathMappedEndpoints.getPath(EndpointId.of("test"))).thenReturn(PATH);
+        when(pathMappedEndpoints.getBasePath()).thenReturn(BASE_PATH);
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("pathMappedEndpoints", pathMappedEndpoints);
+        beanFactory.registerSingleton("testEntityTagEndpoint", this);
+        return new EntityTagProviders(beanFactory.getBeanProvider(PathMappedEndpoints.class),
+                beanFactory.getBeanProvider(EntityTagProvider.class));
+    }
+}
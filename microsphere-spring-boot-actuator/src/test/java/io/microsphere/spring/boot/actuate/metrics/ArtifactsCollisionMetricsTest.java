@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.microsphere.spring.boot.diagnostics.ArtifactsCollisionDiagnosis;
+import org.junit.jupiter.api.Test;
+
+import static io.microsphere.collection.MapUtils.ofMap;
+import static io.microsphere.collection.Sets.ofSet;
+import static io.microsphere.spring.boot.actuate.metrics.ArtifactsCollisionMetrics.ARTIFACTS_TYPE;
+import static io.microsphere.spring.boot.actuate.metrics.ArtifactsCollisionMetrics.DUPLICATE_CLASSES_TYPE;
+import static io.microsphere.spring.boot.actuate.metrics.ArtifactsCollisionMetrics.METER_NAME;
+import static io.microsphere.spring.boot.actuate.metrics.ArtifactsCollisionMetrics.SPLIT_PACKAGES_TYPE;
+import static io.microsphere.spring.boot.actuate.metrics.ArtifactsCollisionMetrics.TYPE_TAG_NAME;
+import static io.microsphere.spring.boot.diagnostics.TestArtifactsCollisionDiagnosis.completed;
+import static io.microsphere.spring.boot.diagnostics.TestArtifactsCollisionDiagnosis.pending;
+import static java.util.Collections.emptyMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ArtifactsCollisionMetrics} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ArtifactsCollisionMetrics
+ * @since 1.0.0
+ */
+class ArtifactsCollisionMetricsTest {
+
+    @Test
+    void testBindToOnPending() {
+        MeterRegistry registry = bind(pending());
+        assertTrue(Double.isNaN(value(registry, ARTIFACTS_TYPE)));
+        assertTrue(Double.isNaN(value(registry, DUPLICATE_CLASSES_TYPE)));
+        assertTrue(Double.isNaN(value(registry, SPLIT_PACKAGES_TYPE)));
+    }
+
+    @Test
+    void testBindToOnCompleted() {
+        MeterRegistry registry = bind(completed(ofSet("a:b", "c:d"), ofMap("com.acme.Foo", ofSet("a.jar", "b.jar")), emptyMap()));
+        assertEquals(2, value(registry, ARTIFACTS_TYPE));
+        assertEquals(1, value(registry, DUPLICATE_CLASSES_TYPE));
+        assertEquals(0, value(registry, SPLIT_PACKAGES_TYPE));
+    }
+
+    private MeterRegistry bind(ArtifactsCollisionDiagnosis diagnosis) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        new ArtifactsCollisionMetrics(diagnosis).bindTo(registry);
+        return registry;
+    }
+
+    private double value(MeterRegistry registry, String type) {
+        return registry.get(METER_NAME).tag(TYPE_TAG_NAME, type).gauge().value();
+    }
+}
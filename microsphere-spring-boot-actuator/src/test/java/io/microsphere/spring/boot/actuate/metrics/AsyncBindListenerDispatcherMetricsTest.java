@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.microsphere.spring.boot.context.properties.ListenableConfigurationPropertiesBindHandlerAdvisor;
+import io.microsphere.spring.boot.context.properties.bind.AsyncBindListenerDispatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CountDownLatch;
+
+import static io.microsphere.spring.boot.actuate.metrics.AsyncBindListenerDispatcherMetrics.DROPPED_METER_NAME;
+import static io.microsphere.spring.boot.actuate.metrics.AsyncBindListenerDispatcherMetrics.LAG_METER_NAME;
+import static io.microsphere.spring.boot.actuate.metrics.AsyncBindListenerDispatcherMetrics.QUEUE_CAPACITY_METER_NAME;
+import static io.microsphere.spring.boot.actuate.metrics.AsyncBindListenerDispatcherMetrics.QUEUE_DEPTH_METER_NAME;
+import static io.microsphere.spring.boot.constants.PropertyConstants.CONFIGURATION_PROPERTIES_ASYNC_BIND_LISTENER_QUEUE_CAPACITY_PROPERTY_NAME;
+import static io.microsphere.spring.boot.constants.PropertyConstants.CONFIGURATION_PROPERTIES_ASYNC_BIND_LISTENER_REJECTION_POLICY_PROPERTY_NAME;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link AsyncBindListenerDispatcherMetrics} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AsyncBindListenerDispatcherMetrics
+ * @since 1.0.0
+ */
+class AsyncBindListenerDispatcherMetricsTest {
+
+    private ListenableConfigurationPropertiesBindHandlerAdvisor advisor;
+
+    private MeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty(CONFIGURATION_PROPERTIES_ASYNC_BIND_LISTENER_QUEUE_CAPACITY_PROPERTY_NAME, "2");
+        environment.setProperty(CONFIGURATION_PROPERTIES_ASYNC_BIND_LISTENER_REJECTION_POLICY_PROPERTY_NAME, "DROP");
+        this.advisor = new ListenableConfigurationPropertiesBindHandlerAdvisor();
+        this.advisor.setEnvironment(environment);
+        this.registry = new SimpleMeterRegistry();
+        new AsyncBindListenerDispatcherMetrics(this.advisor).bindTo(this.registry);
+    }
+
+    @Test
+    void testBindToBeforeDispatcherCreated() {
+        assertEquals(0, this.registry.get(QUEUE_DEPTH_METER_NAME).gauge().value());
+        assertEquals(0, this.registry.get(QUEUE_CAPACITY_METER_NAME).gauge().value());
+        assertEquals(0, this.registry.get(LAG_METER_NAME).timeGauge().value(NANOSECONDS));
+        assertEquals(0, this.registry.get(DROPPED_METER_NAME).functionCounter().count());
+        // The dispatcher is not created by the metrics
+        assertNull(this.advisor.findAsyncBindListenerDispatcher());
+    }
+
+    @Test
+    void testBindTo() throws InterruptedException {
+        AsyncBindListenerDispatcher dispatcher = this.advisor.getAsyncBindListenerDispatcher();
+        assertSame(dispatcher, this.advisor.findAsyncBindListenerDispatcher());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        try {
+            dispatcher.dispatch("test", () -> {
+                started.countDown();
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            started.await();
+            dispatcher.dispatch("test", () -> {
+            });
+            // Dropped
+            dispatcher.dispatch("test", () -> {
+            });
+
+            assertEquals(2, this.registry.get(QUEUE_DEPTH_METER_NAME).gauge().value());
+            assertEquals(2, this.registry.get(QUEUE_CAPACITY_METER_NAME).gauge().value());
+            assertTrue(this.registry.get(LAG_METER_NAME).timeGauge().value(NANOSECONDS) >= 0);
+            assertEquals(1, this.registry.get(DROPPED_METER_NAME).functionCounter().count());
+        } finally {
+            released.countDown();
+            this.advisor.destroy();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.diagnostics;
+
+import java.util.Map;
+import java.util.Set;
+
+import static io.microsphere.spring.boot.diagnostics.DiagnosisMode.BACKGROUND;
+import static io.microsphere.spring.boot.diagnostics.DiagnosisMode.FAIL_FAST;
+
+/**
+ * The factory of {@link ArtifactsCollisionDiagnosis} for testing
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ArtifactsCollisionDiagnosis
+ * @since 1.0.0
+ */
+public abstract class TestArtifactsCollisionDiagnosis {
+
+    public static ArtifactsCollisionDiagnosis pending() {
+        ArtifactsCollisionDiagnosis diagnosis = new ArtifactsCollisionDiagnosis();
+        diagnosis.setArtifactsMode(BACKGROUND);
+        return diagnosis;
+    }
+
+    public static ArtifactsCollisionDiagnosis failed(Throwable failure) {
+        ArtifactsCollisionDiagnosis diagnosis = pending();
+        diagnosis.setFailure(failure);
+        return diagnosis;
+    }
+
+    public static ArtifactsCollisionDiagnosis completed(Set<String> artifacts, Map<String, Set<String>> duplicateClasses,
+                                                        Map<String, Set<String>> splitPackages) {
+        ArtifactsCollisionDiagnosis diagnosis = new ArtifactsCollisionDiagnosis();
+        diagnosis.setArtifactsMode(FAIL_FAST);
+        diagnosis.setClassesMode(BACKGROUND);
+        diagnosis.setArtifacts(artifacts);
+        diagnosis.setClassCollisionReport(new ClassCollisionReport(0, duplicateClasses, splitPackages));
+        return diagnosis;
+    }
+}
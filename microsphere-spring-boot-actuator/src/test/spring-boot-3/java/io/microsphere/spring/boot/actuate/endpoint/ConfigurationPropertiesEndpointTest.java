@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.endpoint;
+
+import io.microsphere.spring.boot.actuate.endpoint.ConfigurationPropertiesEndpoint.ConfigurationPropertiesDescriptor;
+import io.microsphere.spring.boot.context.properties.metadata.ConfigurationMetadataReader;
+import io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.OperationType;
+import org.springframework.boot.actuate.endpoint.invoke.OperationParameter;
+import org.springframework.boot.actuate.endpoint.invoke.reflect.OperationMethod;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ConfigurationPropertiesEndpoint} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationPropertiesEndpoint
+ * @since 1.0.0
+ */
+class ConfigurationPropertiesEndpointTest {
+
+    @Test
+    void testGetConfigurationProperties() {
+        ConfigurationMetadataRepository repository = new ConfigurationMetadataRepository(new ConfigurationMetadataReader());
+        repository.initialize();
+        ConfigurationPropertiesEndpoint endpoint = new ConfigurationPropertiesEndpoint(repository);
+
+        ConfigurationPropertiesDescriptor descriptor = endpoint.getConfigurationProperties();
+        assertTrue(descriptor.isReady());
+        assertTrue(descriptor.getTotalConfigurationProperties() > 1);
+
+        descriptor = endpoint.getConfigurationProperties(null, 1);
+        assertEquals(1, descriptor.getConfigurationProperties().size());
+        assertNotNull(descriptor.getNextCursor());
+    }
+
+    @Test
+    void testParametersAreOptional() throws Exception {
+        Method method = ConfigurationPropertiesEndpoint.class.getMethod("getConfigurationProperties", String.class,
+                Integer.class);
+        OperationMethod operationMethod = new OperationMethod(method, OperationType.READ);
+        for (OperationParameter parameter : operationMethod.getParameters()) {
+            assertFalse(parameter.isMandatory(), parameter.getName());
+        }
+    }
+}
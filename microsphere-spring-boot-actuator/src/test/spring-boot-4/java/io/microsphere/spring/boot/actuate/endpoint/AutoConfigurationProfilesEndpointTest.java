@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.endpoint;
+
+import io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.OperationType;
+import org.springframework.boot.actuate.endpoint.invoke.reflect.OperationMethod;
+
+import java.lang.reflect.Method;
+
+import static io.microsphere.collection.Lists.ofList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * {@link AutoConfigurationProfilesEndpoint} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AutoConfigurationProfilesEndpoint
+ * @since 1.0.0
+ */
+class AutoConfigurationProfilesEndpointTest {
+
+    @Test
+    void testGetProfiles() {
+        AutoConfigurationProfiler profiler = new AutoConfigurationProfiler();
+        profiler.addAutoConfigurationClasses(ofList("com.example.FooAutoConfiguration", "com.example.BarAutoConfiguration"));
+        profiler.recordImportFilter("com.example.FooAutoConfiguration", 10);
+        profiler.recordImportFilter("com.example.BarAutoConfiguration", 20);
+        AutoConfigurationProfilesEndpoint endpoint = new AutoConfigurationProfilesEndpoint(profiler, 1);
+        assertEquals(1, endpoint.getProfiles(null).getProfiles().size());
+        assertEquals(2, endpoint.getProfiles(5).getProfiles().size());
+    }
+
+    @Test
+    void testTopParameterIsOptional() throws Exception {
+        Method method = AutoConfigurationProfilesEndpoint.class.getMethod("getProfiles", Integer.class);
+        OperationMethod operationMethod = new OperationMethod(method, OperationType.READ);
+        assertFalse(operationMethod.getParameters().get(0).isMandatory());
+    }
+}
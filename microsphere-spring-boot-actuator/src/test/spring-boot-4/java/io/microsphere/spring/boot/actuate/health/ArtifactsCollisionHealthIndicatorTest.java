@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.actuate.health;
+
+import io.microsphere.spring.boot.diagnostics.ArtifactsCollisionDiagnosis;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.health.contributor.Health;
+
+import java.util.Map;
+
+import static io.microsphere.collection.MapUtils.ofMap;
+import static io.microsphere.collection.Sets.ofSet;
+import static io.microsphere.spring.boot.actuate.health.ArtifactsCollisionHealthIndicator.COLLISIONS_DETAIL_NAME;
+import static io.microsphere.spring.boot.diagnostics.TestArtifactsCollisionDiagnosis.completed;
+import static io.microsphere.spring.boot.diagnostics.TestArtifactsCollisionDiagnosis.failed;
+import static io.microsphere.spring.boot.diagnostics.TestArtifactsCollisionDiagnosis.pending;
+import static java.util.Collections.emptyMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.boot.health.contributor.Status.UNKNOWN;
+import static org.springframework.boot.health.contributor.Status.UP;
+
+/**
+ * {@link ArtifactsCollisionHealthIndicator} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ArtifactsCollisionHealthIndicator
+ * @since 1.0.0
+ */
+class ArtifactsCollisionHealthIndicatorTest {
+
+    @Test
+    void testHealthOnDisabled() {
+        Health health = health(new ArtifactsCollisionDiagnosis());
+        assertEquals(UP, health.getStatus());
+        assertFalse(health.getDetails().containsKey("artifacts"));
+    }
+
+    @Test
+    void testHealthOnPending() {
+        Health health = health(pending());
+        assertEquals(UNKNOWN, health.getStatus());
+        assertEquals("BACKGROUND", health.getDetails().get("artifactsMode").toString());
+    }
+
+    @Test
+    void testHealthOnFailed() {
+        Health health = health(failed(new RuntimeException("For testing")));
+        assertEquals(UNKNOWN, health.getStatus());
+        assertTrue(health.getDetails().get("error").toString().contains("For testing"));
+    }
+
+    @Test
+    void testHealthOnNoCollision() {
+        Health health = health(completed(ofSet(), emptyMap(), emptyMap()));
+        assertEquals(UP, health.getStatus());
+        assertEquals(false, health.getDetails().get(COLLISIONS_DETAIL_NAME));
+        assertEquals(0, health.getDetails().get("duplicateClasses"));
+        assertEquals(0, health.getDetails().get("splitPackages"));
+    }
+
+    @Test
+    void testHealthOnCollisions() {
+        Health health = health(completed(ofSet("a:b"), ofMap("com.acme.Foo", ofSet("a.jar", "b.jar")), emptyMap()));
+        // The collisions never turn the status DOWN
+        assertEquals(UP, health.getStatus());
+        Map<String, Object> details = health.getDetails();
+        assertEquals(true, details.get(COLLISIONS_DETAIL_NAME));
+        assertEquals(ofSet("a:b"), details.get("artifacts"));
+        assertEquals(1, details.get("duplicateClasses"));
+        assertEquals(ofSet("a.jar", "b.jar"), details.get("classesArtifacts"));
+    }
+
+    private Health health(ArtifactsCollisionDiagnosis diagnosis) {
+        return new ArtifactsCollisionHealthIndicator(diagnosis).health();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.benchmarks;
+
+import org.springframework.boot.context.properties.bind.BindContext;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationProperty;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * The fixed {@link BindContext} for benchmarks, which simulates the {@link BindContext} of the nested binding.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see BindContext
+ * @since 1.0.0
+ */
+public class BenchmarkBindContext implements BindContext {
+
+    private final int depth;
+
+    private final ConfigurationProperty configurationProperty;
+
+    public BenchmarkBindContext(int depth, ConfigurationProperty configurationProperty) {
+        this.depth = depth;
+        this.configurationProperty = configurationProperty;
+    }
+
+    @Override
+    public Binder getBinder() {
+        return null;
+    }
+
+    @Override
+    public int getDepth() {
+        return this.depth;
+    }
+
+    @Override
+    public Iterable<ConfigurationPropertySource> getSources() {
+        return emptyList();
+    }
+
+    @Override
+    public ConfigurationProperty getConfigurationProperty() {
+        return this.configurationProperty;
+    }
+}
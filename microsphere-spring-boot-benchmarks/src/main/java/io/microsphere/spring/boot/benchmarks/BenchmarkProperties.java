@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.benchmarks;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ConfigurationProperties @ConfigurationProperties} for benchmarks, which has the scalar, collection, map and
+ * nested properties, the nested ones are up to {@link #MAX_DEPTH 4} depth :
+ * <pre>
+ * ${prefix}.name
+ * ${prefix}.level1.name
+ * ${prefix}.level1.level2.name
+ * ${prefix}.level1.level2.level3.name
+ * </pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationProperties
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = BenchmarkProperties.PREFIX)
+public class BenchmarkProperties {
+
+    /**
+     * The default prefix
+     */
+    public static final String PREFIX = "bench";
+
+    /**
+     * The max depth of the nested properties
+     */
+    public static final int MAX_DEPTH = 4;
+
+    private String name;
+
+    private int port;
+
+    private List<String> tags = new ArrayList<>();
+
+    private Map<String, String> metadata = new LinkedHashMap<>();
+
+    private Level1 level1 = new Level1();
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public Map<String, String> getMetadata() {
+        return metadata;
+    }
+
+    public void setMetadata(Map<String, String> metadata) {
+        this.metadata = metadata;
+    }
+
+    public Level1 getLevel1() {
+        return level1;
+    }
+
+    public void setLevel1(Level1 level1) {
+        this.level1 = level1;
+    }
+
+    /**
+     * Get the name of the "name" property in the specified depth
+     *
+     * @param prefix the prefix
+     * @param depth  the depth starts with 1
+     * @return e.g, "bench.level1.level2.name" if depth is 3
+     */
+    public static String nameProperty(String prefix, int depth) {
+        StringBuilder propertyName = new StringBuilder(prefix);
+        for (int level = 1; level < depth; level++) {
+            propertyName.append(".level").append(level);
+        }
+        return propertyName.append(".name").toString();
+    }
+
+    /**
+     * Generate the properties of the bean with the specified prefix
+     *
+     * @param prefix the prefix
+     * @param depth  the depth of the nested properties
+     * @return the properties
+     */
+    public static Map<String, Object> generateProperties(String prefix, int depth) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put(prefix + ".port", 8080);
+        for (int i = 0; i < 3; i++) {
+            properties.put(prefix + ".tags[" + i + "]", "tag-" + i);
+            properties.put(prefix + ".metadata.key-" + i, "value-" + i);
+        }
+        for (int level = 1; level <= depth; level++) {
+            properties.put(nameProperty(prefix, level), "name-" + level);
+        }
+        return properties;
+    }
+
+    public static class Level1 {
+
+        private String name;
+
+        private Level2 level2 = new Level2();
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Level2 getLevel2() {
+            return level2;
+        }
+
+        public void setLevel2(Level2 level2) {
+            this.level2 = level2;
+        }
+    }
+
+    public static class Level2 {
+
+        private String name;
+
+        private Level3 level3 = new Level3();
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Level3 getLevel3() {
+            return level3;
+        }
+
+        public void setLevel3(Level3 level3) {
+            this.level3 = level3;
+        }
+    }
+
+    public static class Level3 {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
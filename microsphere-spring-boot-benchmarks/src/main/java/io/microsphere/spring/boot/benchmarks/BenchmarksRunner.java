@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The runner of all benchmarks, which reports the throughput and the allocation rate by the {@link GCProfiler}, the
+ * JMH command line options are supported :
+ * <pre>
+ * java -jar target/benchmarks.jar
+ * java -jar target/benchmarks.jar ConfigurationPropertiesBeanContextBenchmark -p propertyDepth=4
+ * </pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see GCProfiler
+ * @since 1.0.0
+ */
+public class BenchmarksRunner {
+
+    /**
+     * The regular expression of all benchmarks
+     */
+    public static final String BENCHMARKS_PATTERN = "io\\.microsphere\\.spring\\.boot\\..*Benchmark";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        OptionsBuilder optionsBuilder = new OptionsBuilder();
+        optionsBuilder.parent(commandLineOptions);
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            optionsBuilder.include(BENCHMARKS_PATTERN);
+        }
+        optionsBuilder.addProfiler(GCProfiler.class);
+        new Runner(optionsBuilder.build()).run();
+    }
+}
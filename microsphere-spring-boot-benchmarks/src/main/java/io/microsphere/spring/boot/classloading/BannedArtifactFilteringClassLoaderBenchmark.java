@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.classloading;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The benchmark of the per-call overhead of {@link BannedArtifactFilteringClassLoader#loadClass(String)} and
+ * {@link BannedArtifactFilteringClassLoader#getResource(String)} against the wrapped {@link ClassLoader}, including the
+ * cached lookup of the rejected class
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see BannedArtifactFilteringClassLoader
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BannedArtifactFilteringClassLoaderBenchmark {
+
+    /**
+     * The name of class whose class path entry is banned by {@link #rejectingClassLoader}
+     */
+    static final String REJECTED_CLASS_NAME = "org.springframework.boot.SpringApplication";
+
+    @Param({"org.springframework.boot.SpringApplication", "io.microsphere.spring.boot.classloading.ArtifactRegistry"})
+    private String className;
+
+    private ClassLoader classLoader;
+
+    private BannedArtifactFilteringClassLoader filteringClassLoader;
+
+    private BannedArtifactFilteringClassLoader rejectingClassLoader;
+
+    private String resourceName;
+
+    @Setup
+    public void setup() throws IOException {
+        this.classLoader = getClass().getClassLoader();
+        List<URL> classPathURLs = new ArrayList<>(ArtifactRegistry.get(this.classLoader).getClassPathURLs());
+        // The banned entry is absent from the class path, so that every lookup is checked but none is rejected
+        classPathURLs.add(new URL("file:/banned.jar"));
+        BitSet bannedIndexes = new BitSet();
+        bannedIndexes.set(classPathURLs.size() - 1);
+        this.filteringClassLoader = new BannedArtifactFilteringClassLoader(this.classLoader, classPathURLs, bannedIndexes);
+        this.rejectingClassLoader = newRejectingClassLoader(classPathURLs);
+        this.resourceName = this.className.replace('.', '/') + ".class";
+    }
+
+    private BannedArtifactFilteringClassLoader newRejectingClassLoader(List<URL> classPathURLs) throws IOException {
+        URL location;
+        try {
+            location = Class.forName(REJECTED_CLASS_NAME, false, this.classLoader).getProtectionDomain().getCodeSource().getLocation();
+        } catch (ClassNotFoundException e) {
+            throw new IOException(e);
+        }
+        BitSet bannedIndexes = new BitSet();
+        for (int i = 0; i < classPathURLs.size(); i++) {
+            if (classPathURLs.get(i).toString().equals(location.toString())) {
+                bannedIndexes.set(i);
+            }
+        }
+        if (bannedIndexes.isEmpty()) {
+            throw new IOException("The location of " + REJECTED_CLASS_NAME + " is absent from the class path : " + location);
+        }
+        return new BannedArtifactFilteringClassLoader(this.classLoader, classPathURLs, bannedIndexes);
+    }
+
+    @Benchmark
+    public Class<?> loadClass() throws ClassNotFoundException {
+        return this.classLoader.loadClass(this.className);
+    }
+
+    @Benchmark
+    public Class<?> loadClassOnFilteringClassLoader() throws ClassNotFoundException {
+        return this.filteringClassLoader.loadClass(this.className);
+    }
+
+    @Benchmark
+    public Object loadRejectedClassOnFilteringClassLoader() {
+        try {
+            return this.rejectingClassLoader.loadClass(REJECTED_CLASS_NAME);
+        } catch (ClassNotFoundException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public URL getResource() {
+        return this.classLoader.getResource(this.resourceName);
+    }
+
+    @Benchmark
+    public URL getResourceOnFilteringClassLoader() {
+        return this.filteringClassLoader.getResource(this.resourceName);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.bind;
+
+import io.microsphere.spring.boot.benchmarks.BenchmarkProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.source.ConfigurationProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.annotation.AnnotationAttributes;
+
+import java.util.Map;
+
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.collection.MapUtils.ofMap;
+import static io.microsphere.spring.boot.benchmarks.BenchmarkProperties.PREFIX;
+import static io.microsphere.spring.boot.benchmarks.BenchmarkProperties.nameProperty;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.springframework.boot.context.properties.source.ConfigurationPropertyName.of;
+import static org.springframework.core.ResolvableType.forClass;
+
+/**
+ * The benchmark of {@link ConfigurationPropertiesBeanContext#setProperty(ConfigurationProperty, Object)} for the
+ * scalar, collection, map and nested properties, the new value is changed per invocation, so the events are published.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationPropertiesBeanContext
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigurationPropertiesBeanContextBenchmark {
+
+    @Param({"1", "2", "4"})
+    private int propertyDepth;
+
+    private GenericApplicationContext context;
+
+    private ConfigurationPropertiesBeanContext beanContext;
+
+    private ConfigurationProperty[] scalarProperties;
+
+    private ConfigurationProperty[] collectionProperties;
+
+    private ConfigurationProperty[] mapProperties;
+
+    private ConfigurationProperty[] nestedProperties;
+
+    private int invocations;
+
+    @Setup
+    public void setup() {
+        this.context = new GenericApplicationContext();
+        this.context.refresh();
+        this.beanContext = newBeanContext(PREFIX, this.context);
+        this.beanContext.bindPropertyValues();
+        this.scalarProperties = newConfigurationProperties(PREFIX + ".port", 8080, 9090);
+        this.collectionProperties = newConfigurationProperties(PREFIX + ".tags", ofList("a", "b"), ofList("a", "c"));
+        this.mapProperties = newConfigurationProperties(PREFIX + ".metadata", ofMap("key", "a"), ofMap("key", "b"));
+        this.nestedProperties = newConfigurationProperties(nameProperty(PREFIX, this.propertyDepth), "a", "b");
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public void setScalarProperty() {
+        setProperty(this.scalarProperties);
+    }
+
+    @Benchmark
+    public void setCollectionProperty() {
+        setProperty(this.collectionProperties);
+    }
+
+    @Benchmark
+    public void setMapProperty() {
+        setProperty(this.mapProperties);
+    }
+
+    @Benchmark
+    public void setNestedProperty() {
+        setProperty(this.nestedProperties);
+    }
+
+    private void setProperty(ConfigurationProperty[] properties) {
+        ConfigurationProperty property = properties[this.invocations++ & 1];
+        this.beanContext.setProperty(property, property.getValue());
+    }
+
+    static ConfigurationProperty[] newConfigurationProperties(String name, Object value, Object otherValue) {
+        return new ConfigurationProperty[]{
+                new ConfigurationProperty(of(name), value, null),
+                new ConfigurationProperty(of(name), otherValue, null)
+        };
+    }
+
+    static ConfigurationPropertiesBeanContext newBeanContext(String prefix, ConfigurableApplicationContext context) {
+        AnnotationAttributes annotationAttributes = new AnnotationAttributes(ConfigurationProperties.class);
+        annotationAttributes.put("prefix", prefix);
+        annotationAttributes.put("value", prefix);
+        String beanName = prefix + "-" + BenchmarkProperties.class.getName();
+        ConfigurationPropertiesBeanContext beanContext = new ConfigurationPropertiesBeanContext(beanName,
+                forClass(BenchmarkProperties.class), annotationAttributes, context);
+        beanContext.initializeBean(new BenchmarkProperties());
+        return beanContext;
+    }
+}
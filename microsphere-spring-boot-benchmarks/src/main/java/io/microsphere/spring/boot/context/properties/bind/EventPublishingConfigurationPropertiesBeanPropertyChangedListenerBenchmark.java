@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.bind;
+
+import io.microsphere.spring.boot.benchmarks.BenchmarkBindContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.context.properties.bind.BindContext;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.source.ConfigurationProperty;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.microsphere.spring.boot.benchmarks.BenchmarkProperties.PREFIX;
+import static io.microsphere.spring.boot.benchmarks.BenchmarkProperties.nameProperty;
+import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanContextBenchmark.newBeanContext;
+import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanContextBenchmark.newConfigurationProperties;
+import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanContextIndex.build;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.springframework.util.ReflectionUtils.findField;
+import static org.springframework.util.ReflectionUtils.makeAccessible;
+import static org.springframework.util.ReflectionUtils.setField;
+
+/**
+ * The benchmark of {@link EventPublishingConfigurationPropertiesBeanPropertyChangedListener#onSuccess} routing the
+ * bound property to its {@link ConfigurationPropertiesBeanContext} among the beans.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see EventPublishingConfigurationPropertiesBeanPropertyChangedListener
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventPublishingConfigurationPropertiesBeanPropertyChangedListenerBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int beanCount;
+
+    @Param({"1", "2", "4"})
+    private int propertyDepth;
+
+    private GenericApplicationContext context;
+
+    private EventPublishingConfigurationPropertiesBeanPropertyChangedListener listener;
+
+    private ConfigurationPropertyName name;
+
+    private Bindable<String> target;
+
+    private BindContext[] bindContexts;
+
+    private int invocations;
+
+    @Setup
+    public void setup() {
+        this.context = new GenericApplicationContext();
+        this.context.refresh();
+
+        List<ConfigurationPropertiesBeanContext> beanContexts = new ArrayList<>(this.beanCount);
+        for (int i = 0; i < this.beanCount; i++) {
+            beanContexts.add(newBeanContext(PREFIX + ".bean-" + i, this.context));
+        }
+
+        this.listener = new EventPublishingConfigurationPropertiesBeanPropertyChangedListener();
+        this.listener.setApplicationContext(this.context);
+        // Set the bean contexts directly rather than scanning the bean definitions with the same prefix
+        Field field = findField(EventPublishingConfigurationPropertiesBeanPropertyChangedListener.class, "beanContexts");
+        makeAccessible(field);
+        setField(field, this.listener, build(beanContexts));
+        this.listener.afterSingletonsInstantiated();
+
+        // Route to the last bean
+        String prefix = PREFIX + ".bean-" + (this.beanCount - 1);
+        ConfigurationProperty[] properties = newConfigurationProperties(nameProperty(prefix, this.propertyDepth), "a", "b");
+        this.name = properties[0].getName();
+        this.target = Bindable.of(String.class);
+        int depth = this.name.getNumberOfElements() - ConfigurationPropertyName.of(prefix).getNumberOfElements();
+        this.bindContexts = new BindContext[]{
+                new BenchmarkBindContext(depth, properties[0]),
+                new BenchmarkBindContext(depth, properties[1])
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public ConfigurationPropertiesBeanContext findConfigurationPropertiesBeanContext() {
+        return this.listener.findConfigurationPropertiesBeanContext(this.name, this.bindContexts[0]);
+    }
+
+    @Benchmark
+    public void onSuccess() {
+        BindContext bindContext = this.bindContexts[this.invocations++ & 1];
+        this.listener.onSuccess(this.name, this.target, bindContext, bindContext.getConfigurationProperty().getValue());
+    }
+}
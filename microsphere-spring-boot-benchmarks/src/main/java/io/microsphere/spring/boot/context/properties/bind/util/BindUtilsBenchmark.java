@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.bind.util;
+
+import io.microsphere.spring.boot.benchmarks.BenchmarkProperties;
+import io.microsphere.spring.boot.context.properties.bind.BindListener;
+import io.microsphere.spring.boot.context.properties.bind.ListenableBindHandlerAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.context.properties.bind.BindContext;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.microsphere.spring.boot.benchmarks.BenchmarkProperties.PREFIX;
+import static io.microsphere.spring.boot.benchmarks.BenchmarkProperties.generateProperties;
+import static io.microsphere.spring.boot.context.properties.bind.util.BindUtils.bind;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The benchmark of {@link BindUtils#bind(Map, String, Class, BindListener...)}, which is compared with the binding
+ * without {@link ListenableBindHandlerAdapter}.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see BindUtils
+ * @see ListenableBindHandlerAdapter
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindUtilsBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int beanCount;
+
+    @Param({"1", "2", "4"})
+    private int propertyDepth;
+
+    private Map<String, Object> properties;
+
+    private String[] prefixes;
+
+    private BindListener bindListener;
+
+    @Setup
+    public void setup() {
+        this.properties = new LinkedHashMap<>();
+        this.prefixes = new String[this.beanCount];
+        for (int i = 0; i < this.beanCount; i++) {
+            String prefix = PREFIX + ".bean-" + i;
+            this.prefixes[i] = prefix;
+            this.properties.putAll(generateProperties(prefix, this.propertyDepth));
+        }
+        this.bindListener = new BindListener() {
+
+            @Override
+            public void onSuccess(ConfigurationPropertyName name, Bindable<?> target, BindContext context, Object result) {
+                // The callback is invoked, but do nothing
+            }
+        };
+    }
+
+    @Benchmark
+    public void bindWithoutListenableBindHandlerAdapter(Blackhole blackhole) {
+        for (String prefix : this.prefixes) {
+            // The Binder is created per binding as same as BindUtils
+            Binder binder = new Binder(new MapConfigurationPropertySource(this.properties));
+            blackhole.consume(binder.bind(prefix, Bindable.of(BenchmarkProperties.class)).orElse(null));
+        }
+    }
+
+    @Benchmark
+    public void bindWithListenableBindHandlerAdapter(Blackhole blackhole) {
+        for (String prefix : this.prefixes) {
+            blackhole.consume(bind(this.properties, prefix, BenchmarkProperties.class, this.bindListener));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.source.util;
+
+import io.microsphere.spring.boot.benchmarks.BenchmarkBindContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.context.properties.bind.BindContext;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+
+import static io.microsphere.spring.boot.benchmarks.BenchmarkProperties.PREFIX;
+import static io.microsphere.spring.boot.benchmarks.BenchmarkProperties.nameProperty;
+import static io.microsphere.spring.boot.context.properties.source.util.ConfigurationPropertyUtils.getPrefix;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.springframework.boot.context.properties.source.ConfigurationPropertyName.of;
+
+/**
+ * The benchmark of {@link ConfigurationPropertyUtils#getPrefix(ConfigurationPropertyName, BindContext)}
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationPropertyUtils
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigurationPropertyUtilsBenchmark {
+
+    @Param({"1", "2", "4"})
+    private int propertyDepth;
+
+    private ConfigurationPropertyName name;
+
+    private BindContext bindContext;
+
+    private ConfigurationPropertyName indexedName;
+
+    private BindContext indexedBindContext;
+
+    @Setup
+    public void setup() {
+        ConfigurationPropertyName prefix = of(PREFIX);
+        this.name = of(nameProperty(PREFIX, this.propertyDepth));
+        this.bindContext = new BenchmarkBindContext(this.name.getNumberOfElements() - prefix.getNumberOfElements(), null);
+        this.indexedName = of(PREFIX + ".tags[0]");
+        this.indexedBindContext = new BenchmarkBindContext(this.indexedName.getNumberOfElements() - prefix.getNumberOfElements(), null);
+    }
+
+    @Benchmark
+    public String getPrefixOnName() {
+        return getPrefix(this.name, this.bindContext);
+    }
+
+    @Benchmark
+    public String getPrefixOnIndexedName() {
+        return getPrefix(this.indexedName, this.indexedBindContext);
+    }
+}
@@ -0,0 +1,475 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.logging.Logger;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URL;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import static io.microsphere.collection.MapUtils.newHashMap;
+import static io.microsphere.collection.MapUtils.newLinkedHashMap;
+import static io.microsphere.collection.SetUtils.newLinkedHashSet;
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static java.lang.Long.toHexString;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
+import static org.springframework.util.ClassUtils.getDefaultClassLoader;
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * The index of the excluded auto-configuration classes, which supports the exact class names and the compact patterns :
+ * <ul>
+ *     <li><code>com.example.FooAutoConfiguration</code> : the exact class name</li>
+ *     <li><code>com.example.*</code> : all classes in the package "com.example", excluding its sub-packages</li>
+ *     <li><code>com.example.**</code> : all classes in the package "com.example" and its sub-packages</li>
+ *     <li><code>com.example.Foo*</code> : the classes in the package "com.example" whose simple names start with "Foo"</li>
+ * </ul>
+ * The exact class names are matched by hash, and the patterns are matched by the prefix trie of the package segments,
+ * thus the cost of matching doesn't grow with the number of patterns.
+ * <p>
+ * The patterns can be precomputed into the {@link #INDEX_RESOURCE_NAME index resource} on build by
+ * {@link AutoConfigurationExclusionIndexGenerator}, which are {@link #loadPatterns(ClassLoader) loaded} once per
+ * {@link ClassLoader}. The index records the {@link #loadIndexedResourceNames(ClassLoader) application config files}
+ * whose exclusions were collected with their CRC32 checksums, only the index of the application itself is loaded, and
+ * it's ignored unless all recorded files in the class path are unchanged.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   AutoConfigurationExclusionIndex index = AutoConfigurationExclusionIndex.of(
+ *       Arrays.asList("org.springframework.boot.autoconfigure.jdbc.*", "com.example.FooAutoConfiguration"));
+ *   index.isExcluded("org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration"); // true
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurableAutoConfigurationImportFilter
+ * @see AutoConfigurationExclusionIndexGenerator
+ * @since 1.0.0
+ */
+public class AutoConfigurationExclusionIndex {
+
+    private static final Logger logger = getLogger(AutoConfigurationExclusionIndex.class);
+
+    /**
+     * The name of index resource, whose lines are the patterns or the {@link #SOURCE_PREFIX sources}, the blank lines
+     * and the lines starting with '#' are ignored.
+     */
+    public static final String INDEX_RESOURCE_NAME = "META-INF/microsphere/autoconfigure-exclusions.index";
+
+    /**
+     * The prefix of the line recording the application config file in the class path whose exclusions were collected,
+     * e.g, "@source application.properties 1c291ca3", the resource name is followed by its CRC32 checksum in hex.
+     */
+    public static final String SOURCE_PREFIX = "@source ";
+
+    /**
+     * The wildcard matches any characters in one segment
+     */
+    public static final String WILDCARD = "*";
+
+    /**
+     * The wildcard matches all sub-packages
+     */
+    public static final String DEEP_WILDCARD = "**";
+
+    private static final String COMMENT_PREFIX = "#";
+
+    private static final char SEGMENT_SEPARATOR = '.';
+
+    /**
+     * The cache of the loaded index which key is {@link ClassLoader}
+     */
+    private static final Map<ClassLoader, IndexContent> indexContentsCache = new ConcurrentReferenceHashMap<>();
+
+    /**
+     * The empty index
+     */
+    public static final AutoConfigurationExclusionIndex EMPTY = new AutoConfigurationExclusionIndex();
+
+    private final Set<String> patterns;
+
+    private final Set<String> classNames;
+
+    private final Node root;
+
+    private final boolean hasWildcards;
+
+    private AutoConfigurationExclusionIndex() {
+        this.patterns = emptySet();
+        this.classNames = emptySet();
+        this.root = new Node();
+        this.hasWildcards = false;
+    }
+
+    private AutoConfigurationExclusionIndex(Set<String> patterns) {
+        Set<String> classNames = new HashSet<>(patterns.size());
+        Node root = new Node();
+        boolean hasWildcards = false;
+        for (String pattern : patterns) {
+            if (isPattern(pattern)) {
+                root.add(pattern);
+                hasWildcards = true;
+            } else {
+                classNames.add(pattern);
+            }
+        }
+        this.patterns = unmodifiableSet(patterns);
+        this.classNames = classNames;
+        this.root = root;
+        this.hasWildcards = hasWildcards;
+    }
+
+    /**
+     * Is the specified class excluded or not
+     *
+     * @param className the class name
+     * @return <code>true</code> if matched by any class name or pattern
+     */
+    public boolean isExcluded(@Nullable String className) {
+        if (!hasText(className)) {
+            return false;
+        }
+        if (this.classNames.contains(className)) {
+            return true;
+        }
+        return this.hasWildcards && this.root.matches(className);
+    }
+
+    /**
+     * Get the class names and patterns
+     *
+     * @return the read-only {@link Set}
+     */
+    @Nonnull
+    public Set<String> getPatterns() {
+        return this.patterns;
+    }
+
+    /**
+     * Is empty or not
+     *
+     * @return <code>true</code> if no class name or pattern
+     */
+    public boolean isEmpty() {
+        return this.patterns.isEmpty();
+    }
+
+    /**
+     * Create an instance of {@link AutoConfigurationExclusionIndex}
+     *
+     * @param patterns the class names and patterns, the blank ones are ignored
+     * @return non-null
+     */
+    @Nonnull
+    public static AutoConfigurationExclusionIndex of(Iterable<String> patterns) {
+        Set<String> allPatterns = newLinkedHashSet();
+        for (String pattern : patterns) {
+            if (hasText(pattern)) {
+                allPatterns.add(pattern.trim());
+            }
+        }
+        return allPatterns.isEmpty() ? EMPTY : new AutoConfigurationExclusionIndex(allPatterns);
+    }
+
+    /**
+     * Is the specified value the pattern with the wildcard or not
+     *
+     * @param value the class name or pattern
+     * @return <code>true</code> if it ends with the {@link #WILDCARD wildcard}
+     */
+    public static boolean isPattern(String value) {
+        return value.endsWith(WILDCARD);
+    }
+
+    /**
+     * Load the patterns from the {@link #INDEX_RESOURCE_NAME index resource} of the application in the
+     * {@link ClassLoader}, which are cached per {@link ClassLoader}.
+     *
+     * @param classLoader the {@link ClassLoader}, the default one is used if <code>null</code>
+     * @return the read-only {@link Set} of patterns, empty if the index is absent or stale
+     * @see #loadIndexedResourceNames(ClassLoader)
+     */
+    @Nonnull
+    public static Set<String> loadPatterns(@Nullable ClassLoader classLoader) {
+        return loadIndexContent(classLoader).patterns;
+    }
+
+    /**
+     * Load the names of the application config files in the class path whose exclusions are covered by the
+     * {@link #INDEX_RESOURCE_NAME index resource} of the application, e.g, "application.properties", thus their
+     * property sources need not be resolved again.
+     *
+     * @param classLoader the {@link ClassLoader}, the default one is used if <code>null</code>
+     * @return the read-only {@link Set} of resource names, empty if the index is absent or stale
+     */
+    @Nonnull
+    public static Set<String> loadIndexedResourceNames(@Nullable ClassLoader classLoader) {
+        return loadIndexContent(classLoader).resourceNames;
+    }
+
+    static IndexContent loadIndexContent(@Nullable ClassLoader classLoader) {
+        ClassLoader actualClassLoader = classLoader == null ? getDefaultClassLoader() : classLoader;
+        return indexContentsCache.computeIfAbsent(actualClassLoader, AutoConfigurationExclusionIndex::doLoadIndexContent);
+    }
+
+    static IndexContent doLoadIndexContent(ClassLoader classLoader) {
+        // Only the index of the application itself is loaded, which precedes the ones of the dependencies in the class
+        // path, the indexes of the dependencies never stand in for the config files of the application
+        URL resource = classLoader.getResource(INDEX_RESOURCE_NAME);
+        if (resource == null) {
+            return IndexContent.EMPTY;
+        }
+        Set<String> patterns = newLinkedHashSet();
+        Map<String, String> sources = newLinkedHashMap();
+        try (InputStream inputStream = resource.openStream()) {
+            readIndex(inputStream, patterns, sources);
+        } catch (IOException e) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("The auto-configuration exclusion index '{}' can't be loaded", resource, e);
+            }
+            return IndexContent.EMPTY;
+        }
+        if (sources.isEmpty()) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("The auto-configuration exclusion index '{}' is ignored, no source was recorded", resource);
+            }
+            return IndexContent.EMPTY;
+        }
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            String resourceName = source.getKey();
+            if (!source.getValue().equals(checksum(classLoader, resourceName))) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("The auto-configuration exclusion index '{}' is ignored, the source '{}' was changed or absent",
+                            resource, resourceName);
+                }
+                return IndexContent.EMPTY;
+            }
+        }
+        if (logger.isTraceEnabled()) {
+            logger.trace("The auto-configuration exclusion index was loaded from '{}' , sources : {}", resource, sources);
+        }
+        return new IndexContent(patterns, sources.keySet());
+    }
+
+    static void readPatterns(InputStream inputStream, Set<String> patterns) throws IOException {
+        readIndex(inputStream, patterns, newHashMap());
+    }
+
+    static void readIndex(InputStream inputStream, Set<String> patterns, Map<String, String> sources) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String pattern = line.trim();
+            if (pattern.startsWith(SOURCE_PREFIX)) {
+                String source = pattern.substring(SOURCE_PREFIX.length()).trim();
+                int index = source.lastIndexOf(' ');
+                if (index > 0) {
+                    sources.put(source.substring(0, index).trim(), source.substring(index + 1));
+                }
+            } else if (!pattern.isEmpty() && !pattern.startsWith(COMMENT_PREFIX)) {
+                patterns.add(pattern);
+            }
+        }
+    }
+
+    /**
+     * Write the patterns in the format of {@link #INDEX_RESOURCE_NAME index resource}
+     *
+     * @param patterns the class names and patterns
+     * @param writer   {@link Writer}
+     * @throws IOException If I/O error occurs
+     */
+    public static void writePatterns(Iterable<String> patterns, Writer writer) throws IOException {
+        writeIndex(emptyMap(), patterns, writer);
+    }
+
+    /**
+     * Write the sources and the patterns in the format of {@link #INDEX_RESOURCE_NAME index resource}
+     *
+     * @param sources  the checksums of the application config files whose exclusions were collected, which key is the
+     *                 resource name in the class path
+     * @param patterns the class names and patterns
+     * @param writer   {@link Writer}
+     * @throws IOException If I/O error occurs
+     */
+    public static void writeIndex(Map<String, String> sources, Iterable<String> patterns, Writer writer) throws IOException {
+        writer.write(COMMENT_PREFIX + " Generated by " + AutoConfigurationExclusionIndexGenerator.class.getName() + "\n");
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            writer.write(SOURCE_PREFIX + source.getKey() + ' ' + source.getValue() + '\n');
+        }
+        for (String pattern : patterns) {
+            writer.write(pattern);
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    /**
+     * Compute the CRC32 checksum of the content in hex
+     *
+     * @param inputStream {@link InputStream}
+     * @return non-null
+     * @throws IOException If I/O error occurs
+     */
+    @Nonnull
+    public static String checksum(InputStream inputStream) throws IOException {
+        CRC32 crc32 = new CRC32();
+        byte[] buffer = new byte[4096];
+        int length;
+        while ((length = inputStream.read(buffer)) != -1) {
+            crc32.update(buffer, 0, length);
+        }
+        return toHexString(crc32.getValue());
+    }
+
+    @Nullable
+    static String checksum(ClassLoader classLoader, String resourceName) {
+        URL resource = classLoader.getResource(resourceName);
+        if (resource == null) {
+            return null;
+        }
+        try (InputStream inputStream = resource.openStream()) {
+            return checksum(inputStream);
+        } catch (IOException e) {
+            if (logger.isTraceEnabled()) {
+                logger.trace("The checksum of resource '{}' can't be computed", resource, e);
+            }
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AutoConfigurationExclusionIndex{patterns=" + this.patterns + '}';
+    }
+
+    /**
+     * The patterns and the names of the recorded sources of the loaded index
+     */
+    static class IndexContent {
+
+        static final IndexContent EMPTY = new IndexContent(emptySet(), emptySet());
+
+        final Set<String> patterns;
+
+        final Set<String> resourceNames;
+
+        IndexContent(Set<String> patterns, Set<String> resourceNames) {
+            this.patterns = patterns.isEmpty() ? emptySet() : unmodifiableSet(patterns);
+            this.resourceNames = resourceNames.isEmpty() ? emptySet() : unmodifiableSet(resourceNames);
+        }
+    }
+
+    /**
+     * The node of the trie whose key is the package segment
+     */
+    private static class Node {
+
+        private Map<String, Node> children;
+
+        /**
+         * The prefixes of the simple class names in this package, "" means all classes
+         */
+        private Set<String> simpleNamePrefixes;
+
+        /**
+         * Whether all classes in this package and its sub-packages are matched
+         */
+        private boolean deep;
+
+        void add(String pattern) {
+            Node node = this;
+            int start = 0;
+            int index;
+            while ((index = pattern.indexOf(SEGMENT_SEPARATOR, start)) != -1) {
+                String segment = pattern.substring(start, index);
+                node = node.getOrCreateChild(segment);
+                start = index + 1;
+            }
+            String lastSegment = pattern.substring(start);
+            if (DEEP_WILDCARD.equals(lastSegment)) {
+                node.deep = true;
+            } else {
+                node.addSimpleNamePrefix(lastSegment.substring(0, lastSegment.length() - WILDCARD.length()));
+            }
+        }
+
+        boolean matches(String className) {
+            Node node = this;
+            int start = 0;
+            int index;
+            while (node != null) {
+                if (node.deep) {
+                    return true;
+                }
+                index = className.indexOf(SEGMENT_SEPARATOR, start);
+                if (index == -1) { // The simple name of class
+                    return node.matchesSimpleName(className, start);
+                }
+                node = node.getChild(className.substring(start, index));
+                start = index + 1;
+            }
+            return false;
+        }
+
+        private boolean matchesSimpleName(String className, int start) {
+            Set<String> simpleNamePrefixes = this.simpleNamePrefixes;
+            if (simpleNamePrefixes == null) {
+                return false;
+            }
+            for (String simpleNamePrefix : simpleNamePrefixes) {
+                if (className.startsWith(simpleNamePrefix, start)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void addSimpleNamePrefix(String simpleNamePrefix) {
+            if (this.simpleNamePrefixes == null) {
+                this.simpleNamePrefixes = newLinkedHashSet();
+            }
+            this.simpleNamePrefixes.add(simpleNamePrefix);
+        }
+
+        @Nullable
+        private Node getChild(String segment) {
+            Map<String, Node> children = this.children;
+            return children == null ? null : children.get(segment);
+        }
+
+        private Node getOrCreateChild(String segment) {
+            if (this.children == null) {
+                this.children = newHashMap();
+            }
+            return this.children.computeIfAbsent(segment, s -> new Node());
+        }
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure;
+
+import io.microsphere.logging.Logger;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static io.microsphere.collection.MapUtils.newLinkedHashMap;
+import static io.microsphere.collection.SetUtils.newLinkedHashSet;
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.INDEX_RESOURCE_NAME;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.checksum;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.writeIndex;
+import static io.microsphere.spring.boot.autoconfigure.ConfigurableAutoConfigurationImportFilter.AUTO_CONFIGURE_EXCLUDE_PROPERTY_NAME;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.core.io.support.PropertiesLoaderUtils.loadProperties;
+import static org.springframework.util.StringUtils.commaDelimitedListToSet;
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * The build-time generator of {@link AutoConfigurationExclusionIndex#INDEX_RESOURCE_NAME the auto-configuration
+ * exclusion index}, which collects the values of "microsphere.autoconfigure.exclude" from the properties or YAML files,
+ * and records each collected file by its resource name in the class path and its checksum, thus only the property
+ * sources of the recorded files are skipped at runtime. The files are left to be resolved at runtime as a whole if
+ * their exclusions can't be precomputed :
+ * <ul>
+ *     <li>the profile-specific files, e.g, "application-dev.properties", which are loaded only if the profile is active</li>
+ *     <li>the files with the values of placeholders, which can only be resolved by the {@link org.springframework.core.env.Environment}</li>
+ *     <li>the files with the activated documents, e.g, "spring.config.activate.on-profile"</li>
+ * </ul>
+ * The resource name is the path relative to the output directory if the file is inside, or the file name otherwise,
+ * thus the processed files in the output directory are recommended.
+ *
+ * <h3>Example Usage</h3>
+ * The generator runs after the resources are processed by the "exec-maven-plugin" :
+ * <pre>{@code
+ * <plugin>
+ *     <groupId>org.codehaus.mojo</groupId>
+ *     <artifactId>exec-maven-plugin</artifactId>
+ *     <executions>
+ *         <execution>
+ *             <phase>process-classes</phase>
+ *             <goals>
+ *                 <goal>java</goal>
+ *             </goals>
+ *             <configuration>
+ *                 <mainClass>io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndexGenerator</mainClass>
+ *                 <arguments>
+ *                     <argument>${project.build.outputDirectory}</argument>
+ *                     <argument>${project.build.outputDirectory}/application.properties</argument>
+ *                 </arguments>
+ *             </configuration>
+ *         </execution>
+ *     </executions>
+ * </plugin>
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AutoConfigurationExclusionIndex
+ * @see ConfigurableAutoConfigurationImportFilter
+ * @since 1.0.0
+ */
+public class AutoConfigurationExclusionIndexGenerator {
+
+    private static final Logger logger = getLogger(AutoConfigurationExclusionIndexGenerator.class);
+
+    private static final String PLACEHOLDER_PREFIX = "${";
+
+    private static final String ACTIVATE_PROPERTY_NAME_PREFIX = "spring.config.activate.";
+
+    private static final String LEGACY_PROFILES_PROPERTY_NAME = "spring.profiles";
+
+    /**
+     * Generate the index
+     *
+     * @param args the first one is the output directory, the others are the properties or YAML files
+     * @throws IOException If I/O error occurs
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage : AutoConfigurationExclusionIndexGenerator <output directory> <properties or YAML file>...");
+        }
+        File outputDirectory = new File(args[0]);
+        File[] sourceFiles = new File[args.length - 1];
+        for (int i = 1; i < args.length; i++) {
+            sourceFiles[i - 1] = new File(args[i]);
+        }
+        generate(outputDirectory, sourceFiles);
+    }
+
+    /**
+     * Generate the index into the output directory
+     *
+     * @param outputDirectory the output directory, e.g, "target/classes"
+     * @param sourceFiles     the properties or YAML files, the absent ones are ignored
+     * @return the file of index
+     * @throws IOException If I/O error occurs
+     */
+    public static File generate(File outputDirectory, File... sourceFiles) throws IOException {
+        Map<String, String> sources = newLinkedHashMap();
+        Set<String> patterns = newLinkedHashSet();
+        for (File sourceFile : sourceFiles) {
+            if (!sourceFile.isFile()) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("The source file '{}' is absent", sourceFile);
+                }
+                continue;
+            }
+            if (isProfileSpecific(sourceFile)) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("The profile-specific source file '{}' is skipped , it will be resolved at runtime", sourceFile);
+                }
+                continue;
+            }
+            Properties properties = loadSourceProperties(sourceFile);
+            if (hasActivation(properties)) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("The source file '{}' with the activated documents is skipped , it will be resolved at runtime", sourceFile);
+                }
+                continue;
+            }
+            Set<String> sourcePatterns = newLinkedHashSet();
+            if (!collectPatterns(properties, sourcePatterns)) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("The source file '{}' with the placeholders is skipped , it will be resolved at runtime", sourceFile);
+                }
+                continue;
+            }
+            try (InputStream inputStream = Files.newInputStream(sourceFile.toPath())) {
+                sources.put(getResourceName(outputDirectory, sourceFile), checksum(inputStream));
+            }
+            patterns.addAll(sourcePatterns);
+        }
+        Path indexPath = outputDirectory.toPath().resolve(INDEX_RESOURCE_NAME);
+        Files.createDirectories(indexPath.getParent());
+        try (Writer writer = Files.newBufferedWriter(indexPath, UTF_8)) {
+            writeIndex(sources, patterns, writer);
+        }
+        if (logger.isInfoEnabled()) {
+            logger.info("The auto-configuration exclusion index '{}' was generated with {} patterns from the sources : {}",
+                    indexPath, patterns.size(), sources.keySet());
+        }
+        return indexPath.toFile();
+    }
+
+    /**
+     * Get the resource name of the source file in the class path
+     *
+     * @param outputDirectory the output directory
+     * @param sourceFile      the source file
+     * @return the path relative to the output directory if the file is inside, or the file name otherwise
+     */
+    static String getResourceName(File outputDirectory, File sourceFile) {
+        Path outputPath = outputDirectory.toPath().toAbsolutePath().normalize();
+        Path sourcePath = sourceFile.toPath().toAbsolutePath().normalize();
+        if (sourcePath.startsWith(outputPath)) {
+            return outputPath.relativize(sourcePath).toString().replace(File.separatorChar, '/');
+        }
+        return sourceFile.getName();
+    }
+
+    /**
+     * Is the source file profile-specific or not, e.g, "application-dev.properties"
+     *
+     * @param sourceFile the source file
+     * @return <code>true</code> if the base name of file contains '-'
+     */
+    static boolean isProfileSpecific(File sourceFile) {
+        String fileName = sourceFile.getName();
+        int index = fileName.lastIndexOf('.');
+        String baseName = index == -1 ? fileName : fileName.substring(0, index);
+        return baseName.indexOf('-') != -1;
+    }
+
+    /**
+     * Has the properties any document activated conditionally or not, the documents are flattened when loaded
+     *
+     * @param properties the properties of the source file
+     * @return <code>true</code> if any property of activation is present
+     */
+    static boolean hasActivation(Properties properties) {
+        for (String propertyName : properties.stringPropertyNames()) {
+            if (propertyName.startsWith(ACTIVATE_PROPERTY_NAME_PREFIX) || LEGACY_PROFILES_PROPERTY_NAME.equals(propertyName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static Properties loadSourceProperties(File sourceFile) throws IOException {
+        FileSystemResource resource = new FileSystemResource(sourceFile);
+        String fileName = sourceFile.getName();
+        if (fileName.endsWith(".yml") || fileName.endsWith(".yaml")) {
+            YamlPropertiesFactoryBean factoryBean = new YamlPropertiesFactoryBean();
+            factoryBean.setResources(resource);
+            return factoryBean.getObject();
+        }
+        return loadProperties(resource);
+    }
+
+    /**
+     * Collect the patterns from the properties
+     *
+     * @param properties the properties of the source file
+     * @param patterns   the collected patterns
+     * @return <code>false</code> if any pattern with the placeholder was skipped
+     */
+    static boolean collectPatterns(Properties properties, Set<String> patterns) {
+        boolean completed = true;
+        // The sorted names keep the index reproducible
+        for (String propertyName : new TreeSet<>(properties.stringPropertyNames())) {
+            if (isExcludePropertyName(propertyName)) {
+                String value = properties.getProperty(propertyName);
+                for (String pattern : commaDelimitedListToSet(value)) {
+                    pattern = pattern.trim();
+                    if (!hasText(pattern)) {
+                        continue;
+                    }
+                    if (pattern.contains(PLACEHOLDER_PREFIX)) {
+                        if (logger.isTraceEnabled()) {
+                            logger.trace("The pattern '{}' with the placeholder can't be precomputed", pattern);
+                        }
+                        completed = false;
+                        continue;
+                    }
+                    patterns.add(pattern);
+                }
+            }
+        }
+        return completed;
+    }
+
+    static boolean isExcludePropertyName(String propertyName) {
+        if (!propertyName.startsWith(AUTO_CONFIGURE_EXCLUDE_PROPERTY_NAME)) {
+            return false;
+        }
+        int length = AUTO_CONFIGURE_EXCLUDE_PROPERTY_NAME.length();
+        // "microsphere.autoconfigure.exclude" or "microsphere.autoconfigure.exclude[n]"
+        return propertyName.length() == length || (propertyName.charAt(length) == '[' && propertyName.endsWith("]"));
+    }
+
+    private AutoConfigurationExclusionIndexGenerator() {
+    }
+}
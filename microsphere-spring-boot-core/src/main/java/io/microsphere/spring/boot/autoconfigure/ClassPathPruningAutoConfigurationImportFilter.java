@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure;
+
+import io.microsphere.annotation.ConfigurationProperty;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.logging.Logger;
+import io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationImportFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationMetadata;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.core.env.Environment;
+
+import java.io.File;
+
+import static io.microsphere.annotation.ConfigurationProperty.APPLICATION_SOURCE;
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.spring.boot.autoconfigure.ClassPresenceIndex.BEAN_NAME;
+import static io.microsphere.spring.boot.autoconfigure.ClassPresenceIndex.get;
+import static io.microsphere.spring.boot.autoconfigure.ClassPresenceIndex.load;
+import static java.lang.System.nanoTime;
+import static java.util.Arrays.fill;
+import static org.springframework.util.ClassUtils.getDefaultClassLoader;
+import static org.springframework.util.StringUtils.commaDelimitedListToSet;
+
+/**
+ * The {@link AutoConfigurationImportFilter} prunes the auto-configuration classes whose required classes are absent,
+ * the candidates whose "ConditionalOnClass" classes in {@link AutoConfigurationMetadata} are absent are rejected by
+ * the {@link ClassPresenceIndex}, before {@code OnClassCondition} loads them. As a {@link PriorityOrdered} filter,
+ * this one always runs before the filters of Spring Boot, and it matches all candidates without any probe if disabled,
+ * thus the order of other filters is never changed.
+ * <p>
+ * The {@link ClassPresenceIndex} is loaded once and shared by the filters in the same {@link BeanFactory}, and it's
+ * stored by {@link ClassPresenceIndexStoreListener} when the application is ready. The presence of class is probed by
+ * its resource rather than {@link Class#forName(String, boolean, ClassLoader) loading} like {@code OnClassCondition},
+ * thus only the candidates whose required class resources are absent are pruned, and the rest are still decided by
+ * {@code OnClassCondition}.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * microsphere.autoconfigure.classpath-pruning.enabled=true
+ * # optional, the directory of the persisted class presence index
+ * microsphere.autoconfigure.classpath-pruning.index-directory=/home/user/.microsphere/autoconfigure
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ClassPresenceIndex
+ * @see ClassPresenceIndexStoreListener
+ * @see ConfigurableAutoConfigurationImportFilter
+ * @see AutoConfigurationProfiler
+ * @since 1.0.0
+ */
+public class ClassPathPruningAutoConfigurationImportFilter implements AutoConfigurationImportFilter, BeanClassLoaderAware,
+        BeanFactoryAware, EnvironmentAware, PriorityOrdered {
+
+    private static final Logger logger = getLogger(ClassPathPruningAutoConfigurationImportFilter.class);
+
+    @ConfigurationProperty(
+            type = boolean.class,
+            defaultValue = "false",
+            description = "The property to enable pruning the classes of Spring Boot Auto-Configuration whose required classes are absent",
+            source = APPLICATION_SOURCE
+    )
+    public static final String AUTO_CONFIGURE_CLASSPATH_PRUNING_ENABLED_PROPERTY_NAME = "microsphere.autoconfigure.classpath-pruning.enabled";
+
+    /**
+     * The default directory of the persisted class presence index, which is located in the home of current user, thus
+     * it's never shared with other users.
+     */
+    public static final String DEFAULT_CLASSPATH_PRUNING_INDEX_DIRECTORY = "${user.home}/.microsphere/autoconfigure";
+
+    @ConfigurationProperty(
+            defaultValue = DEFAULT_CLASSPATH_PRUNING_INDEX_DIRECTORY,
+            description = "The property to specify the directory of the persisted class presence index for pruning the classes of Spring Boot Auto-Configuration",
+            source = APPLICATION_SOURCE
+    )
+    public static final String AUTO_CONFIGURE_CLASSPATH_PRUNING_INDEX_DIRECTORY_PROPERTY_NAME = "microsphere.autoconfigure.classpath-pruning.index-directory";
+
+    /**
+     * The key of {@link AutoConfigurationMetadata} for the class names of {@code @ConditionalOnClass}
+     */
+    static final String CONDITIONAL_ON_CLASS_KEY = "ConditionalOnClass";
+
+    @Nullable
+    private ClassPresenceIndex classPresenceIndex;
+
+    @Nullable
+    private AutoConfigurationProfiler profiler;
+
+    @Nullable
+    private ClassLoader classLoader;
+
+    @Nullable
+    private BeanFactory beanFactory;
+
+    /**
+     * Filters the given auto-configuration classes whose required classes are absent.
+     *
+     * @param autoConfigurationClasses  the candidate auto-configuration class names
+     * @param autoConfigurationMetadata the auto-configuration metadata
+     * @return a boolean array where {@code true} means the required classes of candidate are present
+     */
+    @Override
+    public boolean[] match(String[] autoConfigurationClasses, AutoConfigurationMetadata autoConfigurationMetadata) {
+        int size = autoConfigurationClasses.length;
+        boolean[] results = new boolean[size];
+        ClassPresenceIndex classPresenceIndex = autoConfigurationMetadata == null ? null : this.classPresenceIndex;
+        if (classPresenceIndex == null) {
+            fill(results, true);
+            return results;
+        }
+        AutoConfigurationProfiler profiler = this.profiler;
+        for (int i = 0; i < size; i++) {
+            String autoConfigurationClass = autoConfigurationClasses[i];
+            long startNanos = profiler == null ? 0L : nanoTime();
+            results[i] = isSatisfied(autoConfigurationClass, autoConfigurationMetadata, classPresenceIndex);
+            if (profiler != null && autoConfigurationClass != null) {
+                profiler.recordImportFilter(autoConfigurationClass, nanoTime() - startNanos);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Checks whether the classes required by the "ConditionalOnClass" of the auto-configuration class in
+     * {@link AutoConfigurationMetadata} are all present.
+     *
+     * @param autoConfigurationClassName the fully qualified class name to check, may be <code>null</code> if it was
+     *                                   rejected by the previous filter
+     * @param autoConfigurationMetadata  the auto-configuration metadata
+     * @param classPresenceIndex         {@link ClassPresenceIndex}
+     * @return {@code false} if any required class is absent, {@code true} otherwise
+     */
+    static boolean isSatisfied(@Nullable String autoConfigurationClassName, AutoConfigurationMetadata autoConfigurationMetadata,
+                               ClassPresenceIndex classPresenceIndex) {
+        if (autoConfigurationClassName == null) {
+            return true;
+        }
+        String requiredClassNames = autoConfigurationMetadata.get(autoConfigurationClassName, CONDITIONAL_ON_CLASS_KEY);
+        if (requiredClassNames == null) {
+            return true;
+        }
+        for (String requiredClassName : commaDelimitedListToSet(requiredClassNames)) {
+            if (!classPresenceIndex.isPresent(requiredClassName.trim())) {
+                if (logger.isTraceEnabled()) {
+                    logger.trace("The auto-configuration class '{}' is pruned, caused by the absent class '{}'",
+                            autoConfigurationClassName, requiredClassName);
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.classPresenceIndex = resolveClassPresenceIndex(environment);
+    }
+
+    @Nullable
+    private ClassPresenceIndex resolveClassPresenceIndex(Environment environment) {
+        if (!environment.getProperty(AUTO_CONFIGURE_CLASSPATH_PRUNING_ENABLED_PROPERTY_NAME, Boolean.class, false)) {
+            return null;
+        }
+        String directory = environment.resolvePlaceholders(environment.getProperty(
+                AUTO_CONFIGURE_CLASSPATH_PRUNING_INDEX_DIRECTORY_PROPERTY_NAME, DEFAULT_CLASSPATH_PRUNING_INDEX_DIRECTORY));
+        ClassPresenceIndex classPresenceIndex = get(this.beanFactory);
+        if (classPresenceIndex == null) {
+            ClassLoader classLoader = this.classLoader == null ? getDefaultClassLoader() : this.classLoader;
+            classPresenceIndex = load(classLoader, new File(directory));
+            if (this.beanFactory instanceof ConfigurableListableBeanFactory configurableBeanFactory) {
+                configurableBeanFactory.registerSingleton(BEAN_NAME, classPresenceIndex);
+            }
+        }
+        return classPresenceIndex;
+    }
+
+    @Nullable
+    ClassPresenceIndex getClassPresenceIndex() {
+        return this.classPresenceIndex;
+    }
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        this.beanFactory = beanFactory;
+        this.profiler = AutoConfigurationProfiler.get(beanFactory);
+    }
+
+    /**
+     * Returns the order of this filter, which runs before the filters of Spring Boot as a {@link PriorityOrdered}.
+     *
+     * @return {@link #HIGHEST_PRECEDENCE} + 99
+     */
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE + 99;
+    }
+}
@@ -0,0 +1,418 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.logging.Logger;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.collection.MapUtils.newLinkedHashMap;
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static java.io.File.pathSeparator;
+import static java.lang.Boolean.TRUE;
+import static java.lang.System.getProperty;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.concurrent.ConcurrentHashMap.newKeySet;
+import static org.springframework.util.StringUtils.hasText;
+import static org.springframework.util.StringUtils.tokenizeToStringArray;
+
+/**
+ * The index of the class presences (class name -> present or not) in the {@link ClassLoader}, which is persisted into
+ * the file named by the hash of the class path, thus the warm restarts with the same class path avoid the repeated
+ * class-existence probes, and any change of the class path, e.g, the JAR file was added, removed or rebuilt, leads to
+ * a new index.
+ * <p>
+ * The directories in the class path are never cached, because their contents may be changed without the modification
+ * of themselves, e.g, a class was added into a sub-directory : the classes present in the directories are not
+ * persisted, and the persisted absent classes are verified against the directories once they are looked up.
+ * <p>
+ * The presence of class is probed by the class resource rather than loading the class, so that the absent classes
+ * neither cost the {@link ClassNotFoundException} nor the present classes are loaded and parsed by the probes. Unlike
+ * {@code OnClassCondition} of Spring Boot, which loads the class by {@link Class#forName(String, boolean, ClassLoader)},
+ * a class is regarded as present once its resource is found, even if it can't be loaded or linked (e.g, its super
+ * class is absent) : the index only rejects the classes whose resources are absent, the present ones are still
+ * decided by {@code OnClassCondition}, thus the pruning is never stricter than Spring Boot, except the required
+ * classes that are defined without class resources, e.g, generated at runtime.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   ClassPresenceIndex index = ClassPresenceIndex.load(classLoader, new File(System.getProperty("user.home"), ".microsphere/autoconfigure"));
+ *   boolean present = index.isPresent("com.example.Foo");
+ *   index.store();
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ClassPathPruningAutoConfigurationImportFilter
+ * @see ClassPresenceIndexStoreListener
+ * @since 1.0.0
+ */
+public class ClassPresenceIndex {
+
+    private static final Logger logger = getLogger(ClassPresenceIndex.class);
+
+    /**
+     * The bean name of {@link ClassPresenceIndex} shared in the {@link ConfigurableListableBeanFactory}
+     */
+    public static final String BEAN_NAME = "classPresenceIndex";
+
+    /**
+     * The prefix of the index file name
+     */
+    public static final String INDEX_FILE_NAME_PREFIX = "class-presence-";
+
+    /**
+     * The suffix of the index file name
+     */
+    public static final String INDEX_FILE_NAME_SUFFIX = ".index";
+
+    private static final char PRESENT_MARKER = '+';
+
+    private static final char ABSENT_MARKER = '-';
+
+    private static final String COMMENT_PREFIX = "#";
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private static final String FILE_PROTOCOL = "file";
+
+    private final ClassLoader classLoader;
+
+    @Nullable
+    private final File file;
+
+    /**
+     * The directories in the class path
+     */
+    private final List<File> directories;
+
+    private final Map<String, Boolean> presences;
+
+    /**
+     * The names of classes present in the {@link #directories}, which are never persisted
+     */
+    private final Set<String> transientClassNames;
+
+    /**
+     * The names of the persisted absent classes, which have not been verified against the {@link #directories}
+     */
+    private final Set<String> unverifiedClassNames;
+
+    private volatile boolean modified;
+
+    ClassPresenceIndex(ClassLoader classLoader, @Nullable File file, List<File> directories) {
+        this.classLoader = classLoader;
+        this.file = file;
+        this.directories = directories;
+        this.presences = new ConcurrentHashMap<>();
+        this.transientClassNames = newKeySet();
+        this.unverifiedClassNames = newKeySet();
+    }
+
+    /**
+     * Is the specified class present or not, the result is probed once and indexed
+     *
+     * @param className the name of class
+     * @return <code>true</code> if present
+     */
+    public boolean isPresent(String className) {
+        Boolean present = this.presences.get(className);
+        if (present == null) {
+            URL resource = getClassResource(className, this.classLoader);
+            present = resource != null;
+            this.presences.put(className, present);
+            if (present && FILE_PROTOCOL.equals(resource.getProtocol())) {
+                this.transientClassNames.add(className);
+            } else {
+                this.modified = true;
+            }
+        } else if (!present && this.unverifiedClassNames.remove(className) && isPresentInDirectories(className)) {
+            // The persisted absent class was added into the directories
+            present = TRUE;
+            this.presences.put(className, present);
+            this.transientClassNames.add(className);
+            this.modified = true;
+        }
+        return present;
+    }
+
+    private boolean isPresentInDirectories(String className) {
+        String resourceName = getClassResourceName(className);
+        for (File directory : this.directories) {
+            if (new File(directory, resourceName).isFile()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the size of the indexed classes
+     *
+     * @return the size
+     */
+    public int size() {
+        return this.presences.size();
+    }
+
+    /**
+     * Whether any class was probed since loaded or stored
+     *
+     * @return <code>true</code> if modified
+     */
+    public boolean isModified() {
+        return this.modified;
+    }
+
+    /**
+     * Get the index file
+     *
+     * @return <code>null</code> if the index is not persisted
+     */
+    @Nullable
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Store the index into the {@link #getFile() file} if {@link #isModified() modified}, the file is written into a
+     * temporary file and then moved, so that the concurrent processes sharing the directory never read the partial one.
+     */
+    public synchronized void store() {
+        File file = this.file;
+        if (file == null || !this.modified) {
+            return;
+        }
+        // Reset before the iteration, the classes probed during the store will be stored next time
+        this.modified = false;
+        Path path = file.toPath();
+        try {
+            Files.createDirectories(path.getParent());
+            Path tempPath = Files.createTempFile(path.getParent(), file.getName(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tempPath, UTF_8)) {
+                writer.write(COMMENT_PREFIX + " Generated by " + ClassPresenceIndex.class.getName() + "\n");
+                for (Map.Entry<String, Boolean> entry : this.presences.entrySet()) {
+                    if (this.transientClassNames.contains(entry.getKey())) {
+                        continue;
+                    }
+                    writer.write(entry.getValue() ? PRESENT_MARKER : ABSENT_MARKER);
+                    writer.write(entry.getKey());
+                    writer.write('\n');
+                }
+            }
+            try {
+                Files.move(tempPath, path, ATOMIC_MOVE, REPLACE_EXISTING);
+            } catch (IOException e) {
+                Files.move(tempPath, path, REPLACE_EXISTING);
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("The class presence index[size : {}] was stored into '{}'", this.presences.size(), file);
+            }
+        } catch (IOException e) {
+            this.modified = true;
+            if (logger.isWarnEnabled()) {
+                logger.warn("The class presence index can't be stored into '{}'", file, e);
+            }
+        }
+    }
+
+    /**
+     * Load the {@link ClassPresenceIndex} from the directory, the index file is resolved by the hash of the class path
+     * of {@link ClassLoader}
+     *
+     * @param classLoader the {@link ClassLoader}
+     * @param directory   the directory of index files, the index is not persisted if <code>null</code>
+     * @return non-null
+     */
+    @Nonnull
+    public static ClassPresenceIndex load(ClassLoader classLoader, @Nullable File directory) {
+        Map<String, File> classPathEntries = getClassPathEntries(classLoader);
+        File file = directory == null ? null :
+                new File(directory, INDEX_FILE_NAME_PREFIX + hashClassPath(classPathEntries) + INDEX_FILE_NAME_SUFFIX);
+        ClassPresenceIndex index = new ClassPresenceIndex(classLoader, file, getDirectories(classPathEntries));
+        if (file != null && file.isFile()) {
+            try (BufferedReader reader = Files.newBufferedReader(file.toPath(), UTF_8)) {
+                index.read(reader);
+            } catch (IOException e) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("The class presence index can't be loaded from '{}'", file, e);
+                }
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("The class presence index[size : {}] was loaded from '{}'", index.size(), file);
+            }
+        }
+        return index;
+    }
+
+    void read(BufferedReader reader) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.length() < 2 || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            char marker = line.charAt(0);
+            if (marker == PRESENT_MARKER || marker == ABSENT_MARKER) {
+                String className = line.substring(1);
+                boolean present = marker == PRESENT_MARKER;
+                this.presences.put(className, present);
+                if (!present && !this.directories.isEmpty()) {
+                    this.unverifiedClassNames.add(className);
+                }
+            }
+        }
+    }
+
+    /**
+     * Probe the presence of class by its resource without loading it
+     *
+     * @param className   the name of class
+     * @param classLoader the {@link ClassLoader}
+     * @return <code>true</code> if present
+     */
+    static boolean probe(String className, ClassLoader classLoader) {
+        return getClassResource(className, classLoader) != null;
+    }
+
+    @Nullable
+    static URL getClassResource(String className, ClassLoader classLoader) {
+        if (!hasText(className)) {
+            return null;
+        }
+        return classLoader.getResource(getClassResourceName(className));
+    }
+
+    static String getClassResourceName(String className) {
+        return className.replace('.', '/') + CLASS_FILE_SUFFIX;
+    }
+
+    /**
+     * Hash the class path of the {@link ClassLoader} and its parents, including the "java.class.path" and the
+     * {@link URL URLs} of {@link URLClassLoader}, the last modified time and the length of the archive files are
+     * involved, the directories are excluded because their contents may be changed without their modification.
+     *
+     * @param classLoader the {@link ClassLoader}
+     * @return the hex string of hash
+     */
+    @Nonnull
+    static String hashClassPath(ClassLoader classLoader) {
+        return hashClassPath(getClassPathEntries(classLoader));
+    }
+
+    static String hashClassPath(Map<String, File> classPathEntries) {
+        MessageDigest digest = newMessageDigest();
+        for (Map.Entry<String, File> entry : classPathEntries.entrySet()) {
+            update(digest, entry.getKey(), entry.getValue());
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+
+    /**
+     * Get the entries of the class path of the {@link ClassLoader} and its parents
+     *
+     * @param classLoader the {@link ClassLoader}
+     * @return the map which key is the entry and value is the local {@link File}, which is <code>null</code> if not local
+     */
+    static Map<String, File> getClassPathEntries(ClassLoader classLoader) {
+        Map<String, File> classPathEntries = newLinkedHashMap();
+        String classPath = getProperty("java.class.path", "");
+        for (String entry : tokenizeToStringArray(classPath, pathSeparator)) {
+            classPathEntries.put(entry, new File(entry));
+        }
+        ClassLoader currentClassLoader = classLoader;
+        while (currentClassLoader != null) {
+            if (currentClassLoader instanceof URLClassLoader urlClassLoader) {
+                for (URL url : urlClassLoader.getURLs()) {
+                    classPathEntries.put(url.toString(), FILE_PROTOCOL.equals(url.getProtocol()) ? new File(url.getPath()) : null);
+                }
+            }
+            currentClassLoader = currentClassLoader.getParent();
+        }
+        return classPathEntries;
+    }
+
+    static List<File> getDirectories(Map<String, File> classPathEntries) {
+        List<File> directories = newArrayList();
+        for (File file : classPathEntries.values()) {
+            if (file != null && file.isDirectory() && !directories.contains(file)) {
+                directories.add(file);
+            }
+        }
+        return directories;
+    }
+
+    private static void update(MessageDigest digest, String entry, @Nullable File file) {
+        digest.update(entry.getBytes(UTF_8));
+        if (file != null && file.isFile()) {
+            digest.update(Long.toString(file.lastModified()).getBytes(UTF_8));
+            digest.update(Long.toString(file.length()).getBytes(UTF_8));
+        }
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required by every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Get the {@link ClassPresenceIndex} shared in the {@link BeanFactory}
+     *
+     * @param beanFactory {@link BeanFactory}
+     * @return <code>null</code> if not registered
+     */
+    @Nullable
+    public static ClassPresenceIndex get(@Nullable BeanFactory beanFactory) {
+        if (beanFactory instanceof ConfigurableListableBeanFactory configurableBeanFactory
+                && configurableBeanFactory.containsSingleton(BEAN_NAME)) {
+            return configurableBeanFactory.getBean(BEAN_NAME, ClassPresenceIndex.class);
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "ClassPresenceIndex{" +
+                "file=" + this.file +
+                ", size=" + this.presences.size() +
+                '}';
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import static io.microsphere.spring.boot.autoconfigure.ClassPresenceIndex.get;
+
+/**
+ * The {@link ApplicationListener} stores the {@link ClassPresenceIndex} shared by
+ * {@link ClassPathPruningAutoConfigurationImportFilter} once the application is ready, when all auto-configuration
+ * classes were filtered.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ClassPresenceIndex
+ * @see ClassPathPruningAutoConfigurationImportFilter
+ * @since 1.0.0
+ */
+public class ClassPresenceIndexStoreListener implements ApplicationListener<ApplicationReadyEvent> {
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ClassPresenceIndex classPresenceIndex = get(event.getApplicationContext().getBeanFactory());
+        if (classPresenceIndex != null) {
+            classPresenceIndex.store();
+        }
+    }
+}
@@ -1,9 +1,17 @@
 package io.microsphere.spring.boot.autoconfigure;
 
 import io.microsphere.annotation.ConfigurationProperty;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.logging.Logger;
+import io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.boot.autoconfigure.AutoConfigurationImportFilter;
 import org.springframework.boot.autoconfigure.AutoConfigurationMetadata;
 import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.core.Ordered;
 import org.springframework.core.env.ConfigurableEnvironment;
@@ -11,21 +19,29 @@ import org.springframework.core.env.Environment;
 import org.springframework.core.env.MutablePropertySources;
 import org.springframework.core.env.PropertySource;
 
+import java.util.List;
 import java.util.Set;
 
 import static io.microsphere.annotation.ConfigurationProperty.APPLICATION_SOURCE;
+import static io.microsphere.collection.ListUtils.newArrayList;
 import static io.microsphere.collection.SetUtils.newLinkedHashSet;
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.EMPTY;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.loadIndexedResourceNames;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.loadPatterns;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.of;
 import static io.microsphere.spring.core.env.EnvironmentUtils.asConfigurableEnvironment;
 import static io.microsphere.util.ArrayUtils.EMPTY_STRING_ARRAY;
 import static io.microsphere.util.ArrayUtils.combine;
+import static java.lang.System.nanoTime;
 import static java.util.Arrays.asList;
+import static java.util.Arrays.fill;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableSet;
-import static org.springframework.boot.context.properties.bind.Binder.get;
+import static org.springframework.boot.context.properties.source.ConfigurationPropertySources.from;
 import static org.springframework.util.Assert.isInstanceOf;
 import static org.springframework.util.StringUtils.collectionToCommaDelimitedString;
 import static org.springframework.util.StringUtils.commaDelimitedListToSet;
-import static org.springframework.util.StringUtils.hasText;
 
 /**
  * Configurable {@link AutoConfigurationImportFilter} for excluding specific Spring Boot auto-configuration classes.
@@ -41,6 +57,17 @@ import static org.springframework.util.StringUtils.hasText;
  * microsphere.autoconfigure.exclude[1]=com.example.BarAutoConfiguration
  * }</pre>
  *
+ * <h4>Exclude auto-configuration classes via patterns</h4>
+ * <pre>{@code
+ * # all classes in the package "com.example.foo"
+ * microsphere.autoconfigure.exclude[0]=com.example.foo.*
+ * # all classes in the package "com.example.bar" and its sub-packages
+ * microsphere.autoconfigure.exclude[1]=com.example.bar.**
+ * }</pre>
+ * The static exclusions can be precomputed into the {@link AutoConfigurationExclusionIndex#INDEX_RESOURCE_NAME index}
+ * on build by {@link AutoConfigurationExclusionIndexGenerator}, the property sources of the application config files
+ * recorded by the index are skipped if the index is present and those files are unchanged.
+ *
  * <h4>Programmatically exclude classes</h4>
  * <pre>{@code
  * ConfigurableAutoConfigurationImportFilter.addExcludedAutoConfigurationClass(environment, "com.example.FooAutoConfiguration");
@@ -48,9 +75,15 @@ import static org.springframework.util.StringUtils.hasText;
  * }</pre>
  *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see AutoConfigurationExclusionIndex
+ * @see ClassPathPruningAutoConfigurationImportFilter
+ * @see AutoConfigurationProfiler
  * @since 1.0.0
  */
-public class ConfigurableAutoConfigurationImportFilter implements AutoConfigurationImportFilter, EnvironmentAware, Ordered {
+public class ConfigurableAutoConfigurationImportFilter implements AutoConfigurationImportFilter, BeanClassLoaderAware,
+        BeanFactoryAware, EnvironmentAware, Ordered {
+
+    private static final Logger logger = getLogger(ConfigurableAutoConfigurationImportFilter.class);
 
     @ConfigurationProperty(
             type = String[].class,
@@ -59,7 +92,29 @@ public class ConfigurableAutoConfigurationImportFilter implements AutoConfigurat
     )
     public static final String AUTO_CONFIGURE_EXCLUDE_PROPERTY_NAME = "microsphere.autoconfigure.exclude";
 
-    private Set<String> excludedAutoConfigurationClasses;
+    @ConfigurationProperty(
+            type = boolean.class,
+            defaultValue = "true",
+            description = "The property to enable the precomputed index of the excluded classes of Spring Boot Auto-Configuration",
+            source = APPLICATION_SOURCE
+    )
+    public static final String AUTO_CONFIGURE_EXCLUDE_INDEX_ENABLED_PROPERTY_NAME = "microsphere.autoconfigure.exclude-index.enabled";
+
+    /**
+     * The name prefix of the {@link PropertySource} loaded from the application config file in the class path, e.g,
+     * "Config resource 'class path resource [application.properties]' via location 'optional:classpath:/'"
+     */
+    static final String CLASS_PATH_CONFIG_RESOURCE_PROPERTY_SOURCE_NAME_PREFIX = "Config resource 'class path resource [";
+
+    private static final char CLASS_PATH_CONFIG_RESOURCE_NAME_SUFFIX = ']';
+
+    private AutoConfigurationExclusionIndex exclusionIndex = EMPTY;
+
+    @Nullable
+    private AutoConfigurationProfiler profiler;
+
+    @Nullable
+    private ClassLoader classLoader;
 
     /**
      * Filters the given auto-configuration classes, returning an array of booleans indicating
@@ -80,16 +135,26 @@ public class ConfigurableAutoConfigurationImportFilter implements AutoConfigurat
     public boolean[] match(String[] autoConfigurationClasses, AutoConfigurationMetadata autoConfigurationMetadata) {
         int size = autoConfigurationClasses.length;
         boolean[] results = new boolean[size];
+        if (this.exclusionIndex.isEmpty()) {
+            fill(results, true);
+            return results;
+        }
+        AutoConfigurationProfiler profiler = this.profiler;
         for (int i = 0; i < size; i++) {
             String autoConfigurationClass = autoConfigurationClasses[i];
+            long startNanos = profiler == null ? 0L : nanoTime();
             results[i] = !isExcluded(autoConfigurationClass);
+            if (profiler != null && autoConfigurationClass != null) {
+                profiler.recordImportFilter(autoConfigurationClass, nanoTime() - startNanos);
+            }
         }
         return results;
     }
 
     /**
      * Sets the {@link Environment} and resolves the set of excluded auto-configuration
-     * class names from the configured properties.
+     * class names or patterns from the configured properties, and the
+     * {@link AutoConfigurationExclusionIndex#INDEX_RESOURCE_NAME precomputed index} if enabled.
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
@@ -102,7 +167,21 @@ public class ConfigurableAutoConfigurationImportFilter implements AutoConfigurat
      */
     @Override
     public void setEnvironment(Environment environment) {
-        this.excludedAutoConfigurationClasses = getExcludedAutoConfigurationClasses(environment);
+        boolean indexEnabled = environment.getProperty(AUTO_CONFIGURE_EXCLUDE_INDEX_ENABLED_PROPERTY_NAME, Boolean.class, true);
+        Set<String> indexedPatterns = indexEnabled ? loadPatterns(this.classLoader) : emptySet();
+        Set<String> indexedResourceNames = indexEnabled ? loadIndexedResourceNames(this.classLoader) : emptySet();
+        Set<String> patterns = getExcludedAutoConfigurationClasses(environment, indexedPatterns, indexedResourceNames);
+        this.exclusionIndex = of(patterns);
+    }
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        this.profiler = AutoConfigurationProfiler.get(beanFactory);
     }
 
     /**
@@ -120,13 +199,80 @@ public class ConfigurableAutoConfigurationImportFilter implements AutoConfigurat
      * @return an unmodifiable set of excluded class names, or an empty set if none are configured
      */
     public static Set<String> getExcludedAutoConfigurationClasses(Environment environment) {
+        return getExcludedAutoConfigurationClasses(environment, emptySet(), emptySet());
+    }
+
+    /**
+     * Retrieves the complete set of excluded auto-configuration class names from the given {@link Environment} and
+     * the {@link AutoConfigurationExclusionIndex#INDEX_RESOURCE_NAME precomputed index}, which stands in for the
+     * property sources of the application config files recorded by the index, thus only those property sources are
+     * skipped rather than being resolved again, the others, e.g, the profile-specific files, are still resolved. The
+     * runtime properties, e.g, the command line arguments and the system properties, are resolved first, followed by
+     * the indexed patterns.
+     *
+     * @param environment          the environment to read exclusion properties from
+     * @param indexedPatterns      the patterns of the precomputed index
+     * @param indexedResourceNames the names of the application config files in the class path recorded by the index
+     * @return an unmodifiable set of excluded class names, or an empty set if none are configured
+     */
+    static Set<String> getExcludedAutoConfigurationClasses(Environment environment, Set<String> indexedPatterns,
+                                                           Set<String> indexedResourceNames) {
         ConfigurableEnvironment configurableEnvironment = asConfigurableEnvironment(environment);
+        List<PropertySource<?>> propertySources = resolvePropertySources(configurableEnvironment, indexedResourceNames);
         Set<String> allExcludedClasses = newLinkedHashSet();
-        addExcludedAutoConfigurationClasses(environment, getExcludedAutoConfigurationClasses(configurableEnvironment), allExcludedClasses);
-        addExcludedAutoConfigurationClasses(environment, getExcludedAutoConfigurationClassesFromBinder(configurableEnvironment), allExcludedClasses);
+        addExcludedAutoConfigurationClasses(environment, getExcludedAutoConfigurationClasses(configurableEnvironment, propertySources), allExcludedClasses);
+        addExcludedAutoConfigurationClasses(environment, getExcludedAutoConfigurationClassesFromBinder(configurableEnvironment, propertySources), allExcludedClasses);
+        allExcludedClasses.addAll(indexedPatterns);
         return allExcludedClasses.isEmpty() ? emptySet() : unmodifiableSet(allExcludedClasses);
     }
 
+    private static List<PropertySource<?>> resolvePropertySources(ConfigurableEnvironment environment,
+                                                                  Set<String> indexedResourceNames) {
+        List<PropertySource<?>> propertySources = newArrayList();
+        boolean indexed = !indexedResourceNames.isEmpty();
+        for (PropertySource<?> propertySource : environment.getPropertySources()) {
+            if (indexed && isIndexedPropertySource(propertySource, indexedResourceNames)) {
+                if (logger.isTraceEnabled()) {
+                    logger.trace("The PropertySource[name : '{}'] is skipped, it's covered by the auto-configuration exclusion index",
+                            propertySource.getName());
+                }
+                continue;
+            }
+            propertySources.add(propertySource);
+        }
+        return propertySources;
+    }
+
+    /**
+     * Is the specified {@link PropertySource} loaded from the application config file in the class path, which is
+     * recorded by the {@link AutoConfigurationExclusionIndex#INDEX_RESOURCE_NAME precomputed index}.
+     *
+     * @param propertySource       {@link PropertySource}
+     * @param indexedResourceNames the names of the application config files recorded by the index
+     * @return <code>true</code> if covered by the index
+     */
+    static boolean isIndexedPropertySource(PropertySource<?> propertySource, Set<String> indexedResourceNames) {
+        String resourceName = getClassPathConfigResourceName(propertySource.getName());
+        return resourceName != null && indexedResourceNames.contains(resourceName);
+    }
+
+    /**
+     * Get the name of the application config file in the class path from the name of {@link PropertySource}
+     *
+     * @param propertySourceName the name of {@link PropertySource}, e.g,
+     *                           "Config resource 'class path resource [application.properties]' via location 'optional:classpath:/'"
+     * @return the resource name, e.g, "application.properties", or <code>null</code> if not loaded from the class path
+     */
+    @Nullable
+    static String getClassPathConfigResourceName(String propertySourceName) {
+        if (!propertySourceName.startsWith(CLASS_PATH_CONFIG_RESOURCE_PROPERTY_SOURCE_NAME_PREFIX)) {
+            return null;
+        }
+        int start = CLASS_PATH_CONFIG_RESOURCE_PROPERTY_SOURCE_NAME_PREFIX.length();
+        int end = propertySourceName.indexOf(CLASS_PATH_CONFIG_RESOURCE_NAME_SUFFIX, start);
+        return end == -1 ? null : propertySourceName.substring(start, end);
+    }
+
     private static void addExcludedAutoConfigurationClasses(Environment environment, String[] excludedClasses,
                                                             Set<String> allExcludedClasses) {
         for (String excludedClass : excludedClasses) {
@@ -135,9 +281,9 @@ public class ConfigurableAutoConfigurationImportFilter implements AutoConfigurat
         }
     }
 
-    private static String[] getExcludedAutoConfigurationClasses(ConfigurableEnvironment environment) {
+    private static String[] getExcludedAutoConfigurationClasses(ConfigurableEnvironment environment,
+                                                                List<PropertySource<?>> propertySources) {
         Set<String> excludedClasses = newLinkedHashSet();
-        MutablePropertySources propertySources = environment.getPropertySources();
         for (PropertySource propertySource : propertySources) {
             Object property = propertySource.getProperty(AUTO_CONFIGURE_EXCLUDE_PROPERTY_NAME);
             if (property instanceof String exclude) {
@@ -149,8 +295,9 @@ public class ConfigurableAutoConfigurationImportFilter implements AutoConfigurat
         return excludedClasses.isEmpty() ? EMPTY_STRING_ARRAY : excludedClasses.toArray(EMPTY_STRING_ARRAY);
     }
 
-    private static String[] getExcludedAutoConfigurationClassesFromBinder(ConfigurableEnvironment environment) {
-        Binder binder = get(environment);
+    private static String[] getExcludedAutoConfigurationClassesFromBinder(ConfigurableEnvironment environment,
+                                                                          List<PropertySource<?>> propertySources) {
+        Binder binder = new Binder(from(propertySources), new PropertySourcesPlaceholdersResolver(environment));
         return binder.bind(AUTO_CONFIGURE_EXCLUDE_PROPERTY_NAME, String[].class).orElse(EMPTY_STRING_ARRAY);
     }
 
@@ -243,7 +390,7 @@ public class ConfigurableAutoConfigurationImportFilter implements AutoConfigurat
     }
 
     /**
-     * Checks whether the given auto-configuration class name is in the exclusion set.
+     * Checks whether the given auto-configuration class name is matched by the excluded class names or patterns.
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
@@ -256,7 +403,7 @@ public class ConfigurableAutoConfigurationImportFilter implements AutoConfigurat
      * @return {@code true} if the class is excluded, {@code false} otherwise
      */
     boolean isExcluded(String autoConfigurationClassName) {
-        return hasText(autoConfigurationClassName) && excludedAutoConfigurationClasses.contains(autoConfigurationClassName);
+        return this.exclusionIndex.isExcluded(autoConfigurationClassName);
     }
 
     /**
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure.profiler;
+
+import io.microsphere.annotation.Nonnull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The profile of an auto-configuration class during the startup, which records the cost of the import filtering,
+ * the condition evaluation and the instantiation of the beans it defines.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AutoConfigurationProfiler
+ * @since 1.0.0
+ */
+public class AutoConfigurationProfile {
+
+    private final String className;
+
+    private final AtomicLong importFilterNanos = new AtomicLong();
+
+    private final AtomicLong conditionEvaluationNanos = new AtomicLong();
+
+    private final AtomicInteger conditionEvaluationCount = new AtomicInteger();
+
+    private final AtomicLong beanInstantiationNanos = new AtomicLong();
+
+    private final AtomicInteger beanCount = new AtomicInteger();
+
+    AutoConfigurationProfile(String className) {
+        this.className = className;
+    }
+
+    void addImportFilterNanos(long nanos) {
+        this.importFilterNanos.addAndGet(nanos);
+    }
+
+    void addConditionEvaluationNanos(long nanos) {
+        this.conditionEvaluationNanos.addAndGet(nanos);
+        this.conditionEvaluationCount.incrementAndGet();
+    }
+
+    void addBeanInstantiationNanos(long nanos) {
+        this.beanInstantiationNanos.addAndGet(nanos);
+        this.beanCount.incrementAndGet();
+    }
+
+    /**
+     * Get the name of auto-configuration class
+     *
+     * @return non-null
+     */
+    @Nonnull
+    public String getClassName() {
+        return this.className;
+    }
+
+    /**
+     * Get the time spent in the import filtering
+     *
+     * @return the nanoseconds
+     */
+    public long getImportFilterNanos() {
+        return this.importFilterNanos.get();
+    }
+
+    /**
+     * Get the time spent in the condition evaluation of the class and its members
+     *
+     * @return the nanoseconds
+     */
+    public long getConditionEvaluationNanos() {
+        return this.conditionEvaluationNanos.get();
+    }
+
+    /**
+     * Get the count of the evaluated conditions of the class and its members
+     *
+     * @return the count
+     */
+    public int getConditionEvaluationCount() {
+        return this.conditionEvaluationCount.get();
+    }
+
+    /**
+     * Get the time spent in instantiating the beans defined by the class, excluding the time of their dependencies
+     *
+     * @return the nanoseconds
+     */
+    public long getBeanInstantiationNanos() {
+        return this.beanInstantiationNanos.get();
+    }
+
+    /**
+     * Get the count of the instantiated beans defined by the class
+     *
+     * @return the count
+     */
+    public int getBeanCount() {
+        return this.beanCount.get();
+    }
+
+    /**
+     * Get the total time of all phases
+     *
+     * @return the nanoseconds
+     */
+    public long getTotalNanos() {
+        return getImportFilterNanos() + getConditionEvaluationNanos() + getBeanInstantiationNanos();
+    }
+
+    @Override
+    public String toString() {
+        return "AutoConfigurationProfile{" +
+                "className='" + this.className + '\'' +
+                ", importFilterNanos=" + getImportFilterNanos() +
+                ", conditionEvaluationNanos=" + getConditionEvaluationNanos() +
+                ", conditionEvaluationCount=" + getConditionEvaluationCount() +
+                ", beanInstantiationNanos=" + getBeanInstantiationNanos() +
+                ", beanCount=" + getBeanCount() +
+                '}';
+    }
+}
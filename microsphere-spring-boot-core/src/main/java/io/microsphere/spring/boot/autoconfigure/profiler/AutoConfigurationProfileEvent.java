@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure.profiler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The JFR {@link Event} of {@link AutoConfigurationProfiler}, which is committed per measurement of an
+ * auto-configuration class, and can be consumed by the JFR recording or event stream, e.g,
+ * {@code jdk.jfr.consumer.RecordingStream#onEvent(String, Consumer)} with the {@link #NAME name}.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AutoConfigurationProfiler
+ * @since 1.0.0
+ */
+@Name(AutoConfigurationProfileEvent.NAME)
+@Label("Auto-Configuration Profile")
+@Category({"Microsphere", "Spring Boot"})
+@Description("The cost of an auto-configuration class during the startup")
+@StackTrace(false)
+final class AutoConfigurationProfileEvent extends Event {
+
+    /**
+     * The name of event
+     */
+    static final String NAME = "io.microsphere.spring.boot.AutoConfigurationProfile";
+
+    @Label("Auto-Configuration Class")
+    String autoConfigurationClass;
+
+    @Label("Phase")
+    @Description("The phase : import-filter, condition-evaluation or bean-instantiation")
+    String phase;
+
+    @Label("Bean Name")
+    String beanName;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+
+    /**
+     * Commit the event if enabled
+     *
+     * @param autoConfigurationClass the name of auto-configuration class
+     * @param phase                  the phase
+     * @param beanName               the bean name, may be <code>null</code>
+     * @param elapsed                the elapsed nanoseconds
+     */
+    static void emit(String autoConfigurationClass, String phase, String beanName, long elapsed) {
+        AutoConfigurationProfileEvent event = new AutoConfigurationProfileEvent();
+        if (event.isEnabled()) {
+            event.autoConfigurationClass = autoConfigurationClass;
+            event.phase = phase;
+            event.beanName = beanName;
+            event.elapsed = elapsed;
+            event.commit();
+        }
+    }
+}
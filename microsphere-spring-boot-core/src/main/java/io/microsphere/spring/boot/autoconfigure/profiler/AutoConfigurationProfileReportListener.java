@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure.profiler;
+
+import io.microsphere.logging.Logger;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler.DEFAULT_REPORT_FILE;
+import static io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler.DEFAULT_TOP;
+import static io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler.REPORT_FILE_PROPERTY_NAME;
+import static io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler.TOP_PROPERTY_NAME;
+import static io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler.get;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The {@link ApplicationListener} writes the JSON report of {@link AutoConfigurationProfiler} into the
+ * {@link AutoConfigurationProfiler#REPORT_FILE_PROPERTY_NAME file} and logs the top-N slowest auto-configuration
+ * classes when the application is ready.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AutoConfigurationProfiler
+ * @since 1.0.0
+ */
+public class AutoConfigurationProfileReportListener implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger logger = getLogger(AutoConfigurationProfileReportListener.class);
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ConfigurableApplicationContext context = event.getApplicationContext();
+        AutoConfigurationProfiler profiler = get(context.getBeanFactory());
+        if (profiler != null) {
+            report(profiler, context.getEnvironment());
+        }
+    }
+
+    /**
+     * Report the profiles of {@link AutoConfigurationProfiler}
+     *
+     * @param profiler    {@link AutoConfigurationProfiler}
+     * @param environment {@link ConfigurableEnvironment}
+     * @return the report file, or <code>null</code> if failed to write
+     */
+    File report(AutoConfigurationProfiler profiler, ConfigurableEnvironment environment) {
+        if (logger.isInfoEnabled()) {
+            int top = environment.getProperty(TOP_PROPERTY_NAME, Integer.class, DEFAULT_TOP);
+            List<AutoConfigurationProfile> profiles = profiler.getTopProfiles(top);
+            logger.info("The top {} slowest auto-configuration classes :", profiles.size());
+            for (AutoConfigurationProfile profile : profiles) {
+                logger.info("{} : {} ms [import-filter : {} ns , condition-evaluation : {} ns , bean-instantiation : {} ns({} beans)]",
+                        profile.getClassName(), NANOSECONDS.toMillis(profile.getTotalNanos()), profile.getImportFilterNanos(),
+                        profile.getConditionEvaluationNanos(), profile.getBeanInstantiationNanos(), profile.getBeanCount());
+            }
+        }
+        String reportFile = environment.resolvePlaceholders(environment.getProperty(REPORT_FILE_PROPERTY_NAME, DEFAULT_REPORT_FILE));
+        Path path = new File(reportFile).toPath();
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(path, profiler.toJSON(), UTF_8);
+            if (logger.isInfoEnabled()) {
+                logger.info("The profile report of auto-configuration classes was written into '{}'", path);
+            }
+            return path.toFile();
+        } catch (IOException e) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("The profile report of auto-configuration classes can't be written into '{}'", path, e);
+            }
+            return null;
+        }
+    }
+}
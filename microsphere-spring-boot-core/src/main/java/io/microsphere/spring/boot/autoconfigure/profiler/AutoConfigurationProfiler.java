@@ -0,0 +1,337 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure.profiler;
+
+import io.microsphere.annotation.ConfigurationProperty;
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.microsphere.annotation.ConfigurationProperty.APPLICATION_SOURCE;
+import static io.microsphere.collection.MapUtils.newConcurrentHashMap;
+import static java.lang.Math.max;
+import static java.lang.System.nanoTime;
+import static java.lang.Math.min;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Comparator.comparingLong;
+
+/**
+ * The profiler of the auto-configuration classes during the startup, which records the time spent in the import
+ * filtering, in the condition evaluation and in instantiating the beans they define per auto-configuration class.
+ * <p>
+ * Spring Boot records the outcome of condition right after the evaluation without any callback before it, thus the
+ * time of condition evaluation is measured since the previous outcome, the import of auto-configuration classes or
+ * the previous bean instantiation, whichever is the latest.
+ * <p>
+ * The profiler is registered as a singleton of {@link ConfigurableListableBeanFactory} by
+ * {@link AutoConfigurationProfilerInitializer} if {@link #ENABLED_PROPERTY_NAME enabled}, and the results are
+ * exposed as the {@link AutoConfigurationProfileEvent JFR events}, the JSON report written by
+ * {@link AutoConfigurationProfileReportListener} and the {@link #getTopProfiles(int) top-N slowest entries}.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * microsphere.autoconfigure.profiler.enabled=true
+ * }</pre>
+ * <pre>{@code
+ *   AutoConfigurationProfiler profiler = AutoConfigurationProfiler.get(beanFactory);
+ *   List<AutoConfigurationProfile> slowest = profiler.getTopProfiles(10);
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AutoConfigurationProfile
+ * @see AutoConfigurationProfilerInitializer
+ * @see AutoConfigurationProfileReportListener
+ * @since 1.0.0
+ */
+public class AutoConfigurationProfiler {
+
+    /**
+     * The bean name of {@link AutoConfigurationProfiler}
+     */
+    public static final String BEAN_NAME = "autoConfigurationProfiler";
+
+    @ConfigurationProperty(
+            type = boolean.class,
+            defaultValue = "false",
+            description = "The property to enable the profiler of Spring Boot Auto-Configuration classes during the startup",
+            source = APPLICATION_SOURCE
+    )
+    public static final String ENABLED_PROPERTY_NAME = "microsphere.autoconfigure.profiler.enabled";
+
+    /**
+     * The default path of the JSON report file
+     */
+    public static final String DEFAULT_REPORT_FILE = "${java.io.tmpdir}/microsphere/autoconfigure/${spring.application.name:application}-profile.json";
+
+    @ConfigurationProperty(
+            defaultValue = DEFAULT_REPORT_FILE,
+            description = "The property to specify the path of the JSON report file of the profiler of Spring Boot Auto-Configuration classes",
+            source = APPLICATION_SOURCE
+    )
+    public static final String REPORT_FILE_PROPERTY_NAME = "microsphere.autoconfigure.profiler.report-file";
+
+    /**
+     * The default size of the top-N slowest entries
+     */
+    public static final int DEFAULT_TOP = 10;
+
+    @ConfigurationProperty(
+            type = int.class,
+            defaultValue = "10",
+            description = "The property to specify the default size of the top-N slowest Spring Boot Auto-Configuration classes",
+            source = APPLICATION_SOURCE
+    )
+    public static final String TOP_PROPERTY_NAME = "microsphere.autoconfigure.profiler.top";
+
+    /**
+     * The phase of the import filtering
+     */
+    public static final String IMPORT_FILTER_PHASE = "import-filter";
+
+    /**
+     * The phase of the condition evaluation
+     */
+    public static final String CONDITION_EVALUATION_PHASE = "condition-evaluation";
+
+    /**
+     * The phase of the bean instantiation
+     */
+    public static final String BEAN_INSTANTIATION_PHASE = "bean-instantiation";
+
+    private static final char NESTED_CLASS_SEPARATOR = '$';
+
+    private static final char MEMBER_SEPARATOR = '#';
+
+    private final Map<String, AutoConfigurationProfile> profiles = newConcurrentHashMap();
+
+    private volatile Set<String> autoConfigurationClasses = emptySet();
+
+    private volatile long lastConditionEvaluationNanos = nanoTime();
+
+    /**
+     * Record the time spent in the import filtering
+     *
+     * @param autoConfigurationClass the name of auto-configuration class
+     * @param nanos                  the elapsed nanoseconds
+     */
+    public void recordImportFilter(String autoConfigurationClass, long nanos) {
+        getOrCreateProfile(autoConfigurationClass).addImportFilterNanos(nanos);
+        AutoConfigurationProfileEvent.emit(autoConfigurationClass, IMPORT_FILTER_PHASE, null, nanos);
+    }
+
+    /**
+     * Record the time spent in the condition evaluation if the source belongs to an auto-configuration class
+     *
+     * @param source the source of condition, e.g, the class name, the nested class name or "class#method"
+     * @param nanos  the elapsed nanoseconds
+     */
+    public void recordConditionEvaluation(String source, long nanos) {
+        String autoConfigurationClass = resolveAutoConfigurationClass(source);
+        if (autoConfigurationClass != null) {
+            getOrCreateProfile(autoConfigurationClass).addConditionEvaluationNanos(nanos);
+            AutoConfigurationProfileEvent.emit(autoConfigurationClass, CONDITION_EVALUATION_PHASE, null, nanos);
+        }
+    }
+
+    /**
+     * Record the condition evaluation of the source, whose time is measured since the previous one or
+     * {@link #startConditionEvaluation() the start}, because Spring Boot records the outcome right after the evaluation.
+     *
+     * @param source the source of condition, e.g, the class name, the nested class name or "class#method"
+     */
+    void recordConditionEvaluation(String source) {
+        long now = nanoTime();
+        long nanos = now - this.lastConditionEvaluationNanos;
+        this.lastConditionEvaluationNanos = now;
+        recordConditionEvaluation(source, nanos);
+    }
+
+    /**
+     * Start the clock of the condition evaluation, e.g, the auto-configuration classes are about to be processed or a
+     * bean was instantiated
+     */
+    void startConditionEvaluation() {
+        this.lastConditionEvaluationNanos = nanoTime();
+    }
+
+    /**
+     * Record the time spent in the bean instantiation if the bean is defined by an auto-configuration class
+     *
+     * @param definingClass the name of class which defines the bean, e.g, the configuration class of the
+     *                      {@link org.springframework.context.annotation.Bean @Bean} method
+     * @param beanName      the bean name
+     * @param nanos         the elapsed nanoseconds
+     */
+    public void recordBeanInstantiation(String definingClass, String beanName, long nanos) {
+        String autoConfigurationClass = resolveAutoConfigurationClass(definingClass);
+        if (autoConfigurationClass != null) {
+            getOrCreateProfile(autoConfigurationClass).addBeanInstantiationNanos(nanos);
+            AutoConfigurationProfileEvent.emit(autoConfigurationClass, BEAN_INSTANTIATION_PHASE, beanName, nanos);
+        }
+    }
+
+    /**
+     * Resolve the auto-configuration class of the source
+     *
+     * @param source the class name, the nested class name or "class#method"
+     * @return <code>null</code> if the source does not belong to any imported auto-configuration class
+     */
+    @Nullable
+    String resolveAutoConfigurationClass(@Nullable String source) {
+        if (source == null) {
+            return null;
+        }
+        int index = source.indexOf(MEMBER_SEPARATOR);
+        String className = index == -1 ? source : source.substring(0, index);
+        Set<String> autoConfigurationClasses = this.autoConfigurationClasses;
+        while (!autoConfigurationClasses.contains(className)) {
+            index = className.lastIndexOf(NESTED_CLASS_SEPARATOR);
+            if (index == -1) {
+                return null;
+            }
+            className = className.substring(0, index);
+        }
+        return className;
+    }
+
+    /**
+     * Add the imported auto-configuration classes, the set is copied on write because it is rarely changed
+     *
+     * @param autoConfigurationClasses the names of auto-configuration classes
+     */
+    synchronized void addAutoConfigurationClasses(Collection<String> autoConfigurationClasses) {
+        Set<String> classes = new HashSet<>(this.autoConfigurationClasses);
+        classes.addAll(autoConfigurationClasses);
+        this.autoConfigurationClasses = classes;
+    }
+
+    /**
+     * Get the profiles of auto-configuration classes
+     *
+     * @return the read-only {@link List} sorted by the total time descending
+     */
+    @Nonnull
+    public List<AutoConfigurationProfile> getProfiles() {
+        return getTopProfiles(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get the top-N slowest profiles of auto-configuration classes
+     *
+     * @param top the size of entries
+     * @return the read-only {@link List} sorted by the total time descending
+     */
+    @Nonnull
+    public List<AutoConfigurationProfile> getTopProfiles(int top) {
+        List<AutoConfigurationProfile> profiles = new ArrayList<>(this.profiles.values());
+        profiles.sort(comparingLong(AutoConfigurationProfile::getTotalNanos).reversed());
+        int size = min(max(top, 0), profiles.size());
+        return unmodifiableList(profiles.subList(0, size));
+    }
+
+    /**
+     * Get the profile of auto-configuration class
+     *
+     * @param autoConfigurationClass the name of auto-configuration class
+     * @return <code>null</code> if not profiled
+     */
+    @Nullable
+    public AutoConfigurationProfile getProfile(String autoConfigurationClass) {
+        return this.profiles.get(autoConfigurationClass);
+    }
+
+    /**
+     * Get the JSON representation of the profiles
+     *
+     * @return non-null
+     */
+    @Nonnull
+    public String toJSON() {
+        List<AutoConfigurationProfile> profiles = getProfiles();
+        StringBuilder json = new StringBuilder(128 + profiles.size() * 256);
+        long totalNanos = 0;
+        for (AutoConfigurationProfile profile : profiles) {
+            totalNanos += profile.getTotalNanos();
+        }
+        json.append("{\"totalNanos\":").append(totalNanos)
+                .append(",\"profiles\":[");
+        for (int i = 0; i < profiles.size(); i++) {
+            AutoConfigurationProfile profile = profiles.get(i);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"className\":\"").append(escape(profile.getClassName())).append('"')
+                    .append(",\"totalNanos\":").append(profile.getTotalNanos())
+                    .append(",\"importFilterNanos\":").append(profile.getImportFilterNanos())
+                    .append(",\"conditionEvaluationNanos\":").append(profile.getConditionEvaluationNanos())
+                    .append(",\"conditionEvaluationCount\":").append(profile.getConditionEvaluationCount())
+                    .append(",\"beanInstantiationNanos\":").append(profile.getBeanInstantiationNanos())
+                    .append(",\"beanCount\":").append(profile.getBeanCount())
+                    .append('}');
+        }
+        json.append("]}");
+        return json.toString();
+    }
+
+    private AutoConfigurationProfile getOrCreateProfile(String autoConfigurationClass) {
+        return this.profiles.computeIfAbsent(autoConfigurationClass, AutoConfigurationProfile::new);
+    }
+
+    static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * Get the {@link AutoConfigurationProfiler} registered in the {@link BeanFactory}
+     *
+     * @param beanFactory {@link BeanFactory}
+     * @return <code>null</code> if the profiler is not enabled
+     */
+    @Nullable
+    public static AutoConfigurationProfiler get(@Nullable BeanFactory beanFactory) {
+        if (beanFactory instanceof ConfigurableListableBeanFactory configurableBeanFactory
+                && configurableBeanFactory.containsSingleton(BEAN_NAME)) {
+            return configurableBeanFactory.getBean(BEAN_NAME, AutoConfigurationProfiler.class);
+        }
+        return null;
+    }
+
+    /**
+     * Register the {@link AutoConfigurationProfiler} into the {@link ConfigurableListableBeanFactory} if absent
+     *
+     * @param beanFactory {@link ConfigurableListableBeanFactory}
+     * @return the registered {@link AutoConfigurationProfiler}
+     */
+    @Nonnull
+    static AutoConfigurationProfiler register(ConfigurableListableBeanFactory beanFactory) {
+        AutoConfigurationProfiler profiler = get(beanFactory);
+        if (profiler == null) {
+            profiler = new AutoConfigurationProfiler();
+            beanFactory.registerSingleton(BEAN_NAME, profiler);
+        }
+        return profiler;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure.profiler;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.boot.autoconfigure.AutoConfigurationImportEvent;
+import org.springframework.boot.autoconfigure.AutoConfigurationImportListener;
+
+import static io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler.get;
+
+/**
+ * The {@link AutoConfigurationImportListener} tells {@link AutoConfigurationProfiler} the imported auto-configuration
+ * classes, whose conditions are about to be evaluated.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AutoConfigurationProfiler
+ * @since 1.0.0
+ */
+public class AutoConfigurationProfilerImportListener implements AutoConfigurationImportListener, BeanFactoryAware {
+
+    private BeanFactory beanFactory;
+
+    @Override
+    public void onAutoConfigurationImportEvent(AutoConfigurationImportEvent event) {
+        AutoConfigurationProfiler profiler = get(this.beanFactory);
+        if (profiler != null) {
+            profiler.addAutoConfigurationClasses(event.getCandidateConfigurations());
+            profiler.startConditionEvaluation();
+        }
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        this.beanFactory = beanFactory;
+    }
+}
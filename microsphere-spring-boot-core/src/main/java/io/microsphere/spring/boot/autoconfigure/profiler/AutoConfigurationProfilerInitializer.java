@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure.profiler;
+
+import io.microsphere.logging.Logger;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionEvaluationReport;
+import org.springframework.boot.autoconfigure.condition.ConditionEvaluationReport.ConditionAndOutcomes;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.lang.reflect.Field;
+import java.util.SortedMap;
+
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler.ENABLED_PROPERTY_NAME;
+import static io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler.register;
+import static org.springframework.util.ReflectionUtils.findField;
+import static org.springframework.util.ReflectionUtils.getField;
+import static org.springframework.util.ReflectionUtils.makeAccessible;
+import static org.springframework.util.ReflectionUtils.setField;
+
+/**
+ * The {@link ApplicationContextInitializer} registers the {@link AutoConfigurationProfiler} and installs its probes
+ * before the refresh if {@link AutoConfigurationProfiler#ENABLED_PROPERTY_NAME enabled} :
+ * <ul>
+ *     <li>The condition evaluation : the outcomes of {@link ConditionEvaluationReport} are tracked, which are recorded
+ *     by Spring Boot right after the evaluations</li>
+ *     <li>The bean instantiation : {@link BeanInstantiationProfiler}, which is removed when the application is
+ *     ready</li>
+ * </ul>
+ * The import filtering is measured by {@link io.microsphere.spring.boot.autoconfigure.ConfigurableAutoConfigurationImportFilter}
+ * and {@link io.microsphere.spring.boot.autoconfigure.ClassPathPruningAutoConfigurationImportFilter}.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AutoConfigurationProfiler
+ * @since 1.0.0
+ */
+public class AutoConfigurationProfilerInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    private static final Logger logger = getLogger(AutoConfigurationProfilerInitializer.class);
+
+    private static final String OUTCOMES_FIELD_NAME = "outcomes";
+
+    @Override
+    public void initialize(ConfigurableApplicationContext context) {
+        ConfigurableEnvironment environment = context.getEnvironment();
+        if (!environment.getProperty(ENABLED_PROPERTY_NAME, Boolean.class, false)) {
+            return;
+        }
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+        AutoConfigurationProfiler profiler = register(beanFactory);
+        profileConditionEvaluation(ConditionEvaluationReport.get(beanFactory), profiler);
+        BeanInstantiationProfiler beanInstantiationProfiler = new BeanInstantiationProfiler(beanFactory, profiler);
+        beanFactory.addBeanPostProcessor(beanInstantiationProfiler);
+        context.addApplicationListener(beanInstantiationProfiler);
+        if (logger.isDebugEnabled()) {
+            logger.debug("The AutoConfigurationProfiler was installed into the context[id : '{}']", context.getId());
+        }
+    }
+
+    /**
+     * Track the outcomes of {@link ConditionEvaluationReport}, Spring Boot provides no callback around the
+     * condition evaluation.
+     *
+     * @param report   {@link ConditionEvaluationReport}
+     * @param profiler {@link AutoConfigurationProfiler}
+     * @return <code>true</code> if tracked
+     */
+    static boolean profileConditionEvaluation(ConditionEvaluationReport report, AutoConfigurationProfiler profiler) {
+        Field field = findField(ConditionEvaluationReport.class, OUTCOMES_FIELD_NAME, SortedMap.class);
+        if (field == null) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("The condition evaluation can't be profiled, caused by no field '{}' in {}",
+                        OUTCOMES_FIELD_NAME, ConditionEvaluationReport.class);
+            }
+            return false;
+        }
+        try {
+            makeAccessible(field);
+            SortedMap<String, ConditionAndOutcomes> outcomes = (SortedMap<String, ConditionAndOutcomes>) getField(field, report);
+            if (!(outcomes instanceof ConditionEvaluationProfilingMap)) {
+                setField(field, report, new ConditionEvaluationProfilingMap(outcomes, profiler));
+            }
+            return true;
+        } catch (RuntimeException e) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("The condition evaluation can't be profiled", e);
+            }
+            return false;
+        }
+    }
+}
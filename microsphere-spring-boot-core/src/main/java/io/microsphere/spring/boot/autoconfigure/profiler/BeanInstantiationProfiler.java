@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure.profiler;
+
+import io.microsphere.annotation.Nullable;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.beans.factory.support.AbstractBeanFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+import static java.lang.System.nanoTime;
+
+/**
+ * The {@link InstantiationAwareBeanPostProcessor} measures the time from the instantiation to the initialization of
+ * beans, the time of their dependencies created in between is excluded, and records it into
+ * {@link AutoConfigurationProfiler} by the class defining the bean.
+ * <p>
+ * The frames of the beans whose creations were failed are discarded once they are no longer
+ * {@link ConfigurableListableBeanFactory#isCurrentlyInCreation(String) in creation}, and this profiler is removed from
+ * the {@link ConfigurableListableBeanFactory} when the application is ready, thus the beans created at runtime, e.g,
+ * the prototype beans, are never profiled.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AutoConfigurationProfiler#recordBeanInstantiation(String, String, long)
+ * @since 1.0.0
+ */
+class BeanInstantiationProfiler implements InstantiationAwareBeanPostProcessor, ApplicationListener<ApplicationReadyEvent> {
+
+    private final ConfigurableListableBeanFactory beanFactory;
+
+    private final AutoConfigurationProfiler profiler;
+
+    private final ThreadLocal<Deque<Frame>> framesHolder = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private volatile boolean disabled;
+
+    BeanInstantiationProfiler(ConfigurableListableBeanFactory beanFactory, AutoConfigurationProfiler profiler) {
+        this.beanFactory = beanFactory;
+        this.profiler = profiler;
+    }
+
+    @Override
+    public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) throws BeansException {
+        if (this.disabled) {
+            return null;
+        }
+        Deque<Frame> frames = this.framesHolder.get();
+        discardFailedFrames(frames);
+        frames.push(new Frame(beanName, nanoTime()));
+        return null;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (this.disabled) {
+            return bean;
+        }
+        Frame frame = popFrame(beanName);
+        if (frame != null) {
+            long elapsed = nanoTime() - frame.startNanos;
+            Frame parentFrame = this.framesHolder.get().peek();
+            if (parentFrame != null) {
+                parentFrame.childrenNanos += elapsed;
+            }
+            String definingClass = resolveDefiningClass(beanName);
+            if (definingClass != null) {
+                this.profiler.recordBeanInstantiation(definingClass, beanName, elapsed - frame.childrenNanos);
+            }
+            this.profiler.startConditionEvaluation();
+        }
+        return bean;
+    }
+
+    /**
+     * Remove this profiler from the {@link ConfigurableListableBeanFactory} when the application is ready
+     *
+     * @param event {@link ApplicationReadyEvent}
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (event.getApplicationContext().getBeanFactory() != this.beanFactory) {
+            // The event was propagated from the child context
+            return;
+        }
+        this.disabled = true;
+        if (this.beanFactory instanceof AbstractBeanFactory abstractBeanFactory) {
+            abstractBeanFactory.getBeanPostProcessors().remove(this);
+        }
+        this.framesHolder.remove();
+    }
+
+    /**
+     * Discard the frames on the top whose beans are no longer in creation, because their creations were failed
+     * without {@link #postProcessAfterInitialization(Object, String) the initialization}
+     *
+     * @param frames the frames of current thread
+     */
+    private void discardFailedFrames(Deque<Frame> frames) {
+        Frame frame;
+        while ((frame = frames.peek()) != null && isFailed(frame.beanName)) {
+            frames.pop();
+        }
+    }
+
+    private boolean isFailed(String beanName) {
+        // The beans without definitions, e.g, the inner beans, are never tracked by the "in creation" states
+        return this.beanFactory.containsBeanDefinition(beanName) && !this.beanFactory.isCurrentlyInCreation(beanName);
+    }
+
+    /**
+     * Pop the frame of the bean, the frames above it are discarded because their creations were failed
+     *
+     * @param beanName the bean name
+     * @return <code>null</code> if the bean was not created by this thread, e.g, the object of
+     * {@link org.springframework.beans.factory.FactoryBean}
+     */
+    @Nullable
+    private Frame popFrame(String beanName) {
+        Deque<Frame> frames = this.framesHolder.get();
+        boolean found = false;
+        for (Iterator<Frame> iterator = frames.iterator(); iterator.hasNext() && !found; ) {
+            found = beanName.equals(iterator.next().beanName);
+        }
+        if (!found) {
+            return null;
+        }
+        Frame frame;
+        do {
+            frame = frames.pop();
+        } while (!beanName.equals(frame.beanName));
+        if (frames.isEmpty()) {
+            this.framesHolder.remove();
+        }
+        return frame;
+    }
+
+    int getFrameCount() {
+        return this.framesHolder.get().size();
+    }
+
+    @Nullable
+    String resolveDefiningClass(String beanName) {
+        if (!this.beanFactory.containsBeanDefinition(beanName)) {
+            return null;
+        }
+        BeanDefinition beanDefinition = this.beanFactory.getMergedBeanDefinition(beanName);
+        String factoryBeanName = beanDefinition.getFactoryBeanName();
+        if (factoryBeanName == null) {
+            return beanDefinition.getBeanClassName();
+        }
+        return this.beanFactory.containsBeanDefinition(factoryBeanName) ?
+                this.beanFactory.getMergedBeanDefinition(factoryBeanName).getBeanClassName() : null;
+    }
+
+    private static class Frame {
+
+        private final String beanName;
+
+        private final long startNanos;
+
+        private long childrenNanos;
+
+        private Frame(String beanName, long startNanos) {
+            this.beanName = beanName;
+            this.startNanos = startNanos;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure.profiler;
+
+import org.springframework.boot.autoconfigure.condition.ConditionEvaluationReport.ConditionAndOutcomes;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * The outcomes {@link SortedMap} of {@link org.springframework.boot.autoconfigure.condition.ConditionEvaluationReport}
+ * records the condition evaluation into {@link AutoConfigurationProfiler} once the outcome is recorded.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AutoConfigurationProfiler#recordConditionEvaluation(String)
+ * @since 1.0.0
+ */
+class ConditionEvaluationProfilingMap extends TreeMap<String, ConditionAndOutcomes> {
+
+    private final transient AutoConfigurationProfiler profiler;
+
+    ConditionEvaluationProfilingMap(SortedMap<String, ConditionAndOutcomes> outcomes, AutoConfigurationProfiler profiler) {
+        super(outcomes);
+        this.profiler = profiler;
+    }
+
+    @Override
+    public ConditionAndOutcomes computeIfAbsent(String source, Function<? super String, ? extends ConditionAndOutcomes> mappingFunction) {
+        this.profiler.recordConditionEvaluation(source);
+        return super.computeIfAbsent(source, mappingFunction);
+    }
+}
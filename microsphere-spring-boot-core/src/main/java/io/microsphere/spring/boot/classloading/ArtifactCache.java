@@ -0,0 +1,290 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.classloading;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.classloading.Artifact;
+import io.microsphere.classloading.MavenArtifact;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static io.microsphere.collection.MapUtils.newLinkedHashMap;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * The on-disk cache of the {@link Artifact artifacts} resolved from the class path archives, each entry is keyed by
+ * the path, the size and the last modified time of the archive file, thus the archive is resolved again only if it
+ * was changed.
+ * <p>
+ * The layout of cache file :
+ * <pre>
+ * header   : magic(int), version(int), entries count(int)
+ * entries  : key(UTF), file(UTF), size(long), last modified(long), type(byte)
+ *            [, group id(UTF)] [, artifact id(UTF), version(UTF)]
+ * </pre>
+ * The entry without {@link Artifact} is also cached, so the archives that can't be resolved are skipped as well.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   ArtifactCache cache = ArtifactCache.load(file);
+ *   ArtifactCache.Entry entry = cache.get(url.toString(), archiveFile);
+ *   Artifact artifact = entry == null ? resolve(url) : entry.toArtifact(url);
+ *   cache.write(file);
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ArtifactRegistry
+ * @since 1.0.0
+ */
+class ArtifactCache {
+
+    /**
+     * The magic number of cache file : "MSAR"
+     */
+    static final int MAGIC = 0x4D534152;
+
+    /**
+     * The version of cache layout
+     */
+    static final int VERSION = 1;
+
+    /**
+     * The max count of entries, the entries of the other class paths are retained until the count is reached
+     */
+    static final int MAX_SIZE = 4096;
+
+    private static final byte NONE = 0;
+
+    private static final byte ARTIFACT = 1;
+
+    private static final byte MAVEN_ARTIFACT = 2;
+
+    private final Map<String, Entry> entries;
+
+    ArtifactCache() {
+        this(newLinkedHashMap());
+    }
+
+    private ArtifactCache(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Get the cached entry if the archive file was not changed.
+     *
+     * @param key  the key of entry, e.g, the URL of class path
+     * @param file the archive file
+     * @return {@code null} if absent or stale
+     */
+    @Nullable
+    Entry get(String key, File file) {
+        Entry entry = this.entries.get(key);
+        return entry != null && entry.matches(file) ? entry : null;
+    }
+
+    /**
+     * Put the entry of the archive file.
+     *
+     * @param key      the key of entry, e.g, the URL of class path
+     * @param file     the archive file
+     * @param artifact the resolved {@link Artifact}, or {@code null} if it can't be resolved
+     */
+    void put(String key, File file, @Nullable Artifact artifact) {
+        this.entries.put(key, new Entry(file.getAbsolutePath(), file.length(), file.lastModified(), artifact));
+    }
+
+    /**
+     * Retain the entries from the other cache whose archive files are still unchanged, and are absent in this cache,
+     * in the order of the other cache, i.e, the recently used first, until the count of entries reaches the max size.
+     *
+     * @param other   the other {@link ArtifactCache}
+     * @param maxSize the max count of entries
+     */
+    void retain(ArtifactCache other, int maxSize) {
+        for (Map.Entry<String, Entry> otherEntry : other.entries.entrySet()) {
+            if (this.entries.size() >= maxSize) {
+                break;
+            }
+            Entry entry = otherEntry.getValue();
+            if (!this.entries.containsKey(otherEntry.getKey()) && entry.matches(new File(entry.file))) {
+                this.entries.put(otherEntry.getKey(), entry);
+            }
+        }
+    }
+
+    int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Load the {@link ArtifactCache} from the file.
+     *
+     * @param file the cache file
+     * @return non-null
+     * @throws IOException if the file can't be read or it's malformed
+     */
+    @Nonnull
+    static ArtifactCache load(File file) throws IOException {
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+            DataInputStream input = new DataInputStream(inputStream);
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                throw new IOException("The artifacts cache['" + file + "'] is malformed");
+            }
+            int count = input.readInt();
+            Map<String, Entry> entries = newLinkedHashMap(count);
+            for (int i = 0; i < count; i++) {
+                String key = input.readUTF();
+                String archiveFile = input.readUTF();
+                long size = input.readLong();
+                long lastModified = input.readLong();
+                byte type = input.readByte();
+                String groupId = type == MAVEN_ARTIFACT ? emptyToNull(input.readUTF()) : null;
+                String artifactId = type == NONE ? null : input.readUTF();
+                String version = type == NONE ? null : emptyToNull(input.readUTF());
+                entries.put(key, new Entry(archiveFile, size, lastModified, type, groupId, artifactId, version));
+            }
+            return new ArtifactCache(entries);
+        }
+    }
+
+    /**
+     * Write the {@link ArtifactCache} into the file atomically.
+     *
+     * @param file the cache file
+     * @throws IOException if the file can't be written
+     */
+    void write(File file) throws IOException {
+        Path path = file.toPath();
+        Files.createDirectories(path.getParent());
+        Path tempPath = Files.createTempFile(path.getParent(), file.getName(), ".tmp");
+        try {
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(tempPath))) {
+                DataOutputStream output = new DataOutputStream(outputStream);
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeInt(this.entries.size());
+                for (Map.Entry<String, Entry> entry : this.entries.entrySet()) {
+                    output.writeUTF(entry.getKey());
+                    entry.getValue().write(output);
+                }
+                output.flush();
+            }
+            Files.move(tempPath, path, REPLACE_EXISTING, ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    /**
+     * The entry of {@link ArtifactCache}
+     */
+    static class Entry {
+
+        private final String file;
+
+        private final long size;
+
+        private final long lastModified;
+
+        private final byte type;
+
+        private final String groupId;
+
+        private final String artifactId;
+
+        private final String version;
+
+        Entry(String file, long size, long lastModified, @Nullable Artifact artifact) {
+            this(file, size, lastModified, typeOf(artifact),
+                    artifact instanceof MavenArtifact mavenArtifact ? mavenArtifact.getGroupId() : null,
+                    artifact == null ? null : artifact.getArtifactId(),
+                    artifact == null ? null : artifact.getVersion());
+        }
+
+        Entry(String file, long size, long lastModified, byte type, String groupId, String artifactId, String version) {
+            this.file = file;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.type = type;
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+            this.version = version;
+        }
+
+        boolean matches(File file) {
+            return this.size == file.length() && this.lastModified == file.lastModified();
+        }
+
+        /**
+         * Create the {@link Artifact} located by the specified {@link URL}.
+         *
+         * @param location the location of {@link Artifact}
+         * @return {@code null} if the archive can't be resolved as an {@link Artifact}
+         */
+        @Nullable
+        Artifact toArtifact(URL location) {
+            return switch (this.type) {
+                case MAVEN_ARTIFACT -> MavenArtifact.create(this.groupId, this.artifactId, this.version, location);
+                case ARTIFACT -> Artifact.create(this.artifactId, this.version, location);
+                default -> null;
+            };
+        }
+
+        private void write(DataOutputStream output) throws IOException {
+            output.writeUTF(this.file);
+            output.writeLong(this.size);
+            output.writeLong(this.lastModified);
+            output.writeByte(this.type);
+            if (this.type == MAVEN_ARTIFACT) {
+                output.writeUTF(nullSafe(this.groupId));
+            }
+            if (this.type != NONE) {
+                output.writeUTF(nullSafe(this.artifactId));
+                output.writeUTF(nullSafe(this.version));
+            }
+        }
+
+        private static byte typeOf(@Nullable Artifact artifact) {
+            if (artifact == null) {
+                return NONE;
+            }
+            return artifact instanceof MavenArtifact ? MAVEN_ARTIFACT : ARTIFACT;
+        }
+
+        private static String nullSafe(@Nullable String value) {
+            return value == null ? "" : value;
+        }
+    }
+
+    @Nullable
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,594 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.classloading;
+
+import io.microsphere.annotation.ConfigurationProperty;
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.classloading.Artifact;
+import io.microsphere.classloading.ArtifactDetector;
+import io.microsphere.classloading.ArtifactResourceResolver;
+import io.microsphere.logging.Logger;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+import static io.microsphere.annotation.ConfigurationProperty.SYSTEM_PROPERTIES_SOURCE;
+import static io.microsphere.collection.SetUtils.newLinkedHashSet;
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.spring.boot.constants.PropertyConstants.MICROSPHERE_SPRING_BOOT_PROPERTY_NAME_PREFIX;
+import static io.microsphere.util.ServiceLoaderUtils.loadServices;
+import static java.io.File.pathSeparator;
+import static java.lang.ClassLoader.getSystemClassLoader;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Runtime.getRuntime;
+import static java.lang.System.getProperty;
+import static java.lang.System.nanoTime;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.springframework.util.ClassUtils.getDefaultClassLoader;
+import static org.springframework.util.StringUtils.tokenizeToStringArray;
+import static org.springframework.util.SystemPropertyUtils.resolvePlaceholders;
+
+/**
+ * The {@link ClassLoader}-scoped registry of the {@link Artifact artifacts} in the class path, which detects the
+ * artifacts only once per {@link ClassLoader} and shares the result with all consumers, e.g, the artifacts collision
+ * diagnosis and the "artifacts" endpoint.
+ * <p>
+ * The class path entries are the "java.class.path" and the {@link URL URLs} of {@link URLClassLoader} and its
+ * parents. The entries are resolved in parallel on the bounded pool whose size is {@link #setParallelism(int)
+ * configurable}, the Maven artifacts are {@link MavenArtifactScanner scanned} from the "pom.properties" entries only,
+ * and the others are resolved by the {@link ArtifactResourceResolver ArtifactResourceResolvers} as same as
+ * {@link ArtifactDetector}. The results of archive files are cached in the
+ * {@link #CACHE_DIRECTORY_PROPERTY_NAME directory} by {@link ArtifactCache}, which is keyed by the path, the size and
+ * the last modified time of archive file, thus the restarted application resolves the changed archives only.
+ * <p>
+ * The registries are kept in a {@link WeakHashMap} keyed by the {@link ClassLoader}, and the registry refers to its
+ * {@link ClassLoader} weakly, thus the registry lives as long as the {@link ClassLoader}, which is eligible for garbage
+ * collection as usual.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   ArtifactRegistry registry = ArtifactRegistry.get(classLoader);
+ *   List<Artifact> artifacts = registry.getArtifacts();
+ *   // Detect again after the class path was changed
+ *   registry.refresh();
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see Artifact
+ * @see ArtifactDetector
+ * @see ArtifactCache
+ * @since 1.0.0
+ */
+public class ArtifactRegistry {
+
+    private static final Logger logger = getLogger(ArtifactRegistry.class);
+
+    /**
+     * The property name prefix of the artifacts cache : "microsphere.spring.boot.artifacts.cache."
+     */
+    public static final String CACHE_PROPERTY_NAME_PREFIX = MICROSPHERE_SPRING_BOOT_PROPERTY_NAME_PREFIX + "artifacts.cache.";
+
+    @ConfigurationProperty(
+            type = boolean.class,
+            defaultValue = "true",
+            description = "Whether to cache the artifacts resolved from the class path archives",
+            source = SYSTEM_PROPERTIES_SOURCE
+    )
+    public static final String CACHE_ENABLED_PROPERTY_NAME = CACHE_PROPERTY_NAME_PREFIX + "enabled";
+
+    /**
+     * The default directory of the artifacts cache
+     */
+    public static final String DEFAULT_CACHE_DIRECTORY = "${user.home}/.microsphere/artifacts";
+
+    @ConfigurationProperty(
+            defaultValue = DEFAULT_CACHE_DIRECTORY,
+            description = "The directory of the artifacts cache",
+            source = SYSTEM_PROPERTIES_SOURCE
+    )
+    public static final String CACHE_DIRECTORY_PROPERTY_NAME = CACHE_PROPERTY_NAME_PREFIX + "directory";
+
+    /**
+     * The name of cache file
+     */
+    public static final String CACHE_FILE_NAME = "artifacts.cache";
+
+    /**
+     * The thread name prefix of the resolving pool
+     */
+    public static final String THREAD_NAME_PREFIX = "artifact-registry-";
+
+    /**
+     * The registries guarded by itself
+     */
+    private static final Map<ClassLoader, ArtifactRegistry> registries = new WeakHashMap<>();
+
+    private final WeakReference<ClassLoader> classLoaderReference;
+
+    @Nullable
+    private final File cacheDirectory;
+
+    private volatile List<Artifact> artifacts;
+
+    private volatile int parallelism = getRuntime().availableProcessors();
+
+    private volatile int resolvedCount;
+
+    ArtifactRegistry(ClassLoader classLoader, @Nullable File cacheDirectory) {
+        this.classLoaderReference = new WeakReference<>(classLoader);
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * Get the shared {@link ArtifactRegistry} of the specified {@link ClassLoader}.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   ArtifactRegistry registry = ArtifactRegistry.get(Thread.currentThread().getContextClassLoader());
+     * }</pre>
+     *
+     * @param classLoader the {@link ClassLoader}, or {@code null} to use the default one
+     * @return non-null
+     */
+    @Nonnull
+    public static ArtifactRegistry get(@Nullable ClassLoader classLoader) {
+        ClassLoader targetClassLoader = classLoader == null ? getDefaultClassLoader() : classLoader;
+        synchronized (registries) {
+            return registries.computeIfAbsent(targetClassLoader, key -> new ArtifactRegistry(key, resolveCacheDirectory()));
+        }
+    }
+
+    /**
+     * Get the {@link Artifact artifacts} in the class path, which are detected on the first invocation.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   for (Artifact artifact : ArtifactRegistry.get(classLoader).getArtifacts()) {
+     *       System.out.println(artifact);
+     *   }
+     * }</pre>
+     *
+     * @return the read-only {@link List} of {@link Artifact artifacts} in the order of class path
+     */
+    @Nonnull
+    public List<Artifact> getArtifacts() {
+        List<Artifact> artifacts = this.artifacts;
+        if (artifacts == null) {
+            synchronized (this) {
+                artifacts = this.artifacts;
+                if (artifacts == null) {
+                    artifacts = detect();
+                    this.artifacts = artifacts;
+                }
+            }
+        }
+        return artifacts;
+    }
+
+    /**
+     * Get the {@link Artifact} located by the class path entry.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   ArtifactRegistry registry = ArtifactRegistry.get(classLoader);
+     *   for (URL classPathURL : registry.getClassPathURLs()) {
+     *       Artifact artifact = registry.getArtifact(classPathURL);
+     *   }
+     * }</pre>
+     *
+     * @param classPathURL the {@link URL} of class path entry
+     * @return {@code null} if the entry is not an {@link Artifact}
+     */
+    @Nullable
+    public Artifact getArtifact(URL classPathURL) {
+        String location = classPathURL.toString();
+        for (Artifact artifact : getArtifacts()) {
+            URL artifactLocation = artifact.getLocation();
+            if (artifactLocation != null && location.equals(artifactLocation.toString())) {
+                return artifact;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the {@link URL URLs} of class path, including the "java.class.path" if the system {@link ClassLoader} is
+     * involved, and the {@link URL URLs} of {@link URLClassLoader} and its parents from the top to the bottom.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   List<URL> classPathURLs = ArtifactRegistry.get(classLoader).getClassPathURLs();
+     * }</pre>
+     *
+     * @return the read-only {@link List} of {@link URL URLs}
+     */
+    @Nonnull
+    public List<URL> getClassPathURLs() {
+        ClassLoader classLoader = getClassLoader();
+        return classLoader == null ? emptyList() : unmodifiableList(new ArrayList<>(getClassPathURLs(classLoader)));
+    }
+
+    /**
+     * Detect the {@link Artifact artifacts} again, the unchanged archives are still loaded from the cache.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   ArtifactRegistry registry = ArtifactRegistry.get(classLoader);
+     *   registry.refresh();
+     * }</pre>
+     */
+    public void refresh() {
+        synchronized (this) {
+            this.artifacts = detect();
+        }
+    }
+
+    /**
+     * Get the {@link ClassLoader} of this registry.
+     *
+     * @return {@code null} if the {@link ClassLoader} was collected
+     */
+    @Nullable
+    public ClassLoader getClassLoader() {
+        return this.classLoaderReference.get();
+    }
+
+    /**
+     * Get the directory of the artifacts cache.
+     *
+     * @return {@code null} if the cache is disabled
+     */
+    @Nullable
+    public File getCacheDirectory() {
+        return this.cacheDirectory;
+    }
+
+    /**
+     * Sets the max count of threads to resolve the class path entries.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   ArtifactRegistry registry = ArtifactRegistry.get(classLoader);
+     *   registry.setParallelism(4);
+     *   List<Artifact> artifacts = registry.getArtifacts();
+     * }</pre>
+     *
+     * @param parallelism the max count of threads, the entries are resolved in the caller thread if it's less than 2
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = max(1, parallelism);
+    }
+
+    /**
+     * Returns the max count of threads to resolve the class path entries.
+     *
+     * @return the positive count, the default value is the count of available processors
+     */
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * The count of class path entries that were resolved by the {@link ArtifactResourceResolver resolvers} rather
+     * than loaded from the cache in the last detection.
+     *
+     * @return the count of resolved entries
+     */
+    int getResolvedCount() {
+        return this.resolvedCount;
+    }
+
+    private List<Artifact> detect() {
+        ClassLoader classLoader = getClassLoader();
+        if (classLoader == null) {
+            return emptyList();
+        }
+        long startTime = nanoTime();
+        File cacheFile = this.cacheDirectory == null ? null : new File(this.cacheDirectory, CACHE_FILE_NAME);
+        ArtifactCache previousCache = loadCache(cacheFile);
+        ArtifactCache cache = new ArtifactCache();
+        List<URL> classPathURLs = new ArrayList<>(getClassPathURLs(classLoader));
+        int size = classPathURLs.size();
+        File[] archiveFiles = new File[size];
+        Artifact[] artifacts = new Artifact[size];
+        List<Integer> unresolvedIndexes = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            URL classPathURL = classPathURLs.get(i);
+            File archiveFile = resolveArchiveFile(classPathURL);
+            String key = classPathURL.toString();
+            ArtifactCache.Entry entry = archiveFile == null ? null : previousCache.get(key, archiveFile);
+            if (entry == null) {
+                unresolvedIndexes.add(i);
+            } else {
+                artifacts[i] = entry.toArtifact(classPathURL);
+                cache.put(key, archiveFile, artifacts[i]);
+            }
+            archiveFiles[i] = archiveFile;
+        }
+
+        boolean[] resolved = resolveArtifacts(classLoader, classPathURLs, unresolvedIndexes, artifacts);
+        boolean modified = false;
+        for (int index : unresolvedIndexes) {
+            File archiveFile = archiveFiles[index];
+            // The directories are never cached, their contents may be changed without the modification
+            if (resolved[index] && archiveFile != null && describes(artifacts[index], archiveFile)) {
+                cache.put(classPathURLs.get(index).toString(), archiveFile, artifacts[index]);
+                modified = true;
+            }
+        }
+        this.resolvedCount = unresolvedIndexes.size();
+        if (modified) {
+            cache.retain(previousCache, ArtifactCache.MAX_SIZE);
+            writeCache(cache, cacheFile);
+        }
+
+        List<Artifact> artifactsList = new ArrayList<>(size);
+        for (Artifact artifact : artifacts) {
+            if (artifact != null) {
+                artifactsList.add(artifact);
+            }
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("{} artifacts were detected from {} class path entries({} resolved) of ClassLoader['{}'] in {} ms",
+                    artifactsList.size(), size, unresolvedIndexes.size(), classLoader,
+                    NANOSECONDS.toMillis(nanoTime() - startTime));
+        }
+        return unmodifiableList(artifactsList);
+    }
+
+    /**
+     * Resolve the {@link Artifact artifacts} of the class path entries in parallel, the Maven artifacts are
+     * {@link MavenArtifactScanner scanned} from "pom.properties" directly, the others are resolved by the
+     * {@link ArtifactResourceResolver resolvers}.
+     *
+     * @param classLoader   the {@link ClassLoader} to load the {@link ArtifactResourceResolver resolvers}
+     * @param classPathURLs the {@link URL URLs} of class path
+     * @param indexes       the indexes of class path entries to be resolved
+     * @param artifacts     the resolved {@link Artifact artifacts} to be set by the indexes
+     * @return the flags whether the class path entries were resolved by the indexes
+     */
+    private boolean[] resolveArtifacts(ClassLoader classLoader, List<URL> classPathURLs, List<Integer> indexes,
+                                       Artifact[] artifacts) {
+        boolean[] resolved = new boolean[artifacts.length];
+        int size = indexes.size();
+        if (size == 0) {
+            return resolved;
+        }
+        List<ArtifactResourceResolver> resolvers = loadResolvers(classLoader);
+        int threads = min(this.parallelism, size);
+        ExecutorService executorService = threads > 1 ? newFixedThreadPool(threads, newThreadFactory()) : null;
+        try (MavenArtifactScanner scanner = new MavenArtifactScanner()) {
+            List<Future<Artifact>> futures = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                URL classPathURL = classPathURLs.get(indexes.get(i));
+                Callable<Artifact> task = () -> resolve(classPathURL, scanner, resolvers);
+                futures.add(executorService == null ? completedFuture(task) : executorService.submit(task));
+            }
+            for (int i = 0; i < size; i++) {
+                int index = indexes.get(i);
+                try {
+                    artifacts[index] = futures.get(i).get();
+                    resolved[index] = true;
+                } catch (ExecutionException e) {
+                    logger.warn("The class path entry['{}'] can't be resolved", classPathURLs.get(index), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("The artifacts detection of ClassLoader['{}'] was interrupted", classLoader, e);
+        } catch (IOException e) {
+            logger.warn("The archives of ClassLoader['{}'] can't be closed", classLoader, e);
+        } finally {
+            if (executorService != null) {
+                executorService.shutdownNow();
+            }
+        }
+        return resolved;
+    }
+
+    @Nullable
+    private static Artifact resolve(URL classPathURL, MavenArtifactScanner scanner, List<ArtifactResourceResolver> resolvers) {
+        try {
+            Artifact artifact = scanner.scan(classPathURL);
+            if (artifact != null) {
+                return artifact;
+            }
+        } catch (IOException e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("The class path entry['{}'] can't be scanned, it will be resolved by the resolvers", classPathURL, e);
+            }
+        }
+        return resolve(classPathURL, resolvers);
+    }
+
+    private static Future<Artifact> completedFuture(Callable<Artifact> task) {
+        FutureTask<Artifact> future = new FutureTask<>(task);
+        future.run();
+        return future;
+    }
+
+    private static ThreadFactory newThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    private static List<ArtifactResourceResolver> loadResolvers(ClassLoader classLoader) {
+        List<ArtifactResourceResolver> resolvers = new ArrayList<>();
+        try {
+            for (ArtifactResourceResolver resolver : loadServices(ArtifactResourceResolver.class, classLoader)) {
+                resolvers.add(resolver);
+            }
+        } catch (IllegalArgumentException e) {
+            // No ArtifactResourceResolver is visible to the ClassLoader
+            if (logger.isDebugEnabled()) {
+                logger.debug("No ArtifactResourceResolver was found in the ClassLoader['{}']", classLoader, e);
+            }
+        }
+        return resolvers;
+    }
+
+    @Nullable
+    private static Artifact resolve(URL classPathURL, List<ArtifactResourceResolver> resolvers) {
+        for (ArtifactResourceResolver resolver : resolvers) {
+            Artifact artifact = resolver.resolve(classPathURL);
+            if (artifact != null) {
+                return artifact;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether the {@link Artifact} describes the archive file itself rather than another location.
+     */
+    private static boolean describes(@Nullable Artifact artifact, File archiveFile) {
+        URL location = artifact == null ? null : artifact.getLocation();
+        File locationFile = location == null ? null : resolveArchiveFile(location);
+        return locationFile == null || archiveFile.equals(locationFile);
+    }
+
+    private ArtifactCache loadCache(@Nullable File cacheFile) {
+        if (cacheFile != null && cacheFile.isFile()) {
+            try {
+                return ArtifactCache.load(cacheFile);
+            } catch (IOException e) {
+                logger.warn("The artifacts cache['{}'] can't be read, the class path will be resolved", cacheFile, e);
+            }
+        }
+        return new ArtifactCache();
+    }
+
+    private void writeCache(ArtifactCache cache, @Nullable File cacheFile) {
+        if (cacheFile == null) {
+            return;
+        }
+        try {
+            cache.write(cacheFile);
+        } catch (IOException e) {
+            logger.warn("The artifacts cache['{}'] can't be written", cacheFile, e);
+        }
+    }
+
+    /**
+     * Get the {@link URL URLs} of class path, including the "java.class.path" if the system {@link ClassLoader} is
+     * involved, and the {@link URL URLs} of {@link URLClassLoader} and its parents from the top to the bottom.
+     *
+     * @param classLoader the {@link ClassLoader}
+     * @return the ordered {@link Set} of {@link URL URLs}
+     */
+    @Nonnull
+    static Set<URL> getClassPathURLs(ClassLoader classLoader) {
+        List<ClassLoader> classLoaders = new ArrayList<>();
+        ClassLoader currentClassLoader = classLoader;
+        while (currentClassLoader != null) {
+            classLoaders.add(0, currentClassLoader);
+            currentClassLoader = currentClassLoader.getParent();
+        }
+        ClassLoader systemClassLoader = getSystemClassLoader();
+        Set<URL> classPathURLs = newLinkedHashSet();
+        for (ClassLoader loader : classLoaders) {
+            if (loader instanceof URLClassLoader urlClassLoader) {
+                for (URL url : urlClassLoader.getURLs()) {
+                    classPathURLs.add(url);
+                }
+            } else if (loader == systemClassLoader) {
+                String classPath = getProperty("java.class.path", "");
+                for (String entry : tokenizeToStringArray(classPath, pathSeparator)) {
+                    try {
+                        classPathURLs.add(new File(entry).toURI().toURL());
+                    } catch (MalformedURLException e) {
+                        logger.warn("The class path entry['{}'] is invalid", entry, e);
+                    }
+                }
+            }
+        }
+        return classPathURLs;
+    }
+
+    /**
+     * Resolve the archive file of the class path {@link URL}, e.g, "file:/lib/a.jar" resolves "/lib/a.jar",
+     * "jar:file:/app.jar!/BOOT-INF/lib/a.jar!/" and "jar:nested:/app.jar/!BOOT-INF/lib/a.jar!/" resolve "/app.jar".
+     *
+     * @param url the class path {@link URL}
+     * @return {@code null} if the {@link URL} is not located in a local archive file, e.g, a directory
+     */
+    @Nullable
+    static File resolveArchiveFile(URL url) {
+        String spec = url.toString();
+        if (spec.startsWith("jar:")) {
+            spec = spec.substring(4);
+        }
+        if (spec.startsWith("nested:")) {
+            int index = spec.indexOf("/!");
+            spec = "file:" + (index < 0 ? spec.substring(7) : spec.substring(7, index));
+        } else {
+            int index = spec.indexOf("!/");
+            if (index > -1) {
+                spec = spec.substring(0, index);
+            }
+        }
+        if (!spec.startsWith("file:")) {
+            return null;
+        }
+        try {
+            File file = new File(URI.create(spec));
+            return file.isFile() ? file : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static File resolveCacheDirectory() {
+        if (!Boolean.parseBoolean(getProperty(CACHE_ENABLED_PROPERTY_NAME, "true"))) {
+            return null;
+        }
+        String directory = getProperty(CACHE_DIRECTORY_PROPERTY_NAME, DEFAULT_CACHE_DIRECTORY);
+        return new File(resolvePlaceholders(directory, true));
+    }
+
+    @Override
+    public String toString() {
+        return "ArtifactRegistry{" +
+                "classLoader=" + getClassLoader() +
+                ", cacheDirectory=" + this.cacheDirectory +
+                '}';
+    }
+}
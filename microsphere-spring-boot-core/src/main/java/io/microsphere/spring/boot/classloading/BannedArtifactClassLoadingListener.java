@@ -7,7 +7,12 @@ import io.microsphere.spring.boot.listener.SpringApplicationRunListenerAdapter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.context.event.ApplicationStartingEvent;
 import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextClosedEvent;
 import org.springframework.core.Ordered;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 
 import java.util.concurrent.ConcurrentMap;
 
@@ -20,7 +25,9 @@ import static io.microsphere.util.ShutdownHookUtils.addShutdownHookCallback;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static java.lang.Boolean.getBoolean;
+import static java.lang.System.getProperty;
 import static java.lang.Thread.currentThread;
+import static java.util.Locale.ENGLISH;
 
 /**
  * {@link ApplicationStartingEvent} {@link ApplicationListener} that bans loading of artifact collision classes.
@@ -37,7 +44,22 @@ import static java.lang.Thread.currentThread;
  * app.run(args);
  * }</pre>
  * <p>
- * When enabled, this listener will prevent loading of banned artifacts during application startup.
+ * When enabled, this listener will prevent loading of banned artifacts during application startup, in the
+ * {@link #BANNED_ARTIFACTS_MODE_PROPERTY_NAME configured} mode :
+ * <ul>
+ *     <li>{@link Mode#REMOVE} : the class path entries of the banned artifacts are removed by
+ *     {@link BannedArtifactClassLoadingExecutor} once, only if the {@link ClassLoader} of {@link SpringApplication} is
+ *     the thread context {@link ClassLoader}</li>
+ *     <li>{@link Mode#FILTER} : the {@link ClassLoader} of {@link SpringApplication} is wrapped by
+ *     {@link BannedArtifactFilteringClassLoader}, which keeps rejecting the classes and resources of the banned
+ *     artifacts, including the ones nested in the fat JAR. The wrapper replaces the {@link ClassLoader} of the
+ *     {@link ResourceLoader} if present, and the thread context {@link ClassLoader}, which is reverted when the
+ *     application fails or its context is closed</li>
+ * </ul>
+ * <pre>{@code
+ * -Dmicrosphere.spring.boot.banned-artifacts.enabled=true
+ * -Dmicrosphere.spring.boot.banned-artifacts.mode=FILTER
+ * }</pre>
  *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
  * @since 1.0.0
@@ -54,12 +76,28 @@ public class BannedArtifactClassLoadingListener extends SpringApplicationRunList
     )
     public static final String BANNED_ARTIFACTS_ENABLED_PROPERTY_NAME = MICROSPHERE_SPRING_BOOT_PROPERTY_NAME_PREFIX + "banned-artifacts.enabled";
 
+    @ConfigurationProperty(
+            type = Mode.class,
+            defaultValue = "REMOVE",
+            description = "The mode to ban the artifacts from class loading : REMOVE or FILTER",
+            source = SYSTEM_PROPERTIES_SOURCE
+    )
+    public static final String BANNED_ARTIFACTS_MODE_PROPERTY_NAME = MICROSPHERE_SPRING_BOOT_PROPERTY_NAME_PREFIX + "banned-artifacts.mode";
+
     private static final ConcurrentMap<SpringApplication, Boolean> processedMap = newConcurrentHashMap();
 
     static {
         addShutdownHookCallback(processedMap::clear);
     }
 
+    /**
+     * The {@link BannedArtifactFilteringClassLoader} set as the thread context {@link ClassLoader} of
+     * {@link #contextClassLoaderThread}
+     */
+    private volatile BannedArtifactFilteringClassLoader filteringClassLoader;
+
+    private volatile Thread contextClassLoaderThread;
+
     /**
      * Construct a new {@link BannedArtifactClassLoadingListener} with the given application and arguments.
      * The listener is set to {@link Ordered#HIGHEST_PRECEDENCE} to execute as early as possible.
@@ -102,7 +140,11 @@ public class BannedArtifactClassLoadingListener extends SpringApplicationRunList
         }
 
         if (bannedArtifactsEnabled()) {
-            banArtifacts();
+            if (getMode() == Mode.FILTER) {
+                filterArtifacts();
+            } else {
+                banArtifacts();
+            }
         } else {
             if (logger.isTraceEnabled()) {
                 logger.trace("The artifacts will not be banned, caused by the JDK System property('{}') is missing or 'false'",
@@ -112,6 +154,22 @@ public class BannedArtifactClassLoadingListener extends SpringApplicationRunList
         markProcessed();
     }
 
+    @Override
+    public void contextPrepared(ConfigurableApplicationContext context) {
+        if (this.contextClassLoaderThread != null) {
+            context.addApplicationListener(event -> {
+                if (event instanceof ContextClosedEvent closedEvent && closedEvent.getApplicationContext() == context) {
+                    restoreContextClassLoader();
+                }
+            });
+        }
+    }
+
+    @Override
+    public void failed(ConfigurableApplicationContext context, Throwable exception) {
+        restoreContextClassLoader();
+    }
+
     /**
      * Check whether the current {@link SpringApplication} has already been processed
      * by this listener, to avoid duplicate artifact banning.
@@ -136,6 +194,22 @@ public class BannedArtifactClassLoadingListener extends SpringApplicationRunList
         return getBoolean(BANNED_ARTIFACTS_ENABLED_PROPERTY_NAME);
     }
 
+    /**
+     * Get the mode to ban the artifacts from the {@link #BANNED_ARTIFACTS_MODE_PROPERTY_NAME JDK System property}.
+     *
+     * @return {@link Mode#REMOVE} if the property is missing or invalid
+     */
+    Mode getMode() {
+        String mode = getProperty(BANNED_ARTIFACTS_MODE_PROPERTY_NAME, Mode.REMOVE.name());
+        try {
+            return Mode.valueOf(mode.trim().toUpperCase(ENGLISH));
+        } catch (IllegalArgumentException e) {
+            logger.warn("The JDK System property('{}') is invalid : '{}', the mode 'REMOVE' will be used",
+                    BANNED_ARTIFACTS_MODE_PROPERTY_NAME, mode);
+            return Mode.REMOVE;
+        }
+    }
+
     private void markProcessed() {
         processedMap.put(getSpringApplication(), TRUE);
     }
@@ -163,4 +237,93 @@ public class BannedArtifactClassLoadingListener extends SpringApplicationRunList
 
         discoverer.execute();
     }
+
+    private void filterArtifacts() {
+
+        SpringApplication springApplication = getSpringApplication();
+
+        ClassLoader classLoader = springApplication.getClassLoader();
+
+        if (classLoader instanceof BannedArtifactFilteringClassLoader) {
+            return;
+        }
+
+        BannedArtifactFilteringClassLoader filteringClassLoader = BannedArtifactFilteringClassLoader.of(classLoader);
+
+        if (filteringClassLoader == null) {
+            if (logger.isTraceEnabled()) {
+                logger.trace("No artifact is banned in the ClassLoader[{}]", classLoader);
+            }
+            return;
+        }
+
+        Thread currentThread = currentThread();
+        boolean contextClassLoaderReplaceable = currentThread.getContextClassLoader() == classLoader;
+        ResourceLoader resourceLoader = springApplication.getResourceLoader();
+        if (resourceLoader == null) {
+            // The ClassLoader of SpringApplication and its context is the thread context ClassLoader
+            if (!contextClassLoaderReplaceable) {
+                logger.warn("The artifacts will not be filtered, caused by the SpringApplication's ClassLoader[{}] is " +
+                        "different from the current thread context ClassLoader[{}].", classLoader, currentThread.getContextClassLoader());
+                return;
+            }
+        } else if (!setClassLoader(resourceLoader, filteringClassLoader)) {
+            logger.warn("The artifacts will not be filtered, caused by the ClassLoader of the ResourceLoader[{}] can't be replaced",
+                    resourceLoader);
+            return;
+        }
+
+        if (contextClassLoaderReplaceable) {
+            currentThread.setContextClassLoader(filteringClassLoader);
+            this.filteringClassLoader = filteringClassLoader;
+            this.contextClassLoaderThread = currentThread;
+        }
+
+        logger.info("The banned artifacts {} are filtered from the ClassLoader[{}]",
+                filteringClassLoader.getBannedClassPathURLs(), classLoader);
+    }
+
+    /**
+     * Restore the thread context {@link ClassLoader} replaced by the {@link BannedArtifactFilteringClassLoader} if it
+     * has not been changed since.
+     */
+    private void restoreContextClassLoader() {
+        Thread thread = this.contextClassLoaderThread;
+        BannedArtifactFilteringClassLoader filteringClassLoader = this.filteringClassLoader;
+        if (thread == null || filteringClassLoader == null) {
+            return;
+        }
+        if (thread.getContextClassLoader() == filteringClassLoader) {
+            thread.setContextClassLoader(filteringClassLoader.getDelegate());
+        }
+        this.contextClassLoaderThread = null;
+        this.filteringClassLoader = null;
+    }
+
+    private boolean setClassLoader(ResourceLoader resourceLoader, ClassLoader classLoader) {
+        if (resourceLoader instanceof PathMatchingResourcePatternResolver resourcePatternResolver) {
+            return setClassLoader(resourcePatternResolver.getResourceLoader(), classLoader);
+        }
+        if (resourceLoader instanceof DefaultResourceLoader defaultResourceLoader) {
+            defaultResourceLoader.setClassLoader(classLoader);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * The mode to ban the artifacts from class loading
+     */
+    public enum Mode {
+
+        /**
+         * The class path entries of the banned artifacts are removed by {@link BannedArtifactClassLoadingExecutor}
+         */
+        REMOVE,
+
+        /**
+         * The classes and resources of the banned artifacts are rejected by {@link BannedArtifactFilteringClassLoader}
+         */
+        FILTER
+    }
 }
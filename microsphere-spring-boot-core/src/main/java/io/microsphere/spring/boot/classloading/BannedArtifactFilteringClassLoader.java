@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.classloading;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.classloading.Artifact;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import static io.microsphere.collection.MapUtils.newConcurrentHashMap;
+import static io.microsphere.collection.MapUtils.newHashMap;
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
+import static java.util.Collections.enumeration;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * The thin {@link ClassLoader} wrapper that rejects the classes and resources located in the banned class path
+ * entries, which are precomputed as a bitmap over the {@link ArtifactRegistry#getClassPathURLs() class path} :
+ * <ul>
+ *     <li>{@link #loadClass(String)} checks the location of the class file before the delegation, the class is loaded
+ *     by the wrapped {@link ClassLoader} if its first class file is allowed, or is rejected, thus the banned copy is
+ *     never defined. The class is never defined by this wrapper, even if it's also packaged in an allowed artifact,
+ *     because the duplicate of the class in another {@link ClassLoader} breaks the casts, the package-private accesses
+ *     and the loader constraints of the classes linked by the wrapped {@link ClassLoader}</li>
+ *     <li>the decisions are cached per class name, the subsequent lookups are a hash lookup before the delegation, and
+ *     the cached rejections throw the shared stackless {@link ClassNotFoundException}</li>
+ *     <li>the locations are probed only if any class path entry is banned, otherwise the classes are delegated
+ *     directly</li>
+ *     <li>{@link #getResource(String)} and {@link #getResources(String)} skip the resources of the banned entries</li>
+ * </ul>
+ * The locations are normalized, so the entries of the fat JAR loaders, e.g, "jar:nested:/app.jar/!BOOT-INF/lib/a.jar!/"
+ * or "jar:file:/app.jar!/BOOT-INF/lib/a.jar!/", are supported too.
+ * <p>
+ * The classes linked by the classes of the wrapped {@link ClassLoader} are resolved by itself rather than this wrapper,
+ * hence the wrapper guards the reflective lookups, e.g, the bean classes, {@link Class#forName(String, boolean, ClassLoader)}
+ * and the factories loading of Spring, which are performed by the application {@link ClassLoader}.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   BannedArtifactFilteringClassLoader classLoader = BannedArtifactFilteringClassLoader.of(applicationClassLoader);
+ *   if (classLoader != null) {
+ *       Thread.currentThread().setContextClassLoader(classLoader);
+ *   }
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see BannedArtifactClassLoadingListener
+ * @see ArtifactRegistry
+ * @since 1.0.0
+ */
+public class BannedArtifactFilteringClassLoader extends ClassLoader {
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    /**
+     * The shared stackless {@link ClassNotFoundException} thrown on the cached rejections
+     */
+    private static final ClassNotFoundException REJECTED_CLASS_EXCEPTION = new RejectedClassException();
+
+    private final ClassLoader delegate;
+
+    private final List<URL> classPathURLs;
+
+    /**
+     * The indexes of the class path entries by the normalized locations
+     */
+    private final Map<String, Integer> classPathIndexes;
+
+    /**
+     * The bitmap of the banned class path entries
+     */
+    private final BitSet bannedIndexes;
+
+    /**
+     * The normalized locations of the banned directories, which prefix their resources
+     */
+    private final String[] bannedDirectories;
+
+    /**
+     * The decisions of the class names, {@link Boolean#TRUE} if delegated, or {@link Boolean#FALSE} if rejected
+     */
+    private final ConcurrentMap<String, Boolean> classNameDecisions = newConcurrentHashMap();
+
+    /**
+     * Create a new {@link BannedArtifactFilteringClassLoader}.
+     *
+     * @param delegate      the wrapped {@link ClassLoader}
+     * @param classPathURLs the {@link URL URLs} of class path
+     * @param bannedIndexes the bitmap of the banned class path entries, the bit index is the index of class path
+     */
+    public BannedArtifactFilteringClassLoader(ClassLoader delegate, List<URL> classPathURLs, BitSet bannedIndexes) {
+        super(delegate);
+        int size = classPathURLs.size();
+        Map<String, Integer> classPathIndexes = newHashMap(size);
+        List<String> bannedDirectories = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String location = getLocation(classPathURLs.get(i).toString());
+            classPathIndexes.putIfAbsent(location, i);
+            if (bannedIndexes.get(i) && location.endsWith("/")) {
+                bannedDirectories.add(location);
+            }
+        }
+        this.delegate = delegate;
+        this.classPathURLs = classPathURLs;
+        this.classPathIndexes = classPathIndexes;
+        this.bannedIndexes = (BitSet) bannedIndexes.clone();
+        this.bannedDirectories = bannedDirectories.toArray(new String[0]);
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (this.bannedIndexes.isEmpty()) {
+            return this.delegate.loadClass(name);
+        }
+        Boolean decision = this.classNameDecisions.get(name);
+        if (TRUE.equals(decision)) {
+            return this.delegate.loadClass(name);
+        }
+        if (FALSE.equals(decision)) {
+            throw REJECTED_CLASS_EXCEPTION;
+        }
+        URL classFile = this.delegate.getResource(name.replace('.', '/') + ".class");
+        if (classFile != null && isBanned(classFile)) {
+            // The first class file is banned, which would be defined by the wrapped ClassLoader
+            this.classNameDecisions.put(name, FALSE);
+            throw new ClassNotFoundException(name + " is located in the banned artifact");
+        }
+        // The class of JDK, the generated class or the class whose first class file is allowed
+        Class<?> type = this.delegate.loadClass(name);
+        this.classNameDecisions.put(name, TRUE);
+        return type;
+    }
+
+    @Override
+    public URL getResource(String name) {
+        URL resource = this.delegate.getResource(name);
+        if (resource == null || !isBanned(resource)) {
+            return resource;
+        }
+        // The first resource is banned, try the others
+        try {
+            Enumeration<URL> resources = getResources(name);
+            return resources.hasMoreElements() ? resources.nextElement() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public Enumeration<URL> getResources(String name) throws IOException {
+        Enumeration<URL> resources = this.delegate.getResources(name);
+        List<URL> allowedResources = new ArrayList<>();
+        while (resources.hasMoreElements()) {
+            URL resource = resources.nextElement();
+            if (!isBanned(resource)) {
+                allowedResources.add(resource);
+            }
+        }
+        return enumeration(allowedResources);
+    }
+
+    /**
+     * Whether the class or resource located by the {@link URL} is banned.
+     *
+     * @param url the {@link URL} of the class path entry, the code source or the resource
+     * @return <code>true</code> if it's located in a banned class path entry
+     */
+    public boolean isBanned(URL url) {
+        if (this.bannedIndexes.isEmpty()) {
+            return false;
+        }
+        String location = getLocation(url.toString());
+        Integer index = this.classPathIndexes.get(location);
+        if (index != null) {
+            return this.bannedIndexes.get(index);
+        }
+        for (String bannedDirectory : this.bannedDirectories) {
+            if (location.startsWith(bannedDirectory)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the wrapped {@link ClassLoader}.
+     *
+     * @return non-null
+     */
+    @Nonnull
+    public ClassLoader getDelegate() {
+        return this.delegate;
+    }
+
+    /**
+     * Get the {@link URL URLs} of the banned class path entries.
+     *
+     * @return the read-only {@link List} of {@link URL URLs}
+     */
+    @Nonnull
+    public List<URL> getBannedClassPathURLs() {
+        List<URL> bannedClassPathURLs = new ArrayList<>(this.bannedIndexes.cardinality());
+        for (int i = this.bannedIndexes.nextSetBit(0); i >= 0 && i < this.classPathURLs.size(); i = this.bannedIndexes.nextSetBit(i + 1)) {
+            bannedClassPathURLs.add(this.classPathURLs.get(i));
+        }
+        return unmodifiableList(bannedClassPathURLs);
+    }
+
+    /**
+     * Whether the class has been rejected.
+     *
+     * @param className the name of class
+     * @return <code>true</code> if rejected
+     */
+    boolean isRejected(String className) {
+        return FALSE.equals(this.classNameDecisions.get(className));
+    }
+
+    /**
+     * Create a {@link BannedArtifactFilteringClassLoader} for the {@link ClassLoader} if any artifact in its class
+     * path is banned by the "META-INF/banned-artifacts" configuration resources.
+     *
+     * @param classLoader the {@link ClassLoader}
+     * @return {@code null} if no artifact is banned
+     */
+    @Nullable
+    public static BannedArtifactFilteringClassLoader of(ClassLoader classLoader) {
+        BannedArtifacts bannedArtifacts = BannedArtifacts.load(classLoader);
+        if (bannedArtifacts.isEmpty()) {
+            return null;
+        }
+        ArtifactRegistry artifactRegistry = ArtifactRegistry.get(classLoader);
+        List<Artifact> artifacts = artifactRegistry.getArtifacts();
+        Map<String, Artifact> locatedArtifacts = newHashMap(artifacts.size());
+        for (Artifact artifact : artifacts) {
+            URL location = artifact.getLocation();
+            if (location != null) {
+                locatedArtifacts.putIfAbsent(location.toString(), artifact);
+            }
+        }
+        List<URL> classPathURLs = artifactRegistry.getClassPathURLs();
+        int size = classPathURLs.size();
+        BitSet bannedIndexes = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (bannedArtifacts.matches(locatedArtifacts.get(classPathURLs.get(i).toString()))) {
+                bannedIndexes.set(i);
+            }
+        }
+        return bannedIndexes.isEmpty() ? null : new BannedArtifactFilteringClassLoader(classLoader, classPathURLs, bannedIndexes);
+    }
+
+    /**
+     * Get the normalized location of the class path entry that contains the {@link URL}, e.g,
+     * <ul>
+     *     <li>"file:/lib/a.jar" : "file:/lib/a.jar"</li>
+     *     <li>"jar:file:/lib/a.jar!/com/acme/a.txt" : "file:/lib/a.jar"</li>
+     *     <li>"jar:nested:/app.jar/!BOOT-INF/lib/a.jar!/" : "nested:/app.jar/!BOOT-INF/lib/a.jar"</li>
+     *     <li>"jar:file:/app.jar!/BOOT-INF/lib/a.jar!/com/acme/a.txt" : "file:/app.jar!/BOOT-INF/lib/a.jar"</li>
+     * </ul>
+     *
+     * @param spec the {@link URL} specification
+     * @return non-null
+     */
+    static String getLocation(String spec) {
+        if (!spec.startsWith("jar:")) {
+            return spec;
+        }
+        int index = spec.lastIndexOf("!/");
+        return index < 0 ? spec.substring(4) : spec.substring(4, index);
+    }
+
+    /**
+     * The stackless {@link ClassNotFoundException} of the rejected classes
+     */
+    private static class RejectedClassException extends ClassNotFoundException {
+
+        private static final long serialVersionUID = 1L;
+
+        private RejectedClassException() {
+            super("The class is located in the banned artifact");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.classloading;
+
+import io.microsphere.annotation.Nullable;
+import io.microsphere.classloading.Artifact;
+import io.microsphere.classloading.BannedArtifactClassLoadingExecutor;
+import io.microsphere.classloading.MavenArtifact;
+import io.microsphere.logging.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * The patterns of the banned {@link Artifact artifacts}, which are configured by the class path resources
+ * {@link #CONFIG_LOCATION "META-INF/banned-artifacts"}, one "groupId:artifactId[:version]" per line, "*" matches any
+ * value of the segment, and the lines starting with "#" are comments :
+ * <pre>
+ * # Ban all versions of "commons-logging:commons-logging"
+ * commons-logging:commons-logging
+ * # Ban the specified version only
+ * com.acme:legacy:1.0.0
+ * </pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see BannedArtifactClassLoadingExecutor
+ * @see BannedArtifactFilteringClassLoader
+ * @since 1.0.0
+ */
+final class BannedArtifacts {
+
+    private static final Logger logger = getLogger(BannedArtifacts.class);
+
+    /**
+     * The location of the banned artifacts configuration : "META-INF/banned-artifacts"
+     */
+    static final String CONFIG_LOCATION = "META-INF/banned-artifacts";
+
+    static final String WILDCARD = "*";
+
+    private final List<String[]> patterns;
+
+    BannedArtifacts(List<String[]> patterns) {
+        this.patterns = patterns;
+    }
+
+    /**
+     * Whether no artifact is banned
+     *
+     * @return <code>true</code> if no pattern is configured
+     */
+    boolean isEmpty() {
+        return this.patterns.isEmpty();
+    }
+
+    /**
+     * Whether the {@link Artifact} is banned.
+     *
+     * @param artifact the {@link Artifact}
+     * @return <code>true</code> if any pattern matches the {@link Artifact}
+     */
+    boolean matches(@Nullable Artifact artifact) {
+        if (artifact == null) {
+            return false;
+        }
+        String groupId = artifact instanceof MavenArtifact mavenArtifact ? mavenArtifact.getGroupId() : null;
+        for (String[] pattern : this.patterns) {
+            if (matches(pattern[0], groupId) && matches(pattern[1], artifact.getArtifactId())
+                    && matches(pattern[2], artifact.getVersion())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(String pattern, @Nullable String value) {
+        return WILDCARD.equals(pattern) || pattern.equals(value);
+    }
+
+    /**
+     * Load the {@link BannedArtifacts} from the {@link #CONFIG_LOCATION configuration resources} of the
+     * {@link ClassLoader}.
+     *
+     * @param classLoader the {@link ClassLoader}
+     * @return non-null
+     */
+    static BannedArtifacts load(ClassLoader classLoader) {
+        List<String[]> patterns = new ArrayList<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(CONFIG_LOCATION);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        String[] pattern = parse(line);
+                        if (pattern != null) {
+                            patterns.add(pattern);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("The banned artifacts configuration['{}'] can't be loaded", CONFIG_LOCATION, e);
+        }
+        return new BannedArtifacts(patterns);
+    }
+
+    /**
+     * Parse the pattern from the line of configuration.
+     *
+     * @param line the line of configuration
+     * @return {@code null} if the line is blank, a comment or invalid, or the array of groupId, artifactId and version
+     */
+    @Nullable
+    static String[] parse(String line) {
+        String content = line.trim();
+        if (!hasText(content) || content.startsWith("#")) {
+            return null;
+        }
+        String[] segments = content.split(":");
+        if (segments.length < 2 || segments.length > 3) {
+            logger.warn("The banned artifact['{}'] is invalid, the pattern is 'groupId:artifactId[:version]'", content);
+            return null;
+        }
+        String version = segments.length == 3 ? segments[2].trim() : WILDCARD;
+        return new String[]{segments[0].trim(), segments[1].trim(), version};
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.classloading;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import static io.microsphere.collection.MapUtils.newConcurrentHashMap;
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * The {@link FileSystem FileSystems} of the class path entries, which resolves the root {@link Path} of the entry :
+ * <ul>
+ *     <li>The directory, e.g, "file:/target/classes/", is resolved by the default {@link FileSystem}</li>
+ *     <li>The JAR file, e.g, "file:/lib/a.jar", is resolved by the zip {@link FileSystem} view, which reads the
+ *     central directory rather than inflating the whole archive</li>
+ *     <li>The directory of fat JAR, e.g, "jar:file:/app.jar!/BOOT-INF/classes!/", is resolved by the zip
+ *     {@link FileSystem} view of the outer JAR</li>
+ * </ul>
+ * The nested JAR of fat JAR, e.g, "jar:file:/app.jar!/BOOT-INF/lib/a.jar!/" or
+ * "jar:nested:/app.jar/!BOOT-INF/lib/a.jar!/", has no root {@link Path}, because the zip {@link FileSystem} of a
+ * {@link Path} inside another zip {@link FileSystem} buffers the whole nested JAR into heap, it's read in place by the
+ * {@link #getNestedArchive(URL) nested ZipArchive} instead.
+ * <p>
+ * The opened {@link FileSystem FileSystems} and {@link ZipArchive ZipArchives} of the outer JARs are shared until
+ * {@link #close() closed}, the instance is thread-safe.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   try (ClassPathFileSystems fileSystems = new ClassPathFileSystems()) {
+ *       Path root = fileSystems.getRoot(classPathURL);
+ *       if (root != null) {
+ *           try (Stream<Path> paths = Files.walk(root)) {
+ *               paths.forEach(System.out::println);
+ *           }
+ *       }
+ *   }
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see FileSystem
+ * @see ArtifactRegistry#getClassPathURLs()
+ * @since 1.0.0
+ */
+public class ClassPathFileSystems implements Closeable {
+
+    private final ConcurrentMap<String, FileSystem> fileSystems = newConcurrentHashMap();
+
+    private final ConcurrentMap<String, ZipArchive> archives = newConcurrentHashMap();
+
+    /**
+     * Get the root {@link Path} of the class path entry.
+     *
+     * @param classPathURL the {@link URL} of class path entry
+     * @return {@code null} if the entry is absent, is a nested JAR or is not located in the local file system
+     * @throws IOException if the archive can't be opened
+     */
+    @Nullable
+    public Path getRoot(URL classPathURL) throws IOException {
+        String spec = classPathURL.toString();
+        if (spec.startsWith("file:")) {
+            File file = toFile(spec);
+            if (file == null) {
+                return null;
+            }
+            if (file.isDirectory()) {
+                return file.toPath();
+            }
+            return file.isFile() ? getFileSystem(file).getPath("/") : null;
+        }
+        String[] nestedEntry = toNestedEntry(spec);
+        if (nestedEntry == null) {
+            return null;
+        }
+        File outerFile = toFile(nestedEntry[0]);
+        if (outerFile == null || !outerFile.isFile()) {
+            return null;
+        }
+        String entryName = nestedEntry[1];
+        FileSystem outerFileSystem = getFileSystem(outerFile);
+        if (!hasText(entryName) || "/".equals(entryName)) {
+            return outerFileSystem.getPath("/");
+        }
+        Path path = outerFileSystem.getPath("/", entryName);
+        return Files.isDirectory(path) ? path : null;
+    }
+
+    /**
+     * Get the {@link ZipArchive} of the nested JAR of fat JAR, e.g, "jar:nested:/app.jar/!BOOT-INF/lib/a.jar!/",
+     * which is read in place from the outer JAR, and is not required to be closed.
+     *
+     * @param classPathURL the {@link URL} of class path entry
+     * @return {@code null} if the entry is absent or is not a nested JAR
+     * @throws IOException if the archive can't be opened, or the nested JAR is not stored
+     */
+    @Nullable
+    public ZipArchive getNestedArchive(URL classPathURL) throws IOException {
+        String[] nestedEntry = toNestedEntry(classPathURL.toString());
+        if (nestedEntry == null) {
+            return null;
+        }
+        File outerFile = toFile(nestedEntry[0]);
+        String entryName = nestedEntry[1];
+        if (outerFile == null || !outerFile.isFile() || !hasText(entryName) || entryName.endsWith("/")) {
+            return null;
+        }
+        return getArchive(outerFile).getNestedArchive(entryName);
+    }
+
+    /**
+     * Resolve the outer file spec and the entry name of the "jar:" spec.
+     *
+     * @param spec the spec of class path {@link URL}
+     * @return {@code null} if the spec is not a "jar:" spec, or the array of the outer file spec and the entry name
+     */
+    @Nullable
+    private static String[] toNestedEntry(String spec) {
+        if (!spec.startsWith("jar:")) {
+            return null;
+        }
+        spec = spec.substring(4);
+        String outerSpec;
+        String entryName;
+        if (spec.startsWith("nested:")) {
+            int index = spec.indexOf("/!");
+            if (index < 0) {
+                return null;
+            }
+            outerSpec = "file:" + spec.substring(7, index);
+            entryName = spec.substring(index + 2);
+        } else {
+            int index = spec.indexOf("!/");
+            if (index < 0) {
+                return null;
+            }
+            outerSpec = spec.substring(0, index);
+            entryName = spec.substring(index + 2);
+        }
+        int index = entryName.indexOf("!/");
+        if (index > -1) {
+            entryName = entryName.substring(0, index);
+        }
+        return new String[]{outerSpec, entryName};
+    }
+
+    private FileSystem getFileSystem(File file) throws IOException {
+        try {
+            return this.fileSystems.computeIfAbsent(file.getAbsolutePath(), k -> {
+                try {
+                    return FileSystems.newFileSystem(file.toPath());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private ZipArchive getArchive(File file) throws IOException {
+        try {
+            return this.archives.computeIfAbsent(file.getAbsolutePath(), k -> {
+                try {
+                    return ZipArchive.open(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Get the name of the class path entry, e.g, "a.jar" for "jar:nested:/app.jar/!BOOT-INF/lib/a.jar!/", or
+     * "classes" for "file:/target/classes/".
+     *
+     * @param classPathURL the {@link URL} of class path entry
+     * @return non-null
+     */
+    @Nonnull
+    public static String getName(URL classPathURL) {
+        String spec = classPathURL.toString();
+        int end = spec.length();
+        while (end > 0 && (spec.charAt(end - 1) == '/' || spec.charAt(end - 1) == '!')) {
+            end--;
+        }
+        int start = spec.lastIndexOf('/', end - 1) + 1;
+        return start < end ? spec.substring(start, end) : spec;
+    }
+
+    @Nullable
+    private static File toFile(String spec) {
+        try {
+            return new File(URI.create(spec));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Close the opened {@link FileSystem FileSystems} and {@link ZipArchive ZipArchives}.
+     *
+     * @throws IOException if any of them can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        IOException exception = close(this.fileSystems, null);
+        exception = close(this.archives, exception);
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    @Nullable
+    private static IOException close(Map<String, ? extends Closeable> closeables, @Nullable IOException exception) {
+        for (String key : closeables.keySet()) {
+            try {
+                closeables.remove(key).close();
+            } catch (IOException e) {
+                if (exception == null) {
+                    exception = e;
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+        }
+        return exception;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.classloading;
+
+import io.microsphere.annotation.Nullable;
+import io.microsphere.classloading.Artifact;
+import io.microsphere.classloading.MavenArtifact;
+import io.microsphere.classloading.MavenArtifactResourceResolver;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static io.microsphere.spring.boot.classloading.ClassPathFileSystems.getName;
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * The scanner of the Maven {@link Artifact artifacts}, which reads only the
+ * "META-INF/maven/{groupId}/{artifactId}/pom.properties" entries of class path rather than the whole archives :
+ * <ul>
+ *     <li>The JAR file is read by {@link ZipFile}, which looks up the entries from the central directory</li>
+ *     <li>The nested JAR of fat JAR, e.g, "jar:nested:/app.jar/!BOOT-INF/lib/a.jar!/", is read in place from the
+ *     outer JAR by {@link ZipArchive}</li>
+ *     <li>The directory of fat JAR, e.g, "jar:nested:/app.jar/!BOOT-INF/classes/", is read by the zip
+ *     {@link FileSystem} view of the outer JAR</li>
+ *     <li>The directory is read by the default {@link FileSystem}</li>
+ * </ul>
+ * The outer JARs are opened by {@link ClassPathFileSystems}, which are shared until {@link #close() closed}.
+ * If there are many "pom.properties" in one archive, e.g, the shaded JAR, the one matching the archive name is
+ * selected, or the archive is left to {@link MavenArtifactResourceResolver}.
+ * <p>
+ * The instance is thread-safe, and is supposed to be used in one detection of {@link ArtifactRegistry}.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   try (MavenArtifactScanner scanner = new MavenArtifactScanner()) {
+ *       Artifact artifact = scanner.scan(classPathURL);
+ *   }
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ArtifactRegistry
+ * @see ClassPathFileSystems
+ * @see MavenArtifactResourceResolver
+ * @since 1.0.0
+ */
+class MavenArtifactScanner implements Closeable {
+
+    /**
+     * The directory of Maven metadata in the archive
+     */
+    static final String MAVEN_METADATA_DIRECTORY = "META-INF/maven/";
+
+    /**
+     * The file name of Maven POM properties
+     */
+    static final String POM_PROPERTIES_FILE_NAME = "pom.properties";
+
+    private final ClassPathFileSystems fileSystems = new ClassPathFileSystems();
+
+    /**
+     * Scan the Maven {@link Artifact} from the class path {@link URL}.
+     *
+     * @param classPathURL the class path {@link URL}
+     * @return {@code null} if the "pom.properties" is absent or ambiguous
+     * @throws IOException if the archive can't be read
+     */
+    @Nullable
+    MavenArtifact scan(URL classPathURL) throws IOException {
+        String spec = classPathURL.toString();
+        String name = getName(classPathURL);
+        if (spec.startsWith("file:")) {
+            File file = toFile(spec);
+            if (file != null && file.isFile()) {
+                return scanArchive(file, name, classPathURL);
+            }
+        }
+        ZipArchive nestedArchive = this.fileSystems.getNestedArchive(classPathURL);
+        if (nestedArchive != null) {
+            return scanArchive(nestedArchive, name, classPathURL);
+        }
+        Path root = this.fileSystems.getRoot(classPathURL);
+        return root == null ? null : scanDirectory(root, name, classPathURL);
+    }
+
+    private MavenArtifact scanArchive(ZipArchive archive, String name, URL classPathURL) throws IOException {
+        List<Properties> candidates = new ArrayList<>(1);
+        for (String entryName : archive.getEntryNames()) {
+            if (isPomProperties(entryName)) {
+                try (InputStream inputStream = archive.getInputStream(entryName)) {
+                    candidates.add(load(inputStream));
+                }
+            }
+        }
+        return select(candidates, name, classPathURL);
+    }
+
+    private MavenArtifact scanArchive(File file, String name, URL classPathURL) throws IOException {
+        try (ZipFile zipFile = new ZipFile(file)) {
+            List<Properties> candidates = new ArrayList<>(1);
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (isPomProperties(entry.getName())) {
+                    try (InputStream inputStream = zipFile.getInputStream(entry)) {
+                        candidates.add(load(inputStream));
+                    }
+                }
+            }
+            return select(candidates, name, classPathURL);
+        }
+    }
+
+    private MavenArtifact scanDirectory(Path root, String name, URL classPathURL) throws IOException {
+        Path directory = root.resolve(MAVEN_METADATA_DIRECTORY);
+        if (!Files.isDirectory(directory)) {
+            return null;
+        }
+        List<Properties> candidates = new ArrayList<>(1);
+        // META-INF/maven/{groupId}/{artifactId}/pom.properties
+        try (Stream<Path> paths = Files.walk(directory, 3)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                if (POM_PROPERTIES_FILE_NAME.equals(String.valueOf(path.getFileName())) && Files.isRegularFile(path)) {
+                    try (InputStream inputStream = Files.newInputStream(path)) {
+                        candidates.add(load(inputStream));
+                    }
+                }
+            }
+        }
+        return select(candidates, name, classPathURL);
+    }
+
+    /**
+     * Select the {@link MavenArtifact} from the candidates of "pom.properties".
+     *
+     * @param candidates   the candidates of "pom.properties"
+     * @param name         the name of archive, e.g, "a-1.0.0.jar"
+     * @param classPathURL the class path {@link URL}
+     * @return {@code null} if the candidates are absent or ambiguous
+     */
+    @Nullable
+    static MavenArtifact select(List<Properties> candidates, String name, URL classPathURL) {
+        Properties selected = null;
+        int size = candidates.size();
+        if (size == 1) {
+            selected = candidates.get(0);
+        } else {
+            for (int i = 0; i < size; i++) {
+                Properties candidate = candidates.get(i);
+                if (name.startsWith(candidate.getProperty("artifactId") + "-" + candidate.getProperty("version"))) {
+                    selected = candidate;
+                    break;
+                }
+            }
+        }
+        if (selected == null) {
+            return null;
+        }
+        String groupId = selected.getProperty("groupId");
+        String artifactId = selected.getProperty("artifactId");
+        if (!hasText(groupId) || !hasText(artifactId)) {
+            return null;
+        }
+        return MavenArtifact.create(groupId, artifactId, selected.getProperty("version"), classPathURL);
+    }
+
+    static boolean isPomProperties(String entryName) {
+        return entryName.startsWith(MAVEN_METADATA_DIRECTORY) && entryName.endsWith("/" + POM_PROPERTIES_FILE_NAME);
+    }
+
+    private static Properties load(InputStream inputStream) throws IOException {
+        Properties properties = new Properties();
+        properties.load(inputStream);
+        return properties;
+    }
+
+    @Nullable
+    private static File toFile(String spec) {
+        try {
+            return new File(URI.create(spec));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Close the shared {@link ClassPathFileSystems}.
+     *
+     * @throws IOException if any {@link FileSystem} can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        this.fileSystems.close();
+    }
+}
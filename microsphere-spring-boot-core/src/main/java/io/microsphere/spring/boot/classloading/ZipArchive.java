@@ -0,0 +1,360 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.classloading;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+import static io.microsphere.collection.MapUtils.newLinkedHashMap;
+import static java.lang.Math.min;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.zip.ZipEntry.DEFLATED;
+import static java.util.zip.ZipEntry.STORED;
+
+/**
+ * The ZIP archive, which reads the central directory and the entries by the positional reads of {@link FileChannel},
+ * thus the nested JAR of fat JAR, e.g, "BOOT-INF/lib/a.jar", is read in place from the outer file, rather than
+ * being buffered into heap or inflated as a whole. The nested JAR must be {@link java.util.zip.ZipEntry#STORED stored}
+ * as Spring Boot requires, and the ZIP64 archives are not supported.
+ * <p>
+ * The instance is immutable and thread-safe, the nested {@link ZipArchive ZipArchives} share the {@link FileChannel}
+ * of the outer one, which is closed by {@link #close()} of the outer one only.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   try (ZipArchive archive = ZipArchive.open(new File("app.jar"))) {
+ *       ZipArchive nestedArchive = archive.getNestedArchive("BOOT-INF/lib/a.jar");
+ *       for (String entryName : nestedArchive.getEntryNames()) {
+ *           System.out.println(entryName);
+ *       }
+ *   }
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ClassPathFileSystems
+ * @see FileChannel
+ * @since 1.0.0
+ */
+public class ZipArchive implements Closeable {
+
+    private static final int END_SIGNATURE = 0x06054b50;
+
+    private static final int END_LENGTH = 22;
+
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+
+    private static final int CENTRAL_SIGNATURE = 0x02014b50;
+
+    private static final int CENTRAL_LENGTH = 46;
+
+    private static final int LOCAL_SIGNATURE = 0x04034b50;
+
+    private static final int LOCAL_LENGTH = 30;
+
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    private final FileChannel channel;
+
+    private final boolean nested;
+
+    private final Map<String, Entry> entries;
+
+    private ZipArchive(FileChannel channel, boolean nested, Map<String, Entry> entries) {
+        this.channel = channel;
+        this.nested = nested;
+        this.entries = entries;
+    }
+
+    /**
+     * Open the {@link ZipArchive} of the file.
+     *
+     * @param file the ZIP file
+     * @return non-null
+     * @throws IOException if the file can't be opened, or is not a ZIP archive
+     */
+    @Nonnull
+    public static ZipArchive open(File file) throws IOException {
+        FileChannel channel = FileChannel.open(file.toPath(), READ);
+        try {
+            return new ZipArchive(channel, false, readEntries(channel, 0, channel.size()));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Get the names of the entries in the order of central directory.
+     *
+     * @return non-null
+     */
+    @Nonnull
+    public Set<String> getEntryNames() {
+        return unmodifiableSet(this.entries.keySet());
+    }
+
+    /**
+     * Get the {@link InputStream} of the entry, which is read from the {@link FileChannel} on demand, the native
+     * {@link Inflater} of the deflated entry is released when the {@link InputStream} is closed.
+     *
+     * @param entryName the name of entry
+     * @return {@code null} if the entry is absent
+     * @throws IOException if the entry can't be read
+     */
+    @Nullable
+    public InputStream getInputStream(String entryName) throws IOException {
+        Entry entry = this.entries.get(entryName);
+        if (entry == null) {
+            return null;
+        }
+        InputStream inputStream = new ChannelInputStream(this.channel, getDataOffset(entry), entry.compressedSize);
+        return entry.method == DEFLATED ? new EntryInflaterInputStream(inputStream) : inputStream;
+    }
+
+    /**
+     * Get the {@link ZipArchive} of the nested JAR entry, which shares the {@link FileChannel} of this archive.
+     *
+     * @param entryName the name of nested JAR entry, e.g, "BOOT-INF/lib/a.jar"
+     * @return {@code null} if the entry is absent or is a directory
+     * @throws IOException if the entry is not stored, or is not a ZIP archive
+     */
+    @Nullable
+    public ZipArchive getNestedArchive(String entryName) throws IOException {
+        Entry entry = this.entries.get(entryName);
+        if (entry == null || entryName.endsWith("/")) {
+            return null;
+        }
+        if (entry.method != STORED) {
+            throw new ZipException("The nested entry['" + entryName + "'] is not stored");
+        }
+        return new ZipArchive(this.channel, true, readEntries(this.channel, getDataOffset(entry), entry.compressedSize));
+    }
+
+    private long getDataOffset(Entry entry) throws IOException {
+        ByteBuffer header = read(this.channel, entry.localHeaderOffset, LOCAL_LENGTH);
+        if (header.getInt(0) != LOCAL_SIGNATURE) {
+            throw new ZipException("The local header of entry is invalid");
+        }
+        return entry.localHeaderOffset + LOCAL_LENGTH + unsignedShort(header, 26) + unsignedShort(header, 28);
+    }
+
+    private static Map<String, Entry> readEntries(FileChannel channel, long offset, long length) throws IOException {
+        int tailLength = (int) min(length, END_LENGTH + MAX_COMMENT_LENGTH);
+        ByteBuffer tail = read(channel, offset + length - tailLength, tailLength);
+        int endPosition = tailLength - END_LENGTH;
+        while (endPosition >= 0 && tail.getInt(endPosition) != END_SIGNATURE) {
+            endPosition--;
+        }
+        if (endPosition < 0) {
+            throw new ZipException("The end of central directory is absent");
+        }
+        int count = unsignedShort(tail, endPosition + 10);
+        long centralSize = unsignedInt(tail, endPosition + 12);
+        long centralOffset = unsignedInt(tail, endPosition + 16);
+        if (centralSize == ZIP64_MAGIC || centralOffset == ZIP64_MAGIC) {
+            throw new ZipException("The ZIP64 archive is not supported");
+        }
+        // The actual position of central directory, which differs from the recorded one if the archive is prefixed,
+        // e.g, the launch script of fully executable JAR
+        long centralPosition = length - tailLength + endPosition - centralSize;
+        if (centralPosition < 0 || centralSize > Integer.MAX_VALUE) {
+            throw new ZipException("The central directory is invalid");
+        }
+        long base = offset + centralPosition - centralOffset;
+        ByteBuffer central = read(channel, offset + centralPosition, (int) centralSize);
+        Map<String, Entry> entries = newLinkedHashMap(count);
+        int position = 0;
+        for (int i = 0; i < count; i++) {
+            if (position + CENTRAL_LENGTH > central.limit() || central.getInt(position) != CENTRAL_SIGNATURE) {
+                throw new ZipException("The central directory is invalid");
+            }
+            int method = unsignedShort(central, position + 10);
+            long compressedSize = unsignedInt(central, position + 20);
+            int nameLength = unsignedShort(central, position + 28);
+            int extraLength = unsignedShort(central, position + 30);
+            int commentLength = unsignedShort(central, position + 32);
+            long localHeaderOffset = unsignedInt(central, position + 42);
+            if (compressedSize == ZIP64_MAGIC || localHeaderOffset == ZIP64_MAGIC) {
+                throw new ZipException("The ZIP64 archive is not supported");
+            }
+            String name = new String(central.array(), position + CENTRAL_LENGTH, nameLength, UTF_8);
+            entries.put(name, new Entry(method, compressedSize, base + localHeaderOffset));
+            position += CENTRAL_LENGTH + nameLength + extraLength + commentLength;
+        }
+        return entries;
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static int unsignedShort(ByteBuffer buffer, int index) {
+        return buffer.getShort(index) & 0xFFFF;
+    }
+
+    private static long unsignedInt(ByteBuffer buffer, int index) {
+        return buffer.getInt(index) & ZIP64_MAGIC;
+    }
+
+    /**
+     * Close the {@link FileChannel} if this archive is not nested.
+     *
+     * @throws IOException if the {@link FileChannel} can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (!this.nested) {
+            this.channel.close();
+        }
+    }
+
+    private static class Entry {
+
+        private final int method;
+
+        private final long compressedSize;
+
+        private final long localHeaderOffset;
+
+        private Entry(int method, long compressedSize, long localHeaderOffset) {
+            this.method = method;
+            this.compressedSize = compressedSize;
+            this.localHeaderOffset = localHeaderOffset;
+        }
+    }
+
+    /**
+     * The {@link InputStream} of a range of {@link FileChannel}, which reads by position rather than moving the
+     * position of {@link FileChannel}, thus the streams of one {@link FileChannel} can be read concurrently.
+     */
+    private static class ChannelInputStream extends InputStream {
+
+        private final FileChannel channel;
+
+        private final long end;
+
+        private long position;
+
+        private ChannelInputStream(FileChannel channel, long position, long length) {
+            this.channel = channel;
+            this.position = position;
+            this.end = position + length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] bytes = new byte[1];
+            return read(bytes, 0, 1) < 0 ? -1 : bytes[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            long remaining = this.end - this.position;
+            if (remaining <= 0) {
+                return -1;
+            }
+            int count = this.channel.read(ByteBuffer.wrap(bytes, offset, (int) min(length, remaining)), this.position);
+            if (count > 0) {
+                this.position += count;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            long count = min(n, this.end - this.position);
+            if (count <= 0) {
+                return 0;
+            }
+            this.position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return (int) min(this.end - this.position, Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * The {@link InflaterInputStream} of the deflated entry, which feeds the dummy trailing byte as
+     * {@link java.util.zip.ZipFile} does, because the {@link Inflater} in "nowrap" mode may need it to complete, and
+     * ends the {@link Inflater} on {@link #close()}.
+     */
+    static class EntryInflaterInputStream extends InflaterInputStream {
+
+        private boolean eof;
+
+        private boolean closed;
+
+        private EntryInflaterInputStream(InputStream inputStream) {
+            super(inputStream, new Inflater(true));
+        }
+
+        @Override
+        protected void fill() throws IOException {
+            if (this.eof) {
+                throw new EOFException("Unexpected end of ZLIB input stream");
+            }
+            this.len = this.in.read(this.buf, 0, this.buf.length);
+            if (this.len == -1) {
+                this.buf[0] = 0;
+                this.len = 1;
+                this.eof = true;
+            }
+            this.inf.setInput(this.buf, 0, this.len);
+        }
+
+        Inflater getInflater() {
+            return this.inf;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!this.closed) {
+                this.closed = true;
+                try {
+                    super.close();
+                } finally {
+                    this.inf.end();
+                }
+            }
+        }
+    }
+}
@@ -47,4 +47,71 @@ public interface PropertyConstants {
             source = APPLICATION_SOURCE
     )
     String MICROSPHERE_SPRING_BOOT_LOGGING_LEVEL_PROPERTY_NAME = MICROSPHERE_SPRING_BOOT_PROPERTY_NAME_PREFIX + "logging.level";
+
+    /**
+     * The property name prefix of {@link org.springframework.boot.context.properties.ConfigurationProperties @ConfigurationProperties} :
+     * "microsphere.spring.boot.configuration-properties."
+     */
+    String CONFIGURATION_PROPERTIES_PROPERTY_NAME_PREFIX = MICROSPHERE_SPRING_BOOT_PROPERTY_NAME_PREFIX + "configuration-properties.";
+
+    /**
+     * The property name of whether to publish the
+     * {@link io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanPropertyChangedEvent}
+     * for each changed property : "microsphere.spring.boot.configuration-properties.property-changed-event.enabled"
+     */
+    @ConfigurationProperty(
+            type = boolean.class,
+            defaultValue = "true",
+            source = APPLICATION_SOURCE
+    )
+    String CONFIGURATION_PROPERTIES_PROPERTY_CHANGED_EVENT_ENABLED_PROPERTY_NAME = CONFIGURATION_PROPERTIES_PROPERTY_NAME_PREFIX + "property-changed-event.enabled";
+
+    /**
+     * The property name of whether to publish the
+     * {@link io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanPropertiesChangedEvent}
+     * once per rebinding : "microsphere.spring.boot.configuration-properties.properties-changed-event.enabled"
+     */
+    @ConfigurationProperty(
+            type = boolean.class,
+            defaultValue = "false",
+            source = APPLICATION_SOURCE
+    )
+    String CONFIGURATION_PROPERTIES_PROPERTIES_CHANGED_EVENT_ENABLED_PROPERTY_NAME = CONFIGURATION_PROPERTIES_PROPERTY_NAME_PREFIX + "properties-changed-event.enabled";
+
+    /**
+     * The property name of whether to scan the bean definitions in parallel to build the contexts of
+     * {@link org.springframework.boot.context.properties.ConfigurationProperties @ConfigurationProperties} beans :
+     * "microsphere.spring.boot.configuration-properties.parallel-scan.enabled"
+     */
+    @ConfigurationProperty(
+            type = boolean.class,
+            defaultValue = "false",
+            source = APPLICATION_SOURCE
+    )
+    String CONFIGURATION_PROPERTIES_PARALLEL_SCAN_ENABLED_PROPERTY_NAME = CONFIGURATION_PROPERTIES_PROPERTY_NAME_PREFIX + "parallel-scan.enabled";
+
+    /**
+     * The property name of the capacity of the pending events queued for the
+     * {@link io.microsphere.spring.boot.context.properties.bind.AsyncBindListener AsyncBindListeners} :
+     * "microsphere.spring.boot.configuration-properties.async-bind-listener.queue-capacity"
+     */
+    @ConfigurationProperty(
+            type = int.class,
+            defaultValue = "1024",
+            source = APPLICATION_SOURCE
+    )
+    String CONFIGURATION_PROPERTIES_ASYNC_BIND_LISTENER_QUEUE_CAPACITY_PROPERTY_NAME = CONFIGURATION_PROPERTIES_PROPERTY_NAME_PREFIX + "async-bind-listener.queue-capacity";
+
+    /**
+     * The property name of the policy when the pending events of the
+     * {@link io.microsphere.spring.boot.context.properties.bind.AsyncBindListener AsyncBindListeners} exceed the capacity,
+     * the optional values are "CALLER_RUNS" and "DROP" :
+     * "microsphere.spring.boot.configuration-properties.async-bind-listener.rejection-policy"
+     */
+    @ConfigurationProperty(
+            type = String.class,
+            defaultValue = "CALLER_RUNS",
+            source = APPLICATION_SOURCE
+    )
+    String CONFIGURATION_PROPERTIES_ASYNC_BIND_LISTENER_REJECTION_POLICY_PROPERTY_NAME = CONFIGURATION_PROPERTIES_PROPERTY_NAME_PREFIX + "async-bind-listener.rejection-policy";
 }
@@ -16,19 +16,38 @@
  */
 package io.microsphere.spring.boot.context.properties;
 
+import io.microsphere.annotation.Nullable;
+import io.microsphere.spring.boot.context.properties.bind.AsyncBindListener;
+import io.microsphere.spring.boot.context.properties.bind.AsyncBindListenerDispatcher;
+import io.microsphere.spring.boot.context.properties.bind.AsyncBindListenerDispatcher.RejectionPolicy;
 import io.microsphere.spring.boot.context.properties.bind.BindListener;
 import io.microsphere.spring.boot.context.properties.bind.ListenableBindHandlerAdapter;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.boot.context.properties.ConfigurationPropertiesBindHandlerAdvisor;
 import org.springframework.boot.context.properties.bind.BindHandler;
 import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.env.Environment;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static io.microsphere.spring.beans.BeanUtils.getSortedBeans;
+import static io.microsphere.spring.boot.constants.PropertyConstants.CONFIGURATION_PROPERTIES_ASYNC_BIND_LISTENER_QUEUE_CAPACITY_PROPERTY_NAME;
+import static io.microsphere.spring.boot.constants.PropertyConstants.CONFIGURATION_PROPERTIES_ASYNC_BIND_LISTENER_REJECTION_POLICY_PROPERTY_NAME;
+import static io.microsphere.spring.boot.context.properties.bind.AsyncBindListenerDispatcher.DEFAULT_QUEUE_CAPACITY;
+import static io.microsphere.spring.boot.context.properties.bind.AsyncBindListenerDispatcher.EXECUTOR_BEAN_NAME;
+import static io.microsphere.spring.boot.context.properties.bind.AsyncBindListenerDispatcher.RejectionPolicy.CALLER_RUNS;
+import static org.springframework.beans.factory.BeanFactoryUtils.beanNamesForTypeIncludingAncestors;
 
 /**
  * {@link ConfigurationPropertiesBindHandlerAdvisor} supports the chaining of the {@link BindListener BindListeners' beans}
@@ -63,6 +82,17 @@ import static io.microsphere.spring.beans.BeanUtils.getSortedBeans;
  * {@link org.springframework.core.Ordered} interface implementation.
  * </p>
  *
+ * <p>
+ * The {@link AsyncBindListener AsyncBindListeners' beans} are dispatched by the shared
+ * {@link AsyncBindListenerDispatcher} off the binder thread, whose {@link Executor} is the bean named
+ * {@link AsyncBindListenerDispatcher#EXECUTOR_BEAN_NAME "asyncBindListenerExecutor"} if present, and whose queue is
+ * configured by the properties :
+ * <ul>
+ *     <li>{@link io.microsphere.spring.boot.constants.PropertyConstants#CONFIGURATION_PROPERTIES_ASYNC_BIND_LISTENER_QUEUE_CAPACITY_PROPERTY_NAME}</li>
+ *     <li>{@link io.microsphere.spring.boot.constants.PropertyConstants#CONFIGURATION_PROPERTIES_ASYNC_BIND_LISTENER_REJECTION_POLICY_PROPERTY_NAME}</li>
+ * </ul>
+ * </p>
+ *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
  * @see ConfigurationPropertiesBindHandlerAdvisor
  * @see Binder
@@ -72,13 +102,23 @@ import static io.microsphere.spring.beans.BeanUtils.getSortedBeans;
  * @since 1.0.0
  */
 public class ListenableConfigurationPropertiesBindHandlerAdvisor implements ConfigurationPropertiesBindHandlerAdvisor,
-        BeanFactoryAware {
+        BeanFactoryAware, EnvironmentAware, ApplicationListener<ContextRefreshedEvent>, DisposableBean {
 
     private BeanFactory beanFactory;
 
+    private Environment environment;
+
+    private volatile AsyncBindListenerDispatcher asyncBindListenerDispatcher;
+
+    /**
+     * The cache of the sorted {@link BindListener BindListeners' beans}
+     */
+    private volatile SortedBindListeners sortedBindListeners;
+
     /**
      * Applies this advisor by wrapping the given {@link BindHandler} with a
-     * {@link ListenableBindHandlerAdapter} that delegates to all discovered {@link BindListener} beans.
+     * {@link ListenableBindHandlerAdapter} that delegates to all discovered {@link BindListener} beans, which are
+     * {@link #getSortedBindListeners() cached} until the context is refreshed.
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
@@ -93,8 +133,97 @@ public class ListenableConfigurationPropertiesBindHandlerAdvisor implements Conf
      */
     @Override
     public BindHandler apply(BindHandler bindHandler) {
-        List<BindListener> bindListeners = getSortedBeans(this.beanFactory, BindListener.class);
-        return new ListenableBindHandlerAdapter(bindHandler, bindListeners);
+        SortedBindListeners sortedBindListeners = getSortedBindListeners();
+        AsyncBindListenerDispatcher dispatcher = sortedBindListeners.async ? getAsyncBindListenerDispatcher() : null;
+        return new ListenableBindHandlerAdapter(bindHandler, sortedBindListeners.listeners, dispatcher);
+    }
+
+    /**
+     * Get the sorted {@link BindListener BindListeners' beans} from the cache.
+     * <p>
+     * Once the configuration of the {@link BeanFactory} was frozen, the cache is reused without any lookup until it's
+     * {@link #onApplicationEvent(ContextRefreshedEvent) invalidated by the refresh of context}, e.g, the
+     * {@link BindListener} singletons registered manually are applied since then. Before that, the bean definitions
+     * may be changed, thus the cache is invalidated when the names of {@link BindListener} beans were changed.
+     *
+     * @return non-null
+     */
+    SortedBindListeners getSortedBindListeners() {
+        BeanFactory beanFactory = this.beanFactory;
+        SortedBindListeners sortedBindListeners = this.sortedBindListeners;
+        if (sortedBindListeners != null && isConfigurationFrozen(beanFactory)) {
+            return sortedBindListeners;
+        }
+        String[] beanNames = getBindListenerBeanNames(beanFactory);
+        if (sortedBindListeners == null || beanNames == null || !Arrays.equals(sortedBindListeners.beanNames, beanNames)) {
+            List<BindListener> bindListeners = getSortedBeans(beanFactory, BindListener.class);
+            sortedBindListeners = new SortedBindListeners(bindListeners.toArray(new BindListener[0]), beanNames);
+            this.sortedBindListeners = sortedBindListeners;
+        }
+        return sortedBindListeners;
+    }
+
+    static boolean isConfigurationFrozen(BeanFactory beanFactory) {
+        return beanFactory instanceof ConfigurableListableBeanFactory
+                && ((ConfigurableListableBeanFactory) beanFactory).isConfigurationFrozen();
+    }
+
+    @Nullable
+    static String[] getBindListenerBeanNames(BeanFactory beanFactory) {
+        return beanFactory instanceof ListableBeanFactory ?
+                beanNamesForTypeIncludingAncestors((ListableBeanFactory) beanFactory, BindListener.class, true, true) : null;
+    }
+
+    /**
+     * Get the shared {@link AsyncBindListenerDispatcher}, which is created on demand.
+     *
+     * @return non-null
+     */
+    public AsyncBindListenerDispatcher getAsyncBindListenerDispatcher() {
+        AsyncBindListenerDispatcher dispatcher = this.asyncBindListenerDispatcher;
+        if (dispatcher == null) {
+            synchronized (this) {
+                dispatcher = this.asyncBindListenerDispatcher;
+                if (dispatcher == null) {
+                    dispatcher = createAsyncBindListenerDispatcher();
+                    this.asyncBindListenerDispatcher = dispatcher;
+                }
+            }
+        }
+        return dispatcher;
+    }
+
+    /**
+     * Find the shared {@link AsyncBindListenerDispatcher} without creating it, e.g, for the monitoring.
+     *
+     * @return <code>null</code> if it has not been created
+     */
+    @Nullable
+    public AsyncBindListenerDispatcher findAsyncBindListenerDispatcher() {
+        return this.asyncBindListenerDispatcher;
+    }
+
+    private AsyncBindListenerDispatcher createAsyncBindListenerDispatcher() {
+        BeanFactory beanFactory = this.beanFactory;
+        Environment environment = this.environment;
+        Executor executor = beanFactory != null && beanFactory.containsBean(EXECUTOR_BEAN_NAME) ?
+                beanFactory.getBean(EXECUTOR_BEAN_NAME, Executor.class) : null;
+        int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        RejectionPolicy rejectionPolicy = CALLER_RUNS;
+        if (environment != null) {
+            queueCapacity = environment.getProperty(CONFIGURATION_PROPERTIES_ASYNC_BIND_LISTENER_QUEUE_CAPACITY_PROPERTY_NAME, int.class, queueCapacity);
+            rejectionPolicy = environment.getProperty(CONFIGURATION_PROPERTIES_ASYNC_BIND_LISTENER_REJECTION_POLICY_PROPERTY_NAME, RejectionPolicy.class, rejectionPolicy);
+        }
+        return new AsyncBindListenerDispatcher(executor, queueCapacity, rejectionPolicy);
+    }
+
+    static boolean hasAsyncBindListener(BindListener[] bindListeners) {
+        for (BindListener bindListener : bindListeners) {
+            if (bindListener instanceof AsyncBindListener) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -113,5 +242,51 @@ public class ListenableConfigurationPropertiesBindHandlerAdvisor implements Conf
     @Override
     public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
         this.beanFactory = beanFactory;
+        this.sortedBindListeners = null;
+    }
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Invalidate the cache of the sorted {@link BindListener BindListeners' beans} when the context is refreshed.
+     *
+     * @param event {@link ContextRefreshedEvent}
+     */
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        this.sortedBindListeners = null;
+    }
+
+    /**
+     * Destroy the {@link AsyncBindListenerDispatcher} if created.
+     */
+    @Override
+    public void destroy() {
+        AsyncBindListenerDispatcher dispatcher = this.asyncBindListenerDispatcher;
+        if (dispatcher != null) {
+            dispatcher.destroy();
+        }
+    }
+
+    /**
+     * The sorted {@link BindListener BindListeners} with the names of their beans when they were resolved
+     */
+    static class SortedBindListeners {
+
+        final BindListener[] listeners;
+
+        @Nullable
+        final String[] beanNames;
+
+        final boolean async;
+
+        SortedBindListeners(BindListener[] listeners, @Nullable String[] beanNames) {
+            this.listeners = listeners;
+            this.beanNames = beanNames;
+            this.async = hasAsyncBindListener(listeners);
+        }
     }
-}
\ No newline at end of file
+}
@@ -21,6 +21,7 @@ import io.microsphere.spring.beans.BeanSource;
 import io.microsphere.spring.boot.context.properties.ListenableConfigurationPropertiesBindHandlerAdvisor;
 import io.microsphere.spring.boot.context.properties.bind.BindListener;
 import io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanPropertyChangedEvent;
+import io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesRebinder;
 import io.microsphere.spring.boot.context.properties.bind.EventPublishingConfigurationPropertiesBeanPropertyChangedListener;
 import io.microsphere.spring.context.annotation.AnnotatedBeanCapableImportBeanDefinitionRegistrar;
 import io.microsphere.spring.core.annotation.ResolvablePlaceholderAnnotationAttributes;
@@ -44,6 +45,7 @@ import static io.microsphere.spring.beans.factory.support.BeanRegistrar.register
  * @see BindListener
  * @see EventPublishingConfigurationPropertiesBeanPropertyChangedListener
  * @see ConfigurationPropertiesBeanPropertyChangedEvent
+ * @see ConfigurationPropertiesRebinder
  * @see ConfigurationPropertiesBindHandlerAdvisor
  * @see BindHandler
  * @see ImportBeanDefinitionRegistrar
@@ -66,6 +68,8 @@ class EnableConfigurationPropertiesExtensionRegistrar extends AnnotatedBeanCapab
             if (publishEvents) {
                 // register EventPublishingConfigurationPropertiesBeanPropertyChangedListener
                 registerGenericBean(registry, EventPublishingConfigurationPropertiesBeanPropertyChangedListener.class);
+                // register ConfigurationPropertiesRebinder
+                registerGenericBean(registry, ConfigurationPropertiesRebinder.class);
             }
             // register BindListener Beans
             registerBindListenerBeans(registry, sources);
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.bind;
+
+import io.microsphere.spring.boot.context.properties.ListenableConfigurationPropertiesBindHandlerAdvisor;
+import org.springframework.boot.context.properties.bind.BindContext;
+
+/**
+ * The asynchronous {@link BindListener}, whose callbacks are not executed on the binder thread, but dispatched by the
+ * {@link AsyncBindListenerDispatcher} with the order of the same
+ * {@link org.springframework.boot.context.properties.ConfigurationProperties @ConfigurationProperties} bean, thus
+ * the slow listener does not block the binding and the refresh of context.
+ * <p>
+ * The {@link BindContext} passed to the callbacks is the snapshot when the binding event occurred, because the
+ * original one is mutable during binding.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * @Component
+ * public class AuditBindListener implements AsyncBindListener {
+ *
+ *     @Override
+ *     public void onSuccess(ConfigurationPropertyName name, Bindable<?> target, BindContext context, Object result) {
+ *         auditService.record(name, result);
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see BindListener
+ * @see AsyncBindListenerDispatcher
+ * @see ListenableBindHandlerAdapter
+ * @see ListenableConfigurationPropertiesBindHandlerAdvisor
+ * @since 1.0.0
+ */
+public interface AsyncBindListener extends BindListener {
+}
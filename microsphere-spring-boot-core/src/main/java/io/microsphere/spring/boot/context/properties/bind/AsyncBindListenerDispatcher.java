@@ -0,0 +1,362 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.bind;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.logging.Logger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.util.Assert.assertNotNull;
+import static io.microsphere.util.Assert.assertTrue;
+import static java.lang.Math.max;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The dispatcher of {@link AsyncBindListener AsyncBindListeners}' events, which are queued by the key, e.g, the
+ * prefix of {@link org.springframework.boot.context.properties.ConfigurationProperties @ConfigurationProperties}
+ * bean, and executed in order of the same key on the {@link Executor}, the different keys are executed concurrently.
+ * <p>
+ * The total pending events are bounded by the capacity, the {@link RejectionPolicy} applies on the overflow :
+ * <ul>
+ *     <li>{@link RejectionPolicy#CALLER_RUNS} : the event is executed on the binder thread as the backpressure,
+ *     which may precede the pending events of the same key</li>
+ *     <li>{@link RejectionPolicy#DROP} : the event is discarded and {@link #getDroppedCount() counted}</li>
+ * </ul>
+ * The {@link #getQueueDepth() queue depth}, the {@link #getLag(TimeUnit) lag} and the
+ * {@link #getDroppedCount() dropped count} are exposed for the monitoring, e.g, the gauges of metrics.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   AsyncBindListenerDispatcher dispatcher = new AsyncBindListenerDispatcher(null, 1024, RejectionPolicy.CALLER_RUNS);
+ *   dispatcher.dispatch("server", () -> listener.onSuccess(name, target, context, result));
+ *   ...
+ *   dispatcher.destroy();
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AsyncBindListener
+ * @see ListenableBindHandlerAdapter
+ * @since 1.0.0
+ */
+public class AsyncBindListenerDispatcher implements DisposableBean {
+
+    private static final Logger logger = getLogger(AsyncBindListenerDispatcher.class);
+
+    /**
+     * The bean name of the optional {@link Executor} for {@link AsyncBindListener AsyncBindListeners}
+     */
+    public static final String EXECUTOR_BEAN_NAME = "asyncBindListenerExecutor";
+
+    /**
+     * The default capacity of the pending events
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    /**
+     * The thread name prefix of the default {@link Executor}
+     */
+    public static final String THREAD_NAME_PREFIX = "microsphere-async-bind-listener-";
+
+    /**
+     * The initial capacity of the enqueue times per key, which must be a power of two
+     */
+    static final int INITIAL_ENQUEUE_TIMES_CAPACITY = 16;
+
+    private final Executor executor;
+
+    private final boolean sharedExecutor;
+
+    private final int queueCapacity;
+
+    private final RejectionPolicy rejectionPolicy;
+
+    private final ConcurrentMap<Object, SerialQueue> queues = new ConcurrentHashMap<>();
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    /**
+     * The policy when the pending events exceed the capacity
+     */
+    public enum RejectionPolicy {
+
+        /**
+         * Execute the event on the caller thread
+         */
+        CALLER_RUNS,
+
+        /**
+         * Discard the event
+         */
+        DROP
+    }
+
+    /**
+     * @param executor        the {@link Executor}, if <code>null</code>, the executor of virtual threads will be
+     *                        created if available, or the cached thread pool of daemon threads
+     * @param queueCapacity   the capacity of the pending events, must be positive
+     * @param rejectionPolicy the {@link RejectionPolicy}
+     */
+    public AsyncBindListenerDispatcher(@Nullable Executor executor, int queueCapacity, RejectionPolicy rejectionPolicy) {
+        assertTrue(queueCapacity > 0, () -> "The 'queueCapacity' must be positive!");
+        assertNotNull(rejectionPolicy, () -> "The 'rejectionPolicy' must not be null!");
+        this.sharedExecutor = executor != null;
+        this.executor = executor == null ? newDefaultExecutor() : executor;
+        this.queueCapacity = queueCapacity;
+        this.rejectionPolicy = rejectionPolicy;
+    }
+
+    /**
+     * Dispatch the event task
+     *
+     * @param key  the key of order, the tasks of the same key are executed in order
+     * @param task the event task
+     */
+    public void dispatch(@Nonnull Object key, @Nonnull Runnable task) {
+        if (this.queueDepth.incrementAndGet() > this.queueCapacity) {
+            this.queueDepth.decrementAndGet();
+            reject(key, task);
+            return;
+        }
+        this.queues.computeIfAbsent(key, SerialQueue::new).offer(task, nanoTime());
+    }
+
+    private void reject(Object key, Runnable task) {
+        if (this.rejectionPolicy == RejectionPolicy.CALLER_RUNS) {
+            if (logger.isTraceEnabled()) {
+                logger.trace("The pending events exceed the capacity[{}], the event of '{}' runs on the caller thread",
+                        this.queueCapacity, key);
+            }
+            run(key, task);
+        } else {
+            this.droppedCount.increment();
+            if (logger.isWarnEnabled()) {
+                logger.warn("The pending events exceed the capacity[{}], the event of '{}' was dropped",
+                        this.queueCapacity, key);
+            }
+        }
+    }
+
+    /**
+     * Get the number of the pending events
+     *
+     * @return non-negative
+     */
+    public int getQueueDepth() {
+        return this.queueDepth.get();
+    }
+
+    /**
+     * Get the waiting time of the oldest pending event
+     *
+     * @param unit the {@link TimeUnit} of the lag
+     * @return zero if no event is pending
+     */
+    public long getLag(TimeUnit unit) {
+        long now = nanoTime();
+        long lag = 0L;
+        for (SerialQueue queue : this.queues.values()) {
+            lag = max(lag, queue.getLag(now));
+        }
+        return unit.convert(lag, NANOSECONDS);
+    }
+
+    /**
+     * Get the number of the dropped events
+     *
+     * @return non-negative
+     */
+    public long getDroppedCount() {
+        return this.droppedCount.sum();
+    }
+
+    /**
+     * Get the capacity of the pending events
+     *
+     * @return positive
+     */
+    public int getQueueCapacity() {
+        return this.queueCapacity;
+    }
+
+    /**
+     * Get the {@link RejectionPolicy}
+     *
+     * @return non-null
+     */
+    @Nonnull
+    public RejectionPolicy getRejectionPolicy() {
+        return this.rejectionPolicy;
+    }
+
+    /**
+     * Shutdown the {@link Executor} if it was created by this dispatcher
+     */
+    @Override
+    public void destroy() {
+        if (!this.sharedExecutor && this.executor instanceof ExecutorService) {
+            ((ExecutorService) this.executor).shutdown();
+        }
+    }
+
+    void onExecuted(long enqueueTime) {
+        this.queueDepth.decrementAndGet();
+        if (logger.isTraceEnabled()) {
+            logger.trace("The event was executed after waiting {} ns", nanoTime() - enqueueTime);
+        }
+    }
+
+    static void run(Object key, Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable e) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("The event of '{}' was failed to execute", key, e);
+            }
+        }
+    }
+
+    /**
+     * Create the default {@link Executor}, the virtual threads are preferred if available(Java 21+).
+     *
+     * @return non-null
+     */
+    @Nonnull
+    static ExecutorService newDefaultExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (Throwable e) {
+            if (logger.isTraceEnabled()) {
+                logger.trace("The virtual threads are not available, the daemon threads will be used", e);
+            }
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+        threadFactory.setDaemon(true);
+        return newCachedThreadPool(threadFactory);
+    }
+
+    /**
+     * The queue executes the tasks of the same key one by one
+     */
+    private class SerialQueue implements Runnable {
+
+        private final Object key;
+
+        private final Deque<Runnable> tasks = new ArrayDeque<>();
+
+        /**
+         * The ring buffer of the enqueue times of the tasks in order, which are kept unboxed
+         */
+        private long[] enqueueTimes = new long[INITIAL_ENQUEUE_TIMES_CAPACITY];
+
+        /**
+         * The index of the oldest enqueue time in the ring buffer
+         */
+        private int head;
+
+        private int size;
+
+        private boolean running;
+
+        SerialQueue(Object key) {
+            this.key = key;
+        }
+
+        void offer(Runnable task, long enqueueTime) {
+            synchronized (this) {
+                this.tasks.offer(task);
+                offerEnqueueTime(enqueueTime);
+                if (this.running) {
+                    return;
+                }
+                this.running = true;
+            }
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("The executor rejected the events of '{}', they will run on the caller thread", this.key, e);
+                }
+                run();
+            }
+        }
+
+        @Override
+        public void run() {
+            for (; ; ) {
+                Runnable task;
+                long enqueueTime;
+                synchronized (this) {
+                    task = this.tasks.poll();
+                    if (task == null) {
+                        this.running = false;
+                        return;
+                    }
+                    enqueueTime = pollEnqueueTime();
+                }
+                AsyncBindListenerDispatcher.run(this.key, task);
+                onExecuted(enqueueTime);
+            }
+        }
+
+        synchronized long getLag(long now) {
+            return this.size == 0 ? 0L : now - this.enqueueTimes[this.head];
+        }
+
+        private void offerEnqueueTime(long enqueueTime) {
+            long[] enqueueTimes = this.enqueueTimes;
+            int capacity = enqueueTimes.length;
+            if (this.size == capacity) {
+                // Grow the ring buffer and unwrap the enqueue times from the head
+                long[] newEnqueueTimes = new long[capacity << 1];
+                int headLength = capacity - this.head;
+                System.arraycopy(enqueueTimes, this.head, newEnqueueTimes, 0, headLength);
+                System.arraycopy(enqueueTimes, 0, newEnqueueTimes, headLength, this.head);
+                this.enqueueTimes = enqueueTimes = newEnqueueTimes;
+                this.head = 0;
+                capacity = newEnqueueTimes.length;
+            }
+            enqueueTimes[(this.head + this.size) & (capacity - 1)] = enqueueTime;
+            this.size++;
+        }
+
+        private long pollEnqueueTime() {
+            long enqueueTime = this.enqueueTimes[this.head];
+            this.head = (this.head + 1) & (this.enqueueTimes.length - 1);
+            this.size--;
+            return enqueueTime;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.bind;
+
+import io.microsphere.annotation.Nullable;
+import org.springframework.boot.context.properties.bind.BindContext;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static io.microsphere.spring.boot.context.properties.bind.BindContextSnapshot.snapshot;
+import static io.microsphere.spring.boot.context.properties.bind.BindListeners.ON_CREATE;
+import static io.microsphere.spring.boot.context.properties.bind.BindListeners.ON_FAILURE;
+import static io.microsphere.spring.boot.context.properties.bind.BindListeners.ON_FINISH;
+import static io.microsphere.spring.boot.context.properties.bind.BindListeners.ON_START;
+import static io.microsphere.spring.boot.context.properties.bind.BindListeners.ON_SUCCESS;
+import static io.microsphere.spring.boot.context.properties.bind.BindListeners.getOverriddenCallbacks;
+
+/**
+ * Composite {@link AsyncBindListener}, which dispatches the events to the {@link AsyncBindListenerDispatcher}
+ * with the key of the root {@link ConfigurationPropertyName name} in binding, thus the events of the same
+ * {@link org.springframework.boot.context.properties.ConfigurationProperties @ConfigurationProperties} bean are
+ * executed in order.
+ * <p>
+ * The callbacks are {@link #getCallbacks() exposed} as the union of the ones overridden by the delegates, so the
+ * callbacks that no delegate overrides are still skipped by {@link BindListeners}, and each event is dispatched only
+ * to the delegates overriding its callback.
+ * <p>
+ * The instance is bound to one {@link ListenableBindHandlerAdapter} per binding, so it's not thread-safe.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AsyncBindListener
+ * @see AsyncBindListenerDispatcher
+ * @since 1.0.0
+ */
+class AsyncBindListeners implements BindListener {
+
+    private final AsyncBindListener[] listeners;
+
+    /**
+     * The bits of callbacks overridden by each listener in the order of {@link #listeners}
+     */
+    private final int[] listenerCallbacks;
+
+    /**
+     * The bits of callbacks overridden by any listener
+     */
+    private final int callbacks;
+
+    private final AsyncBindListenerDispatcher dispatcher;
+
+    /**
+     * The root name in binding as the key of order
+     */
+    @Nullable
+    private ConfigurationPropertyName rootName;
+
+    AsyncBindListeners(List<AsyncBindListener> listeners, AsyncBindListenerDispatcher dispatcher) {
+        AsyncBindListener[] asyncBindListeners = listeners.toArray(new AsyncBindListener[0]);
+        int[] listenerCallbacks = new int[asyncBindListeners.length];
+        int callbacks = 0;
+        for (int i = 0; i < asyncBindListeners.length; i++) {
+            listenerCallbacks[i] = getOverriddenCallbacks(asyncBindListeners[i]);
+            callbacks |= listenerCallbacks[i];
+        }
+        this.listeners = asyncBindListeners;
+        this.listenerCallbacks = listenerCallbacks;
+        this.callbacks = callbacks;
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public <T> void onStart(ConfigurationPropertyName name, Bindable<T> target, BindContext context) {
+        if (this.rootName == null || context.getDepth() == 0) {
+            this.rootName = name;
+        }
+        if (isSkipped(ON_START)) {
+            return;
+        }
+        BindContext snapshot = snapshot(context);
+        dispatch(name, ON_START, listener -> listener.onStart(name, target, snapshot));
+    }
+
+    @Override
+    public void onSuccess(ConfigurationPropertyName name, Bindable<?> target, BindContext context, Object result) {
+        if (isSkipped(ON_SUCCESS)) {
+            return;
+        }
+        BindContext snapshot = snapshot(context);
+        dispatch(name, ON_SUCCESS, listener -> listener.onSuccess(name, target, snapshot, result));
+    }
+
+    @Override
+    public void onCreate(ConfigurationPropertyName name, Bindable<?> target, BindContext context, Object result) {
+        if (isSkipped(ON_CREATE)) {
+            return;
+        }
+        BindContext snapshot = snapshot(context);
+        dispatch(name, ON_CREATE, listener -> listener.onCreate(name, target, snapshot, result));
+    }
+
+    @Override
+    public void onFailure(ConfigurationPropertyName name, Bindable<?> target, BindContext context, Exception error) {
+        if (isSkipped(ON_FAILURE)) {
+            return;
+        }
+        BindContext snapshot = snapshot(context);
+        dispatch(name, ON_FAILURE, listener -> listener.onFailure(name, target, snapshot, error));
+    }
+
+    @Override
+    public void onFinish(ConfigurationPropertyName name, Bindable<?> target, BindContext context, Object result) {
+        if (isSkipped(ON_FINISH)) {
+            return;
+        }
+        BindContext snapshot = snapshot(context);
+        dispatch(name, ON_FINISH, listener -> listener.onFinish(name, target, snapshot, result));
+    }
+
+    private void dispatch(ConfigurationPropertyName name, int callback, Consumer<BindListener> listenerConsumer) {
+        ConfigurationPropertyName key = this.rootName == null ? name : this.rootName;
+        AsyncBindListener[] listeners = this.listeners;
+        int[] listenerCallbacks = this.listenerCallbacks;
+        this.dispatcher.dispatch(key, () -> {
+            for (int i = 0; i < listeners.length; i++) {
+                if ((listenerCallbacks[i] & callback) != 0) {
+                    AsyncBindListener listener = listeners[i];
+                    AsyncBindListenerDispatcher.run(key, () -> listenerConsumer.accept(listener));
+                }
+            }
+        });
+    }
+
+    /**
+     * Get the bits of callbacks of this composite, which are the union of the ones overridden by the delegates and
+     * {@link BindListeners#ON_START}, because the root name in binding is tracked by {@link #onStart}.
+     *
+     * @return the bits of callbacks
+     */
+    int getCallbacks() {
+        return this.callbacks | ON_START;
+    }
+
+    private boolean isSkipped(int callback) {
+        return (this.callbacks & callback) == 0;
+    }
+
+    /**
+     * Decorate the {@link BindListener BindListeners}, the {@link AsyncBindListener AsyncBindListeners} among them are
+     * replaced by one {@link AsyncBindListeners} after the synchronous ones.
+     *
+     * @param bindListeners the {@link BindListener BindListeners}
+     * @param dispatcher    the {@link AsyncBindListenerDispatcher}, if <code>null</code>, the
+     *                      {@link AsyncBindListener AsyncBindListeners} are executed synchronously
+     * @return the decorated {@link BindListener BindListeners}
+     */
+    static BindListener[] decorate(BindListener[] bindListeners, @Nullable AsyncBindListenerDispatcher dispatcher) {
+        if (dispatcher == null || !hasAsyncBindListener(bindListeners)) {
+            return bindListeners;
+        }
+        List<BindListener> listeners = new ArrayList<>(bindListeners.length);
+        List<AsyncBindListener> asyncListeners = new ArrayList<>(bindListeners.length);
+        for (BindListener bindListener : bindListeners) {
+            if (bindListener instanceof AsyncBindListener asyncBindListener) {
+                asyncListeners.add(asyncBindListener);
+            } else {
+                listeners.add(bindListener);
+            }
+        }
+        listeners.add(new AsyncBindListeners(asyncListeners, dispatcher));
+        return listeners.toArray(new BindListener[0]);
+    }
+
+    /**
+     * Whether any {@link AsyncBindListener} is present
+     *
+     * @param bindListeners the {@link BindListener BindListeners}
+     * @return <code>true</code> if present
+     */
+    static boolean hasAsyncBindListener(BindListener[] bindListeners) {
+        for (BindListener bindListener : bindListeners) {
+            if (bindListener instanceof AsyncBindListener) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
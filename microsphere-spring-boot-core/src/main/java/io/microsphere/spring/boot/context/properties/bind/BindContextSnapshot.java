@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.bind;
+
+import org.springframework.boot.context.properties.bind.BindContext;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationProperty;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The immutable snapshot of {@link BindContext}, which is passed to the {@link AsyncBindListener} because the
+ * original one is changed during binding.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see BindContext
+ * @see AsyncBindListener
+ * @since 1.0.0
+ */
+class BindContextSnapshot implements BindContext {
+
+    private final Binder binder;
+
+    private final int depth;
+
+    private final List<ConfigurationPropertySource> sources;
+
+    private final ConfigurationProperty configurationProperty;
+
+    BindContextSnapshot(BindContext context) {
+        this.binder = context.getBinder();
+        this.depth = context.getDepth();
+        List<ConfigurationPropertySource> sources = new ArrayList<>(1);
+        context.getSources().forEach(sources::add);
+        this.sources = sources;
+        this.configurationProperty = context.getConfigurationProperty();
+    }
+
+    @Override
+    public Binder getBinder() {
+        return this.binder;
+    }
+
+    @Override
+    public int getDepth() {
+        return this.depth;
+    }
+
+    @Override
+    public Iterable<ConfigurationPropertySource> getSources() {
+        return this.sources;
+    }
+
+    @Override
+    public ConfigurationProperty getConfigurationProperty() {
+        return this.configurationProperty;
+    }
+
+    /**
+     * Take the snapshot of {@link BindContext}
+     *
+     * @param context {@link BindContext}
+     * @return the snapshot
+     */
+    static BindContext snapshot(BindContext context) {
+        return context instanceof BindContextSnapshot ? context : new BindContextSnapshot(context);
+    }
+}
@@ -16,21 +16,56 @@
  */
 package io.microsphere.spring.boot.context.properties.bind;
 
+import io.microsphere.logging.Logger;
 import org.springframework.boot.context.properties.bind.BindContext;
 import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
 
-import java.util.function.Consumer;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.microsphere.logging.LoggerFactory.getLogger;
 
 /**
- * Composite {@link BindListener}
+ * Composite {@link BindListener}, which holds the listeners in the array and loops them by index. The callbacks
+ * that no listener overrides are skipped as the fast path.
  *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
  * @since 1.0.0
  */
 class BindListeners implements BindListener {
 
-    private final Iterable<BindListener> listeners;
+    private static final Logger logger = getLogger(BindListeners.class);
+
+    static final int ON_START = 1;
+
+    static final int ON_SUCCESS = 1 << 1;
+
+    static final int ON_CREATE = 1 << 2;
+
+    static final int ON_FAILURE = 1 << 3;
+
+    static final int ON_FINISH = 1 << 4;
+
+    static final int ALL_CALLBACKS = ON_START | ON_SUCCESS | ON_CREATE | ON_FAILURE | ON_FINISH;
+
+    /**
+     * The cache of the callbacks overridden by the {@link BindListener} class
+     */
+    private static final ClassValue<Integer> overriddenCallbacksCache = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return resolveOverriddenCallbacks(type);
+        }
+    };
+
+    private final BindListener[] listeners;
+
+    /**
+     * The bits of callbacks overridden by any listener
+     */
+    private final int callbacks;
 
     /**
      * Constructs a composite {@link BindListener} that delegates to all provided listeners.
@@ -44,7 +79,21 @@ class BindListeners implements BindListener {
      * @param listeners the {@link BindListener} instances to compose
      */
     BindListeners(Iterable<BindListener> listeners) {
+        this(toArray(listeners));
+    }
+
+    /**
+     * Constructs a composite {@link BindListener} that delegates to all provided listeners.
+     *
+     * @param listeners the {@link BindListener} instances to compose, the array is not copied
+     */
+    BindListeners(BindListener[] listeners) {
+        int callbacks = 0;
+        for (int i = 0; i < listeners.length; i++) {
+            callbacks |= getOverriddenCallbacks(listeners[i]);
+        }
         this.listeners = listeners;
+        this.callbacks = callbacks;
     }
 
     /**
@@ -62,7 +111,13 @@ class BindListeners implements BindListener {
      */
     @Override
     public <T> void onStart(ConfigurationPropertyName name, Bindable<T> target, BindContext context) {
-        iterate(listener -> listener.onStart(name, target, context));
+        if (isSkipped(ON_START)) {
+            return;
+        }
+        BindListener[] listeners = this.listeners;
+        for (int i = 0; i < listeners.length; i++) {
+            listeners[i].onStart(name, target, context);
+        }
     }
 
     /**
@@ -82,7 +137,13 @@ class BindListeners implements BindListener {
      */
     @Override
     public void onSuccess(ConfigurationPropertyName name, Bindable<?> target, BindContext context, Object result) {
-        iterate(listener -> listener.onSuccess(name, target, context, result));
+        if (isSkipped(ON_SUCCESS)) {
+            return;
+        }
+        BindListener[] listeners = this.listeners;
+        for (int i = 0; i < listeners.length; i++) {
+            listeners[i].onSuccess(name, target, context, result);
+        }
     }
 
     /**
@@ -102,7 +163,13 @@ class BindListeners implements BindListener {
      */
     @Override
     public void onCreate(ConfigurationPropertyName name, Bindable<?> target, BindContext context, Object result) {
-        iterate(listener -> listener.onCreate(name, target, context, result));
+        if (isSkipped(ON_CREATE)) {
+            return;
+        }
+        BindListener[] listeners = this.listeners;
+        for (int i = 0; i < listeners.length; i++) {
+            listeners[i].onCreate(name, target, context, result);
+        }
     }
 
     /**
@@ -122,7 +189,13 @@ class BindListeners implements BindListener {
      */
     @Override
     public void onFailure(ConfigurationPropertyName name, Bindable<?> target, BindContext context, Exception error) {
-        iterate(listener -> listener.onFailure(name, target, context, error));
+        if (isSkipped(ON_FAILURE)) {
+            return;
+        }
+        BindListener[] listeners = this.listeners;
+        for (int i = 0; i < listeners.length; i++) {
+            listeners[i].onFailure(name, target, context, error);
+        }
     }
 
     /**
@@ -142,10 +215,68 @@ class BindListeners implements BindListener {
      */
     @Override
     public void onFinish(ConfigurationPropertyName name, Bindable<?> target, BindContext context, Object result) {
-        iterate(listener -> listener.onFinish(name, target, context, result));
+        if (isSkipped(ON_FINISH)) {
+            return;
+        }
+        BindListener[] listeners = this.listeners;
+        for (int i = 0; i < listeners.length; i++) {
+            listeners[i].onFinish(name, target, context, result);
+        }
+    }
+
+    /**
+     * Whether the callback is skipped, because no listener overrides it
+     *
+     * @param callback the bit of callback
+     * @return <code>true</code> if skipped
+     */
+    boolean isSkipped(int callback) {
+        return (this.callbacks & callback) == 0;
+    }
+
+    static BindListener[] toArray(Iterable<BindListener> listeners) {
+        if (listeners instanceof List<BindListener> list) {
+            return list.toArray(new BindListener[0]);
+        }
+        List<BindListener> list = new ArrayList<>();
+        listeners.forEach(list::add);
+        return list.toArray(new BindListener[0]);
+    }
+
+    /**
+     * Get the bits of callbacks overridden by the specified {@link BindListener}, the ones of {@link AsyncBindListeners}
+     * are the union of its delegates'.
+     *
+     * @param listener {@link BindListener}
+     * @return the bits of callbacks
+     */
+    static int getOverriddenCallbacks(BindListener listener) {
+        if (listener instanceof AsyncBindListeners asyncBindListeners) {
+            return asyncBindListeners.getCallbacks();
+        }
+        return overriddenCallbacksCache.get(listener.getClass());
+    }
+
+    static int resolveOverriddenCallbacks(Class<?> listenerClass) {
+        int callbacks = 0;
+        try {
+            callbacks |= resolveOverriddenCallback(listenerClass, ON_START, "onStart", ConfigurationPropertyName.class, Bindable.class, BindContext.class);
+            callbacks |= resolveOverriddenCallback(listenerClass, ON_SUCCESS, "onSuccess", ConfigurationPropertyName.class, Bindable.class, BindContext.class, Object.class);
+            callbacks |= resolveOverriddenCallback(listenerClass, ON_CREATE, "onCreate", ConfigurationPropertyName.class, Bindable.class, BindContext.class, Object.class);
+            callbacks |= resolveOverriddenCallback(listenerClass, ON_FAILURE, "onFailure", ConfigurationPropertyName.class, Bindable.class, BindContext.class, Exception.class);
+            callbacks |= resolveOverriddenCallback(listenerClass, ON_FINISH, "onFinish", ConfigurationPropertyName.class, Bindable.class, BindContext.class, Object.class);
+        } catch (Throwable e) {
+            if (logger.isTraceEnabled()) {
+                logger.trace("The overridden callbacks of BindListener class[{}] can't be resolved", listenerClass, e);
+            }
+            callbacks = ALL_CALLBACKS;
+        }
+        return callbacks;
     }
 
-    private void iterate(Consumer<BindListener> listenerConsumer) {
-        listeners.forEach(listenerConsumer);
+    private static int resolveOverriddenCallback(Class<?> listenerClass, int callback, String methodName,
+                                                 Class<?>... parameterTypes) throws NoSuchMethodException {
+        Method method = listenerClass.getMethod(methodName, parameterTypes);
+        return BindListener.class.equals(method.getDeclaringClass()) ? 0 : callback;
     }
 }
@@ -26,6 +26,8 @@ import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.BindResult;
 import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.context.properties.source.ConfigurationProperty;
@@ -33,16 +35,27 @@ import org.springframework.boot.context.properties.source.ConfigurationPropertyN
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Validator;
+import org.springframework.validation.annotation.Validated;
 
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static io.microsphere.collection.ListUtils.newArrayList;
 import static io.microsphere.collection.MapUtils.newHashMap;
+import static io.microsphere.collection.MapUtils.newLinkedHashMap;
 import static io.microsphere.constants.SeparatorConstants.LINE_SEPARATOR;
 import static io.microsphere.constants.SymbolConstants.DOT;
 import static io.microsphere.constants.SymbolConstants.DOT_CHAR;
@@ -50,7 +63,8 @@ import static io.microsphere.lang.function.ThrowableSupplier.execute;
 import static io.microsphere.logging.LoggerFactory.getLogger;
 import static io.microsphere.reflect.FieldUtils.findAllDeclaredFields;
 import static io.microsphere.reflect.FieldUtils.findField;
-import static io.microsphere.reflect.MethodUtils.invokeMethod;
+import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanPropertyAccessor.compile;
+import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanPropertyDelta.diff;
 import static io.microsphere.spring.boot.context.properties.bind.util.BindUtils.getBindConstructor;
 import static io.microsphere.spring.boot.context.properties.source.util.ConfigurationPropertyUtils.getParent;
 import static io.microsphere.spring.boot.context.properties.source.util.ConfigurationPropertyUtils.toDashedForm;
@@ -62,11 +76,18 @@ import static io.microsphere.util.Assert.assertNotNull;
 import static io.microsphere.util.ClassUtils.isConcreteClass;
 import static io.microsphere.util.StringUtils.isBlank;
 import static io.microsphere.util.StringUtils.replace;
+import static java.lang.String.valueOf;
+import static java.lang.System.nanoTime;
+import static java.util.Arrays.stream;
 import static java.util.Objects.deepEquals;
-import static org.springframework.beans.BeanUtils.copyProperties;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 import static org.springframework.beans.BeanUtils.getPropertyDescriptors;
 import static org.springframework.beans.BeanUtils.instantiateClass;
+import static org.springframework.boot.context.properties.EnableConfigurationProperties.VALIDATOR_BEAN_NAME;
 import static org.springframework.boot.context.properties.source.ConfigurationPropertyName.of;
+import static org.springframework.core.annotation.AnnotatedElementUtils.hasAnnotation;
 import static org.springframework.util.ClassUtils.isAssignableValue;
 import static org.springframework.util.ClassUtils.isPrimitiveOrWrapper;
 
@@ -83,6 +104,11 @@ class ConfigurationPropertiesBeanContext {
 
     private static final Logger logger = getLogger(ConfigurationPropertiesBeanContext.class);
 
+    /**
+     * The name of {@link StartupStep} for {@link #buildConfigurationPropertiesBeanContexts(ConfigurableApplicationContext, boolean)}
+     */
+    static final String BUILD_STARTUP_STEP_NAME = "microsphere.spring.boot.configuration-properties.bean-contexts.build";
+
     @Nonnull
     private final String beanName;
 
@@ -113,6 +139,45 @@ class ConfigurationPropertiesBeanContext {
     @Nullable
     private volatile BeanWrapper beanWrapper;
 
+    /**
+     * Whether to publish {@link ConfigurationPropertiesBeanPropertyChangedEvent} for each changed property
+     */
+    private boolean publishPropertyChangedEvent = true;
+
+    /**
+     * Whether to publish {@link ConfigurationPropertiesBeanPropertiesChangedEvent} for each rebinding
+     */
+    private boolean publishPropertiesChangedEvent = false;
+
+    /**
+     * The pending changes during the rebinding which key is the property name and value is the net change,
+     * they are confined to the rebinding thread, and absent if the rebinding is not started.
+     */
+    private final ThreadLocal<Map<String, ConfigurationPropertiesBeanPropertyChangedEvent>> pendingChanges = new ThreadLocal<>();
+
+    /**
+     * The latest {@link ConfigurationPropertiesSnapshot snapshot}, it's <code>null</code> before the bean is bound,
+     * which is updated atomically because the changes out of rebinding and the rebinding may be concurrent.
+     */
+    private final AtomicReference<ConfigurationPropertiesSnapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * The changed values of the snapshot during the rebinding which key is the property path, they are confined to
+     * the rebinding thread, and absent if the rebinding is not started.
+     */
+    private final ThreadLocal<Map<String, Object>> pendingSnapshotValues = new ThreadLocal<>();
+
+    /**
+     * Whether the bean class can't be instantiated for resolving the new property values
+     */
+    private volatile boolean resolvingInstanceUnavailable;
+
+    /**
+     * The {@link Validator Validators} of the bean after rebinding, it's <code>null</code> before the first rebinding.
+     */
+    @Nullable
+    private volatile List<Validator> validators;
+
     /**
      * Constructor
      *
@@ -204,19 +269,20 @@ class ConfigurationPropertiesBeanContext {
     private void initBeanProperties() {
         Object bean = getBean();
         this.beanWrapper = new BeanWrapperImpl(bean);
-        initBeanProperties(this.beanType, of(this.prefix), null);
+        initBeanProperties(this.beanType, of(this.prefix), null, null);
     }
 
-    private void initBeanProperties(ResolvableType beanType, ConfigurationPropertyName prefixName, String nestedPath) {
+    private void initBeanProperties(ResolvableType beanType, ConfigurationPropertyName prefixName, String nestedPath,
+                                    @Nullable ConfigurationPropertiesBeanProperty parentProperty) {
         Class<?> beanClass = beanType.resolve();
         if (isCandidateClass(beanClass)) {
             Constructor<?> bindConstructor = this.bindConstructor;
             if (bindConstructor == null) {
                 PropertyDescriptor[] descriptors = getPropertyDescriptors(beanClass);
-                initBeanProperties(beanType, descriptors, prefixName, nestedPath);
+                initBeanProperties(beanType, descriptors, prefixName, nestedPath, parentProperty);
             } else {
                 Set<Field> fields = findAllDeclaredFields(beanClass, MemberUtils::isNonStatic);
-                initBeanProperties(beanType, fields, prefixName, nestedPath);
+                initBeanProperties(beanType, fields, prefixName, nestedPath, parentProperty);
             }
         }
     }
@@ -232,11 +298,77 @@ class ConfigurationPropertiesBeanContext {
         } else {
             initBeanProperties();
         }
+        publishSnapshot();
+    }
+
+    /**
+     * Get the latest {@link ConfigurationPropertiesSnapshot snapshot} of the bean by one volatile read.
+     *
+     * @return <code>null</code> if the bean is not bound
+     */
+    @Nullable
+    ConfigurationPropertiesSnapshot getSnapshot() {
+        return this.snapshot.get();
+    }
+
+    /**
+     * Publish the new {@link ConfigurationPropertiesSnapshot snapshot} from all leaf properties with the next version.
+     */
+    void publishSnapshot() {
+        Map<String, Object> values = newHashMap(this.beanProperties.size());
+        for (ConfigurationPropertiesBeanProperty beanProperty : this.beanProperties.values()) {
+            if (isSnapshotProperty(beanProperty)) {
+                values.put(beanProperty.getName(), beanProperty.getValue());
+            }
+        }
+        this.snapshot.updateAndGet(snapshot -> {
+            long version = snapshot == null ? 1 : snapshot.getVersion() + 1;
+            return ConfigurationPropertiesSnapshot.of(this.beanName, this.prefix, version, values);
+        });
+    }
+
+    /**
+     * Record the changed value into the {@link ConfigurationPropertiesSnapshot snapshot}, the new snapshot is
+     * published immediately if out of rebinding, or on the {@link #finishRebinding() finish of rebinding}.
+     *
+     * @param beanProperty the {@link ConfigurationPropertiesBeanProperty}
+     * @param value        the changed value
+     */
+    private void recordSnapshotValue(ConfigurationPropertiesBeanProperty beanProperty, Object value) {
+        if (this.snapshot.get() == null || !isSnapshotProperty(beanProperty)) {
+            return;
+        }
+        Map<String, Object> pendingSnapshotValues = this.pendingSnapshotValues.get();
+        if (pendingSnapshotValues == null) { // The change is out of rebinding
+            Map<String, Object> changedValues = newHashMap(1);
+            changedValues.put(beanProperty.getName(), value);
+            updateSnapshot(changedValues);
+        } else {
+            pendingSnapshotValues.put(beanProperty.getName(), value);
+        }
+    }
+
+    /**
+     * Update the {@link ConfigurationPropertiesSnapshot snapshot} with the changed values atomically if the bean was bound.
+     *
+     * @param changedValues the changed values which key is the property path
+     */
+    private void updateSnapshot(Map<String, Object> changedValues) {
+        this.snapshot.updateAndGet(snapshot -> snapshot == null ? null : snapshot.with(changedValues));
+    }
+
+    /**
+     * Whether the property is the leaf one which is not a nested bean
+     *
+     * @param beanProperty the {@link ConfigurationPropertiesBeanProperty}
+     * @return <code>true</code> if the value is held by the {@link ConfigurationPropertiesSnapshot snapshot}
+     */
+    static boolean isSnapshotProperty(ConfigurationPropertiesBeanProperty beanProperty) {
+        return !isCandidateClass(beanProperty.getType().resolve());
     }
 
     boolean bindPropertyValue(ConfigurationPropertiesBeanProperty beanProperty) {
-        String propertyPath = beanProperty.getName();
-        Object newValue = getPropertyValue(propertyPath);
+        Object newValue = readPropertyValue(beanProperty);
         return setProperty(beanProperty, beanProperty.getValue(), newValue, false);
     }
 
@@ -251,13 +383,15 @@ class ConfigurationPropertiesBeanContext {
         return bean;
     }
 
-    private void initBeanProperties(ResolvableType beanType, PropertyDescriptor[] descriptors, ConfigurationPropertyName prefixName, String nestedPath) {
+    private void initBeanProperties(ResolvableType beanType, PropertyDescriptor[] descriptors, ConfigurationPropertyName prefixName,
+                                    String nestedPath, @Nullable ConfigurationPropertiesBeanProperty parentProperty) {
         for (PropertyDescriptor descriptor : descriptors) {
-            initBeanProperty(beanType, descriptor, prefixName, nestedPath);
+            initBeanProperty(beanType, descriptor, prefixName, nestedPath, parentProperty);
         }
     }
 
-    private void initBeanProperty(ResolvableType beanType, PropertyDescriptor descriptor, ConfigurationPropertyName prefixName, String nestedPath) {
+    private void initBeanProperty(ResolvableType beanType, PropertyDescriptor descriptor, ConfigurationPropertyName prefixName,
+                                  String nestedPath, @Nullable ConfigurationPropertiesBeanProperty parentProperty) {
         if (isCandidateProperty(descriptor)) {
             String propertyName = descriptor.getName();
             String propertyPath = buildPropertyPath(propertyName, nestedPath);
@@ -266,25 +400,28 @@ class ConfigurationPropertiesBeanContext {
                 ConfigurationPropertiesBeanProperty newBeanProperty = new ConfigurationPropertiesBeanProperty();
                 Method getter = descriptor.getReadMethod();
                 Method setter = descriptor.getWriteMethod();
-                Object value = getPropertyValue(nestedPath, propertyPath);
                 newBeanProperty.setDeclaringClassType(beanType);
                 newBeanProperty.setName(propertyPath);
                 newBeanProperty.setGetter(getter);
                 newBeanProperty.setSetter(setter);
+                newBeanProperty.setAccessor(compile(newBeanProperty, getAccessor(parentProperty)));
+                Object value = readPropertyValue(newBeanProperty, nestedPath);
                 newBeanProperty.setValue(value);
                 return newBeanProperty;
             });
-            initBeanProperties(property.getType(), configurationPropertyName, propertyPath);
+            initBeanProperties(property.getType(), configurationPropertyName, propertyPath, property);
         }
     }
 
-    private void initBeanProperties(ResolvableType beanType, Set<Field> fields, ConfigurationPropertyName prefixName, String nestedPath) {
+    private void initBeanProperties(ResolvableType beanType, Set<Field> fields, ConfigurationPropertyName prefixName,
+                                    String nestedPath, @Nullable ConfigurationPropertiesBeanProperty parentProperty) {
         for (Field field : fields) {
-            initBeanProperty(beanType, field, prefixName, nestedPath);
+            initBeanProperty(beanType, field, prefixName, nestedPath, parentProperty);
         }
     }
 
-    private void initBeanProperty(ResolvableType beanType, Field field, ConfigurationPropertyName prefixName, String nestedPath) {
+    private void initBeanProperty(ResolvableType beanType, Field field, ConfigurationPropertyName prefixName,
+                                  String nestedPath, @Nullable ConfigurationPropertiesBeanProperty parentProperty) {
         String propertyName = field.getName();
         propertyName = replace(propertyName, "_", "");
         ConfigurationPropertyName configurationPropertyName = prefixName.append(toDashedForm(propertyName));
@@ -292,13 +429,59 @@ class ConfigurationPropertiesBeanContext {
         ConfigurationPropertiesBeanProperty beanProperty = this.beanProperties.computeIfAbsent(configurationPropertyName, name -> {
             ConfigurationPropertiesBeanProperty newProperty = new ConfigurationPropertiesBeanProperty();
             newProperty.setDeclaringClassType(beanType);
+            newProperty.setField(field);
+            newProperty.setAccessor(compile(newProperty, getAccessor(parentProperty)));
             return newProperty;
         });
-        Object value = readFieldValue(field, nestedPath);
         beanProperty.setName(propertyPath);
         beanProperty.setField(field);
+        Object value = readPropertyValue(beanProperty, field, nestedPath);
         beanProperty.setValue(value);
-        initBeanProperties(beanProperty.getType(), configurationPropertyName, propertyPath);
+        initBeanProperties(beanProperty.getType(), configurationPropertyName, propertyPath, beanProperty);
+    }
+
+    /**
+     * Read the value of property from the bean by the compiled {@link ConfigurationPropertiesBeanPropertyAccessor accessor},
+     * or by the {@link BeanWrapper} if the accessor is unavailable.
+     *
+     * @param beanProperty the {@link ConfigurationPropertiesBeanProperty}
+     * @return the cloned value if it's {@link Cloneable}
+     */
+    @Nullable
+    Object readPropertyValue(ConfigurationPropertiesBeanProperty beanProperty) {
+        ConfigurationPropertiesBeanPropertyAccessor accessor = beanProperty.getAccessor();
+        if (accessor != null && accessor.isReadable()) {
+            return readPropertyValue(beanProperty, accessor);
+        }
+        return getPropertyValue(beanProperty.getName());
+    }
+
+    private Object readPropertyValue(ConfigurationPropertiesBeanProperty beanProperty, @Nullable String nestedPath) {
+        ConfigurationPropertiesBeanPropertyAccessor accessor = beanProperty.getAccessor();
+        if (accessor != null && accessor.isReadable()) {
+            return readPropertyValue(beanProperty, accessor);
+        }
+        return getPropertyValue(nestedPath, beanProperty.getName());
+    }
+
+    private Object readPropertyValue(ConfigurationPropertiesBeanProperty beanProperty, Field field, @Nullable String nestedPath) {
+        ConfigurationPropertiesBeanPropertyAccessor accessor = beanProperty.getAccessor();
+        if (accessor != null && accessor.isReadable()) {
+            return readPropertyValue(beanProperty, accessor);
+        }
+        return readFieldValue(field, nestedPath);
+    }
+
+    private Object readPropertyValue(ConfigurationPropertiesBeanProperty beanProperty, ConfigurationPropertiesBeanPropertyAccessor accessor) {
+        Object bean = getBean();
+        try {
+            return clone(accessor.getValue(bean));
+        } catch (Throwable e) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("Can't get property value for property path : '{}' in the Bean[{}]", beanProperty.getName(), bean, e);
+            }
+            return null;
+        }
     }
 
     void setProperty(ConfigurationProperty property, Object newValue) {
@@ -320,33 +503,241 @@ class ConfigurationPropertiesBeanContext {
             return;
         }
 
+        applyPropertyValue(beanProperty, property, newValue, false);
+    }
+
+    /**
+     * Set the new value of property, and publish the events if changed.
+     *
+     * @param beanProperty the {@link ConfigurationPropertiesBeanProperty}
+     * @param property     the {@link ConfigurationProperty} that triggered the change, may be <code>null</code>
+     * @param newValue     the new value
+     * @param writable     whether the new value should be written into the bean before the events
+     * @return <code>true</code> if changed
+     */
+    boolean applyPropertyValue(ConfigurationPropertiesBeanProperty beanProperty, @Nullable ConfigurationProperty property,
+                               Object newValue, boolean writable) {
         ResolvableType propertyType = beanProperty.getType();
         Class<?> propertyClass = propertyType.resolve();
-        if (isAssignableValue(propertyClass, newValue)) {
-            Object oldValue = beanProperty.getValue();
-            if (setProperty(beanProperty, oldValue, newValue, true)) {
-                publishEvent(property, beanProperty, oldValue, newValue);
+        if (!isAssignableValue(propertyClass, newValue)) {
+            return false;
+        }
+        Object oldValue = beanProperty.getValue();
+        Object actualNewValue = resolveNewPropertyValue(beanProperty, newValue, true);
+        // The structural delta replaces the comparison of the whole values
+        ConfigurationPropertiesBeanPropertyDelta delta = diff(oldValue, actualNewValue);
+        if (!isChanged(oldValue, actualNewValue, delta)) {
+            return false;
+        }
+        if (writable) {
+            if (!writePropertyValue(beanProperty, newValue)) {
+                return false;
+            }
+            if (!validateBean()) {
+                // Rollback the invalid value
+                writePropertyValue(beanProperty, oldValue);
+                return false;
+            }
+        }
+        updateProperty(beanProperty, oldValue, newValue, actualNewValue, delta);
+        publishEvent(property, beanProperty, oldValue, newValue, delta);
+        return true;
+    }
+
+    /**
+     * Rebind the property from the {@link Binder} and write the new value into the bean, the events will be
+     * published if changed. If the property is not bound any longer, e.g, removed from the
+     * {@link org.springframework.core.env.Environment}, it will be reset to the
+     * {@link #getDefaultPropertyValue(ConfigurationPropertiesBeanProperty) default value}.
+     * <p>
+     * The new value will be rolled back if the bean is {@link #validateBean() invalid}.
+     *
+     * @param propertyName the {@link ConfigurationPropertyName} of property
+     * @param binder       the {@link Binder}
+     * @param property     the {@link ConfigurationProperty} that triggered the change, may be <code>null</code>
+     * @return <code>true</code> if changed
+     */
+    boolean rebindProperty(ConfigurationPropertyName propertyName, Binder binder, @Nullable ConfigurationProperty property) {
+        ConfigurationPropertiesBeanProperty beanProperty = getProperty(propertyName);
+        if (beanProperty == null) {
+            return false;
+        }
+        Bindable<Object> bindable = Bindable.of(beanProperty.getType());
+        BindResult<Object> result = binder.bind(propertyName, bindable);
+        Object newValue;
+        if (result.isBound()) {
+            newValue = result.get();
+        } else {
+            newValue = getDefaultPropertyValue(beanProperty);
+            if (logger.isTraceEnabled()) {
+                logger.trace("The property[name : '{}'] is not bound, it will be reset to the default value : '{}' , Bean Property : {}",
+                        propertyName, newValue, beanProperty);
+            }
+        }
+        return applyPropertyValue(beanProperty, property, newValue, true);
+    }
+
+    /**
+     * Get the default value of the property from a new instance of the bean class, which is never shared.
+     *
+     * @param beanProperty the {@link ConfigurationPropertiesBeanProperty}
+     * @return <code>null</code> if the bean is constructor-bound or can't be instantiated
+     */
+    @Nullable
+    Object getDefaultPropertyValue(ConfigurationPropertiesBeanProperty beanProperty) {
+        if (isConstructorBound()) {
+            return null;
+        }
+        Class<?> beanClass = getBeanClass();
+        return execute(() -> {
+            BeanWrapper beanWrapper = new BeanWrapperImpl(instantiateClass(beanClass));
+            beanWrapper.setAutoGrowNestedPaths(true);
+            return beanWrapper.getPropertyValue(beanProperty.getName());
+        }, e -> {
+            if (logger.isTraceEnabled()) {
+                logger.trace("The default value of property[path : '{}'] can't be resolved from the bean class[{}]",
+                        beanProperty.getName(), beanClass, e);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Validate the bean as same as the binding of Spring Boot.
+     *
+     * @return <code>true</code> if valid
+     * @see #getValidators()
+     */
+    boolean validateBean() {
+        List<Validator> validators = getValidators();
+        if (validators.isEmpty()) {
+            return true;
+        }
+        Object bean = getBean();
+        Class<?> beanClass = bean.getClass();
+        BindingResult errors = new BeanPropertyBindingResult(bean, this.beanName);
+        for (Validator validator : validators) {
+            if (validator.supports(beanClass)) {
+                validator.validate(bean, errors);
+            }
+        }
+        if (errors.hasErrors()) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("The bean[name : '{}'] is invalid after rebinding, the changed property will be rolled back : {}",
+                        this.beanName, errors.getAllErrors());
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Get the {@link Validator Validators} of the bean as same as the binding of Spring Boot :
+     * <ul>
+     *     <li>The bean named {@link EnableConfigurationProperties#VALIDATOR_BEAN_NAME "configurationPropertiesValidator"} if present</li>
+     *     <li>The {@link Validator} beans, e.g, the JSR-303 one, if the bean class is annotated {@link Validated @Validated}</li>
+     *     <li>The bean itself if it's a {@link Validator}</li>
+     * </ul>
+     *
+     * @return non-null
+     */
+    @Nonnull
+    List<Validator> getValidators() {
+        List<Validator> validators = this.validators;
+        if (validators == null) {
+            validators = newArrayList();
+            ConfigurableApplicationContext context = this.context;
+            if (hasAnnotation(getBeanClass(), Validated.class)) {
+                context.getBeanProvider(Validator.class).orderedStream().forEach(validators::add);
+            } else if (context.containsBean(VALIDATOR_BEAN_NAME)) {
+                validators.add(context.getBean(VALIDATOR_BEAN_NAME, Validator.class));
+            }
+            Object bean = getBean();
+            if (bean instanceof Validator && !validators.contains(bean)) {
+                validators.add((Validator) bean);
+            }
+            this.validators = validators;
+        }
+        return validators;
+    }
+
+    /**
+     * Whether the bean is bound by the constructor, whose properties can't be rebound.
+     *
+     * @return <code>true</code> if constructor-bound
+     */
+    boolean isConstructorBound() {
+        return this.bindConstructor != null;
+    }
+
+    /**
+     * Find the {@link ConfigurationPropertyName name} of the bean property which the specified name belongs to, e.g,
+     * "server.tomcat.threads.max" belongs to itself, "test.properties.key-1" belongs to "test.properties".
+     *
+     * @param name the {@link ConfigurationPropertyName}
+     * @return <code>null</code> if not found
+     */
+    @Nullable
+    ConfigurationPropertyName findPropertyName(ConfigurationPropertyName name) {
+        ConfigurationPropertyName prefixName = of(this.prefix);
+        ConfigurationPropertyName propertyName = name;
+        while (prefixName.isAncestorOf(propertyName)) {
+            if (this.beanProperties.containsKey(propertyName)) {
+                return propertyName;
             }
+            propertyName = propertyName.getParent();
         }
+        return null;
+    }
+
+    /**
+     * Write the new value of property into the bean by the compiled {@link ConfigurationPropertiesBeanPropertyAccessor accessor},
+     * or by the {@link BeanWrapper} if the accessor is unavailable.
+     *
+     * @param beanProperty the {@link ConfigurationPropertiesBeanProperty}
+     * @param newValue     the new value
+     * @return <code>true</code> if written
+     */
+    boolean writePropertyValue(ConfigurationPropertiesBeanProperty beanProperty, Object newValue) {
+        ConfigurationPropertiesBeanPropertyAccessor accessor = beanProperty.getAccessor();
+        if (accessor != null && accessor.isWritable()) {
+            try {
+                return accessor.setValue(getBean(), newValue);
+            } catch (Throwable e) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("Can't write the property value for property path : '{}' in the Bean[{}]", beanProperty.getName(), getBean(), e);
+                }
+                return false;
+            }
+        }
+        return setPropertyValue(beanProperty.getName(), newValue);
     }
 
     boolean setProperty(ConfigurationPropertiesBeanProperty beanProperty, Object oldValue, Object newValue,
                         boolean resolved) {
-        boolean changed = false;
-        String propertyPath = beanProperty.getName();
-        Object actualNewValue = resolveNewPropertyValue(propertyPath, newValue, resolved);
-        if (!deepEquals(oldValue, actualNewValue)) {
+        Object actualNewValue = resolveNewPropertyValue(beanProperty, newValue, resolved);
+        return updateProperty(beanProperty, oldValue, newValue, actualNewValue, null);
+    }
+
+    private boolean updateProperty(ConfigurationPropertiesBeanProperty beanProperty, Object oldValue, Object newValue,
+                                   Object actualNewValue, @Nullable ConfigurationPropertiesBeanPropertyDelta delta) {
+        boolean changed = isChanged(oldValue, actualNewValue, delta);
+        if (changed) {
             // Set the new value if it is different from the old value
             beanProperty.setValue(actualNewValue);
-            changed = true;
+            recordSnapshotValue(beanProperty, actualNewValue);
             if (logger.isTraceEnabled()) {
-                logger.trace("Set property [path : '{}'] from '{}' to '{}'(actual : '{}') , Bean Property : {}",
-                        beanProperty.getName(), oldValue, newValue, actualNewValue, beanProperty);
+                logger.trace("Set property [path : '{}'] from '{}' to '{}'(actual : '{}' , delta : {}) , Bean Property : {}",
+                        beanProperty.getName(), oldValue, newValue, actualNewValue, delta, beanProperty);
             }
         }
         return changed;
     }
 
+    static boolean isChanged(Object oldValue, Object actualNewValue, @Nullable ConfigurationPropertiesBeanPropertyDelta delta) {
+        return delta == null ? !deepEquals(oldValue, actualNewValue) : !delta.isEmpty();
+    }
+
     private Object getPropertyValue(@Nullable String nestedPath, String propertyPath) {
         if (!isBlank(nestedPath)) {
             Object parent = getPropertyValue(nestedPath);
@@ -382,46 +773,182 @@ class ConfigurationPropertiesBeanContext {
         return property;
     }
 
-    void publishEvent(ConfigurationProperty property, ConfigurationPropertiesBeanProperty beanProperty,
-                      Object oldValue, Object newValue) {
+    void publishEvent(@Nullable ConfigurationProperty property, ConfigurationPropertiesBeanProperty beanProperty,
+                      Object oldValue, Object newValue, @Nullable ConfigurationPropertiesBeanPropertyDelta delta) {
         String propertyName = beanProperty.getName();
         ResolvableType propertyType = beanProperty.getType();
-        this.context.publishEvent(new ConfigurationPropertiesBeanPropertyChangedEvent(getBean(), propertyName,
-                propertyType, oldValue, newValue, property));
+        ConfigurationPropertiesBeanPropertyChangedEvent event = new ConfigurationPropertiesBeanPropertyChangedEvent(getBean(),
+                propertyName, propertyType, oldValue, newValue, property, delta);
+        if (this.publishPropertyChangedEvent) {
+            this.context.publishEvent(event);
+        }
+        if (this.publishPropertiesChangedEvent) {
+            Map<String, ConfigurationPropertiesBeanPropertyChangedEvent> pendingChanges = this.pendingChanges.get();
+            if (pendingChanges == null) { // The change is out of rebinding, it's published alone
+                Map<String, ConfigurationPropertiesBeanPropertyChangedEvent> changes = newLinkedHashMap(1);
+                changes.put(propertyName, event);
+                this.context.publishEvent(new ConfigurationPropertiesBeanPropertiesChangedEvent(getBean(), changes));
+            } else {
+                coalesceChange(pendingChanges, propertyName, event);
+            }
+        }
     }
 
-    Object cloneBean() {
-        Object bean = getBean();
-        Object clnoedBean = null;
-        Class<?> beanClass = getBeanClass();
-        Constructor<?> bindConstructor = this.bindConstructor;
-        if (bindConstructor == null) {
-            clnoedBean = instantiateClass(beanClass);
-            copyProperties(bean, clnoedBean);
+    /**
+     * Start the rebinding of the bean, the changes will be collected until {@link #finishRebinding() finished}.
+     *
+     * @see #finishRebinding()
+     */
+    void startRebinding() {
+        if (this.publishPropertiesChangedEvent) {
+            this.pendingChanges.set(newLinkedHashMap());
+        }
+        this.pendingSnapshotValues.set(newHashMap());
+    }
+
+    /**
+     * Finish the rebinding of the bean, publish the {@link ConfigurationPropertiesBeanPropertiesChangedEvent}
+     * if any property was changed since {@link #startRebinding() started}.
+     *
+     * @see #startRebinding()
+     */
+    void finishRebinding() {
+        Map<String, Object> pendingSnapshotValues = this.pendingSnapshotValues.get();
+        this.pendingSnapshotValues.remove();
+        if (pendingSnapshotValues != null) {
+            // Publish all changes of the rebinding as one snapshot
+            updateSnapshot(pendingSnapshotValues);
+        }
+        Map<String, ConfigurationPropertiesBeanPropertyChangedEvent> pendingChanges = this.pendingChanges.get();
+        this.pendingChanges.remove();
+        if (pendingChanges == null || pendingChanges.isEmpty()) {
+            return;
+        }
+        this.context.publishEvent(new ConfigurationPropertiesBeanPropertiesChangedEvent(getBean(), pendingChanges));
+    }
+
+    /**
+     * Merge the change into the pending changes, the repeated changes of the same property will be coalesced into
+     * the net change from the first old value to the last new value, and be removed if both are equal, the
+     * {@link ConfigurationPropertiesBeanPropertyDelta structural delta} is also recomputed between both.
+     *
+     * @param pendingChanges the pending changes
+     * @param propertyName   the property name
+     * @param event          the change
+     */
+    static void coalesceChange(Map<String, ConfigurationPropertiesBeanPropertyChangedEvent> pendingChanges,
+                               String propertyName, ConfigurationPropertiesBeanPropertyChangedEvent event) {
+        ConfigurationPropertiesBeanPropertyChangedEvent previousEvent = pendingChanges.get(propertyName);
+        if (previousEvent == null) {
+            pendingChanges.put(propertyName, event);
+            return;
+        }
+        Object oldValue = previousEvent.getOldValue();
+        Object newValue = event.getNewValue();
+        ConfigurationPropertiesBeanPropertyDelta delta = event.getDelta() == null ? null : diff(oldValue, newValue);
+        if (delta == null ? deepEquals(oldValue, newValue) : delta.isEmpty()) {
+            pendingChanges.remove(propertyName);
         } else {
-            clnoedBean = bean;
+            pendingChanges.put(propertyName, new ConfigurationPropertiesBeanPropertyChangedEvent(event.getSource(),
+                    propertyName, event.getPropertyType(), oldValue, newValue, event.getConfigurationProperty(), delta));
         }
-        return clnoedBean;
+    }
+
+    void setPublishPropertyChangedEvent(boolean publishPropertyChangedEvent) {
+        this.publishPropertyChangedEvent = publishPropertyChangedEvent;
+    }
+
+    void setPublishPropertiesChangedEvent(boolean publishPropertiesChangedEvent) {
+        this.publishPropertiesChangedEvent = publishPropertiesChangedEvent;
+    }
+
+    /**
+     * Create the {@link BeanWrapper} of a new standalone instance which is never shared with the bean or the other
+     * resolutions, thus the values set by the previous resolutions are never carried over, the nested paths are grown
+     * automatically.
+     *
+     * @return <code>null</code> if the bean is constructor-bound or can't be instantiated
+     */
+    @Nullable
+    BeanWrapper newResolvingBeanWrapper() {
+        if (this.bindConstructor != null || this.resolvingInstanceUnavailable) {
+            return null;
+        }
+        Class<?> beanClass = getBeanClass();
+        return execute(() -> {
+            BeanWrapper beanWrapper = new BeanWrapperImpl(instantiateClass(beanClass));
+            beanWrapper.setAutoGrowNestedPaths(true);
+            return beanWrapper;
+        }, e -> {
+            this.resolvingInstanceUnavailable = true;
+            if (logger.isTraceEnabled()) {
+                logger.trace("The bean class[{}] can't be instantiated for resolving the property values", beanClass, e);
+            }
+            return null;
+        });
     }
 
     static Map<String, ConfigurationPropertiesBeanContext> buildConfigurationPropertiesBeanContexts(ConfigurableApplicationContext context) {
+        return buildConfigurationPropertiesBeanContexts(context, false);
+    }
+
+    /**
+     * Build the {@link ConfigurationPropertiesBeanContext ConfigurationPropertiesBeanContexts} from the bean definitions,
+     * the elapsed time is recorded by the {@link StartupStep} named {@link #BUILD_STARTUP_STEP_NAME}.
+     *
+     * @param context  {@link ConfigurableApplicationContext}
+     * @param parallel whether to scan the bean definitions in parallel on the {@link java.util.concurrent.ForkJoinPool#commonPool()}
+     * @return the {@link ConfigurationPropertiesBeanContext} map which key is the prefix
+     */
+    static Map<String, ConfigurationPropertiesBeanContext> buildConfigurationPropertiesBeanContexts(ConfigurableApplicationContext context,
+                                                                                                   boolean parallel) {
         ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
         String[] beanDefinitionNames = beanFactory.getBeanDefinitionNames();
-        Map<String, ConfigurationPropertiesBeanContext> beanContexts = newHashMap();
-        for (String beanName : beanDefinitionNames) {
-            BeanDefinition beanDefinition = beanFactory.getMergedBeanDefinition(beanName);
-            ResolvableType beanType = beanDefinition.getResolvableType();
-            Class<?> beanClass = beanType.resolve();
-            ConfigurationProperties annotation = beanClass == null ? null : beanClass.getAnnotation(CONFIGURATION_PROPERTIES_CLASS);
-            if (annotation != null) {
-                AnnotationAttributes annotationAttributes = getAnnotationAttributes(annotation);
-                ConfigurationPropertiesBeanContext beanContext = new ConfigurationPropertiesBeanContext(beanName, beanType, annotationAttributes, context);
-                beanContexts.put(beanContext.getPrefix(), beanContext);
+        StartupStep startupStep = context.getApplicationStartup().start(BUILD_STARTUP_STEP_NAME);
+        long startTime = nanoTime();
+        Map<String, ConfigurationPropertiesBeanContext> beanContexts;
+        if (parallel) {
+            // the merge keeps the encounter order, the latter bean context wins as same as the sequential one
+            beanContexts = stream(beanDefinitionNames)
+                    .parallel()
+                    .map(beanName -> buildConfigurationPropertiesBeanContext(beanName, beanFactory, context))
+                    .filter(Objects::nonNull)
+                    .collect(toMap(ConfigurationPropertiesBeanContext::getPrefix, identity(), (previous, current) -> current, HashMap::new));
+        } else {
+            beanContexts = newHashMap();
+            for (String beanName : beanDefinitionNames) {
+                ConfigurationPropertiesBeanContext beanContext = buildConfigurationPropertiesBeanContext(beanName, beanFactory, context);
+                if (beanContext != null) {
+                    beanContexts.put(beanContext.getPrefix(), beanContext);
+                }
             }
         }
+        long elapsedTime = nanoTime() - startTime;
+        startupStep.tag("beanDefinitions", valueOf(beanDefinitionNames.length))
+                .tag("beanContexts", valueOf(beanContexts.size()))
+                .tag("parallel", valueOf(parallel))
+                .end();
+        if (logger.isDebugEnabled()) {
+            logger.debug("{} ConfigurationPropertiesBeanContexts were built from {} bean definitions in {} ms(parallel : {})",
+                    beanContexts.size(), beanDefinitionNames.length, NANOSECONDS.toMillis(elapsedTime), parallel);
+        }
         return beanContexts;
     }
 
+    @Nullable
+    static ConfigurationPropertiesBeanContext buildConfigurationPropertiesBeanContext(String beanName, ConfigurableListableBeanFactory beanFactory,
+                                                                                      ConfigurableApplicationContext context) {
+        BeanDefinition beanDefinition = beanFactory.getMergedBeanDefinition(beanName);
+        ResolvableType beanType = beanDefinition.getResolvableType();
+        Class<?> beanClass = beanType.resolve();
+        ConfigurationProperties annotation = beanClass == null ? null : beanClass.getAnnotation(CONFIGURATION_PROPERTIES_CLASS);
+        if (annotation == null) {
+            return null;
+        }
+        AnnotationAttributes annotationAttributes = getAnnotationAttributes(annotation);
+        return new ConfigurationPropertiesBeanContext(beanName, beanType, annotationAttributes, context);
+    }
+
     /**
      * Clone object to avoid the newValue is changed by other code, which will cause the oldValue and newValue are same.
      *
@@ -429,10 +956,7 @@ class ConfigurationPropertiesBeanContext {
      * @return the cloned value
      */
     static Object clone(Object value) {
-        if (value instanceof Cloneable) {
-            value = invokeMethod(value, "clone");
-        }
-        return value;
+        return ConfigurationPropertiesBeanPropertyAccessor.clone(value);
     }
 
     static Object getPropertyValue(BeanWrapper beanWrapper, String propertyPath) {
@@ -459,12 +983,34 @@ class ConfigurationPropertiesBeanContext {
         return clone(propertyValue);
     }
 
+    /**
+     * Resolve the actual new value of property by the compiled {@link ConfigurationPropertiesBeanPropertyAccessor accessor},
+     * or by the {@link #newResolvingBeanWrapper() new standalone instance} if the accessor is unavailable.
+     *
+     * @param beanProperty the {@link ConfigurationPropertiesBeanProperty}
+     * @param newValue     the new value
+     * @param resolved     whether the new value should be resolved
+     * @return the actual new value
+     */
+    Object resolveNewPropertyValue(ConfigurationPropertiesBeanProperty beanProperty, Object newValue, boolean resolved) {
+        ConfigurationPropertiesBeanPropertyAccessor accessor = beanProperty.getAccessor();
+        if (resolved && accessor != null && accessor.isResolvable()) {
+            try {
+                return clone(accessor.resolveValue(newValue));
+            } catch (Throwable e) {
+                if (logger.isTraceEnabled()) {
+                    logger.trace("The new value of property[path : '{}'] can't be resolved by the accessor", beanProperty.getName(), e);
+                }
+            }
+        }
+        return resolveNewPropertyValue(beanProperty.getName(), newValue, resolved);
+    }
+
     Object resolveNewPropertyValue(String propertyPath, Object newValue, boolean resolved) {
         if (resolved) {
-            Object clonedBean = cloneBean();
-            BeanWrapper clonedBeanWrapper = new BeanWrapperImpl(clonedBean);
-            if (setPropertyValue(clonedBeanWrapper, propertyPath, newValue)) {
-                return getPropertyValue(clonedBeanWrapper, propertyPath);
+            BeanWrapper resolvingBeanWrapper = newResolvingBeanWrapper();
+            if (setPropertyValue(resolvingBeanWrapper, propertyPath, newValue)) {
+                return getPropertyValue(resolvingBeanWrapper, propertyPath);
             }
         }
         return newValue;
@@ -525,6 +1071,11 @@ class ConfigurationPropertiesBeanContext {
         return clone(fieldValue);
     }
 
+    @Nullable
+    static ConfigurationPropertiesBeanPropertyAccessor getAccessor(@Nullable ConfigurationPropertiesBeanProperty beanProperty) {
+        return beanProperty == null ? null : beanProperty.getAccessor();
+    }
+
     static String buildPropertyPath(String propertyName, @Nullable String nestedPath) {
         return nestedPath == null ? propertyName : nestedPath + DOT + propertyName;
     }
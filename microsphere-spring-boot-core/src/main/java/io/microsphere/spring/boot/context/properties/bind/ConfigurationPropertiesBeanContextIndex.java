@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.bind;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static io.microsphere.collection.MapUtils.newHashMap;
+import static io.microsphere.util.Assert.assertNotNull;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static org.springframework.boot.context.properties.source.ConfigurationPropertyName.Form.UNIFORM;
+import static org.springframework.boot.context.properties.source.ConfigurationPropertyName.of;
+
+/**
+ * The prefix trie of {@link ConfigurationPropertiesBeanContext ConfigurationPropertiesBeanContexts} whose nodes are
+ * keyed by the {@link ConfigurationPropertyName.Form#UNIFORM uniform} elements of the
+ * {@link ConfigurationProperties#prefix() prefix}, routing a {@link ConfigurationPropertyName} to its owning
+ * {@link ConfigurationPropertiesBeanContext} by walking the elements rather than building and hashing the prefix
+ * {@link String}.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   ConfigurationPropertiesBeanContextIndex index = new ConfigurationPropertiesBeanContextIndex();
+ *   index.add(serverPropertiesContext); // prefix : "server"
+ *   // returns serverPropertiesContext
+ *   index.get(ConfigurationPropertyName.of("server.tomcat.threads.max"), 1);
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationPropertiesBeanContext
+ * @see ConfigurationPropertyName
+ * @since 1.0.0
+ */
+class ConfigurationPropertiesBeanContextIndex {
+
+    private final Node root = new Node();
+
+    private int size;
+
+    /**
+     * Add the {@link ConfigurationPropertiesBeanContext} into the index, the previous one will be replaced if
+     * it has the same prefix.
+     *
+     * @param beanContext the {@link ConfigurationPropertiesBeanContext}
+     * @return the previous {@link ConfigurationPropertiesBeanContext} with the same prefix if present
+     * @throws IllegalArgumentException if <code>beanContext</code> is null
+     */
+    @Nullable
+    ConfigurationPropertiesBeanContext add(ConfigurationPropertiesBeanContext beanContext) throws IllegalArgumentException {
+        assertNotNull(beanContext, () -> "The 'beanContext' must not be null!");
+        ConfigurationPropertyName prefixName = of(beanContext.getPrefix());
+        Node node = this.root;
+        int elements = prefixName.getNumberOfElements();
+        for (int i = 0; i < elements; i++) {
+            node = node.getOrCreateChild(prefixName.getElement(i, UNIFORM));
+        }
+        ConfigurationPropertiesBeanContext previous = node.beanContext;
+        node.beanContext = beanContext;
+        if (previous == null) {
+            this.size++;
+        }
+        return previous;
+    }
+
+    /**
+     * Get the {@link ConfigurationPropertiesBeanContext} whose prefix exactly equals the specified name.
+     *
+     * @param name the {@link ConfigurationPropertyName}
+     * @return <code>null</code> if not found
+     */
+    @Nullable
+    ConfigurationPropertiesBeanContext get(ConfigurationPropertyName name) {
+        Node node = this.root;
+        int elements = name.getNumberOfElements();
+        for (int i = 0; i < elements && node != null; i++) {
+            node = node.getChild(name.getElement(i, UNIFORM));
+        }
+        return node == null ? null : node.beanContext;
+    }
+
+    /**
+     * Get the {@link ConfigurationPropertiesBeanContext} owning the specified name, whose prefix is the longest
+     * ancestor(or itself) of the name with at most <code>maxElements</code> elements.
+     *
+     * @param name        the {@link ConfigurationPropertyName}
+     * @param maxElements the max number of elements of the prefix
+     * @return <code>null</code> if not found
+     */
+    @Nullable
+    ConfigurationPropertiesBeanContext get(ConfigurationPropertyName name, int maxElements) {
+        Node node = this.root;
+        ConfigurationPropertiesBeanContext beanContext = node.beanContext;
+        int elements = Math.min(name.getNumberOfElements(), maxElements);
+        for (int i = 0; i < elements; i++) {
+            node = node.getChild(name.getElement(i, UNIFORM));
+            if (node == null) {
+                break;
+            }
+            if (node.beanContext != null) {
+                beanContext = node.beanContext;
+            }
+        }
+        return beanContext;
+    }
+
+    /**
+     * Get all {@link ConfigurationPropertiesBeanContext ConfigurationPropertiesBeanContexts} in the index
+     *
+     * @return non-null read-only {@link List}
+     */
+    @Nonnull
+    List<ConfigurationPropertiesBeanContext> values() {
+        if (this.size == 0) {
+            return emptyList();
+        }
+        List<ConfigurationPropertiesBeanContext> values = new ArrayList<>(this.size);
+        collect(this.root, values);
+        return unmodifiableList(values);
+    }
+
+    /**
+     * Get the number of {@link ConfigurationPropertiesBeanContext ConfigurationPropertiesBeanContexts} in the index
+     *
+     * @return the number of {@link ConfigurationPropertiesBeanContext ConfigurationPropertiesBeanContexts}
+     */
+    int size() {
+        return this.size;
+    }
+
+    private void collect(Node node, Collection<ConfigurationPropertiesBeanContext> values) {
+        if (node.beanContext != null) {
+            values.add(node.beanContext);
+        }
+        if (node.children != null) {
+            for (Node child : node.children.values()) {
+                collect(child, values);
+            }
+        }
+    }
+
+    /**
+     * Create an instance of {@link ConfigurationPropertiesBeanContextIndex} from the
+     * {@link ConfigurationPropertiesBeanContext ConfigurationPropertiesBeanContexts}
+     *
+     * @param beanContexts the {@link ConfigurationPropertiesBeanContext ConfigurationPropertiesBeanContexts}
+     * @return non-null
+     */
+    @Nonnull
+    static ConfigurationPropertiesBeanContextIndex build(Iterable<ConfigurationPropertiesBeanContext> beanContexts) {
+        ConfigurationPropertiesBeanContextIndex index = new ConfigurationPropertiesBeanContextIndex();
+        for (ConfigurationPropertiesBeanContext beanContext : beanContexts) {
+            index.add(beanContext);
+        }
+        return index;
+    }
+
+    private static class Node {
+
+        @Nullable
+        private Map<String, Node> children;
+
+        @Nullable
+        private ConfigurationPropertiesBeanContext beanContext;
+
+        Node getChild(String element) {
+            Map<String, Node> children = this.children;
+            return children == null ? null : children.get(element);
+        }
+
+        Node getOrCreateChild(String element) {
+            Map<String, Node> children = this.children;
+            if (children == null) {
+                children = newHashMap();
+                this.children = children;
+            }
+            return children.computeIfAbsent(element, e -> new Node());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.bind;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Event raised once per rebinding of the bean annotated {@link ConfigurationProperties @ConfigurationProperties}
+ * when its properties were changed, carrying the coalesced changes of all properties during one
+ * {@link Binder#bind(String, Class) binding}, that is, the repeated changes of the same property are merged into
+ * one net change from the original value to the final value.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * @EventListener
+ * public void onPropertiesChanged(ConfigurationPropertiesBeanPropertiesChangedEvent event) {
+ *     for (ConfigurationPropertiesBeanPropertyChangedEvent change : event.getPropertyChangedEvents()) {
+ *         System.out.println(change.getPropertyName() + " : " + change.getOldValue() + " -> " + change.getNewValue());
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationProperties
+ * @see ConfigurationPropertiesBeanPropertyChangedEvent
+ * @see EventPublishingConfigurationPropertiesBeanPropertyChangedListener
+ * @since 1.0.0
+ */
+public class ConfigurationPropertiesBeanPropertiesChangedEvent extends ApplicationEvent {
+
+    private final Map<String, ConfigurationPropertiesBeanPropertyChangedEvent> propertyChangedEvents;
+
+    /**
+     * Constructs a new event indicating that the properties of a
+     * {@link ConfigurationProperties @ConfigurationProperties} bean have changed.
+     *
+     * @param bean                  the bean whose properties changed
+     * @param propertyChangedEvents the changes which key is the property name and value is the
+     *                              {@link ConfigurationPropertiesBeanPropertyChangedEvent net change}
+     */
+    public ConfigurationPropertiesBeanPropertiesChangedEvent(Object bean,
+                                                             Map<String, ConfigurationPropertiesBeanPropertyChangedEvent> propertyChangedEvents) {
+        super(bean);
+        this.propertyChangedEvents = unmodifiableMap(propertyChangedEvents);
+    }
+
+    /**
+     * Returns the bean whose properties changed.
+     *
+     * @return the bean annotated {@link ConfigurationProperties @ConfigurationProperties}
+     */
+    @Nonnull
+    public Object getBean() {
+        return getSource();
+    }
+
+    /**
+     * Returns the names of the changed properties.
+     *
+     * @return the read-only names of the changed properties
+     */
+    @Nonnull
+    public Set<String> getPropertyNames() {
+        return this.propertyChangedEvents.keySet();
+    }
+
+    /**
+     * Returns the net changes of properties.
+     *
+     * @return the read-only {@link ConfigurationPropertiesBeanPropertyChangedEvent changes}
+     */
+    @Nonnull
+    public Collection<ConfigurationPropertiesBeanPropertyChangedEvent> getPropertyChangedEvents() {
+        return this.propertyChangedEvents.values();
+    }
+
+    /**
+     * Returns the net change of the specified property.
+     *
+     * @param propertyName the name of property
+     * @return <code>null</code> if the property was not changed
+     */
+    @Nullable
+    public ConfigurationPropertiesBeanPropertyChangedEvent getPropertyChangedEvent(String propertyName) {
+        return this.propertyChangedEvents.get(propertyName);
+    }
+}
@@ -60,24 +60,40 @@ public class ConfigurationPropertiesBeanProperty {
     @Nullable
     private Object value;
 
+    /**
+     * The cached type of property, it's reset when the declaring class type, getter, setter or field is changed.
+     */
+    @Nullable
+    private volatile ResolvableType resolvedType;
+
+    /**
+     * The compiled accessor of property
+     */
+    @Nullable
+    private ConfigurationPropertiesBeanPropertyAccessor accessor;
+
     public void setName(String name) {
         this.name = name;
     }
 
     public void setDeclaringClassType(ResolvableType declaringClassType) {
         this.declaringClassType = declaringClassType;
+        this.resolvedType = null;
     }
 
     public void setGetter(@Nullable Method getter) {
         this.getter = getter;
+        this.resolvedType = null;
     }
 
     public void setSetter(@Nullable Method setter) {
         this.setter = setter;
+        this.resolvedType = null;
     }
 
     public void setField(@Nullable Field field) {
         this.field = field;
+        this.resolvedType = null;
     }
 
     public void setValue(@Nullable Object value) {
@@ -132,7 +148,30 @@ public class ConfigurationPropertiesBeanProperty {
         return this.name;
     }
 
+    /**
+     * Get the type of property, which is resolved once and cached
+     *
+     * @return {@link ResolvableType#NONE} if it can't be resolved
+     */
     public ResolvableType getType() {
+        ResolvableType type = this.resolvedType;
+        if (type == null) {
+            type = resolveType();
+            this.resolvedType = type;
+        }
+        return type;
+    }
+
+    @Nullable
+    ConfigurationPropertiesBeanPropertyAccessor getAccessor() {
+        return this.accessor;
+    }
+
+    void setAccessor(@Nullable ConfigurationPropertiesBeanPropertyAccessor accessor) {
+        this.accessor = accessor;
+    }
+
+    ResolvableType resolveType() {
         if (this.setter != null) {
             MethodParameter methodParameter = new MethodParameter(this.setter, 0);
             return forMethodParameter(methodParameter, this.declaringClassType);
@@ -0,0 +1,368 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.bind;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.logging.Logger;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import static io.microsphere.collection.MapUtils.newConcurrentHashMap;
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.reflect.MethodUtils.invokeMethod;
+import static java.lang.invoke.MethodHandles.publicLookup;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isAbstract;
+import static java.lang.reflect.Modifier.isPublic;
+import static java.util.Optional.ofNullable;
+
+/**
+ * The compiled accessor of {@link ConfigurationPropertiesBeanProperty} based on {@link MethodHandle MethodHandles},
+ * which are generated once when the {@link ConfigurationPropertiesBeanContext} is initialized, and then read or write
+ * the property without the reflection and {@link org.springframework.beans.BeanWrapper} on the rebinding.
+ * <p>
+ * The nested property is accessed through the accessor of its parent property, e.g, the property
+ * "resources.staticLocations" reads the "resources" instance from the bean first.
+ * <p>
+ * The {@link MethodHandle MethodHandles} are cached per declaring class by {@link ClassValue ClassValues}, so they
+ * are unreflected once and shared by all accessors of the same members, including the "clone" methods of the
+ * property values.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationPropertiesBeanProperty
+ * @see ConfigurationPropertiesBeanContext
+ * @see MethodHandle
+ * @since 1.0.0
+ */
+final class ConfigurationPropertiesBeanPropertyAccessor {
+
+    private static final Logger logger = getLogger(ConfigurationPropertiesBeanPropertyAccessor.class);
+
+    private static final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    private static final MethodType GETTER_TYPE = methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = methodType(void.class, Object.class, Object.class);
+
+    private static final MethodType CONSTRUCTOR_TYPE = methodType(Object.class);
+
+    private static final MethodType CLONE_TYPE = methodType(Object.class, Object.class);
+
+    private static final String CLONE_METHOD_NAME = "clone";
+
+    /**
+     * The cache of the {@link MethodHandle MethodHandles} of the getter/setter methods and fields by the declaring class
+     */
+    private static final ClassValue<ConcurrentMap<Member, Optional<MethodHandle>>> memberHandlesCache = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<Member, Optional<MethodHandle>> computeValue(Class<?> type) {
+            return newConcurrentHashMap();
+        }
+    };
+
+    /**
+     * The cache of the {@link MethodHandle MethodHandles} of the default constructors
+     */
+    private static final ClassValue<Optional<MethodHandle>> defaultConstructorHandlesCache = new ClassValue<>() {
+        @Override
+        protected Optional<MethodHandle> computeValue(Class<?> type) {
+            return ofNullable(doUnreflectDefaultConstructor(type));
+        }
+    };
+
+    /**
+     * The cache of the {@link MethodHandle MethodHandles} of the public "clone" methods, the type is
+     * <code>(Object)Object</code>
+     */
+    private static final ClassValue<Optional<MethodHandle>> cloneHandlesCache = new ClassValue<>() {
+        @Override
+        protected Optional<MethodHandle> computeValue(Class<?> type) {
+            return ofNullable(doUnreflectClone(type));
+        }
+    };
+
+    @Nullable
+    private final ConfigurationPropertiesBeanPropertyAccessor parent;
+
+    /**
+     * The {@link MethodHandle} of getter method or field, the type is <code>(Object)Object</code>
+     */
+    @Nullable
+    private final MethodHandle getter;
+
+    /**
+     * The {@link MethodHandle} of setter method, the type is <code>(Object,Object)void</code>
+     */
+    @Nullable
+    private final MethodHandle setter;
+
+    /**
+     * The {@link MethodHandle} of the default constructor of declaring class, the type is <code>()Object</code>
+     */
+    @Nullable
+    private final MethodHandle constructor;
+
+    private ConfigurationPropertiesBeanPropertyAccessor(@Nullable ConfigurationPropertiesBeanPropertyAccessor parent,
+                                                        @Nullable MethodHandle getter, @Nullable MethodHandle setter,
+                                                        @Nullable MethodHandle constructor) {
+        this.parent = parent;
+        this.getter = getter;
+        this.setter = setter;
+        this.constructor = constructor;
+    }
+
+    /**
+     * Whether the property is readable from the bean
+     *
+     * @return <code>true</code> if the property and all its parents are readable
+     */
+    boolean isReadable() {
+        ConfigurationPropertiesBeanPropertyAccessor parent = this.parent;
+        return this.getter != null && (parent == null || parent.isReadable());
+    }
+
+    /**
+     * Whether the property is writable to the bean
+     *
+     * @return <code>true</code> if the property has the setter and all its parents are readable
+     */
+    boolean isWritable() {
+        ConfigurationPropertiesBeanPropertyAccessor parent = this.parent;
+        return this.setter != null && (parent == null || parent.isReadable());
+    }
+
+    /**
+     * Whether the new value of property can be {@link #resolveValue(Object) resolved}
+     *
+     * @return <code>true</code> if the declaring class has the default constructor, the getter and the setter
+     */
+    boolean isResolvable() {
+        return this.constructor != null && this.getter != null && this.setter != null;
+    }
+
+    /**
+     * Get the value of property from the bean
+     *
+     * @param bean the root bean
+     * @return <code>null</code> if the value or any instance in the nested path is <code>null</code>
+     * @throws Throwable the failure of invocation
+     */
+    @Nullable
+    Object getValue(Object bean) throws Throwable {
+        Object instance = getInstance(bean);
+        return instance == null ? null : (Object) this.getter.invokeExact(instance);
+    }
+
+    /**
+     * Set the value of property into the bean
+     *
+     * @param bean  the root bean
+     * @param value the value of property
+     * @return <code>true</code> if set, <code>false</code> if any instance in the nested path is <code>null</code>
+     * @throws Throwable the failure of invocation
+     */
+    boolean setValue(Object bean, @Nullable Object value) throws Throwable {
+        Object instance = getInstance(bean);
+        if (instance == null) {
+            return false;
+        }
+        this.setter.invokeExact(instance, value);
+        return true;
+    }
+
+    /**
+     * Resolve the actual value after setting the new value, because the setter method may convert it,
+     * e.g, appending the suffix or copying the elements, the new value is set into a new instance of the
+     * declaring class rather than the bean, so the state of the stateful or additive setters, e.g, the "add" methods
+     * of collections, is never carried over between the resolutions.
+     *
+     * @param newValue the new value of property
+     * @return the value returned by the getter after setting
+     * @throws Throwable the failure of invocation
+     */
+    @Nullable
+    Object resolveValue(@Nullable Object newValue) throws Throwable {
+        Object instance = (Object) this.constructor.invokeExact();
+        this.setter.invokeExact(instance, newValue);
+        return (Object) this.getter.invokeExact(instance);
+    }
+
+    private Object getInstance(Object bean) throws Throwable {
+        ConfigurationPropertiesBeanPropertyAccessor parent = this.parent;
+        return parent == null ? bean : parent.getValue(bean);
+    }
+
+    /**
+     * Compile the accessor of the specified {@link ConfigurationPropertiesBeanProperty}
+     *
+     * @param property the {@link ConfigurationPropertiesBeanProperty}
+     * @param parent   the accessor of the parent property, <code>null</code> if the property is declared by the bean
+     * @return non-null
+     */
+    @Nonnull
+    static ConfigurationPropertiesBeanPropertyAccessor compile(ConfigurationPropertiesBeanProperty property,
+                                                               @Nullable ConfigurationPropertiesBeanPropertyAccessor parent) {
+        Method getterMethod = property.getGetter();
+        Field field = property.getField();
+        MethodHandle getter = getterMethod == null ? unreflectGetter(field) : unreflectGetter(getterMethod);
+        MethodHandle setter = unreflectSetter(property.getSetter());
+        MethodHandle constructor = null;
+        if (getter != null && setter != null) {
+            Class<?> declaringClass = property.getDeclaringClassType() == null ? null : property.getDeclaringClassType().resolve();
+            constructor = unreflectDefaultConstructor(declaringClass);
+        }
+        return new ConfigurationPropertiesBeanPropertyAccessor(parent, getter, setter, constructor);
+    }
+
+    /**
+     * Clone the value by its public "clone" method to avoid the value is changed by other code.
+     *
+     * @param value the value to be cloned
+     * @return the cloned value, or the value itself if it's not {@link Cloneable}
+     */
+    @Nullable
+    static Object clone(@Nullable Object value) {
+        if (!(value instanceof Cloneable)) {
+            return value;
+        }
+        MethodHandle cloneHandle = cloneHandlesCache.get(value.getClass()).orElse(null);
+        if (cloneHandle == null) {
+            // The "clone" method is not public
+            return invokeMethod(value, CLONE_METHOD_NAME);
+        }
+        try {
+            return (Object) cloneHandle.invokeExact(value);
+        } catch (Throwable e) {
+            logFailure(value.getClass(), e);
+            return value;
+        }
+    }
+
+    @Nullable
+    static MethodHandle unreflectGetter(@Nullable Method getter) {
+        return getter == null ? null : unreflect(getter, ConfigurationPropertiesBeanPropertyAccessor::doUnreflectGetter);
+    }
+
+    @Nullable
+    static MethodHandle unreflectGetter(@Nullable Field field) {
+        return field == null ? null : unreflect(field, ConfigurationPropertiesBeanPropertyAccessor::doUnreflectGetter);
+    }
+
+    @Nullable
+    static MethodHandle unreflectSetter(@Nullable Method setter) {
+        return setter == null ? null : unreflect(setter, ConfigurationPropertiesBeanPropertyAccessor::doUnreflectSetter);
+    }
+
+    @Nullable
+    static MethodHandle unreflectDefaultConstructor(@Nullable Class<?> declaringClass) {
+        return declaringClass == null ? null : defaultConstructorHandlesCache.get(declaringClass).orElse(null);
+    }
+
+    @Nullable
+    private static <M extends Member> MethodHandle unreflect(M member, Function<M, MethodHandle> unreflector) {
+        ConcurrentMap<Member, Optional<MethodHandle>> memberHandles = memberHandlesCache.get(member.getDeclaringClass());
+        Optional<MethodHandle> handle = memberHandles.get(member);
+        if (handle == null) {
+            handle = ofNullable(unreflector.apply(member));
+            memberHandles.putIfAbsent(member, handle);
+        }
+        return handle.orElse(null);
+    }
+
+    @Nullable
+    private static MethodHandle doUnreflectGetter(Method getter) {
+        try {
+            getter.trySetAccessible();
+            return lookup.unreflect(getter).asType(GETTER_TYPE);
+        } catch (Throwable e) {
+            logFailure(getter, e);
+            return null;
+        }
+    }
+
+    @Nullable
+    private static MethodHandle doUnreflectGetter(Field field) {
+        try {
+            field.trySetAccessible();
+            return lookup.unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (Throwable e) {
+            logFailure(field, e);
+            return null;
+        }
+    }
+
+    @Nullable
+    private static MethodHandle doUnreflectSetter(Method setter) {
+        try {
+            setter.trySetAccessible();
+            return lookup.unreflect(setter).asType(SETTER_TYPE);
+        } catch (Throwable e) {
+            logFailure(setter, e);
+            return null;
+        }
+    }
+
+    @Nullable
+    private static MethodHandle doUnreflectDefaultConstructor(Class<?> declaringClass) {
+        if (declaringClass.isInterface() || isAbstract(declaringClass.getModifiers())) {
+            return null;
+        }
+        try {
+            Constructor<?> constructor = declaringClass.getDeclaredConstructor();
+            constructor.trySetAccessible();
+            return lookup.unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+        } catch (Throwable e) {
+            logFailure(declaringClass, e);
+            return null;
+        }
+    }
+
+    @Nullable
+    private static MethodHandle doUnreflectClone(Class<?> type) {
+        try {
+            if (type.isArray()) {
+                // The "clone" method of array is public
+                return publicLookup().findVirtual(type, CLONE_METHOD_NAME, CONSTRUCTOR_TYPE).asType(CLONE_TYPE);
+            }
+            Method cloneMethod = type.getMethod(CLONE_METHOD_NAME);
+            if (!isPublic(cloneMethod.getDeclaringClass().getModifiers())) {
+                // e.g, the public "clone" method is declared by the non-public class
+                return null;
+            }
+            return lookup.unreflect(cloneMethod).asType(CLONE_TYPE);
+        } catch (Throwable e) {
+            logFailure(type, e);
+            return null;
+        }
+    }
+
+    private static void logFailure(Object member, Throwable e) {
+        if (logger.isTraceEnabled()) {
+            logger.trace("The MethodHandle of '{}' can't be generated", member, e);
+        }
+    }
+}
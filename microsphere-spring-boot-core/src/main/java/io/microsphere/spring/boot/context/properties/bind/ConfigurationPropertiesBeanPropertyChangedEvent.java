@@ -16,6 +16,7 @@
  */
 package io.microsphere.spring.boot.context.properties.bind;
 
+import io.microsphere.annotation.Nullable;
 import io.microsphere.spring.context.event.BeanPropertyChangedEvent;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.source.ConfigurationProperty;
@@ -37,6 +38,9 @@ public class ConfigurationPropertiesBeanPropertyChangedEvent<T> extends BeanProp
 
     private final ConfigurationProperty configurationProperty;
 
+    @Nullable
+    private final ConfigurationPropertiesBeanPropertyDelta delta;
+
     /**
      * Constructs a new event indicating that a configuration property bound to a
      * {@link ConfigurationProperties @ConfigurationProperties} bean has changed.
@@ -50,9 +54,29 @@ public class ConfigurationPropertiesBeanPropertyChangedEvent<T> extends BeanProp
      */
     public ConfigurationPropertiesBeanPropertyChangedEvent(Object bean, String propertyName, ResolvableType propertyType,
                                                            Object oldValue, Object newValue, ConfigurationProperty configurationProperty) {
+        this(bean, propertyName, propertyType, oldValue, newValue, configurationProperty, null);
+    }
+
+    /**
+     * Constructs a new event indicating that a {@link java.util.Map}, {@link java.util.Collection} or array typed
+     * configuration property bound to a {@link ConfigurationProperties @ConfigurationProperties} bean has changed.
+     *
+     * @param bean                  the bean whose property changed
+     * @param propertyName          the name of the changed property
+     * @param propertyType          the type of the changed property
+     * @param oldValue              the previous value of the property
+     * @param newValue              the new value of the property
+     * @param configurationProperty the {@link ConfigurationProperty} that triggered the change
+     * @param delta                 the {@link ConfigurationPropertiesBeanPropertyDelta structural delta} between
+     *                              the values, <code>null</code> if the property is not structural
+     */
+    public ConfigurationPropertiesBeanPropertyChangedEvent(Object bean, String propertyName, ResolvableType propertyType,
+                                                           Object oldValue, Object newValue, ConfigurationProperty configurationProperty,
+                                                           @Nullable ConfigurationPropertiesBeanPropertyDelta delta) {
         super(bean, propertyName, oldValue, newValue);
         this.propertyType = propertyType;
         this.configurationProperty = configurationProperty;
+        this.delta = delta;
     }
 
     /**
@@ -72,4 +96,15 @@ public class ConfigurationPropertiesBeanPropertyChangedEvent<T> extends BeanProp
     public ConfigurationProperty getConfigurationProperty() {
         return configurationProperty;
     }
+
+    /**
+     * Returns the structural delta of the {@link java.util.Map}, {@link java.util.Collection} or array typed property,
+     * which only contains the added, removed and modified entries.
+     *
+     * @return <code>null</code> if the property is not structural
+     */
+    @Nullable
+    public ConfigurationPropertiesBeanPropertyDelta getDelta() {
+        return delta;
+    }
 }
@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.bind;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.microsphere.collection.MapUtils.newLinkedHashMap;
+import static java.lang.reflect.Array.get;
+import static java.lang.reflect.Array.getLength;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.deepEquals;
+
+/**
+ * The structural delta between the old and new values of the {@link Map}, {@link Collection} or array typed
+ * {@link ConfigurationPropertiesBeanProperty property}, which consists of the added, removed and modified entries,
+ * whose keys are :
+ * <ul>
+ *     <li>the keys of {@link Map}</li>
+ *     <li>the indices of {@link List} or array</li>
+ *     <li>the elements of other {@link Collection}, e.g, {@link Set}, whose entries are never modified</li>
+ * </ul>
+ * The listeners can patch their states with the delta rather than rebuilding from the whole new value.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   ConfigurationPropertiesBeanPropertyDelta delta = ConfigurationPropertiesBeanPropertyDelta.diff(oldMap, newMap);
+ *   delta.getAdded().forEach(cache::put);
+ *   delta.getModified().forEach(cache::put);
+ *   delta.getRemoved().keySet().forEach(cache::remove);
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationPropertiesBeanPropertyChangedEvent#getDelta()
+ * @since 1.0.0
+ */
+public class ConfigurationPropertiesBeanPropertyDelta {
+
+    private final Map<Object, Object> added;
+
+    private final Map<Object, Object> removed;
+
+    private final Map<Object, Object> modified;
+
+    ConfigurationPropertiesBeanPropertyDelta(Map<Object, Object> added, Map<Object, Object> removed, Map<Object, Object> modified) {
+        this.added = unmodifiableMap(added);
+        this.removed = unmodifiableMap(removed);
+        this.modified = unmodifiableMap(modified);
+    }
+
+    /**
+     * Get the added entries
+     *
+     * @return the read-only {@link Map} which key is the key(index or element) and value is the new value
+     */
+    @Nonnull
+    public Map<Object, Object> getAdded() {
+        return this.added;
+    }
+
+    /**
+     * Get the removed entries
+     *
+     * @return the read-only {@link Map} which key is the key(index or element) and value is the old value
+     */
+    @Nonnull
+    public Map<Object, Object> getRemoved() {
+        return this.removed;
+    }
+
+    /**
+     * Get the modified entries
+     *
+     * @return the read-only {@link Map} which key is the key(index) and value is the new value
+     */
+    @Nonnull
+    public Map<Object, Object> getModified() {
+        return this.modified;
+    }
+
+    /**
+     * Whether there is no difference
+     *
+     * @return <code>true</code> if no entry was added, removed or modified
+     */
+    public boolean isEmpty() {
+        return this.added.isEmpty() && this.removed.isEmpty() && this.modified.isEmpty();
+    }
+
+    /**
+     * Whether the value is structural, which is {@link Map}, {@link Collection} or array.
+     *
+     * @param value the value
+     * @return <code>true</code> if structural
+     */
+    public static boolean isStructural(@Nullable Object value) {
+        return value instanceof Map || value instanceof Collection || (value != null && value.getClass().isArray());
+    }
+
+    /**
+     * Compute the structural delta between the old and new values
+     *
+     * @param oldValue the old value
+     * @param newValue the new value
+     * @return <code>null</code> if any value is not {@link #isStructural(Object) structural}, both are different
+     * kinds, or one is <code>null</code> and the other is empty, which is a change without any entry. Otherwise,
+     * the <code>null</code> value is regarded as the empty one.
+     */
+    @Nullable
+    public static ConfigurationPropertiesBeanPropertyDelta diff(@Nullable Object oldValue, @Nullable Object newValue) {
+        if (oldValue == null && newValue == null) {
+            return null;
+        }
+        if ((oldValue != null && !isStructural(oldValue)) || (newValue != null && !isStructural(newValue))) {
+            return null;
+        }
+        if (isNullAndEmpty(oldValue, newValue)) { // e.g, null -> {} or [] -> null
+            return null;
+        }
+        Object value = oldValue == null ? newValue : oldValue;
+        if (value instanceof Map) {
+            if (!isNullOr(oldValue, Map.class) || !isNullOr(newValue, Map.class)) {
+                return null;
+            }
+            return diffMaps((Map<?, ?>) oldValue, (Map<?, ?>) newValue);
+        } else if (value instanceof List || value.getClass().isArray()) {
+            if (!isIndexed(oldValue) || !isIndexed(newValue)) {
+                return null;
+            }
+            return diffIndexed(oldValue, newValue);
+        }
+        if (!isNullOr(oldValue, Collection.class) || !isNullOr(newValue, Collection.class)) {
+            return null;
+        }
+        return diffCollections((Collection<?>) oldValue, (Collection<?>) newValue);
+    }
+
+    static ConfigurationPropertiesBeanPropertyDelta diffMaps(@Nullable Map<?, ?> oldMap, @Nullable Map<?, ?> newMap) {
+        Map<?, ?> oldValues = oldMap == null ? emptyMap() : oldMap;
+        Map<?, ?> newValues = newMap == null ? emptyMap() : newMap;
+        Map<Object, Object> added = newLinkedHashMap();
+        Map<Object, Object> removed = newLinkedHashMap();
+        Map<Object, Object> modified = newLinkedHashMap();
+        for (Map.Entry<?, ?> entry : newValues.entrySet()) {
+            Object key = entry.getKey();
+            Object newValue = entry.getValue();
+            if (oldValues.containsKey(key)) {
+                if (!deepEquals(oldValues.get(key), newValue)) {
+                    modified.put(key, newValue);
+                }
+            } else {
+                added.put(key, newValue);
+            }
+        }
+        for (Map.Entry<?, ?> entry : oldValues.entrySet()) {
+            Object key = entry.getKey();
+            if (!newValues.containsKey(key)) {
+                removed.put(key, entry.getValue());
+            }
+        }
+        return new ConfigurationPropertiesBeanPropertyDelta(added, removed, modified);
+    }
+
+    static ConfigurationPropertiesBeanPropertyDelta diffIndexed(@Nullable Object oldValue, @Nullable Object newValue) {
+        int oldSize = sizeOf(oldValue);
+        int newSize = sizeOf(newValue);
+        int size = Math.min(oldSize, newSize);
+        Map<Object, Object> added = newLinkedHashMap();
+        Map<Object, Object> removed = newLinkedHashMap();
+        Map<Object, Object> modified = newLinkedHashMap();
+        for (int i = 0; i < size; i++) {
+            Object newElement = elementAt(newValue, i);
+            if (!deepEquals(elementAt(oldValue, i), newElement)) {
+                modified.put(i, newElement);
+            }
+        }
+        for (int i = size; i < newSize; i++) {
+            added.put(i, elementAt(newValue, i));
+        }
+        for (int i = size; i < oldSize; i++) {
+            removed.put(i, elementAt(oldValue, i));
+        }
+        return new ConfigurationPropertiesBeanPropertyDelta(added, removed, modified);
+    }
+
+    static ConfigurationPropertiesBeanPropertyDelta diffCollections(@Nullable Collection<?> oldCollection, @Nullable Collection<?> newCollection) {
+        Collection<?> oldValues = oldCollection == null ? emptySet() : oldCollection;
+        Collection<?> newValues = newCollection == null ? emptyList() : newCollection;
+        // The lookups of the Collection which is not a Set, e.g, Queue, are linear
+        Set<?> oldElements = toSet(oldValues);
+        Set<?> newElements = toSet(newValues);
+        Map<Object, Object> added = newLinkedHashMap();
+        Map<Object, Object> removed = newLinkedHashMap();
+        for (Object element : newValues) {
+            if (!oldElements.contains(element)) {
+                added.put(element, element);
+            }
+        }
+        for (Object element : oldValues) {
+            if (!newElements.contains(element)) {
+                removed.put(element, element);
+            }
+        }
+        return new ConfigurationPropertiesBeanPropertyDelta(added, removed, emptyMap());
+    }
+
+    private static Set<?> toSet(Collection<?> values) {
+        return values instanceof Set ? (Set<?>) values : new HashSet<>(values);
+    }
+
+    /**
+     * Whether the one of values is <code>null</code> and the other is empty
+     */
+    private static boolean isNullAndEmpty(@Nullable Object oldValue, @Nullable Object newValue) {
+        return oldValue == null ? isEmptyStructural(newValue) : newValue == null && isEmptyStructural(oldValue);
+    }
+
+    private static boolean isEmptyStructural(Object value) {
+        if (value instanceof Map) {
+            return ((Map<?, ?>) value).isEmpty();
+        } else if (value instanceof Collection) {
+            return ((Collection<?>) value).isEmpty();
+        }
+        return getLength(value) == 0;
+    }
+
+    private static boolean isNullOr(@Nullable Object value, Class<?> type) {
+        return value == null || type.isInstance(value);
+    }
+
+    private static boolean isIndexed(@Nullable Object value) {
+        return value == null || value instanceof List || value.getClass().isArray();
+    }
+
+    private static int sizeOf(@Nullable Object value) {
+        if (value == null) {
+            return 0;
+        }
+        return value instanceof List ? ((List<?>) value).size() : getLength(value);
+    }
+
+    private static Object elementAt(Object value, int index) {
+        return value instanceof List ? ((List<?>) value).get(index) : get(value, index);
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigurationPropertiesBeanPropertyDelta{" +
+                "added=" + this.added +
+                ", removed=" + this.removed +
+                ", modified=" + this.modified +
+                '}';
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.bind;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.logging.Logger;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationProperty;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.util.Map;
+import java.util.Set;
+
+import static io.microsphere.collection.MapUtils.newLinkedHashMap;
+import static io.microsphere.collection.SetUtils.newLinkedHashSet;
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.spring.context.ApplicationContextUtils.asConfigurableApplicationContext;
+import static java.util.Collections.emptySet;
+import static org.springframework.boot.context.properties.source.ConfigurationPropertyName.adapt;
+import static org.springframework.boot.context.properties.source.ConfigurationPropertyName.isValid;
+import static org.springframework.boot.context.properties.source.ConfigurationPropertyName.of;
+import static org.springframework.boot.context.properties.source.ConfigurationPropertySources.get;
+
+/**
+ * The rebinder of the beans annotated {@link ConfigurationProperties @ConfigurationProperties} for the changed
+ * properties of {@link org.springframework.core.env.Environment}, e.g, pushed by the config center, only the affected
+ * beans and the affected properties of them are rebound, which are located by the prefix index of
+ * {@link ConfigurationPropertiesBeanContext ConfigurationPropertiesBeanContexts}, rather than rebinding all beans.
+ * <p>
+ * The new values are written into the beans, and the {@link ConfigurationPropertiesBeanPropertyChangedEvent} and
+ * {@link ConfigurationPropertiesBeanPropertiesChangedEvent} are published as same as the full rebinding. The values
+ * are bound with the placeholders resolution, the {@link org.springframework.core.convert.ConversionService} and the
+ * validation as same as the binding of Spring Boot, and the removed properties are reset to their default values.
+ * <p>
+ * The constructor-bound beans can't be rebound, their changes are ignored with a warning.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   @Autowired
+ *   private ConfigurationPropertiesRebinder rebinder;
+ *
+ *   public void onConfigChanged(Set<String> changedKeys) {
+ *       Set<String> reboundBeanNames = rebinder.rebind(changedKeys);
+ *   }
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see EventPublishingConfigurationPropertiesBeanPropertyChangedListener
+ * @see ConfigurationPropertiesBeanContext
+ * @see ConfigurationPropertiesBeanContextIndex
+ * @since 1.0.0
+ */
+public class ConfigurationPropertiesRebinder implements ApplicationContextAware {
+
+    private static final Logger logger = getLogger(ConfigurationPropertiesRebinder.class);
+
+    private ConfigurableApplicationContext context;
+
+    /**
+     * Rebind the beans affected by the changed properties
+     *
+     * @param changedPropertyNames the names of changed properties
+     * @return the names of beans whose properties were changed
+     */
+    @Nonnull
+    public synchronized Set<String> rebind(Set<String> changedPropertyNames) {
+        EventPublishingConfigurationPropertiesBeanPropertyChangedListener listener = getListener();
+        if (listener == null || !listener.isBound() || changedPropertyNames == null || changedPropertyNames.isEmpty()) {
+            return emptySet();
+        }
+        ConfigurableEnvironment environment = this.context.getEnvironment();
+        Iterable<ConfigurationPropertySource> sources = get(environment);
+        Map<ConfigurationPropertiesBeanContext, Map<ConfigurationPropertyName, ConfigurationProperty>> affectedProperties =
+                resolveAffectedProperties(listener.getBeanContexts(), sources, changedPropertyNames);
+        if (affectedProperties.isEmpty()) {
+            return emptySet();
+        }
+        Binder binder = createBinder(environment, sources);
+        Set<String> reboundBeanNames = newLinkedHashSet();
+        for (Map.Entry<ConfigurationPropertiesBeanContext, Map<ConfigurationPropertyName, ConfigurationProperty>> entry : affectedProperties.entrySet()) {
+            ConfigurationPropertiesBeanContext beanContext = entry.getKey();
+            if (beanContext.isConstructorBound()) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("The constructor-bound bean[name : '{}'] can't be rebound by the changed properties : {}",
+                            beanContext.getBeanName(), entry.getValue().keySet());
+                }
+                continue;
+            }
+            beanContext.startRebinding();
+            try {
+                for (Map.Entry<ConfigurationPropertyName, ConfigurationProperty> propertyEntry : entry.getValue().entrySet()) {
+                    if (beanContext.rebindProperty(propertyEntry.getKey(), binder, propertyEntry.getValue())) {
+                        reboundBeanNames.add(beanContext.getBeanName());
+                    }
+                }
+            } finally {
+                beanContext.finishRebinding();
+            }
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("The beans{} were rebound by the changed properties : {}", reboundBeanNames, changedPropertyNames);
+        }
+        return reboundBeanNames;
+    }
+
+    /**
+     * Create the {@link Binder} with the placeholders resolution, the {@link org.springframework.core.convert.ConversionService}
+     * and the property editors of the {@link ConfigurableListableBeanFactory}.
+     *
+     * @param environment {@link ConfigurableEnvironment}
+     * @param sources     the {@link ConfigurationPropertySource ConfigurationPropertySources}
+     * @return non-null
+     */
+    Binder createBinder(ConfigurableEnvironment environment, Iterable<ConfigurationPropertySource> sources) {
+        ConfigurableListableBeanFactory beanFactory = this.context.getBeanFactory();
+        return new Binder(sources, new PropertySourcesPlaceholdersResolver(environment), beanFactory.getConversionService(),
+                beanFactory::copyRegisteredEditorsTo);
+    }
+
+    /**
+     * Resolve the affected properties grouped by {@link ConfigurationPropertiesBeanContext}
+     *
+     * @param beanContexts         {@link ConfigurationPropertiesBeanContextIndex}
+     * @param sources              the {@link ConfigurationPropertySource ConfigurationPropertySources}
+     * @param changedPropertyNames the names of changed properties
+     * @return the map which key is {@link ConfigurationPropertiesBeanContext} and value is the map of the names of
+     * affected properties to the {@link ConfigurationProperty} which may be <code>null</code> if removed
+     */
+    static Map<ConfigurationPropertiesBeanContext, Map<ConfigurationPropertyName, ConfigurationProperty>> resolveAffectedProperties(
+            ConfigurationPropertiesBeanContextIndex beanContexts, Iterable<ConfigurationPropertySource> sources,
+            Set<String> changedPropertyNames) {
+        Map<ConfigurationPropertiesBeanContext, Map<ConfigurationPropertyName, ConfigurationProperty>> affectedProperties = newLinkedHashMap();
+        for (String changedPropertyName : changedPropertyNames) {
+            ConfigurationPropertyName name = toConfigurationPropertyName(changedPropertyName);
+            if (name == null) {
+                continue;
+            }
+            ConfigurationPropertiesBeanContext beanContext = beanContexts.get(name, name.getNumberOfElements());
+            ConfigurationPropertyName propertyName = beanContext == null ? null : beanContext.findPropertyName(name);
+            if (propertyName == null) {
+                if (logger.isTraceEnabled()) {
+                    logger.trace("No @ConfigurationProperties bean property is affected by the changed property : '{}'", changedPropertyName);
+                }
+                continue;
+            }
+            Map<ConfigurationPropertyName, ConfigurationProperty> properties = affectedProperties.computeIfAbsent(beanContext, c -> newLinkedHashMap());
+            ConfigurationProperty property = properties.get(propertyName);
+            if (property == null) {
+                properties.put(propertyName, findConfigurationProperty(sources, name));
+            }
+        }
+        return affectedProperties;
+    }
+
+    @Nullable
+    static ConfigurationPropertyName toConfigurationPropertyName(@Nullable String propertyName) {
+        if (propertyName == null) {
+            return null;
+        }
+        ConfigurationPropertyName name = isValid(propertyName) ? of(propertyName) : adapt(propertyName, '.');
+        return name.isEmpty() ? null : name;
+    }
+
+    @Nullable
+    static ConfigurationProperty findConfigurationProperty(Iterable<ConfigurationPropertySource> sources, ConfigurationPropertyName name) {
+        for (ConfigurationPropertySource source : sources) {
+            ConfigurationProperty property = source.getConfigurationProperty(name);
+            if (property != null) {
+                return property;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private EventPublishingConfigurationPropertiesBeanPropertyChangedListener getListener() {
+        return this.context.getBeanProvider(EventPublishingConfigurationPropertiesBeanPropertyChangedListener.class).getIfAvailable();
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext context) throws BeansException {
+        this.context = asConfigurableApplicationContext(context);
+    }
+}
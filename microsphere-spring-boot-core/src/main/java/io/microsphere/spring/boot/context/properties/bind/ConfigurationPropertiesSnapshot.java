@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.bind;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.microsphere.collection.MapUtils.newHashMap;
+import static java.lang.System.arraycopy;
+import static java.lang.reflect.Array.getLength;
+import static java.lang.reflect.Array.newInstance;
+import static java.util.Collections.unmodifiableCollection;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * The immutable snapshot of the bound state of a {@link org.springframework.boot.context.properties.ConfigurationProperties @ConfigurationProperties}
+ * bean, whose values are keyed by the property paths of the leaf properties, e.g, "name", "nested.name", the nested
+ * objects are flattened because they are mutable and shared with the bean.
+ * <p>
+ * A new snapshot with the next {@link #getVersion() version} is published per (re)binding, the values of the unchanged
+ * properties are shared with the previous snapshot rather than being copied, and the {@link Map}, {@link Collection}
+ * values are exposed as the read-only views, the array values are copied on read. Thus the readers get a consistent
+ * view of the bean without any lock by one volatile read, and are never affected by the concurrent rebinding.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   ConfigurationPropertiesSnapshot snapshot = listener.getSnapshot("server");
+ *   Integer port = snapshot.getValue("port");
+ *   String address = snapshot.getValue("address");
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationPropertiesBeanContext#getSnapshot()
+ * @see EventPublishingConfigurationPropertiesBeanPropertyChangedListener#getSnapshot(String)
+ * @since 1.0.0
+ */
+public final class ConfigurationPropertiesSnapshot {
+
+    private final String beanName;
+
+    private final String prefix;
+
+    private final long version;
+
+    private final Map<String, Object> values;
+
+    ConfigurationPropertiesSnapshot(String beanName, String prefix, long version, Map<String, Object> values) {
+        this.beanName = beanName;
+        this.prefix = prefix;
+        this.version = version;
+        this.values = unmodifiableMap(values);
+    }
+
+    /**
+     * Get the bean name
+     *
+     * @return the bean name
+     */
+    @Nonnull
+    public String getBeanName() {
+        return this.beanName;
+    }
+
+    /**
+     * Get the prefix of {@link org.springframework.boot.context.properties.ConfigurationProperties @ConfigurationProperties}
+     *
+     * @return the prefix
+     */
+    @Nonnull
+    public String getPrefix() {
+        return this.prefix;
+    }
+
+    /**
+     * Get the version, which is increased monotonically per snapshot of the same bean
+     *
+     * @return the version starts with 1
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Get the property paths
+     *
+     * @return the read-only {@link Set} of the property paths
+     */
+    @Nonnull
+    public Set<String> getPropertyPaths() {
+        return this.values.keySet();
+    }
+
+    /**
+     * Whether the property is present
+     *
+     * @param propertyPath the property path, e.g, "name", "nested.name"
+     * @return <code>true</code> if present
+     */
+    public boolean containsProperty(String propertyPath) {
+        return this.values.containsKey(propertyPath);
+    }
+
+    /**
+     * Get the value of property
+     *
+     * @param propertyPath the property path, e.g, "name", "nested.name"
+     * @param <T>          the type of value
+     * @return <code>null</code> if absent, the copy if the value is an array
+     */
+    @Nullable
+    public <T> T getValue(String propertyPath) {
+        Object value = this.values.get(propertyPath);
+        return (T) copyArray(value);
+    }
+
+    /**
+     * Create the next snapshot with the changed values, the unchanged values are shared.
+     *
+     * @param changedValues the changed values which key is the property path
+     * @return the next snapshot, or this if no value was changed
+     */
+    ConfigurationPropertiesSnapshot with(Map<String, Object> changedValues) {
+        if (changedValues.isEmpty()) {
+            return this;
+        }
+        Map<String, Object> values = newHashMap(this.values.size() + changedValues.size());
+        values.putAll(this.values);
+        for (Map.Entry<String, Object> entry : changedValues.entrySet()) {
+            values.put(entry.getKey(), immutableValue(entry.getValue()));
+        }
+        return new ConfigurationPropertiesSnapshot(this.beanName, this.prefix, this.version + 1, values);
+    }
+
+    /**
+     * Create the snapshot with the values
+     *
+     * @param beanName the bean name
+     * @param prefix   the prefix
+     * @param version  the version
+     * @param values   the values which key is the property path
+     * @return non-null
+     */
+    static ConfigurationPropertiesSnapshot of(String beanName, String prefix, long version, Map<String, Object> values) {
+        Map<String, Object> immutableValues = newHashMap(values.size());
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            immutableValues.put(entry.getKey(), immutableValue(entry.getValue()));
+        }
+        return new ConfigurationPropertiesSnapshot(beanName, prefix, version, immutableValues);
+    }
+
+    static Object immutableValue(@Nullable Object value) {
+        if (value instanceof Map) {
+            return unmodifiableMap((Map<?, ?>) value);
+        } else if (value instanceof List) {
+            return unmodifiableList((List<?>) value);
+        } else if (value instanceof Set) {
+            return unmodifiableSet((Set<?>) value);
+        } else if (value instanceof Collection) {
+            return unmodifiableCollection((Collection<?>) value);
+        }
+        return value;
+    }
+
+    static Object copyArray(@Nullable Object value) {
+        if (value == null || !value.getClass().isArray()) {
+            return value;
+        }
+        int length = getLength(value);
+        Object copy = newInstance(value.getClass().getComponentType(), length);
+        arraycopy(value, 0, copy, 0, length);
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigurationPropertiesSnapshot{" +
+                "beanName='" + this.beanName + '\'' +
+                ", prefix='" + this.prefix + '\'' +
+                ", version=" + this.version +
+                ", values=" + this.values +
+                '}';
+    }
+}
@@ -29,32 +29,53 @@ import org.springframework.boot.context.properties.source.ConfigurationPropertyN
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
 
-import java.util.Map;
 import java.util.function.Supplier;
 
 import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.spring.boot.constants.PropertyConstants.CONFIGURATION_PROPERTIES_PARALLEL_SCAN_ENABLED_PROPERTY_NAME;
+import static io.microsphere.spring.boot.constants.PropertyConstants.CONFIGURATION_PROPERTIES_PROPERTIES_CHANGED_EVENT_ENABLED_PROPERTY_NAME;
+import static io.microsphere.spring.boot.constants.PropertyConstants.CONFIGURATION_PROPERTIES_PROPERTY_CHANGED_EVENT_ENABLED_PROPERTY_NAME;
 import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanContext.buildConfigurationPropertiesBeanContexts;
+import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanContextIndex.build;
 import static io.microsphere.spring.boot.context.properties.bind.util.BindUtils.isBoundProperty;
 import static io.microsphere.spring.boot.context.properties.bind.util.BindUtils.isConfigurationPropertiesBean;
-import static io.microsphere.spring.boot.context.properties.source.util.ConfigurationPropertyUtils.getPrefix;
 import static io.microsphere.spring.context.ApplicationContextUtils.asConfigurableApplicationContext;
 
 /**
  * A {@link BindListener} implementation of {@link ConfigurationProperties @ConfigurationProperties} Bean to publish
- * the {@link ConfigurationPropertiesBeanPropertyChangedEvent}
+ * the {@link ConfigurationPropertiesBeanPropertyChangedEvent} for each changed property and the
+ * {@link ConfigurationPropertiesBeanPropertiesChangedEvent} carrying the coalesced changes once per rebinding.
+ * <p>
+ * The publishing of both events can be switched by the properties :
+ * <pre>
+ * microsphere.spring.boot.configuration-properties.property-changed-event.enabled=true
+ * # false by default
+ * microsphere.spring.boot.configuration-properties.properties-changed-event.enabled=true
+ * </pre>
+ * The change out of rebinding is published by {@link ConfigurationPropertiesBeanPropertiesChangedEvent} alone if
+ * enabled, so the listeners of either event never miss the changes.
+ * <p>
+ * The bean definitions can be scanned in parallel for the large application by the property :
+ * <pre>
+ * microsphere.spring.boot.configuration-properties.parallel-scan.enabled=true
+ * </pre>
  *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
  * @see ConfigurationProperties
  * @see ConfigurationPropertiesBeanContext
  * @see ConfigurationPropertiesBeanPropertyChangedEvent
+ * @see ConfigurationPropertiesBeanPropertiesChangedEvent
+ * @see io.microsphere.spring.boot.constants.PropertyConstants#CONFIGURATION_PROPERTIES_PROPERTY_CHANGED_EVENT_ENABLED_PROPERTY_NAME
+ * @see io.microsphere.spring.boot.constants.PropertyConstants#CONFIGURATION_PROPERTIES_PROPERTIES_CHANGED_EVENT_ENABLED_PROPERTY_NAME
  * @since 1.0.0
  */
 public class EventPublishingConfigurationPropertiesBeanPropertyChangedListener implements BindListener, ApplicationContextAware, InitializingBean, SmartInitializingSingleton {
 
     private static final Logger logger = getLogger(EventPublishingConfigurationPropertiesBeanPropertyChangedListener.class);
 
-    private Map<String, ConfigurationPropertiesBeanContext> beanContexts;
+    private ConfigurationPropertiesBeanContextIndex beanContexts;
 
     private ConfigurableApplicationContext context;
 
@@ -62,7 +83,8 @@ public class EventPublishingConfigurationPropertiesBeanPropertyChangedListener i
 
     /**
      * Handles the start of a binding operation. During initial binding, initializes the
-     * {@link ConfigurationPropertiesBeanContext} for the target bean.
+     * {@link ConfigurationPropertiesBeanContext} for the target bean, or starts the rebinding of the bean
+     * after initial binding is complete.
      *
      * @param name    the configuration property name
      * @param target  the bindable target
@@ -71,6 +93,7 @@ public class EventPublishingConfigurationPropertiesBeanPropertyChangedListener i
     @Override
     public <T> void onStart(ConfigurationPropertyName name, Bindable<T> target, BindContext context) {
         if (isBound()) {
+            startRebinding(name, context);
         } else {
             initConfigurationPropertiesBeanContext(name, target, context);
         }
@@ -92,6 +115,56 @@ public class EventPublishingConfigurationPropertiesBeanPropertyChangedListener i
         }
     }
 
+    /**
+     * Handles the finish of a binding operation. After initial binding is complete, publishes the
+     * {@link ConfigurationPropertiesBeanPropertiesChangedEvent} if the rebinding bean was changed.
+     *
+     * @param name    the configuration property name
+     * @param target  the bindable target
+     * @param context the bind context
+     * @param result  the bound result value
+     */
+    @Override
+    public void onFinish(ConfigurationPropertyName name, Bindable<?> target, BindContext context, Object result) {
+        if (isBound()) {
+            finishRebinding(name, context);
+        }
+    }
+
+    /**
+     * Handles the failure of a binding operation. After initial binding is complete, publishes the
+     * {@link ConfigurationPropertiesBeanPropertiesChangedEvent} for the changes before failure.
+     *
+     * @param name    the configuration property name
+     * @param target  the bindable target
+     * @param context the bind context
+     * @param error   the cause of the error
+     */
+    @Override
+    public void onFailure(ConfigurationPropertyName name, Bindable<?> target, BindContext context, Exception error) {
+        if (isBound()) {
+            finishRebinding(name, context);
+        }
+    }
+
+    void startRebinding(ConfigurationPropertyName name, BindContext context) {
+        if (isConfigurationPropertiesBean(context)) {
+            ConfigurationPropertiesBeanContext configurationPropertiesBeanContext = findConfigurationPropertiesBeanContext(name, context);
+            if (configurationPropertiesBeanContext != null) {
+                configurationPropertiesBeanContext.startRebinding();
+            }
+        }
+    }
+
+    void finishRebinding(ConfigurationPropertyName name, BindContext context) {
+        if (isConfigurationPropertiesBean(context)) {
+            ConfigurationPropertiesBeanContext configurationPropertiesBeanContext = findConfigurationPropertiesBeanContext(name, context);
+            if (configurationPropertiesBeanContext != null) {
+                configurationPropertiesBeanContext.finishRebinding();
+            }
+        }
+    }
+
     void initConfigurationPropertiesBeanContext(ConfigurationPropertyName name, Bindable<?> target, BindContext context) {
         ConfigurationPropertiesBeanContext configurationPropertiesBeanContext = getConfigurationPropertiesBeanContext(name, target, context);
         if (configurationPropertiesBeanContext == null) {
@@ -118,8 +191,7 @@ public class EventPublishingConfigurationPropertiesBeanPropertyChangedListener i
     @Nullable
     private ConfigurationPropertiesBeanContext getConfigurationPropertiesBeanContext(ConfigurationPropertyName name,
                                                                                      Bindable<?> target, BindContext context) {
-        String prefix = getPrefix(name, context);
-        ConfigurationPropertiesBeanContext configurationPropertiesBeanContext = this.beanContexts.get(prefix);
+        ConfigurationPropertiesBeanContext configurationPropertiesBeanContext = findConfigurationPropertiesBeanContext(name, context);
         if (configurationPropertiesBeanContext == null) {
             if (logger.isWarnEnabled()) {
                 logger.warn("No ConfigurationPropertiesBeanContext was found[name : '{}' , target : {} , depth : {}]",
@@ -129,6 +201,24 @@ public class EventPublishingConfigurationPropertiesBeanPropertyChangedListener i
         return configurationPropertiesBeanContext;
     }
 
+    /**
+     * Find the {@link ConfigurationPropertiesBeanContext} owning the specified {@link ConfigurationPropertyName}.
+     * The root binding(depth = 0) requires the prefix to be matched exactly, the nested binding matches the longest
+     * prefix which is not deeper than the root of binding, because the name has at least one element per depth.
+     *
+     * @param name    the configuration property name
+     * @param context the bind context
+     * @return <code>null</code> if not found
+     */
+    @Nullable
+    ConfigurationPropertiesBeanContext findConfigurationPropertiesBeanContext(ConfigurationPropertyName name, BindContext context) {
+        int depth = context.getDepth();
+        if (depth == 0) {
+            return this.beanContexts.get(name);
+        }
+        return this.beanContexts.get(name, name.getNumberOfElements() - depth);
+    }
+
     /**
      * Sets a property on the {@link ConfigurationPropertiesBeanContext} when a bound property
      * change is detected. Publishes an event if the value has changed.
@@ -166,7 +256,15 @@ public class EventPublishingConfigurationPropertiesBeanPropertyChangedListener i
 
     @Override
     public void afterPropertiesSet() {
-        this.beanContexts = buildConfigurationPropertiesBeanContexts(this.context);
+        Environment environment = this.context.getEnvironment();
+        boolean parallelScan = environment.getProperty(CONFIGURATION_PROPERTIES_PARALLEL_SCAN_ENABLED_PROPERTY_NAME, Boolean.class, false);
+        this.beanContexts = build(buildConfigurationPropertiesBeanContexts(this.context, parallelScan).values());
+        boolean publishPropertyChangedEvent = environment.getProperty(CONFIGURATION_PROPERTIES_PROPERTY_CHANGED_EVENT_ENABLED_PROPERTY_NAME, Boolean.class, true);
+        boolean publishPropertiesChangedEvent = environment.getProperty(CONFIGURATION_PROPERTIES_PROPERTIES_CHANGED_EVENT_ENABLED_PROPERTY_NAME, Boolean.class, false);
+        for (ConfigurationPropertiesBeanContext beanContext : this.beanContexts.values()) {
+            beanContext.setPublishPropertyChangedEvent(publishPropertyChangedEvent);
+            beanContext.setPublishPropertiesChangedEvent(publishPropertiesChangedEvent);
+        }
     }
 
     /**
@@ -189,4 +287,31 @@ public class EventPublishingConfigurationPropertiesBeanPropertyChangedListener i
     public boolean isBound() {
         return bound;
     }
+
+    /**
+     * Returns the latest {@link ConfigurationPropertiesSnapshot snapshot} of the
+     * {@link ConfigurationProperties @ConfigurationProperties} bean by the prefix, which is lock-free and safe to be
+     * called on the hot paths.
+     *
+     * @param prefix the prefix of {@link ConfigurationProperties @ConfigurationProperties}
+     * @return <code>null</code> if the bean is absent or not bound
+     */
+    @Nullable
+    public ConfigurationPropertiesSnapshot getSnapshot(String prefix) {
+        ConfigurationPropertiesBeanContextIndex beanContexts = this.beanContexts;
+        if (beanContexts == null || !ConfigurationPropertyName.isValid(prefix)) {
+            return null;
+        }
+        ConfigurationPropertiesBeanContext beanContext = beanContexts.get(ConfigurationPropertyName.of(prefix));
+        return beanContext == null ? null : beanContext.getSnapshot();
+    }
+
+    /**
+     * Returns the prefix index of {@link ConfigurationPropertiesBeanContext ConfigurationPropertiesBeanContexts}
+     *
+     * @return {@link ConfigurationPropertiesBeanContextIndex}
+     */
+    ConfigurationPropertiesBeanContextIndex getBeanContexts() {
+        return this.beanContexts;
+    }
 }
@@ -16,6 +16,7 @@
  */
 package io.microsphere.spring.boot.context.properties.bind;
 
+import io.microsphere.annotation.Nullable;
 import io.microsphere.spring.boot.context.properties.ListenableConfigurationPropertiesBindHandlerAdvisor;
 import org.springframework.boot.context.properties.bind.AbstractBindHandler;
 import org.springframework.boot.context.properties.bind.BindContext;
@@ -24,6 +25,9 @@ import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
 
+import static io.microsphere.spring.boot.context.properties.bind.AsyncBindListeners.decorate;
+import static io.microsphere.spring.boot.context.properties.bind.BindListeners.toArray;
+
 /**
  * Listable {@link BindHandler} Adapter
  *
@@ -67,8 +71,49 @@ public class ListenableBindHandlerAdapter extends AbstractBindHandler {
      * @param bindListeners the {@link BindListener} instances to delegate to
      */
     public ListenableBindHandlerAdapter(BindHandler parent, Iterable<BindListener> bindListeners) {
+        this(parent, bindListeners, null);
+    }
+
+    /**
+     * Constructs a {@link ListenableBindHandlerAdapter} with the specified parent {@link BindHandler}, the
+     * {@link AsyncBindListener AsyncBindListeners} are dispatched by the specified {@link AsyncBindListenerDispatcher}.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   List<BindListener> listeners = Arrays.asList(myListener, myAsyncListener);
+     *   AsyncBindListenerDispatcher dispatcher = new AsyncBindListenerDispatcher(executor, 1024, CALLER_RUNS);
+     *   ListenableBindHandlerAdapter adapter = new ListenableBindHandlerAdapter(parent, listeners, dispatcher);
+     * }</pre>
+     *
+     * @param parent        the parent {@link BindHandler} to delegate to
+     * @param bindListeners the {@link BindListener} instances to delegate to
+     * @param dispatcher    the {@link AsyncBindListenerDispatcher}, if <code>null</code>, the
+     *                      {@link AsyncBindListener AsyncBindListeners} are executed on the binder thread
+     */
+    public ListenableBindHandlerAdapter(BindHandler parent, Iterable<BindListener> bindListeners,
+                                        @Nullable AsyncBindListenerDispatcher dispatcher) {
+        this(parent, toArray(bindListeners), dispatcher);
+    }
+
+    /**
+     * Constructs a {@link ListenableBindHandlerAdapter} with the specified parent {@link BindHandler} and the array of
+     * {@link BindListener BindListeners}, which is shared without copying, e.g, the cached and sorted listeners.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   BindListener[] listeners = new BindListener[]{myListener, myAsyncListener};
+     *   ListenableBindHandlerAdapter adapter = new ListenableBindHandlerAdapter(parent, listeners, dispatcher);
+     * }</pre>
+     *
+     * @param parent        the parent {@link BindHandler} to delegate to
+     * @param bindListeners the {@link BindListener} instances to delegate to, must not be modified after
+     * @param dispatcher    the {@link AsyncBindListenerDispatcher}, if <code>null</code>, the
+     *                      {@link AsyncBindListener AsyncBindListeners} are executed on the binder thread
+     */
+    public ListenableBindHandlerAdapter(BindHandler parent, BindListener[] bindListeners,
+                                        @Nullable AsyncBindListenerDispatcher dispatcher) {
         super(parent);
-        this.bindHandlers = new BindListeners(bindListeners);
+        this.bindHandlers = new BindListeners(decorate(bindListeners, dispatcher));
     }
 
     /**
@@ -0,0 +1,660 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.metadata;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import org.springframework.boot.configurationprocessor.metadata.ConfigurationMetadata;
+import org.springframework.boot.configurationprocessor.metadata.ItemDeprecation;
+import org.springframework.boot.configurationprocessor.metadata.ItemHint;
+import org.springframework.boot.configurationprocessor.metadata.ItemHint.ValueHint;
+import org.springframework.boot.configurationprocessor.metadata.ItemHint.ValueProvider;
+import org.springframework.boot.configurationprocessor.metadata.ItemMetadata;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import static io.microsphere.collection.MapUtils.newHashMap;
+import static io.microsphere.collection.MapUtils.newLinkedHashMap;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Collections.unmodifiableList;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.ItemType.GROUP;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.newGroup;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.newProperty;
+import static org.springframework.util.ReflectionUtils.findMethod;
+import static org.springframework.util.ReflectionUtils.invokeMethod;
+
+/**
+ * The compact binary cache of the merged {@link ConfigurationMetadata}, which is read through the memory-mapped
+ * {@link FileChannel} rather than parsing the JSON resources again.
+ * <p>
+ * The layout of cache file :
+ * <pre>
+ * header   : magic(int), version(int), checksum(int), items offset(int), hints offset(int), strings count(int)
+ * offsets  : the offsets of strings(int[])
+ * strings  : length(int) + UTF-8 bytes per string
+ * items    : count(int) + records referring to the strings by index
+ * hints    : count(int) + records referring to the strings by index
+ * </pre>
+ * The strings, e.g, the names, types and descriptions, are de-duplicated and decoded lazily on first use, the item
+ * can be {@link #getItem(int) decoded alone} without decoding the others, and the hints are decoded only if
+ * {@link #getHints() requested}.
+ * <p>
+ * The CRC-32 checksum of the content after the header is verified when the cache is {@link #load(File) loaded}, thus
+ * the truncated or corrupted file is rejected at once rather than failing on the lazy decoding later.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   ConfigurationMetadataCache.write(metadata, file);
+ *   ConfigurationMetadataCache cache = ConfigurationMetadataCache.load(file);
+ *   ConfigurationMetadata cachedMetadata = cache.toConfigurationMetadata();
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationMetadataReader
+ * @since 1.0.0
+ */
+public class ConfigurationMetadataCache {
+
+    /**
+     * The magic number of cache file : "MSCM"
+     */
+    static final int MAGIC = 0x4D53434D;
+
+    /**
+     * The version of cache file layout
+     */
+    static final int VERSION = 2;
+
+    private static final int HEADER_SIZE = 6 * Integer.BYTES;
+
+    private static final int NULL_REFERENCE = -1;
+
+    private static final byte NULL_VALUE = 0;
+
+    private static final byte STRING_VALUE = 1;
+
+    private static final byte BOOLEAN_VALUE = 2;
+
+    private static final byte INTEGER_VALUE = 3;
+
+    private static final byte LONG_VALUE = 4;
+
+    private static final byte DOUBLE_VALUE = 5;
+
+    private static final byte ARRAY_VALUE = 6;
+
+    /**
+     * "ItemDeprecation#getSince()" is present since Spring Boot 3.4
+     */
+    private static final Method GET_SINCE_METHOD = findMethod(ItemDeprecation.class, "getSince");
+
+    private static final Method SET_SINCE_METHOD = findMethod(ItemDeprecation.class, "setSince", String.class);
+
+    private final File file;
+
+    private final ByteBuffer buffer;
+
+    private final int itemsOffset;
+
+    private final int hintsOffset;
+
+    private final int stringsOffset;
+
+    private final String[] strings;
+
+    private volatile int[] itemOffsets;
+
+    private volatile List<ItemMetadata> items;
+
+    private volatile List<ItemHint> hints;
+
+    ConfigurationMetadataCache(File file, ByteBuffer buffer) throws IOException {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                || buffer.getInt(8) != checksum(buffer)) {
+            throw new IOException("The file['" + file + "'] is not a valid configuration metadata cache");
+        }
+        this.file = file;
+        this.buffer = buffer;
+        this.itemsOffset = buffer.getInt(12);
+        this.hintsOffset = buffer.getInt(16);
+        int stringsCount = buffer.getInt(20);
+        this.stringsOffset = HEADER_SIZE + stringsCount * Integer.BYTES;
+        if (stringsCount < 0 || this.stringsOffset > this.itemsOffset || this.itemsOffset > this.hintsOffset
+                || this.hintsOffset > buffer.limit() - Integer.BYTES) {
+            throw new IOException("The file['" + file + "'] is not a valid configuration metadata cache");
+        }
+        this.strings = new String[stringsCount];
+    }
+
+    /**
+     * Compute the CRC-32 checksum of the content after the header
+     *
+     * @param buffer the buffer of cache file
+     * @return the checksum
+     */
+    private static int checksum(ByteBuffer buffer) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(buffer.duplicate().position(HEADER_SIZE));
+        return (int) crc32.getValue();
+    }
+
+    /**
+     * Get the cache file
+     *
+     * @return non-null
+     */
+    @Nonnull
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Get the items of groups and properties
+     *
+     * @return the read-only {@link List} of {@link ItemMetadata}
+     */
+    @Nonnull
+    public List<ItemMetadata> getItems() {
+        List<ItemMetadata> items = this.items;
+        if (items == null) {
+            items = unmodifiableList(decodeItems());
+            this.items = items;
+        }
+        return items;
+    }
+
+    /**
+     * Get the count of the items of groups and properties
+     *
+     * @return the count
+     */
+    public int getItemCount() {
+        return getItemOffsets().length;
+    }
+
+    /**
+     * Whether the item at the index is a group
+     *
+     * @param index the index of item in the order of {@link #getItems()}
+     * @return <code>true</code> if group, or <code>false</code> if property
+     */
+    public boolean isGroup(int index) {
+        return this.buffer.get(getItemOffsets()[index]) == 0;
+    }
+
+    /**
+     * Get the name of the item at the index without decoding the other strings
+     *
+     * @param index the index of item in the order of {@link #getItems()}
+     * @return the name of item
+     */
+    public String getItemName(int index) {
+        return getString(this.buffer.getInt(getItemOffsets()[index] + 1));
+    }
+
+    /**
+     * Decode the item at the index, a new {@link ItemMetadata} is returned on every call
+     *
+     * @param index the index of item in the order of {@link #getItems()}
+     * @return non-null
+     */
+    @Nonnull
+    public ItemMetadata getItem(int index) {
+        ByteBuffer buffer = this.buffer.duplicate();
+        buffer.position(getItemOffsets()[index]);
+        return readItem(buffer);
+    }
+
+    /**
+     * Get the hints, which are decoded on demand
+     *
+     * @return the read-only {@link List} of {@link ItemHint}
+     */
+    @Nonnull
+    public List<ItemHint> getHints() {
+        List<ItemHint> hints = this.hints;
+        if (hints == null) {
+            hints = unmodifiableList(decodeHints());
+            this.hints = hints;
+        }
+        return hints;
+    }
+
+    /**
+     * Create a new {@link ConfigurationMetadata} from the cache
+     *
+     * @return non-null
+     */
+    @Nonnull
+    public ConfigurationMetadata toConfigurationMetadata() {
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        getItems().forEach(metadata::add);
+        getHints().forEach(metadata::add);
+        return metadata;
+    }
+
+    private List<ItemMetadata> decodeItems() {
+        ByteBuffer buffer = this.buffer.duplicate();
+        buffer.position(this.itemsOffset);
+        int count = buffer.getInt();
+        List<ItemMetadata> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(readItem(buffer));
+        }
+        return items;
+    }
+
+    private ItemMetadata readItem(ByteBuffer buffer) {
+        boolean group = buffer.get() == 0;
+        String name = readString(buffer);
+        String type = readString(buffer);
+        String sourceType = readString(buffer);
+        String sourceMethod = readString(buffer);
+        if (group) {
+            ItemMetadata item = newGroup(name, type, sourceType, sourceMethod);
+            item.setDescription(readString(buffer));
+            return item;
+        }
+        String description = readString(buffer);
+        Object defaultValue = readValue(buffer);
+        ItemDeprecation deprecation = readDeprecation(buffer);
+        // The name has been built, thus it's used as the prefix without being dashed again
+        return newProperty(name, null, type, sourceType, sourceMethod, description, defaultValue, deprecation);
+    }
+
+    /**
+     * Get the offsets of the item records, which are resolved by skipping the records without decoding the strings
+     *
+     * @return non-null
+     */
+    private int[] getItemOffsets() {
+        int[] itemOffsets = this.itemOffsets;
+        if (itemOffsets == null) {
+            ByteBuffer buffer = this.buffer.duplicate();
+            buffer.position(this.itemsOffset);
+            itemOffsets = new int[buffer.getInt()];
+            for (int i = 0; i < itemOffsets.length; i++) {
+                itemOffsets[i] = buffer.position();
+                skipItem(buffer);
+            }
+            this.itemOffsets = itemOffsets;
+        }
+        return itemOffsets;
+    }
+
+    private void skipItem(ByteBuffer buffer) {
+        boolean group = buffer.get() == 0;
+        // name, type, source type, source method and description
+        buffer.position(buffer.position() + 5 * Integer.BYTES);
+        if (!group) {
+            skipValue(buffer);
+            if (buffer.get() != 0) {
+                // reason, replacement, level and since
+                buffer.position(buffer.position() + 4 * Integer.BYTES);
+            }
+        }
+    }
+
+    private void skipValue(ByteBuffer buffer) {
+        byte kind = buffer.get();
+        switch (kind) {
+            case STRING_VALUE:
+            case INTEGER_VALUE:
+                buffer.position(buffer.position() + Integer.BYTES);
+                break;
+            case BOOLEAN_VALUE:
+                buffer.position(buffer.position() + 1);
+                break;
+            case LONG_VALUE:
+            case DOUBLE_VALUE:
+                buffer.position(buffer.position() + Long.BYTES);
+                break;
+            case ARRAY_VALUE:
+                int length = buffer.getInt();
+                for (int i = 0; i < length; i++) {
+                    skipValue(buffer);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private List<ItemHint> decodeHints() {
+        ByteBuffer buffer = this.buffer.duplicate();
+        buffer.position(this.hintsOffset);
+        int count = buffer.getInt();
+        List<ItemHint> hints = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = readString(buffer);
+            int valuesCount = buffer.getInt();
+            List<ValueHint> values = new ArrayList<>(valuesCount);
+            for (int j = 0; j < valuesCount; j++) {
+                Object value = readValue(buffer);
+                values.add(new ValueHint(value, readString(buffer)));
+            }
+            int providersCount = buffer.getInt();
+            List<ValueProvider> providers = new ArrayList<>(providersCount);
+            for (int j = 0; j < providersCount; j++) {
+                String providerName = readString(buffer);
+                int parametersCount = buffer.getInt();
+                Map<String, Object> parameters = newLinkedHashMap(parametersCount);
+                for (int k = 0; k < parametersCount; k++) {
+                    String key = readString(buffer);
+                    parameters.put(key, readValue(buffer));
+                }
+                providers.add(new ValueProvider(providerName, parameters));
+            }
+            hints.add(new ItemHint(name, values, providers));
+        }
+        return hints;
+    }
+
+    @Nullable
+    private ItemDeprecation readDeprecation(ByteBuffer buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+        ItemDeprecation deprecation = new ItemDeprecation();
+        deprecation.setReason(readString(buffer));
+        deprecation.setReplacement(readString(buffer));
+        deprecation.setLevel(readString(buffer));
+        setSince(deprecation, readString(buffer));
+        return deprecation;
+    }
+
+    @Nullable
+    private Object readValue(ByteBuffer buffer) {
+        byte kind = buffer.get();
+        switch (kind) {
+            case STRING_VALUE:
+                return readString(buffer);
+            case BOOLEAN_VALUE:
+                return buffer.get() != 0;
+            case INTEGER_VALUE:
+                return buffer.getInt();
+            case LONG_VALUE:
+                return buffer.getLong();
+            case DOUBLE_VALUE:
+                return buffer.getDouble();
+            case ARRAY_VALUE:
+                Object[] values = new Object[buffer.getInt()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = readValue(buffer);
+                }
+                return values;
+            default:
+                return null;
+        }
+    }
+
+    @Nullable
+    private String readString(ByteBuffer buffer) {
+        return getString(buffer.getInt());
+    }
+
+    /**
+     * Get the string by the index, which is decoded on first use
+     *
+     * @param index the index of string
+     * @return <code>null</code> if the index is {@link #NULL_REFERENCE}
+     */
+    @Nullable
+    String getString(int index) {
+        if (index == NULL_REFERENCE) {
+            return null;
+        }
+        String string = this.strings[index];
+        if (string == null) {
+            int offset = this.stringsOffset + this.buffer.getInt(HEADER_SIZE + index * Integer.BYTES);
+            byte[] bytes = new byte[this.buffer.getInt(offset)];
+            this.buffer.get(offset + Integer.BYTES, bytes);
+            string = new String(bytes, UTF_8);
+            // The race is benign, the decoded strings are equal
+            this.strings[index] = string;
+        }
+        return string;
+    }
+
+    /**
+     * Get the "since" of {@link ItemDeprecation} if supported
+     *
+     * @param deprecation {@link ItemDeprecation}
+     * @return <code>null</code> if absent or unsupported
+     */
+    @Nullable
+    static String getSince(ItemDeprecation deprecation) {
+        return GET_SINCE_METHOD == null ? null : (String) invokeMethod(GET_SINCE_METHOD, deprecation);
+    }
+
+    /**
+     * Set the "since" of {@link ItemDeprecation} if supported
+     *
+     * @param deprecation {@link ItemDeprecation}
+     * @param since       the version since deprecated
+     */
+    static void setSince(ItemDeprecation deprecation, @Nullable String since) {
+        if (SET_SINCE_METHOD != null) {
+            invokeMethod(SET_SINCE_METHOD, deprecation, since);
+        }
+    }
+
+    /**
+     * Load the {@link ConfigurationMetadataCache} from the file by the memory mapping
+     *
+     * @param file the cache file
+     * @return non-null
+     * @throws IOException if the file can't be mapped, or is invalid, e.g, truncated or corrupted
+     */
+    @Nonnull
+    public static ConfigurationMetadataCache load(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), READ)) {
+            // The mapping remains valid after the channel is closed
+            ByteBuffer buffer = channel.map(READ_ONLY, 0, channel.size());
+            return new ConfigurationMetadataCache(file, buffer);
+        }
+    }
+
+    /**
+     * Write the {@link ConfigurationMetadata} into the file atomically
+     *
+     * @param metadata {@link ConfigurationMetadata}
+     * @param file     the cache file
+     * @throws IOException if the file can't be written
+     */
+    public static void write(ConfigurationMetadata metadata, File file) throws IOException {
+        Path path = file.toPath().toAbsolutePath();
+        Files.createDirectories(path.getParent());
+        Path tempPath = Files.createTempFile(path.getParent(), file.getName(), ".tmp");
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(tempPath)) {
+                new Encoder().encode(metadata, outputStream);
+            }
+            Files.move(tempPath, path, REPLACE_EXISTING, ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    /**
+     * The encoder of {@link ConfigurationMetadata}
+     */
+    static class Encoder {
+
+        private final Map<String, Integer> stringIndexes = newHashMap();
+
+        private final List<String> strings = new ArrayList<>();
+
+        void encode(ConfigurationMetadata metadata, OutputStream outputStream) throws IOException {
+            ByteArrayOutputStream itemsBytes = new ByteArrayOutputStream();
+            DataOutputStream items = new DataOutputStream(itemsBytes);
+            List<ItemMetadata> itemMetadataList = metadata.getItems();
+            items.writeInt(itemMetadataList.size());
+            for (ItemMetadata item : itemMetadataList) {
+                writeItem(item, items);
+            }
+
+            ByteArrayOutputStream hintsBytes = new ByteArrayOutputStream();
+            DataOutputStream hints = new DataOutputStream(hintsBytes);
+            List<ItemHint> itemHints = metadata.getHints();
+            hints.writeInt(itemHints.size());
+            for (ItemHint hint : itemHints) {
+                writeHint(hint, hints);
+            }
+
+            ByteArrayOutputStream stringsBytes = new ByteArrayOutputStream();
+            DataOutputStream strings = new DataOutputStream(stringsBytes);
+            int[] offsets = new int[this.strings.size()];
+            for (int i = 0; i < offsets.length; i++) {
+                offsets[i] = strings.size();
+                byte[] bytes = this.strings.get(i).getBytes(UTF_8);
+                strings.writeInt(bytes.length);
+                strings.write(bytes);
+            }
+
+            int itemsOffset = HEADER_SIZE + offsets.length * Integer.BYTES + stringsBytes.size();
+            int hintsOffset = itemsOffset + itemsBytes.size();
+
+            ByteArrayOutputStream contentBytes = new ByteArrayOutputStream();
+            DataOutputStream content = new DataOutputStream(contentBytes);
+            for (int offset : offsets) {
+                content.writeInt(offset);
+            }
+            stringsBytes.writeTo(content);
+            itemsBytes.writeTo(content);
+            hintsBytes.writeTo(content);
+            CRC32 crc32 = new CRC32();
+            crc32.update(contentBytes.toByteArray());
+
+            DataOutputStream output = new DataOutputStream(outputStream);
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt((int) crc32.getValue());
+            output.writeInt(itemsOffset);
+            output.writeInt(hintsOffset);
+            output.writeInt(offsets.length);
+            contentBytes.writeTo(output);
+            output.flush();
+        }
+
+        private void writeItem(ItemMetadata item, DataOutputStream output) throws IOException {
+            boolean group = item.isOfItemType(GROUP);
+            output.writeByte(group ? 0 : 1);
+            writeString(item.getName(), output);
+            writeString(item.getType(), output);
+            writeString(item.getSourceType(), output);
+            writeString(item.getSourceMethod(), output);
+            writeString(item.getDescription(), output);
+            if (!group) {
+                writeValue(item.getDefaultValue(), output);
+                writeDeprecation(item.getDeprecation(), output);
+            }
+        }
+
+        private void writeDeprecation(@Nullable ItemDeprecation deprecation, DataOutputStream output) throws IOException {
+            if (deprecation == null) {
+                output.writeByte(0);
+                return;
+            }
+            output.writeByte(1);
+            writeString(deprecation.getReason(), output);
+            writeString(deprecation.getReplacement(), output);
+            writeString(deprecation.getLevel(), output);
+            writeString(getSince(deprecation), output);
+        }
+
+        private void writeHint(ItemHint hint, DataOutputStream output) throws IOException {
+            writeString(hint.getName(), output);
+            List<ValueHint> values = hint.getValues();
+            output.writeInt(values.size());
+            for (ValueHint value : values) {
+                writeValue(value.getValue(), output);
+                writeString(value.getDescription(), output);
+            }
+            List<ValueProvider> providers = hint.getProviders();
+            output.writeInt(providers.size());
+            for (ValueProvider provider : providers) {
+                writeString(provider.getName(), output);
+                Map<String, Object> parameters = provider.getParameters();
+                output.writeInt(parameters.size());
+                for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+                    writeString(entry.getKey(), output);
+                    writeValue(entry.getValue(), output);
+                }
+            }
+        }
+
+        private void writeValue(@Nullable Object value, DataOutputStream output) throws IOException {
+            if (value == null) {
+                output.writeByte(NULL_VALUE);
+            } else if (value instanceof Boolean) {
+                output.writeByte(BOOLEAN_VALUE);
+                output.writeByte((Boolean) value ? 1 : 0);
+            } else if (value instanceof Integer) {
+                output.writeByte(INTEGER_VALUE);
+                output.writeInt((Integer) value);
+            } else if (value instanceof Long) {
+                output.writeByte(LONG_VALUE);
+                output.writeLong((Long) value);
+            } else if (value instanceof Number) {
+                output.writeByte(DOUBLE_VALUE);
+                output.writeDouble(((Number) value).doubleValue());
+            } else if (value instanceof Object[]) {
+                Object[] values = (Object[]) value;
+                output.writeByte(ARRAY_VALUE);
+                output.writeInt(values.length);
+                for (Object element : values) {
+                    writeValue(element, output);
+                }
+            } else {
+                output.writeByte(STRING_VALUE);
+                writeString(value.toString(), output);
+            }
+        }
+
+        private void writeString(@Nullable String value, DataOutputStream output) throws IOException {
+            if (value == null) {
+                output.writeInt(NULL_REFERENCE);
+                return;
+            }
+            Integer index = this.stringIndexes.get(value);
+            if (index == null) {
+                index = this.strings.size();
+                this.strings.add(value);
+                this.stringIndexes.put(value, index);
+            }
+            output.writeInt(index);
+        }
+    }
+}
@@ -0,0 +1,462 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.metadata;
+
+import io.microsphere.annotation.Nullable;
+import org.springframework.boot.configurationprocessor.metadata.ConfigurationMetadata;
+import org.springframework.boot.configurationprocessor.metadata.ItemDeprecation;
+import org.springframework.boot.configurationprocessor.metadata.ItemHint;
+import org.springframework.boot.configurationprocessor.metadata.ItemHint.ValueHint;
+import org.springframework.boot.configurationprocessor.metadata.ItemHint.ValueProvider;
+import org.springframework.boot.configurationprocessor.metadata.ItemMetadata;
+import org.springframework.boot.configurationprocessor.metadata.ItemMetadata.ItemType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static io.microsphere.collection.MapUtils.newLinkedHashMap;
+import static io.microsphere.spring.boot.context.properties.metadata.ConfigurationMetadataCache.setSince;
+import static java.lang.Character.isLetter;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.ItemType.GROUP;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.ItemType.PROPERTY;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.newGroup;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.newProperty;
+
+/**
+ * The streaming parser of "spring-configuration-metadata.json", which reads the characters once and creates the
+ * {@link ItemMetadata} and {@link ItemHint} directly, rather than building the whole JSON tree and the
+ * {@link String} of the resource like {@link org.springframework.boot.configurationprocessor.metadata.JsonMarshaller}
+ * does. The unknown members are skipped.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   try (InputStream inputStream = resource.getInputStream()) {
+ *       ConfigurationMetadata metadata = ConfigurationMetadataJsonParser.parse(inputStream);
+ *   }
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationMetadataReader
+ * @since 1.0.0
+ */
+final class ConfigurationMetadataJsonParser {
+
+    private static final int NONE = -2;
+
+    private static final int EOF = -1;
+
+    private final Reader reader;
+
+    private final StringBuilder buffer = new StringBuilder();
+
+    private int peeked = NONE;
+
+    ConfigurationMetadataJsonParser(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Parse the {@link ConfigurationMetadata} from the {@link InputStream} in UTF-8
+     *
+     * @param inputStream {@link InputStream}
+     * @return non-null
+     * @throws IOException if the content is not the valid JSON
+     */
+    static ConfigurationMetadata parse(InputStream inputStream) throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(inputStream, UTF_8));
+        return new ConfigurationMetadataJsonParser(reader).parse();
+    }
+
+    ConfigurationMetadata parse() throws IOException {
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        readObject(key -> {
+            switch (key) {
+                case "groups":
+                    readArray(() -> metadata.add(readItem(GROUP)));
+                    break;
+                case "properties":
+                    readArray(() -> metadata.add(readItem(PROPERTY)));
+                    break;
+                case "hints":
+                    readArray(() -> metadata.add(readHint()));
+                    break;
+                default:
+                    readValue();
+            }
+        });
+        return metadata;
+    }
+
+    private ItemMetadata readItem(ItemType itemType) throws IOException {
+        String[] fields = new String[5];
+        Object[] values = new Object[3];
+        readObject(key -> {
+            switch (key) {
+                case "name":
+                    fields[0] = readNullableString();
+                    break;
+                case "type":
+                    fields[1] = readNullableString();
+                    break;
+                case "sourceType":
+                    fields[2] = readNullableString();
+                    break;
+                case "sourceMethod":
+                    fields[3] = readNullableString();
+                    break;
+                case "description":
+                    fields[4] = readNullableString();
+                    break;
+                case "defaultValue":
+                    values[0] = readValue();
+                    break;
+                case "deprecation":
+                    values[1] = readDeprecation();
+                    break;
+                case "deprecated":
+                    values[2] = readValue();
+                    break;
+                default:
+                    readValue();
+            }
+        });
+        ItemDeprecation deprecation = (ItemDeprecation) values[1];
+        if (deprecation == null && Boolean.TRUE.equals(values[2])) {
+            deprecation = new ItemDeprecation();
+        }
+        if (itemType == GROUP) {
+            ItemMetadata item = newGroup(fields[0], fields[1], fields[2], fields[3]);
+            item.setDescription(fields[4]);
+            return item;
+        }
+        // The name has been built, thus it's used as the prefix without being dashed again
+        return newProperty(fields[0], null, fields[1], fields[2], fields[3], fields[4], values[0], deprecation);
+    }
+
+    @Nullable
+    private ItemDeprecation readDeprecation() throws IOException {
+        if (tryReadNull()) {
+            return null;
+        }
+        ItemDeprecation deprecation = new ItemDeprecation();
+        readObject(key -> {
+            switch (key) {
+                case "level":
+                    deprecation.setLevel(readNullableString());
+                    break;
+                case "reason":
+                    deprecation.setReason(readNullableString());
+                    break;
+                case "replacement":
+                    deprecation.setReplacement(readNullableString());
+                    break;
+                case "since":
+                    setSince(deprecation, readNullableString());
+                    break;
+                default:
+                    readValue();
+            }
+        });
+        return deprecation;
+    }
+
+    private ItemHint readHint() throws IOException {
+        String[] name = new String[1];
+        List<ValueHint> values = new ArrayList<>();
+        List<ValueProvider> providers = new ArrayList<>();
+        readObject(key -> {
+            switch (key) {
+                case "name":
+                    name[0] = readNullableString();
+                    break;
+                case "values":
+                    readArray(() -> values.add(readValueHint()));
+                    break;
+                case "providers":
+                    readArray(() -> providers.add(readValueProvider()));
+                    break;
+                default:
+                    readValue();
+            }
+        });
+        return new ItemHint(name[0], values, providers);
+    }
+
+    private ValueHint readValueHint() throws IOException {
+        Object[] members = new Object[2];
+        readObject(key -> {
+            switch (key) {
+                case "value":
+                    members[0] = readValue();
+                    break;
+                case "description":
+                    members[1] = readNullableString();
+                    break;
+                default:
+                    readValue();
+            }
+        });
+        return new ValueHint(members[0], (String) members[1]);
+    }
+
+    private ValueProvider readValueProvider() throws IOException {
+        String[] name = new String[1];
+        Map<String, Object> parameters = newLinkedHashMap();
+        readObject(key -> {
+            switch (key) {
+                case "name":
+                    name[0] = readNullableString();
+                    break;
+                case "parameters":
+                    readObject(parameterName -> parameters.put(parameterName, readValue()));
+                    break;
+                default:
+                    readValue();
+            }
+        });
+        return new ValueProvider(name[0], parameters);
+    }
+
+    private void readObject(MemberReader memberReader) throws IOException {
+        if (tryReadNull()) {
+            return;
+        }
+        expect('{');
+        if (tryConsume('}')) {
+            return;
+        }
+        do {
+            String key = readString();
+            expect(':');
+            memberReader.read(key);
+        } while (tryConsume(','));
+        expect('}');
+    }
+
+    private void readArray(ElementReader elementReader) throws IOException {
+        if (tryReadNull()) {
+            return;
+        }
+        expect('[');
+        if (tryConsume(']')) {
+            return;
+        }
+        do {
+            elementReader.read();
+        } while (tryConsume(','));
+        expect(']');
+    }
+
+    /**
+     * Read the value, the JSON array is read as {@link Object Object[]} and the JSON object is read as {@link Map}
+     * like {@link org.springframework.boot.configurationprocessor.metadata.JsonMarshaller} does
+     *
+     * @return the value
+     * @throws IOException if the value is invalid
+     */
+    @Nullable
+    Object readValue() throws IOException {
+        int c = peek();
+        switch (c) {
+            case '"':
+                return readString();
+            case '{':
+                Map<String, Object> map = newLinkedHashMap();
+                readObject(key -> map.put(key, readValue()));
+                return map;
+            case '[':
+                List<Object> list = new ArrayList<>();
+                readArray(() -> list.add(readValue()));
+                return list.toArray();
+            case 't':
+            case 'f':
+            case 'n':
+                return readLiteral();
+            default:
+                return readNumber();
+        }
+    }
+
+    @Nullable
+    private String readNullableString() throws IOException {
+        return tryReadNull() ? null : readString();
+    }
+
+    private String readString() throws IOException {
+        expect('"');
+        StringBuilder buffer = this.buffer;
+        buffer.setLength(0);
+        for (int c = read(); c != '"'; c = read()) {
+            if (c == EOF) {
+                throw syntaxError("Unterminated string", c);
+            }
+            if (c == '\\') {
+                c = read();
+                switch (c) {
+                    case 'b':
+                        buffer.append('\b');
+                        break;
+                    case 'f':
+                        buffer.append('\f');
+                        break;
+                    case 'n':
+                        buffer.append('\n');
+                        break;
+                    case 'r':
+                        buffer.append('\r');
+                        break;
+                    case 't':
+                        buffer.append('\t');
+                        break;
+                    case 'u':
+                        char[] hex = new char[4];
+                        for (int i = 0; i < hex.length; i++) {
+                            hex[i] = (char) read();
+                        }
+                        buffer.append((char) Integer.parseInt(new String(hex), 16));
+                        break;
+                    case '"':
+                    case '\\':
+                    case '/':
+                        buffer.append((char) c);
+                        break;
+                    default:
+                        throw syntaxError("Invalid escape", c);
+                }
+            } else {
+                buffer.append((char) c);
+            }
+        }
+        return buffer.toString();
+    }
+
+    @Nullable
+    private Object readLiteral() throws IOException {
+        StringBuilder buffer = this.buffer;
+        buffer.setLength(0);
+        int c = nextClean();
+        while (c != EOF && isLetter(c)) {
+            buffer.append((char) c);
+            c = read();
+        }
+        this.peeked = c;
+        String literal = buffer.toString();
+        switch (literal) {
+            case "true":
+                return Boolean.TRUE;
+            case "false":
+                return Boolean.FALSE;
+            case "null":
+                return null;
+            default:
+                throw new IOException("Invalid literal : " + literal);
+        }
+    }
+
+    private Number readNumber() throws IOException {
+        StringBuilder buffer = this.buffer;
+        buffer.setLength(0);
+        int c = nextClean();
+        boolean decimal = false;
+        while ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+            decimal |= c == '.' || c == 'e' || c == 'E';
+            buffer.append((char) c);
+            c = read();
+        }
+        this.peeked = c;
+        if (buffer.length() == 0) {
+            throw syntaxError("Unexpected character", c);
+        }
+        String number = buffer.toString();
+        try {
+            if (decimal) {
+                return Double.valueOf(number);
+            }
+            long value = Long.parseLong(number);
+            return value == (int) value ? (Number) (int) value : (Number) value;
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid number : " + number, e);
+        }
+    }
+
+    private boolean tryReadNull() throws IOException {
+        if (peek() == 'n') {
+            readLiteral();
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char expected) throws IOException {
+        int c = nextClean();
+        if (c != expected) {
+            throw syntaxError("Expected '" + expected + "'", c);
+        }
+    }
+
+    private boolean tryConsume(char expected) throws IOException {
+        if (peek() == expected) {
+            this.peeked = NONE;
+            return true;
+        }
+        return false;
+    }
+
+    private int peek() throws IOException {
+        int c = nextClean();
+        this.peeked = c;
+        return c;
+    }
+
+    private int nextClean() throws IOException {
+        int c;
+        do {
+            c = read();
+        } while (c == ' ' || c == '\n' || c == '\r' || c == '\t');
+        return c;
+    }
+
+    private int read() throws IOException {
+        int c = this.peeked;
+        if (c != NONE) {
+            this.peeked = NONE;
+            return c;
+        }
+        return this.reader.read();
+    }
+
+    private IOException syntaxError(String message, int c) {
+        return new IOException(message + " , but was " + (c == EOF ? "EOF" : "'" + (char) c + "'"));
+    }
+
+    private interface MemberReader {
+
+        void read(String key) throws IOException;
+    }
+
+    private interface ElementReader {
+
+        void read() throws IOException;
+    }
+}
@@ -16,18 +16,51 @@
  */
 package io.microsphere.spring.boot.context.properties.metadata;
 
+import io.microsphere.annotation.ConfigurationProperty;
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
 import io.microsphere.logging.Logger;
 import org.springframework.boot.configurationprocessor.metadata.ConfigurationMetadata;
-import org.springframework.boot.configurationprocessor.metadata.JsonMarshaller;
+import org.springframework.context.EnvironmentAware;
 import org.springframework.context.ResourceLoaderAware;
+import org.springframework.core.env.Environment;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
 
+import static io.microsphere.annotation.ConfigurationProperty.APPLICATION_SOURCE;
+import static io.microsphere.collection.MapUtils.newLinkedHashMap;
 import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.spring.boot.constants.PropertyConstants.MICROSPHERE_SPRING_BOOT_PROPERTY_NAME_PREFIX;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Runtime.getRuntime;
+import static java.lang.System.currentTimeMillis;
+import static java.lang.System.nanoTime;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.sort;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Comparator.comparingLong;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.springframework.core.io.support.ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX;
 
 /**
@@ -38,11 +71,23 @@ import static org.springframework.core.io.support.ResourcePatternResolver.CLASSP
  * reader.setResourceLoader(resourceLoader); // Optional, will use default if not set
  * ConfigurationMetadata metadata = reader.read();
  * }</pre>
+ * <p>
+ * If {@link #CACHE_ENABLED_PROPERTY_NAME enabled}, the merged {@link ConfigurationMetadata} is cached in the
+ * {@link #CACHE_DIRECTORY_PROPERTY_NAME directory} by {@link ConfigurationMetadataCache}, which is keyed by the URLs of
+ * metadata resources and the modification times of their JAR files, thus the JSON resources are parsed only if the
+ * class path was changed. The cache can also be {@link #readCache() read} as is, whose items are decoded on demand
+ * rather than all at once. The invalid cache file is deleted and the JSON resources are parsed instead, and only the
+ * {@link #CACHE_MAX_FILES_PROPERTY_NAME most recently used} cache files are kept in the directory.
+ * <p>
+ * The JSON resources are parsed by {@link ConfigurationMetadataJsonParser streaming} in parallel on the bounded pool
+ * whose size is {@link #PARALLELISM_PROPERTY_NAME configurable}, the results are merged in the order of resources, and
+ * the parse time of each resource is {@link #getResourceParseNanos() recorded} to find the oversized metadata.
  *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationMetadataCache
  * @since 1.0.0
  */
-public class ConfigurationMetadataReader implements ResourceLoaderAware {
+public class ConfigurationMetadataReader implements ResourceLoaderAware, EnvironmentAware {
 
     private static final Logger logger = getLogger(ConfigurationMetadataReader.class);
 
@@ -50,8 +95,79 @@ public class ConfigurationMetadataReader implements ResourceLoaderAware {
 
     public static final String ADDITIONAL_METADATA_PATH = CLASSPATH_ALL_URL_PREFIX + "/META-INF/additional-spring-configuration-metadata.json";
 
+    /**
+     * The property name prefix of the configuration metadata cache : "microsphere.spring.boot.configuration-metadata.cache."
+     */
+    public static final String CACHE_PROPERTY_NAME_PREFIX = MICROSPHERE_SPRING_BOOT_PROPERTY_NAME_PREFIX + "configuration-metadata.cache.";
+
+    @ConfigurationProperty(
+            type = boolean.class,
+            defaultValue = "false",
+            description = "The property to enable the binary cache of the merged configuration metadata",
+            source = APPLICATION_SOURCE
+    )
+    public static final String CACHE_ENABLED_PROPERTY_NAME = CACHE_PROPERTY_NAME_PREFIX + "enabled";
+
+    /**
+     * The default directory of the configuration metadata cache
+     */
+    public static final String DEFAULT_CACHE_DIRECTORY = "${user.home}/.microsphere/metadata";
+
+    @ConfigurationProperty(
+            defaultValue = DEFAULT_CACHE_DIRECTORY,
+            description = "The property to specify the directory of the configuration metadata cache",
+            source = APPLICATION_SOURCE
+    )
+    public static final String CACHE_DIRECTORY_PROPERTY_NAME = CACHE_PROPERTY_NAME_PREFIX + "directory";
+
+    /**
+     * The prefix of the cache file name
+     */
+    public static final String CACHE_FILE_NAME_PREFIX = "configuration-metadata-";
+
+    /**
+     * The suffix of the cache file name
+     */
+    public static final String CACHE_FILE_NAME_SUFFIX = ".cache";
+
+    /**
+     * The default max count of the cache files in the directory
+     */
+    public static final int DEFAULT_CACHE_MAX_FILES = 3;
+
+    @ConfigurationProperty(
+            type = int.class,
+            defaultValue = "" + DEFAULT_CACHE_MAX_FILES,
+            description = "The property to specify the max count of the configuration metadata cache files in the directory, " +
+                    "the least recently used ones are deleted when a new one is written",
+            source = APPLICATION_SOURCE
+    )
+    public static final String CACHE_MAX_FILES_PROPERTY_NAME = CACHE_PROPERTY_NAME_PREFIX + "max-files";
+
+    @ConfigurationProperty(
+            type = int.class,
+            description = "The property to specify the max count of threads to parse the configuration metadata resources, " +
+                    "the default value is the count of available processors",
+            source = APPLICATION_SOURCE
+    )
+    public static final String PARALLELISM_PROPERTY_NAME = MICROSPHERE_SPRING_BOOT_PROPERTY_NAME_PREFIX + "configuration-metadata.parallelism";
+
+    /**
+     * The thread name prefix of the parsing pool
+     */
+    public static final String THREAD_NAME_PREFIX = "configuration-metadata-reader-";
+
     private ResourcePatternResolver resourcePatternResolver;
 
+    private int parallelism = getRuntime().availableProcessors();
+
+    private volatile Map<String, Long> resourceParseNanos = emptyMap();
+
+    @Nullable
+    private File cacheDirectory;
+
+    private int cacheMaxFiles = DEFAULT_CACHE_MAX_FILES;
+
     /**
      * Reads and merges all Spring Boot configuration metadata from classpath resources,
      * including both standard and additional metadata files.
@@ -67,32 +183,238 @@ public class ConfigurationMetadataReader implements ResourceLoaderAware {
      * @return a merged {@link ConfigurationMetadata} instance containing all discovered metadata
      */
     public ConfigurationMetadata read() {
+        Resource[] metadataResources = getResources(METADATA_PATH);
+        Resource[] additionalMetadataResources = getResources(ADDITIONAL_METADATA_PATH);
+        File cacheFile = resolveCacheFile(metadataResources, additionalMetadataResources);
+        ConfigurationMetadataCache cache = loadCache(cacheFile);
+        if (cache != null) {
+            try {
+                ConfigurationMetadata metadata = cache.toConfigurationMetadata();
+                this.resourceParseNanos = emptyMap();
+                return metadata;
+            } catch (RuntimeException e) {
+                logger.warn("The configuration metadata cache['{}'] can't be decoded, the JSON resources will be parsed", cacheFile, e);
+                deleteCacheFile(cacheFile);
+            }
+        }
+        return readMetadata(metadataResources, additionalMetadataResources, cacheFile);
+    }
+
+    /**
+     * Reads the {@link ConfigurationMetadataCache} of all Spring Boot configuration metadata, the JSON resources are
+     * parsed and cached on the cache miss. Unlike {@link #read()}, the items of the cache are not decoded until they
+     * are requested. The cache file is verified on loading, if it's invalid, it will be deleted and the JSON resources
+     * will be parsed and cached again.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   ConfigurationMetadataReader reader = new ConfigurationMetadataReader();
+     *   ConfigurationMetadataCache cache = reader.readCache();
+     *   if (cache != null) {
+     *       ItemMetadata item = cache.getItem(0);
+     *   }
+     * }</pre>
+     *
+     * @return {@code null} if the cache is disabled or can't be written, then {@link #read()} should be used instead
+     */
+    @Nullable
+    public ConfigurationMetadataCache readCache() {
+        Resource[] metadataResources = getResources(METADATA_PATH);
+        Resource[] additionalMetadataResources = getResources(ADDITIONAL_METADATA_PATH);
+        File cacheFile = resolveCacheFile(metadataResources, additionalMetadataResources);
+        if (cacheFile == null) {
+            return null;
+        }
+        ConfigurationMetadataCache cache = loadCache(cacheFile);
+        if (cache == null) {
+            readMetadata(metadataResources, additionalMetadataResources, cacheFile);
+            cache = loadCache(cacheFile);
+        } else {
+            this.resourceParseNanos = emptyMap();
+        }
+        return cache;
+    }
+
+    @Nullable
+    private ConfigurationMetadataCache loadCache(@Nullable File cacheFile) {
+        if (cacheFile != null && cacheFile.isFile()) {
+            try {
+                ConfigurationMetadataCache cache = ConfigurationMetadataCache.load(cacheFile);
+                // Mark the cache file as recently used, which is kept on the eviction
+                cacheFile.setLastModified(currentTimeMillis());
+                return cache;
+            } catch (Exception e) {
+                logger.warn("The configuration metadata cache['{}'] can't be read, the JSON resources will be parsed", cacheFile, e);
+                deleteCacheFile(cacheFile);
+            }
+        }
+        return null;
+    }
+
+    private void deleteCacheFile(File cacheFile) {
+        if (!cacheFile.delete() && cacheFile.exists()) {
+            logger.warn("The invalid configuration metadata cache['{}'] can't be deleted", cacheFile);
+        }
+    }
+
+    private ConfigurationMetadata readMetadata(@Nullable Resource[] metadataResources,
+                                               @Nullable Resource[] additionalMetadataResources, @Nullable File cacheFile) {
         ConfigurationMetadata metadata = new ConfigurationMetadata();
-        readMetadata(metadata, METADATA_PATH);
-        readMetadata(metadata, ADDITIONAL_METADATA_PATH);
+        boolean completed = metadataResources != null && additionalMetadataResources != null;
+        List<Resource> resources = new ArrayList<>();
+        addResources(resources, metadataResources);
+        addResources(resources, additionalMetadataResources);
+        completed &= readMetadata(metadata, resources);
+        if (completed && cacheFile != null) {
+            writeCache(metadata, cacheFile);
+        }
         return metadata;
     }
 
-    private void readMetadata(ConfigurationMetadata metadata, String locationPattern) {
+    @Nullable
+    private Resource[] getResources(String locationPattern) {
         ResourcePatternResolver resourcePatternResolver = getResourcePatternResolver();
         try {
-            Resource[] resources = resourcePatternResolver.getResources(locationPattern);
-            for (Resource resource : resources) {
-                readMetadata(metadata, resource);
-            }
+            return resourcePatternResolver.getResources(locationPattern);
         } catch (Exception e) {
             logger.error("The configuration metadata resource pattern['{}'] can't be read", locationPattern, e);
         }
+        return null;
+    }
+
+    private void addResources(List<Resource> resources, @Nullable Resource[] resourcesArray) {
+        if (resourcesArray != null) {
+            for (Resource resource : resourcesArray) {
+                resources.add(resource);
+            }
+        }
+    }
+
+    /**
+     * Parse the resources in parallel, and merge the results into the {@link ConfigurationMetadata} in the order of
+     * resources, thus the additional metadata always overrides the others.
+     *
+     * @param metadata  the merged {@link ConfigurationMetadata}
+     * @param resources the resources
+     * @return <code>true</code> if all resources were parsed
+     */
+    boolean readMetadata(ConfigurationMetadata metadata, List<Resource> resources) {
+        int size = resources.size();
+        // The slots are written by the parsing threads, and are read after Future#get(), no lock is required
+        long[] parseNanos = new long[size];
+        List<Future<ConfigurationMetadata>> futures = new ArrayList<>(size);
+        int threads = min(this.parallelism, size);
+        ExecutorService executorService = threads > 1 ? newFixedThreadPool(threads, newThreadFactory()) : null;
+        try {
+            for (int i = 0; i < size; i++) {
+                int index = i;
+                Resource resource = resources.get(i);
+                Callable<ConfigurationMetadata> task = () -> readMetadata(resource, parseNanos, index);
+                futures.add(executorService == null ? completedFuture(task) : executorService.submit(task));
+            }
+            boolean completed = true;
+            Map<String, Long> resourceParseNanos = newLinkedHashMap(size);
+            for (int i = 0; i < size; i++) {
+                Resource resource = resources.get(i);
+                try {
+                    metadata.merge(futures.get(i).get());
+                    resourceParseNanos.put(getResourceName(resource), parseNanos[i]);
+                } catch (ExecutionException e) {
+                    completed = false;
+                    logger.error("The configuration metadata resource['{}'] can't be read", resource, e.getCause());
+                }
+            }
+            this.resourceParseNanos = sortByValueDescending(resourceParseNanos);
+            return completed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("The configuration metadata resources reading was interrupted", e);
+        } finally {
+            if (executorService != null) {
+                executorService.shutdownNow();
+            }
+        }
+        return false;
     }
 
-    private void readMetadata(ConfigurationMetadata metadata, Resource resource) throws Exception {
-        JsonMarshaller jsonMarshaller = new JsonMarshaller();
+    private ConfigurationMetadata readMetadata(Resource resource, long[] parseNanos, int index) throws IOException {
+        long startTime = nanoTime();
         try (InputStream inputStream = resource.getInputStream()) {
-            ConfigurationMetadata resourceMetadata = jsonMarshaller.read(inputStream);
-            metadata.merge(resourceMetadata);
+            return ConfigurationMetadataJsonParser.parse(inputStream);
+        } finally {
+            long elapsed = nanoTime() - startTime;
+            parseNanos[index] = elapsed;
+            if (logger.isDebugEnabled()) {
+                logger.debug("The configuration metadata resource['{}'] was parsed in {} ns", resource, elapsed);
+            }
         }
     }
 
+    private static Future<ConfigurationMetadata> completedFuture(Callable<ConfigurationMetadata> task) {
+        FutureTask<ConfigurationMetadata> future = new FutureTask<>(task);
+        future.run();
+        return future;
+    }
+
+    private static ThreadFactory newThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    private static Map<String, Long> sortByValueDescending(Map<String, Long> map) {
+        Map<String, Long> sortedMap = newLinkedHashMap(map.size());
+        map.entrySet().stream()
+                .sorted(comparingLong(Map.Entry<String, Long>::getValue).reversed())
+                .forEach(entry -> sortedMap.put(entry.getKey(), entry.getValue()));
+        return unmodifiableMap(sortedMap);
+    }
+
+    static String getResourceName(Resource resource) {
+        try {
+            return resource.getURL().toString();
+        } catch (IOException e) {
+            return resource.getDescription();
+        }
+    }
+
+    /**
+     * Returns the parse times of the configuration metadata resources in the last {@link #read() reading}, which is
+     * empty if the metadata was read from the cache.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   ConfigurationMetadataReader reader = new ConfigurationMetadataReader();
+     *   reader.read();
+     *   reader.getResourceParseNanos().forEach((url, nanos) -> System.out.println(url + " : " + nanos + " ns"));
+     * }</pre>
+     *
+     * @return the read-only {@link Map} which key is the URL of resource and value is the parse time in nanoseconds,
+     * sorted by the parse time descending
+     */
+    @Nonnull
+    public Map<String, Long> getResourceParseNanos() {
+        return this.resourceParseNanos;
+    }
+
+    /**
+     * Sets the max count of threads to parse the configuration metadata resources.
+     *
+     * @param parallelism the max count of threads, the resources are parsed in the caller thread if it's less than 2
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = max(1, parallelism);
+    }
+
+    /**
+     * Returns the max count of threads to parse the configuration metadata resources.
+     *
+     * @return the positive count
+     */
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
     /**
      * Sets the {@link ResourceLoader} used to resolve configuration metadata resources.
      * If the provided loader is a {@link ResourcePatternResolver}, it is used directly;
@@ -115,6 +437,138 @@ public class ConfigurationMetadataReader implements ResourceLoaderAware {
         }
     }
 
+    /**
+     * Resolves the parallelism, the cache directory and the max count of cache files from the {@link Environment}.
+     *
+     * @param environment the {@link Environment}
+     * @see #PARALLELISM_PROPERTY_NAME
+     * @see #CACHE_ENABLED_PROPERTY_NAME
+     * @see #CACHE_DIRECTORY_PROPERTY_NAME
+     * @see #CACHE_MAX_FILES_PROPERTY_NAME
+     */
+    @Override
+    public void setEnvironment(Environment environment) {
+        setParallelism(environment.getProperty(PARALLELISM_PROPERTY_NAME, Integer.class, getRuntime().availableProcessors()));
+        setCacheMaxFiles(environment.getProperty(CACHE_MAX_FILES_PROPERTY_NAME, Integer.class, DEFAULT_CACHE_MAX_FILES));
+        if (environment.getProperty(CACHE_ENABLED_PROPERTY_NAME, Boolean.class, false)) {
+            String directory = environment.getProperty(CACHE_DIRECTORY_PROPERTY_NAME, DEFAULT_CACHE_DIRECTORY);
+            setCacheDirectory(new File(environment.resolvePlaceholders(directory)));
+        } else {
+            setCacheDirectory(null);
+        }
+    }
+
+    /**
+     * Sets the directory of the configuration metadata cache.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   ConfigurationMetadataReader reader = new ConfigurationMetadataReader();
+     *   reader.setCacheDirectory(new File("/tmp/metadata"));
+     *   reader.setCacheDirectory(null); // disable the cache
+     * }</pre>
+     *
+     * @param cacheDirectory the cache directory, or {@code null} to disable the cache
+     */
+    public void setCacheDirectory(@Nullable File cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * Returns the directory of the configuration metadata cache.
+     *
+     * @return {@code null} if the cache is disabled, which is the default
+     */
+    @Nullable
+    public File getCacheDirectory() {
+        return this.cacheDirectory;
+    }
+
+    /**
+     * Sets the max count of the cache files in the directory, the least recently used ones are deleted when a new one
+     * is written.
+     *
+     * @param cacheMaxFiles the max count of the cache files, at least 1
+     */
+    public void setCacheMaxFiles(int cacheMaxFiles) {
+        this.cacheMaxFiles = max(1, cacheMaxFiles);
+    }
+
+    /**
+     * Returns the max count of the cache files in the directory.
+     *
+     * @return the positive count
+     */
+    public int getCacheMaxFiles() {
+        return this.cacheMaxFiles;
+    }
+
+    /**
+     * Resolves the cache file keyed by the URLs of the resources and their modification times.
+     *
+     * @param resourcesArray the arrays of resources
+     * @return {@code null} if the cache is disabled or the key can't be resolved
+     */
+    @Nullable
+    File resolveCacheFile(Resource[]... resourcesArray) {
+        File cacheDirectory = this.cacheDirectory;
+        if (cacheDirectory == null) {
+            return null;
+        }
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            for (Resource[] resources : resourcesArray) {
+                if (resources == null) {
+                    return null;
+                }
+                for (Resource resource : resources) {
+                    // The modification time of JAR file if the resource is the JAR entry
+                    String key = resource.getURL() + "@" + resource.lastModified() + "\n";
+                    messageDigest.update(key.getBytes(UTF_8));
+                }
+                messageDigest.update((byte) 0);
+            }
+            String hash = HexFormat.of().formatHex(messageDigest.digest(), 0, 16);
+            return new File(cacheDirectory, CACHE_FILE_NAME_PREFIX + hash + CACHE_FILE_NAME_SUFFIX);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            logger.warn("The key of configuration metadata cache can't be resolved, the cache will be skipped", e);
+        }
+        return null;
+    }
+
+    private void writeCache(ConfigurationMetadata metadata, File cacheFile) {
+        try {
+            ConfigurationMetadataCache.write(metadata, cacheFile);
+        } catch (IOException e) {
+            logger.warn("The configuration metadata cache['{}'] can't be written", cacheFile, e);
+            return;
+        }
+        evictCacheFiles(cacheFile.getParentFile());
+    }
+
+    /**
+     * Deletes the least recently used cache files in the directory beyond the {@link #getCacheMaxFiles() max count},
+     * e.g, the ones keyed by the former class paths.
+     *
+     * @param cacheDirectory the cache directory
+     */
+    void evictCacheFiles(File cacheDirectory) {
+        File[] cacheFiles = cacheDirectory.listFiles((dir, name) ->
+                name.startsWith(CACHE_FILE_NAME_PREFIX) && name.endsWith(CACHE_FILE_NAME_SUFFIX));
+        if (cacheFiles == null || cacheFiles.length <= this.cacheMaxFiles) {
+            return;
+        }
+        sort(cacheFiles, comparingLong(File::lastModified).reversed());
+        for (int i = this.cacheMaxFiles; i < cacheFiles.length; i++) {
+            File cacheFile = cacheFiles[i];
+            if (cacheFile.delete()) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("The stale configuration metadata cache['{}'] was evicted", cacheFile);
+                }
+            }
+        }
+    }
+
     /**
      * Returns the {@link ResourcePatternResolver} used to locate configuration metadata resources.
      * If none has been set via {@link #setResourceLoader(ResourceLoader)}, a default
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.diagnostics;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static io.microsphere.collection.CollectionUtils.size;
+import static io.microsphere.spring.boot.diagnostics.DiagnosisMode.DISABLED;
+import static java.lang.System.nanoTime;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The latest results of the collision diagnoses of an application, which is registered as a singleton bean named
+ * {@link #BEAN_NAME} by {@link ArtifactsCollisionDiagnosisListener} and {@link ClassCollisionDiagnosisListener}
+ * once any diagnosis is enabled, and then may be exposed to the health indicators and the metrics.
+ * <p>
+ * The results are published safely across the threads, because the diagnoses in {@link DiagnosisMode#BACKGROUND}
+ * mode complete in the background, which could be {@link #await(long, TimeUnit) awaited}.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * ArtifactsCollisionDiagnosis diagnosis = ArtifactsCollisionDiagnosis.get(context);
+ * if (diagnosis.isCompleted() && diagnosis.hasCollisions()) {
+ *     System.err.println("Artifacts collision : " + diagnosis.getArtifacts());
+ * }
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ArtifactsCollisionDiagnosisListener
+ * @see ClassCollisionDiagnosisListener
+ * @since 1.0.0
+ */
+public class ArtifactsCollisionDiagnosis {
+
+    /**
+     * The bean name of {@link ArtifactsCollisionDiagnosis} : "artifactsCollisionDiagnosis"
+     */
+    public static final String BEAN_NAME = "artifactsCollisionDiagnosis";
+
+    private volatile DiagnosisMode artifactsMode = DISABLED;
+
+    private volatile DiagnosisMode classesMode = DISABLED;
+
+    @Nullable
+    private volatile Set<String> artifacts;
+
+    @Nullable
+    private volatile ClassCollisionReport classCollisionReport;
+
+    @Nullable
+    private volatile Throwable failure;
+
+    /**
+     * Get the mode of the artifacts collision diagnosis.
+     *
+     * @return non-null
+     */
+    @Nonnull
+    public DiagnosisMode getArtifactsMode() {
+        return this.artifactsMode;
+    }
+
+    /**
+     * Get the mode of the classes collision diagnosis.
+     *
+     * @return non-null
+     */
+    @Nonnull
+    public DiagnosisMode getClassesMode() {
+        return this.classesMode;
+    }
+
+    /**
+     * Get the identifiers of the colliding artifacts, e.g, "groupId:artifactId".
+     *
+     * @return {@code null} if the artifacts collision diagnosis is not completed
+     */
+    @Nullable
+    public Set<String> getArtifacts() {
+        return this.artifacts;
+    }
+
+    /**
+     * Get the report of the classes collision diagnosis.
+     *
+     * @return {@code null} if the classes collision diagnosis is not completed
+     */
+    @Nullable
+    public ClassCollisionReport getClassCollisionReport() {
+        return this.classCollisionReport;
+    }
+
+    /**
+     * Get the failure of the diagnoses.
+     *
+     * @return {@code null} if no diagnosis failed
+     */
+    @Nullable
+    public Throwable getFailure() {
+        return this.failure;
+    }
+
+    /**
+     * Whether all enabled diagnoses are completed or any of them failed.
+     *
+     * @return <code>true</code> if completed
+     */
+    public boolean isCompleted() {
+        if (this.failure != null) {
+            return true;
+        }
+        return (this.artifactsMode == DISABLED || this.artifacts != null)
+                && (this.classesMode == DISABLED || this.classCollisionReport != null);
+    }
+
+    /**
+     * Wait for all enabled diagnoses to complete or any of them to fail.
+     *
+     * @param timeout the max time to wait
+     * @param unit    the {@link TimeUnit} of timeout
+     * @return <code>true</code> if {@link #isCompleted() completed}, <code>false</code> if the time elapsed
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public synchronized boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = nanoTime() + unit.toNanos(timeout);
+        while (!isCompleted()) {
+            long remaining = deadline - nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+    }
+
+    /**
+     * Whether any collision has been detected.
+     *
+     * @return <code>true</code> if any collision has been detected
+     */
+    public boolean hasCollisions() {
+        return getArtifactsCollisionCount() > 0 || getDuplicateClassCount() > 0 || getSplitPackageCount() > 0;
+    }
+
+    /**
+     * Get the count of the colliding artifacts.
+     *
+     * @return zero if the artifacts collision diagnosis is not completed
+     */
+    public int getArtifactsCollisionCount() {
+        return size(this.artifacts);
+    }
+
+    /**
+     * Get the count of the duplicate classes.
+     *
+     * @return zero if the classes collision diagnosis is not completed
+     */
+    public int getDuplicateClassCount() {
+        ClassCollisionReport report = this.classCollisionReport;
+        return report == null ? 0 : report.getDuplicateClasses().size();
+    }
+
+    /**
+     * Get the count of the split packages.
+     *
+     * @return zero if the classes collision diagnosis is not completed
+     */
+    public int getSplitPackageCount() {
+        ClassCollisionReport report = this.classCollisionReport;
+        return report == null ? 0 : report.getSplitPackages().size();
+    }
+
+    synchronized void setArtifactsMode(DiagnosisMode artifactsMode) {
+        this.artifactsMode = artifactsMode;
+        notifyAll();
+    }
+
+    synchronized void setClassesMode(DiagnosisMode classesMode) {
+        this.classesMode = classesMode;
+        notifyAll();
+    }
+
+    synchronized void setArtifacts(Set<String> artifacts) {
+        this.artifacts = unmodifiableSet(artifacts);
+        notifyAll();
+    }
+
+    synchronized void setClassCollisionReport(ClassCollisionReport classCollisionReport) {
+        this.classCollisionReport = classCollisionReport;
+        notifyAll();
+    }
+
+    synchronized void setFailure(Throwable failure) {
+        this.failure = failure;
+        notifyAll();
+    }
+
+    /**
+     * Get the {@link ArtifactsCollisionDiagnosis} of the specified {@link ConfigurableApplicationContext}, it will be
+     * registered as a singleton bean named {@link #BEAN_NAME} if absent.
+     *
+     * @param context {@link ConfigurableApplicationContext}
+     * @return non-null
+     */
+    @Nonnull
+    public static ArtifactsCollisionDiagnosis get(ConfigurableApplicationContext context) {
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+        synchronized (beanFactory) {
+            Object singleton = beanFactory.getSingleton(BEAN_NAME);
+            if (singleton instanceof ArtifactsCollisionDiagnosis diagnosis) {
+                return diagnosis;
+            }
+            ArtifactsCollisionDiagnosis diagnosis = new ArtifactsCollisionDiagnosis();
+            beanFactory.registerSingleton(BEAN_NAME, diagnosis);
+            return diagnosis;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ArtifactsCollisionDiagnosis{" +
+                "artifactsMode=" + this.artifactsMode +
+                ", classesMode=" + this.classesMode +
+                ", artifacts=" + this.artifacts +
+                ", classCollisionReport=" + this.classCollisionReport +
+                ", failure=" + this.failure +
+                '}';
+    }
+}
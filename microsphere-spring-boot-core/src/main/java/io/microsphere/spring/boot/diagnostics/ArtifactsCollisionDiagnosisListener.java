@@ -2,11 +2,13 @@ package io.microsphere.spring.boot.diagnostics;
 
 import io.microsphere.annotation.ConfigurationProperty;
 import io.microsphere.classloading.Artifact;
-import io.microsphere.classloading.ArtifactDetector;
 import io.microsphere.classloading.MavenArtifact;
 import io.microsphere.logging.Logger;
+import io.microsphere.spring.boot.classloading.ArtifactRegistry;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.context.event.ApplicationContextInitializedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.SpringApplicationEvent;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.env.ConfigurableEnvironment;
@@ -24,14 +26,26 @@ import static io.microsphere.collection.SetUtils.newLinkedHashSet;
 import static io.microsphere.constants.SeparatorConstants.LINE_SEPARATOR;
 import static io.microsphere.logging.LoggerFactory.getLogger;
 import static io.microsphere.spring.boot.constants.PropertyConstants.MICROSPHERE_SPRING_BOOT_PROPERTY_NAME_PREFIX;
+import static io.microsphere.spring.boot.diagnostics.DiagnosisMode.BACKGROUND;
+import static io.microsphere.spring.boot.diagnostics.DiagnosisMode.DISABLED;
+import static io.microsphere.spring.boot.diagnostics.DiagnosisMode.FAIL_FAST;
 import static io.microsphere.spring.boot.util.SpringApplicationUtils.getResourceLoader;
+import static java.lang.Thread.MIN_PRIORITY;
 
 /**
  * {@link ApplicationListener} to detect and diagnose artifacts collision in the application classpath.
  * <p>
- * This listener will be triggered when {@link ApplicationContextInitializedEvent} is published,
- * and it will scan all artifacts in the classpath to detect if there are any duplicate artifacts
- * (same group ID and artifact ID) existing.
+ * This listener will scan all artifacts in the classpath to detect if there are any duplicate artifacts
+ * (same group ID and artifact ID) existing, which runs in the {@link #MODE_PROPERTY_NAME configured} mode :
+ * <ul>
+ *     <li>{@link DiagnosisMode#FAIL_FAST} : diagnosed when {@link ApplicationContextInitializedEvent} is published,
+ *     the {@link ArtifactsCollisionException} is thrown if any collision is detected</li>
+ *     <li>{@link DiagnosisMode#BACKGROUND} : diagnosed in a low-priority daemon thread after
+ *     {@link ApplicationReadyEvent} is published, the collisions are logged only, so that neither the startup nor
+ *     the readiness of the application is delayed</li>
+ * </ul>
+ * The result of the diagnosis is recorded in the {@link ArtifactsCollisionDiagnosis} bean of the application, which
+ * could be exposed as a health indicator and the metrics by the actuator module.
  *
  * <h3>Example Usage</h3>
  * <p>
@@ -43,6 +57,10 @@ import static io.microsphere.spring.boot.util.SpringApplicationUtils.getResource
  * Example configuration in application.properties:
  * <pre>
  * microsphere.spring.boot.artifacts-collision.enabled=true
+ * # Optional, the max count of threads to scan the class path
+ * microsphere.spring.boot.artifacts-collision.parallelism=4
+ * # Optional, diagnose in the background after the application is ready
+ * microsphere.spring.boot.artifacts-collision.mode=BACKGROUND
  * </pre>
  * <p>
  * Example configuration in application.yml:
@@ -57,7 +75,7 @@ import static io.microsphere.spring.boot.util.SpringApplicationUtils.getResource
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
  * @since 1.0.0
  */
-public class ArtifactsCollisionDiagnosisListener implements ApplicationListener<ApplicationContextInitializedEvent> {
+public class ArtifactsCollisionDiagnosisListener implements ApplicationListener<SpringApplicationEvent> {
 
     private static final Logger logger = getLogger(ArtifactsCollisionDiagnosisListener.class);
 
@@ -72,47 +90,113 @@ public class ArtifactsCollisionDiagnosisListener implements ApplicationListener<
     public static final String ENABLED_PROPERTY_NAME = MICROSPHERE_SPRING_BOOT_PROPERTY_NAME_PREFIX + "artifacts-collision.enabled";
 
     /**
-     * Handles the {@link ApplicationContextInitializedEvent} by diagnosing artifact collisions
-     * if the feature is enabled via the {@link #ENABLED_PROPERTY_NAME} property.
+     * The max count of threads to scan the class path for the Artifacts Collision diagnosis :
+     * "microsphere.spring.boot.artifacts-collision.parallelism"
+     */
+    @ConfigurationProperty(
+            type = int.class,
+            description = "The max count of threads to scan the class path for the artifacts collision diagnosis, " +
+                    "the default value is the count of available processors",
+            source = APPLICATION_SOURCE
+    )
+    public static final String PARALLELISM_PROPERTY_NAME = MICROSPHERE_SPRING_BOOT_PROPERTY_NAME_PREFIX + "artifacts-collision.parallelism";
+
+    /**
+     * The mode of the Artifacts Collision diagnosis : "microsphere.spring.boot.artifacts-collision.mode"
+     */
+    @ConfigurationProperty(
+            type = DiagnosisMode.class,
+            description = "The mode of the artifacts collision diagnosis : DISABLED, FAIL_FAST or BACKGROUND, " +
+                    "the default value is FAIL_FAST if the artifacts collision diagnosis is enabled, or DISABLED",
+            source = APPLICATION_SOURCE
+    )
+    public static final String MODE_PROPERTY_NAME = MICROSPHERE_SPRING_BOOT_PROPERTY_NAME_PREFIX + "artifacts-collision.mode";
+
+    /**
+     * The name of the background diagnosis thread
+     */
+    public static final String THREAD_NAME = "artifacts-collision-diagnosis";
+
+    /**
+     * Diagnoses the artifact collisions on {@link ApplicationContextInitializedEvent} in
+     * {@link DiagnosisMode#FAIL_FAST} mode, or on {@link ApplicationReadyEvent} in {@link DiagnosisMode#BACKGROUND} mode.
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
-     *   // This method is called automatically by Spring Boot when the context is initialized.
+     *   // This method is called automatically by Spring Boot.
      *   // Enable diagnosis in application.properties:
      *   // microsphere.spring.boot.artifacts-collision.enabled=true
      * }</pre>
      *
-     * @param event the {@link ApplicationContextInitializedEvent}
-     * @throws ArtifactsCollisionException if artifact collisions are detected
+     * @param event the {@link SpringApplicationEvent}
+     * @throws ArtifactsCollisionException if artifact collisions are detected in {@link DiagnosisMode#FAIL_FAST} mode
      */
     @Override
-    public void onApplicationEvent(ApplicationContextInitializedEvent event) throws ArtifactsCollisionException {
-        if (isEnabled(event)) {
-            SpringApplication springApplication = event.getSpringApplication();
-            diagnose(springApplication);
+    public void onApplicationEvent(SpringApplicationEvent event) throws ArtifactsCollisionException {
+        if (event instanceof ApplicationContextInitializedEvent initializedEvent) {
+            ConfigurableApplicationContext context = initializedEvent.getApplicationContext();
+            ConfigurableEnvironment environment = context.getEnvironment();
+            DiagnosisMode mode = getMode(environment);
+            if (mode == DISABLED) {
+                return;
+            }
+            ArtifactsCollisionDiagnosis diagnosis = ArtifactsCollisionDiagnosis.get(context);
+            diagnosis.setArtifactsMode(mode);
+            if (mode == FAIL_FAST) {
+                Set<String> artifactsCollisionSet = diagnose(event.getSpringApplication(), environment, diagnosis);
+                if (!artifactsCollisionSet.isEmpty()) {
+                    throw new ArtifactsCollisionException("Artifacts conflict. The list is as follows:" + artifactsCollisionSet, artifactsCollisionSet);
+                }
+            }
+        } else if (event instanceof ApplicationReadyEvent readyEvent) {
+            ConfigurableApplicationContext context = readyEvent.getApplicationContext();
+            ConfigurableEnvironment environment = context.getEnvironment();
+            if (getMode(environment) == BACKGROUND) {
+                ArtifactsCollisionDiagnosis diagnosis = ArtifactsCollisionDiagnosis.get(context);
+                Thread thread = new Thread(() -> diagnoseInBackground(event.getSpringApplication(), environment, diagnosis), THREAD_NAME);
+                thread.setDaemon(true);
+                thread.setPriority(MIN_PRIORITY);
+                thread.start();
+            }
         }
     }
 
-    private boolean isEnabled(ApplicationContextInitializedEvent event) {
-        ConfigurableApplicationContext context = event.getApplicationContext();
-        ConfigurableEnvironment environment = context.getEnvironment();
-        return environment.getProperty(ENABLED_PROPERTY_NAME, Boolean.class, false);
+    private DiagnosisMode getMode(ConfigurableEnvironment environment) {
+        DiagnosisMode mode = environment.getProperty(MODE_PROPERTY_NAME, DiagnosisMode.class);
+        if (mode == null) {
+            boolean enabled = environment.getProperty(ENABLED_PROPERTY_NAME, Boolean.class, false);
+            mode = enabled ? FAIL_FAST : DISABLED;
+        }
+        return mode;
     }
 
-    private void diagnose(SpringApplication springApplication) throws ArtifactsCollisionException {
-        ResourceLoader resourceLoader = getResourceLoader(springApplication);
-        diagnose(resourceLoader);
+    private void diagnoseInBackground(SpringApplication springApplication, ConfigurableEnvironment environment,
+                                      ArtifactsCollisionDiagnosis diagnosis) {
+        try {
+            diagnose(springApplication, environment, diagnosis);
+        } catch (Throwable e) {
+            logger.error("The artifacts collision diagnosis failed", e);
+            diagnosis.setFailure(e);
+        }
     }
 
-    private void diagnose(ResourceLoader resourceLoader) throws ArtifactsCollisionException {
-        Set<String> artifactsCollisionSet = diagnose(resourceLoader.getClassLoader());
-        if (!artifactsCollisionSet.isEmpty()) {
-            throw new ArtifactsCollisionException("Artifacts conflict. The list is as follows:" + artifactsCollisionSet, artifactsCollisionSet);
+    private Set<String> diagnose(SpringApplication springApplication, ConfigurableEnvironment environment,
+                                 ArtifactsCollisionDiagnosis diagnosis) {
+        ResourceLoader resourceLoader = getResourceLoader(springApplication);
+        ClassLoader classLoader = resourceLoader.getClassLoader();
+        ArtifactRegistry artifactRegistry = ArtifactRegistry.get(classLoader);
+        Integer parallelism = environment.getProperty(PARALLELISM_PROPERTY_NAME, Integer.class);
+        if (parallelism != null) {
+            artifactRegistry.setParallelism(parallelism);
         }
+        Set<String> artifactsCollisionSet = diagnose(artifactRegistry);
+        diagnosis.setArtifacts(artifactsCollisionSet);
+        return artifactsCollisionSet;
     }
 
     /**
-     * Diagnose artifact collisions by scanning the given {@link ClassLoader} for duplicate artifacts.
+     * Diagnose artifact collisions by scanning the given {@link ClassLoader} for duplicate artifacts, which are
+     * shared by the {@link ArtifactRegistry} of the {@link ClassLoader}.
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
@@ -127,8 +211,17 @@ public class ArtifactsCollisionDiagnosisListener implements ApplicationListener<
      * @return a set of colliding artifact identifiers (e.g., "groupId:artifactId")
      */
     protected Set<String> diagnose(ClassLoader classLoader) {
-        ArtifactDetector detector = new ArtifactDetector(classLoader);
-        List<Artifact> artifacts = detector.detect(false);
+        return diagnose(ArtifactRegistry.get(classLoader));
+    }
+
+    /**
+     * Diagnose artifact collisions in the {@link Artifact artifacts} of the given {@link ArtifactRegistry}.
+     *
+     * @param artifactRegistry the {@link ArtifactRegistry} whose artifacts are scanned
+     * @return a set of colliding artifact identifiers (e.g., "groupId:artifactId")
+     */
+    protected Set<String> diagnose(ArtifactRegistry artifactRegistry) {
+        List<Artifact> artifacts = artifactRegistry.getArtifacts();
         //  Artifacts conflict Map
         Map<String, Artifact> artifactsCollisionMap = getArtifactsCollisionMap(artifacts);
         if (!artifactsCollisionMap.isEmpty()) {
@@ -148,8 +241,7 @@ public class ArtifactsCollisionDiagnosisListener implements ApplicationListener<
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
-     *   ArtifactDetector detector = new ArtifactDetector(classLoader);
-     *   List<Artifact> artifacts = detector.detect(false);
+     *   List<Artifact> artifacts = ArtifactRegistry.get(classLoader).getArtifacts();
      *   Map<String, Artifact> collisionMap = listener.getArtifactsCollisionMap(artifacts);
      *   collisionMap.forEach((id, artifact) -> System.err.println("Collision: " + id));
      * }</pre>
@@ -1,7 +1,10 @@
 package io.microsphere.spring.boot.diagnostics;
 
+import java.util.Map;
 import java.util.Set;
 
+import static java.util.Collections.emptyMap;
+
 /**
  * Artifacts Collision {@link RuntimeException}
  *
@@ -12,6 +15,10 @@ public class ArtifactsCollisionException extends RuntimeException {
 
     private final Set<String> artifacts;
 
+    private final Map<String, Set<String>> duplicateClasses;
+
+    private final Map<String, Set<String>> splitPackages;
+
     /**
      * Construct a new {@link ArtifactsCollisionException} with the given message and set of colliding artifacts.
      *
@@ -25,8 +32,32 @@ public class ArtifactsCollisionException extends RuntimeException {
      * @param artifacts the set of colliding artifact identifiers
      */
     public ArtifactsCollisionException(String message, Set<String> artifacts) {
+        this(message, artifacts, emptyMap(), emptyMap());
+    }
+
+    /**
+     * Construct a new {@link ArtifactsCollisionException} with the given message, set of colliding artifacts, and the
+     * class-level collisions.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   Set<String> artifacts = Set.of("com.example:lib-a", "com.example:lib-b");
+     *   Map<String, Set<String>> duplicateClasses = Map.of("com.example.Foo", artifacts);
+     *   throw new ArtifactsCollisionException("Duplicate classes found", artifacts, duplicateClasses, Map.of());
+     * }</pre>
+     *
+     * @param message          the detail message describing the collision
+     * @param artifacts        the set of colliding artifact identifiers
+     * @param duplicateClasses the duplicate class names mapping to the colliding artifact identifiers
+     * @param splitPackages    the split package names mapping to the colliding artifact identifiers
+     * @see ClassCollisionReport
+     */
+    public ArtifactsCollisionException(String message, Set<String> artifacts, Map<String, Set<String>> duplicateClasses,
+                                       Map<String, Set<String>> splitPackages) {
         super(message);
         this.artifacts = artifacts;
+        this.duplicateClasses = duplicateClasses;
+        this.splitPackages = splitPackages;
     }
 
     /**
@@ -47,4 +78,24 @@ public class ArtifactsCollisionException extends RuntimeException {
     public Set<String> getArtifacts() {
         return artifacts;
     }
+
+    /**
+     * Return the duplicate classes.
+     *
+     * @return the {@link Map} which key is the class name and value is the colliding artifact identifiers, or empty
+     * if the collision is not class-level
+     */
+    public Map<String, Set<String>> getDuplicateClasses() {
+        return duplicateClasses;
+    }
+
+    /**
+     * Return the split packages.
+     *
+     * @return the {@link Map} which key is the package name and value is the colliding artifact identifiers, or empty
+     * if the collision is not class-level
+     */
+    public Map<String, Set<String>> getSplitPackages() {
+        return splitPackages;
+    }
 }
@@ -48,6 +48,12 @@ public class ArtifactsCollisionFailureAnalyzer extends AbstractFailureAnalyzer<A
 
         actionBuilder.append(lineSeparator()).append("After analyzing the results, exclude them in the pom.xml file one by one!");
 
+        if (!cause.getDuplicateClasses().isEmpty() || !cause.getSplitPackages().isEmpty()) {
+            actionBuilder.append(lineSeparator())
+                    .append("If the classes are shaded by different artifacts, relocate them in the shaded artifact, ")
+                    .append("or keep only one of the artifacts in the class path!");
+        }
+
         return actionBuilder.toString();
     }
 }
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.diagnostics;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.classloading.Artifact;
+import io.microsphere.classloading.MavenArtifact;
+import io.microsphere.logging.Logger;
+import io.microsphere.spring.boot.classloading.ArtifactRegistry;
+import io.microsphere.spring.boot.classloading.ClassPathFileSystems;
+import io.microsphere.spring.boot.classloading.ZipArchive;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static io.microsphere.collection.MapUtils.newLinkedHashMap;
+import static io.microsphere.collection.SetUtils.newLinkedHashSet;
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.spring.boot.classloading.ClassPathFileSystems.getName;
+import static io.microsphere.spring.boot.diagnostics.ClassIndex.ABSENT;
+import static io.microsphere.spring.boot.diagnostics.ClassIndex.hash;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The detector of the class-level collisions in the class path, which finds out the duplicate classes, e.g, the
+ * classes shaded or relocated by the artifacts with different coordinates, and optionally the split packages.
+ * <p>
+ * The class names of all class path entries are indexed by {@link ClassIndex}, which keeps the hashes of names and the
+ * indexes of their first entries in the primitive arrays, only the names of collisions are retained. The entries are
+ * read by {@link ClassPathFileSystems}, the archives are never inflated, and the nested JARs of fat JAR are read in
+ * place by {@link ZipArchive}. The "module-info", "package-info" and the classes under "META-INF", e.g, the
+ * multi-release versions, are ignored.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   ClassCollisionDetector detector = new ClassCollisionDetector(classLoader);
+ *   detector.setSplitPackagesEnabled(true);
+ *   ClassCollisionReport report = detector.detect();
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ClassCollisionReport
+ * @see ClassIndex
+ * @see ArtifactRegistry
+ * @since 1.0.0
+ */
+public class ClassCollisionDetector {
+
+    private static final Logger logger = getLogger(ClassCollisionDetector.class);
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    /**
+     * The expected count of classes in the class path
+     */
+    static final int EXPECTED_CLASS_COUNT = 1 << 16;
+
+    private final ArtifactRegistry artifactRegistry;
+
+    private boolean splitPackagesEnabled;
+
+    /**
+     * Constructs a new {@link ClassCollisionDetector} with the given {@link ClassLoader}.
+     *
+     * @param classLoader the {@link ClassLoader} whose class path is detected
+     */
+    public ClassCollisionDetector(ClassLoader classLoader) {
+        this.artifactRegistry = ArtifactRegistry.get(classLoader);
+    }
+
+    /**
+     * Sets whether the split packages are detected, the packages of duplicate classes are always split.
+     *
+     * @param splitPackagesEnabled <code>true</code> if detected
+     */
+    public void setSplitPackagesEnabled(boolean splitPackagesEnabled) {
+        this.splitPackagesEnabled = splitPackagesEnabled;
+    }
+
+    /**
+     * Whether the split packages are detected.
+     *
+     * @return <code>false</code> by default
+     */
+    public boolean isSplitPackagesEnabled() {
+        return this.splitPackagesEnabled;
+    }
+
+    /**
+     * Detect the class-level collisions in the class path.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   ClassCollisionReport report = new ClassCollisionDetector(classLoader).detect();
+     *   if (!report.isEmpty()) {
+     *       throw report.toException();
+     *   }
+     * }</pre>
+     *
+     * @return non-null
+     */
+    @Nonnull
+    public ClassCollisionReport detect() {
+        long startTime = nanoTime();
+        List<URL> classPathURLs = this.artifactRegistry.getClassPathURLs();
+        ClassIndex classIndex = new ClassIndex(EXPECTED_CLASS_COUNT);
+        ClassIndex packageIndex = this.splitPackagesEnabled ? new ClassIndex(EXPECTED_CLASS_COUNT >> 4) : null;
+        Map<String, Set<Integer>> duplicateClasses = newLinkedHashMap();
+        Map<String, Set<Integer>> splitPackages = newLinkedHashMap();
+        int classCount = 0;
+        try (ClassPathFileSystems fileSystems = new ClassPathFileSystems()) {
+            for (int owner = 0, size = classPathURLs.size(); owner < size; owner++) {
+                URL classPathURL = classPathURLs.get(owner);
+                try {
+                    ZipArchive nestedArchive = fileSystems.getNestedArchive(classPathURL);
+                    if (nestedArchive != null) {
+                        for (String entryName : nestedArchive.getEntryNames()) {
+                            String name = toClassName(entryName);
+                            if (name != null) {
+                                classCount++;
+                                index(classIndex, packageIndex, name, owner, duplicateClasses, splitPackages);
+                            }
+                        }
+                        continue;
+                    }
+                    Path root = fileSystems.getRoot(classPathURL);
+                    if (root == null) {
+                        continue;
+                    }
+                    try (Stream<Path> paths = Files.walk(root)) {
+                        for (Path path : (Iterable<Path>) paths::iterator) {
+                            String name = toClassName(root, path);
+                            if (name != null) {
+                                classCount++;
+                                index(classIndex, packageIndex, name, owner, duplicateClasses, splitPackages);
+                            }
+                        }
+                    }
+                } catch (IOException e) {
+                    logger.warn("The class path entry['{}'] can't be read", classPathURL, e);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("The class path entries can't be closed", e);
+        }
+        ClassCollisionReport report = new ClassCollisionReport(classCount, toNames(duplicateClasses, classPathURLs),
+                toNames(splitPackages, classPathURLs));
+        if (logger.isDebugEnabled()) {
+            logger.debug("{} classes of {} class path entries were indexed in {} ms : {}", classCount,
+                    classPathURLs.size(), NANOSECONDS.toMillis(nanoTime() - startTime), report);
+        }
+        return report;
+    }
+
+    private static void index(ClassIndex classIndex, @Nullable ClassIndex packageIndex, String name, int owner,
+                              Map<String, Set<Integer>> duplicateClasses, Map<String, Set<Integer>> splitPackages) {
+        index(classIndex, name, owner, duplicateClasses);
+        if (packageIndex != null) {
+            int index = name.lastIndexOf('/');
+            if (index > 0) {
+                index(packageIndex, name.substring(0, index), owner, splitPackages);
+            }
+        }
+    }
+
+    private static void index(ClassIndex index, String name, int owner, Map<String, Set<Integer>> collisions) {
+        long key = hash(name);
+        int firstOwner = index.putIfAbsent(key, owner);
+        if (firstOwner != ABSENT && firstOwner != owner) {
+            Set<Integer> owners = collisions.computeIfAbsent(name, n -> newLinkedHashSet());
+            owners.add(firstOwner);
+            owners.add(owner);
+        }
+    }
+
+    /**
+     * Get the internal class name, e.g, "com/acme/Foo", of the path relative to the root.
+     *
+     * @return {@code null} if the path is not an eligible class
+     */
+    static String toClassName(Path root, Path path) {
+        String fileName = String.valueOf(path.getFileName());
+        if (!fileName.endsWith(CLASS_FILE_SUFFIX)) {
+            return null;
+        }
+        return toClassName(root.relativize(path).toString().replace('\\', '/'));
+    }
+
+    /**
+     * Get the internal class name, e.g, "com/acme/Foo", of the entry name, e.g, "com/acme/Foo.class".
+     *
+     * @return {@code null} if the entry is not an eligible class
+     */
+    static String toClassName(String entryName) {
+        if (!entryName.endsWith(CLASS_FILE_SUFFIX) || entryName.startsWith("META-INF/")) {
+            return null;
+        }
+        int index = entryName.lastIndexOf('/') + 1;
+        if (entryName.startsWith("module-info.class", index) || entryName.startsWith("package-info.class", index)) {
+            return null;
+        }
+        return entryName.substring(0, entryName.length() - CLASS_FILE_SUFFIX.length());
+    }
+
+    private Map<String, Set<String>> toNames(Map<String, Set<Integer>> collisions, List<URL> classPathURLs) {
+        Map<String, Set<String>> names = newLinkedHashMap(collisions.size());
+        for (Map.Entry<String, Set<Integer>> entry : collisions.entrySet()) {
+            Set<String> entryNames = newLinkedHashSet(entry.getValue().size());
+            for (Integer owner : entry.getValue()) {
+                entryNames.add(getEntryName(classPathURLs.get(owner)));
+            }
+            names.put(entry.getKey().replace('/', '.'), entryNames);
+        }
+        return names;
+    }
+
+    private String getEntryName(URL classPathURL) {
+        Artifact artifact = this.artifactRegistry.getArtifact(classPathURL);
+        if (artifact instanceof MavenArtifact mavenArtifact) {
+            return mavenArtifact.getGroupId() + ":" + mavenArtifact.getArtifactId();
+        }
+        return artifact == null ? getName(classPathURL) : artifact.getArtifactId();
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.diagnostics;
+
+import io.microsphere.annotation.ConfigurationProperty;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.logging.Logger;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationContextInitializedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.SpringApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static io.microsphere.annotation.ConfigurationProperty.APPLICATION_SOURCE;
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.spring.boot.constants.PropertyConstants.MICROSPHERE_SPRING_BOOT_PROPERTY_NAME_PREFIX;
+import static io.microsphere.spring.boot.diagnostics.DiagnosisMode.BACKGROUND;
+import static io.microsphere.spring.boot.diagnostics.DiagnosisMode.DISABLED;
+import static io.microsphere.spring.boot.diagnostics.DiagnosisMode.FAIL_FAST;
+import static io.microsphere.spring.boot.util.SpringApplicationUtils.getResourceLoader;
+import static java.lang.Thread.MIN_PRIORITY;
+
+/**
+ * {@link ApplicationListener} to diagnose the class-level collisions, e.g, the duplicate classes and the split
+ * packages, in the application classpath by {@link ClassCollisionDetector}, which runs in the
+ * {@link #MODE_PROPERTY_NAME configured} mode :
+ * <ul>
+ *     <li>{@link DiagnosisMode#FAIL_FAST} : diagnosed when {@link ApplicationContextInitializedEvent} is published, the
+ *     {@link ArtifactsCollisionException} is thrown and analyzed by {@link ArtifactsCollisionFailureAnalyzer} if
+ *     any collision is detected</li>
+ *     <li>{@link DiagnosisMode#BACKGROUND} : diagnosed in a low-priority daemon thread after {@link ApplicationReadyEvent}
+ *     is published, the collisions are logged only</li>
+ * </ul>
+ * The report of the diagnosis is also recorded in the {@link ArtifactsCollisionDiagnosis} bean of the application.
+ *
+ * <h3>Example Usage</h3>
+ * <p>
+ * Example configuration in application.properties:
+ * <pre>
+ * microsphere.spring.boot.artifacts-collision.classes.mode=FAIL_FAST
+ * microsphere.spring.boot.artifacts-collision.classes.split-packages.enabled=true
+ * </pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ClassCollisionDetector
+ * @see ArtifactsCollisionDiagnosisListener
+ * @since 1.0.0
+ */
+public class ClassCollisionDiagnosisListener implements ApplicationListener<SpringApplicationEvent> {
+
+    private static final Logger logger = getLogger(ClassCollisionDiagnosisListener.class);
+
+    /**
+     * The property name prefix of the classes collision diagnosis : "microsphere.spring.boot.artifacts-collision.classes."
+     */
+    public static final String PROPERTY_NAME_PREFIX = MICROSPHERE_SPRING_BOOT_PROPERTY_NAME_PREFIX + "artifacts-collision.classes.";
+
+    @ConfigurationProperty(
+            type = DiagnosisMode.class,
+            defaultValue = "DISABLED",
+            description = "The property to specify the mode of the classes collision diagnosis : DISABLED, FAIL_FAST or BACKGROUND",
+            source = APPLICATION_SOURCE
+    )
+    public static final String MODE_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "mode";
+
+    @ConfigurationProperty(
+            type = boolean.class,
+            defaultValue = "false",
+            description = "The property to enable the split packages diagnosis",
+            source = APPLICATION_SOURCE
+    )
+    public static final String SPLIT_PACKAGES_ENABLED_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "split-packages.enabled";
+
+    /**
+     * The name of the background diagnosis thread
+     */
+    public static final String THREAD_NAME = "class-collision-diagnosis";
+
+    @Nullable
+    private volatile ClassCollisionReport report;
+
+    private final CountDownLatch completion = new CountDownLatch(1);
+
+    /**
+     * Diagnoses the class-level collisions on {@link ApplicationContextInitializedEvent} in
+     * {@link DiagnosisMode#FAIL_FAST} mode, or on {@link ApplicationReadyEvent} in {@link DiagnosisMode#BACKGROUND} mode.
+     *
+     * @param event the {@link SpringApplicationEvent}
+     * @throws ArtifactsCollisionException if any collision is detected in {@link DiagnosisMode#FAIL_FAST} mode
+     */
+    @Override
+    public void onApplicationEvent(SpringApplicationEvent event) throws ArtifactsCollisionException {
+        if (event instanceof ApplicationContextInitializedEvent initializedEvent) {
+            ConfigurableApplicationContext context = initializedEvent.getApplicationContext();
+            ConfigurableEnvironment environment = context.getEnvironment();
+            DiagnosisMode mode = getMode(environment);
+            if (mode == DISABLED) {
+                return;
+            }
+            ArtifactsCollisionDiagnosis diagnosis = ArtifactsCollisionDiagnosis.get(context);
+            diagnosis.setClassesMode(mode);
+            if (mode == FAIL_FAST) {
+                ClassCollisionReport report = diagnose(event.getSpringApplication(), environment, diagnosis);
+                if (!report.isEmpty()) {
+                    throw report.toException();
+                }
+            }
+        } else if (event instanceof ApplicationReadyEvent readyEvent) {
+            ConfigurableApplicationContext context = readyEvent.getApplicationContext();
+            ConfigurableEnvironment environment = context.getEnvironment();
+            if (getMode(environment) == BACKGROUND) {
+                ArtifactsCollisionDiagnosis diagnosis = ArtifactsCollisionDiagnosis.get(context);
+                Thread thread = new Thread(() -> diagnoseInBackground(event.getSpringApplication(), environment, diagnosis), THREAD_NAME);
+                thread.setDaemon(true);
+                thread.setPriority(MIN_PRIORITY);
+                thread.start();
+            }
+        }
+    }
+
+    private void diagnoseInBackground(SpringApplication springApplication, ConfigurableEnvironment environment,
+                                      ArtifactsCollisionDiagnosis diagnosis) {
+        try {
+            diagnose(springApplication, environment, diagnosis);
+        } catch (Throwable e) {
+            logger.error("The classes collision diagnosis failed", e);
+            diagnosis.setFailure(e);
+        } finally {
+            this.completion.countDown();
+        }
+    }
+
+    /**
+     * Diagnose the class-level collisions of the {@link SpringApplication}, the collisions are logged if detected.
+     *
+     * @param springApplication the {@link SpringApplication}
+     * @param environment       the {@link ConfigurableEnvironment}
+     * @param diagnosis         the {@link ArtifactsCollisionDiagnosis} to record the report
+     * @return non-null
+     */
+    ClassCollisionReport diagnose(SpringApplication springApplication, ConfigurableEnvironment environment,
+                                  ArtifactsCollisionDiagnosis diagnosis) {
+        ClassLoader classLoader = getResourceLoader(springApplication).getClassLoader();
+        ClassCollisionDetector detector = new ClassCollisionDetector(classLoader);
+        detector.setSplitPackagesEnabled(environment.getProperty(SPLIT_PACKAGES_ENABLED_PROPERTY_NAME, Boolean.class, false));
+        ClassCollisionReport report = detector.detect();
+        if (!report.isEmpty()) {
+            logger.error(report.toException().getMessage());
+        }
+        diagnosis.setClassCollisionReport(report);
+        this.report = report;
+        this.completion.countDown();
+        return report;
+    }
+
+    /**
+     * Get the report of the last diagnosis.
+     *
+     * @return {@code null} if the diagnosis is not completed
+     */
+    @Nullable
+    public ClassCollisionReport getReport() {
+        return this.report;
+    }
+
+    /**
+     * Wait for the first diagnosis to complete or fail, e.g, the diagnosis in {@link DiagnosisMode#BACKGROUND} mode,
+     * and then get its report.
+     *
+     * @param timeout the max time to wait
+     * @param unit    the {@link TimeUnit} of timeout
+     * @return {@code null} if the diagnosis is not completed in time, or failed
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    @Nullable
+    public ClassCollisionReport awaitReport(long timeout, TimeUnit unit) throws InterruptedException {
+        this.completion.await(timeout, unit);
+        return this.report;
+    }
+
+    private DiagnosisMode getMode(ConfigurableEnvironment environment) {
+        return environment.getProperty(MODE_PROPERTY_NAME, DiagnosisMode.class, DISABLED);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.diagnostics;
+
+import io.microsphere.annotation.Nonnull;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import static io.microsphere.collection.SetUtils.newLinkedHashSet;
+import static io.microsphere.constants.SeparatorConstants.LINE_SEPARATOR;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * The report of the class-level collisions in the class path, including the duplicate classes and the split packages,
+ * which are keyed by the class names or the package names, and valued by the names of their class path entries, e.g,
+ * "groupId:artifactId" for the Maven artifacts.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   ClassCollisionReport report = new ClassCollisionDetector(classLoader).detect();
+ *   report.getDuplicateClasses().forEach((className, artifacts) ->
+ *       System.err.println(className + " : " + artifacts));
+ *   if (!report.isEmpty()) {
+ *       throw report.toException();
+ *   }
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ClassCollisionDetector
+ * @see ArtifactsCollisionException
+ * @since 1.0.0
+ */
+public class ClassCollisionReport {
+
+    /**
+     * The max count of entries per category in the {@link #toException() exception message}
+     */
+    static final int MAX_MESSAGE_ENTRIES = 20;
+
+    private final int classCount;
+
+    private final Map<String, Set<String>> duplicateClasses;
+
+    private final Map<String, Set<String>> splitPackages;
+
+    ClassCollisionReport(int classCount, Map<String, Set<String>> duplicateClasses, Map<String, Set<String>> splitPackages) {
+        this.classCount = classCount;
+        this.duplicateClasses = unmodifiableMap(duplicateClasses);
+        this.splitPackages = unmodifiableMap(splitPackages);
+    }
+
+    /**
+     * Get the count of classes in the class path.
+     *
+     * @return the count of classes
+     */
+    public int getClassCount() {
+        return this.classCount;
+    }
+
+    /**
+     * Get the duplicate classes.
+     *
+     * @return the read-only {@link Map} which key is the class name and value is the names of class path entries
+     */
+    @Nonnull
+    public Map<String, Set<String>> getDuplicateClasses() {
+        return this.duplicateClasses;
+    }
+
+    /**
+     * Get the split packages.
+     *
+     * @return the read-only {@link Map} which key is the package name and value is the names of class path entries
+     */
+    @Nonnull
+    public Map<String, Set<String>> getSplitPackages() {
+        return this.splitPackages;
+    }
+
+    /**
+     * Get the names of class path entries that are involved in the collisions.
+     *
+     * @return the read-only {@link Set} of names, e.g, "groupId:artifactId"
+     */
+    @Nonnull
+    public Set<String> getArtifacts() {
+        Set<String> artifacts = newLinkedHashSet();
+        this.duplicateClasses.values().forEach(artifacts::addAll);
+        this.splitPackages.values().forEach(artifacts::addAll);
+        return unmodifiableSet(artifacts);
+    }
+
+    /**
+     * Whether there is no collision.
+     *
+     * @return <code>true</code> if no duplicate class or split package is detected
+     */
+    public boolean isEmpty() {
+        return this.duplicateClasses.isEmpty() && this.splitPackages.isEmpty();
+    }
+
+    /**
+     * Create the {@link ArtifactsCollisionException} of this report, whose message lists the first
+     * {@value #MAX_MESSAGE_ENTRIES} entries per category.
+     *
+     * @return non-null
+     */
+    @Nonnull
+    public ArtifactsCollisionException toException() {
+        StringBuilder message = new StringBuilder("Classes collision detected.");
+        appendEntries(message, "duplicate classes", this.duplicateClasses);
+        appendEntries(message, "split packages", this.splitPackages);
+        return new ArtifactsCollisionException(message.toString(), getArtifacts(), this.duplicateClasses, this.splitPackages);
+    }
+
+    private static void appendEntries(StringBuilder message, String category, Map<String, Set<String>> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        message.append(LINE_SEPARATOR).append("The ").append(entries.size()).append(' ').append(category).append(':');
+        StringJoiner stringJoiner = new StringJoiner(LINE_SEPARATOR + "-\t", LINE_SEPARATOR + "-\t", "");
+        int count = 0;
+        for (Map.Entry<String, Set<String>> entry : entries.entrySet()) {
+            if (count++ == MAX_MESSAGE_ENTRIES) {
+                stringJoiner.add("... " + (entries.size() - MAX_MESSAGE_ENTRIES) + " more");
+                break;
+            }
+            stringJoiner.add(entry.getKey() + " : " + entry.getValue());
+        }
+        message.append(stringJoiner);
+    }
+
+    @Override
+    public String toString() {
+        return "ClassCollisionReport{" +
+                "classCount=" + this.classCount +
+                ", duplicateClasses=" + this.duplicateClasses.size() +
+                ", splitPackages=" + this.splitPackages.size() +
+                '}';
+    }
+}
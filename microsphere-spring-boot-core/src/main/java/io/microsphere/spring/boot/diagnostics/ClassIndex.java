@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.diagnostics;
+
+import static java.lang.Integer.highestOneBit;
+import static java.lang.Math.max;
+
+/**
+ * The compact index from the 64-bit hashes of names, e.g, the class names or the package names, to the indexes of
+ * their first class path entries, which is the open-addressing hash table with linear probing over the primitive
+ * arrays, thus no {@link String} or boxed value is retained per entry.
+ * <p>
+ * The 64-bit hash is calculated by FNV-1a, the probability of collision is negligible even if there are millions of
+ * names in the class path.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   ClassIndex index = new ClassIndex(1024);
+ *   long key = ClassIndex.hash("com/acme/Foo");
+ *   int owner = index.putIfAbsent(key, 0);    // ABSENT
+ *   int duplicate = index.putIfAbsent(key, 1); // 0
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ClassCollisionDetector
+ * @since 1.0.0
+ */
+class ClassIndex {
+
+    /**
+     * The value returned if the key is absent
+     */
+    static final int ABSENT = -1;
+
+    private static final long EMPTY_KEY = 0L;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private long[] keys;
+
+    private int[] values;
+
+    private int size;
+
+    private int threshold;
+
+    ClassIndex(int expectedSize) {
+        allocate(tableSizeFor(max(16, expectedSize + (expectedSize >>> 1))));
+    }
+
+    /**
+     * Put the value if the key is absent.
+     *
+     * @param key   the key calculated by {@link #hash(CharSequence)}
+     * @param value the non-negative value
+     * @return {@link #ABSENT} if the key is absent, or the present value
+     */
+    int putIfAbsent(long key, int value) {
+        long[] keys = this.keys;
+        int mask = keys.length - 1;
+        int index = indexOf(key, mask);
+        long currentKey;
+        while ((currentKey = keys[index]) != EMPTY_KEY) {
+            if (currentKey == key) {
+                return this.values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        this.values[index] = value;
+        if (++this.size > this.threshold) {
+            resize();
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Get the value of key.
+     *
+     * @param key the key calculated by {@link #hash(CharSequence)}
+     * @return {@link #ABSENT} if the key is absent
+     */
+    int get(long key) {
+        long[] keys = this.keys;
+        int mask = keys.length - 1;
+        int index = indexOf(key, mask);
+        long currentKey;
+        while ((currentKey = keys[index]) != EMPTY_KEY) {
+            if (currentKey == key) {
+                return this.values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return ABSENT;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    int capacity() {
+        return this.keys.length;
+    }
+
+    private void resize() {
+        long[] oldKeys = this.keys;
+        int[] oldValues = this.values;
+        allocate(oldKeys.length << 1);
+        int mask = this.keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != EMPTY_KEY) {
+                int index = indexOf(key, mask);
+                while (this.keys[index] != EMPTY_KEY) {
+                    index = (index + 1) & mask;
+                }
+                this.keys[index] = key;
+                this.values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        // The load factor is 0.75
+        this.threshold = capacity - (capacity >>> 2);
+    }
+
+    private static int indexOf(long key, int mask) {
+        long hash = key ^ (key >>> 33);
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+
+    private static int tableSizeFor(int size) {
+        int capacity = highestOneBit(size);
+        return capacity < size ? capacity << 1 : capacity;
+    }
+
+    /**
+     * Calculate the 64-bit FNV-1a hash of the characters, which is never {@code 0}.
+     *
+     * @param value the characters
+     * @return non-zero hash
+     */
+    static long hash(CharSequence value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0, length = value.length(); i < length; i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash == EMPTY_KEY ? 1L : hash;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.diagnostics;
+
+import org.springframework.boot.context.event.ApplicationContextInitializedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+
+/**
+ * The mode of the collision diagnosis
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ArtifactsCollisionDiagnosisListener
+ * @see ClassCollisionDiagnosisListener
+ * @since 1.0.0
+ */
+public enum DiagnosisMode {
+
+    /**
+     * Not diagnosed
+     */
+    DISABLED,
+
+    /**
+     * Diagnosed when {@link ApplicationContextInitializedEvent} is published, and the startup fails if any collision
+     * is detected
+     */
+    FAIL_FAST,
+
+    /**
+     * Diagnosed in a low-priority daemon thread after {@link ApplicationReadyEvent} is published, the collisions are
+     * logged and recorded in {@link ArtifactsCollisionDiagnosis} without stopping the application
+     */
+    BACKGROUND
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.env.config.metadata;
+
+import io.microsphere.annotation.Nullable;
+import io.microsphere.spring.boot.context.properties.metadata.ConfigurationMetadataCache;
+import org.springframework.boot.configurationprocessor.metadata.ItemHint;
+import org.springframework.boot.configurationprocessor.metadata.ItemMetadata;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.collection.MapUtils.newHashMap;
+import static java.util.Arrays.binarySearch;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * The {@link ConfigurationMetadataStore} that reads the {@link ConfigurationMetadataCache} as is, only the names are
+ * decoded on the creation :
+ * <ul>
+ *     <li>the names are sorted in one array per item type, and are looked up by the binary search</li>
+ *     <li>the {@link ItemMetadata} is {@link ConfigurationMetadataCache#getItem(int) decoded} from the cache on every
+ *     access</li>
+ *     <li>the hints are decoded on the first access</li>
+ * </ul>
+ * The names are in the natural order as same as {@link CompactConfigurationMetadataStore}.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationMetadataStore
+ * @see ConfigurationMetadataCache
+ * @see ConfigurationMetadataRepository.StorageMode#COMPACT
+ * @since 1.0.0
+ */
+final class CachedConfigurationMetadataStore implements ConfigurationMetadataStore {
+
+    private final ConfigurationMetadataCache cache;
+
+    private final CachedItems groups;
+
+    private final CachedItems properties;
+
+    private volatile Map<String, List<ItemHint>> hints;
+
+    CachedConfigurationMetadataStore(ConfigurationMetadataCache cache) {
+        this.cache = cache;
+        this.groups = new CachedItems(cache, true);
+        this.properties = new CachedItems(cache, false);
+    }
+
+    @Override
+    public Set<String> getGroupNames() {
+        return this.groups.nameSet;
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        return this.properties.nameSet;
+    }
+
+    @Override
+    public Collection<ItemMetadata> getGroups() {
+        return this.groups;
+    }
+
+    @Override
+    public Collection<ItemMetadata> getProperties() {
+        return this.properties;
+    }
+
+    @Override
+    public ItemMetadata getGroup(String name) {
+        return this.groups.get(name);
+    }
+
+    @Override
+    public ItemMetadata getProperty(String name) {
+        return this.properties.get(name);
+    }
+
+    @Override
+    public List<ItemHint> getHints(String name) {
+        List<ItemHint> itemHints = name == null ? null : getNamedHints().get(name);
+        return itemHints == null ? emptyList() : itemHints;
+    }
+
+    private Map<String, List<ItemHint>> getNamedHints() {
+        Map<String, List<ItemHint>> hints = this.hints;
+        if (hints == null) {
+            Map<String, List<ItemHint>> namedHints = new TreeMap<>();
+            for (ItemHint itemHint : this.cache.getHints()) {
+                namedHints.computeIfAbsent(itemHint.getName(), name -> newArrayList(1)).add(itemHint);
+            }
+            namedHints.replaceAll((name, itemHints) -> unmodifiableList(itemHints));
+            hints = namedHints;
+            this.hints = hints;
+        }
+        return hints;
+    }
+
+    /**
+     * The items of one type referring to the indexes of the cache, which are sorted by the names
+     */
+    private static class CachedItems extends AbstractList<ItemMetadata> {
+
+        private final ConfigurationMetadataCache cache;
+
+        private final String[] names;
+
+        private final int[] indexes;
+
+        private final Set<String> nameSet;
+
+        CachedItems(ConfigurationMetadataCache cache, boolean group) {
+            int count = cache.getItemCount();
+            Map<String, Integer> namedIndexes = newHashMap();
+            for (int i = 0; i < count; i++) {
+                if (cache.isGroup(i) == group) {
+                    // the later one wins as same as the standard store
+                    namedIndexes.put(cache.getItemName(i), i);
+                }
+            }
+            String[] names = namedIndexes.keySet().toArray(new String[0]);
+            Arrays.sort(names);
+            int[] indexes = new int[names.length];
+            for (int i = 0; i < names.length; i++) {
+                indexes[i] = namedIndexes.get(names[i]);
+            }
+            this.cache = cache;
+            this.names = names;
+            this.indexes = indexes;
+            this.nameSet = new CompactConfigurationMetadataStore.NameSet(names);
+        }
+
+        @Override
+        public ItemMetadata get(int index) {
+            return this.cache.getItem(this.indexes[index]);
+        }
+
+        @Nullable
+        ItemMetadata get(String name) {
+            int index = name == null ? -1 : binarySearch(this.names, name);
+            return index < 0 ? null : get(index);
+        }
+
+        @Override
+        public int size() {
+            return this.names.length;
+        }
+    }
+}
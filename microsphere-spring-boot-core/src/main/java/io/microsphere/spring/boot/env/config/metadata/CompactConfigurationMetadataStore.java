@@ -0,0 +1,294 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.env.config.metadata;
+
+import io.microsphere.annotation.Nullable;
+import org.springframework.boot.configurationprocessor.metadata.ConfigurationMetadata;
+import org.springframework.boot.configurationprocessor.metadata.ItemDeprecation;
+import org.springframework.boot.configurationprocessor.metadata.ItemHint;
+import org.springframework.boot.configurationprocessor.metadata.ItemMetadata;
+import org.springframework.boot.configurationprocessor.metadata.ItemMetadata.ItemType;
+
+import java.io.ByteArrayOutputStream;
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.collection.MapUtils.newHashMap;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Arrays.binarySearch;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Comparator.comparing;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.ItemType.GROUP;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.ItemType.PROPERTY;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.newGroup;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.newProperty;
+
+/**
+ * The memory-compact {@link ConfigurationMetadataStore} that doesn't retain the original {@link ItemMetadata} objects :
+ * <ul>
+ *     <li>the names are sorted in one array per item type, and are looked up by the binary search</li>
+ *     <li>the types, source types, source methods and default values are de-duplicated</li>
+ *     <li>the descriptions are de-duplicated into a shared UTF-8 byte buffer, and are decoded on demand</li>
+ *     <li>the hints are kept in arrays instead of linked lists</li>
+ * </ul>
+ * The {@link ItemMetadata} is materialized on every access, and the names are in the natural order rather than the
+ * order of {@link ConfigurationMetadata}.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationMetadataStore
+ * @see ConfigurationMetadataRepository.StorageMode#COMPACT
+ * @since 1.0.0
+ */
+final class CompactConfigurationMetadataStore implements ConfigurationMetadataStore {
+
+    private static final int NO_DESCRIPTION = -1;
+
+    /**
+     * The shared UTF-8 byte buffer of descriptions
+     */
+    private final byte[] descriptions;
+
+    private final CompactItems groups;
+
+    private final CompactItems properties;
+
+    private final String[] hintNames;
+
+    private final ItemHint[][] hints;
+
+    CompactConfigurationMetadataStore(ConfigurationMetadata configurationMetadata) {
+        Builder builder = new Builder();
+        List<ItemMetadata> items = configurationMetadata.getItems();
+        this.groups = builder.build(this, items, GROUP);
+        this.properties = builder.build(this, items, PROPERTY);
+        this.descriptions = builder.descriptionsBuffer.toByteArray();
+
+        Map<String, List<ItemHint>> namedHints = new TreeMap<>();
+        for (ItemHint itemHint : configurationMetadata.getHints()) {
+            namedHints.computeIfAbsent(itemHint.getName(), name -> newArrayList(1)).add(itemHint);
+        }
+        this.hintNames = namedHints.keySet().toArray(new String[0]);
+        this.hints = namedHints.values().stream().map(itemHints -> itemHints.toArray(new ItemHint[0])).toArray(ItemHint[][]::new);
+    }
+
+    @Override
+    public Set<String> getGroupNames() {
+        return this.groups.nameSet;
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        return this.properties.nameSet;
+    }
+
+    @Override
+    public Collection<ItemMetadata> getGroups() {
+        return this.groups;
+    }
+
+    @Override
+    public Collection<ItemMetadata> getProperties() {
+        return this.properties;
+    }
+
+    @Override
+    public ItemMetadata getGroup(String name) {
+        return this.groups.get(name);
+    }
+
+    @Override
+    public ItemMetadata getProperty(String name) {
+        return this.properties.get(name);
+    }
+
+    @Override
+    public List<ItemHint> getHints(String name) {
+        int index = name == null ? -1 : binarySearch(this.hintNames, name);
+        return index < 0 ? emptyList() : unmodifiableList(asList(this.hints[index]));
+    }
+
+    /**
+     * Returns the size of the shared UTF-8 byte buffer of descriptions
+     *
+     * @return the size in bytes
+     */
+    int getDescriptionsSize() {
+        return this.descriptions.length;
+    }
+
+    @Nullable
+    private String decodeDescription(int offset, int length) {
+        return offset == NO_DESCRIPTION ? null : new String(this.descriptions, offset, length, UTF_8);
+    }
+
+    /**
+     * The builder de-duplicates the strings and the descriptions across the item types
+     */
+    private static class Builder {
+
+        private final Map<Object, Object> values = newHashMap();
+
+        private final Map<String, Integer> descriptionOffsets = newHashMap();
+
+        private final ByteArrayOutputStream descriptionsBuffer = new ByteArrayOutputStream();
+
+        CompactItems build(CompactConfigurationMetadataStore store, List<ItemMetadata> items, ItemType itemType) {
+            Map<String, ItemMetadata> namedItems = newHashMap(items.size());
+            for (ItemMetadata item : items) {
+                if (item.isOfItemType(itemType)) {
+                    // the later one wins as same as the standard store
+                    namedItems.put(item.getName(), item);
+                }
+            }
+            List<ItemMetadata> typedItems = new ArrayList<>(namedItems.values());
+            typedItems.sort(comparing(ItemMetadata::getName));
+
+            int size = typedItems.size();
+            CompactItems compactItems = new CompactItems(store, itemType, size);
+            for (int i = 0; i < size; i++) {
+                ItemMetadata item = typedItems.get(i);
+                compactItems.names[i] = item.getName();
+                compactItems.types[i] = deduplicate(item.getType());
+                compactItems.sourceTypes[i] = deduplicate(item.getSourceType());
+                compactItems.sourceMethods[i] = deduplicate(item.getSourceMethod());
+                compactItems.defaultValues[i] = deduplicate(item.getDefaultValue());
+                compactItems.deprecations[i] = item.getDeprecation();
+                String description = item.getDescription();
+                if (description == null) {
+                    compactItems.descriptionOffsets[i] = NO_DESCRIPTION;
+                } else {
+                    byte[] bytes = description.getBytes(UTF_8);
+                    compactItems.descriptionOffsets[i] = this.descriptionOffsets.computeIfAbsent(description, d -> {
+                        int offset = this.descriptionsBuffer.size();
+                        this.descriptionsBuffer.write(bytes, 0, bytes.length);
+                        return offset;
+                    });
+                    compactItems.descriptionLengths[i] = bytes.length;
+                }
+            }
+            return compactItems;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T deduplicate(T value) {
+            // the arrays are compared by identity, so they are never shared
+            return value == null ? null : (T) this.values.computeIfAbsent(value, v -> v);
+        }
+    }
+
+    /**
+     * The items of one type in the parallel arrays, which are sorted by the names
+     */
+    private static class CompactItems extends AbstractList<ItemMetadata> {
+
+        private final CompactConfigurationMetadataStore store;
+
+        private final ItemType itemType;
+
+        private final String[] names;
+
+        private final String[] types;
+
+        private final String[] sourceTypes;
+
+        private final String[] sourceMethods;
+
+        private final Object[] defaultValues;
+
+        private final ItemDeprecation[] deprecations;
+
+        private final int[] descriptionOffsets;
+
+        private final int[] descriptionLengths;
+
+        private final Set<String> nameSet;
+
+        CompactItems(CompactConfigurationMetadataStore store, ItemType itemType, int size) {
+            this.store = store;
+            this.itemType = itemType;
+            this.names = new String[size];
+            this.types = new String[size];
+            this.sourceTypes = new String[size];
+            this.sourceMethods = new String[size];
+            this.defaultValues = new Object[size];
+            this.deprecations = new ItemDeprecation[size];
+            this.descriptionOffsets = new int[size];
+            this.descriptionLengths = new int[size];
+            this.nameSet = new NameSet(this.names);
+        }
+
+        @Override
+        public ItemMetadata get(int index) {
+            String description = this.store.decodeDescription(this.descriptionOffsets[index], this.descriptionLengths[index]);
+            if (this.itemType == GROUP) {
+                ItemMetadata group = newGroup(this.names[index], this.types[index], this.sourceTypes[index], this.sourceMethods[index]);
+                group.setDescription(description);
+                return group;
+            }
+            return newProperty(this.names[index], null, this.types[index], this.sourceTypes[index], this.sourceMethods[index],
+                    description, this.defaultValues[index], this.deprecations[index]);
+        }
+
+        @Nullable
+        ItemMetadata get(String name) {
+            int index = name == null ? -1 : binarySearch(this.names, name);
+            return index < 0 ? null : get(index);
+        }
+
+        @Override
+        public int size() {
+            return this.names.length;
+        }
+    }
+
+    /**
+     * The read-only {@link Set} of the sorted names
+     */
+    static class NameSet extends AbstractSet<String> {
+
+        private final String[] names;
+
+        NameSet(String[] names) {
+            this.names = names;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof String && binarySearch(this.names, o) >= 0;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return asList(this.names).iterator();
+        }
+
+        @Override
+        public int size() {
+            return this.names.length;
+        }
+    }
+}
@@ -16,42 +16,134 @@
  */
 package io.microsphere.spring.boot.env.config.metadata;
 
+import io.microsphere.annotation.ConfigurationProperty;
 import io.microsphere.annotation.Nonnull;
 import io.microsphere.annotation.Nullable;
+import io.microsphere.logging.Logger;
+import io.microsphere.spring.boot.context.properties.metadata.ConfigurationMetadataCache;
 import io.microsphere.spring.boot.context.properties.metadata.ConfigurationMetadataReader;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.configurationprocessor.metadata.ConfigurationMetadata;
 import org.springframework.boot.configurationprocessor.metadata.ItemHint;
 import org.springframework.boot.configurationprocessor.metadata.ItemMetadata;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
 
+import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-import static io.microsphere.collection.ListUtils.newLinkedList;
-import static io.microsphere.collection.MapUtils.newLinkedHashMap;
-import static java.util.Collections.emptyList;
-import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.ItemType.GROUP;
-import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.ItemType.PROPERTY;
+import static io.microsphere.annotation.ConfigurationProperty.APPLICATION_SOURCE;
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.spring.boot.constants.PropertyConstants.MICROSPHERE_SPRING_BOOT_PROPERTY_NAME_PREFIX;
+import static io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository.InitializationMode.BACKGROUND;
+import static io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository.InitializationMode.EAGER;
+import static io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository.InitializationMode.LAZY;
+import static io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository.StorageMode.COMPACT;
+import static io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository.StorageMode.STANDARD;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.springframework.util.ReflectionUtils.findMethod;
+import static org.springframework.util.ReflectionUtils.invokeMethod;
 
 /**
- * The Repository for {@link ConfigurationMetadata}
+ * The Repository for {@link ConfigurationMetadata}, which is initialized in the
+ * {@link #INITIALIZATION_MODE_PROPERTY_NAME configured} {@link InitializationMode mode} :
+ * <ul>
+ *     <li>{@link InitializationMode#EAGER} (default) : as a {@link CommandLineRunner} during the startup</li>
+ *     <li>{@link InitializationMode#LAZY} : on the first access</li>
+ *     <li>{@link InitializationMode#BACKGROUND} : in the background (virtual) thread after the application is ready</li>
+ * </ul>
+ * The getters never fail before the initialization completes, they return the empty results unless the repository is
+ * lazy, and {@link #awaitReady(Duration)} or {@link #getReadyFuture()} can be used to wait for the readiness. The
+ * failed initialization is recorded rather than leaving the repository empty forever, it's retried on the next
+ * {@link #initialize()}, the next access of the lazy repository or the next {@link #awaitReady(Duration) waiting} of
+ * the background one.
+ * <p>
+ * The items are kept in the {@link #STORAGE_MODE_PROPERTY_NAME configured} {@link StorageMode storage mode}, the
+ * {@link StorageMode#COMPACT compact} one saves the memory at the cost of materializing {@link ItemMetadata} on
+ * every access, and reads the {@link ConfigurationMetadataCache} as is if it's enabled.
  *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
  * @see ConfigurationMetadata
  * @see ConfigurationMetadataReader
  * @since 1.0.0
  */
-public class ConfigurationMetadataRepository implements CommandLineRunner {
+public class ConfigurationMetadataRepository implements CommandLineRunner, ApplicationListener<ApplicationReadyEvent>,
+        EnvironmentAware {
+
+    private static final Logger logger = getLogger(ConfigurationMetadataRepository.class);
+
+    /**
+     * The property name prefix of {@link ConfigurationMetadataRepository} :
+     * "microsphere.spring.boot.configuration-metadata.repository."
+     */
+    public static final String PROPERTY_NAME_PREFIX = MICROSPHERE_SPRING_BOOT_PROPERTY_NAME_PREFIX + "configuration-metadata.repository.";
+
+    @ConfigurationProperty(
+            type = InitializationMode.class,
+            defaultValue = "EAGER",
+            description = "The property to specify the initialization mode of the configuration metadata repository : EAGER, LAZY or BACKGROUND",
+            source = APPLICATION_SOURCE
+    )
+    public static final String INITIALIZATION_MODE_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "initialization-mode";
+
+    @ConfigurationProperty(
+            type = StorageMode.class,
+            defaultValue = "STANDARD",
+            description = "The property to specify the storage mode of the configuration metadata repository : STANDARD or COMPACT",
+            source = APPLICATION_SOURCE
+    )
+    public static final String STORAGE_MODE_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "storage-mode";
+
+    /**
+     * The default timeout to await the readiness of repository
+     */
+    public static final Duration DEFAULT_AWAIT_TIMEOUT = Duration.ofSeconds(5);
+
+    @ConfigurationProperty(
+            type = Duration.class,
+            defaultValue = "5s",
+            description = "The property to specify the timeout that the readers await the readiness of the configuration metadata repository",
+            source = APPLICATION_SOURCE
+    )
+    public static final String AWAIT_TIMEOUT_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "await-timeout";
+
+    /**
+     * The name of background thread initializing the repository
+     */
+    public static final String INITIALIZER_THREAD_NAME = "configuration-metadata-repository-initializer";
+
+    /**
+     * "Executors#newVirtualThreadPerTaskExecutor()" is present since Java 21
+     */
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR_METHOD = findMethod(Executors.class, "newVirtualThreadPerTaskExecutor");
 
     private final ConfigurationMetadataReader configurationMetadataReader;
 
-    private Map<String, ItemMetadata> namedGroups;
+    private final Object initializationLock = new Object();
+
+    private final AtomicBoolean initializingInBackground = new AtomicBoolean();
+
+    private final CompletableFuture<ConfigurationMetadataRepository> readyFuture = new CompletableFuture<>();
 
-    private Map<String, ItemMetadata> namedProperties;
+    private InitializationMode initializationMode = EAGER;
 
-    private Map<String, List<ItemHint>> namedHints;
+    private StorageMode storageMode = STANDARD;
+
+    private volatile Indexes indexes;
+
+    @Nullable
+    private volatile Throwable failure;
 
     /**
      * Constructs a new {@link ConfigurationMetadataRepository} backed by the given
@@ -83,7 +175,7 @@ public class ConfigurationMetadataRepository implements CommandLineRunner {
      */
     @Nonnull
     public Set<String> getPropertyGroups() {
-        return this.namedGroups.keySet();
+        return getIndexes().store.getGroupNames();
     }
 
     /**
@@ -100,7 +192,7 @@ public class ConfigurationMetadataRepository implements CommandLineRunner {
      */
     @Nonnull
     public Set<String> getPropertyNames() {
-        return this.namedProperties.keySet();
+        return getIndexes().store.getPropertyNames();
     }
 
     /**
@@ -117,7 +209,7 @@ public class ConfigurationMetadataRepository implements CommandLineRunner {
      */
     @Nonnull
     public Collection<ItemMetadata> getGroups() {
-        return this.namedGroups.values();
+        return getIndexes().store.getGroups();
     }
 
     /**
@@ -134,7 +226,7 @@ public class ConfigurationMetadataRepository implements CommandLineRunner {
      */
     @Nonnull
     public Collection<ItemMetadata> getProperties() {
-        return this.namedProperties.values();
+        return getIndexes().store.getProperties();
     }
 
     /**
@@ -154,7 +246,7 @@ public class ConfigurationMetadataRepository implements CommandLineRunner {
      */
     @Nullable
     public ItemMetadata getGroup(String name) {
-        return this.namedGroups.get(name);
+        return getIndexes().store.getGroup(name);
     }
 
     /**
@@ -174,7 +266,7 @@ public class ConfigurationMetadataRepository implements CommandLineRunner {
      */
     @Nullable
     public ItemMetadata getProperty(String name) {
-        return this.namedProperties.get(name);
+        return getIndexes().store.getProperty(name);
     }
 
     /**
@@ -192,7 +284,48 @@ public class ConfigurationMetadataRepository implements CommandLineRunner {
      */
     @Nonnull
     public List<ItemHint> getHints(String name) {
-        return this.namedHints.getOrDefault(name, emptyList());
+        return getIndexes().store.getHints(name);
+    }
+
+    /**
+     * Finds the sorted names of configuration metadata groups that start with the given prefix and match the given
+     * full-text query on the names, descriptions and source types.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   ConfigurationMetadataRepository repository = // obtain instance
+     *   List<String> groupNames = repository.findGroupNames("spring.data.", "redis");
+     * }</pre>
+     *
+     * @param prefix the prefix of names, all groups are matched if blank
+     * @param query  the whitespace separated tokens, each of them must match, all groups are matched if blank
+     * @return a non-null read-only list of group names in the natural order
+     * @see #findPropertyNames(String, String)
+     */
+    @Nonnull
+    public List<String> findGroupNames(@Nullable String prefix, @Nullable String query) {
+        return getIndexes().getGroupIndex().find(prefix, query);
+    }
+
+    /**
+     * Finds the sorted names of configuration properties that start with the given prefix and match the given
+     * full-text query on the names, descriptions and source types. Every token of query matches the indexed terms
+     * starting with it, for instance, "redis time" matches "spring.data.redis.timeout".
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   ConfigurationMetadataRepository repository = // obtain instance
+     *   List<String> names = repository.findPropertyNames("server.", null);
+     *   List<String> redisNames = repository.findPropertyNames(null, "redis time");
+     * }</pre>
+     *
+     * @param prefix the prefix of names, all properties are matched if blank
+     * @param query  the whitespace separated tokens, each of them must match, all properties are matched if blank
+     * @return a non-null read-only list of property names in the natural order
+     */
+    @Nonnull
+    public List<String> findPropertyNames(@Nullable String prefix, @Nullable String query) {
+        return getIndexes().getPropertyIndex().find(prefix, query);
     }
 
     /**
@@ -214,8 +347,8 @@ public class ConfigurationMetadataRepository implements CommandLineRunner {
 
     /**
      * Reads the {@link ConfigurationMetadata} and initializes the internal indexed maps
-     * for groups, properties, and hints. This override is invoked automatically as a
-     * {@link CommandLineRunner} callback after application startup.
+     * for groups, properties, and hints if the {@link InitializationMode#EAGER eager} mode is used.
+     * This override is invoked automatically as a {@link CommandLineRunner} callback after application startup.
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
@@ -230,40 +363,320 @@ public class ConfigurationMetadataRepository implements CommandLineRunner {
      */
     @Override
     public void run(String... args) throws Exception {
-        ConfigurationMetadata configurationMetadata = this.configurationMetadataReader.read();
-        // ConfigurationMetadata can't return the underlying items as Map
-        init(configurationMetadata);
+        if (this.initializationMode == EAGER) {
+            initialize();
+        }
     }
 
-    private void init(ConfigurationMetadata configurationMetadata) {
-        List<ItemMetadata> items = configurationMetadata.getItems();
-        initNamedGroupItems(items);
-        initNamedPropertyItems(items);
-        initNamedHints(configurationMetadata.getHints());
+    /**
+     * Initializes the repository in the background thread if the {@link InitializationMode#BACKGROUND background}
+     * mode is used.
+     *
+     * @param event {@link ApplicationReadyEvent}
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (this.initializationMode == BACKGROUND) {
+            initializeInBackground();
+        }
     }
 
-    private void initNamedGroupItems(List<ItemMetadata> items) {
-        this.namedGroups = createNamedItems(items, GROUP);
+    /**
+     * Resolves the {@link InitializationMode} and {@link StorageMode} from the {@link Environment}.
+     *
+     * @param environment the {@link Environment}
+     * @see #INITIALIZATION_MODE_PROPERTY_NAME
+     * @see #STORAGE_MODE_PROPERTY_NAME
+     */
+    @Override
+    public void setEnvironment(Environment environment) {
+        setInitializationMode(environment.getProperty(INITIALIZATION_MODE_PROPERTY_NAME, InitializationMode.class, EAGER));
+        setStorageMode(environment.getProperty(STORAGE_MODE_PROPERTY_NAME, StorageMode.class, STANDARD));
     }
 
-    private void initNamedPropertyItems(List<ItemMetadata> items) {
-        this.namedProperties = createNamedItems(items, PROPERTY);
+    /**
+     * Reads the {@link ConfigurationMetadata} and initializes the internal indexed maps once, the concurrent callers
+     * wait for the completion. If it fails, the failure is recorded and rethrown, and the next call retries.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   ConfigurationMetadataRepository repository = new ConfigurationMetadataRepository(metadataReader);
+     *   repository.initialize();
+     *   assert repository.isReady();
+     * }</pre>
+     */
+    public void initialize() {
+        if (this.indexes != null) {
+            return;
+        }
+        synchronized (this.initializationLock) {
+            if (this.indexes == null) {
+                try {
+                    this.indexes = new Indexes(createStore());
+                    this.failure = null;
+                } catch (Throwable e) {
+                    this.failure = e;
+                    logger.error("The configuration metadata repository can't be initialized", e);
+                    throw e;
+                }
+                this.readyFuture.complete(this);
+            }
+        }
     }
 
-    private void initNamedHints(List<ItemHint> items) {
-        Map<String, List<ItemHint>> namedHints = newLinkedHashMap(items.size());
-        items.stream().forEach(itemHint -> {
-            List<ItemHint> itemHints = namedHints.computeIfAbsent(itemHint.getName(), i -> newLinkedList());
-            itemHints.add(itemHint);
-        });
-        this.namedHints = namedHints;
+    /**
+     * Initializes the repository in the virtual thread if supported, or the daemon platform thread, unless it's ready
+     * or in progress.
+     *
+     * @return the future of readiness, which is completed only if the initialization succeeds
+     */
+    @Nonnull
+    public CompletableFuture<ConfigurationMetadataRepository> initializeInBackground() {
+        if (!isReady() && this.initializingInBackground.compareAndSet(false, true)) {
+            Runnable task = () -> {
+                try {
+                    initializeQuietly();
+                } finally {
+                    this.initializingInBackground.set(false);
+                }
+            };
+            if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR_METHOD != null) {
+                ExecutorService executorService = (ExecutorService) invokeMethod(NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR_METHOD, null);
+                executorService.execute(task);
+                executorService.shutdown();
+            } else {
+                Thread thread = new Thread(task, INITIALIZER_THREAD_NAME);
+                thread.setDaemon(true);
+                thread.start();
+            }
+        }
+        return this.readyFuture;
     }
 
-    private Map<String, ItemMetadata> createNamedItems(List<ItemMetadata> items, ItemMetadata.ItemType itemType) {
-        Map<String, ItemMetadata> namedItems = newLinkedHashMap(items.size());
-        items.stream().filter(item -> item.isOfItemType(itemType)).forEach(item -> {
-            namedItems.put(item.getName(), item);
-        });
-        return namedItems;
+    /**
+     * Waits for the readiness of repository, the lazy repository is initialized in the caller thread, and the failed
+     * background one is initialized in the background again.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *   if (repository.awaitReady(Duration.ofSeconds(5))) {
+     *       Set<String> names = repository.getPropertyNames();
+     *   }
+     * }</pre>
+     *
+     * @param timeout the max time to wait
+     * @return <code>true</code> if the repository is ready
+     */
+    public boolean awaitReady(Duration timeout) {
+        if (this.initializationMode == LAZY) {
+            initializeQuietly();
+        } else if (this.initializationMode == BACKGROUND && this.failure != null) {
+            initializeInBackground();
+        }
+        if (!isReady() && this.failure != null && !this.initializingInBackground.get()) {
+            // The repository is failed, no retry is in progress
+            return false;
+        }
+        try {
+            this.readyFuture.get(timeout.toNanos(), NANOSECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // The repository is failed or still in progress
+        }
+        return false;
+    }
+
+    /**
+     * Whether the repository was initialized successfully
+     *
+     * @return <code>true</code> if ready
+     */
+    public boolean isReady() {
+        return this.indexes != null;
+    }
+
+    /**
+     * Returns the failure of the last initialization
+     *
+     * @return <code>null</code> if the repository is ready, or was not initialized yet
+     */
+    @Nullable
+    public Throwable getFailure() {
+        return this.failure;
+    }
+
+    /**
+     * Returns the future which is completed when the repository is initialized successfully
+     *
+     * @return non-null
+     */
+    @Nonnull
+    public CompletableFuture<ConfigurationMetadataRepository> getReadyFuture() {
+        return this.readyFuture;
+    }
+
+    /**
+     * Sets the {@link InitializationMode}
+     *
+     * @param initializationMode the {@link InitializationMode}
+     */
+    public void setInitializationMode(InitializationMode initializationMode) {
+        this.initializationMode = initializationMode;
+    }
+
+    /**
+     * Returns the {@link InitializationMode}
+     *
+     * @return non-null
+     */
+    @Nonnull
+    public InitializationMode getInitializationMode() {
+        return this.initializationMode;
+    }
+
+    /**
+     * Sets the {@link StorageMode}, which takes effect on the initialization
+     *
+     * @param storageMode the {@link StorageMode}
+     */
+    public void setStorageMode(StorageMode storageMode) {
+        this.storageMode = storageMode;
+    }
+
+    /**
+     * Returns the {@link StorageMode}
+     *
+     * @return non-null
+     */
+    @Nonnull
+    public StorageMode getStorageMode() {
+        return this.storageMode;
+    }
+
+    private ConfigurationMetadataStore createStore() {
+        if (this.storageMode == COMPACT) {
+            ConfigurationMetadataCache cache = this.configurationMetadataReader.readCache();
+            if (cache != null) {
+                return new CachedConfigurationMetadataStore(cache);
+            }
+            return new CompactConfigurationMetadataStore(this.configurationMetadataReader.read());
+        }
+        return new StandardConfigurationMetadataStore(this.configurationMetadataReader.read());
+    }
+
+    private void initializeQuietly() {
+        try {
+            initialize();
+        } catch (Throwable e) {
+            // The failure has been logged by the initializer
+        }
+    }
+
+    private Indexes getIndexes() {
+        Indexes indexes = this.indexes;
+        if (indexes == null) {
+            if (this.initializationMode == LAZY) {
+                initializeQuietly();
+                indexes = this.indexes;
+            }
+            if (indexes == null) {
+                // still in progress or failed
+                return Indexes.EMPTY;
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * The initialization mode of {@link ConfigurationMetadataRepository}
+     */
+    public enum InitializationMode {
+
+        /**
+         * Initialized during the startup
+         */
+        EAGER,
+
+        /**
+         * Initialized on the first access
+         */
+        LAZY,
+
+        /**
+         * Initialized in the background after the application is ready
+         */
+        BACKGROUND
+    }
+
+    /**
+     * The storage mode of {@link ConfigurationMetadataRepository}
+     */
+    public enum StorageMode {
+
+        /**
+         * The original {@link ItemMetadata} objects are kept in the maps by their names
+         */
+        STANDARD,
+
+        /**
+         * The items are decoded from the {@link ConfigurationMetadataCache} on every access if the cache is enabled,
+         * or the de-duplicated values are kept in the arrays sorted by names, and the descriptions are kept in a shared
+         * UTF-8 byte buffer, {@link ItemMetadata} is materialized on every access
+         */
+        COMPACT
+    }
+
+    /**
+     * The read-only {@link ConfigurationMetadataStore store} and {@link ItemMetadataIndex search indexes}, the search
+     * indexes are built on the first search, thus the {@link StorageMode#COMPACT compact} items are not materialized
+     * unless they are searched
+     */
+    private static class Indexes {
+
+        static final Indexes EMPTY = new Indexes(StandardConfigurationMetadataStore.EMPTY);
+
+        private final ConfigurationMetadataStore store;
+
+        private volatile ItemMetadataIndex groupIndex;
+
+        private volatile ItemMetadataIndex propertyIndex;
+
+        Indexes(ConfigurationMetadataStore store) {
+            this.store = store;
+        }
+
+        ItemMetadataIndex getGroupIndex() {
+            ItemMetadataIndex groupIndex = this.groupIndex;
+            if (groupIndex == null) {
+                synchronized (this) {
+                    groupIndex = this.groupIndex;
+                    if (groupIndex == null) {
+                        groupIndex = createIndex(this.store.getGroups());
+                        this.groupIndex = groupIndex;
+                    }
+                }
+            }
+            return groupIndex;
+        }
+
+        ItemMetadataIndex getPropertyIndex() {
+            ItemMetadataIndex propertyIndex = this.propertyIndex;
+            if (propertyIndex == null) {
+                synchronized (this) {
+                    propertyIndex = this.propertyIndex;
+                    if (propertyIndex == null) {
+                        propertyIndex = createIndex(this.store.getProperties());
+                        this.propertyIndex = propertyIndex;
+                    }
+                }
+            }
+            return propertyIndex;
+        }
+
+        private static ItemMetadataIndex createIndex(Collection<ItemMetadata> items) {
+            return items.isEmpty() ? ItemMetadataIndex.EMPTY : new ItemMetadataIndex(items);
+        }
     }
 }
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.env.config.metadata;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import org.springframework.boot.configurationprocessor.metadata.ConfigurationMetadata;
+import org.springframework.boot.configurationprocessor.metadata.ItemHint;
+import org.springframework.boot.configurationprocessor.metadata.ItemMetadata;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The read-only storage of the items of {@link ConfigurationMetadata} behind {@link ConfigurationMetadataRepository}
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see StandardConfigurationMetadataStore
+ * @see CompactConfigurationMetadataStore
+ * @see ConfigurationMetadataRepository.StorageMode
+ * @since 1.0.0
+ */
+interface ConfigurationMetadataStore {
+
+    /**
+     * @return the read-only names of groups
+     */
+    @Nonnull
+    Set<String> getGroupNames();
+
+    /**
+     * @return the read-only names of properties
+     */
+    @Nonnull
+    Set<String> getPropertyNames();
+
+    /**
+     * @return the read-only groups
+     */
+    @Nonnull
+    Collection<ItemMetadata> getGroups();
+
+    /**
+     * @return the read-only properties
+     */
+    @Nonnull
+    Collection<ItemMetadata> getProperties();
+
+    /**
+     * @param name the name of group
+     * @return <code>null</code> if not found
+     */
+    @Nullable
+    ItemMetadata getGroup(String name);
+
+    /**
+     * @param name the name of property
+     * @return <code>null</code> if not found
+     */
+    @Nullable
+    ItemMetadata getProperty(String name);
+
+    /**
+     * @param name the name of property
+     * @return the read-only hints, empty if not found
+     */
+    @Nonnull
+    List<ItemHint> getHints(String name);
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.env.config.metadata;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import org.springframework.boot.configurationprocessor.metadata.ItemMetadata;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.collection.MapUtils.newHashMap;
+import static io.microsphere.collection.SetUtils.newLinkedHashSet;
+import static java.lang.Character.isDigit;
+import static java.lang.Character.isLetterOrDigit;
+import static java.lang.Character.isLowerCase;
+import static java.lang.Character.isUpperCase;
+import static java.lang.Character.toLowerCase;
+import static java.util.Arrays.asList;
+import static java.util.Arrays.binarySearch;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Comparator.comparing;
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * The read-only index of {@link ItemMetadata} that consists of the sorted names for the prefix lookup and a small
+ * inverted index, whose terms are tokenized from the names, descriptions and source types, for the full-text search.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ *   ItemMetadataIndex index = new ItemMetadataIndex(properties);
+ *   // "spring.data.redis.host", "spring.data.redis.port", ...
+ *   List<String> names = index.find("spring.data.", "redis");
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ItemMetadata
+ * @see ConfigurationMetadataRepository
+ * @since 1.0.0
+ */
+final class ItemMetadataIndex {
+
+    static final ItemMetadataIndex EMPTY = new ItemMetadataIndex(emptyList());
+
+    /**
+     * The sorted names of items, whose ordinals are referenced by {@link #postings}
+     */
+    private final String[] names;
+
+    /**
+     * The sorted terms
+     */
+    private final String[] terms;
+
+    /**
+     * The ascending ordinals of names per term
+     */
+    private final int[][] postings;
+
+    ItemMetadataIndex(Collection<ItemMetadata> items) {
+        List<ItemMetadata> sortedItems = new ArrayList<>(items);
+        sortedItems.sort(comparing(ItemMetadata::getName));
+        int size = sortedItems.size();
+        this.names = new String[size];
+        Map<String, BitSet> termOrdinals = newHashMap();
+        for (int i = 0; i < size; i++) {
+            ItemMetadata item = sortedItems.get(i);
+            this.names[i] = item.getName();
+            for (String term : tokenize(item.getName(), item.getDescription(), item.getSourceType())) {
+                termOrdinals.computeIfAbsent(term, t -> new BitSet()).set(i);
+            }
+        }
+        this.terms = termOrdinals.keySet().stream().sorted().toArray(String[]::new);
+        this.postings = new int[this.terms.length][];
+        for (int i = 0; i < this.terms.length; i++) {
+            this.postings[i] = termOrdinals.get(this.terms[i]).stream().toArray();
+        }
+    }
+
+    /**
+     * Finds the sorted names of items that start with the given prefix and match all tokens of the given query,
+     * every query token matches the terms starting with it.
+     *
+     * @param prefix the prefix of names, all names are matched if blank
+     * @param query  the full-text query, all names are matched if blank
+     * @return non-null read-only list
+     */
+    @Nonnull
+    List<String> find(@Nullable String prefix, @Nullable String query) {
+        int from = 0;
+        int to = this.names.length;
+        if (hasText(prefix)) {
+            from = lowerBound(this.names, prefix);
+            to = lowerBound(this.names, prefix + Character.MAX_VALUE);
+        }
+
+        BitSet matched = null;
+        if (hasText(query)) {
+            for (String token : tokenize(query)) {
+                BitSet tokenMatched = new BitSet();
+                for (int i = lowerBound(this.terms, token); i < this.terms.length && this.terms[i].startsWith(token); i++) {
+                    for (int ordinal : this.postings[i]) {
+                        if (ordinal >= from && ordinal < to) {
+                            tokenMatched.set(ordinal);
+                        }
+                    }
+                }
+                if (matched == null) {
+                    matched = tokenMatched;
+                } else {
+                    matched.and(tokenMatched);
+                }
+                if (matched.isEmpty()) {
+                    return emptyList();
+                }
+            }
+        }
+
+        if (matched == null) {
+            return unmodifiableList(asList(this.names).subList(from, to));
+        }
+
+        List<String> matchedNames = newArrayList(matched.cardinality());
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            matchedNames.add(this.names[i]);
+        }
+        return unmodifiableList(matchedNames);
+    }
+
+    /**
+     * Returns the count of indexed terms
+     *
+     * @return the count of indexed terms
+     */
+    int getTermCount() {
+        return this.terms.length;
+    }
+
+    /**
+     * Splits the given texts into the lower-case terms by the non-alphanumeric characters and the camel-case
+     * boundaries, for instance, "org.springframework.boot.autoconfigure.data.redis.RedisProperties" is split into
+     * "org", "springframework", "boot", "autoconfigure", "data", "redis" and "properties".
+     *
+     * @param texts the texts, the <code>null</code> elements are ignored
+     * @return the distinct terms in the order of appearance
+     */
+    @Nonnull
+    static Set<String> tokenize(String... texts) {
+        Set<String> terms = newLinkedHashSet();
+        StringBuilder term = new StringBuilder();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            char previous = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (!isLetterOrDigit(c)) {
+                    addTerm(terms, term);
+                } else {
+                    if (isUpperCase(c) && (isLowerCase(previous) || isDigit(previous))) {
+                        addTerm(terms, term);
+                    }
+                    term.append(toLowerCase(c));
+                }
+                previous = c;
+            }
+            addTerm(terms, term);
+        }
+        return terms;
+    }
+
+    private static void addTerm(Set<String> terms, StringBuilder term) {
+        if (term.length() > 0) {
+            terms.add(term.toString());
+            term.setLength(0);
+        }
+    }
+
+    private static int lowerBound(String[] sortedValues, String value) {
+        int index = binarySearch(sortedValues, value);
+        return index < 0 ? -index - 1 : index;
+    }
+}
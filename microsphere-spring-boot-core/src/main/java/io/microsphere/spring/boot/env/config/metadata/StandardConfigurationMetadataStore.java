@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.env.config.metadata;
+
+import org.springframework.boot.configurationprocessor.metadata.ConfigurationMetadata;
+import org.springframework.boot.configurationprocessor.metadata.ItemHint;
+import org.springframework.boot.configurationprocessor.metadata.ItemMetadata;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.microsphere.collection.ListUtils.newLinkedList;
+import static io.microsphere.collection.MapUtils.newLinkedHashMap;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.ItemType.GROUP;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.ItemType.PROPERTY;
+
+/**
+ * The {@link ConfigurationMetadataStore} that keeps the original {@link ItemMetadata} objects in the read-only
+ * {@link Map maps} by their names, in the order of {@link ConfigurationMetadata}.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationMetadataStore
+ * @see ConfigurationMetadataRepository.StorageMode#STANDARD
+ * @since 1.0.0
+ */
+final class StandardConfigurationMetadataStore implements ConfigurationMetadataStore {
+
+    static final StandardConfigurationMetadataStore EMPTY = new StandardConfigurationMetadataStore(emptyMap(), emptyMap(), emptyMap());
+
+    private final Map<String, ItemMetadata> namedGroups;
+
+    private final Map<String, ItemMetadata> namedProperties;
+
+    private final Map<String, List<ItemHint>> namedHints;
+
+    StandardConfigurationMetadataStore(ConfigurationMetadata configurationMetadata) {
+        this(createNamedItems(configurationMetadata.getItems(), GROUP),
+                createNamedItems(configurationMetadata.getItems(), PROPERTY),
+                createNamedHints(configurationMetadata.getHints()));
+    }
+
+    private StandardConfigurationMetadataStore(Map<String, ItemMetadata> namedGroups, Map<String, ItemMetadata> namedProperties,
+                                               Map<String, List<ItemHint>> namedHints) {
+        this.namedGroups = namedGroups;
+        this.namedProperties = namedProperties;
+        this.namedHints = namedHints;
+    }
+
+    @Override
+    public Set<String> getGroupNames() {
+        return this.namedGroups.keySet();
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        return this.namedProperties.keySet();
+    }
+
+    @Override
+    public Collection<ItemMetadata> getGroups() {
+        return this.namedGroups.values();
+    }
+
+    @Override
+    public Collection<ItemMetadata> getProperties() {
+        return this.namedProperties.values();
+    }
+
+    @Override
+    public ItemMetadata getGroup(String name) {
+        return this.namedGroups.get(name);
+    }
+
+    @Override
+    public ItemMetadata getProperty(String name) {
+        return this.namedProperties.get(name);
+    }
+
+    @Override
+    public List<ItemHint> getHints(String name) {
+        return this.namedHints.getOrDefault(name, emptyList());
+    }
+
+    private static Map<String, List<ItemHint>> createNamedHints(List<ItemHint> items) {
+        Map<String, List<ItemHint>> namedHints = newLinkedHashMap(items.size());
+        items.stream().forEach(itemHint -> {
+            List<ItemHint> itemHints = namedHints.computeIfAbsent(itemHint.getName(), i -> newLinkedList());
+            itemHints.add(itemHint);
+        });
+        namedHints.replaceAll((name, itemHints) -> unmodifiableList(itemHints));
+        return unmodifiableMap(namedHints);
+    }
+
+    private static Map<String, ItemMetadata> createNamedItems(List<ItemMetadata> items, ItemMetadata.ItemType itemType) {
+        Map<String, ItemMetadata> namedItems = newLinkedHashMap(items.size());
+        items.stream().filter(item -> item.isOfItemType(itemType)).forEach(item -> {
+            namedItems.put(item.getName(), item);
+        });
+        return unmodifiableMap(namedItems);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.report;
+
+import io.microsphere.annotation.Nonnull;
+
+/**
+ * The suggestion to exclude an auto-configuration class, which is learned from the history of
+ * {@link org.springframework.boot.autoconfigure.condition.ConditionEvaluationReport}.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AutoConfigurationExclusionSuggestionListener
+ * @since 1.0.0
+ */
+public class AutoConfigurationExclusionSuggestion {
+
+    /**
+     * The reason of suggestion
+     */
+    public enum Reason {
+
+        /**
+         * The conditions of auto-configuration class never matched
+         */
+        NO_MATCH
+    }
+
+    /**
+     * The estimated saved time if unknown, e.g, the profiler is disabled
+     */
+    public static final long UNKNOWN_SAVED_NANOS = -1L;
+
+    private final String className;
+
+    private final Reason reason;
+
+    private final int runs;
+
+    private final long estimatedSavedNanos;
+
+    AutoConfigurationExclusionSuggestion(String className, Reason reason, int runs, long estimatedSavedNanos) {
+        this.className = className;
+        this.reason = reason;
+        this.runs = runs;
+        this.estimatedSavedNanos = estimatedSavedNanos;
+    }
+
+    /**
+     * Get the name of auto-configuration class
+     *
+     * @return non-null
+     */
+    @Nonnull
+    public String getClassName() {
+        return this.className;
+    }
+
+    /**
+     * Get the reason
+     *
+     * @return non-null
+     */
+    @Nonnull
+    public Reason getReason() {
+        return this.reason;
+    }
+
+    /**
+     * Get the count of the consecutive runs observed with the same reason
+     *
+     * @return the count
+     */
+    public int getRuns() {
+        return this.runs;
+    }
+
+    /**
+     * Get the estimated startup time saved by the exclusion
+     *
+     * @return the nanoseconds, or {@link #UNKNOWN_SAVED_NANOS} if unknown
+     */
+    public long getEstimatedSavedNanos() {
+        return this.estimatedSavedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "AutoConfigurationExclusionSuggestion{" +
+                "className='" + this.className + '\'' +
+                ", reason=" + this.reason +
+                ", runs=" + this.runs +
+                ", estimatedSavedNanos=" + this.estimatedSavedNanos +
+                '}';
+    }
+}
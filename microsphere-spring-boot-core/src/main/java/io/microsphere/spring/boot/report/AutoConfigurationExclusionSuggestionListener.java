@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.report;
+
+import io.microsphere.annotation.ConfigurationProperty;
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.logging.Logger;
+import io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfile;
+import io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler;
+import io.microsphere.spring.boot.report.AutoConfigurationExclusionSuggestion.Reason;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionEvaluationReport;
+import org.springframework.boot.autoconfigure.condition.ConditionEvaluationReport.ConditionAndOutcomes;
+import org.springframework.boot.context.annotation.ImportCandidates;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static io.microsphere.annotation.ConfigurationProperty.APPLICATION_SOURCE;
+import static io.microsphere.collection.SetUtils.newLinkedHashSet;
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.spring.boot.autoconfigure.ConfigurableAutoConfigurationImportFilter.AUTO_CONFIGURE_EXCLUDE_PROPERTY_NAME;
+import static io.microsphere.spring.boot.constants.PropertyConstants.MICROSPHERE_SPRING_BOOT_PROPERTY_NAME_PREFIX;
+import static io.microsphere.spring.boot.report.AutoConfigurationExclusionSuggestion.Reason.NO_MATCH;
+import static io.microsphere.spring.boot.report.AutoConfigurationExclusionSuggestion.UNKNOWN_SAVED_NANOS;
+import static io.microsphere.spring.boot.report.ConditionEvaluationReportBuilder.build;
+import static java.lang.Integer.parseInt;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparingLong;
+
+/**
+ * The {@link ApplicationListener} learns the auto-configuration classes to exclude from the history of
+ * {@link ConditionEvaluationReport} when the application is ready if
+ * {@link #ENABLED_PROPERTY_NAME enabled}, the auto-configuration classes are suggested if their conditions did not
+ * match in the consecutive {@link #MIN_RUNS_PROPERTY_NAME runs} ({@link Reason#NO_MATCH}).
+ * <p>
+ * The matched auto-configuration classes are never suggested even if their beans seem to be unused, because the beans
+ * could be looked up by type or {@link org.springframework.beans.factory.ObjectProvider} at any time, e.g, the
+ * {@code Filter}s, the {@code HealthIndicator}s and the customizers, which are invisible in the bean dependencies.
+ * <p>
+ * The suggestions are written into the {@link #FILE_PROPERTY_NAME file} as the ready-to-use
+ * "microsphere.autoconfigure.exclude" properties for
+ * {@link io.microsphere.spring.boot.autoconfigure.ConfigurableAutoConfigurationImportFilter}, with the estimated startup
+ * time saved per entry, which is measured by {@link AutoConfigurationProfiler} if enabled. The history is stored in the
+ * sibling file with the suffix {@link #HISTORY_FILE_SUFFIX ".history"}.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * microsphere.spring.boot.conditions.report.exclusion-suggestion.enabled=true
+ * # optional, import the suggestions on later starts
+ * spring.config.import=optional:file:/tmp/microsphere/autoconfigure/application-exclusions.properties
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AutoConfigurationExclusionSuggestion
+ * @see ConditionEvaluationReportBuilder
+ * @see AutoConfigurationProfiler
+ * @since 1.0.0
+ */
+public class AutoConfigurationExclusionSuggestionListener implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger logger = getLogger(AutoConfigurationExclusionSuggestionListener.class);
+
+    /**
+     * The property name prefix of the exclusion suggestion : "microsphere.spring.boot.conditions.report.exclusion-suggestion."
+     */
+    public static final String PROPERTY_NAME_PREFIX = MICROSPHERE_SPRING_BOOT_PROPERTY_NAME_PREFIX + "conditions.report.exclusion-suggestion.";
+
+    @ConfigurationProperty(
+            type = boolean.class,
+            defaultValue = "false",
+            description = "The property to enable the suggestions of the excluded classes of Spring Boot Auto-Configuration",
+            source = APPLICATION_SOURCE
+    )
+    public static final String ENABLED_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "enabled";
+
+    /**
+     * The default path of the suggestion file
+     */
+    public static final String DEFAULT_FILE = "${java.io.tmpdir}/microsphere/autoconfigure/${spring.application.name:application}-exclusions.properties";
+
+    @ConfigurationProperty(
+            defaultValue = DEFAULT_FILE,
+            description = "The property to specify the path of the suggestion file of the excluded classes of Spring Boot Auto-Configuration",
+            source = APPLICATION_SOURCE
+    )
+    public static final String FILE_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "file";
+
+    /**
+     * The default count of the consecutive runs to suggest
+     */
+    public static final int DEFAULT_MIN_RUNS = 3;
+
+    @ConfigurationProperty(
+            type = int.class,
+            defaultValue = "3",
+            description = "The property to specify the count of the consecutive runs to suggest the excluded classes of Spring Boot Auto-Configuration",
+            source = APPLICATION_SOURCE
+    )
+    public static final String MIN_RUNS_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "min-runs";
+
+    /**
+     * The suffix of the history file
+     */
+    public static final String HISTORY_FILE_SUFFIX = ".history";
+
+    private static final char HISTORY_VALUE_SEPARATOR = ':';
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ConfigurableApplicationContext context = event.getApplicationContext();
+        ConfigurableEnvironment environment = context.getEnvironment();
+        if (!environment.getProperty(ENABLED_PROPERTY_NAME, Boolean.class, false)) {
+            return;
+        }
+        File file = new File(environment.resolvePlaceholders(environment.getProperty(FILE_PROPERTY_NAME, DEFAULT_FILE)));
+        int minRuns = environment.getProperty(MIN_RUNS_PROPERTY_NAME, Integer.class, DEFAULT_MIN_RUNS);
+        suggest(context.getBeanFactory(), context.getClassLoader(), file, minRuns);
+    }
+
+    /**
+     * Learn the suggestions from the {@link ConditionEvaluationReport} of the {@link ConfigurableListableBeanFactory}
+     * and the history, then write them into the file.
+     *
+     * @param beanFactory {@link ConfigurableListableBeanFactory}
+     * @param classLoader {@link ClassLoader} to load the auto-configuration candidates
+     * @param file        the suggestion file
+     * @param minRuns     the count of the consecutive runs to suggest
+     * @return the suggestions sorted by the estimated saved time descending
+     */
+    @Nonnull
+    List<AutoConfigurationExclusionSuggestion> suggest(ConfigurableListableBeanFactory beanFactory, ClassLoader classLoader,
+                                                       File file, int minRuns) {
+        ConditionEvaluationReport report = build(beanFactory);
+        Set<String> autoConfigurationClasses = getAutoConfigurationClasses(classLoader);
+        File historyFile = new File(file.getPath() + HISTORY_FILE_SUFFIX);
+        Properties history = loadProperties(historyFile);
+
+        updateHistory(history, report, autoConfigurationClasses);
+
+        AutoConfigurationProfiler profiler = AutoConfigurationProfiler.get(beanFactory);
+        List<AutoConfigurationExclusionSuggestion> suggestions = new ArrayList<>();
+        for (String className : new TreeSet<>(history.stringPropertyNames())) {
+            String value = history.getProperty(className);
+            int index = value.indexOf(HISTORY_VALUE_SEPARATOR);
+            Reason reason = index < 0 ? null : resolveReason(value.substring(0, index));
+            if (reason == null) {
+                // The entry of the obsolete reason, e.g, "UNREFERENCED"
+                history.remove(className);
+                continue;
+            }
+            int runs = parseInt(value.substring(index + 1));
+            if (runs >= minRuns) {
+                suggestions.add(new AutoConfigurationExclusionSuggestion(className, reason, runs, estimateSavedNanos(profiler, className)));
+            }
+        }
+        suggestions.sort(comparingLong(AutoConfigurationExclusionSuggestion::getEstimatedSavedNanos).reversed());
+
+        storeProperties(history, historyFile);
+        writeSuggestions(suggestions, file);
+        return suggestions;
+    }
+
+    /**
+     * Update the history by the auto-configuration classes evaluated in this run, the ones were not evaluated, e.g,
+     * excluded, are kept as they were.
+     *
+     * @param history                  the history which key is the class name and value is "reason:runs"
+     * @param report                   {@link ConditionEvaluationReport}
+     * @param autoConfigurationClasses the names of auto-configuration candidates
+     */
+    static void updateHistory(Properties history, ConditionEvaluationReport report, Set<String> autoConfigurationClasses) {
+        // The matched auto-configuration classes including the unconditional ones
+        Set<String> matchedClasses = newLinkedHashSet();
+        for (Map.Entry<String, ConditionAndOutcomes> entry : report.getConditionAndOutcomesBySource().entrySet()) {
+            String source = entry.getKey();
+            if (!autoConfigurationClasses.contains(source)) {
+                continue;
+            }
+            if (entry.getValue().isFullMatch()) {
+                matchedClasses.add(source);
+            } else {
+                recordHistory(history, source, NO_MATCH);
+            }
+        }
+        for (String className : report.getUnconditionalClasses()) {
+            if (autoConfigurationClasses.contains(className)) {
+                matchedClasses.add(className);
+            }
+        }
+        for (String className : matchedClasses) {
+            recordHistory(history, className, null);
+        }
+    }
+
+    private static void recordHistory(Properties history, String className, @Nullable Reason reason) {
+        if (reason == null) {
+            history.remove(className);
+            return;
+        }
+        String value = history.getProperty(className);
+        int runs = 1;
+        if (value != null && value.startsWith(reason.name() + HISTORY_VALUE_SEPARATOR)) {
+            runs += parseInt(value.substring(reason.name().length() + 1));
+        }
+        history.setProperty(className, reason.name() + HISTORY_VALUE_SEPARATOR + runs);
+    }
+
+    @Nullable
+    static Reason resolveReason(String name) {
+        for (Reason reason : Reason.values()) {
+            if (reason.name().equals(name)) {
+                return reason;
+            }
+        }
+        return null;
+    }
+
+    static Set<String> getAutoConfigurationClasses(ClassLoader classLoader) {
+        Set<String> autoConfigurationClasses = newLinkedHashSet();
+        for (String className : ImportCandidates.load(AutoConfiguration.class, classLoader)) {
+            autoConfigurationClasses.add(className);
+        }
+        return autoConfigurationClasses;
+    }
+
+    static long estimateSavedNanos(@Nullable AutoConfigurationProfiler profiler, String className) {
+        AutoConfigurationProfile profile = profiler == null ? null : profiler.getProfile(className);
+        return profile == null ? UNKNOWN_SAVED_NANOS : profile.getTotalNanos();
+    }
+
+    static void writeSuggestions(List<AutoConfigurationExclusionSuggestion> suggestions, File file) {
+        Path path = file.toPath();
+        try {
+            createParentDirectories(path);
+            try (Writer writer = Files.newBufferedWriter(path, UTF_8)) {
+                writer.write("# Generated by " + AutoConfigurationExclusionSuggestionListener.class.getName() + "\n");
+                writer.write("# The suggested auto-configuration classes to exclude with the estimated startup time saved :\n");
+                long totalSavedNanos = 0;
+                for (AutoConfigurationExclusionSuggestion suggestion : suggestions) {
+                    long savedNanos = suggestion.getEstimatedSavedNanos();
+                    totalSavedNanos += savedNanos == UNKNOWN_SAVED_NANOS ? 0 : savedNanos;
+                    writer.write("# " + suggestion.getClassName() + " : " + suggestion.getReason() + " in " + suggestion.getRuns() +
+                            " runs , saves " + formatNanos(savedNanos) + "\n");
+                }
+                writer.write("# Total saves " + formatNanos(totalSavedNanos) + "\n");
+                writer.write(AUTO_CONFIGURE_EXCLUDE_PROPERTY_NAME + "=");
+                for (int i = 0; i < suggestions.size(); i++) {
+                    writer.write(i == 0 ? "\\\n  " : ",\\\n  ");
+                    writer.write(suggestions.get(i).getClassName());
+                }
+                writer.write("\n");
+            }
+            if (logger.isInfoEnabled()) {
+                logger.info("{} auto-configuration classes are suggested to exclude in '{}'", suggestions.size(), path);
+            }
+        } catch (IOException e) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("The suggestions of auto-configuration exclusions can't be written into '{}'", path, e);
+            }
+        }
+    }
+
+    static String formatNanos(long nanos) {
+        return nanos == UNKNOWN_SAVED_NANOS ? "unknown" : format("%.3f ms", nanos / 1_000_000.0);
+    }
+
+    static Properties loadProperties(File file) {
+        Properties properties = new Properties();
+        if (file.isFile()) {
+            try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+                properties.load(inputStream);
+            } catch (IOException e) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("The history of auto-configuration exclusions can't be loaded from '{}'", file, e);
+                }
+            }
+        }
+        return properties;
+    }
+
+    static void storeProperties(Properties properties, File file) {
+        Path path = file.toPath();
+        try {
+            createParentDirectories(path);
+            try (OutputStream outputStream = Files.newOutputStream(path)) {
+                properties.store(outputStream, "The history of auto-configuration exclusions : <class name>=<reason>:<runs>");
+            }
+        } catch (IOException e) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("The history of auto-configuration exclusions can't be stored into '{}'", path, e);
+            }
+        }
+    }
+
+    private static void createParentDirectories(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+    }
+}
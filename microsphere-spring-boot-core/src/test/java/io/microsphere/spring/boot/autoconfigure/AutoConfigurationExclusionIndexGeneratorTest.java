@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import static io.microsphere.collection.MapUtils.newLinkedHashMap;
+import static io.microsphere.collection.SetUtils.newLinkedHashSet;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.checksum;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.readIndex;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndexGenerator.collectPatterns;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndexGenerator.generate;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndexGenerator.getResourceName;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndexGenerator.hasActivation;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndexGenerator.isProfileSpecific;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndexGenerator.isExcludePropertyName;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndexGenerator.main;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link AutoConfigurationExclusionIndexGenerator} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AutoConfigurationExclusionIndexGenerator
+ * @since 1.0.0
+ */
+class AutoConfigurationExclusionIndexGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testGenerate() throws IOException {
+        Path propertiesFile = this.tempDir.resolve("application.properties");
+        Files.writeString(propertiesFile, "microsphere.autoconfigure.exclude=com.example.FooAutoConfiguration,com.example.bar.*\n" +
+                "microsphere.autoconfigure.exclude-index.enabled=true\n", UTF_8);
+        Path yamlFile = this.tempDir.resolve("application.yaml");
+        Files.writeString(yamlFile, "microsphere:\n" +
+                "  autoconfigure:\n" +
+                "    exclude:\n" +
+                "      - com.example.baz.**\n" +
+                "      - ${excluded.class}\n", UTF_8);
+        Path profileFile = this.tempDir.resolve("application-dev.properties");
+        Files.writeString(profileFile, "microsphere.autoconfigure.exclude=com.example.dev.*\n", UTF_8);
+        Path activatedFile = this.tempDir.resolve("activated.yaml");
+        Files.writeString(activatedFile, "microsphere.autoconfigure.exclude: com.example.prod.*\n" +
+                "---\n" +
+                "spring.config.activate.on-profile: prod\n" +
+                "microsphere.autoconfigure.exclude: com.example.prod.*\n", UTF_8);
+        Path outputPath = this.tempDir.resolve("classes");
+        Path configFile = outputPath.resolve("config/application.properties");
+        Files.createDirectories(configFile.getParent());
+        Files.writeString(configFile, "microsphere.autoconfigure.exclude=com.example.config.*\n", UTF_8);
+        File outputDirectory = outputPath.toFile();
+
+        File indexFile = generate(outputDirectory, propertiesFile.toFile(), yamlFile.toFile(), profileFile.toFile(),
+                activatedFile.toFile(), configFile.toFile(), new File(this.tempDir.toFile(), "absent.properties"));
+        assertTrue(indexFile.isFile());
+
+        Set<String> patterns = newLinkedHashSet();
+        Map<String, String> sources = newLinkedHashMap();
+        try (InputStream inputStream = new FileInputStream(indexFile)) {
+            readIndex(inputStream, patterns, sources);
+        }
+        // The files with the placeholders, the profile-specific files and the activated documents are skipped
+        assertEquals(3, patterns.size());
+        assertTrue(patterns.contains("com.example.FooAutoConfiguration"));
+        assertTrue(patterns.contains("com.example.bar.*"));
+        assertTrue(patterns.contains("com.example.config.*"));
+        assertEquals(2, sources.size());
+        try (InputStream inputStream = Files.newInputStream(propertiesFile)) {
+            assertEquals(checksum(inputStream), sources.get("application.properties"));
+        }
+        try (InputStream inputStream = Files.newInputStream(configFile)) {
+            assertEquals(checksum(inputStream), sources.get("config/application.properties"));
+        }
+    }
+
+    @Test
+    void testGetResourceName() {
+        File outputDirectory = this.tempDir.resolve("classes").toFile();
+        assertEquals("config/application.properties", getResourceName(outputDirectory, new File(outputDirectory, "config/application.properties")));
+        assertEquals("application.properties", getResourceName(outputDirectory, this.tempDir.resolve("application.properties").toFile()));
+    }
+
+    @Test
+    void testIsProfileSpecific() {
+        assertTrue(isProfileSpecific(new File("application-dev.properties")));
+        assertTrue(isProfileSpecific(new File("application-prod.yaml")));
+        assertFalse(isProfileSpecific(new File("application.properties")));
+        assertFalse(isProfileSpecific(new File("application")));
+    }
+
+    @Test
+    void testHasActivation() {
+        Properties properties = new Properties();
+        assertFalse(hasActivation(properties));
+        properties.setProperty("spring.profiles.active", "dev");
+        assertFalse(hasActivation(properties));
+        properties.setProperty("spring.config.activate.on-profile", "dev");
+        assertTrue(hasActivation(properties));
+        properties.clear();
+        properties.setProperty("spring.profiles", "dev");
+        assertTrue(hasActivation(properties));
+    }
+
+    @Test
+    void testMain() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> main(new String[0]));
+        Path propertiesFile = this.tempDir.resolve("application.properties");
+        Files.writeString(propertiesFile, "microsphere.autoconfigure.exclude[0]=com.example.FooAutoConfiguration\n", UTF_8);
+        main(new String[]{this.tempDir.toString(), propertiesFile.toString()});
+        assertTrue(this.tempDir.resolve(AutoConfigurationExclusionIndex.INDEX_RESOURCE_NAME).toFile().isFile());
+    }
+
+    @Test
+    void testCollectPatterns() {
+        Properties properties = new Properties();
+        properties.setProperty("microsphere.autoconfigure.exclude[0]", "com.example.FooAutoConfiguration, ");
+        properties.setProperty("microsphere.autoconfigure.exclude[1]", "${excluded}");
+        properties.setProperty("microsphere.autoconfigure.exclude-index.enabled", "false");
+        Set<String> patterns = newLinkedHashSet();
+        assertFalse(collectPatterns(properties, patterns));
+        assertEquals(1, patterns.size());
+        assertTrue(patterns.contains("com.example.FooAutoConfiguration"));
+
+        properties.remove("microsphere.autoconfigure.exclude[1]");
+        assertTrue(collectPatterns(properties, patterns));
+    }
+
+    @Test
+    void testIsExcludePropertyName() {
+        assertTrue(isExcludePropertyName("microsphere.autoconfigure.exclude"));
+        assertTrue(isExcludePropertyName("microsphere.autoconfigure.exclude[0]"));
+        assertFalse(isExcludePropertyName("microsphere.autoconfigure.exclude-index.enabled"));
+        assertFalse(isExcludePropertyName("microsphere.autoconfigure"));
+    }
+}
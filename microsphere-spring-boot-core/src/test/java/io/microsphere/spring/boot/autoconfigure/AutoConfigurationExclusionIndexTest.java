@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure;
+
+import io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.IndexContent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.collection.MapUtils.newLinkedHashMap;
+import static io.microsphere.collection.Maps.ofMap;
+import static io.microsphere.collection.SetUtils.newLinkedHashSet;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.EMPTY;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.INDEX_RESOURCE_NAME;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.checksum;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.doLoadIndexContent;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.isPattern;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.loadIndexedResourceNames;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.loadPatterns;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.of;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.readIndex;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.readPatterns;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.writeIndex;
+import static io.microsphere.spring.boot.autoconfigure.AutoConfigurationExclusionIndex.writePatterns;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.util.ClassUtils.getDefaultClassLoader;
+
+/**
+ * {@link AutoConfigurationExclusionIndex} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AutoConfigurationExclusionIndex
+ * @since 1.0.0
+ */
+class AutoConfigurationExclusionIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testOnEmpty() {
+        assertSame(EMPTY, of(emptyList()));
+        assertSame(EMPTY, of(ofList("", " ")));
+        assertTrue(EMPTY.isEmpty());
+        assertTrue(EMPTY.getPatterns().isEmpty());
+        assertFalse(EMPTY.isExcluded("com.example.FooAutoConfiguration"));
+    }
+
+    @Test
+    void testIsExcludedOnClassName() {
+        AutoConfigurationExclusionIndex index = of(ofList("com.example.FooAutoConfiguration", " com.example.BarAutoConfiguration "));
+        assertFalse(index.isEmpty());
+        assertEquals(2, index.getPatterns().size());
+        assertTrue(index.isExcluded("com.example.FooAutoConfiguration"));
+        assertTrue(index.isExcluded("com.example.BarAutoConfiguration"));
+        assertFalse(index.isExcluded("com.example.BazAutoConfiguration"));
+        assertFalse(index.isExcluded(null));
+        assertFalse(index.isExcluded(""));
+        assertFalse(index.isExcluded(" "));
+    }
+
+    @Test
+    void testIsExcludedOnPackagePattern() {
+        AutoConfigurationExclusionIndex index = of(ofList("com.example.*"));
+        assertTrue(index.isExcluded("com.example.FooAutoConfiguration"));
+        assertTrue(index.isExcluded("com.example.FooAutoConfiguration$Nested"));
+        assertFalse(index.isExcluded("com.example.sub.FooAutoConfiguration"));
+        assertFalse(index.isExcluded("com.other.FooAutoConfiguration"));
+        assertFalse(index.isExcluded("com.example"));
+    }
+
+    @Test
+    void testIsExcludedOnDeepPackagePattern() {
+        AutoConfigurationExclusionIndex index = of(ofList("com.example.**"));
+        assertTrue(index.isExcluded("com.example.FooAutoConfiguration"));
+        assertTrue(index.isExcluded("com.example.sub.FooAutoConfiguration"));
+        assertTrue(index.isExcluded("com.example.sub.sub.FooAutoConfiguration"));
+        assertFalse(index.isExcluded("com.other.FooAutoConfiguration"));
+        assertFalse(index.isExcluded("com.examples.FooAutoConfiguration"));
+    }
+
+    @Test
+    void testIsExcludedOnSimpleNamePattern() {
+        AutoConfigurationExclusionIndex index = of(ofList("com.example.Foo*", "com.example.Bar*", "org.**", "com.example.FooAutoConfiguration"));
+        assertTrue(index.isExcluded("com.example.FooAutoConfiguration"));
+        assertTrue(index.isExcluded("com.example.FooBarAutoConfiguration"));
+        assertTrue(index.isExcluded("com.example.BarAutoConfiguration"));
+        assertFalse(index.isExcluded("com.example.BazAutoConfiguration"));
+        assertFalse(index.isExcluded("com.example.sub.FooAutoConfiguration"));
+        assertTrue(index.isExcluded("org.example.FooAutoConfiguration"));
+    }
+
+    @Test
+    void testIsPattern() {
+        assertTrue(isPattern("com.example.*"));
+        assertTrue(isPattern("com.example.**"));
+        assertTrue(isPattern("com.example.Foo*"));
+        assertFalse(isPattern("com.example.FooAutoConfiguration"));
+    }
+
+    @Test
+    void testLoadPatterns() {
+        Set<String> patterns = loadPatterns(null);
+        assertTrue(patterns.contains("io.microsphere.spring.boot.autoconfigure.indexed.**"));
+        assertSame(patterns, loadPatterns(getDefaultClassLoader()));
+    }
+
+    @Test
+    void testLoadIndexedResourceNames() {
+        Set<String> resourceNames = loadIndexedResourceNames(null);
+        assertEquals(1, resourceNames.size());
+        assertTrue(resourceNames.contains("META-INF/microsphere/indexed.properties"));
+    }
+
+    @Test
+    void testDoLoadIndexContent() throws IOException {
+        Path sourcePath = this.tempDir.resolve("application.properties");
+        Files.writeString(sourcePath, "microsphere.autoconfigure.exclude=com.example.*\n", UTF_8);
+        String checksum;
+        try (InputStream inputStream = Files.newInputStream(sourcePath)) {
+            checksum = checksum(inputStream);
+        }
+        Path indexPath = this.tempDir.resolve(INDEX_RESOURCE_NAME);
+        Files.createDirectories(indexPath.getParent());
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{this.tempDir.toUri().toURL()}, null)) {
+            // absent
+            assertSame(IndexContent.EMPTY, doLoadIndexContent(classLoader));
+
+            // no source was recorded
+            writeIndexFile(indexPath, emptyMap(), "com.example.*");
+            assertSame(IndexContent.EMPTY, doLoadIndexContent(classLoader));
+
+            // up-to-date
+            writeIndexFile(indexPath, ofMap("application.properties", checksum), "com.example.*");
+            IndexContent indexContent = doLoadIndexContent(classLoader);
+            assertEquals(1, indexContent.patterns.size());
+            assertTrue(indexContent.patterns.contains("com.example.*"));
+            assertTrue(indexContent.resourceNames.contains("application.properties"));
+
+            // changed
+            writeIndexFile(indexPath, ofMap("application.properties", "0"), "com.example.*");
+            assertSame(IndexContent.EMPTY, doLoadIndexContent(classLoader));
+
+            // absent source
+            writeIndexFile(indexPath, ofMap("application.properties", checksum, "config/application.properties", checksum), "com.example.*");
+            assertSame(IndexContent.EMPTY, doLoadIndexContent(classLoader));
+        }
+    }
+
+    private void writeIndexFile(Path indexPath, Map<String, String> sources, String... patterns) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(indexPath, UTF_8)) {
+            writeIndex(sources, ofList(patterns), writer);
+        }
+    }
+
+    @Test
+    void testWriteAndReadPatterns() throws IOException {
+        StringWriter writer = new StringWriter();
+        writePatterns(ofList("com.example.*", "com.example.FooAutoConfiguration"), writer);
+
+        Set<String> patterns = newLinkedHashSet();
+        readPatterns(new ByteArrayInputStream(writer.toString().getBytes(UTF_8)), patterns);
+        assertEquals(2, patterns.size());
+        assertTrue(patterns.contains("com.example.*"));
+        assertTrue(patterns.contains("com.example.FooAutoConfiguration"));
+    }
+
+    @Test
+    void testWriteAndReadIndex() throws IOException {
+        StringWriter writer = new StringWriter();
+        Map<String, String> sources = newLinkedHashMap();
+        sources.put("application.properties", "1c291ca3");
+        sources.put("config/application.yaml", "2d3a2b14");
+        writeIndex(sources, ofList("com.example.*"), writer);
+
+        Set<String> patterns = newLinkedHashSet();
+        Map<String, String> readSources = newLinkedHashMap();
+        readIndex(new ByteArrayInputStream(writer.toString().getBytes(UTF_8)), patterns, readSources);
+        assertEquals(1, patterns.size());
+        assertTrue(patterns.contains("com.example.*"));
+        assertEquals(sources, readSources);
+    }
+}
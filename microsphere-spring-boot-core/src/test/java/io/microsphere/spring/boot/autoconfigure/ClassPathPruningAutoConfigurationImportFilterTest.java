@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure;
+
+import io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationMetadata;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.nio.file.Path;
+
+import static io.microsphere.spring.boot.autoconfigure.ClassPathPruningAutoConfigurationImportFilter.AUTO_CONFIGURE_CLASSPATH_PRUNING_ENABLED_PROPERTY_NAME;
+import static io.microsphere.spring.boot.autoconfigure.ClassPathPruningAutoConfigurationImportFilter.AUTO_CONFIGURE_CLASSPATH_PRUNING_INDEX_DIRECTORY_PROPERTY_NAME;
+import static io.microsphere.spring.boot.autoconfigure.ClassPathPruningAutoConfigurationImportFilter.DEFAULT_CLASSPATH_PRUNING_INDEX_DIRECTORY;
+import static io.microsphere.spring.boot.autoconfigure.ClassPathPruningAutoConfigurationImportFilter.isSatisfied;
+import static io.microsphere.spring.boot.autoconfigure.ClassPresenceIndex.get;
+import static io.microsphere.spring.boot.autoconfigure.ClassPresenceIndex.load;
+import static io.microsphere.util.ArrayUtils.ofArray;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.core.Ordered.HIGHEST_PRECEDENCE;
+
+/**
+ * {@link ClassPathPruningAutoConfigurationImportFilter} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ClassPathPruningAutoConfigurationImportFilter
+ * @since 1.0.0
+ */
+class ClassPathPruningAutoConfigurationImportFilterTest {
+
+    private static final String TEST_CLASS_NAME_1 = "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration";
+
+    private static final String TEST_CLASS_NAME_2 = "org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration";
+
+    private static final String TEST_CLASS_NAME_3 = "io.microsphere.logging.spring.boot.autoconfigure.WebMvcLoggingAutoConfiguration";
+
+    private MockEnvironment environment;
+
+    private String[] autoConfigurationClasses;
+
+    private AutoConfigurationMetadata metadata;
+
+    private ClassPathPruningAutoConfigurationImportFilter filter;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        this.environment = new MockEnvironment();
+        this.autoConfigurationClasses = ofArray(TEST_CLASS_NAME_1, TEST_CLASS_NAME_2, TEST_CLASS_NAME_3);
+        this.metadata = mock(AutoConfigurationMetadata.class);
+        when(this.metadata.get(TEST_CLASS_NAME_1, "ConditionalOnClass")).thenReturn("java.lang.String,com.example.Absent");
+        when(this.metadata.get(TEST_CLASS_NAME_2, "ConditionalOnClass")).thenReturn("java.lang.String");
+        this.filter = new ClassPathPruningAutoConfigurationImportFilter();
+        this.filter.setBeanClassLoader(getClass().getClassLoader());
+    }
+
+    @Test
+    void testConstants() {
+        assertEquals("microsphere.autoconfigure.classpath-pruning.enabled", AUTO_CONFIGURE_CLASSPATH_PRUNING_ENABLED_PROPERTY_NAME);
+        assertEquals("microsphere.autoconfigure.classpath-pruning.index-directory", AUTO_CONFIGURE_CLASSPATH_PRUNING_INDEX_DIRECTORY_PROPERTY_NAME);
+        assertEquals("${user.home}/.microsphere/autoconfigure", DEFAULT_CLASSPATH_PRUNING_INDEX_DIRECTORY);
+    }
+
+    @Test
+    void testMatchOnDisabled() {
+        AutoConfigurationMetadata metadata = mock(AutoConfigurationMetadata.class);
+        this.filter.setEnvironment(this.environment);
+        assertNull(this.filter.getClassPresenceIndex());
+        boolean[] result = this.filter.match(this.autoConfigurationClasses, metadata);
+        assertTrue(result[0]);
+        assertTrue(result[1]);
+        assertTrue(result[2]);
+        verifyNoInteractions(metadata);
+    }
+
+    @Test
+    void testMatch() {
+        this.environment.setProperty(AUTO_CONFIGURE_CLASSPATH_PRUNING_ENABLED_PROPERTY_NAME, "true");
+        this.environment.setProperty(AUTO_CONFIGURE_CLASSPATH_PRUNING_INDEX_DIRECTORY_PROPERTY_NAME, this.tempDir.toString());
+        this.filter.setEnvironment(this.environment);
+        boolean[] result = this.filter.match(this.autoConfigurationClasses, this.metadata);
+        assertFalse(result[0]);
+        assertTrue(result[1]);
+        assertTrue(result[2]);
+
+        // The rejected candidate by the previous filter
+        result = this.filter.match(ofArray(null, TEST_CLASS_NAME_2), this.metadata);
+        assertTrue(result[0]);
+        assertTrue(result[1]);
+
+        // Without metadata
+        result = this.filter.match(this.autoConfigurationClasses, null);
+        assertTrue(result[0]);
+
+        // The class presences are not persisted until stored
+        ClassPresenceIndex classPresenceIndex = this.filter.getClassPresenceIndex();
+        assertTrue(classPresenceIndex.isModified());
+        classPresenceIndex.store();
+        ClassPresenceIndex index = load(getClass().getClassLoader(), this.tempDir.toFile());
+        assertEquals(2, index.size());
+        assertFalse(index.isModified());
+    }
+
+    @Test
+    void testMatchWithProfiler() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        AutoConfigurationProfiler profiler = new AutoConfigurationProfiler();
+        beanFactory.registerSingleton(AutoConfigurationProfiler.BEAN_NAME, profiler);
+        this.filter.setBeanFactory(beanFactory);
+
+        this.environment.setProperty(AUTO_CONFIGURE_CLASSPATH_PRUNING_ENABLED_PROPERTY_NAME, "true");
+        this.environment.setProperty(AUTO_CONFIGURE_CLASSPATH_PRUNING_INDEX_DIRECTORY_PROPERTY_NAME, this.tempDir.toString());
+        this.filter.setEnvironment(this.environment);
+        this.filter.match(ofArray(TEST_CLASS_NAME_1, null, TEST_CLASS_NAME_3), this.metadata);
+        assertNotNull(profiler.getProfile(TEST_CLASS_NAME_1));
+        assertNull(profiler.getProfile(TEST_CLASS_NAME_2));
+        assertNotNull(profiler.getProfile(TEST_CLASS_NAME_3));
+    }
+
+    @Test
+    void testClassPresenceIndexSharedInBeanFactory() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        this.filter.setBeanFactory(beanFactory);
+        this.environment.setProperty(AUTO_CONFIGURE_CLASSPATH_PRUNING_ENABLED_PROPERTY_NAME, "true");
+        this.environment.setProperty(AUTO_CONFIGURE_CLASSPATH_PRUNING_INDEX_DIRECTORY_PROPERTY_NAME, this.tempDir.toString());
+        this.filter.setEnvironment(this.environment);
+        ClassPresenceIndex classPresenceIndex = this.filter.getClassPresenceIndex();
+        assertSame(classPresenceIndex, get(beanFactory));
+
+        ClassPathPruningAutoConfigurationImportFilter filter = new ClassPathPruningAutoConfigurationImportFilter();
+        filter.setBeanClassLoader(getClass().getClassLoader());
+        filter.setBeanFactory(beanFactory);
+        filter.setEnvironment(this.environment);
+        assertSame(classPresenceIndex, filter.getClassPresenceIndex());
+    }
+
+    @Test
+    void testIsSatisfied() {
+        ClassPresenceIndex index = load(getClass().getClassLoader(), null);
+        assertTrue(isSatisfied(null, this.metadata, index));
+        assertFalse(isSatisfied(TEST_CLASS_NAME_1, this.metadata, index));
+        assertTrue(isSatisfied(TEST_CLASS_NAME_2, this.metadata, index));
+        assertTrue(isSatisfied(TEST_CLASS_NAME_3, this.metadata, index));
+    }
+
+    @Test
+    void testGetOrder() {
+        assertEquals(HIGHEST_PRECEDENCE + 99, this.filter.getOrder());
+    }
+}
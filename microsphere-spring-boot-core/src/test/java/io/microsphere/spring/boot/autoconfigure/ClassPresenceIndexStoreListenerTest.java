@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.nio.file.Path;
+
+import static io.microsphere.spring.boot.autoconfigure.ClassPresenceIndex.BEAN_NAME;
+import static io.microsphere.spring.boot.autoconfigure.ClassPresenceIndex.load;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ClassPresenceIndexStoreListener} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ClassPresenceIndexStoreListener
+ * @since 1.0.0
+ */
+class ClassPresenceIndexStoreListenerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ClassPresenceIndexStoreListener listener = new ClassPresenceIndexStoreListener();
+
+    @Test
+    void testOnApplicationEvent() {
+        ClassLoader classLoader = getClass().getClassLoader();
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            ApplicationReadyEvent event = new ApplicationReadyEvent(new SpringApplication(), new String[0], context, null);
+
+            // No index
+            this.listener.onApplicationEvent(event);
+
+            ClassPresenceIndex index = load(classLoader, this.tempDir.toFile());
+            assertTrue(index.isPresent(String.class.getName()));
+            context.getBeanFactory().registerSingleton(BEAN_NAME, index);
+            this.listener.onApplicationEvent(event);
+            assertTrue(index.getFile().isFile());
+            assertFalse(index.isModified());
+            assertEquals(1, load(classLoader, this.tempDir.toFile()).size());
+        }
+    }
+}
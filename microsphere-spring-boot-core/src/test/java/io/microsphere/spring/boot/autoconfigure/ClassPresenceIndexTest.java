@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+
+import static io.microsphere.spring.boot.autoconfigure.ClassPresenceIndex.BEAN_NAME;
+import static io.microsphere.spring.boot.autoconfigure.ClassPresenceIndex.INDEX_FILE_NAME_PREFIX;
+import static io.microsphere.spring.boot.autoconfigure.ClassPresenceIndex.INDEX_FILE_NAME_SUFFIX;
+import static io.microsphere.spring.boot.autoconfigure.ClassPresenceIndex.get;
+import static io.microsphere.spring.boot.autoconfigure.ClassPresenceIndex.hashClassPath;
+import static io.microsphere.spring.boot.autoconfigure.ClassPresenceIndex.load;
+import static io.microsphere.spring.boot.autoconfigure.ClassPresenceIndex.probe;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ClassPresenceIndex} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ClassPresenceIndex
+ * @since 1.0.0
+ */
+class ClassPresenceIndexTest {
+
+    private static final String ABSENT_CLASS_NAME = "io.microsphere.spring.boot.autoconfigure.AbsentClass";
+
+    private final ClassLoader classLoader = getClass().getClassLoader();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testIsPresent() {
+        ClassPresenceIndex index = load(this.classLoader, null);
+        assertNull(index.getFile());
+        assertFalse(index.isModified());
+        assertTrue(index.isPresent(String.class.getName()));
+        assertTrue(index.isPresent(ClassPresenceIndexTest.class.getName()));
+        assertFalse(index.isPresent(ABSENT_CLASS_NAME));
+        assertTrue(index.isModified());
+        assertEquals(3, index.size());
+        // No file to store
+        index.store();
+        assertTrue(index.isModified());
+    }
+
+    @Test
+    void testStoreAndLoad() {
+        File directory = this.tempDir.toFile();
+        ClassPresenceIndex index = load(this.classLoader, directory);
+        File file = index.getFile();
+        assertEquals(INDEX_FILE_NAME_PREFIX + hashClassPath(this.classLoader) + INDEX_FILE_NAME_SUFFIX, file.getName());
+        assertFalse(file.exists());
+
+        assertTrue(index.isPresent(String.class.getName()));
+        assertFalse(index.isPresent(ABSENT_CLASS_NAME));
+        index.store();
+        assertTrue(file.isFile());
+        assertFalse(index.isModified());
+
+        ClassPresenceIndex loadedIndex = load(this.classLoader, directory);
+        assertEquals(file, loadedIndex.getFile());
+        assertEquals(2, loadedIndex.size());
+        assertTrue(loadedIndex.isPresent(String.class.getName()));
+        assertFalse(loadedIndex.isPresent(ABSENT_CLASS_NAME));
+        assertFalse(loadedIndex.isModified());
+    }
+
+    @Test
+    void testLoadOnPersistedPresences() throws Exception {
+        File directory = this.tempDir.toFile();
+        File file = load(this.classLoader, directory).getFile();
+        // The persisted presences are trusted without probing
+        Files.writeString(file.toPath(), "# comment\n+" + ABSENT_CLASS_NAME + "\n-" + String.class.getName() + "\n?invalid\n\n", UTF_8);
+
+        ClassPresenceIndex index = load(this.classLoader, directory);
+        assertEquals(2, index.size());
+        assertTrue(index.isPresent(ABSENT_CLASS_NAME));
+        assertFalse(index.isPresent(String.class.getName()));
+        assertFalse(index.isModified());
+    }
+
+    @Test
+    void testGet() {
+        assertNull(get(null));
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        assertNull(get(beanFactory));
+        ClassPresenceIndex index = load(this.classLoader, null);
+        beanFactory.registerSingleton(BEAN_NAME, index);
+        assertSame(index, get(beanFactory));
+    }
+
+    @Test
+    void testIsPresentInDirectory() throws Exception {
+        File classesDirectory = this.tempDir.resolve("classes").toFile();
+        File indexDirectory = this.tempDir.resolve("index").toFile();
+        File classFile = new File(classesDirectory, "com/acme/Foo.class");
+        assertTrue(classFile.getParentFile().mkdirs());
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classesDirectory.toURI().toURL()}, this.classLoader)) {
+            ClassPresenceIndex index = load(classLoader, indexDirectory);
+            assertFalse(index.isPresent("com.acme.Foo"));
+            index.store();
+
+            // The class was added into the sub-directory, the class path hash is unchanged
+            Files.write(classFile.toPath(), new byte[0]);
+            ClassPresenceIndex loadedIndex = load(classLoader, indexDirectory);
+            assertEquals(index.getFile(), loadedIndex.getFile());
+            assertFalse(loadedIndex.isModified());
+            assertTrue(loadedIndex.isPresent("com.acme.Foo"));
+            assertTrue(loadedIndex.isModified());
+
+            // The class present in the directory is not persisted
+            loadedIndex.store();
+            assertFalse(Files.readString(loadedIndex.getFile().toPath(), UTF_8).contains("com.acme.Foo"));
+            assertTrue(load(classLoader, indexDirectory).isPresent("com.acme.Foo"));
+        }
+    }
+
+    @Test
+    void testProbe() {
+        assertTrue(probe(String.class.getName(), this.classLoader));
+        assertTrue(probe(ClassPresenceIndex.class.getName(), this.classLoader));
+        assertFalse(probe(ABSENT_CLASS_NAME, this.classLoader));
+        assertFalse(probe("", this.classLoader));
+    }
+
+    @Test
+    void testHashClassPath() {
+        String hash = hashClassPath(this.classLoader);
+        assertEquals(32, hash.length());
+        assertEquals(hash, hashClassPath(this.classLoader));
+    }
+}
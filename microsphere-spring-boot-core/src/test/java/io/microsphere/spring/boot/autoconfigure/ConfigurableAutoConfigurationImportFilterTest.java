@@ -16,8 +16,10 @@
  */
 package io.microsphere.spring.boot.autoconfigure;
 
+import io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.core.env.MapPropertySource;
 import org.springframework.core.env.MutablePropertySources;
 import org.springframework.mock.env.MockEnvironment;
@@ -26,15 +28,22 @@ import java.util.Set;
 import java.util.TreeSet;
 
 import static io.microsphere.collection.Maps.ofMap;
+import static io.microsphere.spring.boot.autoconfigure.ConfigurableAutoConfigurationImportFilter.AUTO_CONFIGURE_EXCLUDE_INDEX_ENABLED_PROPERTY_NAME;
 import static io.microsphere.spring.boot.autoconfigure.ConfigurableAutoConfigurationImportFilter.AUTO_CONFIGURE_EXCLUDE_PROPERTY_NAME;
+import static io.microsphere.spring.boot.autoconfigure.ConfigurableAutoConfigurationImportFilter.CLASS_PATH_CONFIG_RESOURCE_PROPERTY_SOURCE_NAME_PREFIX;
 import static io.microsphere.spring.boot.autoconfigure.ConfigurableAutoConfigurationImportFilter.addExcludedAutoConfigurationClass;
+import static io.microsphere.spring.boot.autoconfigure.ConfigurableAutoConfigurationImportFilter.getClassPathConfigResourceName;
 import static io.microsphere.spring.boot.autoconfigure.ConfigurableAutoConfigurationImportFilter.getExcludedAutoConfigurationClasses;
+import static io.microsphere.spring.boot.autoconfigure.ConfigurableAutoConfigurationImportFilter.isIndexedPropertySource;
 import static io.microsphere.util.ArrayUtils.ofArray;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.core.Ordered.HIGHEST_PRECEDENCE;
 
 /**
  * {@link ConfigurableAutoConfigurationImportFilter} Test
@@ -67,6 +76,95 @@ class ConfigurableAutoConfigurationImportFilterTest {
     @Test
     void testConstants() {
         assertEquals("microsphere.autoconfigure.exclude", AUTO_CONFIGURE_EXCLUDE_PROPERTY_NAME);
+        assertEquals("microsphere.autoconfigure.exclude-index.enabled", AUTO_CONFIGURE_EXCLUDE_INDEX_ENABLED_PROPERTY_NAME);
+    }
+
+    @Test
+    void testMatchWithProfiler() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        AutoConfigurationProfiler profiler = new AutoConfigurationProfiler();
+        beanFactory.registerSingleton(AutoConfigurationProfiler.BEAN_NAME, profiler);
+        this.filter.setBeanFactory(beanFactory);
+
+        this.environment.setProperty(AUTO_CONFIGURE_EXCLUDE_PROPERTY_NAME, TEST_CLASS_NAME_1);
+        this.filter.setEnvironment(this.environment);
+        this.filter.match(ofArray(TEST_CLASS_NAME_1, null, TEST_CLASS_NAME_3), null);
+        assertNotNull(profiler.getProfile(TEST_CLASS_NAME_1));
+        assertNull(profiler.getProfile(TEST_CLASS_NAME_2));
+        assertNotNull(profiler.getProfile(TEST_CLASS_NAME_3));
+    }
+
+    @Test
+    void testGetOrder() {
+        assertEquals(HIGHEST_PRECEDENCE + 99, this.filter.getOrder());
+    }
+
+    @Test
+    void testMatchWithPatterns() {
+        this.environment.setProperty(AUTO_CONFIGURE_EXCLUDE_PROPERTY_NAME, "org.springframework.boot.autoconfigure.**");
+        this.filter.setEnvironment(this.environment);
+        boolean[] result = this.filter.match(this.autoConfigurationClasses, null);
+        assertFalse(result[0]);
+        assertFalse(result[1]);
+        assertTrue(result[2]);
+
+        this.environment.setProperty(AUTO_CONFIGURE_EXCLUDE_PROPERTY_NAME, "io.microsphere.logging.spring.boot.autoconfigure.WebMvc*");
+        this.filter.setEnvironment(this.environment);
+        result = this.filter.match(this.autoConfigurationClasses, null);
+        assertTrue(result[0]);
+        assertTrue(result[1]);
+        assertFalse(result[2]);
+    }
+
+    @Test
+    void testMatchWithIndex() {
+        String indexedClassName = "io.microsphere.spring.boot.autoconfigure.indexed.FooAutoConfiguration";
+        this.filter.setBeanClassLoader(getClass().getClassLoader());
+        this.filter.setEnvironment(this.environment);
+        assertTrue(this.filter.isExcluded(indexedClassName));
+        assertFalse(this.filter.match(ofArray(indexedClassName), null)[0]);
+
+        this.environment.setProperty(AUTO_CONFIGURE_EXCLUDE_INDEX_ENABLED_PROPERTY_NAME, "false");
+        this.filter.setEnvironment(this.environment);
+        assertFalse(this.filter.isExcluded(indexedClassName));
+    }
+
+    @Test
+    void testMatchWithIndexOnClassPathConfigResource() {
+        // The property source of the application config file recorded by the index is covered by the index
+        MapPropertySource propertySource = new MapPropertySource(CLASS_PATH_CONFIG_RESOURCE_PROPERTY_SOURCE_NAME_PREFIX +
+                "META-INF/microsphere/indexed.properties]' via location 'optional:classpath:/'", ofMap(AUTO_CONFIGURE_EXCLUDE_PROPERTY_NAME, TEST_CLASS_NAME_1));
+        // The property source of the application config file not recorded by the index, e.g, the profile-specific one
+        MapPropertySource profilePropertySource = new MapPropertySource(CLASS_PATH_CONFIG_RESOURCE_PROPERTY_SOURCE_NAME_PREFIX +
+                "application-dev.properties]' via location 'optional:classpath:/'", ofMap(AUTO_CONFIGURE_EXCLUDE_PROPERTY_NAME, TEST_CLASS_NAME_3));
+        Set<String> indexedResourceNames = singleton("META-INF/microsphere/indexed.properties");
+        assertTrue(isIndexedPropertySource(propertySource, indexedResourceNames));
+        assertFalse(isIndexedPropertySource(profilePropertySource, indexedResourceNames));
+        this.environment.getPropertySources().addLast(propertySource);
+        this.environment.getPropertySources().addLast(profilePropertySource);
+        this.environment.setProperty(AUTO_CONFIGURE_EXCLUDE_PROPERTY_NAME, TEST_CLASS_NAME_2);
+        this.filter.setBeanClassLoader(getClass().getClassLoader());
+        this.filter.setEnvironment(this.environment);
+        assertFalse(this.filter.isExcluded(TEST_CLASS_NAME_1));
+        assertTrue(this.filter.isExcluded(TEST_CLASS_NAME_2));
+        assertTrue(this.filter.isExcluded(TEST_CLASS_NAME_3));
+        assertTrue(this.filter.isExcluded("io.microsphere.spring.boot.autoconfigure.indexed.FooAutoConfiguration"));
+
+        // The property source is resolved if the index is disabled
+        this.environment.setProperty(AUTO_CONFIGURE_EXCLUDE_INDEX_ENABLED_PROPERTY_NAME, "false");
+        this.filter.setEnvironment(this.environment);
+        assertTrue(this.filter.isExcluded(TEST_CLASS_NAME_1));
+        assertTrue(this.filter.isExcluded(TEST_CLASS_NAME_2));
+        assertTrue(this.filter.isExcluded(TEST_CLASS_NAME_3));
+        assertFalse(isIndexedPropertySource(this.environment.getPropertySources().get("mockProperties"), indexedResourceNames));
+    }
+
+    @Test
+    void testGetClassPathConfigResourceName() {
+        assertEquals("config/application.yaml", getClassPathConfigResourceName(CLASS_PATH_CONFIG_RESOURCE_PROPERTY_SOURCE_NAME_PREFIX +
+                "config/application.yaml]' via location 'optional:classpath:/config/' (document #1)"));
+        assertNull(getClassPathConfigResourceName(CLASS_PATH_CONFIG_RESOURCE_PROPERTY_SOURCE_NAME_PREFIX + "application.properties"));
+        assertNull(getClassPathConfigResourceName("Config resource 'file [application.properties]' via location 'optional:file:./'"));
     }
 
     @Test
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure.profiler;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler.REPORT_FILE_PROPERTY_NAME;
+import static io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler.register;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link AutoConfigurationProfileReportListener} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AutoConfigurationProfileReportListener
+ * @since 1.0.0
+ */
+class AutoConfigurationProfileReportListenerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final AutoConfigurationProfileReportListener listener = new AutoConfigurationProfileReportListener();
+
+    @Test
+    void testOnApplicationEvent() throws IOException {
+        Path reportPath = this.tempDir.resolve("profile.json");
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            MockEnvironment environment = new MockEnvironment();
+            environment.setProperty(REPORT_FILE_PROPERTY_NAME, reportPath.toString());
+            context.setEnvironment(environment);
+            ApplicationReadyEvent event = new ApplicationReadyEvent(new SpringApplication(), new String[0], context, null);
+
+            // No profiler
+            this.listener.onApplicationEvent(event);
+            assertFalse(Files.exists(reportPath));
+
+            AutoConfigurationProfiler profiler = register(context.getBeanFactory());
+            profiler.addAutoConfigurationClasses(ofList("com.example.FooAutoConfiguration"));
+            profiler.recordImportFilter("com.example.FooAutoConfiguration", 10);
+            this.listener.onApplicationEvent(event);
+            assertEquals(profiler.toJSON(), Files.readString(reportPath, UTF_8));
+        }
+    }
+
+    @Test
+    void testReportOnFailure() throws IOException {
+        // The parent of report file is a regular file
+        File parent = Files.createFile(this.tempDir.resolve("file")).toFile();
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty(REPORT_FILE_PROPERTY_NAME, new File(parent, "profile.json").getPath());
+        assertNull(this.listener.report(new AutoConfigurationProfiler(), environment));
+        assertTrue(parent.isFile());
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure.profiler;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link AutoConfigurationProfile} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AutoConfigurationProfile
+ * @since 1.0.0
+ */
+class AutoConfigurationProfileTest {
+
+    @Test
+    void test() {
+        AutoConfigurationProfile profile = new AutoConfigurationProfile("com.example.FooAutoConfiguration");
+        assertEquals("com.example.FooAutoConfiguration", profile.getClassName());
+        assertEquals(0, profile.getTotalNanos());
+
+        profile.addImportFilterNanos(1);
+        profile.addConditionEvaluationNanos(2);
+        profile.addConditionEvaluationNanos(3);
+        profile.addBeanInstantiationNanos(4);
+
+        assertEquals(1, profile.getImportFilterNanos());
+        assertEquals(5, profile.getConditionEvaluationNanos());
+        assertEquals(2, profile.getConditionEvaluationCount());
+        assertEquals(4, profile.getBeanInstantiationNanos());
+        assertEquals(1, profile.getBeanCount());
+        assertEquals(10, profile.getTotalNanos());
+        assertTrue(profile.toString().contains("com.example.FooAutoConfiguration"));
+    }
+}
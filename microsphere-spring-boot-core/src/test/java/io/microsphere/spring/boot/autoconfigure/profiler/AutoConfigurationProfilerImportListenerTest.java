@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure.profiler;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurationImportEvent;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler.register;
+import static java.util.Collections.emptySet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * {@link AutoConfigurationProfilerImportListener} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AutoConfigurationProfilerImportListener
+ * @since 1.0.0
+ */
+class AutoConfigurationProfilerImportListenerTest {
+
+    private static final String TEST_CLASS_NAME = "com.example.FooAutoConfiguration";
+
+    @Test
+    void testOnAutoConfigurationImportEvent() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        AutoConfigurationProfilerImportListener listener = new AutoConfigurationProfilerImportListener();
+        listener.setBeanFactory(beanFactory);
+        AutoConfigurationImportEvent event = new AutoConfigurationImportEvent(this, ofList(TEST_CLASS_NAME), emptySet());
+
+        // No profiler
+        listener.onAutoConfigurationImportEvent(event);
+
+        AutoConfigurationProfiler profiler = register(beanFactory);
+        assertNull(profiler.resolveAutoConfigurationClass(TEST_CLASS_NAME));
+        listener.onAutoConfigurationImportEvent(event);
+        assertEquals(TEST_CLASS_NAME, profiler.resolveAutoConfigurationClass(TEST_CLASS_NAME + "#foo"));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure.profiler;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.condition.ConditionEvaluationReport;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler.ENABLED_PROPERTY_NAME;
+import static io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler.get;
+import static io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfilerInitializer.profileConditionEvaluation;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * {@link AutoConfigurationProfilerInitializer} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AutoConfigurationProfilerInitializer
+ * @since 1.0.0
+ */
+class AutoConfigurationProfilerInitializerTest {
+
+    private static final String TEST_CLASS_NAME = "com.example.FooAutoConfiguration";
+
+    private final AutoConfigurationProfilerInitializer initializer = new AutoConfigurationProfilerInitializer();
+
+    @Test
+    void testInitializeOnDisabled() {
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            this.initializer.initialize(context);
+            assertNull(get(context.getBeanFactory()));
+        }
+    }
+
+    @Test
+    void testInitialize() {
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            MockEnvironment environment = new MockEnvironment();
+            environment.setProperty(ENABLED_PROPERTY_NAME, "true");
+            context.setEnvironment(environment);
+            this.initializer.initialize(context);
+
+            AutoConfigurationProfiler profiler = get(context.getBeanFactory());
+            assertNotNull(profiler);
+            assertEquals(1, context.getBeanFactory().getBeanPostProcessorCount());
+            assertTrue(context.getApplicationListeners().stream().anyMatch(BeanInstantiationProfiler.class::isInstance));
+
+            profiler.addAutoConfigurationClasses(ofList(TEST_CLASS_NAME));
+            ConditionEvaluationReport report = ConditionEvaluationReport.get(context.getBeanFactory());
+            report.recordConditionEvaluation(TEST_CLASS_NAME, mock(Condition.class), ConditionOutcome.match());
+            assertEquals(1, profiler.getProfile(TEST_CLASS_NAME).getConditionEvaluationCount());
+            assertEquals(1, report.getConditionAndOutcomesBySource().size());
+        }
+    }
+
+    @Test
+    void testProfileConditionEvaluation() {
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            ConditionEvaluationReport report = ConditionEvaluationReport.get(context.getBeanFactory());
+            report.recordConditionEvaluation("com.example.Before", mock(Condition.class), ConditionOutcome.match());
+            AutoConfigurationProfiler profiler = new AutoConfigurationProfiler();
+            assertTrue(profileConditionEvaluation(report, profiler));
+            // Idempotent
+            assertTrue(profileConditionEvaluation(report, profiler));
+            // The previous outcomes are kept
+            assertTrue(report.getConditionAndOutcomesBySource().containsKey("com.example.Before"));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure.profiler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.util.List;
+
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler.BEAN_NAME;
+import static io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler.escape;
+import static io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler.get;
+import static io.microsphere.spring.boot.autoconfigure.profiler.AutoConfigurationProfiler.register;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link AutoConfigurationProfiler} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AutoConfigurationProfiler
+ * @since 1.0.0
+ */
+class AutoConfigurationProfilerTest {
+
+    private static final String FOO_CLASS_NAME = "com.example.FooAutoConfiguration";
+
+    private static final String BAR_CLASS_NAME = "com.example.BarAutoConfiguration";
+
+    private AutoConfigurationProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        this.profiler = new AutoConfigurationProfiler();
+        this.profiler.addAutoConfigurationClasses(ofList(FOO_CLASS_NAME, BAR_CLASS_NAME));
+    }
+
+    @Test
+    void testConstants() {
+        assertEquals("autoConfigurationProfiler", BEAN_NAME);
+        assertEquals("microsphere.autoconfigure.profiler.enabled", AutoConfigurationProfiler.ENABLED_PROPERTY_NAME);
+        assertEquals("microsphere.autoconfigure.profiler.report-file", AutoConfigurationProfiler.REPORT_FILE_PROPERTY_NAME);
+        assertEquals("microsphere.autoconfigure.profiler.top", AutoConfigurationProfiler.TOP_PROPERTY_NAME);
+    }
+
+    @Test
+    void testRecord() {
+        this.profiler.recordImportFilter(FOO_CLASS_NAME, 10);
+        this.profiler.recordImportFilter("com.example.RejectedAutoConfiguration", 5);
+        this.profiler.recordConditionEvaluation(FOO_CLASS_NAME + "$NestedConfiguration#foo", 20);
+        this.profiler.recordConditionEvaluation("com.example.UserConfiguration", 20);
+        this.profiler.recordBeanInstantiation(FOO_CLASS_NAME + "$$SpringCGLIB$$0", "foo", 30);
+        this.profiler.recordBeanInstantiation(BAR_CLASS_NAME, "bar", 100);
+
+        AutoConfigurationProfile profile = this.profiler.getProfile(FOO_CLASS_NAME);
+        assertEquals(10, profile.getImportFilterNanos());
+        assertEquals(20, profile.getConditionEvaluationNanos());
+        assertEquals(1, profile.getConditionEvaluationCount());
+        assertEquals(30, profile.getBeanInstantiationNanos());
+        assertEquals(1, profile.getBeanCount());
+        assertEquals(60, profile.getTotalNanos());
+
+        assertNotNull(this.profiler.getProfile("com.example.RejectedAutoConfiguration"));
+        assertNull(this.profiler.getProfile("com.example.UserConfiguration"));
+
+        List<AutoConfigurationProfile> profiles = this.profiler.getProfiles();
+        assertEquals(3, profiles.size());
+        assertEquals(BAR_CLASS_NAME, profiles.get(0).getClassName());
+        assertEquals(FOO_CLASS_NAME, profiles.get(1).getClassName());
+
+        assertEquals(1, this.profiler.getTopProfiles(1).size());
+        assertTrue(this.profiler.getTopProfiles(-1).isEmpty());
+    }
+
+    @Test
+    void testRecordConditionEvaluationByClock() {
+        this.profiler.startConditionEvaluation();
+        this.profiler.recordConditionEvaluation(FOO_CLASS_NAME);
+        this.profiler.recordConditionEvaluation(FOO_CLASS_NAME + "#foo");
+        AutoConfigurationProfile profile = this.profiler.getProfile(FOO_CLASS_NAME);
+        assertEquals(2, profile.getConditionEvaluationCount());
+        assertTrue(profile.getConditionEvaluationNanos() >= 0);
+    }
+
+    @Test
+    void testResolveAutoConfigurationClass() {
+        assertEquals(FOO_CLASS_NAME, this.profiler.resolveAutoConfigurationClass(FOO_CLASS_NAME));
+        assertEquals(FOO_CLASS_NAME, this.profiler.resolveAutoConfigurationClass(FOO_CLASS_NAME + "#foo"));
+        assertEquals(FOO_CLASS_NAME, this.profiler.resolveAutoConfigurationClass(FOO_CLASS_NAME + "$A$B"));
+        assertNull(this.profiler.resolveAutoConfigurationClass("com.example.Other"));
+        assertNull(this.profiler.resolveAutoConfigurationClass(null));
+    }
+
+    @Test
+    void testToJSON() {
+        assertEquals("{\"totalNanos\":0,\"profiles\":[]}", this.profiler.toJSON());
+        this.profiler.recordImportFilter(FOO_CLASS_NAME, 10);
+        assertEquals("{\"totalNanos\":10,\"profiles\":[{\"className\":\"com.example.FooAutoConfiguration\"," +
+                "\"totalNanos\":10,\"importFilterNanos\":10,\"conditionEvaluationNanos\":0,\"conditionEvaluationCount\":0," +
+                "\"beanInstantiationNanos\":0,\"beanCount\":0}]}", this.profiler.toJSON());
+        assertEquals("a\\\\b\\\"", escape("a\\b\""));
+    }
+
+    @Test
+    void testGetAndRegister() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        assertNull(get(beanFactory));
+        assertNull(get(null));
+        AutoConfigurationProfiler profiler = register(beanFactory);
+        assertSame(profiler, get(beanFactory));
+        assertSame(profiler, register(beanFactory));
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.autoconfigure.profiler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.support.GenericApplicationContext;
+
+import static io.microsphere.collection.Lists.ofList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link BeanInstantiationProfiler} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see BeanInstantiationProfiler
+ * @since 1.0.0
+ */
+class BeanInstantiationProfilerTest {
+
+    private DefaultListableBeanFactory beanFactory;
+
+    private AutoConfigurationProfiler profiler;
+
+    private BeanInstantiationProfiler beanInstantiationProfiler;
+
+    @BeforeEach
+    void setUp() {
+        this.beanFactory = new DefaultListableBeanFactory();
+        this.profiler = new AutoConfigurationProfiler();
+        this.profiler.addAutoConfigurationClasses(ofList(TestAutoConfiguration.class.getName()));
+        this.beanInstantiationProfiler = new BeanInstantiationProfiler(this.beanFactory, this.profiler);
+        this.beanFactory.addBeanPostProcessor(this.beanInstantiationProfiler);
+    }
+
+    @Test
+    void testRecordBeanInstantiation() {
+        this.beanFactory.registerBeanDefinition("testAutoConfiguration", new RootBeanDefinition(TestAutoConfiguration.class));
+
+        GenericBeanDefinition nameDefinition = new GenericBeanDefinition();
+        nameDefinition.setFactoryBeanName("testAutoConfiguration");
+        nameDefinition.setFactoryMethodName("name");
+        this.beanFactory.registerBeanDefinition("name", nameDefinition);
+
+        GenericBeanDefinition holderDefinition = new GenericBeanDefinition();
+        holderDefinition.setBeanClass(StringBuilder.class);
+        ConstructorArgumentValues argumentValues = new ConstructorArgumentValues();
+        argumentValues.addIndexedArgumentValue(0, this.beanFactory.getBean("name"));
+        holderDefinition.setConstructorArgumentValues(argumentValues);
+        this.beanFactory.registerBeanDefinition("holder", holderDefinition);
+
+        this.beanFactory.preInstantiateSingletons();
+
+        AutoConfigurationProfile profile = this.profiler.getProfile(TestAutoConfiguration.class.getName());
+        // "testAutoConfiguration" and "name"
+        assertEquals(2, profile.getBeanCount());
+        // "holder" is not defined by the auto-configuration class
+        assertEquals(1, this.profiler.getProfiles().size());
+    }
+
+    @Test
+    void testResolveDefiningClass() {
+        assertNull(this.beanInstantiationProfiler.resolveDefiningClass("unknown"));
+
+        this.beanFactory.registerBeanDefinition("testAutoConfiguration", new RootBeanDefinition(TestAutoConfiguration.class));
+        assertEquals(TestAutoConfiguration.class.getName(), this.beanInstantiationProfiler.resolveDefiningClass("testAutoConfiguration"));
+
+        GenericBeanDefinition beanDefinition = new GenericBeanDefinition();
+        beanDefinition.setFactoryBeanName("testAutoConfiguration");
+        beanDefinition.setFactoryMethodName("name");
+        this.beanFactory.registerBeanDefinition("name", beanDefinition);
+        assertEquals(TestAutoConfiguration.class.getName(), this.beanInstantiationProfiler.resolveDefiningClass("name"));
+
+        beanDefinition = new GenericBeanDefinition();
+        beanDefinition.setFactoryBeanName("unknown");
+        beanDefinition.setFactoryMethodName("name");
+        this.beanFactory.registerBeanDefinition("orphan", beanDefinition);
+        assertNull(this.beanInstantiationProfiler.resolveDefiningClass("orphan"));
+    }
+
+    @Test
+    void testPostProcessAfterInitializationWithoutInstantiation() {
+        Object bean = new Object();
+        assertSame(bean, this.beanInstantiationProfiler.postProcessAfterInitialization(bean, "unknown"));
+        assertEquals(0, this.profiler.getProfiles().size());
+    }
+
+    @Test
+    void testDiscardFailedFrames() {
+        this.beanFactory.registerBeanDefinition("failing", new RootBeanDefinition(FailingBean.class));
+        this.beanFactory.registerBeanDefinition("testAutoConfiguration", new RootBeanDefinition(TestAutoConfiguration.class));
+
+        assertThrows(BeanCreationException.class, () -> this.beanFactory.getBean("failing"));
+        assertEquals(1, this.beanInstantiationProfiler.getFrameCount());
+
+        // The frame of the failed bean is discarded once another bean is created
+        this.beanFactory.getBean("testAutoConfiguration");
+        assertEquals(0, this.beanInstantiationProfiler.getFrameCount());
+        assertEquals(1, this.profiler.getProfile(TestAutoConfiguration.class.getName()).getBeanCount());
+    }
+
+    @Test
+    void testOnApplicationEvent() {
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            DefaultListableBeanFactory beanFactory = context.getDefaultListableBeanFactory();
+            BeanInstantiationProfiler beanInstantiationProfiler = new BeanInstantiationProfiler(beanFactory, this.profiler);
+            beanFactory.addBeanPostProcessor(beanInstantiationProfiler);
+
+            // The event propagated from the child context
+            try (GenericApplicationContext childContext = new GenericApplicationContext()) {
+                beanInstantiationProfiler.onApplicationEvent(new ApplicationReadyEvent(new SpringApplication(), new String[0], childContext, null));
+            }
+            assertTrue(beanFactory.getBeanPostProcessors().contains(beanInstantiationProfiler));
+
+            beanInstantiationProfiler.onApplicationEvent(new ApplicationReadyEvent(new SpringApplication(), new String[0], context, null));
+            assertFalse(beanFactory.getBeanPostProcessors().contains(beanInstantiationProfiler));
+
+            // Disabled
+            beanFactory.registerBeanDefinition("testAutoConfiguration", new RootBeanDefinition(TestAutoConfiguration.class));
+            assertNull(beanInstantiationProfiler.postProcessBeforeInstantiation(TestAutoConfiguration.class, "testAutoConfiguration"));
+            Object bean = beanFactory.getBean("testAutoConfiguration");
+            assertSame(bean, beanInstantiationProfiler.postProcessAfterInitialization(bean, "testAutoConfiguration"));
+            assertEquals(0, this.profiler.getProfiles().size());
+        }
+    }
+
+    static class FailingBean {
+
+        FailingBean() {
+            throw new IllegalStateException("For testing");
+        }
+    }
+
+    static class TestAutoConfiguration {
+
+        public String name() {
+            return "test";
+        }
+    }
+}
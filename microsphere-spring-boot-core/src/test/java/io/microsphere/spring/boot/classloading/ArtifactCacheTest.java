@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.classloading;
+
+import io.microsphere.classloading.Artifact;
+import io.microsphere.classloading.MavenArtifact;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+
+import static io.microsphere.spring.boot.classloading.ArtifactCache.MAX_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link ArtifactCache} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ArtifactCache
+ * @since 1.0.0
+ */
+class ArtifactCacheTest {
+
+    @TempDir
+    private File tempDir;
+
+    private File archiveFile;
+
+    private URL location;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.archiveFile = new File(this.tempDir, "test.jar");
+        Files.write(this.archiveFile.toPath(), new byte[]{1, 2, 3});
+        this.location = this.archiveFile.toURI().toURL();
+    }
+
+    @Test
+    void testWriteAndLoad() throws IOException {
+        ArtifactCache cache = new ArtifactCache();
+        cache.put("maven", this.archiveFile, MavenArtifact.create("test-group", "test-artifact", "1.0.0", this.location));
+        cache.put("artifact", this.archiveFile, Artifact.create("test-artifact", null, this.location));
+        cache.put("none", this.archiveFile, null);
+
+        File cacheFile = new File(this.tempDir, "cache/artifacts.cache");
+        cache.write(cacheFile);
+        ArtifactCache loadedCache = ArtifactCache.load(cacheFile);
+        assertEquals(3, loadedCache.size());
+
+        MavenArtifact mavenArtifact = assertInstanceOf(MavenArtifact.class, loadedCache.get("maven", this.archiveFile).toArtifact(this.location));
+        assertEquals("test-group", mavenArtifact.getGroupId());
+        assertEquals("test-artifact", mavenArtifact.getArtifactId());
+        assertEquals("1.0.0", mavenArtifact.getVersion());
+        assertEquals(this.location, mavenArtifact.getLocation());
+
+        Artifact artifact = loadedCache.get("artifact", this.archiveFile).toArtifact(this.location);
+        assertEquals("test-artifact", artifact.getArtifactId());
+        assertNull(artifact.getVersion());
+
+        ArtifactCache.Entry entry = loadedCache.get("none", this.archiveFile);
+        assertNotNull(entry);
+        assertNull(entry.toArtifact(this.location));
+        assertNull(loadedCache.get("unknown", this.archiveFile));
+    }
+
+    @Test
+    void testGetOnChangedFile() throws IOException {
+        ArtifactCache cache = new ArtifactCache();
+        cache.put("maven", this.archiveFile, MavenArtifact.create("test-group", "test-artifact", "1.0.0", this.location));
+        Files.write(this.archiveFile.toPath(), new byte[]{1, 2, 3, 4});
+        assertNull(cache.get("maven", this.archiveFile));
+    }
+
+    @Test
+    void testRetain() throws IOException {
+        File otherArchiveFile = new File(this.tempDir, "other.jar");
+        Files.write(otherArchiveFile.toPath(), new byte[]{1});
+        ArtifactCache previousCache = new ArtifactCache();
+        previousCache.put("test", this.archiveFile, null);
+        previousCache.put("other", otherArchiveFile, null);
+        Files.delete(otherArchiveFile.toPath());
+
+        ArtifactCache cache = new ArtifactCache();
+        cache.retain(previousCache, MAX_SIZE);
+        assertEquals(1, cache.size());
+        assertNotNull(cache.get("test", this.archiveFile));
+    }
+
+    @Test
+    void testRetainOnMaxSize() {
+        ArtifactCache previousCache = new ArtifactCache();
+        previousCache.put("first", this.archiveFile, null);
+        previousCache.put("second", this.archiveFile, null);
+        previousCache.put("third", this.archiveFile, null);
+
+        ArtifactCache cache = new ArtifactCache();
+        cache.put("current", this.archiveFile, null);
+        cache.retain(previousCache, 2);
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("current", this.archiveFile));
+        // The recently used entries are retained first
+        assertNotNull(cache.get("first", this.archiveFile));
+        assertNull(cache.get("second", this.archiveFile));
+    }
+
+    @Test
+    void testLoadOnMalformedFile() throws IOException {
+        File cacheFile = new File(this.tempDir, "malformed.cache");
+        Files.write(cacheFile.toPath(), new byte[]{0, 0, 0, 0, 0, 0, 0, 0});
+        assertThrows(IOException.class, () -> ArtifactCache.load(cacheFile));
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.classloading;
+
+import io.microsphere.classloading.Artifact;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.Set;
+
+import static io.microsphere.spring.boot.classloading.ArtifactRegistry.CACHE_FILE_NAME;
+import static io.microsphere.spring.boot.classloading.ArtifactRegistry.getClassPathURLs;
+import static io.microsphere.spring.boot.classloading.ArtifactRegistry.resolveArchiveFile;
+import static io.microsphere.util.ArrayUtils.ofArray;
+import static java.lang.Thread.currentThread;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ArtifactRegistry} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ArtifactRegistry
+ * @since 1.0.0
+ */
+class ArtifactRegistryTest {
+
+    @TempDir
+    private File tempDir;
+
+    private final ClassLoader classLoader = getClass().getClassLoader();
+
+    @Test
+    void testGet() {
+        ArtifactRegistry registry = ArtifactRegistry.get(this.classLoader);
+        assertSame(registry, ArtifactRegistry.get(this.classLoader));
+        assertSame(this.classLoader, registry.getClassLoader());
+        assertSame(ArtifactRegistry.get(currentThread().getContextClassLoader()), ArtifactRegistry.get(null));
+        assertTrue(registry.toString().contains("classLoader="));
+    }
+
+    @Test
+    void testGetArtifacts() {
+        ArtifactRegistry registry = new ArtifactRegistry(this.classLoader, null);
+        List<Artifact> artifacts = registry.getArtifacts();
+        assertFalse(artifacts.isEmpty());
+        assertSame(artifacts, registry.getArtifacts());
+        assertThrows(UnsupportedOperationException.class, artifacts::clear);
+        assertNull(registry.getCacheDirectory());
+        // All class path entries are resolved without the cache
+        assertEquals(getClassPathURLs(this.classLoader).size(), registry.getResolvedCount());
+    }
+
+    @Test
+    void testRefresh() {
+        ArtifactRegistry registry = new ArtifactRegistry(this.classLoader, null);
+        List<Artifact> artifacts = registry.getArtifacts();
+        registry.refresh();
+        assertNotSame(artifacts, registry.getArtifacts());
+        assertEquals(artifacts.size(), registry.getArtifacts().size());
+    }
+
+    @Test
+    void testSetParallelism() {
+        ArtifactRegistry registry = new ArtifactRegistry(this.classLoader, null);
+        assertEquals(Runtime.getRuntime().availableProcessors(), registry.getParallelism());
+        registry.setParallelism(0);
+        assertEquals(1, registry.getParallelism());
+        List<Artifact> artifacts = registry.getArtifacts();
+
+        ArtifactRegistry parallelRegistry = new ArtifactRegistry(this.classLoader, null);
+        parallelRegistry.setParallelism(4);
+        assertEquals(4, parallelRegistry.getParallelism());
+        List<Artifact> parallelArtifacts = parallelRegistry.getArtifacts();
+        // The order of class path is kept
+        assertEquals(artifacts.size(), parallelArtifacts.size());
+        for (int i = 0; i < artifacts.size(); i++) {
+            assertEquals(artifacts.get(i).getArtifactId(), parallelArtifacts.get(i).getArtifactId());
+            assertEquals(artifacts.get(i).getLocation(), parallelArtifacts.get(i).getLocation());
+        }
+    }
+
+    @Test
+    void testCache() {
+        ArtifactRegistry registry = new ArtifactRegistry(this.classLoader, this.tempDir);
+        List<Artifact> artifacts = registry.getArtifacts();
+        assertTrue(new File(this.tempDir, CACHE_FILE_NAME).isFile());
+
+        // The restarted application resolves the directories only
+        ArtifactRegistry restartedRegistry = new ArtifactRegistry(this.classLoader, this.tempDir);
+        List<Artifact> cachedArtifacts = restartedRegistry.getArtifacts();
+        int directories = 0;
+        for (URL classPathURL : getClassPathURLs(this.classLoader)) {
+            if (resolveArchiveFile(classPathURL) == null) {
+                directories++;
+            }
+        }
+        assertEquals(directories, restartedRegistry.getResolvedCount());
+        assertTrue(restartedRegistry.getResolvedCount() < registry.getResolvedCount());
+
+        assertEquals(artifacts.size(), cachedArtifacts.size());
+        for (int i = 0; i < artifacts.size(); i++) {
+            Artifact artifact = artifacts.get(i);
+            Artifact cachedArtifact = cachedArtifacts.get(i);
+            assertEquals(artifact.getClass(), cachedArtifact.getClass());
+            assertEquals(artifact.getArtifactId(), cachedArtifact.getArtifactId());
+            assertEquals(artifact.getVersion(), cachedArtifact.getVersion());
+        }
+    }
+
+    @Test
+    void testGetClassPathURLs() throws Exception {
+        URL url = this.tempDir.toURI().toURL();
+        try (URLClassLoader urlClassLoader = new URLClassLoader(ofArray(url), null)) {
+            Set<URL> classPathURLs = getClassPathURLs(urlClassLoader);
+            assertEquals(1, classPathURLs.size());
+            assertTrue(classPathURLs.contains(url));
+        }
+        try (URLClassLoader urlClassLoader = new URLClassLoader(ofArray(url), this.classLoader)) {
+            Set<URL> classPathURLs = getClassPathURLs(urlClassLoader);
+            assertTrue(classPathURLs.containsAll(getClassPathURLs(this.classLoader)));
+            assertTrue(classPathURLs.contains(url));
+        }
+    }
+
+    @Test
+    void testResolveArchiveFile() throws Exception {
+        URL classResource = Test.class.getProtectionDomain().getCodeSource().getLocation();
+        File archiveFile = resolveArchiveFile(classResource);
+        assertNotNull(archiveFile);
+        assertTrue(archiveFile.isFile());
+        assertEquals(archiveFile, resolveArchiveFile(new URL("jar:" + classResource + "!/org/junit/")));
+        assertNull(resolveArchiveFile(this.tempDir.toURI().toURL()));
+        assertNull(resolveArchiveFile(new URL("http://localhost/test.jar")));
+    }
+}
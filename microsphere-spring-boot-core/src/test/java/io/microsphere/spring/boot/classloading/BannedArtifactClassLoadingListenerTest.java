@@ -21,17 +21,28 @@ import io.microsphere.spring.test.junit.jupiter.SpringLoggingTest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.SpringApplication;
+import org.springframework.context.support.GenericApplicationContext;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.URLClassLoader;
 import java.util.Properties;
 
 import static io.microsphere.spring.boot.classloading.BannedArtifactClassLoadingListener.BANNED_ARTIFACTS_ENABLED_PROPERTY_NAME;
+import static io.microsphere.spring.boot.classloading.BannedArtifactClassLoadingListener.BANNED_ARTIFACTS_MODE_PROPERTY_NAME;
+import static io.microsphere.spring.boot.classloading.BannedArtifactFilteringClassLoaderTest.newClassLoader;
 import static io.microsphere.spring.boot.util.TestUtils.application;
 import static io.microsphere.util.ArrayUtils.ofArray;
 import static java.lang.System.getProperties;
 import static java.lang.Thread.currentThread;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -44,14 +55,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 @SpringLoggingTest
 class BannedArtifactClassLoadingListenerTest {
 
+    @TempDir
+    private File tempDir;
+
     @BeforeEach
     void setUp() {
         getProperties().remove(BANNED_ARTIFACTS_ENABLED_PROPERTY_NAME);
+        getProperties().remove(BANNED_ARTIFACTS_MODE_PROPERTY_NAME);
     }
 
     @AfterEach
     void tearDown() {
         getProperties().remove(BANNED_ARTIFACTS_ENABLED_PROPERTY_NAME);
+        getProperties().remove(BANNED_ARTIFACTS_MODE_PROPERTY_NAME);
     }
 
     @Test
@@ -73,13 +89,87 @@ class BannedArtifactClassLoadingListenerTest {
         });
     }
 
-    void assertListener(SpringApplication application) {
+    @Test
+    void testStartingOnFilterMode() throws IOException {
+        try (URLClassLoader classLoader = newClassLoader(this.tempDir, true)) {
+            doInEnabled(() -> {
+                getProperties().setProperty(BANNED_ARTIFACTS_MODE_PROPERTY_NAME, "filter");
+                currentThread().setContextClassLoader(classLoader);
+                SpringApplication springApplication = application(classLoader);
+                BannedArtifactClassLoadingListener listener = assertListener(springApplication);
+
+                ClassLoader filteringClassLoader = springApplication.getClassLoader();
+                assertInstanceOf(BannedArtifactFilteringClassLoader.class, filteringClassLoader);
+                assertSame(filteringClassLoader, currentThread().getContextClassLoader());
+                assertSame(filteringClassLoader, springApplication.getResourceLoader().getClassLoader());
+                assertThrows(ClassNotFoundException.class,
+                        () -> filteringClassLoader.loadClass(BannedArtifactFilteringClassLoaderTest.Banned.class.getName()));
+
+                // The thread context ClassLoader is reverted when the application fails
+                listener.failed(null, new RuntimeException());
+                assertSame(classLoader, currentThread().getContextClassLoader());
+            });
+        }
+    }
+
+    @Test
+    void testStartingOnFilterModeWithoutResourceLoader() throws IOException {
+        try (URLClassLoader classLoader = newClassLoader(this.tempDir, true)) {
+            doInEnabled(() -> {
+                getProperties().setProperty(BANNED_ARTIFACTS_MODE_PROPERTY_NAME, "FILTER");
+                currentThread().setContextClassLoader(classLoader);
+                SpringApplication springApplication = application((ClassLoader) null);
+                BannedArtifactClassLoadingListener listener = assertListener(springApplication);
+
+                // The ResourceLoader is not created, the thread context ClassLoader is used instead
+                assertNull(springApplication.getResourceLoader());
+                ClassLoader filteringClassLoader = springApplication.getClassLoader();
+                assertInstanceOf(BannedArtifactFilteringClassLoader.class, filteringClassLoader);
+                assertSame(filteringClassLoader, currentThread().getContextClassLoader());
+
+                // The thread context ClassLoader is reverted when the context is closed
+                try (GenericApplicationContext context = new GenericApplicationContext()) {
+                    listener.contextPrepared(context);
+                    context.refresh();
+                    assertSame(filteringClassLoader, context.getClassLoader());
+                    assertSame(filteringClassLoader, currentThread().getContextClassLoader());
+                }
+                assertSame(classLoader, currentThread().getContextClassLoader());
+            });
+        }
+    }
+
+    @Test
+    void testStartingOnFilterModeWithoutBannedArtifacts() {
+        doInEnabled(() -> {
+            getProperties().setProperty(BANNED_ARTIFACTS_MODE_PROPERTY_NAME, "FILTER");
+            SpringApplication springApplication = application();
+            ClassLoader classLoader = springApplication.getClassLoader();
+            assertListener(springApplication);
+            assertSame(classLoader, springApplication.getClassLoader());
+        });
+    }
+
+    @Test
+    void testGetMode() {
+        BannedArtifactClassLoadingListener listener = new BannedArtifactClassLoadingListener(application());
+        assertEquals(BannedArtifactClassLoadingListener.Mode.REMOVE, listener.getMode());
+
+        getProperties().setProperty(BANNED_ARTIFACTS_MODE_PROPERTY_NAME, " Filter ");
+        assertEquals(BannedArtifactClassLoadingListener.Mode.FILTER, listener.getMode());
+
+        getProperties().setProperty(BANNED_ARTIFACTS_MODE_PROPERTY_NAME, "unknown");
+        assertEquals(BannedArtifactClassLoadingListener.Mode.REMOVE, listener.getMode());
+    }
+
+    BannedArtifactClassLoadingListener assertListener(SpringApplication application) {
         BannedArtifactClassLoadingListener listener = new BannedArtifactClassLoadingListener(application);
         assertFalse(listener.isProcessed());
         listener.starting();
         assertTrue(listener.isProcessed());
         listener.starting();
         assertTrue(listener.isProcessed());
+        return listener;
     }
 
     void doInEnabled(Runnable runnable) {
@@ -90,6 +180,7 @@ class BannedArtifactClassLoadingListenerTest {
             runnable.run();
         } finally {
             properties.remove(BANNED_ARTIFACTS_ENABLED_PROPERTY_NAME);
+            properties.remove(BANNED_ARTIFACTS_MODE_PROPERTY_NAME);
             currentThread().setContextClassLoader(classLoader);
         }
     }
@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.classloading;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.BitSet;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.spring.boot.classloading.BannedArtifactFilteringClassLoader.getLocation;
+import static io.microsphere.spring.boot.classloading.BannedArtifactFilteringClassLoader.of;
+import static io.microsphere.spring.boot.classloading.BannedArtifacts.CONFIG_LOCATION;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.list;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link BannedArtifactFilteringClassLoader} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see BannedArtifactFilteringClassLoader
+ * @since 1.0.0
+ */
+class BannedArtifactFilteringClassLoaderTest {
+
+    static final String RESOURCE_NAME = "META-INF/test.txt";
+
+    @TempDir
+    private File tempDir;
+
+    private TestClassLoader classLoader;
+
+    private BannedArtifactFilteringClassLoader filteringClassLoader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.classLoader = newClassLoader(this.tempDir, true);
+        this.filteringClassLoader = of(this.classLoader);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        this.classLoader.close();
+    }
+
+    @Test
+    void testOf() throws IOException {
+        assertNotNull(this.filteringClassLoader);
+        assertSame(this.classLoader, this.filteringClassLoader.getDelegate());
+        assertSame(this.classLoader, this.filteringClassLoader.getParent());
+        assertEquals(ofList(this.classLoader.getURLs()[0]), this.filteringClassLoader.getBannedClassPathURLs());
+
+        File directory = new File(this.tempDir, "not-banned");
+        assertTrue(directory.mkdirs());
+        try (URLClassLoader classLoader = newClassLoader(directory, false)) {
+            assertNull(of(classLoader));
+        }
+    }
+
+    @Test
+    void testLoadClass() throws ClassNotFoundException {
+        Class<?> allowedClass = this.filteringClassLoader.loadClass(Allowed.class.getName());
+        assertSame(this.classLoader, allowedClass.getClassLoader());
+        assertSame(allowedClass, Class.forName(Allowed.class.getName(), false, this.filteringClassLoader));
+        // The classes of JDK
+        assertSame(String.class, this.filteringClassLoader.loadClass(String.class.getName()));
+
+        String bannedClassName = Banned.class.getName();
+        assertFalse(this.filteringClassLoader.isRejected(bannedClassName));
+        assertThrows(ClassNotFoundException.class, () -> this.filteringClassLoader.loadClass(bannedClassName));
+        assertTrue(this.filteringClassLoader.isRejected(bannedClassName));
+        // The negative lookup is cached, and throws the shared stackless exception
+        ClassNotFoundException exception = assertThrows(ClassNotFoundException.class, () -> this.filteringClassLoader.loadClass(bannedClassName));
+        assertSame(exception, assertThrows(ClassNotFoundException.class, () -> this.filteringClassLoader.loadClass(bannedClassName)));
+        assertEquals(0, exception.getStackTrace().length);
+        // The banned class is never defined
+        assertFalse(this.classLoader.isLoaded(bannedClassName));
+    }
+
+    @Test
+    void testLoadClassAlsoInAllowedArtifact() {
+        String sharedClassName = Shared.class.getName();
+        // The first class file is in the banned "a.jar", the duplicate of the class is never defined from "b.jar"
+        assertThrows(ClassNotFoundException.class, () -> this.filteringClassLoader.loadClass(sharedClassName));
+        assertTrue(this.filteringClassLoader.isRejected(sharedClassName));
+        assertFalse(this.classLoader.isLoaded(sharedClassName));
+    }
+
+    @Test
+    void testLoadClassWithoutBannedEntry() throws ClassNotFoundException {
+        List<URL> classPathURLs = ofList(this.classLoader.getURLs());
+        BannedArtifactFilteringClassLoader classLoader = new BannedArtifactFilteringClassLoader(this.classLoader, classPathURLs, new BitSet());
+        String sharedClassName = Shared.class.getName();
+        // Delegated without probing the location
+        assertSame(this.classLoader, classLoader.loadClass(sharedClassName).getClassLoader());
+        assertFalse(classLoader.isRejected(sharedClassName));
+        assertSame(this.classLoader, classLoader.loadClass(Banned.class.getName()).getClassLoader());
+    }
+
+    @Test
+    void testGetResource() throws IOException {
+        URL[] urls = this.classLoader.getURLs();
+        assertEquals(2, list(this.classLoader.getResources(RESOURCE_NAME)).size());
+
+        URL resource = this.filteringClassLoader.getResource(RESOURCE_NAME);
+        assertNotNull(resource);
+        assertEquals(getLocation(urls[1].toString()), getLocation(resource.toString()));
+
+        List<URL> resources = list(this.filteringClassLoader.getResources(RESOURCE_NAME));
+        assertEquals(ofList(resource), resources);
+
+        assertNotNull(this.filteringClassLoader.getResource(CONFIG_LOCATION));
+        assertNull(this.filteringClassLoader.getResource("not-found"));
+        try (InputStream inputStream = this.filteringClassLoader.getResourceAsStream(RESOURCE_NAME)) {
+            assertEquals("b.jar", new String(inputStream.readAllBytes(), UTF_8));
+        }
+    }
+
+    @Test
+    void testIsBanned() throws IOException {
+        BitSet bannedIndexes = new BitSet();
+        bannedIndexes.set(0);
+        bannedIndexes.set(2);
+        List<URL> classPathURLs = ofList(new URL("jar:file:/app.jar!/BOOT-INF/lib/a.jar!/"),
+                new URL("jar:file:/app.jar!/BOOT-INF/lib/b.jar!/"), new URL("file:/classes/"));
+        BannedArtifactFilteringClassLoader classLoader = new BannedArtifactFilteringClassLoader(this.classLoader, classPathURLs, bannedIndexes);
+        assertTrue(classLoader.isBanned(new URL("jar:file:/app.jar!/BOOT-INF/lib/a.jar!/")));
+        assertTrue(classLoader.isBanned(new URL("jar:file:/app.jar!/BOOT-INF/lib/a.jar!/META-INF/test.txt")));
+        assertFalse(classLoader.isBanned(new URL("jar:file:/app.jar!/BOOT-INF/lib/b.jar!/META-INF/test.txt")));
+        assertTrue(classLoader.isBanned(new URL("file:/classes/")));
+        assertTrue(classLoader.isBanned(new URL("file:/classes/META-INF/test.txt")));
+        assertFalse(classLoader.isBanned(new URL("file:/other/META-INF/test.txt")));
+        assertEquals(ofList(classPathURLs.get(0), classPathURLs.get(2)), classLoader.getBannedClassPathURLs());
+
+        classLoader = new BannedArtifactFilteringClassLoader(this.classLoader, classPathURLs, new BitSet());
+        assertFalse(classLoader.isBanned(new URL("jar:file:/app.jar!/BOOT-INF/lib/a.jar!/")));
+        assertTrue(classLoader.getBannedClassPathURLs().isEmpty());
+    }
+
+    @Test
+    void testGetLocation() {
+        assertEquals("file:/lib/a.jar", getLocation("file:/lib/a.jar"));
+        assertEquals("file:/classes/", getLocation("file:/classes/"));
+        assertEquals("file:/lib/a.jar", getLocation("jar:file:/lib/a.jar!/"));
+        assertEquals("file:/lib/a.jar", getLocation("jar:file:/lib/a.jar!/com/acme/a.txt"));
+        assertEquals("nested:/app.jar/!BOOT-INF/lib/a.jar", getLocation("jar:nested:/app.jar/!BOOT-INF/lib/a.jar!/"));
+        assertEquals("nested:/app.jar/!BOOT-INF/lib/a.jar", getLocation("jar:nested:/app.jar/!BOOT-INF/lib/a.jar!/com/acme/a.txt"));
+        assertEquals("file:/app.jar!/BOOT-INF/lib/a.jar", getLocation("jar:file:/app.jar!/BOOT-INF/lib/a.jar!/com/acme/a.txt"));
+    }
+
+    /**
+     * Create the {@link URLClassLoader} of "a.jar" ("com.acme:a:1.0.0" with {@link Banned}), "b.jar"
+     * ("com.acme:b:1.0.0" with {@link Allowed}) and "classes" directory, both JARs contain {@link Shared} and the
+     * resource {@link #RESOURCE_NAME}.
+     *
+     * @param directory the directory of class path
+     * @param banned    whether "com.acme:a" is banned by the "classes/META-INF/banned-artifacts"
+     */
+    static TestClassLoader newClassLoader(File directory, boolean banned) throws IOException {
+        File a = newJar(directory, "a.jar", "a", Banned.class, Shared.class);
+        File b = newJar(directory, "b.jar", "b", Allowed.class, Shared.class);
+        File classes = new File(directory, "classes");
+        File configFile = new File(classes, CONFIG_LOCATION);
+        assertTrue(configFile.getParentFile().mkdirs());
+        Files.write(configFile.toPath(), (banned ? "com.acme:a" : "# Nothing is banned").getBytes(UTF_8));
+        URL[] urls = {a.toURI().toURL(), b.toURI().toURL(), classes.toURI().toURL()};
+        return new TestClassLoader(urls);
+    }
+
+    private static File newJar(File directory, String name, String artifactId, Class<?>... types) throws IOException {
+        File file = new File(directory, name);
+        try (ZipOutputStream outputStream = new ZipOutputStream(Files.newOutputStream(file.toPath()))) {
+            outputStream.putNextEntry(new ZipEntry("META-INF/maven/com.acme/" + artifactId + "/pom.properties"));
+            outputStream.write(("groupId=com.acme\nartifactId=" + artifactId + "\nversion=1.0.0\n").getBytes(UTF_8));
+            outputStream.closeEntry();
+            for (Class<?> type : types) {
+                String classEntryName = type.getName().replace('.', '/') + ".class";
+                try (InputStream classStream = type.getClassLoader().getResourceAsStream(classEntryName)) {
+                    outputStream.putNextEntry(new ZipEntry(classEntryName));
+                    outputStream.write(classStream.readAllBytes());
+                    outputStream.closeEntry();
+                }
+            }
+            outputStream.putNextEntry(new ZipEntry(RESOURCE_NAME));
+            outputStream.write(name.getBytes(UTF_8));
+            outputStream.closeEntry();
+        }
+        return file;
+    }
+
+    static class Banned {
+    }
+
+    static class Allowed {
+    }
+
+    static class Shared {
+    }
+
+    /**
+     * The {@link URLClassLoader} without the parent that exposes its loaded classes
+     */
+    static class TestClassLoader extends URLClassLoader {
+
+        TestClassLoader(URL[] urls) {
+            super(urls, null);
+        }
+
+        boolean isLoaded(String className) {
+            return findLoadedClass(className) != null;
+        }
+    }
+}
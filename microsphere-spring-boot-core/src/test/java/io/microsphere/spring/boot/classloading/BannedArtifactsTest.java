@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.classloading;
+
+import io.microsphere.classloading.Artifact;
+import io.microsphere.classloading.MavenArtifact;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.spring.boot.classloading.BannedArtifacts.CONFIG_LOCATION;
+import static io.microsphere.spring.boot.classloading.BannedArtifacts.load;
+import static io.microsphere.spring.boot.classloading.BannedArtifacts.parse;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link BannedArtifacts} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see BannedArtifacts
+ * @since 1.0.0
+ */
+class BannedArtifactsTest {
+
+    @TempDir
+    private File tempDir;
+
+    @Test
+    void testParse() {
+        assertArrayEquals(new String[]{"com.acme", "a", "*"}, parse(" com.acme:a "));
+        assertArrayEquals(new String[]{"com.acme", "a", "1.0.0"}, parse("com.acme:a:1.0.0"));
+        assertNull(parse(""));
+        assertNull(parse("  "));
+        assertNull(parse("# comment"));
+        assertNull(parse("com.acme"));
+        assertNull(parse("com.acme:a:1.0.0:jar"));
+    }
+
+    @Test
+    void testMatches() {
+        BannedArtifacts bannedArtifacts = new BannedArtifacts(ofList(parse("com.acme:a"), parse("*:b:1.0.0")));
+        assertFalse(bannedArtifacts.isEmpty());
+        assertTrue(bannedArtifacts.matches(mavenArtifact("com.acme", "a", "1.0.0")));
+        assertTrue(bannedArtifacts.matches(mavenArtifact("com.acme", "a", "2.0.0")));
+        assertFalse(bannedArtifacts.matches(mavenArtifact("org.acme", "a", "1.0.0")));
+        assertTrue(bannedArtifacts.matches(mavenArtifact("org.acme", "b", "1.0.0")));
+        assertFalse(bannedArtifacts.matches(mavenArtifact("org.acme", "b", "2.0.0")));
+        assertTrue(bannedArtifacts.matches(artifact("b", "1.0.0")));
+        assertFalse(bannedArtifacts.matches(artifact("a", "1.0.0")));
+        assertFalse(bannedArtifacts.matches(null));
+    }
+
+    @Test
+    void testLoad() throws IOException {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{this.tempDir.toURI().toURL()}, null)) {
+            assertTrue(load(classLoader).isEmpty());
+
+            File configFile = new File(this.tempDir, CONFIG_LOCATION);
+            assertTrue(configFile.getParentFile().mkdirs());
+            Files.write(configFile.toPath(), "# banned\ncom.acme:a\n\ninvalid\n".getBytes(UTF_8));
+            BannedArtifacts bannedArtifacts = load(classLoader);
+            assertFalse(bannedArtifacts.isEmpty());
+            assertTrue(bannedArtifacts.matches(mavenArtifact("com.acme", "a", "1.0.0")));
+        }
+    }
+
+    private static Artifact artifact(String artifactId, String version) {
+        return Artifact.create(artifactId, version, (URL) null);
+    }
+
+    private static MavenArtifact mavenArtifact(String groupId, String artifactId, String version) {
+        return MavenArtifact.create(groupId, artifactId, version, (URL) null);
+    }
+}
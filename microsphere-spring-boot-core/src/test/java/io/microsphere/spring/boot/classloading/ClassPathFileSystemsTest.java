@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.classloading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static io.microsphere.collection.Sets.ofSet;
+import static io.microsphere.spring.boot.classloading.ClassPathFileSystems.getName;
+import static java.util.zip.ZipEntry.STORED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ClassPathFileSystems} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ClassPathFileSystems
+ * @since 1.0.0
+ */
+class ClassPathFileSystemsTest {
+
+    @TempDir
+    private File tempDir;
+
+    @Test
+    void testGetRoot() throws IOException {
+        File file = new File(this.tempDir, "app.jar");
+        byte[] nestedJar = newJar("com/acme/Foo.class");
+        try (ZipOutputStream outputStream = new ZipOutputStream(Files.newOutputStream(file.toPath()))) {
+            ZipEntry entry = new ZipEntry("BOOT-INF/lib/a.jar");
+            entry.setMethod(STORED);
+            entry.setSize(nestedJar.length);
+            CRC32 crc = new CRC32();
+            crc.update(nestedJar);
+            entry.setCrc(crc.getValue());
+            outputStream.putNextEntry(entry);
+            outputStream.write(nestedJar);
+            outputStream.closeEntry();
+            outputStream.putNextEntry(new ZipEntry("BOOT-INF/classes/com/acme/Bar.class"));
+            outputStream.closeEntry();
+        }
+        String fileURL = file.toURI().toURL().toString();
+        try (ClassPathFileSystems fileSystems = new ClassPathFileSystems()) {
+            Path root = fileSystems.getRoot(file.toURI().toURL());
+            assertNotNull(root);
+            assertTrue(Files.isDirectory(root.resolve("BOOT-INF/lib")));
+            // The FileSystem is shared
+            assertSame(root.getFileSystem(), fileSystems.getRoot(new URL("jar:" + fileURL + "!/")).getFileSystem());
+
+            // The nested JAR is read by ZipArchive
+            URL nestedURL = new URL("jar:" + fileURL + "!/BOOT-INF/lib/a.jar!/");
+            assertNull(fileSystems.getRoot(nestedURL));
+            ZipArchive nestedArchive = fileSystems.getNestedArchive(nestedURL);
+            assertNotNull(nestedArchive);
+            assertEquals(ofSet("com/acme/Foo.class"), nestedArchive.getEntryNames());
+
+            Path classesRoot = fileSystems.getRoot(new URL("jar:" + fileURL + "!/BOOT-INF/classes!/"));
+            assertNotNull(classesRoot);
+            assertTrue(Files.isRegularFile(classesRoot.resolve("com/acme/Bar.class")));
+
+            assertEquals(this.tempDir.toPath(), fileSystems.getRoot(this.tempDir.toURI().toURL()));
+            assertNull(fileSystems.getRoot(new URL("jar:" + fileURL + "!/BOOT-INF/lib/absent.jar!/")));
+            assertNull(fileSystems.getNestedArchive(new URL("jar:" + fileURL + "!/BOOT-INF/lib/absent.jar!/")));
+            assertNull(fileSystems.getNestedArchive(new URL("jar:" + fileURL + "!/BOOT-INF/classes!/")));
+            assertNull(fileSystems.getNestedArchive(file.toURI().toURL()));
+            assertNull(fileSystems.getRoot(new File(this.tempDir, "absent.jar").toURI().toURL()));
+            assertNull(fileSystems.getRoot(new URL("http://localhost/a.jar")));
+        }
+    }
+
+    @Test
+    void testGetName() throws IOException {
+        assertEquals("a.jar", getName(new URL("file:/lib/a.jar")));
+        assertEquals("classes", getName(new URL("file:/target/classes/")));
+        assertEquals("a.jar", getName(new URL("jar:file:/app.jar!/BOOT-INF/lib/a.jar!/")));
+        assertEquals("classes", getName(new URL("jar:file:/app.jar!/BOOT-INF/classes!/")));
+        assertEquals("app.jar", getName(new URL("jar:file:/app.jar!/")));
+    }
+
+    private static byte[] newJar(String entryName) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream outputStream = new ZipOutputStream(bytes)) {
+            outputStream.putNextEntry(new ZipEntry(entryName));
+            outputStream.write(new byte[]{(byte) 0xCA, (byte) 0xFE});
+            outputStream.closeEntry();
+        }
+        return bytes.toByteArray();
+    }
+}
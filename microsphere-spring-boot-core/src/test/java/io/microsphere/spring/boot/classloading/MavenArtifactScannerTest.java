@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.classloading;
+
+import io.microsphere.classloading.MavenArtifact;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.Properties;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.spring.boot.classloading.MavenArtifactScanner.isPomProperties;
+import static io.microsphere.spring.boot.classloading.MavenArtifactScanner.select;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.zip.ZipEntry.STORED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link MavenArtifactScanner} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see MavenArtifactScanner
+ * @since 1.0.0
+ */
+class MavenArtifactScannerTest {
+
+    @TempDir
+    private File tempDir;
+
+    @Test
+    void testScanArchive() throws IOException {
+        File file = new File(this.tempDir, "test-artifact-1.0.0.jar");
+        Files.write(file.toPath(), newJar("test-group", "test-artifact", "1.0.0"));
+        URL url = file.toURI().toURL();
+        try (MavenArtifactScanner scanner = new MavenArtifactScanner()) {
+            assertArtifact(scanner.scan(url), "test-group", "test-artifact", "1.0.0", url);
+            // The archive without "pom.properties"
+            File emptyFile = new File(this.tempDir, "empty.jar");
+            Files.write(emptyFile.toPath(), newJar());
+            assertNull(scanner.scan(emptyFile.toURI().toURL()));
+            assertNull(scanner.scan(new File(this.tempDir, "absent.jar").toURI().toURL()));
+            assertNull(scanner.scan(new URL("http://localhost/test.jar")));
+        }
+    }
+
+    @Test
+    void testScanDirectory() throws IOException {
+        File directory = new File(this.tempDir, "classes");
+        File pomFile = new File(directory, "META-INF/maven/test-group/test-artifact/pom.properties");
+        assertTrue(pomFile.getParentFile().mkdirs());
+        Files.write(pomFile.toPath(), newPomProperties("test-group", "test-artifact", "1.0.0"));
+        URL url = directory.toURI().toURL();
+        try (MavenArtifactScanner scanner = new MavenArtifactScanner()) {
+            assertArtifact(scanner.scan(url), "test-group", "test-artifact", "1.0.0", url);
+            assertNull(scanner.scan(this.tempDir.toURI().toURL()));
+        }
+    }
+
+    @Test
+    void testScanNested() throws IOException {
+        File file = new File(this.tempDir, "app.jar");
+        try (ZipOutputStream outputStream = new ZipOutputStream(Files.newOutputStream(file.toPath()))) {
+            putStoredEntry(outputStream, "BOOT-INF/lib/test-artifact-1.0.0.jar", newJar("test-group", "test-artifact", "1.0.0"));
+            putStoredEntry(outputStream, "BOOT-INF/classes/META-INF/maven/app-group/app/pom.properties", newPomProperties("app-group", "app", "2.0.0"));
+        }
+        String fileURL = file.toURI().toURL().toString();
+        URL libraryURL = new URL("jar:" + fileURL + "!/BOOT-INF/lib/test-artifact-1.0.0.jar!/");
+        URL classesURL = new URL("jar:" + fileURL + "!/BOOT-INF/classes!/");
+        try (MavenArtifactScanner scanner = new MavenArtifactScanner()) {
+            assertArtifact(scanner.scan(libraryURL), "test-group", "test-artifact", "1.0.0", libraryURL);
+            assertArtifact(scanner.scan(classesURL), "app-group", "app", "2.0.0", classesURL);
+            assertNull(scanner.scan(new URL("jar:" + fileURL + "!/BOOT-INF/lib/absent.jar!/")));
+            assertNull(scanner.scan(new URL("jar:" + fileURL + "!/")));
+        }
+    }
+
+    @Test
+    void testSelect() throws IOException {
+        URL url = this.tempDir.toURI().toURL();
+        Properties shaded = new Properties();
+        shaded.setProperty("groupId", "shaded-group");
+        shaded.setProperty("artifactId", "shaded");
+        shaded.setProperty("version", "1.0.0");
+        Properties own = new Properties();
+        own.setProperty("groupId", "test-group");
+        own.setProperty("artifactId", "test-artifact");
+        own.setProperty("version", "2.0.0");
+
+        assertArtifact(select(ofList(shaded, own), "test-artifact-2.0.0.jar", url), "test-group", "test-artifact", "2.0.0", url);
+        // Ambiguous
+        assertNull(select(ofList(shaded, own), "unknown.jar", url));
+        assertNull(select(ofList(), "test-artifact-2.0.0.jar", url));
+        assertNull(select(ofList(new Properties()), "test-artifact-2.0.0.jar", url));
+    }
+
+    @Test
+    void testIsPomProperties() {
+        assertTrue(isPomProperties("META-INF/maven/test-group/test-artifact/pom.properties"));
+        assertFalse(isPomProperties("META-INF/maven/test-group/test-artifact/pom.xml"));
+        assertFalse(isPomProperties("BOOT-INF/classes/META-INF/maven/test-group/test-artifact/pom.properties"));
+    }
+
+    private void assertArtifact(MavenArtifact artifact, String groupId, String artifactId, String version, URL location) {
+        assertNotNull(artifact);
+        assertEquals(groupId, artifact.getGroupId());
+        assertEquals(artifactId, artifact.getArtifactId());
+        assertEquals(version, artifact.getVersion());
+        assertEquals(location, artifact.getLocation());
+    }
+
+    private static byte[] newJar(String... coordinates) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream outputStream = new ZipOutputStream(bytes)) {
+            outputStream.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+            outputStream.write("Manifest-Version: 1.0\n".getBytes(UTF_8));
+            outputStream.closeEntry();
+            if (coordinates.length == 3) {
+                outputStream.putNextEntry(new ZipEntry("META-INF/maven/" + coordinates[0] + "/" + coordinates[1] + "/pom.properties"));
+                outputStream.write(newPomProperties(coordinates[0], coordinates[1], coordinates[2]));
+                outputStream.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] newPomProperties(String groupId, String artifactId, String version) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("groupId", groupId);
+        properties.setProperty("artifactId", artifactId);
+        properties.setProperty("version", version);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream outputStream = bytes) {
+            properties.store(outputStream, null);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void putStoredEntry(ZipOutputStream outputStream, String name, byte[] content) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(STORED);
+        entry.setSize(content.length);
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        entry.setCrc(crc.getValue());
+        outputStream.putNextEntry(entry);
+        outputStream.write(content);
+        outputStream.closeEntry();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.classloading;
+
+import io.microsphere.spring.boot.classloading.ZipArchive.EntryInflaterInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.zip.CRC32;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+import static io.microsphere.collection.Sets.ofSet;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.zip.ZipEntry.STORED;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link ZipArchive} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ZipArchive
+ * @since 1.0.0
+ */
+class ZipArchiveTest {
+
+    @TempDir
+    private File tempDir;
+
+    @Test
+    void testGetInputStream() throws IOException {
+        File file = new File(this.tempDir, "a.jar");
+        Files.write(file.toPath(), newJar("a.txt", "b/b.txt"));
+        try (ZipArchive archive = ZipArchive.open(file)) {
+            assertEquals(ofSet("a.txt", "b/", "b/b.txt"), archive.getEntryNames());
+            assertContent("a.txt", archive.getInputStream("a.txt"));
+            assertContent("b/b.txt", archive.getInputStream("b/b.txt"));
+            assertNull(archive.getInputStream("absent.txt"));
+        }
+    }
+
+    @Test
+    void testGetInputStreamOnDeflatedEntry() throws IOException {
+        File file = new File(this.tempDir, "a.jar");
+        Files.write(file.toPath(), newJar("a", "b/b.txt"));
+        try (ZipArchive archive = ZipArchive.open(file)) {
+            // The single byte entry is inflated with the dummy trailing byte
+            assertContent("a", archive.getInputStream("a"));
+
+            InputStream inputStream = archive.getInputStream("b/b.txt");
+            assertInstanceOf(EntryInflaterInputStream.class, inputStream);
+            Inflater inflater = ((EntryInflaterInputStream) inputStream).getInflater();
+            assertContent("b/b.txt", inputStream);
+            // The inflater was ended on closing
+            assertThrows(NullPointerException.class, inflater::getRemaining);
+            inputStream.close();
+        }
+    }
+
+    @Test
+    void testGetNestedArchive() throws IOException {
+        File file = new File(this.tempDir, "app.jar");
+        try (OutputStream outputStream = Files.newOutputStream(file.toPath())) {
+            // The prefix, e.g, the launch script of fully executable JAR
+            outputStream.write("#!/bin/bash\n".getBytes(UTF_8));
+            try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+                putStoredEntry(zipOutputStream, "BOOT-INF/lib/a.jar", newJar("a.txt"));
+                zipOutputStream.putNextEntry(new ZipEntry("BOOT-INF/lib/b.jar"));
+                zipOutputStream.write(newJar("b.txt"));
+                zipOutputStream.closeEntry();
+            }
+        }
+        try (ZipArchive archive = ZipArchive.open(file)) {
+            ZipArchive nestedArchive = archive.getNestedArchive("BOOT-INF/lib/a.jar");
+            assertNotNull(nestedArchive);
+            assertEquals(ofSet("a.txt"), nestedArchive.getEntryNames());
+            assertContent("a.txt", nestedArchive.getInputStream("a.txt"));
+            // The nested archive shares the channel of outer one
+            nestedArchive.close();
+            assertContent("a.txt", archive.getNestedArchive("BOOT-INF/lib/a.jar").getInputStream("a.txt"));
+
+            assertNull(archive.getNestedArchive("BOOT-INF/lib/absent.jar"));
+            // The nested JAR is deflated
+            assertThrows(ZipException.class, () -> archive.getNestedArchive("BOOT-INF/lib/b.jar"));
+        }
+    }
+
+    @Test
+    void testOpenOnInvalidFile() throws IOException {
+        File file = new File(this.tempDir, "invalid.jar");
+        Files.write(file.toPath(), "invalid".getBytes(UTF_8));
+        assertThrows(ZipException.class, () -> ZipArchive.open(file));
+    }
+
+    private static void assertContent(String expected, InputStream inputStream) throws IOException {
+        assertNotNull(inputStream);
+        try (InputStream content = inputStream) {
+            assertArrayEquals(expected.getBytes(UTF_8), content.readAllBytes());
+        }
+    }
+
+    /**
+     * Create the JAR whose entries' contents are their names.
+     */
+    private static byte[] newJar(String... entryNames) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream outputStream = new ZipOutputStream(bytes)) {
+            for (String entryName : entryNames) {
+                int index = entryName.lastIndexOf('/');
+                if (index > 0) {
+                    outputStream.putNextEntry(new ZipEntry(entryName.substring(0, index + 1)));
+                    outputStream.closeEntry();
+                }
+                outputStream.putNextEntry(new ZipEntry(entryName));
+                outputStream.write(entryName.getBytes(UTF_8));
+                outputStream.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void putStoredEntry(ZipOutputStream outputStream, String name, byte[] content) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(STORED);
+        entry.setSize(content.length);
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        entry.setCrc(crc.getValue());
+        outputStream.putNextEntry(entry);
+        outputStream.write(content);
+        outputStream.closeEntry();
+    }
+}
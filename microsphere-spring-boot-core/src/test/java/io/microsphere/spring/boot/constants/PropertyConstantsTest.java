@@ -18,6 +18,12 @@ package io.microsphere.spring.boot.constants;
 
 import org.junit.jupiter.api.Test;
 
+import static io.microsphere.spring.boot.constants.PropertyConstants.CONFIGURATION_PROPERTIES_ASYNC_BIND_LISTENER_QUEUE_CAPACITY_PROPERTY_NAME;
+import static io.microsphere.spring.boot.constants.PropertyConstants.CONFIGURATION_PROPERTIES_ASYNC_BIND_LISTENER_REJECTION_POLICY_PROPERTY_NAME;
+import static io.microsphere.spring.boot.constants.PropertyConstants.CONFIGURATION_PROPERTIES_PARALLEL_SCAN_ENABLED_PROPERTY_NAME;
+import static io.microsphere.spring.boot.constants.PropertyConstants.CONFIGURATION_PROPERTIES_PROPERTIES_CHANGED_EVENT_ENABLED_PROPERTY_NAME;
+import static io.microsphere.spring.boot.constants.PropertyConstants.CONFIGURATION_PROPERTIES_PROPERTY_CHANGED_EVENT_ENABLED_PROPERTY_NAME;
+import static io.microsphere.spring.boot.constants.PropertyConstants.CONFIGURATION_PROPERTIES_PROPERTY_NAME_PREFIX;
 import static io.microsphere.spring.boot.constants.PropertyConstants.DEFAULT_MICROSPHERE_SPRING_BOOT_LOGGING_LEVEL;
 import static io.microsphere.spring.boot.constants.PropertyConstants.MICROSPHERE_SPRING_BOOT_LOGGING_LEVEL_PROPERTY_NAME;
 import static io.microsphere.spring.boot.constants.PropertyConstants.MICROSPHERE_SPRING_BOOT_PROPERTY_NAME_PREFIX;
@@ -37,5 +43,11 @@ class PropertyConstantsTest {
         assertEquals("microsphere.spring.boot.", MICROSPHERE_SPRING_BOOT_PROPERTY_NAME_PREFIX);
         assertEquals("TRACE", DEFAULT_MICROSPHERE_SPRING_BOOT_LOGGING_LEVEL);
         assertEquals("microsphere.spring.boot.logging.level", MICROSPHERE_SPRING_BOOT_LOGGING_LEVEL_PROPERTY_NAME);
+        assertEquals("microsphere.spring.boot.configuration-properties.", CONFIGURATION_PROPERTIES_PROPERTY_NAME_PREFIX);
+        assertEquals("microsphere.spring.boot.configuration-properties.property-changed-event.enabled", CONFIGURATION_PROPERTIES_PROPERTY_CHANGED_EVENT_ENABLED_PROPERTY_NAME);
+        assertEquals("microsphere.spring.boot.configuration-properties.properties-changed-event.enabled", CONFIGURATION_PROPERTIES_PROPERTIES_CHANGED_EVENT_ENABLED_PROPERTY_NAME);
+        assertEquals("microsphere.spring.boot.configuration-properties.parallel-scan.enabled", CONFIGURATION_PROPERTIES_PARALLEL_SCAN_ENABLED_PROPERTY_NAME);
+        assertEquals("microsphere.spring.boot.configuration-properties.async-bind-listener.queue-capacity", CONFIGURATION_PROPERTIES_ASYNC_BIND_LISTENER_QUEUE_CAPACITY_PROPERTY_NAME);
+        assertEquals("microsphere.spring.boot.configuration-properties.async-bind-listener.rejection-policy", CONFIGURATION_PROPERTIES_ASYNC_BIND_LISTENER_REJECTION_POLICY_PROPERTY_NAME);
     }
 }
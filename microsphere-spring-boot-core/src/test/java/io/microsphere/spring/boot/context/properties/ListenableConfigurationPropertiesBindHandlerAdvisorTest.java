@@ -17,18 +17,29 @@
 package io.microsphere.spring.boot.context.properties;
 
 import io.microsphere.logging.Logger;
+import io.microsphere.spring.boot.context.properties.ListenableConfigurationPropertiesBindHandlerAdvisor.SortedBindListeners;
+import io.microsphere.spring.boot.context.properties.bind.AsyncBindListener;
 import io.microsphere.spring.boot.context.properties.bind.BindListener;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.context.properties.bind.BindContext;
+import org.springframework.boot.context.properties.bind.BindHandler;
 import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 
 import static io.microsphere.logging.LoggerFactory.getLogger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * {@link ListenableConfigurationPropertiesBindHandlerAdvisor} Test
@@ -58,6 +69,60 @@ class ListenableConfigurationPropertiesBindHandlerAdvisorTest {
 
     }
 
+    @Test
+    void testGetSortedBindListeners() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        ListenableConfigurationPropertiesBindHandlerAdvisor advisor = new ListenableConfigurationPropertiesBindHandlerAdvisor();
+        advisor.setBeanFactory(beanFactory);
+
+        SortedBindListeners sortedBindListeners = advisor.getSortedBindListeners();
+        assertEquals(0, sortedBindListeners.listeners.length);
+        assertFalse(sortedBindListeners.async);
+        assertSame(sortedBindListeners, advisor.getSortedBindListeners());
+
+        // not invalidated by the registration of the singleton other than BindListener
+        beanFactory.registerSingleton("notBindListener", new Object());
+        assertSame(sortedBindListeners, advisor.getSortedBindListeners());
+
+        // invalidated by the registration of BindListener
+        beanFactory.registerSingleton("myBindListener", new MyBindListener());
+        sortedBindListeners = advisor.getSortedBindListeners();
+        assertEquals(1, sortedBindListeners.listeners.length);
+        assertSame(sortedBindListeners, advisor.getSortedBindListeners());
+
+        beanFactory.registerSingleton("myAsyncBindListener", new AsyncBindListener() {
+        });
+        sortedBindListeners = advisor.getSortedBindListeners();
+        assertEquals(2, sortedBindListeners.listeners.length);
+        assertTrue(sortedBindListeners.async);
+        assertNotNull(advisor.apply(BindHandler.DEFAULT));
+        assertSame(advisor.getAsyncBindListenerDispatcher(), advisor.getAsyncBindListenerDispatcher());
+        advisor.destroy();
+    }
+
+    @Test
+    void testGetSortedBindListenersAfterConfigurationFrozen() {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.refresh();
+        DefaultListableBeanFactory beanFactory = context.getDefaultListableBeanFactory();
+        ListenableConfigurationPropertiesBindHandlerAdvisor advisor = new ListenableConfigurationPropertiesBindHandlerAdvisor();
+        advisor.setBeanFactory(beanFactory);
+
+        SortedBindListeners sortedBindListeners = advisor.getSortedBindListeners();
+        assertEquals(0, sortedBindListeners.listeners.length);
+
+        // reused without any lookup until the context is refreshed
+        beanFactory.registerSingleton("myBindListener", new MyBindListener());
+        assertSame(sortedBindListeners, advisor.getSortedBindListeners());
+
+        // invalidated by the refresh of context
+        advisor.onApplicationEvent(new ContextRefreshedEvent(context));
+        sortedBindListeners = advisor.getSortedBindListeners();
+        assertEquals(1, sortedBindListeners.listeners.length);
+        assertSame(sortedBindListeners, advisor.getSortedBindListeners());
+        context.close();
+    }
+
     static class MyBindListener implements BindListener {
 
         @Override
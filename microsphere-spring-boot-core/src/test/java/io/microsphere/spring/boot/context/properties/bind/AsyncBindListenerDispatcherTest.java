@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.bind;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+
+import static io.microsphere.spring.boot.context.properties.bind.AsyncBindListenerDispatcher.INITIAL_ENQUEUE_TIMES_CAPACITY;
+import static io.microsphere.spring.boot.context.properties.bind.AsyncBindListenerDispatcher.RejectionPolicy.CALLER_RUNS;
+import static io.microsphere.spring.boot.context.properties.bind.AsyncBindListenerDispatcher.RejectionPolicy.DROP;
+import static io.microsphere.spring.boot.context.properties.bind.AsyncBindListenerDispatcher.newDefaultExecutor;
+import static java.util.Collections.synchronizedList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link AsyncBindListenerDispatcher} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AsyncBindListenerDispatcher
+ * @since 1.0.0
+ */
+class AsyncBindListenerDispatcherTest {
+
+    @Test
+    void testDispatchInOrder() throws InterruptedException {
+        AsyncBindListenerDispatcher dispatcher = new AsyncBindListenerDispatcher(null, 1024, CALLER_RUNS);
+        List<Integer> values = synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            int value = i;
+            dispatcher.dispatch("test", () -> {
+                values.add(value);
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, SECONDS));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, values.get(i));
+        }
+        dispatcher.destroy();
+    }
+
+    @Test
+    void testDrop() {
+        List<Runnable> tasks = new ArrayList<>();
+        AsyncBindListenerDispatcher dispatcher = new AsyncBindListenerDispatcher(tasks::add, 2, DROP);
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            int value = i;
+            dispatcher.dispatch("test", () -> values.add(value));
+        }
+        assertEquals(2, dispatcher.getQueueDepth());
+        assertEquals(1, dispatcher.getDroppedCount());
+        // The tasks of the same key are executed by one serial queue
+        assertEquals(1, tasks.size());
+
+        tasks.get(0).run();
+        assertEquals(0, dispatcher.getQueueDepth());
+        assertEquals(0, dispatcher.getLag(NANOSECONDS));
+        assertEquals(2, values.size());
+        assertEquals(0, values.get(0));
+        assertEquals(1, values.get(1));
+    }
+
+    @Test
+    void testDispatchBeyondInitialEnqueueTimesCapacity() {
+        List<Runnable> tasks = new ArrayList<>();
+        AsyncBindListenerDispatcher dispatcher = new AsyncBindListenerDispatcher(tasks::add, 1024, DROP);
+        List<Integer> values = new ArrayList<>();
+        int count = INITIAL_ENQUEUE_TIMES_CAPACITY * 3 + 1;
+        for (int i = 0; i < count; i++) {
+            int value = i;
+            dispatcher.dispatch("test", () -> values.add(value));
+        }
+        assertEquals(count, dispatcher.getQueueDepth());
+
+        tasks.get(0).run();
+        assertEquals(0, dispatcher.getQueueDepth());
+        assertEquals(0, dispatcher.getLag(NANOSECONDS));
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, values.get(i));
+        }
+    }
+
+    @Test
+    void testCallerRuns() {
+        List<Runnable> tasks = new ArrayList<>();
+        AsyncBindListenerDispatcher dispatcher = new AsyncBindListenerDispatcher(tasks::add, 1, CALLER_RUNS);
+        List<String> values = new ArrayList<>();
+        dispatcher.dispatch("a", () -> values.add("a"));
+        dispatcher.dispatch("b", () -> values.add("b"));
+        // "b" runs on the caller thread
+        assertEquals(1, values.size());
+        assertEquals("b", values.get(0));
+        assertEquals(0, dispatcher.getDroppedCount());
+
+        tasks.get(0).run();
+        assertEquals("a", values.get(1));
+    }
+
+    @Test
+    void testDispatchOnFailure() {
+        AsyncBindListenerDispatcher dispatcher = new AsyncBindListenerDispatcher(Runnable::run, 1, DROP);
+        dispatcher.dispatch("test", () -> {
+            throw new RuntimeException("For testing");
+        });
+        assertEquals(0, dispatcher.getQueueDepth());
+    }
+
+    @Test
+    void testNewDefaultExecutor() throws InterruptedException {
+        ExecutorService executor = newDefaultExecutor();
+        CountDownLatch latch = new CountDownLatch(1);
+        executor.execute(latch::countDown);
+        assertTrue(latch.await(10, SECONDS));
+        executor.shutdown();
+    }
+
+    @Test
+    void testConstructorOnInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncBindListenerDispatcher(null, 0, DROP));
+        assertThrows(IllegalArgumentException.class, () -> new AsyncBindListenerDispatcher(null, 1, null));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.bind;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.BindContext;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.spring.boot.context.properties.bind.AsyncBindListenerDispatcher.RejectionPolicy.CALLER_RUNS;
+import static io.microsphere.spring.boot.context.properties.bind.BindListeners.ALL_CALLBACKS;
+import static io.microsphere.spring.boot.context.properties.bind.BindListeners.ON_CREATE;
+import static io.microsphere.spring.boot.context.properties.bind.BindListeners.ON_FAILURE;
+import static io.microsphere.spring.boot.context.properties.bind.BindListeners.ON_FINISH;
+import static io.microsphere.spring.boot.context.properties.bind.BindListeners.ON_START;
+import static io.microsphere.spring.boot.context.properties.bind.BindListeners.ON_SUCCESS;
+import static io.microsphere.spring.boot.context.properties.bind.BindListeners.getOverriddenCallbacks;
+import static io.microsphere.spring.boot.context.properties.bind.BindListeners.toArray;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * {@link BindListeners} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see BindListeners
+ * @since 1.0.0
+ */
+class BindListenersTest {
+
+    @Test
+    void testGetOverriddenCallbacks() {
+        assertEquals(ALL_CALLBACKS, getOverriddenCallbacks(new TestBindListener()));
+        assertEquals(0, getOverriddenCallbacks(new BindListener() {
+        }));
+        assertEquals(ON_SUCCESS, getOverriddenCallbacks(new SuccessBindListener(new ArrayList<>())));
+    }
+
+    @Test
+    void testGetOverriddenCallbacksOnAsyncBindListeners() {
+        List<String> events = new ArrayList<>();
+        AsyncBindListenerDispatcher dispatcher = new AsyncBindListenerDispatcher(Runnable::run, 16, CALLER_RUNS);
+        AsyncBindListeners asyncBindListeners = new AsyncBindListeners(ofList(new AsyncSuccessBindListener(events)), dispatcher);
+        // The union of the delegates' callbacks and the tracking of the root name
+        assertEquals(ON_START | ON_SUCCESS, getOverriddenCallbacks(asyncBindListeners));
+
+        BindListeners bindListeners = new BindListeners(new BindListener[]{asyncBindListeners});
+        assertFalse(bindListeners.isSkipped(ON_START));
+        assertFalse(bindListeners.isSkipped(ON_SUCCESS));
+        assertTrue(bindListeners.isSkipped(ON_CREATE));
+        assertTrue(bindListeners.isSkipped(ON_FAILURE));
+        assertTrue(bindListeners.isSkipped(ON_FINISH));
+
+        ConfigurationPropertyName name = ConfigurationPropertyName.of("test");
+        BindContext context = mock(BindContext.class);
+        bindListeners.onStart(name, null, context);
+        bindListeners.onSuccess(name, null, context, "value");
+        bindListeners.onFinish(name, null, context, "value");
+        assertEquals(ofList("test"), events);
+    }
+
+    @Test
+    void testFastPath() {
+        List<String> events = new ArrayList<>();
+        BindListener listener = new SuccessBindListener(events);
+        BindListeners bindListeners = new BindListeners(ofList(listener, listener));
+        assertTrue(bindListeners.isSkipped(ON_START));
+        assertFalse(bindListeners.isSkipped(ON_SUCCESS));
+        assertTrue(bindListeners.isSkipped(ON_CREATE));
+        assertTrue(bindListeners.isSkipped(ON_FAILURE));
+        assertTrue(bindListeners.isSkipped(ON_FINISH));
+
+        ConfigurationPropertyName name = ConfigurationPropertyName.of("test");
+        bindListeners.onStart(name, null, null);
+        bindListeners.onSuccess(name, null, null, "value");
+        bindListeners.onCreate(name, null, null, "value");
+        bindListeners.onFailure(name, null, null, new Exception("For testing"));
+        bindListeners.onFinish(name, null, null, "value");
+        assertEquals(ofList("test", "test"), events);
+    }
+
+    @Test
+    void testAllCallbacks() {
+        BindListeners bindListeners = new BindListeners(new BindListener[]{new TestBindListener()});
+        assertFalse(bindListeners.isSkipped(ON_START));
+        assertFalse(bindListeners.isSkipped(ON_SUCCESS));
+        assertFalse(bindListeners.isSkipped(ON_CREATE));
+        assertFalse(bindListeners.isSkipped(ON_FAILURE));
+        assertFalse(bindListeners.isSkipped(ON_FINISH));
+
+        bindListeners.onStart(null, null, null);
+        bindListeners.onSuccess(null, null, null, null);
+        bindListeners.onCreate(null, null, null, null);
+        bindListeners.onFailure(null, null, null, null);
+        bindListeners.onFinish(null, null, null, null);
+    }
+
+    @Test
+    void testToArray() {
+        BindListener listener = new TestBindListener();
+        assertEquals(1, toArray(ofList(listener)).length);
+        Iterable<BindListener> iterable = () -> ofList(listener).iterator();
+        assertEquals(1, toArray(iterable).length);
+    }
+
+    static class AsyncSuccessBindListener extends SuccessBindListener implements AsyncBindListener {
+
+        AsyncSuccessBindListener(List<String> events) {
+            super(events);
+        }
+    }
+
+    static class SuccessBindListener implements BindListener {
+
+        private final List<String> events;
+
+        SuccessBindListener(List<String> events) {
+            this.events = events;
+        }
+
+        @Override
+        public void onSuccess(ConfigurationPropertyName name, Bindable<?> target, BindContext context, Object result) {
+            this.events.add(name.toString());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.bind;
+
+import io.microsphere.spring.boot.context.properties.ConfigurationPropertiesBeanInfo;
+import io.microsphere.spring.boot.context.properties.TestConfigurationProperties;
+import io.microsphere.spring.boot.context.properties.TestConstructorBindingConfigurationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.annotation.AnnotationAttributes;
+
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanContextIndex.build;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.boot.context.properties.source.ConfigurationPropertyName.of;
+import static org.springframework.core.ResolvableType.forRawClass;
+
+/**
+ * {@link ConfigurationPropertiesBeanContextIndex} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationPropertiesBeanContextIndex
+ * @since 1.0.0
+ */
+class ConfigurationPropertiesBeanContextIndexTest {
+
+    private GenericApplicationContext context;
+
+    private ConfigurationPropertiesBeanContext serverContext;
+
+    private ConfigurationPropertiesBeanContext testContext;
+
+    private ConfigurationPropertiesBeanContext testConstructorBindingContext;
+
+    private ConfigurationPropertiesBeanContextIndex index;
+
+    @BeforeEach
+    void setUp() {
+        this.context = new GenericApplicationContext();
+        this.context.refresh();
+        this.serverContext = newBeanContext(ServerProperties.class);
+        this.testContext = newBeanContext(TestConfigurationProperties.class);
+        this.testConstructorBindingContext = newBeanContext(TestConstructorBindingConfigurationProperties.class);
+        this.index = build(ofList(this.serverContext, this.testContext, this.testConstructorBindingContext));
+    }
+
+    @Test
+    void testAdd() {
+        assertEquals(3, this.index.size());
+        ConfigurationPropertiesBeanContext newServerContext = newBeanContext(ServerProperties.class);
+        assertSame(this.serverContext, this.index.add(newServerContext));
+        assertEquals(3, this.index.size());
+        assertSame(newServerContext, this.index.get(of("server")));
+        assertThrows(IllegalArgumentException.class, () -> this.index.add(null));
+    }
+
+    @Test
+    void testGet() {
+        assertSame(this.serverContext, this.index.get(of("server")));
+        assertSame(this.testContext, this.index.get(of("test")));
+        assertSame(this.testConstructorBindingContext, this.index.get(of("test.constructor.binding")));
+        assertNull(this.index.get(of("test.constructor")));
+        assertNull(this.index.get(of("server.port")));
+        assertNull(this.index.get(of("not-found")));
+    }
+
+    @Test
+    void testGetWithMaxElements() {
+        assertSame(this.serverContext, this.index.get(of("server.port"), 1));
+        assertSame(this.serverContext, this.index.get(of("server.tomcat.threads.max"), 3));
+        assertSame(this.testContext, this.index.get(of("test.properties[key-3]"), 2));
+        assertSame(this.testContext, this.index.get(of("test.constructor.binding.name"), 1));
+        assertSame(this.testConstructorBindingContext, this.index.get(of("test.constructor.binding.name"), 3));
+        assertSame(this.testConstructorBindingContext, this.index.get(of("test.constructor.binding.name"), 10));
+        assertNull(this.index.get(of("server.port"), 0));
+        assertNull(this.index.get(of("not-found.port"), 1));
+    }
+
+    @Test
+    void testValues() {
+        assertEquals(3, this.index.values().size());
+        assertTrue(this.index.values().contains(this.serverContext));
+        assertTrue(this.index.values().contains(this.testContext));
+        assertTrue(this.index.values().contains(this.testConstructorBindingContext));
+        assertTrue(new ConfigurationPropertiesBeanContextIndex().values().isEmpty());
+    }
+
+    private ConfigurationPropertiesBeanContext newBeanContext(Class<?> beanClass) {
+        ConfigurationPropertiesBeanInfo beanInfo = new ConfigurationPropertiesBeanInfo(beanClass);
+        AnnotationAttributes annotationAttributes = new AnnotationAttributes(ConfigurationProperties.class);
+        annotationAttributes.put("prefix", beanInfo.getPrefix());
+        return new ConfigurationPropertiesBeanContext(beanClass.getName(), forRawClass(beanClass), annotationAttributes, this.context);
+    }
+}
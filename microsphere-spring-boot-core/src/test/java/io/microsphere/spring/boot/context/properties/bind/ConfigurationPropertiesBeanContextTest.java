@@ -18,7 +18,9 @@
 package io.microsphere.spring.boot.context.properties.bind;
 
 import io.microsphere.spring.boot.context.properties.ConfigurationPropertiesBeanInfo;
+import io.microsphere.spring.boot.context.properties.TestConfigurationProperties;
 import io.microsphere.spring.test.junit.jupiter.SpringLoggingTest;
+import io.microsphere.util.ValueHolder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.jackson.JacksonProperties;
@@ -26,16 +28,25 @@ import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.source.ConfigurationProperty;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotationAttributes;
 
 import java.beans.PropertyDescriptor;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.collection.MapUtils.newLinkedHashMap;
+import static io.microsphere.collection.MapUtils.ofMap;
+import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanContext.buildConfigurationPropertiesBeanContexts;
+import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanContext.coalesceChange;
 import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanContext.getInstance;
 import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanContext.isCandidateClass;
 import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanContext.isCandidateProperty;
+import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanPropertyDelta.diff;
 import static io.microsphere.spring.core.annotation.AnnotationUtils.getAnnotationAttributes;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -111,6 +122,155 @@ public class ConfigurationPropertiesBeanContextTest {
         this.beanContext.setProperty(property, propertyValue);
     }
 
+    @Test
+    void testRebinding() {
+        ValueHolder<ConfigurationPropertiesBeanPropertiesChangedEvent> eventHolder = new ValueHolder<>();
+        this.context.addApplicationListener((ApplicationListener<ConfigurationPropertiesBeanPropertiesChangedEvent>) eventHolder::setValue);
+
+        ServerProperties serverProperties = new ServerProperties();
+        this.beanContext.initializeBean(serverProperties);
+
+        // disabled by default
+        this.beanContext.startRebinding();
+        this.beanContext.setProperty(newConfigurationProperty("server.port", 7070), 7070);
+        this.beanContext.finishRebinding();
+        assertNull(eventHolder.getValue());
+
+        this.beanContext.setPublishPropertiesChangedEvent(true);
+        this.beanContext.startRebinding();
+        this.beanContext.setProperty(newConfigurationProperty("server.port", 8080), 8080);
+        this.beanContext.setProperty(newConfigurationProperty("server.port", 9090), 9090);
+        assertNull(eventHolder.getValue());
+        this.beanContext.finishRebinding();
+
+        ConfigurationPropertiesBeanPropertiesChangedEvent event = eventHolder.getValue();
+        assertSame(serverProperties, event.getBean());
+        assertEquals(1, event.getPropertyChangedEvents().size());
+        ConfigurationPropertiesBeanPropertyChangedEvent propertyChangedEvent = event.getPropertyChangedEvent("port");
+        assertEquals(7070, propertyChangedEvent.getOldValue());
+        assertEquals(9090, propertyChangedEvent.getNewValue());
+
+        // no change
+        eventHolder.reset();
+        this.beanContext.startRebinding();
+        this.beanContext.finishRebinding();
+        assertNull(eventHolder.getValue());
+
+        // out of rebinding, both events are published
+        ValueHolder<ConfigurationPropertiesBeanPropertyChangedEvent> propertyEventHolder = new ValueHolder<>();
+        this.context.addApplicationListener((ApplicationListener<ConfigurationPropertiesBeanPropertyChangedEvent>) propertyEventHolder::setValue);
+        this.beanContext.setProperty(newConfigurationProperty("server.port", 8080), 8080);
+        assertEquals(8080, propertyEventHolder.getValue().getNewValue());
+        event = eventHolder.getValue();
+        assertEquals(1, event.getPropertyChangedEvents().size());
+        assertEquals(8080, event.getPropertyChangedEvent("port").getNewValue());
+
+        // out of rebinding without ConfigurationPropertiesBeanPropertyChangedEvent
+        this.beanContext.setPublishPropertyChangedEvent(false);
+        this.beanContext.setProperty(newConfigurationProperty("server.port", 9090), 9090);
+        event = eventHolder.getValue();
+        assertEquals(9090, event.getPropertyChangedEvent("port").getNewValue());
+        this.beanContext.setPublishPropertyChangedEvent(true);
+
+        // disabled
+        eventHolder.reset();
+        this.beanContext.setPublishPropertiesChangedEvent(false);
+        this.beanContext.startRebinding();
+        this.beanContext.setProperty(newConfigurationProperty("server.port", 7070), 7070);
+        this.beanContext.finishRebinding();
+        assertNull(eventHolder.getValue());
+    }
+
+    @Test
+    void testRebindingIsConfinedToThread() throws Exception {
+        ValueHolder<ConfigurationPropertiesBeanPropertiesChangedEvent> eventHolder = new ValueHolder<>();
+        this.context.addApplicationListener((ApplicationListener<ConfigurationPropertiesBeanPropertiesChangedEvent>) eventHolder::setValue);
+        this.beanContext.initializeBean(new ServerProperties());
+        this.beanContext.setPublishPropertiesChangedEvent(true);
+
+        this.beanContext.startRebinding();
+        this.beanContext.setProperty(newConfigurationProperty("server.port", 8080), 8080);
+        // The change of another thread is not collected into the rebinding
+        Thread thread = new Thread(() -> this.beanContext.setProperty(newConfigurationProperty("server.server-header", "test"), "test"));
+        thread.start();
+        thread.join();
+        this.beanContext.finishRebinding();
+
+        ConfigurationPropertiesBeanPropertiesChangedEvent event = eventHolder.getValue();
+        assertEquals(1, event.getPropertyChangedEvents().size());
+        assertEquals(8080, event.getPropertyChangedEvent("port").getNewValue());
+    }
+
+    @Test
+    void testSnapshotIsUpdatedAtomically() throws Exception {
+        this.beanContext.initializeBean(new ServerProperties());
+        this.beanContext.publishSnapshot();
+        int times = 100;
+
+        // The changes of the different properties out of rebinding are never lost
+        Thread portThread = new Thread(() -> {
+            for (int i = 1; i <= times; i++) {
+                this.beanContext.setProperty(newConfigurationProperty("server.port", i), i);
+            }
+        });
+        Thread serverHeaderThread = new Thread(() -> {
+            for (int i = 1; i <= times; i++) {
+                this.beanContext.setProperty(newConfigurationProperty("server.server-header", "test-" + i), "test-" + i);
+            }
+        });
+        portThread.start();
+        serverHeaderThread.start();
+        portThread.join();
+        serverHeaderThread.join();
+
+        ConfigurationPropertiesSnapshot snapshot = this.beanContext.getSnapshot();
+        assertEquals(times, (Integer) snapshot.getValue("port"));
+        assertEquals("test-" + times, snapshot.getValue("serverHeader"));
+        assertEquals(1 + 2 * times, snapshot.getVersion());
+    }
+
+    @Test
+    void testCoalesceChange() {
+        Map<String, ConfigurationPropertiesBeanPropertyChangedEvent> changes = newLinkedHashMap();
+        ConfigurationProperty property = newConfigurationProperty("server.port", 8080);
+        ResolvableType propertyType = forRawClass(Integer.class);
+        Object bean = new ServerProperties();
+
+        coalesceChange(changes, "port", new ConfigurationPropertiesBeanPropertyChangedEvent(bean, "port", propertyType, null, 8080, property));
+        coalesceChange(changes, "port", new ConfigurationPropertiesBeanPropertyChangedEvent(bean, "port", propertyType, 8080, 9090, property));
+        assertEquals(1, changes.size());
+        assertNull(changes.get("port").getOldValue());
+        assertEquals(9090, changes.get("port").getNewValue());
+
+        coalesceChange(changes, "port", new ConfigurationPropertiesBeanPropertyChangedEvent(bean, "port", propertyType, 9090, null, property));
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void testCoalesceChangeWithDelta() {
+        Map<String, ConfigurationPropertiesBeanPropertyChangedEvent> changes = newLinkedHashMap();
+        ConfigurationProperty property = newConfigurationProperty("test.ports", "7070,8080");
+        ResolvableType propertyType = forRawClass(List.class);
+        Object bean = new TestConfigurationProperties();
+
+        List<Integer> ports = ofList(7070);
+        List<Integer> newPorts = ofList(7070, 8080);
+        List<Integer> lastPorts = ofList(7071, 8080);
+        coalesceChange(changes, "ports", new ConfigurationPropertiesBeanPropertyChangedEvent(bean, "ports", propertyType,
+                ports, newPorts, property, diff(ports, newPorts)));
+        coalesceChange(changes, "ports", new ConfigurationPropertiesBeanPropertyChangedEvent(bean, "ports", propertyType,
+                newPorts, lastPorts, property, diff(newPorts, lastPorts)));
+
+        ConfigurationPropertiesBeanPropertyDelta delta = changes.get("ports").getDelta();
+        assertEquals(ofMap(1, 8080), delta.getAdded());
+        assertTrue(delta.getRemoved().isEmpty());
+        assertEquals(ofMap(0, 7071), delta.getModified());
+
+        coalesceChange(changes, "ports", new ConfigurationPropertiesBeanPropertyChangedEvent(bean, "ports", propertyType,
+                lastPorts, ofList(7070), property, diff(lastPorts, ofList(7070))));
+        assertTrue(changes.isEmpty());
+    }
+
     @Test
     void testSetAndGetPropertyValue() {
         Integer port = 8080;
@@ -133,6 +293,24 @@ public class ConfigurationPropertiesBeanContextTest {
         assertFalse(this.beanContext.setPropertyValue(null, null));
     }
 
+    @Test
+    void testBuildConfigurationPropertiesBeanContexts() {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean(ServerProperties.class);
+        context.registerBean(TestConfigurationProperties.class);
+        context.registerBean(ConfigurationPropertiesBeanContextTest.class);
+
+        Map<String, ConfigurationPropertiesBeanContext> beanContexts = buildConfigurationPropertiesBeanContexts(context);
+        assertEquals(2, beanContexts.size());
+        assertSame(ServerProperties.class, beanContexts.get("server").getBeanClass());
+        assertSame(TestConfigurationProperties.class, beanContexts.get("test").getBeanClass());
+
+        Map<String, ConfigurationPropertiesBeanContext> parallelBeanContexts = buildConfigurationPropertiesBeanContexts(context, true);
+        assertEquals(beanContexts.keySet(), parallelBeanContexts.keySet());
+        assertSame(ServerProperties.class, parallelBeanContexts.get("server").getBeanClass());
+        assertSame(TestConfigurationProperties.class, parallelBeanContexts.get("test").getBeanClass());
+    }
+
     @Test
     void testGetInstance() {
         assertSame(this.beanContext, getInstance(this.beanContext, null));
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.bind;
+
+import io.microsphere.spring.boot.context.properties.TestConstructorBindingConfigurationProperties;
+import org.junit.jupiter.api.Test;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.reflect.FieldUtils.findField;
+import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanPropertyAccessor.clone;
+import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanPropertyAccessor.compile;
+import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanPropertyAccessor.unreflectDefaultConstructor;
+import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanPropertyAccessor.unreflectGetter;
+import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanPropertyAccessor.unreflectSetter;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.beans.BeanUtils.getPropertyDescriptor;
+import static org.springframework.core.ResolvableType.forClass;
+
+/**
+ * {@link ConfigurationPropertiesBeanPropertyAccessor} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationPropertiesBeanPropertyAccessor
+ * @since 1.0.0
+ */
+class ConfigurationPropertiesBeanPropertyAccessorTest {
+
+    @Test
+    void testPropertyAccessor() throws Throwable {
+        ConfigurationPropertiesBeanPropertyAccessor accessor = compile(newProperty(Config.class, "name"), null);
+        assertTrue(accessor.isReadable());
+        assertTrue(accessor.isWritable());
+        assertTrue(accessor.isResolvable());
+
+        Config config = new Config();
+        assertNull(accessor.getValue(config));
+        assertTrue(accessor.setValue(config, " test "));
+        assertEquals("test", config.getName());
+        assertEquals("test", accessor.getValue(config));
+        assertEquals("test", accessor.resolveValue(" test "));
+        // the bean is not changed by resolving
+        assertEquals("test", config.getName());
+        assertEquals("value", accessor.resolveValue("value "));
+        assertNull(accessor.resolveValue(null));
+    }
+
+    @Test
+    void testResolveValueOnAdditiveSetter() throws Throwable {
+        ConfigurationPropertiesBeanPropertyAccessor accessor = compile(newProperty(AdditiveConfig.class, "names"), null);
+        assertTrue(accessor.isResolvable());
+        assertEquals(ofList("a"), accessor.resolveValue(ofList("a")));
+        // The values of the previous resolution are not carried over
+        assertEquals(ofList("b"), accessor.resolveValue(ofList("b")));
+    }
+
+    @Test
+    void testUnreflectIsCached() {
+        PropertyDescriptor descriptor = getPropertyDescriptor(Config.class, "name");
+        Method getter = descriptor.getReadMethod();
+        Method setter = descriptor.getWriteMethod();
+        assertNotNull(unreflectGetter(getter));
+        assertSame(unreflectGetter(getter), unreflectGetter(getter));
+        assertSame(unreflectSetter(setter), unreflectSetter(setter));
+        Field field = findField(Config.class, "name");
+        assertSame(unreflectGetter(field), unreflectGetter(field));
+        assertSame(unreflectDefaultConstructor(Config.class), unreflectDefaultConstructor(Config.class));
+    }
+
+    @Test
+    void testClone() {
+        assertNull(clone(null));
+        String value = "test";
+        assertSame(value, clone(value));
+
+        ArrayList<Integer> list = new ArrayList<>(ofList(1, 2));
+        Object clonedList = clone(list);
+        assertNotSame(list, clonedList);
+        assertEquals(list, clonedList);
+
+        int[] ints = {1, 2};
+        Object clonedInts = clone(ints);
+        assertNotSame(ints, clonedInts);
+        assertArrayEquals(ints, (int[]) clonedInts);
+
+        String[] strings = {"a", "b"};
+        Object clonedStrings = clone(strings);
+        assertNotSame(strings, clonedStrings);
+        assertArrayEquals(strings, (String[]) clonedStrings);
+    }
+
+    @Test
+    void testNestedPropertyAccessor() throws Throwable {
+        ConfigurationPropertiesBeanPropertyAccessor parentAccessor = compile(newProperty(Config.class, "nested"), null);
+        assertTrue(parentAccessor.isReadable());
+        assertFalse(parentAccessor.isWritable());
+        assertFalse(parentAccessor.isResolvable());
+
+        ConfigurationPropertiesBeanPropertyAccessor accessor = compile(newProperty(Nested.class, "value"), parentAccessor);
+        assertTrue(accessor.isReadable());
+        assertTrue(accessor.isWritable());
+        assertTrue(accessor.isResolvable());
+
+        Config config = new Config();
+        assertTrue(accessor.setValue(config, 1));
+        assertEquals(1, config.getNested().getValue());
+        assertEquals(1, accessor.getValue(config));
+
+        config.nested = null;
+        assertNull(accessor.getValue(config));
+        assertFalse(accessor.setValue(config, 2));
+    }
+
+    @Test
+    void testFieldAccessor() throws Throwable {
+        ConfigurationPropertiesBeanProperty property = new ConfigurationPropertiesBeanProperty();
+        property.setDeclaringClassType(forClass(TestConstructorBindingConfigurationProperties.class));
+        property.setField(findField(TestConstructorBindingConfigurationProperties.class, "name"));
+
+        ConfigurationPropertiesBeanPropertyAccessor accessor = compile(property, null);
+        assertTrue(accessor.isReadable());
+        assertFalse(accessor.isWritable());
+        assertFalse(accessor.isResolvable());
+        assertEquals("name", accessor.getValue(new TestConstructorBindingConfigurationProperties("name", "value")));
+    }
+
+    @Test
+    void testCompileOnEmptyProperty() {
+        ConfigurationPropertiesBeanPropertyAccessor accessor = compile(new ConfigurationPropertiesBeanProperty(), null);
+        assertFalse(accessor.isReadable());
+        assertFalse(accessor.isWritable());
+        assertFalse(accessor.isResolvable());
+    }
+
+    @Test
+    void testUnreflectOnNull() {
+        assertNull(unreflectGetter((Method) null));
+        assertNull(unreflectGetter((Field) null));
+        assertNull(unreflectSetter(null));
+        assertNull(unreflectDefaultConstructor(null));
+        assertNull(unreflectDefaultConstructor(Runnable.class));
+        assertNull(unreflectDefaultConstructor(TestConstructorBindingConfigurationProperties.class));
+    }
+
+    private ConfigurationPropertiesBeanProperty newProperty(Class<?> beanClass, String propertyName) {
+        PropertyDescriptor descriptor = getPropertyDescriptor(beanClass, propertyName);
+        ConfigurationPropertiesBeanProperty property = new ConfigurationPropertiesBeanProperty();
+        property.setDeclaringClassType(forClass(beanClass));
+        property.setName(propertyName);
+        property.setGetter(descriptor.getReadMethod());
+        property.setSetter(descriptor.getWriteMethod());
+        return property;
+    }
+
+    public static class Config {
+
+        private String name;
+
+        private Nested nested = new Nested();
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name == null ? null : name.trim();
+        }
+
+        public Nested getNested() {
+            return nested;
+        }
+    }
+
+    public static class AdditiveConfig {
+
+        private final List<String> names = new ArrayList<>();
+
+        public List<String> getNames() {
+            return names;
+        }
+
+        public void setNames(List<String> names) {
+            this.names.addAll(names);
+        }
+    }
+
+    public static class Nested {
+
+        private Integer value;
+
+        public Integer getValue() {
+            return value;
+        }
+
+        public void setValue(Integer value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.bind;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.collection.MapUtils.ofMap;
+import static io.microsphere.collection.Sets.ofSet;
+import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanContext.isChanged;
+import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanPropertyDelta.diff;
+import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesBeanPropertyDelta.isStructural;
+import static java.util.Collections.emptyMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ConfigurationPropertiesBeanPropertyDelta} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationPropertiesBeanPropertyDelta
+ * @since 1.0.0
+ */
+class ConfigurationPropertiesBeanPropertyDeltaTest {
+
+    @Test
+    void testIsStructural() {
+        assertTrue(isStructural(emptyMap()));
+        assertTrue(isStructural(ofList()));
+        assertTrue(isStructural(new int[0]));
+        assertFalse(isStructural(null));
+        assertFalse(isStructural("a"));
+    }
+
+    @Test
+    void testDiffMaps() {
+        ConfigurationPropertiesBeanPropertyDelta delta = diff(ofMap("a", 1, "b", 2, "c", 3), ofMap("a", 1, "b", 20, "d", 4));
+        assertEquals(ofMap("d", 4), delta.getAdded());
+        assertEquals(ofMap("c", 3), delta.getRemoved());
+        assertEquals(ofMap("b", 20), delta.getModified());
+        assertFalse(delta.isEmpty());
+
+        assertTrue(diff(ofMap("a", new String[]{"x"}), ofMap("a", new String[]{"x"})).isEmpty());
+
+        delta = diff(null, ofMap("a", 1));
+        assertEquals(ofMap("a", 1), delta.getAdded());
+
+        delta = diff(ofMap("a", 1), null);
+        assertEquals(ofMap("a", 1), delta.getRemoved());
+    }
+
+    @Test
+    void testDiffLists() {
+        ConfigurationPropertiesBeanPropertyDelta delta = diff(ofList(7070, 8080, 9090), ofList(7070, 8081));
+        assertTrue(delta.getAdded().isEmpty());
+        assertEquals(ofMap(2, 9090), delta.getRemoved());
+        assertEquals(ofMap(1, 8081), delta.getModified());
+
+        delta = diff(ofList(1), ofList(1, 2));
+        assertEquals(ofMap(1, 2), delta.getAdded());
+        assertTrue(delta.getRemoved().isEmpty());
+        assertTrue(delta.getModified().isEmpty());
+
+        assertTrue(diff(ofList(1, 2), ofList(1, 2)).isEmpty());
+    }
+
+    @Test
+    void testDiffArrays() {
+        ConfigurationPropertiesBeanPropertyDelta delta = diff(new String[]{"a", "b"}, new String[]{"a", "c", "d"});
+        assertEquals(ofMap(2, "d"), delta.getAdded());
+        assertTrue(delta.getRemoved().isEmpty());
+        assertEquals(ofMap(1, "c"), delta.getModified());
+
+        delta = diff(new int[]{1, 2}, new int[]{1});
+        assertEquals(ofMap(1, 2), delta.getRemoved());
+
+        // The List and array are both indexed
+        assertTrue(diff(ofList("a"), new String[]{"a"}).isEmpty());
+    }
+
+    @Test
+    void testDiffCollections() {
+        ConfigurationPropertiesBeanPropertyDelta delta = diff(ofSet("a", "b"), ofSet("b", "c"));
+        assertEquals(ofMap("c", "c"), delta.getAdded());
+        assertEquals(ofMap("a", "a"), delta.getRemoved());
+        assertTrue(delta.getModified().isEmpty());
+
+        // The Collection is neither List nor Set
+        delta = diff(new ArrayDeque<>(ofList("a", "b")), new ArrayDeque<>(ofList("b", "c")));
+        assertEquals(ofMap("c", "c"), delta.getAdded());
+        assertEquals(ofMap("a", "a"), delta.getRemoved());
+    }
+
+    @Test
+    void testDiffOnNullAndEmpty() {
+        assertNull(diff(null, emptyMap()));
+        assertNull(diff(emptyMap(), null));
+        assertNull(diff(null, ofList()));
+        assertNull(diff(ofSet(), null));
+        assertNull(diff(null, new int[0]));
+        assertTrue(isChanged(null, emptyMap(), diff(null, emptyMap())));
+        assertTrue(isChanged(ofList(), null, diff(ofList(), null)));
+        assertFalse(isChanged(null, null, diff(null, null)));
+
+        // both are empty
+        assertTrue(diff(emptyMap(), emptyMap()).isEmpty());
+        assertFalse(isChanged(ofList(), ofList(), diff(ofList(), ofList())));
+    }
+
+    @Test
+    void testDiffOnNonStructural() {
+        assertNull(diff(null, null));
+        assertNull(diff("a", "b"));
+        assertNull(diff(ofMap("a", 1), "b"));
+        assertNull(diff(ofMap("a", 1), ofList(1)));
+        assertNull(diff(ofList(1), ofSet(1)));
+        assertNull(diff(ofSet(1), ofMap("a", 1)));
+    }
+}
@@ -86,6 +86,8 @@ class ConfigurationPropertiesBeanPropertyTest {
         assertEquals(propertyName, this.property.getName());
         assertSame(readMethod, this.property.getGetter());
         assertEquals(String.class, this.property.getType().resolve());
+        // cached
+        assertSame(this.property.getType(), this.property.getType());
     }
 
     @Test
@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.bind;
+
+import io.microsphere.spring.boot.context.properties.ListenableConfigurationPropertiesBindHandlerAdvisor;
+import io.microsphere.spring.boot.context.properties.TestConfigurationProperties;
+import io.microsphere.spring.boot.context.properties.TestConstructorBindingConfigurationProperties;
+import io.microsphere.spring.test.junit.jupiter.SpringLoggingTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.env.MockPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static io.microsphere.collection.MapUtils.ofMap;
+import static io.microsphere.collection.Sets.ofSet;
+import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesRebinder.toConfigurationPropertyName;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.boot.context.properties.source.ConfigurationPropertyName.of;
+
+/**
+ * {@link ConfigurationPropertiesRebinder} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationPropertiesRebinder
+ * @since 1.0.0
+ */
+@SpringLoggingTest
+@SpringBootTest(classes = {
+        ListenableConfigurationPropertiesBindHandlerAdvisor.class,
+        EventPublishingConfigurationPropertiesBeanPropertyChangedListener.class,
+        ConfigurationPropertiesRebinder.class,
+        ConfigurationPropertiesRebinderTest.class
+})
+@TestPropertySource(properties = {
+        "microsphere.spring.boot.configuration-properties.properties-changed-event.enabled=true",
+
+        // TestConfigurationProperties
+        "test.name=test-name",
+        "test.properties.key-1=value-1",
+        "test.properties.key-2=value-2",
+
+        // TestConstructorBindingConfigurationProperties
+        "test.constructor.binding.name=test-constructor-binding-name",
+        "test.constructor.binding.value=test-constructor-binding-value",
+})
+@EnableAutoConfiguration
+@EnableConfigurationProperties(
+        value = {
+                TestConfigurationProperties.class,
+                TestConstructorBindingConfigurationProperties.class,
+                ConfigurationPropertiesRebinderTest.TestValidatedConfigurationProperties.class
+        }
+)
+class ConfigurationPropertiesRebinderTest {
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Autowired
+    private TestConfigurationProperties testConfigurationProperties;
+
+    @Autowired
+    private TestConstructorBindingConfigurationProperties testConstructorBindingConfigurationProperties;
+
+    @Autowired
+    private TestValidatedConfigurationProperties testValidatedConfigurationProperties;
+
+    @Autowired
+    private ConfigurationPropertiesRebinder rebinder;
+
+    @Autowired
+    private EventPublishingConfigurationPropertiesBeanPropertyChangedListener listener;
+
+    private MockPropertySource mockPropertySource;
+
+    private List<ConfigurationPropertiesBeanPropertyChangedEvent> events;
+
+    private List<ConfigurationPropertiesBeanPropertiesChangedEvent> propertiesEvents;
+
+    @BeforeEach
+    void setUp() {
+        this.mockPropertySource = new MockPropertySource();
+        this.context.getEnvironment().getPropertySources().addFirst(this.mockPropertySource);
+        this.events = new ArrayList<>();
+        this.propertiesEvents = new ArrayList<>();
+        this.context.addApplicationListener((ApplicationListener<ConfigurationPropertiesBeanPropertyChangedEvent>) this.events::add);
+        this.context.addApplicationListener((ApplicationListener<ConfigurationPropertiesBeanPropertiesChangedEvent>) this.propertiesEvents::add);
+    }
+
+    @Test
+    void testRebind() {
+        ConfigurationPropertiesSnapshot snapshot = this.listener.getSnapshot("test");
+        assertEquals("test-name", snapshot.getValue("name"));
+
+        this.mockPropertySource.setProperty("test.name", "test-name-x");
+        this.mockPropertySource.setProperty("test.properties.key-1", "value-x");
+
+        Set<String> beanNames = this.rebinder.rebind(ofSet("test.name", "test.properties.key-1", "test.properties.key-2"));
+        assertEquals(1, beanNames.size());
+
+        assertEquals("test-name-x", this.testConfigurationProperties.getName());
+        assertEquals(ofMap("key-1", "value-x", "key-2", "value-2"), this.testConfigurationProperties.getProperties());
+
+        assertEquals(2, this.events.size());
+        for (ConfigurationPropertiesBeanPropertyChangedEvent event : this.events) {
+            assertSame(this.testConfigurationProperties, event.getSource());
+        }
+
+        assertEquals(1, this.propertiesEvents.size());
+        ConfigurationPropertiesBeanPropertiesChangedEvent propertiesEvent = this.propertiesEvents.get(0);
+        assertSame(this.testConfigurationProperties, propertiesEvent.getBean());
+        assertEquals("test-name", propertiesEvent.getPropertyChangedEvent("name").getOldValue());
+        assertEquals("test-name-x", propertiesEvent.getPropertyChangedEvent("name").getNewValue());
+        assertEquals(ofMap("key-1", "value-x"), propertiesEvent.getPropertyChangedEvent("properties").getDelta().getModified());
+
+        // The changes of one rebinding are published as one snapshot
+        ConfigurationPropertiesSnapshot nextSnapshot = this.listener.getSnapshot("test");
+        assertEquals(snapshot.getVersion() + 1, nextSnapshot.getVersion());
+        assertEquals("test-name-x", nextSnapshot.getValue("name"));
+        assertEquals(ofMap("key-1", "value-x", "key-2", "value-2"), nextSnapshot.getValue("properties"));
+        assertEquals("test-name", snapshot.getValue("name"));
+    }
+
+    @Test
+    void testGetSnapshot() {
+        assertNotNull(this.listener.getSnapshot("test.constructor.binding"));
+        assertNull(this.listener.getSnapshot("unknown"));
+        assertNull(this.listener.getSnapshot("Invalid Prefix"));
+    }
+
+    @Test
+    void testRebindOnUnchangedProperties() {
+        assertTrue(this.rebinder.rebind(ofSet("test.properties.key-2")).isEmpty());
+        assertTrue(this.events.isEmpty());
+        assertTrue(this.propertiesEvents.isEmpty());
+    }
+
+    @Test
+    void testRebindOnUnknownProperties() {
+        this.mockPropertySource.setProperty("unknown.name", "unknown");
+        assertTrue(this.rebinder.rebind(ofSet("unknown.name", "test.unknown", "")).isEmpty());
+        assertTrue(this.rebinder.rebind(ofSet()).isEmpty());
+        assertTrue(this.rebinder.rebind(null).isEmpty());
+        assertTrue(this.events.isEmpty());
+    }
+
+    @Test
+    void testRebindOnConstructorBindingProperties() {
+        this.mockPropertySource.setProperty("test.constructor.binding.name", "test-constructor-binding-name-x");
+        assertTrue(this.rebinder.rebind(ofSet("test.constructor.binding.name")).isEmpty());
+        assertEquals("test-constructor-binding-name", this.testConstructorBindingConfigurationProperties.getName());
+        assertTrue(this.events.isEmpty());
+    }
+
+    @Test
+    void testRebindOnPlaceholders() {
+        this.mockPropertySource.setProperty("test.name", "${test.constructor.binding.name}");
+        assertEquals(1, this.rebinder.rebind(ofSet("test.name")).size());
+        assertEquals("test-constructor-binding-name", this.testConfigurationProperties.getName());
+
+        this.mockPropertySource.getPropertySource().remove("test.name");
+        assertEquals(1, this.rebinder.rebind(ofSet("test.name")).size());
+        assertEquals("test-name", this.testConfigurationProperties.getName());
+    }
+
+    @Test
+    void testRebindOnRemovedProperties() {
+        this.mockPropertySource.setProperty("test.aliases[0]", "alias");
+        this.mockPropertySource.setProperty("test.properties.key-3", "value-3");
+        assertEquals(1, this.rebinder.rebind(ofSet("test.aliases[0]", "test.properties.key-3")).size());
+        assertArrayEquals(new String[]{"alias"}, this.testConfigurationProperties.getAliases());
+        assertEquals(3, this.testConfigurationProperties.getProperties().size());
+        assertEquals("value-3", this.testConfigurationProperties.getProperties().get("key-3"));
+
+        // The unbound property is reset to the default value
+        this.mockPropertySource.getPropertySource().remove("test.aliases[0]");
+        this.mockPropertySource.getPropertySource().remove("test.properties.key-3");
+        assertEquals(1, this.rebinder.rebind(ofSet("test.aliases[0]", "test.properties.key-3")).size());
+        assertNull(this.testConfigurationProperties.getAliases());
+        assertEquals(2, this.testConfigurationProperties.getProperties().size());
+    }
+
+    @Test
+    void testRebindOnInvalidProperties() {
+        this.mockPropertySource.setProperty("test.validated.port", "-1");
+        assertTrue(this.rebinder.rebind(ofSet("test.validated.port")).isEmpty());
+        assertEquals(8080, this.testValidatedConfigurationProperties.getPort());
+        assertTrue(this.events.isEmpty());
+
+        this.mockPropertySource.setProperty("test.validated.port", "9090");
+        assertEquals(1, this.rebinder.rebind(ofSet("test.validated.port")).size());
+        assertEquals(9090, this.testValidatedConfigurationProperties.getPort());
+    }
+
+    @Test
+    void testToConfigurationPropertyName() {
+        assertNull(toConfigurationPropertyName(null));
+        assertNull(toConfigurationPropertyName(""));
+        assertEquals(of("test.name"), toConfigurationPropertyName("test.name"));
+        assertEquals(of("test.name"), toConfigurationPropertyName("test.Name"));
+    }
+
+    @ConfigurationProperties(prefix = "test.validated")
+    static class TestValidatedConfigurationProperties implements Validator {
+
+        private int port = 8080;
+
+        public int getPort() {
+            return port;
+        }
+
+        public void setPort(int port) {
+            this.port = port;
+        }
+
+        @Override
+        public boolean supports(Class<?> clazz) {
+            return TestValidatedConfigurationProperties.class.isAssignableFrom(clazz);
+        }
+
+        @Override
+        public void validate(Object target, Errors errors) {
+            if (((TestValidatedConfigurationProperties) target).getPort() <= 0) {
+                errors.rejectValue("port", "port.invalid", "The port must be positive");
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.bind;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.collection.MapUtils.newHashMap;
+import static io.microsphere.collection.MapUtils.ofMap;
+import static io.microsphere.collection.Sets.ofSet;
+import static io.microsphere.spring.boot.context.properties.bind.ConfigurationPropertiesSnapshot.of;
+import static java.util.Collections.emptyMap;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ConfigurationPropertiesSnapshot} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationPropertiesSnapshot
+ * @since 1.0.0
+ */
+class ConfigurationPropertiesSnapshotTest {
+
+    @Test
+    void testOf() {
+        Map<String, Object> values = newHashMap();
+        values.put("name", "test");
+        values.put("properties", new HashMap<>(ofMap("key", "value")));
+        values.put("ports", new ArrayList<>(ofList(8080)));
+        values.put("aliases", new HashSet<>(ofSet("a")));
+        values.put("array", new String[]{"a", "b"});
+        values.put("nullable", null);
+
+        ConfigurationPropertiesSnapshot snapshot = of("testBean", "test", 1, values);
+        assertEquals("testBean", snapshot.getBeanName());
+        assertEquals("test", snapshot.getPrefix());
+        assertEquals(1, snapshot.getVersion());
+        assertEquals(values.keySet(), snapshot.getPropertyPaths());
+        assertTrue(snapshot.containsProperty("nullable"));
+        assertFalse(snapshot.containsProperty("unknown"));
+        assertEquals("test", snapshot.getValue("name"));
+        assertNull(snapshot.getValue("nullable"));
+        assertNull(snapshot.getValue("unknown"));
+
+        Map<String, String> properties = snapshot.getValue("properties");
+        assertThrows(UnsupportedOperationException.class, () -> properties.put("key", "value-x"));
+        List<Integer> ports = snapshot.getValue("ports");
+        assertThrows(UnsupportedOperationException.class, () -> ports.add(9090));
+        Set<String> aliases = snapshot.getValue("aliases");
+        assertThrows(UnsupportedOperationException.class, () -> aliases.add("b"));
+
+        String[] array = snapshot.getValue("array");
+        array[0] = "x";
+        assertArrayEquals(new String[]{"a", "b"}, snapshot.getValue("array"));
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPropertyPaths().remove("name"));
+        assertTrue(snapshot.toString().contains("version=1"));
+    }
+
+    @Test
+    void testWith() {
+        Map<String, Object> values = newHashMap();
+        values.put("name", "test");
+        values.put("properties", ofMap("key", "value"));
+        ConfigurationPropertiesSnapshot snapshot = of("testBean", "test", 1, values);
+
+        assertSame(snapshot, snapshot.with(emptyMap()));
+
+        Map<String, Object> changedValues = newHashMap();
+        changedValues.put("name", "test-x");
+        ConfigurationPropertiesSnapshot nextSnapshot = snapshot.with(changedValues);
+        assertNotSame(snapshot, nextSnapshot);
+        assertEquals(2, nextSnapshot.getVersion());
+        assertEquals("test-x", nextSnapshot.getValue("name"));
+        // The previous snapshot is immutable
+        assertEquals("test", snapshot.getValue("name"));
+        // The unchanged value is shared
+        assertSame((Object) snapshot.getValue("properties"), nextSnapshot.getValue("properties"));
+    }
+}
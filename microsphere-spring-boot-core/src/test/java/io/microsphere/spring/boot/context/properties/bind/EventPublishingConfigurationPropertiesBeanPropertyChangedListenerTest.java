@@ -56,6 +56,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.springframework.boot.autoconfigure.web.WebProperties.LocaleResolver.FIXED;
@@ -75,6 +76,8 @@ import static org.springframework.boot.context.properties.source.ConfigurationPr
         EventPublishingConfigurationPropertiesBeanPropertyChangedListenerTest.class
 })
 @TestPropertySource(properties = {
+        "microsphere.spring.boot.configuration-properties.properties-changed-event.enabled=true",
+
         // WebProperties
         "spring.web.locale=en_US",
         "spring.web.locale-resolver=fixed",
@@ -133,17 +136,24 @@ class EventPublishingConfigurationPropertiesBeanPropertyChangedListenerTest {
 
     private ValueHolder<ConfigurationPropertiesBeanPropertyChangedEvent> eventHolder;
 
+    private ValueHolder<ConfigurationPropertiesBeanPropertiesChangedEvent> propertiesEventHolder;
+
     @BeforeEach
     void setUp() {
         this.environment = this.context.getEnvironment();
         MutablePropertySources propertySources = this.environment.getPropertySources();
         this.mockPropertySource = new MockPropertySource();
         this.eventHolder = new ValueHolder<>();
+        this.propertiesEventHolder = new ValueHolder<>();
         propertySources.addFirst(this.mockPropertySource);
 
         this.context.addApplicationListener((ApplicationListener<ConfigurationPropertiesBeanPropertyChangedEvent>) event -> {
             this.eventHolder.setValue(event);
         });
+
+        this.context.addApplicationListener((ApplicationListener<ConfigurationPropertiesBeanPropertiesChangedEvent>) event -> {
+            this.propertiesEventHolder.setValue(event);
+        });
     }
 
     @Test
@@ -186,6 +196,7 @@ class EventPublishingConfigurationPropertiesBeanPropertyChangedListenerTest {
         assertEquals(ofList(7070, 8080, 9090), this.testConfigurationProperties.getPorts());
 
         this.eventHolder.reset();
+        this.propertiesEventHolder.reset();
 
         setProperty("test.properties.key-1", "value-x", this.testConfigurationProperties);
 
@@ -196,6 +207,16 @@ class EventPublishingConfigurationPropertiesBeanPropertyChangedListenerTest {
         assertEquals(properties, event.getOldValue());
         assertEquals(ofMap("key-1", "value-x", "key-2", "value-2", "key-3", "value-3"), event.getNewValue());
 
+        ConfigurationPropertiesBeanPropertiesChangedEvent propertiesEvent = this.propertiesEventHolder.getValue();
+        assertSame(this.testConfigurationProperties, propertiesEvent.getBean());
+        assertEquals(properties, propertiesEvent.getPropertyChangedEvent("properties").getOldValue());
+        assertEquals(event.getNewValue(), propertiesEvent.getPropertyChangedEvent("properties").getNewValue());
+
+        ConfigurationPropertiesBeanPropertyDelta delta = propertiesEvent.getPropertyChangedEvent("properties").getDelta();
+        assertTrue(delta.getAdded().isEmpty());
+        assertTrue(delta.getRemoved().isEmpty());
+        assertEquals(ofMap("key-1", "value-x"), delta.getModified());
+
     }
 
     @Test
@@ -28,10 +28,15 @@ import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.spring.boot.context.properties.bind.AsyncBindListenerDispatcher.RejectionPolicy.CALLER_RUNS;
 import static io.microsphere.spring.boot.context.properties.bind.util.BindHandlerUtils.createBindHandler;
 import static io.microsphere.spring.boot.util.TestUtils.assertServerPropertiesPort;
 import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -94,6 +99,34 @@ class ListenableBindHandlerAdapterTest {
         assertSame(error, adapter.onFailure(name, bindable, context, error));
     }
 
+    @Test
+    void testAsyncBindListener() {
+        List<Runnable> tasks = new ArrayList<>();
+        AsyncBindListenerDispatcher dispatcher = new AsyncBindListenerDispatcher(tasks::add, 1024, CALLER_RUNS);
+        List<ConfigurationPropertyName> names = new ArrayList<>();
+        List<BindContext> contexts = new ArrayList<>();
+        BindListener asyncBindListener = new AsyncBindListener() {
+            @Override
+            public <T> void onStart(ConfigurationPropertyName name, Bindable<T> target, BindContext context) {
+                names.add(name);
+                contexts.add(context);
+            }
+        };
+        BindHandler bindHandler = new ListenableBindHandlerAdapter(BindHandler.DEFAULT, ofList(asyncBindListener), dispatcher);
+        BindResult<ServerProperties> serverProperties = this.binder.bind("server", this.bindable, bindHandler);
+        assertTrue(serverProperties.isBound());
+        // The events are pending in the queue of "server"
+        assertTrue(names.isEmpty());
+        assertEquals(1, tasks.size());
+        assertTrue(dispatcher.getQueueDepth() > 0);
+
+        tasks.get(0).run();
+        assertEquals(0, dispatcher.getQueueDepth());
+        assertEquals(ConfigurationPropertyName.of("server"), names.get(0));
+        assertEquals(0, contexts.get(0).getDepth());
+        assertTrue(contexts.get(0) instanceof BindContextSnapshot);
+    }
+
     @Test
     void testOnFailure() {
         assertThrows(Exception.class, () -> this.binder.bind("", this.bindable, createBinder(createBindHandler(false, false))));
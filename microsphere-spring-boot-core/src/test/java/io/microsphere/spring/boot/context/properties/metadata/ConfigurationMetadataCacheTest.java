@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.metadata;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.configurationprocessor.metadata.ConfigurationMetadata;
+import org.springframework.boot.configurationprocessor.metadata.ItemDeprecation;
+import org.springframework.boot.configurationprocessor.metadata.ItemHint;
+import org.springframework.boot.configurationprocessor.metadata.ItemHint.ValueHint;
+import org.springframework.boot.configurationprocessor.metadata.ItemHint.ValueProvider;
+import org.springframework.boot.configurationprocessor.metadata.ItemMetadata;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.collection.MapUtils.ofMap;
+import static java.util.Arrays.copyOf;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.ItemType.GROUP;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.ItemType.PROPERTY;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.newGroup;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.newProperty;
+
+/**
+ * {@link ConfigurationMetadataCache} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationMetadataCache
+ * @since 1.0.0
+ */
+class ConfigurationMetadataCacheTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void testWriteAndLoad() throws IOException {
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        ItemMetadata group = newGroup("test", "com.example.TestProperties", "com.example.TestProperties", null);
+        group.setDescription("The test group");
+        metadata.add(group);
+        ItemDeprecation deprecation = new ItemDeprecation();
+        deprecation.setReason("For testing");
+        deprecation.setReplacement("test.new-name");
+        deprecation.setLevel("error");
+        metadata.add(newProperty("test.name", null, "java.lang.String", "com.example.TestProperties", null,
+                "The name", "default-name", deprecation));
+        metadata.add(newProperty("test.enabled", null, "java.lang.Boolean", "com.example.TestProperties", null,
+                "The enabled", true, null));
+        metadata.add(newProperty("test.port", null, "java.lang.Integer", "com.example.TestProperties", null,
+                null, 8080, null));
+        metadata.add(newProperty("test.timeout", null, "java.lang.Long", "com.example.TestProperties", null,
+                null, 3000L, null));
+        metadata.add(newProperty("test.ratio", null, "java.lang.Double", "com.example.TestProperties", null,
+                null, 0.5D, null));
+        metadata.add(newProperty("test.names", null, "java.lang.String[]", "com.example.TestProperties", null,
+                null, new Object[]{"a", "b"}, null));
+        metadata.add(new ItemHint("test.name", ofList(new ValueHint("a", "The a"), new ValueHint(1, null)),
+                ofList(new ValueProvider("any", ofMap("target", "java.lang.String")))));
+
+        File file = new File(this.tempDir, "metadata.cache");
+        ConfigurationMetadataCache.write(metadata, file);
+
+        ConfigurationMetadataCache cache = ConfigurationMetadataCache.load(file);
+        assertEquals(file, cache.getFile());
+
+        List<ItemMetadata> items = cache.getItems();
+        assertSame(items, cache.getItems());
+        assertEquals(metadata.getItems().size(), items.size());
+
+        ItemMetadata cachedGroup = findItem(items, "test");
+        assertTrue(cachedGroup.isOfItemType(GROUP));
+        assertEquals("The test group", cachedGroup.getDescription());
+        assertEquals("com.example.TestProperties", cachedGroup.getType());
+
+        ItemMetadata name = findItem(items, "test.name");
+        assertTrue(name.isOfItemType(PROPERTY));
+        assertEquals("The name", name.getDescription());
+        assertEquals("default-name", name.getDefaultValue());
+        assertEquals("For testing", name.getDeprecation().getReason());
+        assertEquals("test.new-name", name.getDeprecation().getReplacement());
+        assertEquals("error", name.getDeprecation().getLevel());
+
+        assertEquals(true, findItem(items, "test.enabled").getDefaultValue());
+        assertEquals(8080, findItem(items, "test.port").getDefaultValue());
+        assertEquals(3000L, findItem(items, "test.timeout").getDefaultValue());
+        assertEquals(0.5D, findItem(items, "test.ratio").getDefaultValue());
+        assertArrayEquals(new Object[]{"a", "b"}, (Object[]) findItem(items, "test.names").getDefaultValue());
+        assertNull(findItem(items, "test.port").getDescription());
+        assertNull(findItem(items, "test.port").getDeprecation());
+
+        List<ItemHint> hints = cache.getHints();
+        assertEquals(1, hints.size());
+        ItemHint hint = hints.get(0);
+        assertEquals("test.name", hint.getName());
+        assertEquals("a", hint.getValues().get(0).getValue());
+        assertEquals("The a", hint.getValues().get(0).getDescription());
+        assertEquals(1, hint.getValues().get(1).getValue());
+        assertNull(hint.getValues().get(1).getDescription());
+        ValueProvider provider = hint.getProviders().get(0);
+        assertEquals("any", provider.getName());
+        assertEquals(ofMap("target", "java.lang.String"), provider.getParameters());
+
+        ConfigurationMetadata cachedMetadata = cache.toConfigurationMetadata();
+        assertEquals(metadata.getItems().size(), cachedMetadata.getItems().size());
+        assertEquals(metadata.getHints().size(), cachedMetadata.getHints().size());
+    }
+
+    @Test
+    void testGetString() throws IOException {
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        metadata.add(newProperty("test.name", null, "java.lang.String", null, null, null, null, null));
+        metadata.add(newProperty("test.value", null, "java.lang.String", null, null, null, null, null));
+        File file = new File(this.tempDir, "metadata.cache");
+        ConfigurationMetadataCache.write(metadata, file);
+
+        ConfigurationMetadataCache cache = ConfigurationMetadataCache.load(file);
+        assertNull(cache.getString(-1));
+        // The duplicated strings are shared
+        List<ItemMetadata> items = cache.getItems();
+        assertSame(items.get(0).getType(), items.get(1).getType());
+    }
+
+    @Test
+    void testGetItem() throws IOException {
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        metadata.add(newGroup("test", "com.example.TestProperties", "com.example.TestProperties", null));
+        metadata.add(newProperty("test.names", null, "java.lang.String[]", null, null,
+                null, new Object[]{"a", 1, 2L, 0.5D, true}, null));
+        ItemDeprecation deprecation = new ItemDeprecation();
+        deprecation.setReason("For testing");
+        metadata.add(newProperty("test.name", null, "java.lang.String", null, null, "The name", null, deprecation));
+        metadata.add(newProperty("test.port", null, "java.lang.Integer", null, null, null, 8080, null));
+        File file = new File(this.tempDir, "metadata.cache");
+        ConfigurationMetadataCache.write(metadata, file);
+
+        ConfigurationMetadataCache cache = ConfigurationMetadataCache.load(file);
+        assertEquals(4, cache.getItemCount());
+        assertTrue(cache.isGroup(0));
+        assertFalse(cache.isGroup(1));
+        assertEquals("test", cache.getItemName(0));
+        assertEquals("test.names", cache.getItemName(1));
+        assertEquals("test.name", cache.getItemName(2));
+        assertEquals("test.port", cache.getItemName(3));
+
+        // The records after the skipped ones are decoded alone
+        ItemMetadata name = cache.getItem(2);
+        assertEquals("The name", name.getDescription());
+        assertEquals("For testing", name.getDeprecation().getReason());
+        assertEquals(8080, cache.getItem(3).getDefaultValue());
+        assertNotSame(cache.getItem(3), cache.getItem(3));
+    }
+
+    @Test
+    void testLoadOnInvalidFile() throws IOException {
+        File file = new File(this.tempDir, "invalid.cache");
+        Files.writeString(file.toPath(), "{}");
+        assertThrows(IOException.class, () -> ConfigurationMetadataCache.load(file));
+    }
+
+    @Test
+    void testLoadOnCorruptedFile() throws IOException {
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        metadata.add(newProperty("test.name", null, "java.lang.String", null, null, "The name", null, null));
+        File file = new File(this.tempDir, "metadata.cache");
+        ConfigurationMetadataCache.write(metadata, file);
+        byte[] bytes = Files.readAllBytes(file.toPath());
+
+        // The checksum mismatched
+        byte[] corruptedBytes = bytes.clone();
+        corruptedBytes[corruptedBytes.length - 1] ^= 1;
+        Files.write(file.toPath(), corruptedBytes);
+        assertThrows(IOException.class, () -> ConfigurationMetadataCache.load(file));
+
+        // Truncated
+        Files.write(file.toPath(), copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> ConfigurationMetadataCache.load(file));
+    }
+
+    private ItemMetadata findItem(List<ItemMetadata> items, String name) {
+        for (ItemMetadata item : items) {
+            if (name.equals(item.getName())) {
+                return item;
+            }
+        }
+        throw new AssertionError(name);
+    }
+}
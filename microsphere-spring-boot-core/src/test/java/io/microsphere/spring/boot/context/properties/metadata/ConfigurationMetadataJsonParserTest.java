@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.context.properties.metadata;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.configurationprocessor.metadata.ConfigurationMetadata;
+import org.springframework.boot.configurationprocessor.metadata.ItemHint;
+import org.springframework.boot.configurationprocessor.metadata.ItemHint.ValueProvider;
+import org.springframework.boot.configurationprocessor.metadata.ItemMetadata;
+import org.springframework.boot.configurationprocessor.metadata.JsonMarshaller;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import static io.microsphere.spring.boot.context.properties.metadata.ConfigurationMetadataReader.METADATA_PATH;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.ItemType.GROUP;
+
+/**
+ * {@link ConfigurationMetadataJsonParser} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationMetadataJsonParser
+ * @since 1.0.0
+ */
+class ConfigurationMetadataJsonParserTest {
+
+    private static final String JSON = "{\n" +
+            "  \"groups\": [{\"name\": \"test\", \"type\": \"com.example.TestProperties\", \"description\": \"The group\"}],\n" +
+            "  \"properties\": [\n" +
+            "    {\"name\": \"test.name\", \"type\": \"java.lang.String\", \"description\": \"The \\\"name\\\"\\u0021\",\n" +
+            "     \"defaultValue\": \"default\", \"deprecation\": {\"level\": \"error\", \"reason\": \"For testing\", \"replacement\": \"test.new-name\"}},\n" +
+            "    {\"name\": \"test.port\", \"type\": \"java.lang.Integer\", \"defaultValue\": 8080, \"deprecated\": true},\n" +
+            "    {\"name\": \"test.timeout\", \"defaultValue\": 3000000000},\n" +
+            "    {\"name\": \"test.ratio\", \"defaultValue\": -1.5e0},\n" +
+            "    {\"name\": \"test.enabled\", \"defaultValue\": false, \"description\": null},\n" +
+            "    {\"name\": \"test.names\", \"defaultValue\": [\"a\", \"b\"], \"unknown\": {\"nested\": [1, {}]}}\n" +
+            "  ],\n" +
+            "  \"hints\": [{\"name\": \"test.name\", \"values\": [{\"value\": \"a\", \"description\": \"The a\"}, {\"value\": 1}],\n" +
+            "    \"providers\": [{\"name\": \"any\", \"parameters\": {\"target\": \"java.lang.String\", \"flag\": true}}]}],\n" +
+            "  \"ignored\": null\n" +
+            "}";
+
+    @Test
+    void testParse() throws IOException {
+        ConfigurationMetadata metadata = parse(JSON);
+        List<ItemMetadata> items = metadata.getItems();
+        assertEquals(7, items.size());
+
+        ItemMetadata group = findItem(items, "test");
+        assertTrue(group.isOfItemType(GROUP));
+        assertEquals("The group", group.getDescription());
+
+        ItemMetadata name = findItem(items, "test.name");
+        assertEquals("The \"name\"!", name.getDescription());
+        assertEquals("default", name.getDefaultValue());
+        assertEquals("error", name.getDeprecation().getLevel());
+        assertEquals("For testing", name.getDeprecation().getReason());
+        assertEquals("test.new-name", name.getDeprecation().getReplacement());
+
+        ItemMetadata port = findItem(items, "test.port");
+        assertEquals(8080, port.getDefaultValue());
+        assertNotNull(port.getDeprecation());
+
+        assertEquals(3000000000L, findItem(items, "test.timeout").getDefaultValue());
+        assertEquals(-1.5D, findItem(items, "test.ratio").getDefaultValue());
+        assertEquals(false, findItem(items, "test.enabled").getDefaultValue());
+        assertNull(findItem(items, "test.enabled").getDescription());
+        assertArrayEquals(new Object[]{"a", "b"}, (Object[]) findItem(items, "test.names").getDefaultValue());
+
+        List<ItemHint> hints = metadata.getHints();
+        assertEquals(1, hints.size());
+        ItemHint hint = hints.get(0);
+        assertEquals("a", hint.getValues().get(0).getValue());
+        assertEquals("The a", hint.getValues().get(0).getDescription());
+        assertEquals(1, hint.getValues().get(1).getValue());
+        ValueProvider provider = hint.getProviders().get(0);
+        assertEquals("any", provider.getName());
+        assertEquals(Map.of("target", "java.lang.String", "flag", true), provider.getParameters());
+    }
+
+    @Test
+    void testParseAsJsonMarshaller() throws Exception {
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(METADATA_PATH);
+        assertTrue(resources.length > 0);
+        JsonMarshaller jsonMarshaller = new JsonMarshaller();
+        for (Resource resource : resources) {
+            ConfigurationMetadata expected;
+            try (InputStream inputStream = resource.getInputStream()) {
+                expected = jsonMarshaller.read(inputStream);
+            }
+            ConfigurationMetadata actual;
+            try (InputStream inputStream = resource.getInputStream()) {
+                actual = ConfigurationMetadataJsonParser.parse(inputStream);
+            }
+            assertEquals(expected.getItems().size(), actual.getItems().size(), resource.toString());
+            assertEquals(expected.getHints().size(), actual.getHints().size(), resource.toString());
+            for (int i = 0; i < expected.getItems().size(); i++) {
+                ItemMetadata expectedItem = expected.getItems().get(i);
+                ItemMetadata actualItem = actual.getItems().get(i);
+                assertEquals(expectedItem.getName(), actualItem.getName());
+                assertEquals(expectedItem.getType(), actualItem.getType());
+                assertEquals(expectedItem.getDescription(), actualItem.getDescription());
+                assertEquals(expectedItem.getSourceType(), actualItem.getSourceType());
+            }
+        }
+    }
+
+    @Test
+    void testParseEmpty() throws IOException {
+        assertTrue(parse("{}").getItems().isEmpty());
+        assertTrue(parse("{\"groups\": [], \"properties\": null}").getItems().isEmpty());
+    }
+
+    @Test
+    void testParseOnInvalidJson() {
+        assertThrows(IOException.class, () -> parse(""));
+        assertThrows(IOException.class, () -> parse("{\"groups\": [}"));
+        assertThrows(IOException.class, () -> parse("{\"properties\": [{\"name\": \"test"));
+        assertThrows(IOException.class, () -> parse("{\"properties\": [{\"defaultValue\": tru}]}"));
+        assertThrows(IOException.class, () -> parse("{\"properties\": [{\"defaultValue\": 1.2.3}]}"));
+        assertThrows(IOException.class, () -> parse("{\"properties\": [{\"name\": \"\\x\"}]}"));
+    }
+
+    @Test
+    void testReadValue() throws IOException {
+        assertEquals(Map.of("a", 1), new ConfigurationMetadataJsonParser(new StringReader(" {\"a\" : 1} ")).readValue());
+        assertNull(new ConfigurationMetadataJsonParser(new StringReader("null")).readValue());
+        assertEquals(true, new ConfigurationMetadataJsonParser(new StringReader("true")).readValue());
+    }
+
+    private ConfigurationMetadata parse(String json) throws IOException {
+        return ConfigurationMetadataJsonParser.parse(new ByteArrayInputStream(json.getBytes(UTF_8)));
+    }
+
+    private ItemMetadata findItem(List<ItemMetadata> items, String name) {
+        for (ItemMetadata item : items) {
+            if (name.equals(item.getName())) {
+                return item;
+            }
+        }
+        throw new AssertionError(name);
+    }
+}
@@ -19,14 +19,33 @@ package io.microsphere.spring.boot.context.properties.metadata;
 import io.microsphere.spring.test.junit.jupiter.SpringLoggingTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.configurationprocessor.metadata.ConfigurationMetadata;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.mock.env.MockEnvironment;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
 
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.spring.boot.context.properties.metadata.ConfigurationMetadataReader.CACHE_DIRECTORY_PROPERTY_NAME;
+import static io.microsphere.spring.boot.context.properties.metadata.ConfigurationMetadataReader.CACHE_ENABLED_PROPERTY_NAME;
+import static io.microsphere.spring.boot.context.properties.metadata.ConfigurationMetadataReader.CACHE_FILE_NAME_PREFIX;
+import static io.microsphere.spring.boot.context.properties.metadata.ConfigurationMetadataReader.CACHE_FILE_NAME_SUFFIX;
+import static io.microsphere.spring.boot.context.properties.metadata.ConfigurationMetadataReader.CACHE_MAX_FILES_PROPERTY_NAME;
+import static io.microsphere.spring.boot.context.properties.metadata.ConfigurationMetadataReader.DEFAULT_CACHE_MAX_FILES;
+import static io.microsphere.spring.boot.context.properties.metadata.ConfigurationMetadataReader.PARALLELISM_PROPERTY_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -38,6 +57,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 @SpringLoggingTest
 class ConfigurationMetadataReaderTest {
 
+    @TempDir
+    File tempDir;
+
     private ConfigurationMetadataReader reader;
 
     @BeforeEach
@@ -82,4 +104,168 @@ class ConfigurationMetadataReaderTest {
         this.reader.setResourceLoader(new DefaultResourceLoader());
         assertNotNull(this.reader.getResourcePatternResolver());
     }
+
+    @Test
+    void testReadWithCache() throws IOException {
+        this.reader.setCacheDirectory(this.tempDir);
+        ConfigurationMetadata metadata = this.reader.read();
+
+        File[] cacheFiles = this.tempDir.listFiles();
+        assertEquals(1, cacheFiles.length);
+
+        // Read from the cache
+        ConfigurationMetadata cachedMetadata = this.reader.read();
+        assertEquals(metadata.getItems().size(), cachedMetadata.getItems().size());
+        assertEquals(metadata.getHints().size(), cachedMetadata.getHints().size());
+
+        // Fall back to the JSON resources if the cache is corrupted
+        Files.writeString(cacheFiles[0].toPath(), "corrupted");
+        assertEquals(metadata.getItems().size(), this.reader.read().getItems().size());
+        assertTrue(ConfigurationMetadataCache.load(cacheFiles[0]).getItems().size() > 1);
+    }
+
+    @Test
+    void testReadCache() {
+        this.reader.setCacheDirectory(this.tempDir);
+        ConfigurationMetadataCache cache = this.reader.readCache();
+        assertNotNull(cache);
+        assertEquals(1, this.tempDir.listFiles().length);
+        assertFalse(this.reader.getResourceParseNanos().isEmpty());
+
+        // Read from the cache
+        ConfigurationMetadataCache cachedCache = this.reader.readCache();
+        assertEquals(cache.getFile(), cachedCache.getFile());
+        assertEquals(cache.getItemCount(), cachedCache.getItemCount());
+        assertTrue(this.reader.getResourceParseNanos().isEmpty());
+        assertEquals(this.reader.read().getItems().size(), cachedCache.getItemCount());
+
+        this.reader.setCacheDirectory(null);
+        assertNull(this.reader.readCache());
+    }
+
+    @Test
+    void testReadCacheOnCorruptedFile() throws IOException {
+        this.reader.setCacheDirectory(this.tempDir);
+        ConfigurationMetadataCache cache = this.reader.readCache();
+        File cacheFile = cache.getFile();
+
+        // Corrupt the last byte, which is verified on loading rather than decoding
+        byte[] bytes = Files.readAllBytes(cacheFile.toPath());
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(cacheFile.toPath(), bytes);
+
+        ConfigurationMetadataCache parsedCache = this.reader.readCache();
+        assertNotNull(parsedCache);
+        assertFalse(this.reader.getResourceParseNanos().isEmpty());
+        assertEquals(cache.getItemCount(), parsedCache.getItemCount());
+        assertEquals(cache.getItems().size(), ConfigurationMetadataCache.load(cacheFile).getItems().size());
+    }
+
+    @Test
+    void testEvictCacheFiles() throws IOException {
+        this.reader.setCacheMaxFiles(2);
+        for (int i = 0; i < 3; i++) {
+            File staleFile = new File(this.tempDir, CACHE_FILE_NAME_PREFIX + i + CACHE_FILE_NAME_SUFFIX);
+            Files.writeString(staleFile.toPath(), "stale");
+            staleFile.setLastModified(1000L * (i + 1));
+        }
+        File otherFile = new File(this.tempDir, "other.txt");
+        Files.writeString(otherFile.toPath(), "other");
+
+        this.reader.setCacheDirectory(this.tempDir);
+        ConfigurationMetadataCache cache = this.reader.readCache();
+        assertNotNull(cache);
+
+        // The newly written one and the most recently used stale one are kept
+        assertTrue(cache.getFile().exists());
+        assertTrue(new File(this.tempDir, CACHE_FILE_NAME_PREFIX + 2 + CACHE_FILE_NAME_SUFFIX).exists());
+        assertFalse(new File(this.tempDir, CACHE_FILE_NAME_PREFIX + 1 + CACHE_FILE_NAME_SUFFIX).exists());
+        assertFalse(new File(this.tempDir, CACHE_FILE_NAME_PREFIX + 0 + CACHE_FILE_NAME_SUFFIX).exists());
+        assertTrue(otherFile.exists());
+    }
+
+    @Test
+    void testSetCacheMaxFiles() {
+        assertEquals(DEFAULT_CACHE_MAX_FILES, this.reader.getCacheMaxFiles());
+        this.reader.setCacheMaxFiles(0);
+        assertEquals(1, this.reader.getCacheMaxFiles());
+    }
+
+    @Test
+    void testResolveCacheFile() {
+        this.reader.setCacheDirectory(this.tempDir);
+        File cacheFile = this.reader.resolveCacheFile(new Resource[0]);
+        assertNotNull(cacheFile);
+        assertEquals(this.tempDir, cacheFile.getParentFile());
+        assertNotEquals(cacheFile, this.reader.resolveCacheFile(new Resource[0], new Resource[0]));
+        assertNull(this.reader.resolveCacheFile(new Resource[0], null));
+
+        this.reader.setCacheDirectory(null);
+        assertNull(this.reader.resolveCacheFile(new Resource[0]));
+    }
+
+    @Test
+    void testGetCacheDirectory() {
+        // The cache is disabled by default
+        assertNull(this.reader.getCacheDirectory());
+    }
+
+    @Test
+    void testSetEnvironment() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty(CACHE_DIRECTORY_PROPERTY_NAME, this.tempDir.getPath());
+        environment.setProperty(PARALLELISM_PROPERTY_NAME, "2");
+        environment.setProperty(CACHE_MAX_FILES_PROPERTY_NAME, "5");
+        this.reader.setEnvironment(environment);
+        assertNull(this.reader.getCacheDirectory());
+        assertEquals(2, this.reader.getParallelism());
+        assertEquals(5, this.reader.getCacheMaxFiles());
+
+        environment.setProperty(CACHE_ENABLED_PROPERTY_NAME, "true");
+        this.reader.setEnvironment(environment);
+        assertEquals(this.tempDir, this.reader.getCacheDirectory());
+
+        environment.setProperty(CACHE_ENABLED_PROPERTY_NAME, "false");
+        this.reader.setEnvironment(environment);
+        assertNull(this.reader.getCacheDirectory());
+    }
+
+    @Test
+    void testReadInParallel() {
+        this.reader.setCacheDirectory(null);
+        this.reader.setParallelism(1);
+        ConfigurationMetadata metadata = this.reader.read();
+        Map<String, Long> resourceParseNanos = this.reader.getResourceParseNanos();
+        assertFalse(resourceParseNanos.isEmpty());
+
+        this.reader.setParallelism(4);
+        assertEquals(4, this.reader.getParallelism());
+        ConfigurationMetadata parallelMetadata = this.reader.read();
+        assertEquals(metadata.getItems().size(), parallelMetadata.getItems().size());
+        assertEquals(metadata.getHints().size(), parallelMetadata.getHints().size());
+        assertEquals(resourceParseNanos.keySet(), this.reader.getResourceParseNanos().keySet());
+
+        // Sorted by the parse time descending
+        long previous = Long.MAX_VALUE;
+        for (long nanos : this.reader.getResourceParseNanos().values()) {
+            assertTrue(nanos <= previous);
+            previous = nanos;
+        }
+    }
+
+    @Test
+    void testReadOnInvalidResource() {
+        this.reader.setCacheDirectory(this.tempDir);
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        List<Resource> resources = ofList(new ByteArrayResource("{}".getBytes()), new ByteArrayResource("invalid".getBytes()));
+        assertFalse(this.reader.readMetadata(metadata, resources));
+        assertEquals(1, this.reader.getResourceParseNanos().size());
+    }
+
+    @Test
+    void testSetParallelism() {
+        assertTrue(this.reader.getParallelism() > 0);
+        this.reader.setParallelism(0);
+        assertEquals(1, this.reader.getParallelism());
+    }
 }
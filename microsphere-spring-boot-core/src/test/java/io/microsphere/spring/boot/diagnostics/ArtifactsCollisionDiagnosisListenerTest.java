@@ -19,27 +19,41 @@ package io.microsphere.spring.boot.diagnostics;
 
 import io.microsphere.classloading.Artifact;
 import io.microsphere.classloading.MavenArtifact;
+import io.microsphere.spring.boot.classloading.ArtifactRegistry;
 import io.microsphere.spring.test.junit.jupiter.SpringLoggingTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.context.event.ApplicationContextInitializedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import static io.microsphere.classloading.Artifact.create;
 import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.spring.boot.diagnostics.ArtifactsCollisionDiagnosis.BEAN_NAME;
 import static io.microsphere.spring.boot.diagnostics.ArtifactsCollisionDiagnosisListener.ENABLED_PROPERTY_NAME;
+import static io.microsphere.spring.boot.diagnostics.ArtifactsCollisionDiagnosisListener.MODE_PROPERTY_NAME;
+import static io.microsphere.spring.boot.diagnostics.ArtifactsCollisionDiagnosisListener.PARALLELISM_PROPERTY_NAME;
 import static io.microsphere.spring.boot.diagnostics.ArtifactsCollisionResourceResolver.disable;
 import static io.microsphere.spring.boot.diagnostics.ArtifactsCollisionResourceResolver.enable;
+import static io.microsphere.spring.boot.diagnostics.DiagnosisMode.BACKGROUND;
+import static io.microsphere.spring.boot.diagnostics.DiagnosisMode.DISABLED;
+import static io.microsphere.spring.boot.diagnostics.DiagnosisMode.FAIL_FAST;
 import static io.microsphere.spring.boot.util.TestUtils.application;
 import static io.microsphere.util.StringUtils.EMPTY_STRING_ARRAY;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -78,16 +92,104 @@ class ArtifactsCollisionDiagnosisListenerTest {
         this.testOnApplicationEventOnDefault();
     }
 
+    @Test
+    void testOnApplicationEventWithParallelism() {
+        ArtifactRegistry artifactRegistry = ArtifactRegistry.get(getClass().getClassLoader());
+        int parallelism = artifactRegistry.getParallelism();
+        try {
+            this.environment.setProperty(PARALLELISM_PROPERTY_NAME, "2");
+            this.testOnApplicationEvent();
+            assertEquals(2, artifactRegistry.getParallelism());
+        } finally {
+            artifactRegistry.setParallelism(parallelism);
+        }
+    }
+
     @Test
     void testOnApplicationEventOnException() {
+        ArtifactRegistry artifactRegistry = ArtifactRegistry.get(getClass().getClassLoader());
         try {
             enable();
+            artifactRegistry.refresh();
             assertThrows(ArtifactsCollisionException.class, this::testOnApplicationEvent);
         } finally {
             disable();
+            artifactRegistry.refresh();
         }
     }
 
+    @Test
+    void testOnApplicationEventOnDisabledMode() {
+        this.environment.setProperty(ENABLED_PROPERTY_NAME, "true");
+        this.environment.setProperty(MODE_PROPERTY_NAME, "DISABLED");
+        GenericApplicationContext context = newContext();
+        this.listener.onApplicationEvent(new ApplicationContextInitializedEvent(application(), EMPTY_STRING_ARRAY, context));
+        assertNull(context.getBeanFactory().getSingleton(BEAN_NAME));
+    }
+
+    @Test
+    void testOnApplicationEventOnFailFastMode() {
+        this.environment.setProperty(ENABLED_PROPERTY_NAME, "true");
+        GenericApplicationContext context = newContext();
+        SpringApplication springApplication = application();
+        this.listener.onApplicationEvent(new ApplicationContextInitializedEvent(springApplication, EMPTY_STRING_ARRAY, context));
+        ArtifactsCollisionDiagnosis diagnosis = ArtifactsCollisionDiagnosis.get(context);
+        assertSame(diagnosis, context.getBeanFactory().getSingleton(BEAN_NAME));
+        assertEquals(FAIL_FAST, diagnosis.getArtifactsMode());
+        assertEquals(DISABLED, diagnosis.getClassesMode());
+        assertTrue(diagnosis.isCompleted());
+        assertFalse(diagnosis.hasCollisions());
+        // Not diagnosed again in the background
+        this.listener.onApplicationEvent(new ApplicationReadyEvent(springApplication, EMPTY_STRING_ARRAY, context, Duration.ZERO));
+    }
+
+    @Test
+    void testOnApplicationEventOnBackgroundMode() throws InterruptedException {
+        ArtifactsCollisionDiagnosis diagnosis = diagnoseInBackground();
+        assertTrue(diagnosis.getArtifacts().isEmpty());
+        assertFalse(diagnosis.hasCollisions());
+        assertNull(diagnosis.getFailure());
+    }
+
+    @Test
+    void testOnApplicationEventOnBackgroundModeWithCollisions() throws InterruptedException {
+        ArtifactRegistry artifactRegistry = ArtifactRegistry.get(getClass().getClassLoader());
+        try {
+            enable();
+            artifactRegistry.refresh();
+            // The collisions never stop the application
+            ArtifactsCollisionDiagnosis diagnosis = diagnoseInBackground();
+            assertTrue(diagnosis.hasCollisions());
+            assertEquals(diagnosis.getArtifacts().size(), diagnosis.getArtifactsCollisionCount());
+        } finally {
+            disable();
+            artifactRegistry.refresh();
+        }
+    }
+
+    private ArtifactsCollisionDiagnosis diagnoseInBackground() throws InterruptedException {
+        this.environment.setProperty(MODE_PROPERTY_NAME, "BACKGROUND");
+        GenericApplicationContext context = newContext();
+        SpringApplication springApplication = application();
+        this.listener.onApplicationEvent(new ApplicationContextInitializedEvent(springApplication, EMPTY_STRING_ARRAY, context));
+        ArtifactsCollisionDiagnosis diagnosis = ArtifactsCollisionDiagnosis.get(context);
+        assertEquals(BACKGROUND, diagnosis.getArtifactsMode());
+        assertFalse(diagnosis.isCompleted());
+        assertNull(diagnosis.getArtifacts());
+
+        this.listener.onApplicationEvent(new ApplicationReadyEvent(springApplication, EMPTY_STRING_ARRAY, context, Duration.ZERO));
+        assertTrue(diagnosis.await(10, SECONDS));
+        assertTrue(diagnosis.isCompleted());
+        assertNotNull(diagnosis.getArtifacts());
+        return diagnosis;
+    }
+
+    private GenericApplicationContext newContext() {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.setEnvironment(this.environment);
+        return context;
+    }
+
     @Test
     void testDiagnose() {
         Set<String> artifactsCollisionSet = this.listener.diagnose(getClass().getClassLoader());
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.diagnostics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+
+import static io.microsphere.collection.MapUtils.ofMap;
+import static io.microsphere.collection.Sets.ofSet;
+import static io.microsphere.spring.boot.diagnostics.ArtifactsCollisionDiagnosis.BEAN_NAME;
+import static io.microsphere.spring.boot.diagnostics.DiagnosisMode.BACKGROUND;
+import static io.microsphere.spring.boot.diagnostics.DiagnosisMode.DISABLED;
+import static io.microsphere.spring.boot.diagnostics.DiagnosisMode.FAIL_FAST;
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ArtifactsCollisionDiagnosis} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ArtifactsCollisionDiagnosis
+ * @since 1.0.0
+ */
+class ArtifactsCollisionDiagnosisTest {
+
+    private ArtifactsCollisionDiagnosis diagnosis;
+
+    @BeforeEach
+    void setUp() {
+        this.diagnosis = new ArtifactsCollisionDiagnosis();
+    }
+
+    @Test
+    void testDefaults() {
+        assertEquals(DISABLED, this.diagnosis.getArtifactsMode());
+        assertEquals(DISABLED, this.diagnosis.getClassesMode());
+        assertNull(this.diagnosis.getArtifacts());
+        assertNull(this.diagnosis.getClassCollisionReport());
+        assertNull(this.diagnosis.getFailure());
+        assertTrue(this.diagnosis.isCompleted());
+        assertFalse(this.diagnosis.hasCollisions());
+        assertEquals(0, this.diagnosis.getArtifactsCollisionCount());
+        assertEquals(0, this.diagnosis.getDuplicateClassCount());
+        assertEquals(0, this.diagnosis.getSplitPackageCount());
+    }
+
+    @Test
+    void testArtifacts() {
+        this.diagnosis.setArtifactsMode(BACKGROUND);
+        assertFalse(this.diagnosis.isCompleted());
+
+        this.diagnosis.setArtifacts(ofSet("a:b", "c:d"));
+        assertTrue(this.diagnosis.isCompleted());
+        assertTrue(this.diagnosis.hasCollisions());
+        assertEquals(2, this.diagnosis.getArtifactsCollisionCount());
+        assertThrows(UnsupportedOperationException.class, () -> this.diagnosis.getArtifacts().add("e:f"));
+    }
+
+    @Test
+    void testClassCollisionReport() {
+        this.diagnosis.setArtifactsMode(FAIL_FAST);
+        this.diagnosis.setClassesMode(BACKGROUND);
+        this.diagnosis.setArtifacts(ofSet());
+        assertFalse(this.diagnosis.isCompleted());
+        assertFalse(this.diagnosis.hasCollisions());
+
+        ClassCollisionReport report = new ClassCollisionReport(2, ofMap("com.acme.Foo", ofSet("a.jar", "b.jar")),
+                ofMap("com.acme", ofSet("a.jar", "classes")));
+        this.diagnosis.setClassCollisionReport(report);
+        assertTrue(this.diagnosis.isCompleted());
+        assertTrue(this.diagnosis.hasCollisions());
+        assertSame(report, this.diagnosis.getClassCollisionReport());
+        assertEquals(1, this.diagnosis.getDuplicateClassCount());
+        assertEquals(1, this.diagnosis.getSplitPackageCount());
+
+        this.diagnosis.setClassCollisionReport(new ClassCollisionReport(2, emptyMap(), emptyMap()));
+        assertFalse(this.diagnosis.hasCollisions());
+    }
+
+    @Test
+    void testFailure() {
+        this.diagnosis.setArtifactsMode(BACKGROUND);
+        RuntimeException failure = new RuntimeException("For testing");
+        this.diagnosis.setFailure(failure);
+        assertTrue(this.diagnosis.isCompleted());
+        assertSame(failure, this.diagnosis.getFailure());
+        assertTrue(this.diagnosis.toString().contains("For testing"));
+    }
+
+    @Test
+    void testAwait() throws InterruptedException {
+        assertTrue(this.diagnosis.await(0, MILLISECONDS));
+        this.diagnosis.setArtifactsMode(BACKGROUND);
+        assertFalse(this.diagnosis.await(1, MILLISECONDS));
+
+        Thread thread = new Thread(() -> this.diagnosis.setArtifacts(ofSet("a:b")));
+        thread.start();
+        assertTrue(this.diagnosis.await(10, SECONDS));
+        assertEquals(1, this.diagnosis.getArtifactsCollisionCount());
+        thread.join();
+    }
+
+    @Test
+    void testGet() {
+        GenericApplicationContext context = new GenericApplicationContext();
+        assertNull(context.getBeanFactory().getSingleton(BEAN_NAME));
+        ArtifactsCollisionDiagnosis diagnosis = ArtifactsCollisionDiagnosis.get(context);
+        assertSame(diagnosis, context.getBeanFactory().getSingleton(BEAN_NAME));
+        assertSame(diagnosis, ArtifactsCollisionDiagnosis.get(context));
+    }
+}
@@ -20,10 +20,15 @@ package io.microsphere.spring.boot.diagnostics;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.diagnostics.FailureAnalysis;
 
+import static io.microsphere.collection.MapUtils.ofMap;
 import static io.microsphere.collection.Sets.ofSet;
 import static io.microsphere.spring.boot.util.TestUtils.application;
+import static java.util.Collections.emptyMap;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * {@link ArtifactsCollisionFailureAnalyzer} Test
@@ -40,6 +45,20 @@ class ArtifactsCollisionFailureAnalyzerTest implements CommandLineRunner {
         assertThrows(Exception.class, springApplication::run);
     }
 
+    @Test
+    void testAnalyze() {
+        ArtifactsCollisionFailureAnalyzer analyzer = new ArtifactsCollisionFailureAnalyzer();
+        ArtifactsCollisionException exception = new ArtifactsCollisionException("For testing", ofSet("test-groupId:test-artifactId"));
+        FailureAnalysis analysis = analyzer.analyze(exception, exception);
+        assertTrue(analysis.getAction().contains("-Dincludes=test-groupId:test-artifactId,"));
+        assertFalse(analysis.getAction().contains("relocate"));
+
+        exception = new ArtifactsCollisionException("For testing", ofSet("test-groupId:test-artifactId"),
+                ofMap("com.acme.Foo", ofSet("test-groupId:test-artifactId")), emptyMap());
+        analysis = analyzer.analyze(exception, exception);
+        assertTrue(analysis.getAction().contains("relocate"));
+    }
+
     @Override
     public void run(String... args) throws Exception {
         throw new ArtifactsCollisionException("For testing", ofSet("test-groupId:test-artifactId"));
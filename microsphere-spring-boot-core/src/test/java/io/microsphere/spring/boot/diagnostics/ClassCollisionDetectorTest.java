@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.diagnostics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static io.microsphere.collection.Sets.ofSet;
+import static io.microsphere.spring.boot.diagnostics.ClassCollisionDetector.toClassName;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ClassCollisionDetector} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ClassCollisionDetector
+ * @since 1.0.0
+ */
+class ClassCollisionDetectorTest {
+
+    @TempDir
+    private File tempDir;
+
+    private URLClassLoader classLoader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.classLoader = newClassLoader(this.tempDir);
+    }
+
+    @Test
+    void testDetect() throws IOException {
+        ClassCollisionDetector detector = new ClassCollisionDetector(this.classLoader);
+        assertFalse(detector.isSplitPackagesEnabled());
+        ClassCollisionReport report = detector.detect();
+        assertEquals(5, report.getClassCount());
+        assertEquals(1, report.getDuplicateClasses().size());
+        assertEquals(ofSet("a.jar", "b.jar"), report.getDuplicateClasses().get("com.acme.Foo"));
+        assertTrue(report.getSplitPackages().isEmpty());
+        this.classLoader.close();
+    }
+
+    @Test
+    void testDetectWithSplitPackages() throws IOException {
+        ClassCollisionDetector detector = new ClassCollisionDetector(this.classLoader);
+        detector.setSplitPackagesEnabled(true);
+        assertTrue(detector.isSplitPackagesEnabled());
+        ClassCollisionReport report = detector.detect();
+        assertEquals(1, report.getDuplicateClasses().size());
+        assertEquals(1, report.getSplitPackages().size());
+        assertEquals(ofSet("a.jar", "b.jar", "classes"), report.getSplitPackages().get("com.acme"));
+        assertEquals(ofSet("a.jar", "b.jar", "classes"), report.getArtifacts());
+        this.classLoader.close();
+    }
+
+    @Test
+    void testToClassName() {
+        Path root = this.tempDir.toPath();
+        assertEquals("com/acme/Foo", toClassName(root, root.resolve("com/acme/Foo.class")));
+        assertEquals("Foo$Bar", toClassName(root, root.resolve("Foo$Bar.class")));
+        assertNull(toClassName(root, root.resolve("com/acme/Foo.java")));
+        assertNull(toClassName(root, root.resolve("module-info.class")));
+        assertNull(toClassName(root, root.resolve("com/acme/package-info.class")));
+        assertNull(toClassName(root, root.resolve("META-INF/versions/9/com/acme/Foo.class")));
+
+        assertEquals("com/acme/Foo", toClassName("com/acme/Foo.class"));
+        assertNull(toClassName("com/acme/"));
+        assertNull(toClassName("module-info.class"));
+        assertNull(toClassName("com/acme/package-info.class"));
+        assertNull(toClassName("META-INF/versions/9/com/acme/Foo.class"));
+    }
+
+    /**
+     * Create the {@link URLClassLoader} of "a.jar", "b.jar" and "classes" directory, "com.acme.Foo" is duplicate in
+     * "a.jar" and "b.jar", and the package "com.acme" is split into all of them.
+     */
+    static URLClassLoader newClassLoader(File directory) throws IOException {
+        File a = newJar(directory, "a.jar", "com/acme/Foo.class", "com/acme/a/A.class", "module-info.class",
+                "META-INF/versions/9/com/acme/Bar.class");
+        File b = newJar(directory, "b.jar", "com/acme/Foo.class", "com/acme/b/B.class", "module-info.class");
+        File classes = new File(directory, "classes");
+        File classFile = new File(classes, "com/acme/Baz.class");
+        assertTrue(classFile.getParentFile().mkdirs());
+        Files.write(classFile.toPath(), new byte[]{(byte) 0xCA, (byte) 0xFE});
+        Files.write(new File(classes, "com/acme/package-info.class").toPath(), new byte[]{(byte) 0xCA, (byte) 0xFE});
+        URL[] urls = {a.toURI().toURL(), b.toURI().toURL(), classes.toURI().toURL()};
+        return new URLClassLoader(urls, null);
+    }
+
+    private static File newJar(File directory, String name, String... entryNames) throws IOException {
+        File file = new File(directory, name);
+        try (ZipOutputStream outputStream = new ZipOutputStream(Files.newOutputStream(file.toPath()))) {
+            for (String entryName : entryNames) {
+                outputStream.putNextEntry(new ZipEntry(entryName));
+                outputStream.write(new byte[]{(byte) 0xCA, (byte) 0xFE});
+                outputStream.closeEntry();
+            }
+        }
+        return file;
+    }
+}
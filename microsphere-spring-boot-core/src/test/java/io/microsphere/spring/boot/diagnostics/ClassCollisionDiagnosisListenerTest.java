@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.diagnostics;
+
+import io.microsphere.spring.test.junit.jupiter.SpringLoggingTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationContextInitializedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.time.Duration;
+
+import static io.microsphere.spring.boot.diagnostics.ArtifactsCollisionDiagnosis.BEAN_NAME;
+import static io.microsphere.spring.boot.diagnostics.ClassCollisionDetectorTest.newClassLoader;
+import static io.microsphere.spring.boot.diagnostics.ClassCollisionDiagnosisListener.MODE_PROPERTY_NAME;
+import static io.microsphere.spring.boot.diagnostics.ClassCollisionDiagnosisListener.SPLIT_PACKAGES_ENABLED_PROPERTY_NAME;
+import static io.microsphere.spring.boot.diagnostics.DiagnosisMode.BACKGROUND;
+import static io.microsphere.spring.boot.util.TestUtils.application;
+import static io.microsphere.util.StringUtils.EMPTY_STRING_ARRAY;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ClassCollisionDiagnosisListener} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ClassCollisionDiagnosisListener
+ * @since 1.0.0
+ */
+@SpringLoggingTest
+class ClassCollisionDiagnosisListenerTest {
+
+    @TempDir
+    private File tempDir;
+
+    private URLClassLoader classLoader;
+
+    private MockEnvironment environment;
+
+    private GenericApplicationContext context;
+
+    private ClassCollisionDiagnosisListener listener;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.classLoader = newClassLoader(this.tempDir);
+        this.environment = new MockEnvironment();
+        this.context = new GenericApplicationContext();
+        this.context.setEnvironment(this.environment);
+        this.listener = new ClassCollisionDiagnosisListener();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        this.classLoader.close();
+    }
+
+    @Test
+    void testOnApplicationEventOnDefault() {
+        SpringApplication springApplication = application(this.classLoader);
+        this.listener.onApplicationEvent(new ApplicationContextInitializedEvent(springApplication, EMPTY_STRING_ARRAY, this.context));
+        this.listener.onApplicationEvent(new ApplicationReadyEvent(springApplication, EMPTY_STRING_ARRAY, this.context, Duration.ZERO));
+        assertNull(this.listener.getReport());
+        assertNull(this.context.getBeanFactory().getSingleton(BEAN_NAME));
+    }
+
+    @Test
+    void testOnApplicationEventOnFailFast() {
+        this.environment.setProperty(MODE_PROPERTY_NAME, "FAIL_FAST");
+        this.environment.setProperty(SPLIT_PACKAGES_ENABLED_PROPERTY_NAME, "true");
+        SpringApplication springApplication = application(this.classLoader);
+        ApplicationContextInitializedEvent event = new ApplicationContextInitializedEvent(springApplication, EMPTY_STRING_ARRAY, this.context);
+        ArtifactsCollisionException exception = assertThrows(ArtifactsCollisionException.class, () -> this.listener.onApplicationEvent(event));
+        assertEquals(1, exception.getDuplicateClasses().size());
+        assertEquals(1, exception.getSplitPackages().size());
+        // Not diagnosed again in the background
+        this.listener.onApplicationEvent(new ApplicationReadyEvent(springApplication, EMPTY_STRING_ARRAY, this.context, Duration.ZERO));
+    }
+
+    @Test
+    void testOnApplicationEventOnBackground() throws InterruptedException {
+        this.environment.setProperty(MODE_PROPERTY_NAME, "BACKGROUND");
+        SpringApplication springApplication = application(this.classLoader);
+        this.listener.onApplicationEvent(new ApplicationContextInitializedEvent(springApplication, EMPTY_STRING_ARRAY, this.context));
+        assertNull(this.listener.getReport());
+
+        this.listener.onApplicationEvent(new ApplicationReadyEvent(springApplication, EMPTY_STRING_ARRAY, this.context, Duration.ZERO));
+        ClassCollisionReport report = this.listener.awaitReport(10, SECONDS);
+        assertNotNull(report);
+        assertSame(report, this.listener.getReport());
+        assertEquals(1, report.getDuplicateClasses().size());
+        assertEquals(0, report.getSplitPackages().size());
+
+        ArtifactsCollisionDiagnosis diagnosis = ArtifactsCollisionDiagnosis.get(this.context);
+        assertEquals(BACKGROUND, diagnosis.getClassesMode());
+        assertSame(report, diagnosis.getClassCollisionReport());
+        assertEquals(1, diagnosis.getDuplicateClassCount());
+        assertTrue(diagnosis.isCompleted());
+        assertTrue(diagnosis.hasCollisions());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static io.microsphere.collection.MapUtils.newLinkedHashMap;
+import static io.microsphere.collection.MapUtils.ofMap;
+import static io.microsphere.collection.Sets.ofSet;
+import static io.microsphere.spring.boot.diagnostics.ClassCollisionReport.MAX_MESSAGE_ENTRIES;
+import static java.util.Collections.emptyMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ClassCollisionReport} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ClassCollisionReport
+ * @since 1.0.0
+ */
+class ClassCollisionReportTest {
+
+    @Test
+    void testEmpty() {
+        ClassCollisionReport report = new ClassCollisionReport(10, emptyMap(), emptyMap());
+        assertTrue(report.isEmpty());
+        assertEquals(10, report.getClassCount());
+        assertTrue(report.getArtifacts().isEmpty());
+        assertEquals("ClassCollisionReport{classCount=10, duplicateClasses=0, splitPackages=0}", report.toString());
+    }
+
+    @Test
+    void testToException() {
+        Map<String, Set<String>> duplicateClasses = ofMap("com.acme.Foo", ofSet("com.acme:a", "com.acme:b"));
+        Map<String, Set<String>> splitPackages = ofMap("com.acme", ofSet("com.acme:a", "com.acme:c"));
+        ClassCollisionReport report = new ClassCollisionReport(10, duplicateClasses, splitPackages);
+        assertFalse(report.isEmpty());
+        assertEquals(ofSet("com.acme:a", "com.acme:b", "com.acme:c"), report.getArtifacts());
+        assertThrows(UnsupportedOperationException.class, () -> report.getDuplicateClasses().clear());
+
+        ArtifactsCollisionException exception = report.toException();
+        assertSame(report.getDuplicateClasses(), exception.getDuplicateClasses());
+        assertSame(report.getSplitPackages(), exception.getSplitPackages());
+        assertEquals(report.getArtifacts(), exception.getArtifacts());
+        assertTrue(exception.getMessage().contains("The 1 duplicate classes:"));
+        assertTrue(exception.getMessage().contains("com.acme.Foo : [com.acme:a, com.acme:b]"));
+        assertTrue(exception.getMessage().contains("The 1 split packages:"));
+    }
+
+    @Test
+    void testToExceptionOnManyEntries() {
+        Map<String, Set<String>> duplicateClasses = newLinkedHashMap();
+        for (int i = 0; i < MAX_MESSAGE_ENTRIES + 5; i++) {
+            duplicateClasses.put("com.acme.Foo" + i, ofSet("com.acme:a", "com.acme:b"));
+        }
+        ClassCollisionReport report = new ClassCollisionReport(100, duplicateClasses, emptyMap());
+        String message = report.toException().getMessage();
+        assertTrue(message.contains("com.acme.Foo" + (MAX_MESSAGE_ENTRIES - 1)));
+        assertFalse(message.contains("com.acme.Foo" + MAX_MESSAGE_ENTRIES + " "));
+        assertTrue(message.contains("... 5 more"));
+    }
+}
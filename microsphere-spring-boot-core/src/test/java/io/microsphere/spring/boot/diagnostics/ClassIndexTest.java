@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import static io.microsphere.spring.boot.diagnostics.ClassIndex.ABSENT;
+import static io.microsphere.spring.boot.diagnostics.ClassIndex.hash;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ClassIndex} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ClassIndex
+ * @since 1.0.0
+ */
+class ClassIndexTest {
+
+    @Test
+    void testPutIfAbsent() {
+        ClassIndex index = new ClassIndex(0);
+        assertEquals(16, index.capacity());
+        long key = hash("com/acme/Foo");
+        assertEquals(ABSENT, index.get(key));
+        assertEquals(ABSENT, index.putIfAbsent(key, 0));
+        assertEquals(0, index.putIfAbsent(key, 1));
+        assertEquals(0, index.get(key));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void testResize() {
+        ClassIndex index = new ClassIndex(16);
+        int size = 200_000;
+        for (int i = 0; i < size; i++) {
+            assertEquals(ABSENT, index.putIfAbsent(hash("com/acme/Class" + i), i));
+        }
+        assertEquals(size, index.size());
+        assertTrue(index.capacity() >= size);
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, index.get(hash("com/acme/Class" + i)));
+        }
+        assertEquals(ABSENT, index.get(hash("com/acme/Absent")));
+    }
+
+    @Test
+    void testHash() {
+        assertEquals(hash("com/acme/Foo"), hash(new StringBuilder("com/acme/Foo")));
+        assertNotEquals(hash("com/acme/Foo"), hash("com/acme/Bar"));
+        assertNotEquals(0L, hash(""));
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.env.config.metadata;
+
+import io.microsphere.spring.boot.context.properties.metadata.ConfigurationMetadataCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.configurationprocessor.metadata.ConfigurationMetadata;
+import org.springframework.boot.configurationprocessor.metadata.ItemDeprecation;
+import org.springframework.boot.configurationprocessor.metadata.ItemHint;
+import org.springframework.boot.configurationprocessor.metadata.ItemMetadata;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static io.microsphere.collection.Lists.ofList;
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.newGroup;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.newProperty;
+
+/**
+ * {@link CachedConfigurationMetadataStore} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see CachedConfigurationMetadataStore
+ * @since 1.0.0
+ */
+class CachedConfigurationMetadataStoreTest {
+
+    private static final String SOURCE_TYPE = "com.example.TestProperties";
+
+    private static final String DESCRIPTION = "The shared description";
+
+    @TempDir
+    File tempDir;
+
+    private CachedConfigurationMetadataStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        ItemMetadata group = newGroup("test", SOURCE_TYPE, SOURCE_TYPE, null);
+        group.setDescription("The test group");
+        metadata.add(group);
+        ItemDeprecation deprecation = new ItemDeprecation();
+        deprecation.setReason("For testing");
+        metadata.add(newProperty("test.name", null, "java.lang.String", SOURCE_TYPE, null,
+                DESCRIPTION, "default-name", deprecation));
+        metadata.add(newProperty("test.alias", null, "java.lang.String", SOURCE_TYPE, null,
+                DESCRIPTION, null, null));
+        metadata.add(newProperty("test.ports", null, "java.lang.Integer[]", SOURCE_TYPE, null,
+                null, new Object[]{8080, 8081}, null));
+        metadata.add(new ItemHint("test.name", ofList(new ItemHint.ValueHint("a", "The a")), emptyList()));
+        metadata.add(new ItemHint("test.name", ofList(new ItemHint.ValueHint("b", "The b")), emptyList()));
+        File file = new File(this.tempDir, "metadata.cache");
+        ConfigurationMetadataCache.write(metadata, file);
+        this.store = new CachedConfigurationMetadataStore(ConfigurationMetadataCache.load(file));
+    }
+
+    @Test
+    void testGroups() {
+        assertEquals(1, this.store.getGroups().size());
+        assertTrue(this.store.getGroupNames().contains("test"));
+        ItemMetadata group = this.store.getGroup("test");
+        assertNotNull(group);
+        assertTrue(group.isOfItemType(ItemMetadata.ItemType.GROUP));
+        assertEquals(SOURCE_TYPE, group.getType());
+        assertEquals("The test group", group.getDescription());
+        assertNull(this.store.getGroup("test.name"));
+        assertNull(this.store.getGroup(null));
+    }
+
+    @Test
+    void testProperties() {
+        // sorted by the names
+        assertEquals(ofList("test.alias", "test.name", "test.ports"), ofList(this.store.getPropertyNames().toArray()));
+        assertEquals(3, this.store.getProperties().size());
+        assertFalse(this.store.getPropertyNames().contains("test"));
+
+        ItemMetadata name = this.store.getProperty("test.name");
+        assertTrue(name.isOfItemType(ItemMetadata.ItemType.PROPERTY));
+        assertEquals("test.name", name.getName());
+        assertEquals("java.lang.String", name.getType());
+        assertEquals(DESCRIPTION, name.getDescription());
+        assertEquals("default-name", name.getDefaultValue());
+        assertEquals("For testing", name.getDeprecation().getReason());
+
+        assertEquals(DESCRIPTION, this.store.getProperty("test.alias").getDescription());
+        assertArrayEquals(new Object[]{8080, 8081}, (Object[]) this.store.getProperty("test.ports").getDefaultValue());
+        assertNull(this.store.getProperty("test.unknown"));
+    }
+
+    @Test
+    void testHints() {
+        List<ItemHint> hints = this.store.getHints("test.name");
+        assertEquals(2, hints.size());
+        assertEquals("a", hints.get(0).getValues().get(0).getValue());
+        assertEquals("b", hints.get(1).getValues().get(0).getValue());
+        assertSame(hints, this.store.getHints("test.name"));
+        assertTrue(this.store.getHints("test.alias").isEmpty());
+        assertTrue(this.store.getHints(null).isEmpty());
+    }
+
+    @Test
+    void testImmutable() {
+        assertThrows(UnsupportedOperationException.class, () -> this.store.getPropertyNames().clear());
+        assertThrows(UnsupportedOperationException.class, () -> this.store.getProperties().clear());
+        assertThrows(UnsupportedOperationException.class, () -> this.store.getHints("test.name").clear());
+    }
+}
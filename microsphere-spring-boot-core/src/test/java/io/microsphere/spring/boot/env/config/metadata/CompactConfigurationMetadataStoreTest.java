@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.env.config.metadata;
+
+import io.microsphere.spring.boot.context.properties.metadata.ConfigurationMetadataReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.configurationprocessor.metadata.ConfigurationMetadata;
+import org.springframework.boot.configurationprocessor.metadata.ItemDeprecation;
+import org.springframework.boot.configurationprocessor.metadata.ItemHint;
+import org.springframework.boot.configurationprocessor.metadata.ItemMetadata;
+
+import java.util.List;
+
+import static io.microsphere.collection.Lists.ofList;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.newGroup;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.newProperty;
+
+/**
+ * {@link CompactConfigurationMetadataStore} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see CompactConfigurationMetadataStore
+ * @since 1.0.0
+ */
+class CompactConfigurationMetadataStoreTest {
+
+    private static final String SOURCE_TYPE = "com.example.TestProperties";
+
+    private static final String DESCRIPTION = "The shared description";
+
+    private static final String NON_ASCII_DESCRIPTION = "\u662f\u5426\u542f\u7528";
+
+    private CompactConfigurationMetadataStore store;
+
+    @BeforeEach
+    void setUp() {
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        ItemMetadata group = newGroup("test", SOURCE_TYPE, SOURCE_TYPE, null);
+        group.setDescription("The test group");
+        metadata.add(group);
+        ItemDeprecation deprecation = new ItemDeprecation();
+        deprecation.setReason("For testing");
+        metadata.add(newProperty("test.name", null, "java.lang.String", SOURCE_TYPE, null,
+                DESCRIPTION, "default-name", deprecation));
+        metadata.add(newProperty("test.alias", null, "java.lang.String", SOURCE_TYPE, null,
+                DESCRIPTION, null, null));
+        metadata.add(newProperty("test.enabled", null, "java.lang.Boolean", SOURCE_TYPE, null,
+                NON_ASCII_DESCRIPTION, true, null));
+        metadata.add(newProperty("test.ports", null, "java.lang.Integer[]", SOURCE_TYPE, null,
+                null, new Object[]{8080, 8081}, null));
+        metadata.add(new ItemHint("test.name", ofList(new ItemHint.ValueHint("a", "The a")), emptyList()));
+        metadata.add(new ItemHint("test.name", ofList(new ItemHint.ValueHint("b", "The b")), emptyList()));
+        this.store = new CompactConfigurationMetadataStore(metadata);
+    }
+
+    @Test
+    void testGroups() {
+        assertEquals(1, this.store.getGroups().size());
+        assertTrue(this.store.getGroupNames().contains("test"));
+        ItemMetadata group = this.store.getGroup("test");
+        assertNotNull(group);
+        assertTrue(group.isOfItemType(ItemMetadata.ItemType.GROUP));
+        assertEquals(SOURCE_TYPE, group.getType());
+        assertEquals(SOURCE_TYPE, group.getSourceType());
+        assertEquals("The test group", group.getDescription());
+        assertNull(this.store.getGroup("test.name"));
+        assertNull(this.store.getGroup(null));
+    }
+
+    @Test
+    void testProperties() {
+        // sorted by the names
+        assertEquals(ofList("test.alias", "test.enabled", "test.name", "test.ports"), ofList(this.store.getPropertyNames().toArray()));
+        assertEquals(4, this.store.getProperties().size());
+        assertFalse(this.store.getPropertyNames().contains("test"));
+        assertFalse(this.store.getPropertyNames().contains(1));
+
+        ItemMetadata name = this.store.getProperty("test.name");
+        assertTrue(name.isOfItemType(ItemMetadata.ItemType.PROPERTY));
+        assertEquals("test.name", name.getName());
+        assertEquals("java.lang.String", name.getType());
+        assertEquals(DESCRIPTION, name.getDescription());
+        assertEquals("default-name", name.getDefaultValue());
+        assertEquals("For testing", name.getDeprecation().getReason());
+
+        assertEquals(DESCRIPTION, this.store.getProperty("test.alias").getDescription());
+        assertEquals(NON_ASCII_DESCRIPTION, this.store.getProperty("test.enabled").getDescription());
+        assertEquals(true, this.store.getProperty("test.enabled").getDefaultValue());
+        assertNull(this.store.getProperty("test.ports").getDescription());
+        assertNull(this.store.getProperty("test.unknown"));
+    }
+
+    @Test
+    void testDescriptions() {
+        // the duplicated descriptions are stored once
+        int expectedSize = "The test group".getBytes(UTF_8).length + DESCRIPTION.getBytes(UTF_8).length
+                + NON_ASCII_DESCRIPTION.getBytes(UTF_8).length;
+        assertEquals(expectedSize, this.store.getDescriptionsSize());
+    }
+
+    @Test
+    void testHints() {
+        List<ItemHint> hints = this.store.getHints("test.name");
+        assertEquals(2, hints.size());
+        assertEquals("a", hints.get(0).getValues().get(0).getValue());
+        assertEquals("b", hints.get(1).getValues().get(0).getValue());
+        assertTrue(this.store.getHints("test.alias").isEmpty());
+        assertTrue(this.store.getHints(null).isEmpty());
+    }
+
+    @Test
+    void testImmutable() {
+        assertThrows(UnsupportedOperationException.class, () -> this.store.getPropertyNames().clear());
+        assertThrows(UnsupportedOperationException.class, () -> this.store.getProperties().clear());
+        assertThrows(UnsupportedOperationException.class, () -> this.store.getHints("test.name").clear());
+    }
+
+    @Test
+    void testConsistencyWithStandardStore() {
+        ConfigurationMetadata metadata = new ConfigurationMetadataReader().read();
+        StandardConfigurationMetadataStore standardStore = new StandardConfigurationMetadataStore(metadata);
+        CompactConfigurationMetadataStore compactStore = new CompactConfigurationMetadataStore(metadata);
+
+        assertEquals(standardStore.getGroupNames(), compactStore.getGroupNames());
+        assertEquals(standardStore.getPropertyNames(), compactStore.getPropertyNames());
+
+        for (ItemMetadata property : standardStore.getProperties()) {
+            ItemMetadata compactProperty = compactStore.getProperty(property.getName());
+            assertEquals(property.getName(), compactProperty.getName());
+            assertEquals(property.getType(), compactProperty.getType());
+            assertEquals(property.getSourceType(), compactProperty.getSourceType());
+            assertEquals(property.getSourceMethod(), compactProperty.getSourceMethod());
+            assertEquals(property.getDescription(), compactProperty.getDescription());
+            assertEquals(property.getDeprecation(), compactProperty.getDeprecation());
+            assertEquals(standardStore.getHints(property.getName()), compactStore.getHints(property.getName()));
+        }
+    }
+}
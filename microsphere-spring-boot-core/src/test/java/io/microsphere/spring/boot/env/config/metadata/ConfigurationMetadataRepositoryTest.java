@@ -19,17 +19,35 @@ package io.microsphere.spring.boot.env.config.metadata;
 
 import io.microsphere.spring.boot.context.properties.metadata.ConfigurationMetadataReader;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.configurationprocessor.metadata.ConfigurationMetadata;
 import org.springframework.boot.configurationprocessor.metadata.ItemHint;
 import org.springframework.boot.configurationprocessor.metadata.ItemMetadata;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.env.MockEnvironment;
 
+import java.io.File;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository.INITIALIZATION_MODE_PROPERTY_NAME;
+import static io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository.InitializationMode.BACKGROUND;
+import static io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository.InitializationMode.EAGER;
+import static io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository.InitializationMode.LAZY;
+import static io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository.STORAGE_MODE_PROPERTY_NAME;
+import static io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository.StorageMode.COMPACT;
+import static io.microsphere.spring.boot.env.config.metadata.ConfigurationMetadataRepository.StorageMode.STANDARD;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -79,4 +97,188 @@ class ConfigurationMetadataRepositoryTest {
         assertNotNull(configurationMetadataReader);
 
     }
+
+    @Test
+    void testImmutable() {
+        assertThrows(UnsupportedOperationException.class, () -> repository.getPropertyNames().clear());
+        assertThrows(UnsupportedOperationException.class, () -> repository.getGroups().clear());
+    }
+
+    @Test
+    void testFindNames() {
+        List<String> propertyNames = repository.findPropertyNames(null, null);
+        assertEquals(repository.getPropertyNames().size(), propertyNames.size());
+
+        for (String propertyName : repository.findPropertyNames("spring.", null)) {
+            assertTrue(propertyName.startsWith("spring."));
+        }
+
+        for (String groupName : repository.findGroupNames("spring.", null)) {
+            assertTrue(groupName.startsWith("spring."));
+            assertNotNull(repository.getGroup(groupName));
+        }
+
+        String propertyName = propertyNames.get(0);
+        assertTrue(repository.findPropertyNames(null, propertyName).contains(propertyName));
+        assertTrue(repository.findPropertyNames("not-existed.", null).isEmpty());
+    }
+
+    @Test
+    void testIsReady() {
+        assertTrue(repository.isReady());
+        assertTrue(repository.awaitReady(Duration.ZERO));
+        assertTrue(repository.getReadyFuture().isDone());
+        assertEquals(EAGER, repository.getInitializationMode());
+    }
+
+    @Test
+    void testOnUninitialized() {
+        ConfigurationMetadataRepository repository = newRepository();
+        assertFalse(repository.isReady());
+        assertFalse(repository.awaitReady(Duration.ofMillis(10)));
+        assertTrue(repository.getPropertyNames().isEmpty());
+        assertTrue(repository.getGroups().isEmpty());
+        assertTrue(repository.findPropertyNames(null, "server").isEmpty());
+        assertNotNull(repository.getHints("unknown"));
+    }
+
+    @Test
+    void testLazyInitialization() throws Exception {
+        ConfigurationMetadataRepository repository = newRepository();
+        repository.setInitializationMode(LAZY);
+        repository.run();
+        assertFalse(repository.isReady());
+
+        assertFalse(repository.getPropertyNames().isEmpty());
+        assertTrue(repository.isReady());
+        assertTrue(repository.awaitReady(Duration.ZERO));
+    }
+
+    @Test
+    void testBackgroundInitialization() throws Exception {
+        ConfigurationMetadataRepository repository = newRepository();
+        repository.setInitializationMode(BACKGROUND);
+        repository.run();
+        assertFalse(repository.isReady());
+
+        assertSame(repository, repository.initializeInBackground().get(30, SECONDS));
+        assertTrue(repository.isReady());
+        assertFalse(repository.getPropertyNames().isEmpty());
+        // The initialization is only executed once
+        assertSame(repository.getReadyFuture(), repository.initializeInBackground());
+    }
+
+    @Test
+    void testInitializationRetriedOnFailure() {
+        ConfigurationMetadataRepository repository = newFailingOnceRepository();
+        assertThrows(IllegalStateException.class, repository::initialize);
+        assertFalse(repository.isReady());
+        assertNotNull(repository.getFailure());
+        assertFalse(repository.getReadyFuture().isDone());
+        // The failed repository is not waited for
+        assertFalse(repository.awaitReady(Duration.ofSeconds(30)));
+
+        repository.initialize();
+        assertTrue(repository.isReady());
+        assertNull(repository.getFailure());
+        assertTrue(repository.getReadyFuture().isDone());
+        assertFalse(repository.getPropertyNames().isEmpty());
+    }
+
+    @Test
+    void testLazyInitializationRetriedOnFailure() {
+        ConfigurationMetadataRepository repository = newFailingOnceRepository();
+        repository.setInitializationMode(LAZY);
+        assertTrue(repository.getPropertyNames().isEmpty());
+        assertNotNull(repository.getFailure());
+
+        assertFalse(repository.getPropertyNames().isEmpty());
+        assertTrue(repository.awaitReady(Duration.ZERO));
+    }
+
+    @Test
+    void testBackgroundInitializationRetriedOnFailure() throws Exception {
+        ConfigurationMetadataRepository repository = newFailingOnceRepository();
+        repository.setInitializationMode(BACKGROUND);
+        assertThrows(IllegalStateException.class, repository::initialize);
+
+        assertTrue(repository.awaitReady(Duration.ofSeconds(30)));
+        assertSame(repository, repository.getReadyFuture().get());
+        assertFalse(repository.getPropertyNames().isEmpty());
+    }
+
+    @Test
+    void testCompactStorage() throws Exception {
+        ConfigurationMetadataRepository compactRepository = newRepository();
+        compactRepository.setStorageMode(COMPACT);
+        compactRepository.run();
+        assertEquals(COMPACT, compactRepository.getStorageMode());
+
+        assertEquals(repository.getPropertyNames(), compactRepository.getPropertyNames());
+        assertEquals(repository.getPropertyGroups(), compactRepository.getPropertyGroups());
+        assertEquals(repository.getProperties().size(), compactRepository.getProperties().size());
+        for (String propertyName : repository.getPropertyNames()) {
+            assertEquals(repository.getProperty(propertyName).getDescription(), compactRepository.getProperty(propertyName).getDescription());
+            assertEquals(repository.getHints(propertyName), compactRepository.getHints(propertyName));
+        }
+        assertEquals(repository.findPropertyNames("spring.", "server"), compactRepository.findPropertyNames("spring.", "server"));
+    }
+
+    @Test
+    void testCompactStorageOnCache(@TempDir File cacheDirectory) throws Exception {
+        ConfigurationMetadataReader reader = new ConfigurationMetadataReader();
+        reader.setCacheDirectory(cacheDirectory);
+        ConfigurationMetadataRepository cachedRepository = new ConfigurationMetadataRepository(reader);
+        cachedRepository.setStorageMode(COMPACT);
+        cachedRepository.run();
+        assertEquals(1, cacheDirectory.listFiles().length);
+
+        assertEquals(repository.getPropertyNames(), cachedRepository.getPropertyNames());
+        assertEquals(repository.getPropertyGroups(), cachedRepository.getPropertyGroups());
+        assertEquals(repository.getProperties().size(), cachedRepository.getProperties().size());
+        for (String propertyName : repository.getPropertyNames()) {
+            ItemMetadata property = repository.getProperty(propertyName);
+            ItemMetadata cachedProperty = cachedRepository.getProperty(propertyName);
+            assertEquals(property.getType(), cachedProperty.getType());
+            assertEquals(property.getDescription(), cachedProperty.getDescription());
+            assertEquals(repository.getHints(propertyName).size(), cachedRepository.getHints(propertyName).size());
+        }
+        assertEquals(repository.findPropertyNames("spring.", "server"), cachedRepository.findPropertyNames("spring.", "server"));
+    }
+
+    @Test
+    void testSetEnvironment() {
+        ConfigurationMetadataRepository repository = newRepository();
+        MockEnvironment environment = new MockEnvironment();
+        repository.setEnvironment(environment);
+        assertEquals(EAGER, repository.getInitializationMode());
+
+        assertEquals(STANDARD, repository.getStorageMode());
+
+        environment.setProperty(INITIALIZATION_MODE_PROPERTY_NAME, "background");
+        environment.setProperty(STORAGE_MODE_PROPERTY_NAME, "compact");
+        repository.setEnvironment(environment);
+        assertEquals(BACKGROUND, repository.getInitializationMode());
+        assertEquals(COMPACT, repository.getStorageMode());
+    }
+
+    private ConfigurationMetadataRepository newFailingOnceRepository() {
+        AtomicInteger reads = new AtomicInteger();
+        ConfigurationMetadataReader reader = new ConfigurationMetadataReader() {
+            @Override
+            public ConfigurationMetadata read() {
+                if (reads.getAndIncrement() == 0) {
+                    throw new IllegalStateException("For testing");
+                }
+                return super.read();
+            }
+        };
+        return new ConfigurationMetadataRepository(reader);
+    }
+
+    private ConfigurationMetadataRepository newRepository() {
+        ConfigurationMetadataReader reader = new ConfigurationMetadataReader();
+        reader.setCacheDirectory(null);
+        return new ConfigurationMetadataRepository(reader);
+    }
 }
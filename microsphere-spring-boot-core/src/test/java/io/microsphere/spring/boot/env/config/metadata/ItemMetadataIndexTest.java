@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.env.config.metadata;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.configurationprocessor.metadata.ItemMetadata;
+
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.collection.Sets.ofSet;
+import static io.microsphere.spring.boot.env.config.metadata.ItemMetadataIndex.EMPTY;
+import static io.microsphere.spring.boot.env.config.metadata.ItemMetadataIndex.tokenize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.boot.configurationprocessor.metadata.ItemMetadata.newProperty;
+
+/**
+ * {@link ItemMetadataIndex} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ItemMetadataIndex
+ * @since 1.0.0
+ */
+class ItemMetadataIndexTest {
+
+    private static final String REDIS_PROPERTIES = "org.springframework.boot.autoconfigure.data.redis.RedisProperties";
+
+    private static final String SERVER_PROPERTIES = "org.springframework.boot.autoconfigure.web.ServerProperties";
+
+    private ItemMetadataIndex index;
+
+    @BeforeEach
+    void setUp() {
+        this.index = new ItemMetadataIndex(ofList(
+                newProperty("spring.data.redis.timeout", null, "java.time.Duration", REDIS_PROPERTIES, null,
+                        "Read timeout.", null, null),
+                newProperty("server.port", null, "java.lang.Integer", SERVER_PROPERTIES, null,
+                        "Server HTTP port.", 8080, null),
+                newProperty("spring.data.redis.host", null, "java.lang.String", REDIS_PROPERTIES, null,
+                        "Redis server host.", "localhost", null),
+                newProperty("server.ssl.enabled", null, "java.lang.Boolean", SERVER_PROPERTIES, null,
+                        "Whether to enable SSL support.", true, null)
+        ));
+    }
+
+    @Test
+    void testFindByPrefix() {
+        assertEquals(ofList("server.port", "server.ssl.enabled", "spring.data.redis.host", "spring.data.redis.timeout"),
+                this.index.find(null, null));
+        assertEquals(ofList("spring.data.redis.host", "spring.data.redis.timeout"), this.index.find("spring.data.", ""));
+        assertEquals(ofList("server.ssl.enabled"), this.index.find("server.s", null));
+        assertTrue(this.index.find("unknown.", null).isEmpty());
+        assertTrue(this.index.find("z", null).isEmpty());
+    }
+
+    @Test
+    void testFindByQuery() {
+        // matched by the names
+        assertEquals(ofList("spring.data.redis.host", "spring.data.redis.timeout"), this.index.find(null, "redis"));
+        // matched by the descriptions
+        assertEquals(ofList("spring.data.redis.timeout"), this.index.find(null, "read"));
+        assertEquals(ofList("server.port", "server.ssl.enabled", "spring.data.redis.host"), this.index.find(null, "server"));
+        // matched by the source types
+        assertEquals(ofList("spring.data.redis.host", "spring.data.redis.timeout"), this.index.find(null, "RedisProperties"));
+        // the tokens match the prefixes of terms
+        assertEquals(ofList("spring.data.redis.timeout"), this.index.find(null, "red TIME"));
+        assertEquals(ofList("server.port", "server.ssl.enabled", "spring.data.redis.host", "spring.data.redis.timeout"),
+                this.index.find(null, "s"));
+        assertTrue(this.index.find(null, "redis port").isEmpty());
+        assertTrue(this.index.find(null, "unknown").isEmpty());
+        assertEquals(4, this.index.find(null, " . ").size());
+    }
+
+    @Test
+    void testFindByPrefixAndQuery() {
+        assertEquals(ofList("spring.data.redis.host"), this.index.find("spring.", "server"));
+        assertTrue(this.index.find("server.", "redis").isEmpty());
+    }
+
+    @Test
+    void testImmutable() {
+        assertThrows(UnsupportedOperationException.class, () -> this.index.find(null, null).clear());
+        assertThrows(UnsupportedOperationException.class, () -> this.index.find(null, "redis").clear());
+    }
+
+    @Test
+    void testEmpty() {
+        assertTrue(EMPTY.find(null, null).isEmpty());
+        assertTrue(EMPTY.find("server.", "port").isEmpty());
+        assertEquals(0, EMPTY.getTermCount());
+    }
+
+    @Test
+    void testTokenize() {
+        assertEquals(ofSet("org", "springframework", "boot", "autoconfigure", "data", "redis", "properties"),
+                tokenize(REDIS_PROPERTIES));
+        assertEquals(ofSet("server", "http", "port", "ssl2", "enabled"), tokenize("Server HTTP port.", null, "ssl2Enabled"));
+        assertTrue(tokenize("", " .-").isEmpty());
+    }
+}
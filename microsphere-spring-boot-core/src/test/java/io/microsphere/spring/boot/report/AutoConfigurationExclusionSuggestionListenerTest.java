@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.report;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionEvaluationReport;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Condition;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.collection.Sets.ofSet;
+import static io.microsphere.spring.boot.report.AutoConfigurationExclusionSuggestion.Reason.NO_MATCH;
+import static io.microsphere.spring.boot.report.AutoConfigurationExclusionSuggestion.UNKNOWN_SAVED_NANOS;
+import static io.microsphere.spring.boot.report.AutoConfigurationExclusionSuggestionListener.ENABLED_PROPERTY_NAME;
+import static io.microsphere.spring.boot.report.AutoConfigurationExclusionSuggestionListener.FILE_PROPERTY_NAME;
+import static io.microsphere.spring.boot.report.AutoConfigurationExclusionSuggestionListener.HISTORY_FILE_SUFFIX;
+import static io.microsphere.spring.boot.report.AutoConfigurationExclusionSuggestionListener.estimateSavedNanos;
+import static io.microsphere.spring.boot.report.AutoConfigurationExclusionSuggestionListener.formatNanos;
+import static io.microsphere.spring.boot.report.AutoConfigurationExclusionSuggestionListener.getAutoConfigurationClasses;
+import static io.microsphere.spring.boot.report.AutoConfigurationExclusionSuggestionListener.loadProperties;
+import static io.microsphere.spring.boot.report.AutoConfigurationExclusionSuggestionListener.resolveReason;
+import static io.microsphere.spring.boot.report.AutoConfigurationExclusionSuggestionListener.updateHistory;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.boot.autoconfigure.condition.ConditionOutcome.match;
+import static org.springframework.boot.autoconfigure.condition.ConditionOutcome.noMatch;
+
+/**
+ * {@link AutoConfigurationExclusionSuggestionListener} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AutoConfigurationExclusionSuggestionListener
+ * @since 1.0.0
+ */
+class AutoConfigurationExclusionSuggestionListenerTest {
+
+    private static final String NO_MATCH_CLASS_NAME = "org.springframework.boot.autoconfigure.jmx.JmxAutoConfiguration";
+
+    private static final Condition CONDITION = (context, metadata) -> true;
+
+    @TempDir
+    Path tempDir;
+
+    private final AutoConfigurationExclusionSuggestionListener listener = new AutoConfigurationExclusionSuggestionListener();
+
+    @Test
+    void testOnApplicationEvent() throws IOException {
+        Path path = this.tempDir.resolve("exclusions.properties");
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            MockEnvironment environment = new MockEnvironment();
+            environment.setProperty(FILE_PROPERTY_NAME, path.toString());
+            context.setEnvironment(environment);
+            context.refresh();
+            ApplicationReadyEvent event = new ApplicationReadyEvent(new SpringApplication(), new String[0], context, null);
+
+            // Disabled by default
+            this.listener.onApplicationEvent(event);
+            assertFalse(Files.exists(path));
+
+            environment.setProperty(ENABLED_PROPERTY_NAME, "true");
+            this.listener.onApplicationEvent(event);
+            assertTrue(Files.exists(path));
+            assertTrue(Files.exists(Path.of(path + HISTORY_FILE_SUFFIX)));
+        }
+    }
+
+    @Test
+    void testSuggest() throws IOException {
+        File file = this.tempDir.resolve("exclusions.properties").toFile();
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.refresh();
+            ConditionEvaluationReport report = ConditionEvaluationReport.get(context.getBeanFactory());
+            report.recordConditionEvaluation(NO_MATCH_CLASS_NAME, CONDITION, noMatch("test"));
+            ClassLoader classLoader = context.getClassLoader();
+            // The entry of the obsolete reason
+            File historyFile = new File(file.getPath() + HISTORY_FILE_SUFFIX);
+            Files.writeString(historyFile.toPath(), "com.example.LegacyAutoConfiguration=UNREFERENCED\\:5\n", UTF_8);
+
+            assertTrue(this.listener.suggest(context.getBeanFactory(), classLoader, file, 2).isEmpty());
+            assertNull(loadProperties(historyFile).getProperty("com.example.LegacyAutoConfiguration"));
+
+            List<AutoConfigurationExclusionSuggestion> suggestions = this.listener.suggest(context.getBeanFactory(), classLoader, file, 2);
+            assertEquals(1, suggestions.size());
+            AutoConfigurationExclusionSuggestion suggestion = suggestions.get(0);
+            assertEquals(NO_MATCH_CLASS_NAME, suggestion.getClassName());
+            assertEquals(NO_MATCH, suggestion.getReason());
+            assertEquals(2, suggestion.getRuns());
+            assertEquals(UNKNOWN_SAVED_NANOS, suggestion.getEstimatedSavedNanos());
+
+            assertTrue(Files.readString(file.toPath(), UTF_8).contains("NO_MATCH in 2 runs"));
+            Properties properties = loadProperties(file);
+            assertEquals(NO_MATCH_CLASS_NAME, properties.getProperty("microsphere.autoconfigure.exclude"));
+        }
+    }
+
+    @Test
+    void testUpdateHistory() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            ConditionEvaluationReport report = ConditionEvaluationReport.get(context.getBeanFactory());
+            report.recordConditionEvaluation("com.example.NoMatchAutoConfiguration", CONDITION, noMatch("test"));
+            report.recordConditionEvaluation("com.example.MatchAutoConfiguration", CONDITION, match("test"));
+            report.recordConditionEvaluation("com.example.UserConfiguration", CONDITION, noMatch("test"));
+            report.recordEvaluationCandidates(ofList("com.example.UnconditionalAutoConfiguration"));
+
+            Set<String> autoConfigurationClasses = ofSet("com.example.NoMatchAutoConfiguration", "com.example.MatchAutoConfiguration",
+                    "com.example.ExcludedAutoConfiguration", "com.example.UnconditionalAutoConfiguration");
+
+            Properties history = new Properties();
+            history.setProperty("com.example.MatchAutoConfiguration", "NO_MATCH:5");
+            history.setProperty("com.example.ExcludedAutoConfiguration", "NO_MATCH:5");
+            history.setProperty("com.example.UnconditionalAutoConfiguration", "NO_MATCH:5");
+
+            updateHistory(history, report, autoConfigurationClasses);
+            updateHistory(history, report, autoConfigurationClasses);
+
+            assertEquals("NO_MATCH:2", history.getProperty("com.example.NoMatchAutoConfiguration"));
+            assertNull(history.getProperty("com.example.MatchAutoConfiguration"));
+            assertNull(history.getProperty("com.example.UserConfiguration"));
+            // Not evaluated
+            assertEquals("NO_MATCH:5", history.getProperty("com.example.ExcludedAutoConfiguration"));
+            assertNull(history.getProperty("com.example.UnconditionalAutoConfiguration"));
+        }
+    }
+
+    @Test
+    void testResolveReason() {
+        assertEquals(NO_MATCH, resolveReason("NO_MATCH"));
+        assertNull(resolveReason("UNREFERENCED"));
+    }
+
+    @Test
+    void testGetAutoConfigurationClasses() {
+        assertTrue(getAutoConfigurationClasses(getClass().getClassLoader()).contains(NO_MATCH_CLASS_NAME));
+    }
+
+    @Test
+    void testEstimateSavedNanos() {
+        assertEquals(UNKNOWN_SAVED_NANOS, estimateSavedNanos(null, NO_MATCH_CLASS_NAME));
+    }
+
+    @Test
+    void testFormatNanos() {
+        assertEquals("unknown", formatNanos(UNKNOWN_SAVED_NANOS));
+        assertEquals("1.500 ms", formatNanos(1_500_000L));
+    }
+
+    @Test
+    void testLoadProperties() {
+        assertTrue(loadProperties(this.tempDir.resolve("not-found").toFile()).isEmpty());
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.spring.boot.report;
+
+import org.junit.jupiter.api.Test;
+
+import static io.microsphere.spring.boot.report.AutoConfigurationExclusionSuggestion.Reason.NO_MATCH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link AutoConfigurationExclusionSuggestion} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AutoConfigurationExclusionSuggestion
+ * @since 1.0.0
+ */
+class AutoConfigurationExclusionSuggestionTest {
+
+    @Test
+    void test() {
+        AutoConfigurationExclusionSuggestion suggestion = new AutoConfigurationExclusionSuggestion("com.example.FooAutoConfiguration", NO_MATCH, 3, 100L);
+        assertEquals("com.example.FooAutoConfiguration", suggestion.getClassName());
+        assertEquals(NO_MATCH, suggestion.getReason());
+        assertEquals(3, suggestion.getRuns());
+        assertEquals(100L, suggestion.getEstimatedSavedNanos());
+        assertTrue(suggestion.toString().contains("runs=3"));
+    }
+}